@@ -0,0 +1,61 @@
+package com.circuitos.analisiscircuitos.benchmark;
+
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de {@code benchmarks.jar}. Acepta las mismas opciones que
+ * {@code org.openjdk.jmh.Main}, pero si no se indica formato ni archivo de resultados los
+ * escribe en JSON en {@value #RESULTADO_POR_DEFECTO} para poder comparar versiones.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class BenchmarkLauncher {
+	private static final String RESULTADO_POR_DEFECTO="jmh-result.json";
+
+	private BenchmarkLauncher() { /* NO INSTANCIABLE */ }
+
+	/**
+	 * Ejecuta los benchmarks.
+	 *
+	 * @param args			Opciones de JMH (p. ej. {@code SolverBenchmark -p nodos=100})
+	 * @throws Exception	si las opciones no son válidas o falla la ejecución
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions opciones=new CommandLineOptions(args);
+		if(opciones.shouldHelp()) {
+			opciones.showHelp();
+			return;
+		}
+		ChainedOptionsBuilder builder=new OptionsBuilder().parent(opciones);
+		if(!opciones.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+		}
+		if(!opciones.getResult().hasValue()) {
+			builder.result(RESULTADO_POR_DEFECTO);
+		}
+		Runner runner=new Runner(builder.build());
+		if(opciones.shouldList()) {
+			runner.list();
+			return;
+		}
+		runner.run();
+	}
+	
+	/**
+	 * Silencia los logs del dominio: cada {@code addComponente} registra a nivel INFO y
+	 * dominaría la preparación y las medidas. Lo llama el {@code @Setup} de cada benchmark.
+	 */
+	static void silenciarLogs() {
+		LogManager.getLogManager().reset();
+		Logger.getLogger("").setLevel(Level.OFF);
+	}
+}
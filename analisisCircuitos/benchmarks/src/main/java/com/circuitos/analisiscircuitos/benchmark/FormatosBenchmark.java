@@ -0,0 +1,87 @@
+package com.circuitos.analisiscircuitos.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.generador.GeneradorCircuitos;
+import com.circuitos.analisiscircuitos.io.CircuitoBinario;
+import com.circuitos.analisiscircuitos.io.CircuitoJson;
+import com.circuitos.analisiscircuitos.io.EscritorSpice;
+import com.circuitos.analisiscircuitos.io.LectorSpice;
+
+/**
+ * Compara la lectura del mismo circuito de {@link GeneradorCircuitos} en los demás formatos: el
+ * binario de {@link CircuitoBinario} y la netlist SPICE ({@link LectorSpice}), con la lectura en
+ * streaming del JSON compacto como referencia. También mide la escritura en streaming del propio
+ * generador, sin construir el circuito.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class FormatosBenchmark {
+	@Param({"10", "100", "1000", "10000", "100000"})
+	private int nodos;
+	@Param({"ESCALERA_R2R", "ALEATORIO"})
+	private GeneradorCircuitos.Topologia topologia;
+
+	private GeneradorCircuitos generador;
+	private byte[] json;
+	private byte[] binario;
+	private String netlist;
+
+	@Setup
+	public void preparar() throws IOException {
+		BenchmarkLauncher.silenciarLogs();
+		generador=new GeneradorCircuitos(topologia, nodos, true, 42L);
+		CircuitoFileDto fichero=generador.generarArchivo();
+		json=CircuitoJson.escritor(true).writeValueAsBytes(fichero);
+		binario=CircuitoBinario.aBytes(fichero.circuito(), fichero.posiciones(), fichero.cables());
+		StringWriter cir=new StringWriter();
+		EscritorSpice.escribir(cir, fichero.circuito(), "benchmark");
+		netlist=cir.toString();
+	}
+
+	@Benchmark
+	public CircuitoFileDto leerJson() throws IOException {
+		return CircuitoJson.leer(new ByteArrayInputStream(json));
+	}
+
+	@Benchmark
+	public CircuitoFileDto leerBinario() throws IOException {
+		return CircuitoBinario.desde(binario).aArchivo();
+	}
+
+	@Benchmark
+	public Circuito leerSpice() throws IOException {
+		return new LectorSpice().leer(new StringReader(netlist));
+	}
+
+	@Benchmark
+	public long generarEnStreaming() throws IOException {
+		return generador.escribirArchivo(OutputStream.nullOutputStream(), true);
+	}
+}
@@ -0,0 +1,73 @@
+package com.circuitos.analisiscircuitos.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.util.GraphUtil;
+import com.circuitos.analisiscircuitos.dominio.util.RejillaResistiva;
+import com.circuitos.analisiscircuitos.generador.GeneradorCircuitos;
+
+/**
+ * Mide los recorridos de {@link GraphUtil}: BFS de nodos conexos, poda de nodos colgantes y
+ * detección de rejillas. El BFS y la poda recorren todos los componentes por cada nodo
+ * visitado, así que el tamaño por defecto llega a 10⁴ nodos.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class GrafoBenchmark {
+	@Param({"10", "100", "1000", "10000"})
+	private int nodos;
+	@Param({"ESCALERA_R2R", "REJILLA", "ALEATORIO", "PUENTES"})
+	private GeneradorCircuitos.Topologia topologia;
+
+	private List<Componente> componentes;
+	private int nodoA;
+
+	@Setup
+	public void preparar() {
+		BenchmarkLauncher.silenciarLogs();
+		GeneradorCircuitos generador=new GeneradorCircuitos(topologia, nodos, 42L);
+		componentes=List.copyOf(generador.generarCircuito().getComponentes());
+		nodoA=generador.getTerminalA();
+	}
+
+	@Benchmark
+	public Set<Integer> nodosConexos() {
+		return GraphUtil.nodosConexos(componentes, 0);
+	}
+
+	@Benchmark
+	public List<Componente> eliminarNodosColgantes() {
+		List<Componente> copia=new ArrayList<>(componentes);
+		GraphUtil.eliminarNodosColgantes(copia, nodoA, 0);
+		return copia;
+	}
+
+	@Benchmark
+	public Optional<RejillaResistiva> detectarRejilla() {
+		return GraphUtil.detectarRejilla(componentes);
+	}
+}
@@ -0,0 +1,79 @@
+package com.circuitos.analisiscircuitos.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.generador.GeneradorCircuitos;
+import com.circuitos.analisiscircuitos.io.CircuitoJson;
+
+/**
+ * Mide la serialización y deserialización JSON de archivos de circuito completos
+ * ({@link CircuitoFileDto} con posiciones y cables) sobre archivos de {@link GeneradorCircuitos}.
+ * Compara el databind de todo el DTO con la lectura y escritura en streaming de
+ * {@link CircuitoJson}, con y sin sangría. Los demás formatos y el generador se miden en
+ * {@link FormatosBenchmark}, que no depende de la sangría.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class JsonBenchmark {
+	@Param({"10", "100", "1000", "10000", "100000"})
+	private int nodos;
+	@Param({"ESCALERA_R2R", "ALEATORIO"})
+	private GeneradorCircuitos.Topologia topologia;
+
+	@Param({"false", "true"})
+	private boolean compacto;
+
+	private CircuitoFileDto fichero;
+	private byte[] json;
+
+	@Setup
+	public void preparar() throws IOException {
+		BenchmarkLauncher.silenciarLogs();
+		fichero=new GeneradorCircuitos(topologia, nodos, true, 42L).generarArchivo();
+		json=CircuitoJson.escritor(compacto).writeValueAsBytes(fichero);
+	}
+
+	@Benchmark
+	public byte[] serializar() throws IOException {
+		return CircuitoJson.escritor(compacto).writeValueAsBytes(fichero);
+	}
+
+	@Benchmark
+	public CircuitoFileDto deserializar() throws IOException {
+		return CircuitoJson.lector().readValue(json);
+	}
+
+	@Benchmark
+	public void escribirStreaming() throws IOException {
+		CircuitoJson.escribir(OutputStream.nullOutputStream(), fichero.circuito(),
+				fichero.posiciones(), fichero.cables(), compacto);
+	}
+
+	@Benchmark
+	public CircuitoFileDto leerStreaming() throws IOException {
+		return CircuitoJson.leer(new ByteArrayInputStream(json));
+	}
+}
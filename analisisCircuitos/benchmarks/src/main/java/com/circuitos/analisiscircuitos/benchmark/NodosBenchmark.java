@@ -0,0 +1,57 @@
+package com.circuitos.analisiscircuitos.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.util.NodeMapUtil;
+import com.circuitos.analisiscircuitos.generador.GeneradorCircuitos;
+
+/**
+ * Mide la reconstrucción del mapa de nodos ({@link NodeMapUtil#actualizarMapaNodos}), que se
+ * repite antes de cada análisis.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class NodosBenchmark {
+	@Param({"10", "100", "1000", "10000", "100000"})
+	private int nodos;
+	@Param({"ESCALERA_R2R", "ALEATORIO"})
+	private GeneradorCircuitos.Topologia topologia;
+
+	private List<Componente> componentes;
+	private final Map<Integer, Integer> mapa=new HashMap<>();
+
+	@Setup
+	public void preparar() {
+		BenchmarkLauncher.silenciarLogs();
+		componentes=List.copyOf(new GeneradorCircuitos(topologia, nodos, 42L).generarCircuito().getComponentes());
+	}
+
+	@Benchmark
+	public Map<Integer, Integer> actualizarMapaNodos() {
+		NodeMapUtil.actualizarMapaNodos(mapa, componentes);
+		return mapa;
+	}
+}
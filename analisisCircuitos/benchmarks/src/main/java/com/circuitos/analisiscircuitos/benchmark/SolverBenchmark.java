@@ -0,0 +1,65 @@
+package com.circuitos.analisiscircuitos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.ParametrosThevenin;
+import com.circuitos.analisiscircuitos.dominio.Thevenin;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.generador.GeneradorCircuitos;
+
+/**
+ * Mide el análisis nodal ({@link MatrixUtil#resolverCircuitoNodal}) y el cálculo de Vth/Rth
+ * ({@link Thevenin#calcularParametros}). El sistema MNA es denso, así que el tamaño se limita
+ * a 10³ nodos por defecto; se puede ampliar con {@code -p nodos=...}.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class SolverBenchmark {
+	@Param({"10", "100", "1000"})
+	private int nodos;
+	@Param({"ESCALERA_R2R", "REJILLA", "ALEATORIO", "PUENTES", "ETAPAS_DEPENDIENTES"})
+	private GeneradorCircuitos.Topologia topologia;
+	@Param({"false", "true"})
+	private boolean dependientes;
+
+	private Circuito circuito;
+	private int nodoA;
+
+	@Setup
+	public void preparar() {
+		BenchmarkLauncher.silenciarLogs();
+		GeneradorCircuitos generador=new GeneradorCircuitos(topologia, nodos, dependientes, 42L);
+		circuito=generador.generarCircuito();
+		nodoA=generador.getTerminalA();
+	}
+
+	@Benchmark
+	public double[] resolverCircuitoNodal() {
+		return MatrixUtil.resolverCircuitoNodal(circuito);
+	}
+
+	@Benchmark
+	public ParametrosThevenin theveninParametros() {
+		return new Thevenin(circuito, nodoA, 0).calcularParametros();
+	}
+}
@@ -0,0 +1,216 @@
+package com.circuitos.analisiscircuitos.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.circuitos.analisiscircuitos.analisis.Analizador;
+import com.circuitos.analisiscircuitos.analisis.ResultadoPuntoOperacion;
+import com.circuitos.analisiscircuitos.analisis.ResultadoThevenin;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.io.CircuitoBinario;
+import com.circuitos.analisiscircuitos.io.CircuitoDeserializerService;
+import com.circuitos.analisiscircuitos.io.ExtractorRedes;
+import com.circuitos.analisiscircuitos.io.LectorSpice;
+
+/**
+ * Análisis por lotes de archivos de circuito sin interfaz gráfica.
+ * <p>
+ * Carga cada archivo con {@link CircuitoDeserializerService} (o {@link CircuitoBinario} si es
+ * {@code .thvb} y {@link LectorSpice} si es una netlist SPICE), calcula Thévenin, Norton y
+ * (opcionalmente) el punto de operación entre los terminales indicados o los de las cargas, y
+ * escribe una fila de resultados por archivo en CSV o JSON lines. Los archivos se analizan en
+ * hilos virtuales, con un máximo de {@code --paralelismo} a la vez para acotar la memoria. Por la
+ * salida de error se muestra el tiempo de cada archivo y, al final, el rendimiento total.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class AnalisisLotes {
+	private final OpcionesLotes opciones;
+	private final CircuitoDeserializerService deserializador=new CircuitoDeserializerService();
+	private final Analizador analizador=new Analizador();
+	private final PrintStream progreso=System.err;
+
+	private AnalisisLotes(OpcionesLotes opciones) {
+		this.opciones=opciones;
+	}
+
+	/**
+	 * Punto de entrada. Termina con código 0 si todos los archivos se analizan, 1 si alguno
+	 * falla y 2 si los argumentos no son válidos.
+	 *
+	 * @param args				Opciones y archivos o directorios (ver {@link OpcionesLotes#USO})
+	 * @throws Exception		si no se pueden leer las entradas o escribir los resultados
+	 */
+	public static void main(String[] args) throws Exception {
+		OpcionesLotes opciones;
+		try {
+			opciones=OpcionesLotes.parsear(args);
+		} catch(IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.print(OpcionesLotes.USO);
+			System.exit(2);
+			return;
+		}
+		if(opciones.isAyuda()) {
+			System.out.print(OpcionesLotes.USO);
+			return;
+		}
+		if(!opciones.isVerbose()) {
+			Logger.getLogger("").setLevel(Level.WARNING);
+		}
+		int errores=new AnalisisLotes(opciones).ejecutar();
+		System.exit(errores==0 ? 0 : 1);
+	}
+
+	/**
+	 * Analiza todos los archivos.
+	 *
+	 * @return número de archivos con error
+	 */
+	private int ejecutar() throws IOException, InterruptedException {
+		List<Path> archivos=listarArchivos(opciones.getEntradas());
+		AtomicInteger errores=new AtomicInteger();
+		Semaphore permisos=new Semaphore(opciones.getParalelismo());
+		long inicio=System.nanoTime();
+		try(EscritorResultados escritor=new EscritorResultados(opciones.getFormato(), opciones.getSalida());
+				ExecutorService hilos=Executors.newVirtualThreadPerTaskExecutor()) {
+			for(Path archivo : archivos) {
+				permisos.acquire();
+				hilos.submit(() -> {
+					try {
+						ResultadoArchivo r=analizar(archivo);
+						escritor.escribir(r);
+						if(!r.correcto()) errores.incrementAndGet();
+						progreso.println(String.format(Locale.ROOT, "%9.1f ms  %s%s", r.milisegundos(), archivo,
+								r.correcto() ? "" : "  ERROR: "+r.error()));
+					} catch(IOException | RuntimeException e) {
+						// Sin esto el fallo se queda en el Future y el archivo no cuenta como error
+						errores.incrementAndGet();
+						progreso.println("No se pudo escribir el resultado de "+archivo+": "+e);
+					} finally {
+						permisos.release();
+					}
+				});
+			}
+		}
+		double segundos=(System.nanoTime()-inicio)/1e9;
+		progreso.println(String.format(Locale.ROOT,
+				"%d archivos (%d con error) en %.2f s: %.1f archivos/s con paralelismo %d",
+				archivos.size(), errores.get(), segundos, archivos.size()/Math.max(segundos, 1e-9),
+				opciones.getParalelismo()));
+		return errores.get();
+	}
+
+	/**
+	 * Carga y analiza un archivo. Nunca lanza: los fallos (también la falta de memoria) quedan
+	 * en el resultado junto con lo que se llegó a calcular.
+	 */
+	private ResultadoArchivo analizar(Path archivo) {
+		long t0=System.nanoTime();
+		Integer componentes=null;
+		Integer nodoA=null;
+		Integer nodoB=null;
+		Double vth=null;
+		Double rth=null;
+		Double in=null;
+		Double errorKcl=null;
+		Double balance=null;
+		String error=null;
+		try {
+			// El binario y la netlist se analizan sin cargar ni generar posiciones y cables
+			Circuito c;
+			if(LectorSpice.esSpice(archivo)) {
+				c=new LectorSpice().leer(archivo);
+			} else if(opciones.isRedes()) {
+				// Los nodos guardados se rehacen con la geometría de los cables, como en el editor
+				CircuitoFileDto dto=deserializador.cargarCircuitoArchivo(archivo.toFile());
+				c=dto.circuito();
+				ExtractorRedes.extraer(c.getComponentes(), dto.cables()).aplicar(c);
+			} else if(CircuitoBinario.esBinario(archivo)) {
+				c=CircuitoBinario.abrir(archivo).aCircuito();
+			} else {
+				c=deserializador.cargarCircuitoArchivo(archivo.toFile()).circuito();
+			}
+			componentes=c.getComponentes().size();
+			int[] ab=opciones.getTerminales()!=null ? opciones.getTerminales() : terminalesCarga(c);
+			nodoA=ab[0];
+			nodoB=ab[1];
+			ResultadoThevenin th=analizador.calculaThevenin(c, nodoA, nodoB);
+			vth=th.getVth();
+			rth=th.getRth();
+			// Mismo criterio que Analizador.calculaNorton, sin volver a resolver el circuito
+			in=rth==0.0 ? Double.POSITIVE_INFINITY : vth/rth;
+			if(opciones.isPuntoOperacion()) {
+				ResultadoPuntoOperacion po=analizador.calculaPuntoOperacion(c);
+				errorKcl=po.getErrorKcl();
+				balance=po.getBalancePotencia();
+			}
+		} catch(IOException | RuntimeException | OutOfMemoryError | StackOverflowError e) {
+			// Un circuito demasiado grande para el solver no debe perder su fila ni parar el lote
+			error=e.getMessage()!=null ? e.getMessage() : e.getClass().getSimpleName();
+		}
+		double ms=(System.nanoTime()-t0)/1e6;
+		return new ResultadoArchivo(archivo.toString(), componentes, nodoA, nodoB, vth, rth, in,
+				errorKcl, balance, ms, error);
+	}
+
+	/**
+	 * Terminales a partir de las cargas, como en los ejercicios: el menor y el mayor de los
+	 * nodos conectados a componentes de carga.
+	 *
+	 * @throws IllegalStateException si no hay cargas o están en cortocircuito
+	 */
+	private static int[] terminalesCarga(Circuito c) {
+		IntSummaryStatistics stats=c.getComponentes().stream()
+				.filter(Componente::isCarga)
+				.flatMapToInt(comp -> IntStream.of(comp.getNodo1(), comp.getNodo2()))
+				.filter(nodo -> nodo>=0)
+				.summaryStatistics();
+		if(stats.getCount()==0) {
+			throw new IllegalStateException("No hay componentes de carga: indica los terminales con -t A,B");
+		}
+		if(stats.getMin()==stats.getMax()) {
+			throw new IllegalStateException("La carga está en cortocircuito (nodo "+stats.getMin()+")");
+		}
+		return new int[] {stats.getMin(), stats.getMax()};
+	}
+
+	/**
+	 * Expande los directorios a sus archivos .json, .thvb y SPICE (recursivamente y en orden).
+	 */
+	private static List<Path> listarArchivos(List<Path> entradas) throws IOException {
+		List<Path> archivos=new ArrayList<>();
+		for(Path entrada : entradas) {
+			if(Files.isDirectory(entrada)) {
+				try(Stream<Path> arbol=Files.walk(entrada)) {
+					arbol.filter(Files::isRegularFile)
+						.filter(p -> p.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")
+								|| CircuitoBinario.esBinario(p) || LectorSpice.esSpice(p))
+						.sorted()
+						.forEach(archivos::add);
+				}
+			} else {
+				archivos.add(entrada);
+			}
+		}
+		return archivos;
+	}
+}
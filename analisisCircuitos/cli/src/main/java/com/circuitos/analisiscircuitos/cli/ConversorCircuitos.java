@@ -0,0 +1,94 @@
+package com.circuitos.analisiscircuitos.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.io.CircuitoBinario;
+import com.circuitos.analisiscircuitos.io.CircuitoDeserializerService;
+import com.circuitos.analisiscircuitos.io.CircuitoJson;
+import com.circuitos.analisiscircuitos.io.EscritorSpice;
+import com.circuitos.analisiscircuitos.io.EscrituraAtomica;
+import com.circuitos.analisiscircuitos.io.LectorSpice;
+
+/**
+ * Convierte archivos de circuito entre JSON, el formato binario {@code .thvb} y netlists SPICE.
+ * Los formatos se deducen de las extensiones de entrada y salida. Las netlists no guardan
+ * posiciones ni cables: al convertirlas a JSON o binario los componentes se colocan en cuadrícula.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class ConversorCircuitos {
+	static final String USO="""
+			Uso: java -cp analisis-lotes.jar com.circuitos.analisiscircuitos.cli.ConversorCircuitos [--compacto] <entrada> <salida>
+			  <entrada>.json  -> <salida>.thvb
+			  <entrada>.thvb  -> <salida>.json
+			      --compacto             Escribe el JSON sin sangría
+			""";
+
+	private ConversorCircuitos() { /* Solo main */ }
+
+	/**
+	 * Punto de entrada. Termina con código 0 si la conversión va bien, 1 si falla y 2 si los
+	 * argumentos no son válidos.
+	 *
+	 * @param args				{@code [--compacto] entrada salida}
+	 */
+	public static void main(String[] args) {
+		Logger.getLogger("").setLevel(Level.WARNING);
+		boolean compacto=args.length==3 && "--compacto".equals(args[0]);
+		if(args.length!=2 && !compacto) {
+			System.err.print(USO);
+			System.exit(2);
+		}
+		Path entrada=Path.of(args[args.length-2]);
+		Path salida=Path.of(args[args.length-1]);
+		try {
+			long t0=System.nanoTime();
+			convertir(entrada, salida, compacto);
+			System.err.printf("%s -> %s: %d -> %d bytes en %.1f ms%n", entrada, salida,
+					Files.size(entrada), Files.size(salida), (System.nanoTime()-t0)/1e6);
+		} catch(IOException | RuntimeException e) {
+			System.err.println("Error convirtiendo "+entrada+": "+e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Convierte un archivo según las extensiones de entrada y salida. Entre JSON y binario se usa
+	 * la conversión directa de {@link CircuitoBinario}, que no repara los cables.
+	 *
+	 * @param entrada			Archivo de origen
+	 * @param salida			Archivo de destino (se sobrescribe)
+	 * @param compacto			{@code true} para escribir el JSON sin sangría
+	 * @throws IOException		si falla la lectura o la escritura
+	 */
+	static void convertir(Path entrada, Path salida, boolean compacto) throws IOException {
+		boolean binarioEntrada=CircuitoBinario.esBinario(entrada);
+		boolean spiceEntrada=LectorSpice.esSpice(entrada);
+		boolean binarioSalida=CircuitoBinario.esBinario(salida);
+		if(LectorSpice.esSpice(salida)) {
+			Circuito c=spiceEntrada ? new LectorSpice().leer(entrada)
+					: new CircuitoDeserializerService().cargarCircuitoArchivo(entrada.toFile()).circuito();
+			EscritorSpice.escribir(salida, c);
+		} else if(binarioEntrada && !binarioSalida) {
+			CircuitoBinario.convertirAJson(entrada, salida, compacto);
+		} else if(!binarioEntrada && !spiceEntrada && binarioSalida) {
+			CircuitoBinario.convertirDesdeJson(entrada, salida);
+		} else {
+			CircuitoFileDto dto=new CircuitoDeserializerService().cargarCircuitoArchivo(entrada.toFile());
+			if(binarioSalida) {
+				CircuitoBinario.escribir(salida, dto.circuito(), dto.posiciones(), dto.cables());
+			} else {
+				EscrituraAtomica.escribir(salida,
+						out -> CircuitoJson.escribir(out, dto.circuito().getComponentes(), dto.posiciones(),
+								dto.cables(), dto.resultados(), compacto));
+			}
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package com.circuitos.analisiscircuitos.cli;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+/**
+ * Escribe los resultados de {@link AnalisisLotes} en CSV o en JSON lines (un objeto por línea)
+ * según van llegando, sin acumularlos. En la salida estándar cada fila se vuelca en cuanto se
+ * escribe, así que lo que ya ha salido no se pierde si el proceso muere. Es seguro entre hilos.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+final class EscritorResultados implements Closeable {
+	private static final String CABECERA="archivo,componentes,nodoA,nodoB,vth,rth,in,errorKcl,balancePotencia,ms,error";
+
+	private final OpcionesLotes.Formato formato;
+	private final Writer salida;
+	private final boolean cerrarSalida;
+	private final JsonGenerator json;
+
+	/**
+	 * Constructor. Con CSV escribe ya la cabecera.
+	 *
+	 * @param formato			Formato de los resultados
+	 * @param destino			Fichero de destino o null para la salida estándar
+	 * @throws IOException si no se puede abrir el destino
+	 */
+	EscritorResultados(OpcionesLotes.Formato formato, Path destino) throws IOException {
+		this.formato=formato;
+		this.cerrarSalida=destino!=null;
+		this.salida=destino!=null
+				? Files.newBufferedWriter(destino, StandardCharsets.UTF_8)
+				: new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+		if(formato==OpcionesLotes.Formato.JSONL) {
+			json=new JsonFactory().createGenerator(salida);
+			json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			json.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+			json.setPrettyPrinter(new MinimalPrettyPrinter(""));
+		} else {
+			json=null;
+			salida.write(CABECERA);
+			salida.write('\n');
+		}
+	}
+
+	/**
+	 * Escribe el resultado de un archivo, con su salto de línea. En la salida estándar se vuelca
+	 * en el momento.
+	 *
+	 * @param r					Resultado
+	 * @throws IOException si falla la escritura
+	 */
+	synchronized void escribir(ResultadoArchivo r) throws IOException {
+		if(json!=null) {
+			escribirJson(r);
+		} else {
+			escribirCsv(r);
+		}
+		if(!cerrarSalida) salida.flush();
+	}
+
+	private void escribirJson(ResultadoArchivo r) throws IOException {
+		json.writeStartObject();
+		json.writeStringField("archivo", r.archivo());
+		numero("componentes", r.componentes());
+		numero("nodoA", r.nodoA());
+		numero("nodoB", r.nodoB());
+		numero("vth", r.vth());
+		numero("rth", r.rth());
+		numero("in", r.in());
+		numero("errorKcl", r.errorKcl());
+		numero("balancePotencia", r.balancePotencia());
+		json.writeNumberField("ms", r.milisegundos());
+		json.writeStringField("error", r.error());
+		json.writeEndObject();
+		json.flush();
+		salida.write('\n');
+	}
+
+	private void numero(String campo, Number valor) throws IOException {
+		if(valor==null) {
+			json.writeNullField(campo);
+		} else if(valor instanceof Integer i) {
+			json.writeNumberField(campo, i);
+		} else {
+			json.writeNumberField(campo, valor.doubleValue());
+		}
+	}
+
+	private void escribirCsv(ResultadoArchivo r) throws IOException {
+		StringBuilder sb=new StringBuilder(128);
+		sb.append(csv(r.archivo())).append(',')
+			.append(texto(r.componentes())).append(',')
+			.append(texto(r.nodoA())).append(',')
+			.append(texto(r.nodoB())).append(',')
+			.append(texto(r.vth())).append(',')
+			.append(texto(r.rth())).append(',')
+			.append(texto(r.in())).append(',')
+			.append(texto(r.errorKcl())).append(',')
+			.append(texto(r.balancePotencia())).append(',')
+			.append(r.milisegundos()).append(',')
+			.append(r.error()==null ? "" : csv(r.error()))
+			.append('\n');
+		salida.write(sb.toString());
+	}
+
+	private static String texto(Number valor) {
+		return valor==null ? "" : valor.toString();
+	}
+
+	/**
+	 * Entrecomilla un campo CSV si contiene separadores, comillas o saltos de línea.
+	 */
+	private static String csv(String valor) {
+		if(valor.indexOf(',')<0 && valor.indexOf('"')<0 && valor.indexOf('\n')<0 && valor.indexOf('\r')<0) {
+			return valor;
+		}
+		return '"'+valor.replace("\"", "\"\"")+'"';
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if(json!=null) json.close();
+		if(cerrarSalida) {
+			salida.close();
+		} else {
+			salida.flush();
+		}
+	}
+}
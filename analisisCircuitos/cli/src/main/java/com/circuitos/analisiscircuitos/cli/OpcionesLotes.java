@@ -0,0 +1,166 @@
+package com.circuitos.analisiscircuitos.cli;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Opciones de línea de comandos de {@link AnalisisLotes}.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+final class OpcionesLotes {
+	static final String USO="""
+			Uso: java -jar analisis-lotes.jar [opciones] <archivo.json|archivo.thvb|archivo.cir|directorio>...
+			  -t, --terminales A,B       Terminales de Thévenin/Norton (por defecto, los de las cargas)
+			  -o, --salida FICHERO       Fichero de resultados .csv o .jsonl (por defecto, CSV por la salida estándar)
+			  -f, --formato csv|jsonl    Formato de resultados (por defecto, según la extensión de la salida)
+			  -p, --paralelismo N        Archivos que se analizan a la vez (por defecto, uno por procesador)
+			      --sin-punto-operacion  No calcula el punto de operación
+			      --redes                Recalcula los nodos a partir de los cables (.json y .thvb)
+			  -v, --verbose              Muestra los logs del análisis
+			  -h, --ayuda                Muestra esta ayuda
+			""";
+
+	/**
+	 * Formatos de resultados.
+	 */
+	enum Formato { CSV, JSONL }
+
+	private final List<Path> entradas=new ArrayList<>();
+	private int[] terminales;
+	private Path salida;
+	private Formato formato;
+	private int paralelismo=Runtime.getRuntime().availableProcessors();
+	private boolean puntoOperacion=true;
+	private boolean redes;
+	private boolean verbose;
+	private boolean ayuda;
+
+	private OpcionesLotes() { /* Se crea con parsear */ }
+
+	/**
+	 * Interpreta los argumentos del programa.
+	 *
+	 * @param args				Argumentos de línea de comandos
+	 * @return opciones leídas
+	 * @throws IllegalArgumentException si alguna opción no es válida o no hay archivos
+	 */
+	static OpcionesLotes parsear(String[] args) {
+		OpcionesLotes op=new OpcionesLotes();
+		for(int i=0; i<args.length; i++) {
+			String arg=args[i];
+			switch(arg) {
+				case "-t", "--terminales" -> op.terminales=terminales(valor(args, ++i, arg));
+				case "-o", "--salida" -> op.salida=Path.of(valor(args, ++i, arg));
+				case "-f", "--formato" -> op.formato=formato(valor(args, ++i, arg));
+				case "-p", "--paralelismo" -> op.paralelismo=paralelismo(valor(args, ++i, arg));
+				case "--sin-punto-operacion" -> op.puntoOperacion=false;
+				case "--redes" -> op.redes=true;
+				case "-v", "--verbose" -> op.verbose=true;
+				case "-h", "--ayuda" -> op.ayuda=true;
+				default -> {
+					if(arg.startsWith("-")) {
+						throw new IllegalArgumentException("Opción desconocida: "+arg);
+					}
+					op.entradas.add(Path.of(arg));
+				}
+			}
+		}
+		if(op.formato==null) {
+			boolean jsonl=op.salida!=null && op.salida.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".jsonl");
+			op.formato=jsonl ? Formato.JSONL : Formato.CSV;
+		}
+		if(op.entradas.isEmpty() && !op.ayuda) {
+			throw new IllegalArgumentException("Indica al menos un archivo o directorio");
+		}
+		return op;
+	}
+
+	private static String valor(String[] args, int i, String opcion) {
+		if(i>=args.length) {
+			throw new IllegalArgumentException("Falta el valor de "+opcion);
+		}
+		return args[i];
+	}
+
+	private static int[] terminales(String valor) {
+		String[] partes=valor.split(",");
+		try {
+			if(partes.length==2) {
+				int a=Integer.parseInt(partes[0].trim());
+				int b=Integer.parseInt(partes[1].trim());
+				if(a!=b) return new int[] {a, b};
+			}
+		} catch(NumberFormatException e) {
+			// Se informa abajo
+		}
+		throw new IllegalArgumentException("Terminales inválidos (se espera A,B con A≠B): "+valor);
+	}
+
+	private static Formato formato(String valor) {
+		try {
+			return Formato.valueOf(valor.toUpperCase(Locale.ROOT));
+		} catch(IllegalArgumentException e) {
+			throw new IllegalArgumentException("Formato desconocido (csv o jsonl): "+valor);
+		}
+	}
+
+	private static int paralelismo(String valor) {
+		try {
+			int n=Integer.parseInt(valor);
+			if(n>0) return n;
+		} catch(NumberFormatException e) {
+			// Se informa abajo
+		}
+		throw new IllegalArgumentException("El paralelismo debe ser un entero positivo: "+valor);
+	}
+
+	List<Path> getEntradas() {
+		return entradas;
+	}
+
+	/**
+	 * Terminales indicados por el usuario.
+	 *
+	 * @return {A, B} o null si se detectan a partir de las cargas
+	 */
+	int[] getTerminales() {
+		return terminales;
+	}
+
+	/**
+	 * Fichero de resultados.
+	 *
+	 * @return fichero o null para la salida estándar
+	 */
+	Path getSalida() {
+		return salida;
+	}
+
+	Formato getFormato() {
+		return formato;
+	}
+
+	int getParalelismo() {
+		return paralelismo;
+	}
+
+	boolean isPuntoOperacion() {
+		return puntoOperacion;
+	}
+
+	boolean isRedes() {
+		return redes;
+	}
+
+	boolean isVerbose() {
+		return verbose;
+	}
+
+	boolean isAyuda() {
+		return ayuda;
+	}
+}
@@ -0,0 +1,43 @@
+package com.circuitos.analisiscircuitos.cli;
+
+/**
+ * Resultado del análisis de un archivo. Si algún paso falla, los valores que no se llegaron a
+ * calcular son null y {@code error} tiene el motivo.
+ *
+ * @param archivo				Ruta del archivo
+ * @param componentes			Número de componentes (null si no se pudo cargar)
+ * @param nodoA					Terminal A
+ * @param nodoB					Terminal B
+ * @param vth					Tensión de Thévenin (V)
+ * @param rth					Resistencia de Thévenin (Ω)
+ * @param in					Corriente de Norton (A)
+ * @param errorKcl				Error máximo de KCL del punto de operación (A)
+ * @param balancePotencia		Suma de potencias del punto de operación (W)
+ * @param milisegundos			Tiempo de carga y análisis
+ * @param error					Motivo del fallo o null
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+record ResultadoArchivo(
+	String archivo,
+	Integer componentes,
+	Integer nodoA,
+	Integer nodoB,
+	Double vth,
+	Double rth,
+	Double in,
+	Double errorKcl,
+	Double balancePotencia,
+	double milisegundos,
+	String error
+) {
+	/**
+	 * Indica si el análisis terminó sin errores.
+	 *
+	 * @return true si no hay error
+	 */
+	boolean correcto() {
+		return error==null;
+	}
+}
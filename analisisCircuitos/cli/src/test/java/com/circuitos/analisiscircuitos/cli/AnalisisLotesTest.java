@@ -0,0 +1,99 @@
+package com.circuitos.analisiscircuitos.cli;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Clase de pruebas unitarias de las opciones y la salida del análisis por lotes (JUnit 5).
+ * Está en el paquete de la CLI porque sus clases no son públicas.
+ */
+class AnalisisLotesTest {
+
+    @Test
+    @DisplayName("Test 0: Opciones de línea de comandos")
+    void testParsearOpciones() {
+        OpcionesLotes op=OpcionesLotes.parsear(new String[] {"-t", "1, 3", "--salida", "res.JSONL",
+                "-p", "4", "--sin-punto-operacion", "--redes", "a.json", "dir"});
+        assertArrayEquals(new int[] {1, 3}, op.getTerminales());
+        assertEquals(Path.of("res.JSONL"), op.getSalida());
+        assertEquals(OpcionesLotes.Formato.JSONL, op.getFormato(), "El formato sale de la extensión");
+        assertEquals(4, op.getParalelismo());
+        assertFalse(op.isPuntoOperacion());
+        assertTrue(op.isRedes());
+        assertFalse(op.isVerbose());
+        assertEquals(List.of(Path.of("a.json"), Path.of("dir")), op.getEntradas());
+
+        // Valores por defecto y formato explícito
+        OpcionesLotes porDefecto=OpcionesLotes.parsear(new String[] {"a.thvb"});
+        assertNull(porDefecto.getTerminales());
+        assertNull(porDefecto.getSalida());
+        assertEquals(OpcionesLotes.Formato.CSV, porDefecto.getFormato());
+        assertTrue(porDefecto.isPuntoOperacion());
+        assertEquals(OpcionesLotes.Formato.CSV,
+                OpcionesLotes.parsear(new String[] {"-o", "r.jsonl", "-f", "csv", "a.json"}).getFormato());
+        assertTrue(OpcionesLotes.parsear(new String[] {"-h"}).isAyuda());
+
+        // Errores
+        for(String[] args : List.of(new String[] {}, new String[] {"-x", "a.json"}, new String[] {"a.json", "-t"},
+                new String[] {"-t", "2,2", "a.json"}, new String[] {"-t", "1;2", "a.json"},
+                new String[] {"-p", "0", "a.json"}, new String[] {"-f", "xml", "a.json"})) {
+            assertThrows(IllegalArgumentException.class, () -> OpcionesLotes.parsear(args), String.join(" ", args));
+        }
+    }
+
+    @Test
+    @DisplayName("Test 1: Resultados en CSV con campos entrecomillados")
+    void testEscritorCsv() throws IOException {
+        Path destino=Files.createTempFile("lotes", ".csv");
+        try {
+            try(EscritorResultados escritor=new EscritorResultados(OpcionesLotes.Formato.CSV, destino)) {
+                escritor.escribir(new ResultadoArchivo("a.json", 4, 0, 2, 5.0, 500.0, 0.01, 1e-12, 0.0, 1.5, null));
+                escritor.escribir(new ResultadoArchivo("b,\"c\".json", null, null, null, null, null, null,
+                        null, null, 2.0, "Línea 1\nlínea 2"));
+            }
+            String csv=Files.readString(destino, StandardCharsets.UTF_8);
+            assertEquals("archivo,componentes,nodoA,nodoB,vth,rth,in,errorKcl,balancePotencia,ms,error\n"
+                    +"a.json,4,0,2,5.0,500.0,0.01,1.0E-12,0.0,1.5,\n"
+                    +"\"b,\"\"c\"\".json\",,,,,,,,,2.0,\"Línea 1\nlínea 2\"\n", csv);
+        } finally {
+            Files.deleteIfExists(destino);
+        }
+    }
+
+    @Test
+    @DisplayName("Test 2: Resultados en JSON lines")
+    void testEscritorJsonLines() throws IOException {
+        Path destino=Files.createTempFile("lotes", ".jsonl");
+        try {
+            try(EscritorResultados escritor=new EscritorResultados(OpcionesLotes.Formato.JSONL, destino)) {
+                escritor.escribir(new ResultadoArchivo("a.json", 4, 0, 2, 5.0, 500.0, 0.01, null, null, 1.5, null));
+                escritor.escribir(new ResultadoArchivo("b.cir", null, null, null, null, null, null,
+                        null, null, 2.0, "Sin \"cargas\""));
+            }
+            List<String> lineas=Files.readAllLines(destino, StandardCharsets.UTF_8);
+            assertEquals(2, lineas.size(), "Un objeto por línea");
+            ObjectMapper mapper=new ObjectMapper();
+            JsonNode primero=mapper.readTree(lineas.get(0));
+            assertEquals("a.json", primero.get("archivo").asText());
+            assertEquals(4, primero.get("componentes").intValue());
+            assertTrue(primero.get("componentes").isInt());
+            assertEquals(500.0, primero.get("rth").doubleValue(), 0.0);
+            assertTrue(primero.get("errorKcl").isNull());
+            assertTrue(primero.get("error").isNull());
+            JsonNode segundo=mapper.readTree(lineas.get(1));
+            assertTrue(segundo.get("vth").isNull());
+            assertEquals(2.0, segundo.get("ms").doubleValue(), 0.0);
+            assertEquals("Sin \"cargas\"", segundo.get("error").asText());
+        } finally {
+            Files.deleteIfExists(destino);
+        }
+    }
+}
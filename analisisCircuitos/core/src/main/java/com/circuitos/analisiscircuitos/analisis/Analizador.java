@@ -0,0 +1,280 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.ParametrosThevenin;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.Thevenin;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dominio.util.GraphUtil;
+import com.circuitos.analisiscircuitos.dominio.util.RejillaResistiva;
+import com.circuitos.analisiscircuitos.dominio.util.SerieE;
+
+/**
+ * Puerta de entrada para tests: recibe un Circuito y dos nodos, 
+ * devuelve un ResultadoThevenin con Vth y Rth.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class Analizador {
+	private static final Logger logger=Logger.getLogger(Analizador.class.getName());
+	private static final int MUESTRAS_TRANSITORIO=4096;
+	private static final int CANDIDATOS_PEOR_CASO=32;
+	/**
+	 * Calcula el circuito equivalente de Thevenin de un circuito. Si contiene diodos, se calcula
+	 * sobre su linealización en el punto de operación.
+	 * 
+	 * @param c					Circuito original
+	 * @param nodoA				Nodo de control sobre el que se hace el cálculo
+	 * @param nodoB				Nodo de control sobre el que se hace el cálculo
+	 * @return equiv			Circuito equivalente de Thevenin
+	 */
+	public ResultadoThevenin calculaThevenin(Circuito c, int nodoA, int nodoB) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Analizando Thevenin para nodos {0}-{1}", new Object[] {nodoA, nodoB});
+		ParametrosThevenin params=parametrosThevenin(c, nodoA, nodoB);
+		return new ResultadoThevenin(params.vth(), params.rth());
+	}
+	
+	/**
+	 * Calcula el circuito equivalente de Norton de un circuito. Si contiene diodos, se calcula
+	 * sobre su linealización en el punto de operación.
+	 * 
+	 * @param c					Circuito original
+	 * @param nodoA				Nodo de control sobre el que se hace el cálculo
+	 * @param nodoB				Nodo de control sobre el que se hace el cálculo
+	 * @return equiv			Circuito equivalente de Norton
+	 */
+	public ResultadoNorton calculaNorton(Circuito c, int nodoA, int nodoB) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Analizando Norton para nodos {0}-{1}", new Object[] {nodoA, nodoB});
+		ParametrosThevenin params=parametrosThevenin(c, nodoA, nodoB);
+		double vth=params.vth();
+		double rth=params.rth();
+		double in;
+		if(rth==0.0) {
+			in=Double.POSITIVE_INFINITY;
+		} else {
+			in=vth/rth;
+		}
+		return new ResultadoNorton(in, rth);
+	}
+	
+	/**
+	 * Calcula el punto de operación en continua del circuito completo
+	 * (tensiones de nodo, corriente y potencia de cada componente).
+	 * 
+	 * @param c					Circuito original (incluidas las cargas)
+	 * @return punto			Punto de operación del circuito
+	 */
+	public ResultadoPuntoOperacion calculaPuntoOperacion(Circuito c) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Analizando punto de operación ({0} componentes)", c.getComponentes().size());
+		return new PuntoOperacion(c).calcular();
+	}
+	
+	/**
+	 * Calcula el equivalente de Thevenin en forma cerrada: Vth y Rth como fórmulas en los
+	 * valores de los componentes, compiladas para reevaluarlas sin resolver el sistema.
+	 * 
+	 * @param c					Circuito original (sin diodos)
+	 * @param nodoA				Nodo de control sobre el que se hace el cálculo
+	 * @param nodoB				Nodo de control sobre el que se hace el cálculo
+	 * @return resultado		Fórmulas, evaluador y valores nominales
+	 */
+	public ResultadoTheveninSimbolico calculaTheveninSimbolico(Circuito c, int nodoA, int nodoB) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Analizando Thevenin simbólico para nodos {0}-{1}", new Object[] {nodoA, nodoB});
+		return new TheveninSimbolico(c, nodoA, nodoB).calcular();
+	}
+	
+	/**
+	 * Calcula el peor caso del equivalente de Thevenin/Norton con todas las resistencias a
+	 * R·(1±tolerancia): las esquinas que maximizan y minimizan Vth, Rth e In. Se verifican
+	 * como mucho {@value #CANDIDATOS_PEOR_CASO} esquinas por ronda de búsqueda.
+	 * 
+	 * @param c					Circuito original (sin diodos)
+	 * @param nodoA				Nodo de control sobre el que se hace el cálculo
+	 * @param nodoB				Nodo de control sobre el que se hace el cálculo
+	 * @param tolerancia		Tolerancia relativa (p. ej. 0.05 para ±5 %)
+	 * @return resultado		Nominal, sensibilidades y esquinas extremas
+	 */
+	public ResultadoPeorCaso calculaPeorCaso(Circuito c, int nodoA, int nodoB, double tolerancia) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Analizando peor caso para nodos {0}-{1} con tolerancia {2}",
+				new Object[] {nodoA, nodoB, tolerancia});
+		return new PeorCaso(c, nodoA, nodoB, tolerancia).calcular(CANDIDATOS_PEOR_CASO);
+	}
+	
+	/**
+	 * Ajusta el valor de las resistencias indicadas para que el equivalente entre A y B
+	 * tenga la Vth y/o la Rth pedidas. El circuito no se modifica.
+	 * 
+	 * @param c					Circuito original (sin diodos)
+	 * @param nodoA				Nodo de control sobre el que se hace el cálculo
+	 * @param nodoB				Nodo de control sobre el que se hace el cálculo
+	 * @param ajustables		Resistencias que se pueden cambiar
+	 * @param vthObjetivo		Vth deseada (NaN para dejarla libre)
+	 * @param rthObjetivo		Rth deseada (NaN para dejarla libre)
+	 * @return resultado		Valores ajustados y equivalente obtenido
+	 */
+	public ResultadoDisenoInverso calculaDisenoInverso(Circuito c, int nodoA, int nodoB, List<Resistencia> ajustables,
+			double vthObjetivo, double rthObjetivo) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Diseño inverso para nodos {0}-{1}: Vth={2}, Rth={3}",
+				new Object[] {nodoA, nodoB, vthObjetivo, rthObjetivo});
+		return new DisenoInverso(c, nodoA, nodoB, ajustables).ajustar(vthObjetivo, rthObjetivo);
+	}
+	
+	/**
+	 * Busca las mejores combinaciones serie/paralelo de valores normalizados (entre 1 Ω y
+	 * 10 MΩ) para una resistencia, una por cada número de piezas.
+	 * 
+	 * @param objetivo			Resistencia buscada (Ω)
+	 * @param serie				Serie normalizada (E12, E24, E96)
+	 * @param maxPartes			Número máximo de piezas (1 a 4)
+	 * @return mejores			Mejor combinación con 1, 2, ... maxPartes piezas
+	 */
+	public List<CombinacionResistencias> calculaCombinaciones(double objetivo, SerieE serie, int maxPartes) {
+		logger.log(Level.INFO, "Buscando combinaciones {0} para {1} Ω con hasta {2} piezas",
+				new Object[] {serie, objetivo, maxPartes});
+		return new ValoresNormalizados(serie).buscarResistencia(objetivo, maxPartes);
+	}
+	
+	/**
+	 * Busca el mejor divisor de tensión con valores normalizados (entre 1 Ω y 10 MΩ).
+	 * 
+	 * @param razon				Razón Vsal/Vent buscada, en (0, 1)
+	 * @param serie				Serie normalizada (E12, E24, E96)
+	 * @param maxPartesRama		Piezas por rama (1 o 2)
+	 * @return divisor			Mejor divisor encontrado
+	 */
+	public DivisorNormalizado calculaDivisor(double razon, SerieE serie, int maxPartesRama) {
+		logger.log(Level.INFO, "Buscando divisor {0} de razón {1}", new Object[] {serie, razon});
+		return new ValoresNormalizados(serie).buscarDivisor(razon, maxPartesRama);
+	}
+	
+	/**
+	 * Calcula la aportación de cada fuente independiente a la tensión de Thevenin
+	 * y a las tensiones de nodo (principio de superposición).
+	 * 
+	 * @param c					Circuito original
+	 * @param nodoA				Nodo de control sobre el que se hace el cálculo
+	 * @param nodoB				Nodo de control sobre el que se hace el cálculo
+	 * @return resultado		Aportación de cada fuente
+	 */
+	public ResultadoSuperposicion calculaSuperposicion(Circuito c, int nodoA, int nodoB) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Analizando superposición para nodos {0}-{1}", new Object[] {nodoA, nodoB});
+		return new Superposicion(c, nodoA, nodoB).calcular();
+	}
+	
+	/**
+	 * Calcula el equivalente de Thevenin/Norton en régimen sinusoidal a una frecuencia.
+	 * 
+	 * @param c					Circuito original
+	 * @param nodoA				Nodo de control sobre el que se hace el cálculo
+	 * @param nodoB				Nodo de control sobre el que se hace el cálculo
+	 * @param frecuencia		Frecuencia (Hz)
+	 * @return resultado		Tensión de Thevenin e impedancia a esa frecuencia
+	 */
+	public ResultadoEquivalenteAC calculaEquivalenteAC(Circuito c, int nodoA, int nodoB, double frecuencia) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Analizando equivalente AC para nodos {0}-{1} a {2} Hz",
+				new Object[] {nodoA, nodoB, frecuencia});
+		return new EquivalenteAC(c, nodoA, nodoB).calcular(frecuencia);
+	}
+	
+	/**
+	 * Calcula el equivalente de Thevenin/Norton en alterna en un barrido logarítmico de
+	 * frecuencias (diagrama de Bode).
+	 * 
+	 * @param c					Circuito original
+	 * @param nodoA				Nodo de control sobre el que se hace el cálculo
+	 * @param nodoB				Nodo de control sobre el que se hace el cálculo
+	 * @param fMin				Frecuencia inicial (Hz)
+	 * @param fMax				Frecuencia final (Hz)
+	 * @param puntos			Número de frecuencias
+	 * @return barrido			Equivalente en cada frecuencia
+	 */
+	public BarridoAC calculaBarridoAC(Circuito c, int nodoA, int nodoB, double fMin, double fMax, int puntos) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Barrido AC para nodos {0}-{1}: {2} puntos", new Object[] {nodoA, nodoB, puntos});
+		return new EquivalenteAC(c, nodoA, nodoB).barrer(fMin, fMax, puntos);
+	}
+	
+	/**
+	 * Simula la respuesta al escalón del circuito (fuentes conectadas en t=0 con el circuito
+	 * descargado). Se conservan como mucho {@value #MUESTRAS_TRANSITORIO} muestras repartidas
+	 * uniformemente a lo largo de la simulación.
+	 * 
+	 * @param c					Circuito original
+	 * @param metodo			Método de integración
+	 * @param paso				Paso de integración (s)
+	 * @param pasos				Número de pasos
+	 * @param nodos				Nodos cuya tensión se registra
+	 * @return ondas			Formas de onda de las tensiones de nodo
+	 */
+	public BufferOndas calculaTransitorio(Circuito c, Transitorio.Metodo metodo, double paso, long pasos, int... nodos) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Simulando transitorio ({0}): {1} pasos de {2} s", new Object[] {metodo, pasos, paso});
+		int diezmado=(int) Math.max(1, Math.min(Integer.MAX_VALUE, (pasos+MUESTRAS_TRANSITORIO-2)/(MUESTRAS_TRANSITORIO-1)));
+		return new Transitorio(c, metodo).simular(paso, pasos, nodos, MUESTRAS_TRANSITORIO, diezmado);
+	}
+	
+	/**
+	 * Obtiene Vth y Rth entre A y B. Si el circuito abierto entre los terminales es una rejilla
+	 * rectangular de resistencias iguales (sin fuentes, luego Vth=0), Rth se obtiene en forma
+	 * cerrada con {@link RejillaResistiva} sin montar el sistema MNA; si no, se resuelve con
+	 * {@link Thevenin}.
+	 * 
+	 * @param c					Circuito original
+	 * @param nodoA				Nodo terminal
+	 * @param nodoB				Nodo terminal
+	 * @return (Vth, Rth)
+	 */
+	private ParametrosThevenin parametrosThevenin(Circuito c, int nodoA, int nodoB) {
+		List<Componente> abierto=new ArrayList<>();
+		for(Componente comp : c.getComponentes()) {
+			boolean cargaEntreTerminales=comp.isCarga() && (
+					(comp.getNodo1()==nodoA && comp.getNodo2()==nodoB) ||
+					(comp.getNodo1()==nodoB && comp.getNodo2()==nodoA));
+			if(!cargaEntreTerminales && !(comp instanceof Tierra)) {
+				abierto.add(comp);
+			}
+		}
+		Optional<RejillaResistiva> rejilla=GraphUtil.detectarRejilla(abierto)
+				.filter(r -> r.contiene(nodoA) && r.contiene(nodoB));
+		if(rejilla.isPresent()) {
+			logger.log(Level.INFO, "Rejilla resistiva de {0}x{1}: Rth por descomposición espectral",
+					new Object[] {rejilla.get().getFilas(), rejilla.get().getColumnas()});
+			return new ParametrosThevenin(0.0, rejilla.get().resistenciaEntre(nodoA, nodoB));
+		}
+		Thevenin th=new Thevenin(linealizar(c), nodoA, nodoB);
+		return th.calcularParametros();
+	}
+	
+	/**
+	 * Si el circuito tiene diodos, lo sustituye por su linealización en el punto de operación
+	 * (el equivalente resultante es el de pequeña señal); si no, lo devuelve tal cual.
+	 * 
+	 * @param c					Circuito original
+	 * @return circuito lineal
+	 */
+	private Circuito linealizar(Circuito c) {
+		if(c.getComponentes().stream().noneMatch(comp -> comp instanceof Diodo)) {
+			return c;
+		}
+		logger.log(Level.INFO, "Circuito con diodos: se linealiza en el punto de operación");
+		return new Linealizacion(c).getCircuitoLinealizado();
+	}
+}
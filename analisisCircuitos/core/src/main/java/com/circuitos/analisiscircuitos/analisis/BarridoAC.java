@@ -0,0 +1,97 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.List;
+
+/**
+ * Resultado de un barrido en frecuencia del equivalente en alterna entre dos nodos, listo
+ * para dibujar un diagrama de Bode. Los puntos están ordenados por frecuencia creciente.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class BarridoAC {
+	private final List<ResultadoEquivalenteAC> puntos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param puntos		Equivalente en cada frecuencia, en orden creciente
+	 */
+	public BarridoAC(List<ResultadoEquivalenteAC> puntos) {
+		this.puntos=List.copyOf(puntos);
+	}
+
+	/**
+	 * Obtiene los puntos del barrido.
+	 *
+	 * @return lista inmutable de equivalentes
+	 */
+	public List<ResultadoEquivalenteAC> getPuntos() {
+		return puntos;
+	}
+
+	/**
+	 * Obtiene el número de frecuencias del barrido.
+	 *
+	 * @return número de puntos
+	 */
+	public int size() {
+		return puntos.size();
+	}
+
+	/**
+	 * Obtiene las frecuencias del barrido.
+	 *
+	 * @return frecuencias (Hz)
+	 */
+	public double[] getFrecuencias() {
+		return puntos.stream().mapToDouble(ResultadoEquivalenteAC::getFrecuencia).toArray();
+	}
+
+	/**
+	 * Obtiene el módulo de Vth en decibelios (20·log10|Vth|) para cada frecuencia.
+	 *
+	 * @return |Vth| en dB
+	 */
+	public double[] getVthDecibelios() {
+		return puntos.stream().mapToDouble(p -> 20.0*Math.log10(p.getVthModulo())).toArray();
+	}
+
+	/**
+	 * Obtiene la fase de Vth para cada frecuencia.
+	 *
+	 * @return fase de Vth (grados)
+	 */
+	public double[] getVthFase() {
+		return puntos.stream().mapToDouble(ResultadoEquivalenteAC::getVthFase).toArray();
+	}
+
+	/**
+	 * Obtiene el módulo de Zth para cada frecuencia.
+	 *
+	 * @return |Zth| (Ω)
+	 */
+	public double[] getZthModulo() {
+		return puntos.stream().mapToDouble(ResultadoEquivalenteAC::getZthModulo).toArray();
+	}
+
+	/**
+	 * Obtiene la fase de Zth para cada frecuencia.
+	 *
+	 * @return fase de Zth (grados)
+	 */
+	public double[] getZthFase() {
+		return puntos.stream().mapToDouble(ResultadoEquivalenteAC::getZthFase).toArray();
+	}
+
+	/**
+	 * Devuelve un String con el rango del barrido.
+	 *
+	 * @return String		Info del barrido.
+	 */
+	@Override
+	public String toString() {
+		return "BarridoAC{puntos="+puntos.size()+(puntos.isEmpty() ? "" : ", f=["
+				+puntos.get(0).getFrecuencia()+", "+puntos.get(puntos.size()-1).getFrecuencia()+"]")+"}";
+	}
+}
@@ -0,0 +1,150 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+/**
+ * Buffer circular de formas de onda de un transitorio. Guarda, para un número fijo de
+ * señales, las últimas {@code capacidad} muestras, de modo que la memoria no depende de la
+ * duración de la simulación y se pueden dar millones de pasos conservando solo la ventana
+ * que se va a dibujar. Las lecturas devuelven las muestras en orden cronológico.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class BufferOndas {
+	private final String[] nombres;
+	private final double[] tiempos;
+	private final double[][] senales;
+	private final int capacidad;
+	private int inicio=0;
+	private int tamano=0;
+	private long total=0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param nombres					nombre de cada señal
+	 * @param capacidad					número máximo de muestras conservadas
+	 * @throws IllegalArgumentException	si la capacidad no es positiva
+	 */
+	public BufferOndas(String[] nombres, int capacidad) {
+		if(capacidad<=0) {
+			throw new IllegalArgumentException("La capacidad del buffer debe ser positiva: "+capacidad);
+		}
+		this.nombres=nombres.clone();
+		this.capacidad=capacidad;
+		this.tiempos=new double[capacidad];
+		this.senales=new double[nombres.length][capacidad];
+	}
+
+	/**
+	 * Añade una muestra. Si el buffer está lleno se sobrescribe la más antigua.
+	 *
+	 * @param t						instante (s)
+	 * @param valores				valor de cada señal en ese instante
+	 */
+	public void anadir(double t, double[] valores) {
+		int pos=(inicio+tamano)%capacidad;
+		if(tamano==capacidad) {
+			inicio=(inicio+1)%capacidad;
+		} else {
+			tamano++;
+		}
+		tiempos[pos]=t;
+		for(int s=0; s<senales.length; s++) {
+			senales[s][pos]=valores[s];
+		}
+		total++;
+	}
+
+	/**
+	 * Obtiene el número de muestras conservadas.
+	 *
+	 * @return muestras en el buffer
+	 */
+	public int size() {
+		return tamano;
+	}
+
+	/**
+	 * Obtiene el número total de muestras añadidas desde la creación del buffer.
+	 *
+	 * @return muestras añadidas (incluidas las descartadas)
+	 */
+	public long getTotalMuestras() {
+		return total;
+	}
+
+	/**
+	 * Obtiene la capacidad del buffer.
+	 *
+	 * @return capacidad		Número máximo de muestras
+	 */
+	public int getCapacidad() {
+		return capacidad;
+	}
+
+	/**
+	 * Obtiene los nombres de las señales.
+	 *
+	 * @return nombres de las señales
+	 */
+	public String[] getNombres() {
+		return nombres.clone();
+	}
+
+	/**
+	 * Obtiene los instantes de las muestras conservadas.
+	 *
+	 * @return tiempos (s) en orden cronológico
+	 */
+	public double[] getTiempos() {
+		return ordenar(tiempos);
+	}
+
+	/**
+	 * Obtiene una de las señales.
+	 *
+	 * @param indice				índice de la señal (orden de los nombres)
+	 * @return valores en orden cronológico
+	 */
+	public double[] getSenal(int indice) {
+		return ordenar(senales[indice]);
+	}
+
+	/**
+	 * Obtiene el último valor añadido de una señal.
+	 *
+	 * @param indice					índice de la señal
+	 * @throws IllegalStateException	si el buffer está vacío
+	 * @return último valor
+	 */
+	public double getUltimo(int indice) {
+		if(tamano==0) {
+			throw new IllegalStateException("El buffer está vacío");
+		}
+		return senales[indice][(inicio+tamano-1)%capacidad];
+	}
+
+	/**
+	 * Copia un array circular en orden cronológico.
+	 *
+	 * @param datos				array circular
+	 * @return copia ordenada
+	 */
+	private double[] ordenar(double[] datos) {
+		double[] r=new double[tamano];
+		int primero=Math.min(tamano, capacidad-inicio);
+		System.arraycopy(datos, inicio, r, 0, primero);
+		System.arraycopy(datos, 0, r, primero, tamano-primero);
+		return r;
+	}
+
+	/**
+	 * Devuelve un String con el estado del buffer.
+	 *
+	 * @return String		Info del buffer.
+	 */
+	@Override
+	public String toString() {
+		return "BufferOndas{senales="+nombres.length+", muestras="+tamano+"/"+capacidad+", total="+total+"}";
+	}
+}
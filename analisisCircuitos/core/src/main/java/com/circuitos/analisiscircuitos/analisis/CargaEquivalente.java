@@ -0,0 +1,153 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.linear.RealVector;
+import org.apache.commons.math3.linear.SingularMatrixException;
+
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+
+/**
+ * Resistencia equivalente de una carga formada por varias resistencias entre dos bornes.
+ * Permite variar el valor de una de ellas sin tocar el circuito: cada evaluación es una
+ * resolución nodal de la subred de carga (borne B como referencia y 1 A inyectado en A),
+ * independiente del resto del circuito, cuyo equivalente de Thevenin ya está calculado.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class CargaEquivalente {
+	private static final Logger logger=Logger.getLogger(CargaEquivalente.class.getName());
+	private final List<Resistencia> resistencias;
+	private final Map<Integer, Integer> indices;
+	private final int idxA;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param carga						componentes de la carga
+	 * @param bornA						borne de la carga
+	 * @param bornB						borne de la carga (referencia)
+	 * @throws IllegalArgumentException	si la carga está vacía, contiene algo distinto de
+	 * 									resistencias o no incluye los dos bornes
+	 */
+	public CargaEquivalente(List<Componente> carga, int bornA, int bornB) {
+		Objects.requireNonNull(carga, "Carga no puede ser null");
+		if(carga.isEmpty()) {
+			throw new IllegalArgumentException("La carga no contiene componentes");
+		}
+		List<Resistencia> lista=new ArrayList<>();
+		Map<Integer, Integer> mapa=new HashMap<>();
+		for(Componente c : carga) {
+			if(!(c instanceof Resistencia r)) {
+				throw new IllegalArgumentException("La carga solo puede contener resistencias: "+c.getId());
+			}
+			lista.add(r);
+			for(int nodo : new int[] {r.getNodo1(), r.getNodo2()}) {
+				if(nodo!=bornB) mapa.putIfAbsent(nodo, mapa.size());
+			}
+		}
+		if(!mapa.containsKey(bornA) || bornA==bornB) {
+			throw new IllegalArgumentException("La carga no conecta los bornes "+bornA+" y "+bornB);
+		}
+		this.resistencias=List.copyOf(lista);
+		this.indices=mapa;
+		this.idxA=mapa.get(bornA);
+	}
+
+	/**
+	 * Obtiene las resistencias que forman la carga.
+	 *
+	 * @return lista inmutable de resistencias
+	 */
+	public List<Resistencia> getResistencias() {
+		return resistencias;
+	}
+
+	/**
+	 * Indica si la carga es una única resistencia, en cuyo caso RL es directamente su valor
+	 * y no hace falta ningún barrido.
+	 *
+	 * @return {@code true} si la carga es una sola resistencia
+	 */
+	public boolean isResistenciaUnica() {
+		return resistencias.size()==1;
+	}
+
+	/**
+	 * Resistencia equivalente con los valores actuales de la carga.
+	 *
+	 * @return resistencia equivalente (Ω)
+	 */
+	public double resistenciaEquivalente() {
+		return resistenciaEquivalente(null, 0.0);
+	}
+
+	/**
+	 * Resistencia equivalente sustituyendo el valor de una de las resistencias de la carga.
+	 * No modifica el componente.
+	 *
+	 * @param variable					resistencia cuyo valor se sustituye ({@code null} para ninguna)
+	 * @param valor						valor de prueba (Ω)
+	 * @throws IllegalStateException	si la subred de carga es singular (nodo interno aislado)
+	 * @return resistencia equivalente entre los bornes (Ω)
+	 */
+	public double resistenciaEquivalente(Resistencia variable, double valor) {
+		if(isResistenciaUnica()) {
+			return resistencias.get(0)==variable ? valor : resistencias.get(0).getValor();
+		}
+		int n=indices.size();
+		RealMatrix G=new Array2DRowRealMatrix(n, n);
+		for(Resistencia r : resistencias) {
+			double g=1.0/(r==variable ? valor : r.getValor());
+			Integer i=indices.get(r.getNodo1());
+			Integer j=indices.get(r.getNodo2());
+			if(i!=null) G.addToEntry(i, i, g);
+			if(j!=null) G.addToEntry(j, j, g);
+			if(i!=null && j!=null) {
+				G.addToEntry(i, j, -g);
+				G.addToEntry(j, i, -g);
+			}
+		}
+		RealVector b=new ArrayRealVector(n);
+		b.setEntry(idxA, 1.0);
+		try {
+			return new LUDecomposition(G).getSolver().solve(b).getEntry(idxA);
+		} catch(SingularMatrixException e) {
+			throw new IllegalStateException("La subred de carga es singular", e);
+		}
+	}
+
+	/**
+	 * Calcula la resistencia equivalente para cada valor de la resistencia variable. Los puntos
+	 * son independientes entre sí y se reparten entre los núcleos disponibles.
+	 *
+	 * @param variable			resistencia de la carga que se barre
+	 * @param valores			valores de prueba (Ω)
+	 * @return resistencia equivalente para cada valor
+	 */
+	public double[] barrer(Resistencia variable, double[] valores) {
+		Objects.requireNonNull(variable, "Resistencia variable no puede ser null");
+		if(resistencias.stream().noneMatch(r -> r==variable)) {
+			throw new IllegalArgumentException("La resistencia no pertenece a la carga: "+variable.getId());
+		}
+		double[] req=new double[valores.length];
+		IntStream.range(0, valores.length).parallel()
+			.forEach(k -> req[k]=resistenciaEquivalente(variable, valores[k]));
+		logger.log(Level.FINE, "Barrido de carga sobre {0}: {1} puntos",
+				new Object[] {variable.getId(), valores.length});
+		return req;
+	}
+}
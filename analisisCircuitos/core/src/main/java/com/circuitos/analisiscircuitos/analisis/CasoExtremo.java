@@ -0,0 +1,91 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.Arrays;
+
+/**
+ * Contiene una esquina extrema del análisis de peor caso: la magnitud optimizada, si es el
+ * máximo o el mínimo, su valor exacto y el valor de cada resistencia en esa esquina.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class CasoExtremo {
+	private final PeorCaso.Magnitud magnitud;
+	private final boolean maximo;
+	private final double valor;
+	private final double[] resistencias;
+	private final int[] signos;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param magnitud			Magnitud optimizada
+	 * @param maximo			{@code true} si es el máximo, {@code false} si es el mínimo
+	 * @param valor				Valor exacto de la magnitud en la esquina
+	 * @param resistencias		Valor de cada resistencia (Ω)
+	 * @param signos			+1 si la resistencia está en +tol, -1 si está en -tol
+	 */
+	public CasoExtremo(PeorCaso.Magnitud magnitud, boolean maximo, double valor, double[] resistencias, int[] signos) {
+		this.magnitud=magnitud;
+		this.maximo=maximo;
+		this.valor=valor;
+		this.resistencias=resistencias.clone();
+		this.signos=signos.clone();
+	}
+	
+	/**
+	 * Obtiene la magnitud optimizada.
+	 * 
+	 * @return magnitud		Vth, Rth o In
+	 */
+	public PeorCaso.Magnitud getMagnitud() {
+		return magnitud;
+	}
+	
+	/**
+	 * Indica si la esquina es el máximo o el mínimo.
+	 * 
+	 * @return {@code true} si es el máximo
+	 */
+	public boolean isMaximo() {
+		return maximo;
+	}
+	
+	/**
+	 * Obtiene el valor de la magnitud en la esquina.
+	 * 
+	 * @return valor		Valor exacto (V, Ω o A)
+	 */
+	public double getValor() {
+		return valor;
+	}
+	
+	/**
+	 * Obtiene el valor de cada resistencia en la esquina.
+	 * 
+	 * @return resistencias (Ω), en el orden de {@link ResultadoPeorCaso#getIds()}
+	 */
+	public double[] getResistencias() {
+		return resistencias.clone();
+	}
+	
+	/**
+	 * Obtiene el extremo de tolerancia de una resistencia.
+	 * 
+	 * @param indice		Índice de la resistencia
+	 * @return +1 (R·(1+tol)) o -1 (R·(1-tol))
+	 */
+	public int getSigno(int indice) {
+		return signos[indice];
+	}
+	
+	/**
+	 * Devuelve un String con la información de la esquina.
+	 * 
+	 * @return String		Info de la esquina extrema.
+	 */
+	@Override
+	public String toString() {
+		return "CasoExtremo{"+(maximo ? "max " : "min ")+magnitud+"="+valor+", signos="+Arrays.toString(signos)+"}";
+	}
+}
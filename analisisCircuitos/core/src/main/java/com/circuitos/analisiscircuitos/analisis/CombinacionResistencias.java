@@ -0,0 +1,98 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.Arrays;
+
+/**
+ * Contiene una combinación serie/paralelo de resistencias normalizadas: su expresión
+ * (p. ej. "1 kΩ + (2.2 kΩ ∥ 4.7 kΩ)"), el valor de cada pieza, el valor equivalente y el
+ * error relativo respecto al objetivo.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class CombinacionResistencias {
+	private final String expresion;
+	private final double[] partes;
+	private final double valor;
+	private final double objetivo;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param expresion			Expresión de la red ("+" serie, "∥" paralelo)
+	 * @param partes			Valor de cada resistencia, en el orden de la expresión
+	 * @param valor				Resistencia equivalente (Ω)
+	 * @param objetivo			Resistencia buscada (Ω)
+	 */
+	public CombinacionResistencias(String expresion, double[] partes, double valor, double objetivo) {
+		this.expresion=expresion;
+		this.partes=partes.clone();
+		this.valor=valor;
+		this.objetivo=objetivo;
+	}
+
+	/**
+	 * Obtiene la expresión de la red.
+	 *
+	 * @return expresion		p. ej. "1 kΩ + (2.2 kΩ ∥ 4.7 kΩ)"
+	 */
+	public String getExpresion() {
+		return expresion;
+	}
+
+	/**
+	 * Obtiene el valor de cada resistencia de la red.
+	 *
+	 * @return partes			Valores (Ω)
+	 */
+	public double[] getPartes() {
+		return partes.clone();
+	}
+
+	/**
+	 * Obtiene el número de resistencias de la red.
+	 *
+	 * @return número de piezas
+	 */
+	public int getNumPartes() {
+		return partes.length;
+	}
+
+	/**
+	 * Obtiene la resistencia equivalente de la red.
+	 *
+	 * @return valor			Resistencia (Ω)
+	 */
+	public double getValor() {
+		return valor;
+	}
+
+	/**
+	 * Obtiene la resistencia buscada.
+	 *
+	 * @return objetivo			Resistencia (Ω)
+	 */
+	public double getObjetivo() {
+		return objetivo;
+	}
+
+	/**
+	 * Obtiene el error relativo respecto al objetivo.
+	 *
+	 * @return |valor-objetivo|/objetivo
+	 */
+	public double getErrorRelativo() {
+		return Math.abs(valor-objetivo)/objetivo;
+	}
+
+	/**
+	 * Devuelve un String con la combinación.
+	 *
+	 * @return String		Info de la combinación.
+	 */
+	@Override
+	public String toString() {
+		return "CombinacionResistencias{"+expresion+" = "+valor+", partes="+Arrays.toString(partes)
+			+", error="+getErrorRelativo()+"}";
+	}
+}
@@ -0,0 +1,90 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.Map;
+
+/**
+ * Contiene la aportación de una única fuente independiente (con el resto desactivadas)
+ * a la tensión de Thevenin y a la tensión de cada nodo del circuito.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ContribucionFuente {
+	private final String id;
+	private final String tipo;
+	private final double valor;
+	private final double vth;
+	private final Map<Integer, Double> tensionesNodo;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param id				Id de la fuente
+	 * @param tipo				Tipo de fuente
+	 * @param valor				Valor de la fuente (V o A)
+	 * @param vth				Aportación a la tensión de Thevenin
+	 * @param tensionesNodo		Aportación a la tensión de cada nodo
+	 */
+	public ContribucionFuente(String id, String tipo, double valor, double vth, Map<Integer, Double> tensionesNodo) {
+		this.id=id;
+		this.tipo=tipo;
+		this.valor=valor;
+		this.vth=vth;
+		this.tensionesNodo=Map.copyOf(tensionesNodo);
+	}
+
+	/**
+	 * Obtiene el Id de la fuente.
+	 *
+	 * @return id		Id de la fuente
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Obtiene el tipo de fuente.
+	 *
+	 * @return tipo		Tipo de fuente
+	 */
+	public String getTipo() {
+		return tipo;
+	}
+
+	/**
+	 * Obtiene el valor de la fuente.
+	 *
+	 * @return valor	Valor de la fuente (V o A)
+	 */
+	public double getValor() {
+		return valor;
+	}
+
+	/**
+	 * Obtiene la aportación de la fuente a la tensión de Thevenin.
+	 *
+	 * @return vth		Aportación a Vth
+	 */
+	public double getVth() {
+		return vth;
+	}
+
+	/**
+	 * Obtiene la aportación de la fuente a la tensión de cada nodo.
+	 *
+	 * @return mapa nodo -> tensión
+	 */
+	public Map<Integer, Double> getTensionesNodo() {
+		return tensionesNodo;
+	}
+
+	/**
+	 * Devuelve un String con la aportación de la fuente.
+	 *
+	 * @return String		Info de la aportación a Vth.
+	 */
+	@Override
+	public String toString() {
+		return "ContribucionFuente{id="+id+", vth="+vth+"}";
+	}
+}
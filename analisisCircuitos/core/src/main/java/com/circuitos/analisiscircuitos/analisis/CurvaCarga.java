@@ -0,0 +1,88 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+/**
+ * Curvas de tensión, corriente y potencia en la carga muestreadas frente a la resistencia
+ * de carga RL. Los arrays comparten índice: el punto i corresponde a RL=rl[i].
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class CurvaCarga {
+	private final double[] rl;
+	private final double[] tension;
+	private final double[] corriente;
+	private final double[] potencia;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param rl			Valores de resistencia de carga (Ω), crecientes
+	 * @param tension		Tensión en la carga para cada RL (V)
+	 * @param corriente		Corriente por la carga para cada RL (A)
+	 * @param potencia		Potencia entregada a la carga para cada RL (W)
+	 */
+	public CurvaCarga(double[] rl, double[] tension, double[] corriente, double[] potencia) {
+		if(rl.length!=tension.length || rl.length!=corriente.length || rl.length!=potencia.length) {
+			throw new IllegalArgumentException("Las curvas deben tener el mismo número de puntos");
+		}
+		this.rl=rl;
+		this.tension=tension;
+		this.corriente=corriente;
+		this.potencia=potencia;
+	}
+
+	/**
+	 * Obtiene el número de puntos muestreados.
+	 *
+	 * @return número de puntos
+	 */
+	public int size() {
+		return rl.length;
+	}
+
+	/**
+	 * Obtiene los valores de resistencia de carga.
+	 *
+	 * @return rl		Resistencias de carga (Ω)
+	 */
+	public double[] getRl() {
+		return rl;
+	}
+
+	/**
+	 * Obtiene la tensión en la carga.
+	 *
+	 * @return tension		Tensión en la carga (V)
+	 */
+	public double[] getTension() {
+		return tension;
+	}
+
+	/**
+	 * Obtiene la corriente por la carga.
+	 *
+	 * @return corriente	Corriente por la carga (A)
+	 */
+	public double[] getCorriente() {
+		return corriente;
+	}
+
+	/**
+	 * Obtiene la potencia entregada a la carga.
+	 *
+	 * @return potencia		Potencia en la carga (W)
+	 */
+	public double[] getPotencia() {
+		return potencia;
+	}
+
+	/**
+	 * Devuelve un String con el rango de la curva.
+	 *
+	 * @return String		Info de la curva.
+	 */
+	@Override
+	public String toString() {
+		return "CurvaCarga{puntos="+rl.length+(rl.length>0 ? ", rl=["+rl[0]+", "+rl[rl.length-1]+"]" : "")+"}";
+	}
+}
@@ -0,0 +1,299 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.DecompositionSolver;
+import org.apache.commons.math3.linear.LUDecomposition;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.util.FactorizacionActualizable;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.dominio.util.SistemaResistivo;
+
+/**
+ * Diseño inverso: ajusta el valor de unas resistencias elegidas para que el equivalente
+ * entre A y B tenga la Vth y/o la Rth pedidas. No modifica el circuito; los valores
+ * encontrados se devuelven en un {@link ResultadoDisenoInverso} para aplicarlos después.
+ * <p>
+ * Se minimiza el error relativo con Levenberg–Marquardt sobre ln R (así las resistencias
+ * siguen siendo positivas y el paso es proporcional a su valor). El jacobiano sale del método
+ * adjunto: con la solución directa y una resolución del sistema traspuesto se obtiene la
+ * derivada respecto a todas las resistencias. El sistema se factoriza una vez en un punto
+ * base y cada paso de prueba se resuelve con una actualización de bajo rango
+ * ({@link FactorizacionActualizable}); solo se vuelve a factorizar si alguna resistencia se
+ * aleja de la base más de un factor {@value #FACTOR_REBASE}.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class DisenoInverso {
+	private static final Logger logger=Logger.getLogger(DisenoInverso.class.getName());
+	private static final int MAX_ITERACIONES=100;
+	private static final double TOLERANCIA=1e-9;
+	private static final double FACTOR_REBASE=10.0;
+	private static final double PASO_MAXIMO=1.0;
+	private static final double R_MIN=1e-3;
+	private static final double R_MAX=1e9;
+	private static final double AMORTIGUAMIENTO_MAX=1e12;
+
+	private final SistemaResistivo sistema;
+	private final int[] parametros;
+	private final double[] prueba;
+	private final int idxA;
+	private final int idxB;
+	private int factorizaciones;
+
+	/**
+	 * Constructor. Abre el circuito entre A y B (quita los componentes de carga conectados
+	 * directamente entre ambos) y localiza las resistencias que se pueden ajustar.
+	 *
+	 * @param circuito					circuito a analizar (sin diodos)
+	 * @param nodoA						nodo terminal
+	 * @param nodoB						nodo terminal
+	 * @param ajustables				resistencias cuyo valor se puede cambiar
+	 * @throws IllegalArgumentException	si no hay resistencias o alguna no forma parte del circuito abierto
+	 * @throws IllegalStateException	si el circuito no es conexo o no contiene los nodos
+	 */
+	public DisenoInverso(Circuito circuito, int nodoA, int nodoB, List<Resistencia> ajustables) {
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		Objects.requireNonNull(ajustables, "Lista de resistencias no puede ser null");
+		if(ajustables.isEmpty()) {
+			throw new IllegalArgumentException("Debe elegirse al menos una resistencia para ajustar");
+		}
+		CircuitoBuilder builder=new CircuitoBuilder(circuito.getComponentes().size());
+		for(Componente c : circuito.getComponentes()) {
+			boolean cargaEntreTerminales=c.isCarga() && (
+					(c.getNodo1()==nodoA && c.getNodo2()==nodoB) ||
+					(c.getNodo1()==nodoB && c.getNodo2()==nodoA));
+			if(!cargaEntreTerminales && c.getNodo1()!=c.getNodo2()) {
+				builder.con(c);
+			}
+		}
+		Circuito abierto=builder.construir();
+		this.sistema=MatrixUtil.construirSistemaResistivo(abierto);
+		this.parametros=new int[ajustables.size()];
+		for(int k=0; k<parametros.length; k++) {
+			String id=ajustables.get(k).getId();
+			parametros[k]=sistema.getIds().indexOf(id);
+			if(parametros[k]<0) {
+				throw new IllegalArgumentException("La resistencia no forma parte del circuito analizado: "+id);
+			}
+		}
+		try {
+			this.idxA=sistema.indiceNodo(nodoA);
+			this.idxB=sistema.indiceNodo(nodoB);
+		} catch(IllegalArgumentException e) {
+			throw new IllegalStateException("No se encuentran los nodos A o B en el circuito abierto", e);
+		}
+		this.prueba=new double[sistema.getDimension()];
+		if(idxA>=0) prueba[idxA]+=1.0;
+		if(idxB>=0) prueba[idxB]-=1.0;
+	}
+
+	/**
+	 * Busca los valores de las resistencias que dan el equivalente pedido. Si el objetivo no
+	 * es alcanzable se devuelve la mejor aproximación encontrada, sin marcarla como convergida.
+	 *
+	 * @param vthObjetivo				Vth deseada (V), o NaN para dejarla libre
+	 * @param rthObjetivo				Rth deseada (Ω, positiva), o NaN para dejarla libre
+	 * @throws IllegalArgumentException	si no hay objetivo o la Rth pedida no es positiva
+	 * @throws IllegalStateException	si algún paso deja el sistema singular
+	 * @return valores ajustados y equivalente obtenido
+	 */
+	public ResultadoDisenoInverso ajustar(double vthObjetivo, double rthObjetivo) {
+		boolean conVth=!Double.isNaN(vthObjetivo);
+		boolean conRth=!Double.isNaN(rthObjetivo);
+		if(!conVth && !conRth) {
+			throw new IllegalArgumentException("Debe indicarse Vth, Rth o ambas");
+		}
+		if(conRth && !(rthObjetivo>0.0 && Double.isFinite(rthObjetivo))) {
+			throw new IllegalArgumentException("La Rth objetivo debe ser positiva: "+rthObjetivo);
+		}
+		double[] objetivos=conVth && conRth ? new double[] {vthObjetivo, rthObjetivo}
+				: new double[] {conVth ? vthObjetivo : rthObjetivo};
+		int[] salidas=conVth && conRth ? new int[] {0, 1} : new int[] {conVth ? 0 : 1};
+		double[] escalas=new double[objetivos.length];
+		for(int i=0; i<objetivos.length; i++) {
+			escalas[i]=objetivos[i]!=0.0 ? Math.abs(objetivos[i]) : 1.0;
+		}
+
+		factorizaciones=0;
+		double[] r=sistema.getNominales();
+		double[] iniciales=seleccion(r);
+		FactorizacionActualizable f=factorizar(r);
+		Paso actual=evaluar(f, r, salidas, objetivos, escalas);
+		double mu=1e-3;
+		int iteraciones=0;
+		boolean convergido=actual.maximoError()<TOLERANCIA;
+		while(!convergido && iteraciones<MAX_ITERACIONES && mu<AMORTIGUAMIENTO_MAX) {
+			iteraciones++;
+			double[] delta=pasoLM(actual, mu);
+			if(delta==null) break;
+			double[] candidato=r.clone();
+			double[] base=f.getBase();
+			boolean lejos=false;
+			for(int k=0; k<parametros.length; k++) {
+				int q=parametros[k];
+				double u=Math.log(r[q])+Math.max(-PASO_MAXIMO, Math.min(PASO_MAXIMO, delta[k]));
+				candidato[q]=Math.max(R_MIN, Math.min(R_MAX, Math.exp(u)));
+				lejos|=Math.abs(Math.log(candidato[q]/base[q]))>Math.log(FACTOR_REBASE);
+			}
+			if(lejos) {
+				f=factorizar(r);
+			}
+			Paso nuevo=evaluar(f, candidato, salidas, objetivos, escalas);
+			if(nuevo.coste()<actual.coste()) {
+				double mejora=actual.coste()-nuevo.coste();
+				r=candidato;
+				actual=nuevo;
+				mu=Math.max(mu/3.0, 1e-12);
+				convergido=actual.maximoError()<TOLERANCIA;
+				if(!convergido && mejora<=TOLERANCIA*TOLERANCIA*actual.coste()) break;
+			} else {
+				mu*=4.0;
+			}
+		}
+		logger.log(Level.FINE, "Diseño inverso: {0} iteraciones, {1} factorizaciones, error máximo {2}",
+				new Object[] {iteraciones, factorizaciones, actual.maximoError()});
+		return new ResultadoDisenoInverso(ids(), iniciales, seleccion(r), vthObjetivo, rthObjetivo,
+				actual.vth(), actual.rth(), iteraciones, factorizaciones, convergido);
+	}
+
+	/**
+	 * Estado de un punto de la optimización.
+	 *
+	 * @param vth					Vth en el punto
+	 * @param rth					Rth en el punto
+	 * @param errores				error relativo de cada objetivo
+	 * @param jacobiano				[objetivo][parámetro] derivada del error respecto a ln R
+	 */
+	private record Paso(double vth, double rth, double[] errores, double[][] jacobiano) {
+		double coste() {
+			double s=0.0;
+			for(double e : errores) s+=e*e;
+			return 0.5*s;
+		}
+
+		double maximoError() {
+			double m=0.0;
+			for(double e : errores) m=Math.max(m, Math.abs(e));
+			return m;
+		}
+	}
+
+	/**
+	 * Evalúa el equivalente y el jacobiano por el método adjunto:
+	 * dy/dR<sub>k</sub>=λᵀ·P<sub>k</sub>·x/R<sub>k</sub>², con Aᵀ·λ=c común a Vth y Rth.
+	 *
+	 * @param f						factorización actualizable
+	 * @param r						valor de todas las resistencias
+	 * @param salidas				0 (Vth) o 1 (Rth) para cada objetivo
+	 * @param objetivos				valor pedido de cada objetivo
+	 * @param escalas				escala del error relativo de cada objetivo
+	 * @return punto evaluado
+	 */
+	private Paso evaluar(FactorizacionActualizable f, double[] r, int[] salidas, double[] objetivos, double[] escalas) {
+		double[] xv=f.resolver(r, sistema.getTerminoIndependiente());
+		double[] xr=f.resolver(r, prueba);
+		double[] y={diferencia(xv), diferencia(xr)};
+		double[] errores=new double[salidas.length];
+		for(int i=0; i<salidas.length; i++) {
+			errores[i]=(y[salidas[i]]-objetivos[i])/escalas[i];
+		}
+		double[] lambda=f.resolverTraspuesta(r, prueba);
+		double[][] jac=new double[salidas.length][parametros.length];
+		for(int k=0; k<parametros.length; k++) {
+			int q=parametros[k];
+			double[] d={sistema.derivada(q, lambda, xv)/r[q], sistema.derivada(q, lambda, xr)/r[q]};
+			for(int i=0; i<salidas.length; i++) {
+				jac[i][k]=d[salidas[i]]/escalas[i];
+			}
+		}
+		return new Paso(y[0], y[1], errores, jac);
+	}
+
+	/**
+	 * Resuelve el paso de Levenberg–Marquardt (JᵀJ+μ·diag(JᵀJ))·δ=-Jᵀe.
+	 *
+	 * @param p						punto actual
+	 * @param mu					amortiguamiento
+	 * @return δ en ln R, o {@code null} si el objetivo ya no depende de las resistencias
+	 */
+	private double[] pasoLM(Paso p, double mu) {
+		int n=parametros.length;
+		double[][] h=new double[n][n];
+		double[] g=new double[n];
+		double escala=0.0;
+		for(int a=0; a<n; a++) {
+			for(int i=0; i<p.errores().length; i++) {
+				g[a]-=p.jacobiano()[i][a]*p.errores()[i];
+				for(int b=0; b<n; b++) h[a][b]+=p.jacobiano()[i][a]*p.jacobiano()[i][b];
+			}
+			escala=Math.max(escala, h[a][a]);
+		}
+		if(!(escala>0.0)) {
+			return null;
+		}
+		for(int a=0; a<n; a++) {
+			h[a][a]+=mu*Math.max(h[a][a], 1e-9*escala);
+		}
+		DecompositionSolver solver=new LUDecomposition(new Array2DRowRealMatrix(h, false)).getSolver();
+		if(!solver.isNonSingular()) {
+			return null;
+		}
+		return solver.solve(new ArrayRealVector(g, false)).toArray();
+	}
+
+	/**
+	 * Factoriza en un nuevo punto base.
+	 *
+	 * @param r						valor de todas las resistencias
+	 * @return factorización actualizable en r
+	 */
+	private FactorizacionActualizable factorizar(double[] r) {
+		factorizaciones++;
+		return sistema.factorizarActualizable(r, parametros);
+	}
+
+	/**
+	 * Valores de las resistencias ajustables.
+	 *
+	 * @param r						valor de todas las resistencias
+	 * @return valores en el orden de las resistencias ajustables
+	 */
+	private double[] seleccion(double[] r) {
+		double[] s=new double[parametros.length];
+		for(int k=0; k<s.length; k++) s[k]=r[parametros[k]];
+		return s;
+	}
+
+	/**
+	 * Identificadores de las resistencias ajustables.
+	 *
+	 * @return ids en el orden de las resistencias ajustables
+	 */
+	private List<String> ids() {
+		List<String> todos=sistema.getIds();
+		return Arrays.stream(parametros).mapToObj(todos::get).toList();
+	}
+
+	/**
+	 * Diferencia de tensiones entre A y B en un vector solución.
+	 *
+	 * @param x						solución del sistema
+	 * @return V(A)-V(B)
+	 */
+	private double diferencia(double[] x) {
+		return (idxA>=0 ? x[idxA] : 0.0)-(idxB>=0 ? x[idxB] : 0.0);
+	}
+}
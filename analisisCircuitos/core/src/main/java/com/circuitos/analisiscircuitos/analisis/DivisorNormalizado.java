@@ -0,0 +1,83 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+/**
+ * Contiene un divisor de tensión realizado con resistencias normalizadas. La razón es la de
+ * la rama inferior: Vsal/Vent=Rinf/(Rsup+Rinf).
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class DivisorNormalizado {
+	private final CombinacionResistencias superior;
+	private final CombinacionResistencias inferior;
+	private final double razonObjetivo;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param superior			Rama superior (entre la entrada y la salida)
+	 * @param inferior			Rama inferior (entre la salida y la referencia)
+	 * @param razonObjetivo		Razón buscada, en (0, 1)
+	 */
+	public DivisorNormalizado(CombinacionResistencias superior, CombinacionResistencias inferior, double razonObjetivo) {
+		this.superior=superior;
+		this.inferior=inferior;
+		this.razonObjetivo=razonObjetivo;
+	}
+
+	/**
+	 * Obtiene la rama superior.
+	 *
+	 * @return superior		Combinación entre la entrada y la salida
+	 */
+	public CombinacionResistencias getSuperior() {
+		return superior;
+	}
+
+	/**
+	 * Obtiene la rama inferior.
+	 *
+	 * @return inferior		Combinación entre la salida y la referencia
+	 */
+	public CombinacionResistencias getInferior() {
+		return inferior;
+	}
+
+	/**
+	 * Obtiene la razón del divisor.
+	 *
+	 * @return Rinf/(Rsup+Rinf)
+	 */
+	public double getRazon() {
+		return inferior.getValor()/(superior.getValor()+inferior.getValor());
+	}
+
+	/**
+	 * Obtiene la razón buscada.
+	 *
+	 * @return razonObjetivo	Razón en (0, 1)
+	 */
+	public double getRazonObjetivo() {
+		return razonObjetivo;
+	}
+
+	/**
+	 * Obtiene el error relativo de la razón.
+	 *
+	 * @return |razón-objetivo|/objetivo
+	 */
+	public double getErrorRelativo() {
+		return Math.abs(getRazon()-razonObjetivo)/razonObjetivo;
+	}
+
+	/**
+	 * Devuelve un String con el divisor.
+	 *
+	 * @return String		Info del divisor.
+	 */
+	@Override
+	public String toString() {
+		return "DivisorNormalizado{sup="+superior.getExpresion()+", inf="+inferior.getExpresion()
+			+", razon="+getRazon()+", error="+getErrorRelativo()+"}";
+	}
+}
@@ -0,0 +1,145 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.util.LUCompleja;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.dominio.util.SistemaAC;
+
+/**
+ * Equivalente de Thevenin/Norton en régimen sinusoidal entre dos nodos. El sistema MNA del
+ * circuito abierto se prepara una sola vez; cada frecuencia se resuelve con una única
+ * factorización y dos términos independientes: las fuentes activas (tensión en vacío) y
+ * 1 A inyectado de A hacia B con las fuentes independientes apagadas (impedancia).
+ * Las frecuencias de un barrido son independientes y se reparten entre los núcleos.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class EquivalenteAC {
+	private static final Logger logger=Logger.getLogger(EquivalenteAC.class.getName());
+	private final SistemaAC sistema;
+	private final int idxA;
+	private final int idxB;
+
+	/**
+	 * Constructor. Abre el circuito entre A y B (quita los componentes de carga conectados
+	 * directamente entre ambos) y prepara el sistema en alterna.
+	 *
+	 * @param circuito					circuito a analizar
+	 * @param nodoA						nodo terminal
+	 * @param nodoB						nodo terminal
+	 * @throws IllegalStateException	si el circuito no es conexo o no contiene los nodos
+	 */
+	public EquivalenteAC(Circuito circuito, int nodoA, int nodoB) {
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		CircuitoBuilder builder=new CircuitoBuilder(circuito.getComponentes().size());
+		for(Componente c : circuito.getComponentes()) {
+			boolean cargaEntreTerminales=c.isCarga() && (
+					(c.getNodo1()==nodoA && c.getNodo2()==nodoB) ||
+					(c.getNodo1()==nodoB && c.getNodo2()==nodoA));
+			if(!cargaEntreTerminales) {
+				builder.con(c);
+			}
+		}
+		Circuito abierto=builder.construir();
+		this.sistema=MatrixUtil.construirSistemaAC(abierto);
+		try {
+			this.idxA=sistema.indiceNodo(nodoA);
+			this.idxB=sistema.indiceNodo(nodoB);
+		} catch(IllegalArgumentException e) {
+			throw new IllegalStateException("No se encuentran los nodos A o B en el circuito abierto", e);
+		}
+	}
+
+	/**
+	 * Calcula el equivalente a una frecuencia.
+	 *
+	 * @param frecuencia				frecuencia (Hz), no negativa
+	 * @throws IllegalArgumentException	si la frecuencia no es válida
+	 * @throws IllegalStateException	si el sistema es singular a esa frecuencia
+	 * @return equivalente en alterna
+	 */
+	public ResultadoEquivalenteAC calcular(double frecuencia) {
+		if(!(frecuencia>=0.0) || Double.isInfinite(frecuencia)) {
+			throw new IllegalArgumentException("Frecuencia no válida: "+frecuencia);
+		}
+		LUCompleja lu=sistema.factorizar(2.0*Math.PI*frecuencia);
+		int n=sistema.getDimension();
+
+		double[] vRe=sistema.getTerminoIndependiente();
+		double[] vIm=new double[n];
+		lu.resolver(vRe, vIm);
+
+		double[] zRe=new double[n];
+		double[] zIm=new double[n];
+		if(idxA>=0) zRe[idxA]+=1.0;
+		if(idxB>=0) zRe[idxB]-=1.0;
+		lu.resolver(zRe, zIm);
+
+		return new ResultadoEquivalenteAC(frecuencia, diferencia(vRe, vIm), diferencia(zRe, zIm));
+	}
+
+	/**
+	 * Barrido logarítmico entre dos frecuencias (diagrama de Bode).
+	 *
+	 * @param fMin						frecuencia inicial (Hz), positiva
+	 * @param fMax						frecuencia final (Hz), mayor que fMin
+	 * @param puntos					número de frecuencias (al menos 2)
+	 * @throws IllegalArgumentException	si el rango o el número de puntos no son válidos
+	 * @return barrido en frecuencia
+	 */
+	public BarridoAC barrer(double fMin, double fMax, int puntos) {
+		if(!(fMin>0.0) || !(fMax>fMin) || Double.isInfinite(fMax) || puntos<2) {
+			throw new IllegalArgumentException("Rango de frecuencias no válido: ["+fMin+", "+fMax+"], "+puntos+" puntos");
+		}
+		double logMin=Math.log(fMin);
+		double paso=(Math.log(fMax)-logMin)/(puntos-1);
+		double[] frecuencias=new double[puntos];
+		for(int k=0; k<puntos; k++) {
+			frecuencias[k]=Math.exp(logMin+k*paso);
+		}
+		return barrer(frecuencias);
+	}
+
+	/**
+	 * Calcula el equivalente en cada una de las frecuencias indicadas.
+	 *
+	 * @param frecuencias				frecuencias (Hz) en orden creciente
+	 * @throws IllegalStateException	si el sistema es singular en alguna de ellas
+	 * @return barrido en frecuencia
+	 */
+	public BarridoAC barrer(double[] frecuencias) {
+		Objects.requireNonNull(frecuencias, "Frecuencias no puede ser null");
+		ResultadoEquivalenteAC[] resultados=new ResultadoEquivalenteAC[frecuencias.length];
+		IntStream.range(0, frecuencias.length).parallel()
+			.forEach(k -> resultados[k]=calcular(frecuencias[k]));
+		logger.log(Level.FINE, "Barrido AC: {0} frecuencias, sistema de dimensión {1} con {2} entradas reactivas",
+				new Object[] {frecuencias.length, sistema.getDimension(), sistema.getEntradasReactivas()});
+		return new BarridoAC(Arrays.asList(resultados));
+	}
+
+	/**
+	 * Diferencia de tensiones complejas entre A y B en un vector solución.
+	 *
+	 * @param re			parte real de la solución
+	 * @param im			parte imaginaria de la solución
+	 * @return V(A)-V(B)
+	 */
+	private Complex diferencia(double[] re, double[] im) {
+		double vaRe=idxA>=0 ? re[idxA] : 0.0;
+		double vaIm=idxA>=0 ? im[idxA] : 0.0;
+		double vbRe=idxB>=0 ? re[idxB] : 0.0;
+		double vbIm=idxB>=0 ? im[idxB] : 0.0;
+		return new Complex(vaRe-vbRe, vaIm-vbIm);
+	}
+}
@@ -0,0 +1,119 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.dominio.util.SistemaNoLineal;
+import com.circuitos.analisiscircuitos.dominio.util.SolucionNodal;
+
+/**
+ * Linealiza un circuito con diodos alrededor de su punto de operación. Cada diodo se
+ * sustituye por su resistencia dinámica rd=1/gd en paralelo con una fuente de corriente
+ * Id-gd·Vd, de modo que el circuito lineal resultante tiene el mismo punto de operación
+ * y, al apagar las fuentes, la resistencia de pequeña señal. Sobre él funcionan sin
+ * cambios Thevenin, Norton y el resto de análisis lineales.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class Linealizacion {
+	private static final Logger logger=Logger.getLogger(Linealizacion.class.getName());
+	private final Circuito linealizado=new Circuito();
+	private final Map<Diodo, double[]> puntos=new IdentityHashMap<>();
+
+	/**
+	 * Constructor. Resuelve el punto de operación por Newton-Raphson y construye el
+	 * circuito linealizado. El resto de componentes son las mismas instancias del original.
+	 *
+	 * @param circuito					circuito con diodos
+	 * @throws IllegalStateException	si el circuito no es conexo o Newton no converge
+	 */
+	public Linealizacion(Circuito circuito) {
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		CircuitoBuilder builder=new CircuitoBuilder(circuito.getComponentes().size());
+		for(Componente c : circuito.getComponentes()) {
+			builder.con(c);
+		}
+		Circuito vista=builder.construir();
+		SolucionNodal sol=MatrixUtil.resolverCircuitoNoLineal(vista);
+		for(Componente c : circuito.getComponentes()) {
+			if(c instanceof Diodo d) {
+				double vd=sol.getTensionNodo(d.getNodo1())-sol.getTensionNodo(d.getNodo2());
+				double gd=d.conductancia(vd)+SistemaNoLineal.GMIN;
+				double id=d.corriente(vd)+SistemaNoLineal.GMIN*vd;
+				puntos.put(d, new double[] {vd, id, gd});
+				linealizado.addComponente(new Resistencia(1.0/gd, d.getNodo1(), d.getNodo2()));
+				linealizado.addComponente(new FuenteCorrienteInd(id-gd*vd, d.getNodo1(), d.getNodo2()));
+			} else {
+				linealizado.addComponente(c);
+			}
+		}
+		logger.log(Level.FINE, "Circuito linealizado en torno a {0} diodos", puntos.size());
+	}
+
+	/**
+	 * Obtiene el circuito linealizado.
+	 *
+	 * @return circuito lineal equivalente en el punto de operación
+	 */
+	public Circuito getCircuitoLinealizado() {
+		return linealizado;
+	}
+
+	/**
+	 * Obtiene la tensión ánodo-cátodo de un diodo en el punto de operación.
+	 *
+	 * @param d							diodo del circuito
+	 * @throws IllegalArgumentException	si el diodo no pertenece al circuito
+	 * @return tensión del diodo (V)
+	 */
+	public double getTensionDiodo(Diodo d) {
+		return punto(d)[0];
+	}
+
+	/**
+	 * Obtiene la corriente de un diodo en el punto de operación.
+	 *
+	 * @param d							diodo del circuito
+	 * @throws IllegalArgumentException	si el diodo no pertenece al circuito
+	 * @return corriente del ánodo al cátodo (A)
+	 */
+	public double getCorrienteDiodo(Diodo d) {
+		return punto(d)[1];
+	}
+
+	/**
+	 * Obtiene la resistencia dinámica (de pequeña señal) de un diodo.
+	 *
+	 * @param d							diodo del circuito
+	 * @throws IllegalArgumentException	si el diodo no pertenece al circuito
+	 * @return rd=1/gd (Ω)
+	 */
+	public double getResistenciaDinamica(Diodo d) {
+		return 1.0/punto(d)[2];
+	}
+
+	/**
+	 * Busca el punto de operación de un diodo (por identidad).
+	 *
+	 * @param d							diodo
+	 * @return {vd, id, gd}
+	 */
+	private double[] punto(Diodo d) {
+		double[] p=puntos.get(d);
+		if(p==null) {
+			throw new IllegalArgumentException("El diodo no pertenece al circuito: "+(d==null ? null : d.getId()));
+		}
+		return p;
+	}
+}
@@ -0,0 +1,358 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.DecompositionSolver;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.dominio.util.SistemaResistivo;
+
+/**
+ * Análisis de peor caso por esquinas de tolerancia. Cada resistencia puede valer R·(1±tol)
+ * y se buscan las combinaciones que maximizan y minimizan Vth, Rth e In. Estas magnitudes
+ * son cocientes de funciones afines en cada resistencia, así que son monótonas en cada una
+ * y los extremos están siempre en una esquina del hipercubo de tolerancias.
+ * <p>
+ * Con pocas resistencias se recorren las 2<sup>N</sup> esquinas en paralelo. Con más, la
+ * búsqueda se guía por sensibilidades adjuntas: una sola resolución del sistema traspuesto
+ * da la derivada de la salida respecto a todas las resistencias. Se empieza en la esquina que
+ * indica el signo de cada derivada. Alrededor de la esquina actual, el modelo lineal ordena
+ * las esquinas vecinas por la pérdida que supone invertir cada resistencia. Solo las
+ * {@code k} mejores se verifican de forma exacta, en paralelo. La búsqueda se repite desde
+ * la mejor esquina verificada, con sus propias sensibilidades, hasta que deja de mejorar.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class PeorCaso {
+	private static final Logger logger=Logger.getLogger(PeorCaso.class.getName());
+	private static final int MAX_EXHAUSTIVO=12;
+	private static final int MAX_RONDAS=8;
+
+	/**
+	 * Magnitud del equivalente que se optimiza.
+	 */
+	public enum Magnitud { VTH, RTH, IN }
+
+	private final SistemaResistivo sistema;
+	private final double tolerancia;
+	private final double[] nominales;
+	private final double[] prueba;
+	private final int idxA;
+	private final int idxB;
+	private final AtomicLong evaluaciones=new AtomicLong();
+
+	/**
+	 * Constructor. Abre el circuito entre A y B (quita los componentes de carga conectados
+	 * directamente entre ambos) y prepara el sistema parametrizado por las resistencias.
+	 *
+	 * @param circuito					circuito a analizar (sin diodos)
+	 * @param nodoA						nodo terminal
+	 * @param nodoB						nodo terminal
+	 * @param tolerancia				tolerancia relativa de las resistencias, en (0, 1)
+	 * @throws IllegalArgumentException	si la tolerancia no es válida
+	 * @throws IllegalStateException	si el circuito no es conexo o no contiene los nodos
+	 */
+	public PeorCaso(Circuito circuito, int nodoA, int nodoB, double tolerancia) {
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		if(!(tolerancia>0.0 && tolerancia<1.0)) {
+			throw new IllegalArgumentException("La tolerancia debe estar entre 0 y 1: "+tolerancia);
+		}
+		CircuitoBuilder builder=new CircuitoBuilder(circuito.getComponentes().size());
+		for(Componente c : circuito.getComponentes()) {
+			boolean cargaEntreTerminales=c.isCarga() && (
+					(c.getNodo1()==nodoA && c.getNodo2()==nodoB) ||
+					(c.getNodo1()==nodoB && c.getNodo2()==nodoA));
+			if(!cargaEntreTerminales && c.getNodo1()!=c.getNodo2()) {
+				builder.con(c);
+			}
+		}
+		Circuito abierto=builder.construir();
+		this.sistema=MatrixUtil.construirSistemaResistivo(abierto);
+		this.tolerancia=tolerancia;
+		this.nominales=sistema.getNominales();
+		try {
+			this.idxA=sistema.indiceNodo(nodoA);
+			this.idxB=sistema.indiceNodo(nodoB);
+		} catch(IllegalArgumentException e) {
+			throw new IllegalStateException("No se encuentran los nodos A o B en el circuito abierto", e);
+		}
+		this.prueba=new double[sistema.getDimension()];
+		if(idxA>=0) prueba[idxA]+=1.0;
+		if(idxB>=0) prueba[idxB]-=1.0;
+	}
+
+	/**
+	 * Busca las esquinas extremas de Vth, Rth e In.
+	 *
+	 * @param candidatos				esquinas que se verifican de forma exacta en cada ronda
+	 * 									de la búsqueda guiada (al menos 1)
+	 * @throws IllegalArgumentException	si el número de candidatos no es válido
+	 * @throws IllegalStateException	si alguna esquina deja el sistema singular
+	 * @return nominal, sensibilidades y esquinas extremas
+	 */
+	public ResultadoPeorCaso calcular(int candidatos) {
+		if(candidatos<1) {
+			throw new IllegalArgumentException("Debe verificarse al menos una esquina: "+candidatos);
+		}
+		evaluaciones.set(0);
+		int N=nominales.length;
+		Evaluacion nominal=evaluar(nominales, true);
+		Map<Magnitud, CasoExtremo> maximos=new EnumMap<>(Magnitud.class);
+		Map<Magnitud, CasoExtremo> minimos=new EnumMap<>(Magnitud.class);
+		boolean exhaustivo=N<=MAX_EXHAUSTIVO;
+		if(exhaustivo) {
+			enumerar(maximos, minimos);
+		} else {
+			for(Magnitud m : Magnitud.values()) {
+				maximos.put(m, buscar(m, true, nominal.sensibilidades()[m.ordinal()], candidatos));
+				minimos.put(m, buscar(m, false, nominal.sensibilidades()[m.ordinal()], candidatos));
+			}
+		}
+		logger.log(Level.FINE, "Peor caso ({0}): {1} resistencias, {2} evaluaciones exactas",
+				new Object[] {exhaustivo ? "exhaustivo" : "guiado por sensibilidades", N, evaluaciones.get()});
+		return new ResultadoPeorCaso(sistema.getIds(), tolerancia, nominal.valores(), nominal.sensibilidades(),
+				maximos, minimos, evaluaciones.get(), exhaustivo);
+	}
+
+	/**
+	 * Recorre todas las esquinas en paralelo.
+	 *
+	 * @param maximos					mapa de salida con los máximos
+	 * @param minimos					mapa de salida con los mínimos
+	 */
+	private void enumerar(Map<Magnitud, CasoExtremo> maximos, Map<Magnitud, CasoExtremo> minimos) {
+		int N=nominales.length;
+		double[][] valores=new double[1<<N][];
+		IntStream.range(0, 1<<N).parallel()
+			.forEach(mascara -> valores[mascara]=evaluar(resistencias(signos(mascara)), false).valores());
+		for(Magnitud m : Magnitud.values()) {
+			int max=0;
+			int min=0;
+			for(int mascara=1; mascara<valores.length; mascara++) {
+				if(valores[mascara][m.ordinal()]>valores[max][m.ordinal()]) max=mascara;
+				if(valores[mascara][m.ordinal()]<valores[min][m.ordinal()]) min=mascara;
+			}
+			maximos.put(m, caso(m, true, valores[max][m.ordinal()], signos(max)));
+			minimos.put(m, caso(m, false, valores[min][m.ordinal()], signos(min)));
+		}
+	}
+
+	/**
+	 * Búsqueda guiada por sensibilidades de la esquina extrema de una magnitud.
+	 *
+	 * @param m							magnitud
+	 * @param maximo					{@code true} para maximizar, {@code false} para minimizar
+	 * @param sensNominal				sensibilidades de la magnitud en el punto nominal
+	 * @param candidatos				esquinas verificadas por ronda
+	 * @return esquina extrema encontrada
+	 */
+	private CasoExtremo buscar(Magnitud m, boolean maximo, double[] sensNominal, int candidatos) {
+		double sentido=maximo ? 1.0 : -1.0;
+		int[] actual=mejorEsquinaLineal(sensNominal, sentido);
+		double valorActual=evaluar(resistencias(actual), false).valores()[m.ordinal()];
+		for(int ronda=0; ronda<MAX_RONDAS; ronda++) {
+			double[] sens=evaluar(resistencias(actual), true).sensibilidades()[m.ordinal()];
+			int[] base=mejorEsquinaLineal(sens, sentido);
+			double[] perdida=new double[base.length];
+			for(int k=0; k<base.length; k++) {
+				perdida[k]=2.0*tolerancia*nominales[k]*Math.abs(sens[k]);
+			}
+			List<int[]> vuelcos=mejoresVuelcos(perdida, candidatos);
+			double[] valores=new double[vuelcos.size()];
+			IntStream.range(0, vuelcos.size()).parallel().forEach(c -> {
+				valores[c]=evaluar(resistencias(volcar(base, vuelcos.get(c))), false).valores()[m.ordinal()];
+			});
+			int mejor=0;
+			for(int c=1; c<valores.length; c++) {
+				if(sentido*valores[c]>sentido*valores[mejor]) mejor=c;
+			}
+			if(!(sentido*valores[mejor]>sentido*valorActual)) break;
+			actual=volcar(base, vuelcos.get(mejor));
+			valorActual=valores[mejor];
+		}
+		return caso(m, maximo, valorActual, actual);
+	}
+
+	/**
+	 * Esquina que el modelo lineal indica como óptima: cada resistencia en el extremo hacia
+	 * el que crece (o decrece) la magnitud.
+	 *
+	 * @param sens						derivada de la magnitud respecto a cada resistencia
+	 * @param sentido					1 para maximizar, -1 para minimizar
+	 * @return signo de cada resistencia
+	 */
+	private static int[] mejorEsquinaLineal(double[] sens, double sentido) {
+		int[] s=new int[sens.length];
+		for(int k=0; k<s.length; k++) {
+			s[k]=sentido*sens[k]>=0.0 ? 1 : -1;
+		}
+		return s;
+	}
+
+	/**
+	 * Genera, en orden de pérdida lineal creciente, los conjuntos de resistencias que se
+	 * invierten respecto a la mejor esquina lineal (el primero es el vacío). Es el
+	 * algoritmo clásico de los k subconjuntos de menor suma con una cola de prioridad.
+	 *
+	 * @param perdida					pérdida lineal de invertir cada resistencia
+	 * @param k							número de conjuntos
+	 * @return conjuntos de índices a invertir
+	 */
+	private static List<int[]> mejoresVuelcos(double[] perdida, int k) {
+		int N=perdida.length;
+		Integer[] orden=new Integer[N];
+		for(int i=0; i<N; i++) orden[i]=i;
+		Arrays.sort(orden, Comparator.comparingDouble(i -> perdida[i]));
+		List<int[]> resultado=new ArrayList<>();
+		resultado.add(new int[0]);
+		PriorityQueue<Combinacion> cola=new PriorityQueue<>(Comparator.comparingDouble(Combinacion::suma));
+		if(N>0) cola.add(new Combinacion(perdida[orden[0]], 0, new int[] {0}));
+		while(resultado.size()<k && !cola.isEmpty()) {
+			Combinacion e=cola.poll();
+			int[] indices=new int[e.elegidos().length];
+			for(int i=0; i<indices.length; i++) indices[i]=orden[e.elegidos()[i]];
+			resultado.add(indices);
+			int siguiente=e.ultimo()+1;
+			if(siguiente<N) {
+				int[] anadir=Arrays.copyOf(e.elegidos(), e.elegidos().length+1);
+				anadir[anadir.length-1]=siguiente;
+				cola.add(new Combinacion(e.suma()+perdida[orden[siguiente]], siguiente, anadir));
+				int[] sustituir=e.elegidos().clone();
+				sustituir[sustituir.length-1]=siguiente;
+				cola.add(new Combinacion(e.suma()-perdida[orden[e.ultimo()]]+perdida[orden[siguiente]], siguiente, sustituir));
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Conjunto de resistencias invertidas en la cola de {@link #mejoresVuelcos}.
+	 *
+	 * @param suma					pérdida lineal total
+	 * @param ultimo				posición (en orden de pérdida) del último elemento
+	 * @param elegidos				posiciones elegidas, en orden creciente
+	 */
+	private record Combinacion(double suma, int ultimo, int[] elegidos) { }
+
+	/**
+	 * Invierte el signo de las resistencias indicadas.
+	 *
+	 * @param base						esquina de partida
+	 * @param indices					resistencias a invertir
+	 * @return nueva esquina
+	 */
+	private static int[] volcar(int[] base, int[] indices) {
+		int[] s=base.clone();
+		for(int i : indices) s[i]=-s[i];
+		return s;
+	}
+
+	/**
+	 * Signos de la esquina codificada en una máscara (bit a 1: +tol).
+	 *
+	 * @param mascara					máscara de bits
+	 * @return signo de cada resistencia
+	 */
+	private int[] signos(int mascara) {
+		int[] s=new int[nominales.length];
+		for(int k=0; k<s.length; k++) {
+			s[k]=((mascara>>k)&1)==1 ? 1 : -1;
+		}
+		return s;
+	}
+
+	/**
+	 * Valores de resistencia de una esquina.
+	 *
+	 * @param signos					signo de cada resistencia
+	 * @return R·(1±tol)
+	 */
+	private double[] resistencias(int[] signos) {
+		double[] r=new double[signos.length];
+		for(int k=0; k<r.length; k++) {
+			r[k]=nominales[k]*(1.0+signos[k]*tolerancia);
+		}
+		return r;
+	}
+
+	/**
+	 * Crea el resultado de una esquina extrema.
+	 *
+	 * @param m						magnitud
+	 * @param maximo				{@code true} si es el máximo
+	 * @param valor					valor exacto en la esquina
+	 * @param signos				signo de cada resistencia
+	 * @return esquina extrema
+	 */
+	private CasoExtremo caso(Magnitud m, boolean maximo, double valor, int[] signos) {
+		return new CasoExtremo(m, maximo, valor, resistencias(signos), signos);
+	}
+
+	/**
+	 * Valores (y, opcionalmente, sensibilidades) del equivalente en un punto.
+	 *
+	 * @param valores				{Vth, Rth, In}
+	 * @param sensibilidades		[magnitud][resistencia] derivada respecto a R, o {@code null}
+	 */
+	private record Evaluacion(double[] valores, double[][] sensibilidades) { }
+
+	/**
+	 * Resuelve el equivalente exacto para unos valores de resistencia. Con sensibilidades,
+	 * resuelve además el sistema adjunto Aᵀ·λ=c (c selecciona V(A)-V(B)), común a Vth y Rth:
+	 * dy/dG<sub>k</sub>=-λᵀ·P<sub>k</sub>·x y dy/dR<sub>k</sub>=-dy/dG<sub>k</sub>/R<sub>k</sub>².
+	 *
+	 * @param r						valor de cada resistencia
+	 * @param conSensibilidades		{@code true} para calcular también las derivadas
+	 * @return evaluación
+	 */
+	private Evaluacion evaluar(double[] r, boolean conSensibilidades) {
+		evaluaciones.incrementAndGet();
+		DecompositionSolver solver=sistema.factorizar(r, false);
+		double[] xv=solver.solve(new ArrayRealVector(sistema.getTerminoIndependiente(), false)).toArray();
+		double[] xr=solver.solve(new ArrayRealVector(prueba, false)).toArray();
+		double vth=diferencia(xv);
+		double rth=diferencia(xr);
+		double[] valores={vth, rth, vth/rth};
+		if(!conSensibilidades) {
+			return new Evaluacion(valores, null);
+		}
+		double[] lambda=sistema.factorizar(r, true).solve(new ArrayRealVector(prueba, false)).toArray();
+		double[][] sens=new double[3][r.length];
+		for(int k=0; k<r.length; k++) {
+			double r2=r[k]*r[k];
+			double dv=sistema.derivada(k, lambda, xv)/r2;
+			double dr=sistema.derivada(k, lambda, xr)/r2;
+			sens[Magnitud.VTH.ordinal()][k]=dv;
+			sens[Magnitud.RTH.ordinal()][k]=dr;
+			sens[Magnitud.IN.ordinal()][k]=(dv*rth-vth*dr)/(rth*rth);
+		}
+		return new Evaluacion(valores, sens);
+	}
+
+	/**
+	 * Diferencia de tensiones entre A y B en un vector solución.
+	 *
+	 * @param x						solución del sistema
+	 * @return V(A)-V(B)
+	 */
+	private double diferencia(double[] x) {
+		return (idxA>=0 ? x[idxA] : 0.0)-(idxB>=0 ? x[idxB] : 0.0);
+	}
+}
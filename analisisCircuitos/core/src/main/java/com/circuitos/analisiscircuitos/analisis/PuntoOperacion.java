@@ -0,0 +1,125 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Bobina;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.dominio.util.SolucionNodal;
+import com.circuitos.analisiscircuitos.dominio.util.StampUtil;
+
+/**
+ * Calcula el punto de operación en continua de un circuito completo con una única
+ * resolución del sistema nodal: tensiones de nodo, corriente y potencia de cada componente,
+ * y comprobación de KCL y del balance de potencias. Si hay diodos, el sistema se resuelve
+ * por Newton-Raphson.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class PuntoOperacion {
+	private static final Logger logger=Logger.getLogger(PuntoOperacion.class.getName());
+	private final Circuito circuito;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param circuito		circuito completo (incluidas las cargas)
+	 */
+	public PuntoOperacion(Circuito circuito) {
+		this.circuito=Objects.requireNonNull(circuito, "Circuito no puede ser null");
+	}
+
+	/**
+	 * Resuelve el circuito una sola vez y calcula el resultado de cada componente.
+	 * Trabaja sobre una vista del circuito con los mismos componentes para no alterar
+	 * el mapa de nodos del circuito original.
+	 *
+	 * @throws IllegalStateException	si el circuito no es conexo o el sistema es singular
+	 * @return punto de operación del circuito
+	 */
+	public ResultadoPuntoOperacion calcular() {
+		CircuitoBuilder builder=new CircuitoBuilder(circuito.getComponentes().size());
+		for(Componente c : circuito.getComponentes()) {
+			builder.con(c);
+		}
+		Circuito vista=builder.construir();
+		boolean noLineal=vista.getComponentes().stream().anyMatch(c -> c instanceof Diodo);
+		SolucionNodal sol=noLineal ? MatrixUtil.resolverCircuitoNoLineal(vista)
+				: MatrixUtil.resolverCircuitoNodalCompleto(vista);
+
+		Map<Integer, Double> tensiones=new HashMap<>();
+		for(Integer nodo : sol.getNodos().keySet()) {
+			tensiones.put(nodo, sol.getTensionNodo(nodo));
+		}
+		List<ResultadoComponente> resultados=new ArrayList<>();
+		Map<Integer, Double> residuos=new HashMap<>();
+		double balance=0.0;
+		for(Componente c : vista.getComponentes()) {
+			if(c instanceof Tierra) continue;
+			double v1=sol.getTensionNodo(c.getNodo1());
+			double v2=sol.getTensionNodo(c.getNodo2());
+			double corriente=calcularCorriente(c, sol, v1, v2);
+			ResultadoComponente r=new ResultadoComponente(c.getId(), c.getTipo(),
+					c.getNodo1(), c.getNodo2(), v1-v2, corriente);
+			resultados.add(r);
+			residuos.merge(c.getNodo1(), corriente, Double::sum);
+			residuos.merge(c.getNodo2(), -corriente, Double::sum);
+			balance+=r.getPotencia();
+		}
+		double errorKcl=residuos.values().stream().mapToDouble(Math::abs).max().orElse(0.0);
+		logger.log(Level.FINE, "Punto de operación: {0} componentes, errorKcl={1}, balance={2}",
+				new Object[] {resultados.size(), errorKcl, balance});
+		return new ResultadoPuntoOperacion(tensiones, resultados, errorKcl, balance);
+	}
+
+	/**
+	 * Calcula la corriente (de nodo 1 a nodo 2) que atraviesa un componente a partir de la
+	 * solución nodal. Sigue los mismos criterios de estampado que {@link MatrixUtil}.
+	 *
+	 * @param c			componente
+	 * @param sol		solución nodal completa
+	 * @param v1		tensión del nodo 1
+	 * @param v2		tensión del nodo 2
+	 * @return corriente del componente
+	 */
+	private double calcularCorriente(Componente c, SolucionNodal sol, double v1, double v2) {
+		if(c instanceof Resistencia r) {
+			return (v1-v2)/r.getValor();
+		}
+		if(c instanceof FuenteCorrienteInd fci) {
+			return fci.getValor();
+		}
+		if(c instanceof Diodo d) {
+			return d.corriente(v1-v2);
+		}
+		if(c instanceof FuenteTensionInd || c instanceof FuenteTensionDependiente || c instanceof Bobina) {
+			//La variable de la MNA circula del nodo positivo (2) al negativo (1)
+			return -sol.getCorrienteFuente(c);
+		}
+		if(c instanceof FuenteCorrienteDependiente fcd) {
+			double vCtrl=sol.getTensionNodo(fcd.getCtrlPos())-sol.getTensionNodo(fcd.getCtrlNeg());
+			if(fcd.getControlType()==FuenteCorrienteDependiente.ControlType.TENSION) {
+				return fcd.getValor()*vCtrl;
+			}
+			return StampUtil.resistenciaControl(circuito, fcd)
+					.map(rCtrl -> fcd.getValor()*vCtrl/rCtrl.getValor()).orElse(0.0);
+		}
+		return 0.0;
+	}
+}
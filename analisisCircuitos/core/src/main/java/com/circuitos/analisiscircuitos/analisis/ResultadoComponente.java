@@ -0,0 +1,110 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+/**
+ * Contiene la tensión, corriente y potencia de un componente en el punto de operación.
+ * Criterio de signos pasivo: V=V(nodo1)-V(nodo2), I circula de nodo 1 a nodo 2 a través
+ * del componente y P=V·I es la potencia absorbida (negativa si el componente la entrega).
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ResultadoComponente {
+	private final String id;
+	private final String tipo;
+	private final int nodo1;
+	private final int nodo2;
+	private final double tension;
+	private final double corriente;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param id			Id del componente
+	 * @param tipo			Tipo de componente
+	 * @param nodo1			Nodo 1 del componente
+	 * @param nodo2			Nodo 2 del componente
+	 * @param tension		Tensión V(nodo1)-V(nodo2)
+	 * @param corriente		Corriente de nodo 1 a nodo 2
+	 */
+	public ResultadoComponente(String id, String tipo, int nodo1, int nodo2, double tension, double corriente) {
+		this.id=id;
+		this.tipo=tipo;
+		this.nodo1=nodo1;
+		this.nodo2=nodo2;
+		this.tension=tension;
+		this.corriente=corriente;
+	}
+
+	/**
+	 * Obtiene el Id del componente.
+	 *
+	 * @return id		Id del componente
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Obtiene el tipo de componente.
+	 *
+	 * @return tipo		Tipo de componente
+	 */
+	public String getTipo() {
+		return tipo;
+	}
+
+	/**
+	 * Obtiene el nodo 1 del componente.
+	 *
+	 * @return nodo1	Nodo 1
+	 */
+	public int getNodo1() {
+		return nodo1;
+	}
+
+	/**
+	 * Obtiene el nodo 2 del componente.
+	 *
+	 * @return nodo2	Nodo 2
+	 */
+	public int getNodo2() {
+		return nodo2;
+	}
+
+	/**
+	 * Obtiene la tensión en bornes del componente.
+	 *
+	 * @return tension	Tensión V(nodo1)-V(nodo2)
+	 */
+	public double getTension() {
+		return tension;
+	}
+
+	/**
+	 * Obtiene la corriente que atraviesa el componente.
+	 *
+	 * @return corriente	Corriente de nodo 1 a nodo 2
+	 */
+	public double getCorriente() {
+		return corriente;
+	}
+
+	/**
+	 * Obtiene la potencia absorbida por el componente.
+	 *
+	 * @return potencia		Potencia absorbida (negativa si se entrega)
+	 */
+	public double getPotencia() {
+		return tension*corriente;
+	}
+
+	/**
+	 * Devuelve un String con la información del componente en el punto de operación.
+	 *
+	 * @return String		Info de tensión, corriente y potencia.
+	 */
+	@Override
+	public String toString() {
+		return "ResultadoComponente{id="+id+", V="+tension+", I="+corriente+", P="+getPotencia()+"}";
+	}
+}
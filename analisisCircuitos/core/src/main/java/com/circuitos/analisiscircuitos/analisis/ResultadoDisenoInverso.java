@@ -0,0 +1,153 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Contiene el resultado del diseño inverso: el valor inicial y ajustado de cada resistencia
+ * elegida, el equivalente obtenido con los valores ajustados y los datos de la convergencia.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ResultadoDisenoInverso {
+	private final List<String> ids;
+	private final double[] iniciales;
+	private final double[] valores;
+	private final double vthObjetivo;
+	private final double rthObjetivo;
+	private final double vth;
+	private final double rth;
+	private final int iteraciones;
+	private final int factorizaciones;
+	private final boolean convergido;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param ids				Identificador de cada resistencia ajustada
+	 * @param iniciales			Valor inicial de cada resistencia (Ω)
+	 * @param valores			Valor ajustado de cada resistencia (Ω)
+	 * @param vthObjetivo		Vth pedida (NaN si era libre)
+	 * @param rthObjetivo		Rth pedida (NaN si era libre)
+	 * @param vth				Vth con los valores ajustados
+	 * @param rth				Rth con los valores ajustados
+	 * @param iteraciones		Iteraciones de Levenberg–Marquardt
+	 * @param factorizaciones	Factorizaciones completas del sistema
+	 * @param convergido		{@code true} si se alcanzó el objetivo
+	 */
+	public ResultadoDisenoInverso(List<String> ids, double[] iniciales, double[] valores, double vthObjetivo,
+			double rthObjetivo, double vth, double rth, int iteraciones, int factorizaciones, boolean convergido) {
+		this.ids=List.copyOf(ids);
+		this.iniciales=iniciales.clone();
+		this.valores=valores.clone();
+		this.vthObjetivo=vthObjetivo;
+		this.rthObjetivo=rthObjetivo;
+		this.vth=vth;
+		this.rth=rth;
+		this.iteraciones=iteraciones;
+		this.factorizaciones=factorizaciones;
+		this.convergido=convergido;
+	}
+	
+	/**
+	 * Obtiene el identificador de cada resistencia ajustada.
+	 * 
+	 * @return ids			En el orden en que se eligieron
+	 */
+	public List<String> getIds() {
+		return ids;
+	}
+	
+	/**
+	 * Obtiene el valor inicial de cada resistencia.
+	 * 
+	 * @return iniciales	Valores (Ω)
+	 */
+	public double[] getValoresIniciales() {
+		return iniciales.clone();
+	}
+	
+	/**
+	 * Obtiene el valor ajustado de cada resistencia.
+	 * 
+	 * @return valores		Valores (Ω)
+	 */
+	public double[] getValores() {
+		return valores.clone();
+	}
+	
+	/**
+	 * Obtiene la Vth pedida.
+	 * 
+	 * @return vthObjetivo	Tensión (NaN si era libre)
+	 */
+	public double getVthObjetivo() {
+		return vthObjetivo;
+	}
+	
+	/**
+	 * Obtiene la Rth pedida.
+	 * 
+	 * @return rthObjetivo	Resistencia (NaN si era libre)
+	 */
+	public double getRthObjetivo() {
+		return rthObjetivo;
+	}
+	
+	/**
+	 * Obtiene la Vth con los valores ajustados.
+	 * 
+	 * @return vth			Tensión de Thevenin
+	 */
+	public double getVth() {
+		return vth;
+	}
+	
+	/**
+	 * Obtiene la Rth con los valores ajustados.
+	 * 
+	 * @return rth			Resistencia de Thevenin
+	 */
+	public double getRth() {
+		return rth;
+	}
+	
+	/**
+	 * Obtiene el número de iteraciones realizadas.
+	 * 
+	 * @return iteraciones	Pasos de Levenberg–Marquardt
+	 */
+	public int getIteraciones() {
+		return iteraciones;
+	}
+	
+	/**
+	 * Obtiene el número de factorizaciones completas del sistema.
+	 * 
+	 * @return factorizaciones	El resto de pasos usan actualizaciones de bajo rango
+	 */
+	public int getFactorizaciones() {
+		return factorizaciones;
+	}
+	
+	/**
+	 * Indica si se alcanzó el objetivo.
+	 * 
+	 * @return {@code true} si el error relativo quedó por debajo de la tolerancia
+	 */
+	public boolean isConvergido() {
+		return convergido;
+	}
+	
+	/**
+	 * Devuelve un String con los valores ajustados y el equivalente obtenido.
+	 * 
+	 * @return String		Info del diseño inverso.
+	 */
+	@Override
+	public String toString() {
+		return "ResultadoDisenoInverso{ids="+ids+", valores="+Arrays.toString(valores)+", vth="+vth+", rth="+rth
+				+", iteraciones="+iteraciones+", convergido="+convergido+"}";
+	}
+}
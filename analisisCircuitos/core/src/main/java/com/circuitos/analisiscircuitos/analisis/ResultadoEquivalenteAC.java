@@ -0,0 +1,121 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import org.apache.commons.math3.complex.Complex;
+
+/**
+ * Equivalente de Thevenin/Norton en régimen sinusoidal a una frecuencia: tensión de
+ * Thevenin e impedancia vistas entre dos nodos. La corriente de Norton y la admitancia
+ * se derivan de ellas (In=Vth/Zth, Yn=1/Zth).
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ResultadoEquivalenteAC {
+	private final double frecuencia;
+	private final Complex vth;
+	private final Complex zth;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param frecuencia		Frecuencia del análisis (Hz)
+	 * @param vth				Fasor de la tensión de Thevenin (V)
+	 * @param zth				Impedancia de Thevenin (Ω)
+	 */
+	public ResultadoEquivalenteAC(double frecuencia, Complex vth, Complex zth) {
+		this.frecuencia=frecuencia;
+		this.vth=vth;
+		this.zth=zth;
+	}
+
+	/**
+	 * Obtiene la frecuencia del análisis.
+	 *
+	 * @return frecuencia		Frecuencia (Hz)
+	 */
+	public double getFrecuencia() {
+		return frecuencia;
+	}
+
+	/**
+	 * Obtiene el fasor de la tensión de Thevenin.
+	 *
+	 * @return vth		Tensión de Thevenin (V)
+	 */
+	public Complex getVth() {
+		return vth;
+	}
+
+	/**
+	 * Obtiene la impedancia de Thevenin.
+	 *
+	 * @return zth		Impedancia de Thevenin (Ω)
+	 */
+	public Complex getZth() {
+		return zth;
+	}
+
+	/**
+	 * Obtiene el fasor de la corriente de Norton.
+	 *
+	 * @return in		Corriente de Norton (A)
+	 */
+	public Complex getIn() {
+		return vth.divide(zth);
+	}
+
+	/**
+	 * Obtiene la admitancia de Norton.
+	 *
+	 * @return yn		Admitancia de Norton (S)
+	 */
+	public Complex getYn() {
+		return zth.reciprocal();
+	}
+
+	/**
+	 * Obtiene el módulo de la tensión de Thevenin.
+	 *
+	 * @return |Vth| (V)
+	 */
+	public double getVthModulo() {
+		return vth.abs();
+	}
+
+	/**
+	 * Obtiene la fase de la tensión de Thevenin.
+	 *
+	 * @return fase de Vth (grados)
+	 */
+	public double getVthFase() {
+		return Math.toDegrees(vth.getArgument());
+	}
+
+	/**
+	 * Obtiene el módulo de la impedancia de Thevenin.
+	 *
+	 * @return |Zth| (Ω)
+	 */
+	public double getZthModulo() {
+		return zth.abs();
+	}
+
+	/**
+	 * Obtiene la fase de la impedancia de Thevenin.
+	 *
+	 * @return fase de Zth (grados)
+	 */
+	public double getZthFase() {
+		return Math.toDegrees(zth.getArgument());
+	}
+
+	/**
+	 * Devuelve un String con el equivalente a la frecuencia del análisis.
+	 *
+	 * @return String		Info del equivalente en alterna.
+	 */
+	@Override
+	public String toString() {
+		return "ResultadoEquivalenteAC{f="+frecuencia+", vth="+vth+", zth="+zth+"}";
+	}
+}
@@ -0,0 +1,140 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contiene el resultado del análisis de peor caso: valores nominales de Vth, Rth e In, su
+ * sensibilidad a cada resistencia en el punto nominal y las esquinas de tolerancia en las
+ * que cada una es máxima y mínima.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ResultadoPeorCaso {
+	private final List<String> ids;
+	private final double tolerancia;
+	private final double[] nominal;
+	private final double[][] sensibilidades;
+	private final Map<PeorCaso.Magnitud, CasoExtremo> maximos;
+	private final Map<PeorCaso.Magnitud, CasoExtremo> minimos;
+	private final long evaluaciones;
+	private final boolean exhaustivo;
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param ids				Identificador de cada resistencia
+	 * @param tolerancia		Tolerancia relativa aplicada
+	 * @param nominal			{Vth, Rth, In} con los valores nominales
+	 * @param sensibilidades	[magnitud][resistencia] derivada respecto a R en el nominal
+	 * @param maximos			Esquina de máximo de cada magnitud
+	 * @param minimos			Esquina de mínimo de cada magnitud
+	 * @param evaluaciones		Número de resoluciones exactas realizadas
+	 * @param exhaustivo		{@code true} si se recorrieron todas las esquinas
+	 */
+	public ResultadoPeorCaso(List<String> ids, double tolerancia, double[] nominal, double[][] sensibilidades,
+			Map<PeorCaso.Magnitud, CasoExtremo> maximos, Map<PeorCaso.Magnitud, CasoExtremo> minimos,
+			long evaluaciones, boolean exhaustivo) {
+		this.ids=List.copyOf(ids);
+		this.tolerancia=tolerancia;
+		this.nominal=nominal.clone();
+		this.sensibilidades=sensibilidades;
+		this.maximos=new EnumMap<>(maximos);
+		this.minimos=new EnumMap<>(minimos);
+		this.evaluaciones=evaluaciones;
+		this.exhaustivo=exhaustivo;
+	}
+	
+	/**
+	 * Obtiene el valor nominal de una magnitud.
+	 * 
+	 * @param m				Magnitud
+	 * @return valor con las resistencias nominales
+	 */
+	public double getNominal(PeorCaso.Magnitud m) {
+		return nominal[m.ordinal()];
+	}
+	
+	/**
+	 * Obtiene la esquina en la que una magnitud es máxima.
+	 * 
+	 * @param m				Magnitud
+	 * @return esquina de máximo
+	 */
+	public CasoExtremo getMaximo(PeorCaso.Magnitud m) {
+		return maximos.get(m);
+	}
+	
+	/**
+	 * Obtiene la esquina en la que una magnitud es mínima.
+	 * 
+	 * @param m				Magnitud
+	 * @return esquina de mínimo
+	 */
+	public CasoExtremo getMinimo(PeorCaso.Magnitud m) {
+		return minimos.get(m);
+	}
+	
+	/**
+	 * Obtiene la sensibilidad de una magnitud a cada resistencia en el punto nominal.
+	 * 
+	 * @param m				Magnitud
+	 * @return derivadas respecto a cada R, en el orden de {@link #getIds()}
+	 */
+	public double[] getSensibilidades(PeorCaso.Magnitud m) {
+		return sensibilidades[m.ordinal()].clone();
+	}
+	
+	/**
+	 * Obtiene el identificador de cada resistencia.
+	 * 
+	 * @return ids			Identificadores
+	 */
+	public List<String> getIds() {
+		return ids;
+	}
+	
+	/**
+	 * Obtiene la tolerancia relativa aplicada.
+	 * 
+	 * @return tolerancia	Tolerancia (p. ej. 0.05)
+	 */
+	public double getTolerancia() {
+		return tolerancia;
+	}
+	
+	/**
+	 * Obtiene el número de resoluciones exactas del sistema.
+	 * 
+	 * @return evaluaciones	Resoluciones realizadas
+	 */
+	public long getEvaluaciones() {
+		return evaluaciones;
+	}
+	
+	/**
+	 * Indica si se recorrieron todas las esquinas.
+	 * 
+	 * @return {@code true} si la búsqueda fue exhaustiva
+	 */
+	public boolean isExhaustivo() {
+		return exhaustivo;
+	}
+	
+	/**
+	 * Devuelve un String con los intervalos de cada magnitud.
+	 * 
+	 * @return String		Info del peor caso.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb=new StringBuilder("ResultadoPeorCaso{tol="+tolerancia);
+		for(PeorCaso.Magnitud m : PeorCaso.Magnitud.values()) {
+			sb.append(", ").append(m).append("=[").append(minimos.get(m).getValor())
+				.append(", ").append(maximos.get(m).getValor()).append(']');
+		}
+		return sb.append(", evaluaciones=").append(evaluaciones).append('}').toString();
+	}
+}
@@ -0,0 +1,82 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contiene el punto de operación en continua de un circuito: tensiones de todos los nodos,
+ * tensión, corriente y potencia de cada componente y las comprobaciones de KCL y de
+ * balance de potencias.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ResultadoPuntoOperacion {
+	private final Map<Integer, Double> tensionesNodo;
+	private final List<ResultadoComponente> componentes;
+	private final double errorKcl;
+	private final double balancePotencia;
+
+	/**
+	 * Constructor para el punto de operación.
+	 *
+	 * @param tensionesNodo			Tensión de cada nodo respecto a la referencia
+	 * @param componentes			Resultado por componente
+	 * @param errorKcl				Máximo residuo de KCL en valor absoluto (A)
+	 * @param balancePotencia		Suma de potencias absorbidas (W), idealmente 0
+	 */
+	public ResultadoPuntoOperacion(Map<Integer, Double> tensionesNodo, List<ResultadoComponente> componentes,
+			double errorKcl, double balancePotencia) {
+		this.tensionesNodo=Map.copyOf(tensionesNodo);
+		this.componentes=List.copyOf(componentes);
+		this.errorKcl=errorKcl;
+		this.balancePotencia=balancePotencia;
+	}
+
+	/**
+	 * Obtiene las tensiones de cada nodo del circuito.
+	 *
+	 * @return mapa nodo -> tensión
+	 */
+	public Map<Integer, Double> getTensionesNodo() {
+		return tensionesNodo;
+	}
+
+	/**
+	 * Obtiene los resultados de cada componente.
+	 *
+	 * @return lista de resultados por componente
+	 */
+	public List<ResultadoComponente> getComponentes() {
+		return componentes;
+	}
+
+	/**
+	 * Obtiene el máximo residuo de la ley de Kirchhoff de corrientes en los nodos.
+	 *
+	 * @return errorKcl		Residuo máximo (A)
+	 */
+	public double getErrorKcl() {
+		return errorKcl;
+	}
+
+	/**
+	 * Obtiene la suma de las potencias absorbidas por todos los componentes.
+	 *
+	 * @return balancePotencia		Suma de potencias (W)
+	 */
+	public double getBalancePotencia() {
+		return balancePotencia;
+	}
+
+	/**
+	 * Devuelve un String con el resumen del punto de operación.
+	 *
+	 * @return String		Info del punto de operación.
+	 */
+	@Override
+	public String toString() {
+		return "ResultadoPuntoOperacion{nodos="+tensionesNodo.size()+", componentes="+componentes.size()
+				+", errorKcl="+errorKcl+", balancePotencia="+balancePotencia+"}";
+	}
+}
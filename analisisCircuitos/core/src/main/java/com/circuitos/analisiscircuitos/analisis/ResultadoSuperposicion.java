@@ -0,0 +1,53 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.List;
+
+/**
+ * Contiene el resultado del análisis por superposición: la aportación de cada fuente
+ * independiente a Vth y a las tensiones de nodo, y la Vth total (suma de aportaciones).
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ResultadoSuperposicion {
+	private final List<ContribucionFuente> contribuciones;
+	private final double vth;
+
+	/**
+	 * Constructor para el análisis por superposición.
+	 *
+	 * @param contribuciones	Aportación de cada fuente independiente
+	 */
+	public ResultadoSuperposicion(List<ContribucionFuente> contribuciones) {
+		this.contribuciones=List.copyOf(contribuciones);
+		this.vth=contribuciones.stream().mapToDouble(ContribucionFuente::getVth).sum();
+	}
+
+	/**
+	 * Obtiene la aportación de cada fuente independiente.
+	 *
+	 * @return lista de aportaciones
+	 */
+	public List<ContribucionFuente> getContribuciones() {
+		return contribuciones;
+	}
+
+	/**
+	 * Obtiene la tensión de Thevenin total (suma de las aportaciones).
+	 *
+	 * @return vth		Tensión de Thevenin
+	 */
+	public double getVth() {
+		return vth;
+	}
+
+	/**
+	 * Devuelve un String con el resumen de la superposición.
+	 *
+	 * @return String		Info de fuentes y Vth total.
+	 */
+	@Override
+	public String toString() {
+		return "ResultadoSuperposicion{fuentes="+contribuciones.size()+", vth="+vth+"}";
+	}
+}
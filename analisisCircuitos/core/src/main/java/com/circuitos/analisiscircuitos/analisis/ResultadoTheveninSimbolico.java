@@ -0,0 +1,168 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.List;
+
+import com.circuitos.analisiscircuitos.dominio.util.EvaluadorCompilado;
+import com.circuitos.analisiscircuitos.dominio.util.Polinomio;
+
+/**
+ * Contiene el equivalente de Thevenin en forma cerrada: Vth y Rth como fracciones de
+ * polinomios en los valores de los componentes, el evaluador compilado de ambas y su valor
+ * con los valores nominales del circuito. Los parámetros del evaluador siguen el orden de
+ * {@link #getSimbolos()}.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ResultadoTheveninSimbolico {
+	private final List<String> simbolos;
+	private final double[] valores;
+	private final Polinomio numeradorVth;
+	private final Polinomio denominadorVth;
+	private final Polinomio numeradorRth;
+	private final Polinomio denominadorRth;
+	private final EvaluadorCompilado evaluador;
+	private final double vth;
+	private final double rth;
+
+	/**
+	 * Constructor. Evalúa las fórmulas con los valores nominales.
+	 *
+	 * @param simbolos			nombre de cada parámetro (identificador del componente)
+	 * @param valores			valor nominal de cada parámetro
+	 * @param numeradorVth		numerador de Vth
+	 * @param denominadorVth	denominador de Vth
+	 * @param numeradorRth		numerador de Rth
+	 * @param denominadorRth	denominador de Rth
+	 * @param evaluador			evaluador compilado con las salidas {Vth, Rth}
+	 */
+	public ResultadoTheveninSimbolico(List<String> simbolos, double[] valores, Polinomio numeradorVth,
+			Polinomio denominadorVth, Polinomio numeradorRth, Polinomio denominadorRth, EvaluadorCompilado evaluador) {
+		this.simbolos=List.copyOf(simbolos);
+		this.valores=valores.clone();
+		this.numeradorVth=numeradorVth;
+		this.denominadorVth=denominadorVth;
+		this.numeradorRth=numeradorRth;
+		this.denominadorRth=denominadorRth;
+		this.evaluador=evaluador;
+		double[] nominal=evaluador.evaluar(this.valores);
+		this.vth=nominal[0];
+		this.rth=nominal[1];
+	}
+
+	/**
+	 * Obtiene la fórmula de la tensión de Thevenin, p. ej. "R2·V1/(R1 + R2)".
+	 *
+	 * @return Vth en función de los símbolos
+	 */
+	public String getFormulaVth() {
+		return formatear(numeradorVth, denominadorVth);
+	}
+
+	/**
+	 * Obtiene la fórmula de la resistencia de Thevenin, p. ej. "R1·R2/(R1 + R2)".
+	 *
+	 * @return Rth en función de los símbolos
+	 */
+	public String getFormulaRth() {
+		return formatear(numeradorRth, denominadorRth);
+	}
+
+	/**
+	 * Evalúa Vth y Rth para otros valores de los componentes.
+	 *
+	 * @param parametros		valor de cada símbolo (orden de {@link #getSimbolos()})
+	 * @throws IllegalArgumentException si el número de parámetros no coincide
+	 * @return equivalente de Thevenin con esos valores
+	 */
+	public ResultadoThevenin evaluar(double[] parametros) {
+		if(parametros.length!=simbolos.size()) {
+			throw new IllegalArgumentException("Se esperaban "+simbolos.size()+" parámetros: "+parametros.length);
+		}
+		double[] r=evaluador.evaluar(parametros);
+		return new ResultadoThevenin(r[0], r[1]);
+	}
+
+	/**
+	 * Obtiene la posición de un símbolo en el vector de parámetros.
+	 *
+	 * @param simbolo			identificador del componente
+	 * @return índice o -1 si el componente no aparece
+	 */
+	public int indiceSimbolo(String simbolo) {
+		return simbolos.indexOf(simbolo);
+	}
+
+	/**
+	 * Obtiene el evaluador compilado (salidas {Vth, Rth}) para evaluaciones masivas.
+	 *
+	 * @return evaluador
+	 */
+	public EvaluadorCompilado getEvaluador() {
+		return evaluador;
+	}
+
+	/**
+	 * Obtiene los símbolos (parámetros del evaluador).
+	 *
+	 * @return identificadores de los componentes
+	 */
+	public List<String> getSimbolos() {
+		return simbolos;
+	}
+
+	/**
+	 * Obtiene los valores nominales de los símbolos.
+	 *
+	 * @return valores del circuito analizado
+	 */
+	public double[] getValores() {
+		return valores.clone();
+	}
+
+	/**
+	 * Obtiene la tensión de Thevenin con los valores nominales.
+	 *
+	 * @return vth		Tensión de Thevenin
+	 */
+	public double getVth() {
+		return vth;
+	}
+
+	/**
+	 * Obtiene la resistencia de Thevenin con los valores nominales.
+	 *
+	 * @return rth		Resistencia de Thevenin
+	 */
+	public double getRth() {
+		return rth;
+	}
+
+	/**
+	 * Escribe una fracción, con paréntesis solo donde hacen falta.
+	 *
+	 * @param num				numerador
+	 * @param den				denominador
+	 * @return fórmula
+	 */
+	private String formatear(Polinomio num, Polinomio den) {
+		String n=num.formatear(simbolos);
+		if(den.esConstante() && den.coeficientePrincipal()==1) {
+			return n;
+		}
+		if(num.getNumTerminos()>1) n="("+n+")";
+		String d=den.formatear(simbolos);
+		if(den.getNumTerminos()>1 || d.contains("·")) d="("+d+")";
+		return n+"/"+d;
+	}
+
+	/**
+	 * Devuelve un String con las fórmulas y valores de Thevenin.
+	 *
+	 * @return String		Info del equivalente simbólico.
+	 */
+	@Override
+	public String toString() {
+		return "ResultadoTheveninSimbolico{vth="+getFormulaVth()+" = "+vth+", rth="+getFormulaRth()+" = "+rth+"}";
+	}
+}
@@ -0,0 +1,88 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+
+/**
+ * Análisis por superposición entre dos nodos: calcula la aportación de cada fuente
+ * independiente a Vth y a las tensiones de nodo. Se factoriza una sola vez la matriz del
+ * circuito abierto y se resuelven todas las fuentes a la vez (un término independiente por fuente).
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class Superposicion {
+	private static final Logger logger=Logger.getLogger(Superposicion.class.getName());
+	private final Circuito circuito;
+	private final int nodoA;
+	private final int nodoB;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param circuito		circuito a analizar
+	 * @param nodoA			nodo terminal
+	 * @param nodoB			nodo terminal
+	 */
+	public Superposicion(Circuito circuito, int nodoA, int nodoB) {
+		this.circuito=Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		this.nodoA=nodoA;
+		this.nodoB=nodoB;
+	}
+
+	/**
+	 * Calcula la aportación de cada fuente independiente.
+	 * Abre el circuito entre A y B conservando las instancias de los componentes, de forma
+	 * que cada aportación se asocia al Id de la fuente original.
+	 *
+	 * @throws IllegalStateException	si el circuito no es conexo o el sistema es singular
+	 * @return resultado del análisis por superposición
+	 */
+	public ResultadoSuperposicion calcular() {
+		CircuitoBuilder builder=new CircuitoBuilder(circuito.getComponentes().size());
+		for(Componente c : circuito.getComponentes()) {
+			boolean cargaEntreTerminales=c.isCarga() && (
+					(c.getNodo1()==nodoA && c.getNodo2()==nodoB) ||
+					(c.getNodo1()==nodoB && c.getNodo2()==nodoA));
+			if(!cargaEntreTerminales) {
+				builder.con(c);
+			}
+		}
+		Circuito abierto=builder.construir();
+		List<Componente> fuentes=abierto.getComponentes().stream()
+				.filter(c -> c instanceof FuenteTensionInd || c instanceof FuenteCorrienteInd)
+				.toList();
+		double[][] V=MatrixUtil.resolverContribucionesFuentes(abierto, fuentes);
+		Map<Integer, Integer> nodos=abierto.getNodos();
+		Integer idxA=nodos.get(nodoA);
+		Integer idxB=nodos.get(nodoB);
+		if(idxA==null || idxB==null) {
+			throw new IllegalStateException("No se encuentran los nodos A o B en el circuito abierto");
+		}
+		List<ContribucionFuente> contribuciones=new ArrayList<>();
+		for(int s=0; s<fuentes.size(); s++) {
+			Componente f=fuentes.get(s);
+			Map<Integer, Double> tensiones=new HashMap<>();
+			for(Map.Entry<Integer, Integer> e : nodos.entrySet()) {
+				tensiones.put(e.getKey(), V[s][e.getValue()]);
+			}
+			contribuciones.add(new ContribucionFuente(f.getId(), f.getTipo(), f.getValor(),
+					V[s][idxA]-V[s][idxB], tensiones));
+		}
+		logger.log(Level.FINE, "Superposición entre {0} y {1}: {2} fuentes",
+				new Object[] {nodoA, nodoB, fuentes.size()});
+		return new ResultadoSuperposicion(contribuciones);
+	}
+}
@@ -0,0 +1,124 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dominio.util.EvaluadorCompilado;
+import com.circuitos.analisiscircuitos.dominio.util.GrafoExpresiones;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.dominio.util.Polinomio;
+import com.circuitos.analisiscircuitos.dominio.util.SistemaSimbolico;
+
+/**
+ * Equivalente de Thevenin en forma cerrada: Vth y Rth como fracciones de polinomios en los
+ * valores de los componentes (R1, R2, V1, ganancias...). El sistema MNA simbólico del
+ * circuito abierto se resuelve con una sola eliminación libre de fracciones y dos términos
+ * independientes, como en {@link EquivalenteAC}: las fuentes activas (tensión en vacío) y
+ * 1 A inyectado en A y extraído por B con las fuentes apagadas (resistencia).
+ * <p>
+ * Las conductancias se vuelven a escribir como resistencias multiplicando numerador y
+ * denominador por las potencias necesarias de cada R, y las cuatro expresiones se compilan
+ * juntas a un {@link EvaluadorCompilado} que comparte las subexpresiones comunes.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class TheveninSimbolico {
+	private static final Logger logger=Logger.getLogger(TheveninSimbolico.class.getName());
+	private final SistemaSimbolico sistema;
+	private final int idxA;
+	private final int idxB;
+
+	/**
+	 * Constructor. Abre el circuito entre A y B (quita los componentes de carga conectados
+	 * directamente entre ambos) y prepara el sistema simbólico. Los símbolos son los
+	 * identificadores de los componentes del circuito original.
+	 *
+	 * @param circuito					circuito a analizar
+	 * @param nodoA						nodo terminal
+	 * @param nodoB						nodo terminal
+	 * @throws IllegalStateException	si el circuito no es conexo o no contiene los nodos
+	 * @throws IllegalArgumentException	si el circuito tiene diodos
+	 */
+	public TheveninSimbolico(Circuito circuito, int nodoA, int nodoB) {
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		CircuitoBuilder builder=new CircuitoBuilder(circuito.getComponentes().size());
+		for(Componente c : circuito.getComponentes()) {
+			boolean cargaEntreTerminales=c.isCarga() && (
+					(c.getNodo1()==nodoA && c.getNodo2()==nodoB) ||
+					(c.getNodo1()==nodoB && c.getNodo2()==nodoA));
+			if(!cargaEntreTerminales && !(c instanceof Tierra) && c.getNodo1()!=c.getNodo2()) {
+				builder.con(c);
+			}
+		}
+		Circuito abierto=builder.construir();
+		this.sistema=MatrixUtil.construirSistemaSimbolico(abierto);
+		try {
+			this.idxA=sistema.indiceNodo(nodoA);
+			this.idxB=sistema.indiceNodo(nodoB);
+		} catch(IllegalArgumentException e) {
+			throw new IllegalStateException("No se encuentran los nodos A o B en el circuito abierto", e);
+		}
+	}
+
+	/**
+	 * Resuelve el sistema simbólico, simplifica Vth y Rth y las compila.
+	 *
+	 * @throws IllegalStateException	si el sistema es singular o demasiado grande
+	 * @return fórmulas, evaluador compilado y valores nominales
+	 */
+	public ResultadoTheveninSimbolico calcular() {
+		int variables=sistema.getSimbolos().size();
+		Polinomio[] prueba=sistema.columnaNula();
+		if(idxA>=0) prueba[idxA]=Polinomio.constante(variables, 1);
+		if(idxB>=0) prueba[idxB]=Polinomio.constante(variables, -1);
+		SistemaSimbolico.Solucion sol=sistema.resolver(sistema.getTerminoIndependiente(), prueba);
+
+		Polinomio[] vth=fraccion(diferenciaAB(sol.numeradores()[0]), sol.determinante());
+		Polinomio[] rth=fraccion(diferenciaAB(sol.numeradores()[1]), sol.determinante());
+
+		GrafoExpresiones grafo=new GrafoExpresiones();
+		int salidaVth=grafo.division(grafo.desdePolinomio(vth[0]), grafo.desdePolinomio(vth[1]));
+		int salidaRth=grafo.division(grafo.desdePolinomio(rth[0]), grafo.desdePolinomio(rth[1]));
+		EvaluadorCompilado evaluador=grafo.compilar(salidaVth, salidaRth);
+		logger.log(Level.FINE, "Thevenin simbólico: {0} símbolos, {1} nodos en el grafo, {2} instrucciones",
+				new Object[] {variables, grafo.size(), evaluador.getInstrucciones()});
+		return new ResultadoTheveninSimbolico(sistema.getSimbolos(), sistema.getValores(),
+				vth[0], vth[1], rth[0], rth[1], evaluador);
+	}
+
+	/**
+	 * Numerador de V(A)-V(B) a partir de los numeradores de Cramer de todas las incógnitas.
+	 *
+	 * @param numeradores				numerador de cada incógnita
+	 * @return numerador de la diferencia de tensiones
+	 */
+	private Polinomio diferenciaAB(Polinomio[] numeradores) {
+		Polinomio cero=Polinomio.cero(sistema.getSimbolos().size());
+		Polinomio a=idxA>=0 ? numeradores[idxA] : cero;
+		Polinomio b=idxB>=0 ? numeradores[idxB] : cero;
+		return a.resta(b);
+	}
+
+	/**
+	 * Pasa una fracción de conductancias a resistencias y la simplifica.
+	 *
+	 * @param num						numerador en las variables G
+	 * @param den						denominador (determinante)
+	 * @return {numerador, denominador} en las variables R
+	 */
+	private Polinomio[] fraccion(Polinomio num, Polinomio den) {
+		boolean[] conductancias=sistema.getConductancias();
+		int[] grados=new int[conductancias.length];
+		for(int k=0; k<grados.length; k++) {
+			if(conductancias[k]) grados[k]=Math.max(num.grado(k), den.grado(k));
+		}
+		return Polinomio.simplificarFraccion(num.invertir(grados), den.invertir(grados));
+	}
+}
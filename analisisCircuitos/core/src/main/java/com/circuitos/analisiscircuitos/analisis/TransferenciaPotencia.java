@@ -0,0 +1,159 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.Objects;
+
+/**
+ * Transferencia de potencia a una carga resistiva a partir del equivalente de Thevenin ya
+ * calculado. Todas las magnitudes son analíticas en (Vth, Rth), por lo que evaluar un punto o
+ * muestrear una curva no requiere volver a resolver el circuito:
+ * I=Vth/(Rth+RL), V=Vth·RL/(Rth+RL), P=V·I, con máximo Pmax=Vth²/(4·Rth) en RL=Rth.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class TransferenciaPotencia {
+	private final double vth;
+	private final double rth;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param thevenin					equivalente de Thevenin visto desde la carga
+	 * @throws IllegalArgumentException	si Rth no es positiva y finita
+	 */
+	public TransferenciaPotencia(ResultadoThevenin thevenin) {
+		Objects.requireNonNull(thevenin, "Resultado de Thevenin no puede ser null");
+		if(!(thevenin.getRth()>0.0) || Double.isInfinite(thevenin.getRth())) {
+			throw new IllegalArgumentException("Rth debe ser positiva y finita: "+thevenin.getRth());
+		}
+		this.vth=thevenin.getVth();
+		this.rth=thevenin.getRth();
+	}
+
+	/**
+	 * Corriente por la carga.
+	 *
+	 * @param rl		resistencia de carga (Ω)
+	 * @return corriente (A)
+	 */
+	public double corriente(double rl) {
+		return vth/(rth+rl);
+	}
+
+	/**
+	 * Tensión en bornes de la carga.
+	 *
+	 * @param rl		resistencia de carga (Ω)
+	 * @return tensión (V)
+	 */
+	public double tension(double rl) {
+		return vth*rl/(rth+rl);
+	}
+
+	/**
+	 * Potencia entregada a la carga.
+	 *
+	 * @param rl		resistencia de carga (Ω)
+	 * @return potencia (W)
+	 */
+	public double potencia(double rl) {
+		double i=corriente(rl);
+		return i*i*rl;
+	}
+
+	/**
+	 * Rendimiento de la transferencia: fracción de la potencia de la fuente equivalente
+	 * que llega a la carga.
+	 *
+	 * @param rl		resistencia de carga (Ω)
+	 * @return rendimiento entre 0 y 1
+	 */
+	public double rendimiento(double rl) {
+		return rl/(rth+rl);
+	}
+
+	/**
+	 * Resistencia de carga que maximiza la potencia (RL=Rth).
+	 *
+	 * @return resistencia de máxima potencia (Ω)
+	 */
+	public double getRlMaximaPotencia() {
+		return rth;
+	}
+
+	/**
+	 * Potencia máxima transferible a la carga.
+	 *
+	 * @return potencia máxima (W)
+	 */
+	public double getPotenciaMaxima() {
+		return vth*vth/(4.0*rth);
+	}
+
+	/**
+	 * Corriente de cortocircuito (RL=0).
+	 *
+	 * @return corriente de cortocircuito (A)
+	 */
+	public double getCorrienteCortocircuito() {
+		return vth/rth;
+	}
+
+	/**
+	 * Obtiene la tensión de Thevenin (tensión en circuito abierto).
+	 *
+	 * @return vth		Tensión de Thevenin
+	 */
+	public double getVth() {
+		return vth;
+	}
+
+	/**
+	 * Obtiene la resistencia de Thevenin.
+	 *
+	 * @return rth		Resistencia de Thevenin
+	 */
+	public double getRth() {
+		return rth;
+	}
+
+	/**
+	 * Muestrea las curvas V, I y P con RL espaciada logarítmicamente entre rMin y rMax.
+	 *
+	 * @param rMin						resistencia mínima (Ω), positiva
+	 * @param rMax						resistencia máxima (Ω), mayor que rMin
+	 * @param puntos					número de puntos (al menos 2)
+	 * @throws IllegalArgumentException	si el rango o el número de puntos no son válidos
+	 * @return curvas muestreadas
+	 */
+	public CurvaCarga muestrear(double rMin, double rMax, int puntos) {
+		if(!(rMin>0.0) || !(rMax>rMin) || puntos<2) {
+			throw new IllegalArgumentException("Rango de muestreo no válido: ["+rMin+", "+rMax+"], "+puntos+" puntos");
+		}
+		double[] rl=new double[puntos];
+		double[] v=new double[puntos];
+		double[] i=new double[puntos];
+		double[] p=new double[puntos];
+		double logMin=Math.log(rMin);
+		double paso=(Math.log(rMax)-logMin)/(puntos-1);
+		for(int k=0; k<puntos; k++) {
+			double r=Math.exp(logMin+k*paso);
+			double corriente=vth/(rth+r);
+			rl[k]=r;
+			i[k]=corriente;
+			v[k]=corriente*r;
+			p[k]=corriente*corriente*r;
+		}
+		return new CurvaCarga(rl, v, i, p);
+	}
+
+	/**
+	 * Devuelve un String con el equivalente y el punto de máxima potencia.
+	 *
+	 * @return String		Info de la transferencia de potencia.
+	 */
+	@Override
+	public String toString() {
+		return "TransferenciaPotencia{vth="+vth+", rth="+rth+", pmax="+getPotenciaMaxima()+"}";
+	}
+}
@@ -0,0 +1,149 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.DecompositionSolver;
+import org.apache.commons.math3.linear.RealVector;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.dominio.util.SistemaAC;
+
+/**
+ * Simulación transitoria de paso fijo con modelos de compañía. Cada condensador se sustituye
+ * por una conductancia s·C en paralelo con una fuente de corriente de historia y cada bobina
+ * por una rama -s·L con una tensión de historia, con s=1/h (Euler implícito) o s=2/h
+ * (trapecios). La matriz solo depende de h, así que se factoriza una vez por paso y en cada
+ * instante solo se actualiza el término independiente y se resuelven los triangulares.
+ * Las fuentes independientes se conectan en t=0 con el circuito descargado (respuesta al
+ * escalón) y las formas de onda se vuelcan a un {@link BufferOndas}.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class Transitorio {
+	private static final Logger logger=Logger.getLogger(Transitorio.class.getName());
+
+	/**
+	 * Método de integración.
+	 */
+	public enum Metodo { EULER_IMPLICITO, TRAPECIOS }
+
+	private final SistemaAC sistema;
+	private final Metodo metodo;
+	private final Map<Double, DecompositionSolver> factorizaciones=new HashMap<>();
+
+	/**
+	 * Constructor. Prepara el sistema del circuito una sola vez.
+	 *
+	 * @param circuito					circuito a simular
+	 * @param metodo					método de integración
+	 * @throws IllegalStateException	si el circuito no es conexo
+	 */
+	public Transitorio(Circuito circuito, Metodo metodo) {
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		this.metodo=Objects.requireNonNull(metodo, "Método no puede ser null");
+		this.sistema=MatrixUtil.construirSistemaAC(circuito);
+	}
+
+	/**
+	 * Simula el circuito durante un número de pasos guardando la tensión de los nodos
+	 * indicados respecto a la referencia.
+	 *
+	 * @param paso						paso de integración h (s), positivo
+	 * @param pasos						número de pasos
+	 * @param nodos						nodos cuya tensión se registra
+	 * @param capacidad					muestras que conserva el buffer
+	 * @param diezmado					se registra una de cada {@code diezmado} muestras
+	 * @throws IllegalArgumentException	si algún parámetro no es válido
+	 * @throws IllegalStateException	si la matriz del modelo de compañía es singular
+	 * @return formas de onda (la primera muestra es t=0, antes de conectar las fuentes)
+	 */
+	public BufferOndas simular(double paso, long pasos, int[] nodos, int capacidad, int diezmado) {
+		Objects.requireNonNull(nodos, "Nodos no puede ser null");
+		if(!(paso>0.0) || Double.isInfinite(paso) || pasos<1 || diezmado<1) {
+			throw new IllegalArgumentException("Parámetros de simulación no válidos: h="+paso+", pasos="+pasos+", diezmado="+diezmado);
+		}
+		int[] filas=new int[nodos.length];
+		String[] nombres=new String[nodos.length];
+		for(int k=0; k<nodos.length; k++) {
+			filas[k]=sistema.indiceNodo(nodos[k]);
+			nombres[k]="V("+nodos[k]+")";
+		}
+		BufferOndas buffer=new BufferOndas(nombres, capacidad);
+		buffer.anadir(0.0, new double[nodos.length]);
+
+		int n=sistema.getDimension();
+		double[] z0=sistema.getTerminoIndependiente();
+		int[] cn1=sistema.getCondensadorNodo1();
+		int[] cn2=sistema.getCondensadorNodo2();
+		double[] cap=sistema.getCapacidades();
+		int[] filasL=sistema.getFilasBobina();
+		double[] ind=sistema.getInductancias();
+
+		//Estado: tensión y corriente de cada condensador, corriente y tensión de cada bobina
+		double[] vC=new double[cap.length];
+		double[] iC=new double[cap.length];
+		double[] iL=new double[ind.length];
+		double[] vL=new double[ind.length];
+		double[] rhs=new double[n];
+		double[] valores=new double[nodos.length];
+		RealVector b=new ArrayRealVector(rhs, false);
+
+		//El trapecio arranca con un paso de Euler implícito: en t=0 la corriente de los
+		//condensadores y la tensión de las bobinas saltan y no se conocen
+		DecompositionSolver euler=factorizacion(1.0/paso);
+		DecompositionSolver solver=metodo==Metodo.TRAPECIOS ? factorizacion(2.0/paso) : euler;
+
+		for(long k=1; k<=pasos; k++) {
+			boolean trapecio=metodo==Metodo.TRAPECIOS && k>1;
+			double s=trapecio ? 2.0/paso : 1.0/paso;
+			System.arraycopy(z0, 0, rhs, 0, n);
+			for(int c=0; c<cap.length; c++) {
+				double historia=s*cap[c]*vC[c]+(trapecio ? iC[c] : 0.0);
+				if(cn1[c]>=0) rhs[cn1[c]]+=historia;
+				if(cn2[c]>=0) rhs[cn2[c]]-=historia;
+			}
+			for(int l=0; l<ind.length; l++) {
+				rhs[filasL[l]]+=-s*ind[l]*iL[l]-(trapecio ? vL[l] : 0.0);
+			}
+			RealVector x=(trapecio ? solver : euler).solve(b);
+
+			for(int c=0; c<cap.length; c++) {
+				double historia=s*cap[c]*vC[c]+(trapecio ? iC[c] : 0.0);
+				double v=(cn1[c]>=0 ? x.getEntry(cn1[c]) : 0.0)-(cn2[c]>=0 ? x.getEntry(cn2[c]) : 0.0);
+				iC[c]=s*cap[c]*v-historia;
+				vC[c]=v;
+			}
+			for(int l=0; l<ind.length; l++) {
+				double j=x.getEntry(filasL[l]);
+				vL[l]=rhs[filasL[l]]+s*ind[l]*j;
+				iL[l]=j;
+			}
+			if(k%diezmado==0 || k==pasos) {
+				for(int p=0; p<filas.length; p++) {
+					valores[p]=filas[p]>=0 ? x.getEntry(filas[p]) : 0.0;
+				}
+				buffer.anadir(k*paso, valores);
+			}
+		}
+		logger.log(Level.FINE, "Transitorio ({0}): {1} pasos de {2} s, {3} factorizaciones en caché",
+				new Object[] {metodo, pasos, paso, factorizaciones.size()});
+		return buffer;
+	}
+
+	/**
+	 * Obtiene (o calcula y guarda) la factorización del modelo de compañía para un valor de s.
+	 *
+	 * @param s							1/h o 2/h
+	 * @return solver de la factorización
+	 */
+	private DecompositionSolver factorizacion(double s) {
+		return factorizaciones.computeIfAbsent(s, sistema::factorizarReal);
+	}
+}
@@ -0,0 +1,454 @@
+package com.circuitos.analisiscircuitos.analisis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.circuitos.analisiscircuitos.dominio.util.SerieE;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades.Type;
+
+/**
+ * Búsqueda de combinaciones serie/paralelo de resistencias normalizadas (E12, E24, E96) que
+ * realizan una resistencia o un divisor de tensión.
+ * <p>
+ * Se precalculan dos tablas ordenadas por valor: los valores de la serie en el rango pedido y
+ * todas las redes de dos piezas (serie y paralelo de cada par). Las del rango estándar se
+ * comparten entre búsquedas.
+ * Toda red serie/paralelo de hasta cuatro piezas es la combinación de dos subredes, así que
+ * basta recorrer una tabla y, para cada elemento, buscar por bisección en la otra el valor que
+ * completa el objetivo: el equivalente es monótono en cada subred y el óptimo está siempre
+ * junto a ese punto. Las redes de tres piezas son 1+2; las de cuatro, 2+2 y 1+3, donde la
+ * subred de tres se vuelve a buscar igual.
+ * </p>
+ * El recorrido externo es paralelo. En la rama 1+3 (la más cara) se poda cada valor cuya
+ * cota inferior de error (la subred de tres fijada al extremo alcanzable más cercano) no
+ * mejora la mejor solución encontrada hasta el momento por cualquier hilo.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class ValoresNormalizados {
+	private static final Logger logger=Logger.getLogger(ValoresNormalizados.class.getName());
+	private static final int MAX_PARTES=4;
+	private static final int MAX_VALORES=1200;
+	/** Resistencia mínima del rango estándar (Ω) */
+	public static final double R_MIN=1.0;
+	/** Resistencia máxima del rango estándar (Ω) */
+	public static final double R_MAX=10e6;
+	/** Tablas del rango estándar: como mucho una por serie */
+	private static final Map<SerieE, Tablas> TABLAS=new ConcurrentHashMap<>();
+
+	private final Tablas tablas;
+
+	/**
+	 * Red serie/paralelo. Las hojas (izq==null) son resistencias normalizadas.
+	 *
+	 * @param valor				Resistencia equivalente
+	 * @param partes			Número de resistencias
+	 * @param serie				{@code true} si es serie, {@code false} si es paralelo
+	 * @param izq				Primera subred
+	 * @param der				Segunda subred
+	 */
+	private record Red(double valor, int partes, boolean serie, Red izq, Red der) { }
+
+	/**
+	 * Objetivo de una búsqueda sobre una subred.
+	 *
+	 * @param destino			Valor ideal de la subred (puede no ser alcanzable)
+	 * @param error				Error final en función del valor de la subred (monótono a cada
+	 * 							lado de destino)
+	 */
+	private record Objetivo(double destino, DoubleUnaryOperator error) { }
+
+	/**
+	 * Tablas ordenadas de valores y de redes de dos piezas.
+	 */
+	private static final class Tablas {
+		final double[] uno;
+		final double[] dos;
+		final int[] codigos;
+
+		/**
+		 * Constructor. Ordena las redes de dos piezas por una clave en float (valor y código
+		 * en un long) y corrige el orden exacto con una inserción, casi lineal porque la
+		 * clave ya deja la tabla prácticamente ordenada.
+		 *
+		 * @param uno			Valores normalizados en orden creciente
+		 */
+		Tablas(double[] uno) {
+			this.uno=uno;
+			int n=uno.length;
+			long[] claves=new long[n*(n+1)];
+			int m=0;
+			for(int i=0; i<n; i++) {
+				for(int j=i; j<n; j++) {
+					for(int s=0; s<2; s++) {
+						int codigo=(i*n+j)*2+s;
+						float v=(float)combinar(uno[i], uno[j], s==1);
+						claves[m++]=((long)Float.floatToIntBits(v)<<32) | codigo;
+					}
+				}
+			}
+			Arrays.parallelSort(claves);
+			this.dos=new double[m];
+			this.codigos=new int[m];
+			for(int p=0; p<m; p++) {
+				int codigo=(int)claves[p];
+				double v=valorCodigo(codigo);
+				int q=p;
+				while(q>0 && dos[q-1]>v) {
+					dos[q]=dos[q-1];
+					codigos[q]=codigos[q-1];
+					q--;
+				}
+				dos[q]=v;
+				codigos[q]=codigo;
+			}
+		}
+
+		/**
+		 * Valor exacto de una red de dos piezas a partir de su código.
+		 *
+		 * @param codigo		(i·n+j)·2+serie
+		 * @return resistencia equivalente
+		 */
+		double valorCodigo(int codigo) {
+			int n=uno.length;
+			int par=codigo>>1;
+			return combinar(uno[par/n], uno[par%n], (codigo&1)==1);
+		}
+
+		/**
+		 * Red de dos piezas a partir de su posición en la tabla.
+		 *
+		 * @param p				Posición en {@link #dos}
+		 * @return red
+		 */
+		Red red(int p) {
+			int n=uno.length;
+			int par=codigos[p]>>1;
+			return unir(hoja(uno[par/n]), hoja(uno[par%n]), (codigos[p]&1)==1);
+		}
+	}
+
+	/**
+	 * Constructor con el rango estándar ({@link #R_MIN} a {@link #R_MAX}). Las tablas de cada
+	 * serie se construyen una vez y se reutilizan.
+	 *
+	 * @param serie						Serie normalizada
+	 */
+	public ValoresNormalizados(SerieE serie) {
+		this(serie, R_MIN, R_MAX);
+	}
+
+	/**
+	 * Constructor. Solo se reutilizan las tablas del rango estándar; las de cualquier otro
+	 * rango se construyen para esta instancia, así la caché no crece con cada rango pedido.
+	 *
+	 * @param serie						Serie normalizada
+	 * @param min						Resistencia mínima disponible (Ω)
+	 * @param max						Resistencia máxima disponible (Ω)
+	 * @throws IllegalArgumentException	si el rango no es válido o tiene demasiados valores
+	 */
+	public ValoresNormalizados(SerieE serie, double min, double max) {
+		Objects.requireNonNull(serie, "Serie no puede ser null");
+		if(min==R_MIN && max==R_MAX) {
+			this.tablas=TABLAS.computeIfAbsent(serie, s -> new Tablas(valores(s, min, max)));
+		} else {
+			this.tablas=new Tablas(valores(serie, min, max));
+		}
+	}
+
+	/**
+	 * Valores de la serie en el rango, comprobando que caben en las tablas.
+	 *
+	 * @param serie						Serie normalizada
+	 * @param min						Resistencia mínima disponible (Ω)
+	 * @param max						Resistencia máxima disponible (Ω)
+	 * @throws IllegalArgumentException	si el rango no es válido o tiene demasiados valores
+	 * @return valores en orden creciente
+	 */
+	private static double[] valores(SerieE serie, double min, double max) {
+		double[] valores=serie.valores(min, max);
+		if(valores.length==0 || valores.length>MAX_VALORES) {
+			throw new IllegalArgumentException("El rango debe contener entre 1 y "+MAX_VALORES+" valores: "
+					+valores.length);
+		}
+		logger.log(Level.FINE, "Construyendo tablas {0} [{1}, {2}] con {3} valores",
+				new Object[] {serie, min, max, valores.length});
+		return valores;
+	}
+
+	/**
+	 * Busca la mejor combinación para cada número de piezas, de 1 a maxPartes.
+	 *
+	 * @param objetivo					Resistencia buscada (Ω)
+	 * @param maxPartes					Número máximo de piezas (1 a 4)
+	 * @throws IllegalArgumentException	si el objetivo o el número de piezas no son válidos
+	 * @return mejor combinación con 1, 2, ... maxPartes piezas
+	 */
+	public List<CombinacionResistencias> buscarResistencia(double objetivo, int maxPartes) {
+		if(!(objetivo>0.0 && Double.isFinite(objetivo))) {
+			throw new IllegalArgumentException("La resistencia objetivo debe ser positiva: "+objetivo);
+		}
+		if(maxPartes<1 || maxPartes>MAX_PARTES) {
+			throw new IllegalArgumentException("El número de piezas debe estar entre 1 y "+MAX_PARTES+": "+maxPartes);
+		}
+		Objetivo o=new Objetivo(objetivo, v -> Math.abs(v-objetivo)/objetivo);
+		List<CombinacionResistencias> mejores=new ArrayList<>();
+		mejores.add(combinacion(hoja(tablas.uno[vecino(tablas.uno, o)]), objetivo));
+		if(maxPartes>=2) mejores.add(combinacion(tablas.red(vecino(tablas.dos, o)), objetivo));
+		if(maxPartes>=3) mejores.add(combinacion(tres(o, true), objetivo));
+		if(maxPartes>=4) mejores.add(combinacion(cuatro(o), objetivo));
+		return mejores;
+	}
+
+	/**
+	 * Busca el mejor divisor de tensión con hasta maxPartesRama piezas en cada rama. A igual
+	 * error se prefiere el de menos piezas.
+	 *
+	 * @param razon						Razón buscada Rinf/(Rsup+Rinf), en (0, 1)
+	 * @param maxPartesRama				Piezas por rama (1 o 2)
+	 * @throws IllegalArgumentException	si la razón o el número de piezas no son válidos
+	 * @return mejor divisor
+	 */
+	public DivisorNormalizado buscarDivisor(double razon, int maxPartesRama) {
+		if(!(razon>0.0 && razon<1.0)) {
+			throw new IllegalArgumentException("La razón del divisor debe estar entre 0 y 1: "+razon);
+		}
+		if(maxPartesRama<1 || maxPartesRama>2) {
+			throw new IllegalArgumentException("El número de piezas por rama debe ser 1 o 2: "+maxPartesRama);
+		}
+		int n1=tablas.uno.length;
+		int total=maxPartesRama==1 ? n1 : n1+tablas.dos.length;
+		Red[] mejor=IntStream.range(0, total).parallel().mapToObj(p -> {
+			Red sup=p<n1 ? hoja(tablas.uno[p]) : tablas.red(p-n1);
+			double s=sup.valor();
+			Objetivo o=new Objetivo(s*razon/(1.0-razon), v -> Math.abs(v/(s+v)-razon)/razon);
+			Red inf=hoja(tablas.uno[vecino(tablas.uno, o)]);
+			if(maxPartesRama==2) {
+				Red inf2=tablas.red(vecino(tablas.dos, o));
+				if(o.error().applyAsDouble(inf2.valor())<o.error().applyAsDouble(inf.valor())) inf=inf2;
+			}
+			return new Red[] {sup, inf};
+		}).min(Comparator.<Red[]>comparingDouble(d -> errorRazon(d, razon))
+				.thenComparingInt(d -> d[0].partes()+d[1].partes())).orElseThrow();
+		return new DivisorNormalizado(combinacion(mejor[0], mejor[0].valor()),
+				combinacion(mejor[1], mejor[1].valor()), razon);
+	}
+
+	/**
+	 * Error relativo de la razón de un par (superior, inferior).
+	 *
+	 * @param par						{superior, inferior}
+	 * @param razon						razón buscada
+	 * @return error relativo
+	 */
+	private static double errorRazon(Red[] par, double razon) {
+		double s=par[0].valor();
+		double i=par[1].valor();
+		return Math.abs(i/(s+i)-razon)/razon;
+	}
+
+	/**
+	 * Mejor red de tres piezas (una pieza combinada con una red de dos).
+	 *
+	 * @param o							objetivo
+	 * @param paralelo					{@code true} para repartir el recorrido entre núcleos
+	 * @return mejor red
+	 */
+	private Red tres(Objetivo o, boolean paralelo) {
+		IntStream indices=IntStream.range(0, tablas.uno.length);
+		if(paralelo) indices=indices.parallel();
+		return indices.mapToObj(a -> {
+			Red mejor=null;
+			double mejorError=Double.POSITIVE_INFINITY;
+			for(boolean serie : new boolean[] {true, false}) {
+				Objetivo sub=derivar(o, tablas.uno[a], serie);
+				int q=vecino(tablas.dos, sub);
+				double e=sub.error().applyAsDouble(tablas.dos[q]);
+				if(e<mejorError) {
+					mejorError=e;
+					mejor=unir(hoja(tablas.uno[a]), tablas.red(q), serie);
+				}
+			}
+			return mejor;
+		}).min(porError(o)).orElseThrow();
+	}
+
+	/**
+	 * Mejor red de cuatro piezas: primero 2+2 (da una cota inicial) y después 1+3 con poda.
+	 *
+	 * @param o							objetivo
+	 * @return mejor red
+	 */
+	private Red cuatro(Objetivo o) {
+		Red dosDos=IntStream.range(0, tablas.dos.length).parallel().mapToObj(p -> {
+			Red mejor=null;
+			double mejorError=Double.POSITIVE_INFINITY;
+			for(boolean serie : new boolean[] {true, false}) {
+				Objetivo sub=derivar(o, tablas.dos[p], serie);
+				int q=vecino(tablas.dos, sub);
+				double e=sub.error().applyAsDouble(tablas.dos[q]);
+				if(e<mejorError) {
+					mejorError=e;
+					mejor=unir(tablas.red(p), tablas.red(q), serie);
+				}
+			}
+			return mejor;
+		}).min(porError(o)).orElseThrow();
+
+		DoubleAccumulator cota=new DoubleAccumulator(Math::min, o.error().applyAsDouble(dosDos.valor()));
+		double min3=tablas.uno[0]/3.0;
+		double max3=tablas.uno[tablas.uno.length-1]*3.0;
+		Red unoTres=IntStream.range(0, tablas.uno.length).parallel().mapToObj(a -> {
+			Red mejor=null;
+			for(boolean serie : new boolean[] {true, false}) {
+				Objetivo sub=derivar(o, tablas.uno[a], serie);
+				double alcanzable=Math.max(min3, Math.min(max3, sub.destino()));
+				if(sub.error().applyAsDouble(alcanzable)>=cota.get()) continue;		//Poda
+				Red resto=tres(sub, false);
+				double e=sub.error().applyAsDouble(resto.valor());
+				if(mejor==null || e<o.error().applyAsDouble(mejor.valor())) {
+					mejor=unir(hoja(tablas.uno[a]), resto, serie);
+					cota.accumulate(e);
+				}
+			}
+			return mejor;
+		}).filter(Objects::nonNull).min(porError(o)).orElse(null);
+		return unoTres!=null && o.error().applyAsDouble(unoTres.valor())<o.error().applyAsDouble(dosDos.valor())
+				? unoTres : dosDos;
+	}
+
+	/**
+	 * Objetivo de la segunda subred cuando la primera vale a.
+	 *
+	 * @param o							objetivo de la red completa
+	 * @param a							valor de la primera subred
+	 * @param serie						conexión entre ambas
+	 * @return objetivo de la segunda subred
+	 */
+	private static Objetivo derivar(Objetivo o, double a, boolean serie) {
+		double x=o.destino();
+		double destino;
+		if(serie) {
+			destino=x>a ? x-a : 0.0;
+		} else {
+			destino=a>x ? a*x/(a-x) : Double.POSITIVE_INFINITY;
+		}
+		DoubleUnaryOperator error=o.error();
+		return new Objetivo(destino, v -> error.applyAsDouble(combinar(a, v, serie)));
+	}
+
+	/**
+	 * Posición de la tabla con menor error: el óptimo está junto al punto de inserción del
+	 * destino porque el error es monótono a cada lado.
+	 *
+	 * @param tabla						valores en orden creciente
+	 * @param o							objetivo
+	 * @return posición del mejor valor
+	 */
+	private static int vecino(double[] tabla, Objetivo o) {
+		int p=Arrays.binarySearch(tabla, o.destino());
+		if(p<0) p=-p-1;
+		int mejor=-1;
+		double mejorError=Double.POSITIVE_INFINITY;
+		for(int q=Math.max(0, p-1); q<=Math.min(tabla.length-1, p); q++) {
+			double e=o.error().applyAsDouble(tabla[q]);
+			if(e<mejorError) {
+				mejorError=e;
+				mejor=q;
+			}
+		}
+		return mejor;
+	}
+
+	/**
+	 * Compara redes por error y, a igual error, por número de piezas.
+	 *
+	 * @param o							objetivo
+	 * @return comparador
+	 */
+	private static Comparator<Red> porError(Objetivo o) {
+		return Comparator.<Red>comparingDouble(r -> o.error().applyAsDouble(r.valor())).thenComparingInt(Red::partes);
+	}
+
+	/**
+	 * Resistencia equivalente de dos resistencias.
+	 *
+	 * @param a							primera
+	 * @param b							segunda
+	 * @param serie						{@code true} serie, {@code false} paralelo
+	 * @return equivalente
+	 */
+	private static double combinar(double a, double b, boolean serie) {
+		if(serie) return a+b;
+		if(Double.isInfinite(b)) return a;
+		return a*b/(a+b);
+	}
+
+	/**
+	 * Crea una hoja.
+	 *
+	 * @param v							valor normalizado
+	 * @return red de una pieza
+	 */
+	private static Red hoja(double v) {
+		return new Red(v, 1, false, null, null);
+	}
+
+	/**
+	 * Une dos redes.
+	 *
+	 * @param a							primera
+	 * @param b							segunda
+	 * @param serie						conexión
+	 * @return red combinada
+	 */
+	private static Red unir(Red a, Red b, boolean serie) {
+		return new Red(combinar(a.valor(), b.valor(), serie), a.partes()+b.partes(), serie, a, b);
+	}
+
+	/**
+	 * Convierte una red en el resultado público.
+	 *
+	 * @param r							red
+	 * @param objetivo					resistencia buscada
+	 * @return combinación
+	 */
+	private static CombinacionResistencias combinacion(Red r, double objetivo) {
+		List<Double> partes=new ArrayList<>();
+		String expresion=expresion(r, partes);
+		return new CombinacionResistencias(expresion, partes.stream().mapToDouble(Double::doubleValue).toArray(),
+				r.valor(), objetivo);
+	}
+
+	/**
+	 * Escribe la expresión de una red con paréntesis donde cambia el tipo de conexión.
+	 *
+	 * @param r							red
+	 * @param partes					lista donde se añaden los valores de las hojas
+	 * @return expresión
+	 */
+	private static String expresion(Red r, List<Double> partes) {
+		if(r.izq()==null) {
+			partes.add(r.valor());
+			return Unidades.format(r.valor(), Type.RESISTENCIA);
+		}
+		String a=expresion(r.izq(), partes);
+		String b=expresion(r.der(), partes);
+		if(r.izq().izq()!=null && r.izq().serie()!=r.serie()) a="("+a+")";
+		if(r.der().izq()!=null && r.der().serie()!=r.serie()) b="("+b+")";
+		return a+(r.serie() ? " + " : " ∥ ")+b;
+	}
+}
@@ -0,0 +1,193 @@
+package com.circuitos.analisiscircuitos.dominio;
+
+import java.util.Objects;
+
+import com.circuitos.analisiscircuitos.dominio.util.FormatUtil;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Clase que extiende la clase abstracta Componente para definir
+ * una bobina (inductancia ideal). En continua se comporta como un cortocircuito y
+ * en alterna como una impedancia jωL.
+ * 
+ * @author 	Marco Antonio Garzon Palos
+ * @version 1.0 (2025)
+ */
+public class Bobina extends Componente {
+	private double henrios;
+	
+	/**
+	 * Constructor sin argumentos para deserialización (pedido por libreria Jackson)
+	 */
+	public Bobina() {
+		super(0, 0, false);
+		this.henrios=0.0;
+	}
+	
+	/**
+	 * Constructor con solo valor de inductancia.
+	 * Inicializa con nodos (0, 0) y carga=false.
+	 * 
+	 * @param l			inductancia (Henrios, H)
+	 * @throws IllegalArgumentException si {@code l<=0}
+	 */
+	public Bobina(double l) {
+		super(0, 0, false);
+		if(l<=0) throw new IllegalArgumentException("El valor de la bobina debe ser positivo.");
+		this.henrios=l;
+	}
+	
+	/**
+	 * Constructor completo (con manejo de excepciones).
+	 * 
+	 * @param l 	inductancia (Henrios, H)
+	 * @param n1	nodo 1
+	 * @param n2	nodo 2
+	 * @param carga flag de carga (true si es componente de carga)
+	 * @throws IllegalArgumentException Si los dos nodos son iguales
+	 * @throws IllegalArgumentException Si el valor de inductancia es menor o igual que cero
+	 */
+	public Bobina(double l, int n1, int n2, boolean carga) {
+		super(n1, n2, carga);
+		if(n1==n2) throw new IllegalArgumentException("Los dos nodos de una bobina no pueden ser el mismo.");
+		if(l<=0) throw new IllegalArgumentException("El valor de la bobina debe ser positivo.");
+		this.henrios=l;
+	}
+	
+	/**
+	 * Constructor normal (sin flag de carga).
+	 * 
+	 * @param l 	inductancia (Henrios, H)
+	 * @param n1	nodo 1
+	 * @param n2 	nodo 2
+	 */
+	public Bobina(double l, int n1, int n2) {
+		this(l, n1, n2, false);
+	}
+	
+	/**
+	 * Constructor que acepta string con sufijo multiplicador completo (con flag de carga).
+	 * 
+	 * @param l		inductancia (Henrios, H con sufijo)
+	 * @param n1 	nodo 1
+	 * @param n2 	nodo 2
+	 * @param carga flag de carga
+	 */
+	public Bobina(String l, int n1, int n2, boolean carga) {
+		this(Unidades.parsear(l), n1, n2, carga);
+	}
+	
+	/**
+	 * Constructor que acepta string con sufijo multiplicador (sin flag de carga).
+	 * 
+	 * @param l 	inductancia (Henrios, H con sufijo)
+	 * @param n1 	nodo 1
+	 * @param n2 	nodo 2
+	 */
+	public Bobina(String l, int n1, int n2) {
+		this(Unidades.parsear(l), n1, n2, false);
+	}
+	
+	/**
+	 * Obtiene la inductancia de la bobina.
+	 * 
+	 * @return inductancia en Henrios
+	 */
+	@Override
+	@JsonProperty("valor")
+	public double getValor() {
+		return henrios;
+	}
+	
+	/**
+	 * Asigna la inductancia de la bobina.
+	 * 
+	 * @param l nuevo valor en Henrios
+	 * @throws IllegalArgumentException si {@code l<=0}
+	 */
+	@Override
+	public void setValor(double l) {
+		if(l<=0) {
+			throw new IllegalArgumentException("El valor de la bobina debe ser >0: "+l);
+		}
+		this.henrios=l;
+		notificarCambio();
+	}
+	
+	/**
+	 * Devuelve el tipo de componente como String.
+	 * 
+	 * @return "Bobina"
+	 */
+	@Override
+	public String getTipo() {
+		return "Bobina";
+	}
+	
+	/**
+	 * Clona una bobina de un circuito en otro.
+	 * 
+	 * @return nueva bobina clonada
+	 */
+	@Override
+	public Componente clonar() {
+		return new Bobina(this.getValor(), getNodo1(), getNodo2(), isCarga());
+	}
+	
+	/**
+	 * Clona una bobina de un circuito en otro con nodos nuevos.
+	 * 
+	 * @return nueva bobina clonada con nuevos nodos
+	 */
+	@Override
+	public Componente clonarConNuevosNodos(int nuevoNodo1, int nuevoNodo2) {
+		return new Bobina(this.getValor(), nuevoNodo1, nuevoNodo2, isCarga());
+	}
+	
+	/**
+	 * Devuelve el prefijo "L" (Bobina) para añadirlo al identificador único del componente.
+	 */
+	@Override
+	public String getPrefijo() {
+		return "L";
+	}
+	
+	/**
+	 * Describe una bobina
+	 * Complementa el método describir de la clase {@link Componente}
+	 */
+	@Override
+	@JsonIgnore
+	public String describir() {
+		return String.format(
+				"%s (%s)\nNodos: %d->%d\nInductancia: %s",
+				getTipo(), getId(), getNodo1(), getNodo2(),
+				FormatUtil.format(getValor(), Unidades.Type.INDUCTANCIA));
+	}
+	
+	/**
+	 * Compara esta bobina con otro objeto.
+	 * 
+	 * @param obj objeto a comparar
+	 * @return {@code true} si son equivalentes, {@code false} en caso contrario
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if(!super.equals(obj)) return false;
+		if(!(obj instanceof Bobina)) return false;
+		Bobina otro=(Bobina) obj;
+		return Double.compare(getValor(), otro.getValor())==0;
+	}
+	
+	/**
+	 * Calcula el código hash.
+	 * 
+	 * @return código hash
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(super.hashCode(), getValor());
+	}
+}
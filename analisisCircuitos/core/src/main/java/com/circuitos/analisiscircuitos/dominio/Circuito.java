@@ -1,13 +1,18 @@
 package com.circuitos.analisiscircuitos.dominio;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -28,7 +33,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class Circuito {
 	private static final Logger logger=Logger.getLogger(Circuito.class.getName());
-	private final List<Componente> componentes=new ArrayList<>();
+	private final ListaComponentes componentes=new ListaComponentes();
 	private final Map<Integer, Integer> nodos=new HashMap<>();
 	
 	/**
@@ -55,9 +60,24 @@ public class Circuito {
 				new Object[] {componente, componente.getValor(), componente.getNodo1(), componente.getNodo2()});
 	}
 	
+	/**
+	 * Añade un lote de componentes ya validado por {@link CircuitoBuilder} y registra sus nodos
+	 * en una sola pasada, sin log por componente.
+	 *
+	 * @param lote		componentes en el orden de inserción
+	 */
+	void registrarLote(List<Componente> lote) {
+		componentes.addAll(lote);
+		for(Componente c : lote) {
+			nodos.putIfAbsent(c.getNodo1(), nodos.size());
+			nodos.putIfAbsent(c.getNodo2(), nodos.size());
+		}
+	}
+
 	/**
 	 * Elimina un componente del circuito.
 	 * Actualiza la lista de nodos; si un nodo queda en desuso se elimina.
+	 * El componente se localiza por su Id, sin recorrer la lista.
 	 * 
 	 * @param componente	cualquier componente del circuito
 	 * @throws NullPointerException si {@code componente} es null
@@ -75,7 +95,45 @@ public class Circuito {
 	}
 	
 	/**
-	 * Devuelve una lista con todos los componentes del circuito.
+	 * Elimina el componente con un Id dado.
+	 * 
+	 * @param id			Id del componente
+	 * @return {@code true} si estaba en el circuito
+	 */
+	public boolean eliminarComponente(String id) {
+		Objects.requireNonNull(id, "El Id no puede ser null");
+		Componente componente=componentes.buscar(id);
+		if(componente==null) return false;
+		eliminarComponente(componente);
+		return true;
+	}
+	
+	/**
+	 * Busca un componente por su Id en tiempo constante.
+	 * 
+	 * @param id			Id del componente
+	 * @return componente con ese Id, si está en el circuito
+	 */
+	public Optional<Componente> getComponente(String id) {
+		Objects.requireNonNull(id, "El Id no puede ser null");
+		return Optional.ofNullable(componentes.buscar(id));
+	}
+	
+	/**
+	 * Comprueba en tiempo constante si hay un componente con un Id dado.
+	 * 
+	 * @param id			Id del componente
+	 * @return {@code true} si está en el circuito
+	 */
+	public boolean contieneComponente(String id) {
+		Objects.requireNonNull(id, "El Id no puede ser null");
+		return componentes.buscar(id)!=null;
+	}
+	
+	/**
+	 * Devuelve una lista con todos los componentes del circuito. La lista se puede modificar
+	 * y mantiene al día los índices por tipo y por Id; {@code contains} y {@code remove} buscan
+	 * por Id.
 	 * 
 	 * @return lista de componentes
 	 */
@@ -85,24 +143,23 @@ public class Circuito {
 	}
 	
 	/**
-	 * Filtra componentes por clase.
+	 * Vista de los componentes de una clase. No es una copia: es de solo lectura, sigue el orden
+	 * del circuito y refleja sus cambios, así que hay que copiarla para modificar el circuito
+	 * mientras se recorre.
 	 * 
-	 * @param <T>		clase abstracta que se filtra
-	 * @param tipo		clase por la se va a filtrar (extiende la clase Componente)
-	 * @return lista	lista de componentes filtrados.		
+	 * @param <T>		clase que se filtra
+	 * @param tipo		clase concreta por la se va a filtrar (extiende la clase Componente)
+	 * @return lista	vista no modificable de los componentes de esa clase
 	 */
 	@JsonIgnore
 	private <T extends Componente> List<T> filtrarTipo(Class<T> tipo) {
-		return componentes.stream()
-				.filter(tipo::isInstance)
-				.map(tipo::cast)
-				.collect(Collectors.toList());
+		return componentes.vista(tipo);
 	}
 	
 	/**
 	 * Devuelve la lista de resistencias conectadas en el circuito.
 	 * 
-	 * @return lista de resistencias
+	 * @return vista no modificable de las resistencias
 	 */
 	@JsonIgnore
 	public List<Resistencia> getResistencias() {
@@ -112,7 +169,7 @@ public class Circuito {
 	/**
 	 * Devuelve la lista de fuentes de tensión independientes conectadas al circuito.
 	 * 
-	 * @return lista de fuentes de tensión independientes
+	 * @return vista no modificable de las fuentes de tensión independientes
 	 */
 	@JsonIgnore
 	public List<FuenteTensionInd> getFuentesTensionInd() {
@@ -122,7 +179,7 @@ public class Circuito {
 	/**
 	 * Devuelve la lista de fuentes de corriente independientes conectadas al circuito.
 	 * 
-	 * @return lista de fuentes de corriente independientes
+	 * @return vista no modificable de las fuentes de corriente independientes
 	 */
 	@JsonIgnore
 	public List<FuenteCorrienteInd> getFuentesCorrienteInd() {
@@ -132,7 +189,7 @@ public class Circuito {
 	/**
 	 * Devuelve la lista de fuentes de tensión dependientes conectadas al circuito.
 	 * 
-	 * @return lista de fuentes de tensión dependientes
+	 * @return vista no modificable de las fuentes de tensión dependientes
 	 */
 	@JsonIgnore
 	public List<FuenteTensionDependiente> getFuentesTensionDep() {
@@ -142,7 +199,7 @@ public class Circuito {
 	/**
 	 * Devuelve la lista de fuentes de corriente dependientes conectadas al circuito.
 	 * 
-	 * @return lista de fuentes de corriente dependientes
+	 * @return vista no modificable de las fuentes de corriente dependientes
 	 */
 	@JsonIgnore
 	public List<FuenteCorrienteDependiente> getFuentesCorrienteDep() {
@@ -214,15 +271,33 @@ public class Circuito {
 	 * @return copia del circuito original
 	 */
 	public Circuito copiar() {
-		Circuito nuevoCircuito=new Circuito();
+		CircuitoBuilder builder=new CircuitoBuilder(componentes.size());
 		for(Componente comp : this.getComponentes()) {
 			if(comp instanceof Tierra) continue;
-			nuevoCircuito.addComponente(comp.clonar());
+			builder.con(comp.clonar());
 		}
+		Circuito nuevoCircuito=builder.construir();
 		logger.log(Level.INFO, "Creada copia exacta del circuito original.");
 		return nuevoCircuito;
 	}
 	
+	/**
+	 * Instantánea del circuito: copias de los componentes con los mismos Ids
+	 * ({@link Componente#copiaExacta()}) y el mismo mapa de nodos. A diferencia de
+	 * {@link #copiar()}, conserva la tierra y no registra cada componente en el log, así que se
+	 * puede tomar en el hilo de la interfaz antes de guardar en segundo plano.
+	 * 
+	 * @return circuito independiente con los mismos componentes
+	 */
+	public Circuito instantanea() {
+		Circuito copia=new Circuito();
+		for(Componente comp : componentes) {
+			copia.componentes.add(comp.copiaExacta());
+		}
+		copia.nodos.putAll(nodos);
+		return copia;
+	}
+	
 	/**
 	 * Modifica las resistencias de la lista de componentes, eliminando las viejas y
 	 * añadiendo las nuevas.
@@ -315,12 +390,12 @@ public class Circuito {
 	}
 	
 	/**
-	 * Comprueba si ya hay un componente Tierra en la lista de componentes.
+	 * Comprueba si ya hay un componente Tierra en la lista de componentes (mira su cubeta).
 	 * 
 	 * @return {@code true} si ya hay tierra, {@code false} si no
 	 */
 	private boolean hayTierra() {
-		return componentes.stream().anyMatch(c -> c instanceof Tierra);
+		return !componentes.vista(Tierra.class).isEmpty();
 	}
 	
 	/**
@@ -344,6 +419,9 @@ public class Circuito {
 	private Type inferirTipo(Componente c) {
 		switch(c.getTipo()) {
 			case "Resistencia": return Type.RESISTENCIA;
+			case "Condensador": return Type.CAPACIDAD;
+			case "Bobina": return Type.INDUCTANCIA;
+			case "Diodo": return Type.CORRIENTE;
 			case "Fuente Tension Independiente":
 			case "Fuente Tension Dependiente": return Type.TENSION;
 			case "Fuente Corriente Independiente":
@@ -351,4 +429,194 @@ public class Circuito {
 			default: return Type.RESISTENCIA;
 		}
 	}
+
+	/**
+	 * Lista de componentes con un índice por Id y una cubeta por clase, que se mantienen al
+	 * día con cualquier modificación (también desde {@link #getComponentes()} y desde los
+	 * {@code removeIf} de las utilidades de grafos). Los Ids y las clases no cambian mientras
+	 * el componente está en el circuito, así que los índices siempre son válidos.
+	 * <p>
+	 * Dos componentes del editor no comparten Id, pero un archivo cargado sí puede traer Ids
+	 * repetidos: se cuentan y, mientras haya alguno, las búsquedas que fallan en el índice
+	 * recorren la lista.
+	 * </p>
+	 */
+	private static final class ListaComponentes extends AbstractList<Componente> implements RandomAccess {
+		private final ArrayList<Componente> lista=new ArrayList<>();
+		private final Map<String, Componente> porId=new HashMap<>();
+		private final Map<Class<?>, ArrayList<Componente>> porTipo=new HashMap<>();
+		private final Map<Class<?>, List<? extends Componente>> vistas=new HashMap<>();
+		private int idsRepetidos;
+		private boolean reindexar;
+
+		@Override
+		public Componente get(int i) {
+			return lista.get(i);
+		}
+
+		@Override
+		public int size() {
+			return lista.size();
+		}
+
+		@Override
+		public void add(int i, Componente c) {
+			Objects.requireNonNull(c, "El componente no puede ser null");
+			lista.add(i, c);
+			modCount++;
+			indexar(c, i);
+		}
+
+		@Override
+		public boolean addAll(Collection<? extends Componente> lote) {
+			lista.ensureCapacity(lista.size()+lote.size());
+			for(Componente c : lote) add(lista.size(), c);
+			return !lote.isEmpty();
+		}
+
+		@Override
+		public Componente set(int i, Componente c) {
+			Objects.requireNonNull(c, "El componente no puede ser null");
+			Componente anterior=lista.set(i, c);
+			desindexar(anterior);
+			indexar(c, i);
+			return anterior;
+		}
+
+		@Override
+		public Componente remove(int i) {
+			Componente c=lista.remove(i);
+			modCount++;
+			desindexar(c);
+			return c;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			int i=indexOf(o);
+			if(i<0) return false;
+			remove(i);
+			return true;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return igual(o)!=null;
+		}
+
+		@Override
+		public int indexOf(Object o) {
+			Componente c=igual(o);
+			if(c==null) return -1;
+			for(int i=lista.size()-1; i>=0; i--) {
+				if(lista.get(i)==c) return i;
+			}
+			return -1;
+		}
+
+		@Override
+		public boolean removeIf(Predicate<? super Componente> filtro) {
+			Objects.requireNonNull(filtro, "El filtro no puede ser null");
+			boolean cambios=lista.removeIf(filtro);
+			if(cambios) {
+				modCount++;
+				reconstruir();
+			}
+			return cambios;
+		}
+
+		@Override
+		public void clear() {
+			lista.clear();
+			modCount++;
+			reconstruir();
+		}
+
+		/**
+		 * Componente con un Id dado.
+		 */
+		Componente buscar(String id) {
+			if(reindexar) reconstruir();
+			Componente c=porId.get(id);
+			if(c!=null || idsRepetidos==0) return c;
+			for(Componente k : lista) {
+				if(id.equals(k.getId())) return k;
+			}
+			return null;
+		}
+
+		/**
+		 * Vista no modificable de la cubeta de una clase, creada una sola vez.
+		 */
+		@SuppressWarnings("unchecked")
+		<T extends Componente> List<T> vista(Class<T> tipo) {
+			return (List<T>) vistas.computeIfAbsent(tipo, k -> Collections.unmodifiableList(cubeta(k)));
+		}
+
+		/**
+		 * Componente de la lista igual (según {@link Componente#equals(Object)}) a uno dado.
+		 */
+		private Componente igual(Object o) {
+			if(!(o instanceof Componente c)) return null;
+			if(reindexar) reconstruir();
+			Componente k=porId.get(c.getId());
+			if(k!=null && k.equals(c)) return k;
+			if(idsRepetidos==0) return null;
+			for(Componente x : lista) {
+				if(x.equals(c)) return x;
+			}
+			return null;
+		}
+
+		private ArrayList<Componente> cubeta(Class<?> tipo) {
+			return porTipo.computeIfAbsent(tipo, k -> new ArrayList<>());
+		}
+
+		/**
+		 * Registra un componente recién colocado en la posición {@code i} de la lista. La cubeta
+		 * conserva el orden de la lista: al final se añade directamente y en medio se cuenta
+		 * cuántos de su clase le preceden.
+		 */
+		private void indexar(Componente c, int i) {
+			if(porId.putIfAbsent(c.getId(), c)!=null) idsRepetidos++;
+			ArrayList<Componente> cubeta=cubeta(c.getClass());
+			if(i==lista.size()-1) {
+				cubeta.add(c);
+				return;
+			}
+			int pos=0;
+			for(int k=0; k<i; k++) {
+				if(lista.get(k).getClass()==c.getClass()) pos++;
+			}
+			cubeta.add(pos, c);
+		}
+
+		private void desindexar(Componente c) {
+			ArrayList<Componente> cubeta=cubeta(c.getClass());
+			for(int k=cubeta.size()-1; k>=0; k--) {
+				if(cubeta.get(k)==c) {
+					cubeta.remove(k);
+					break;
+				}
+			}
+			if(porId.get(c.getId())==c) {
+				porId.remove(c.getId());
+				//Otro componente con el mismo Id pasa a ocupar el índice
+				if(idsRepetidos>0) reindexar=true;
+			} else if(idsRepetidos>0) {
+				idsRepetidos--;
+			}
+		}
+
+		private void reconstruir() {
+			porId.clear();
+			porTipo.values().forEach(List::clear);
+			idsRepetidos=0;
+			reindexar=false;
+			for(Componente c : lista) {
+				if(porId.putIfAbsent(c.getId(), c)!=null) idsRepetidos++;
+				cubeta(c.getClass()).add(c);
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.circuitos.analisiscircuitos.dominio;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Clase que implementa el patrón Builder para construir circuitos grandes de una vez.
+ * <p>
+ * {@link Circuito#addComponente(Componente)} comprueba la tierra, registra los nodos y escribe
+ * una línea de log por cada componente, así que montar un circuito de muchos miles de
+ * componentes con ella es cuadrático. El builder solo acumula los componentes: la regla de una
+ * única tierra se comprueba una vez al construir, el mapa de nodos se crea en una sola pasada
+ * (con los mismos índices que daría {@code addComponente} en el mismo orden) y se escribe una
+ * única línea de resumen.
+ * </p>
+ * Nuevo CircuitoBuilder - con(Componente) - conTodos(componentes) - construir.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class CircuitoBuilder {
+	private static final Logger logger=Logger.getLogger(CircuitoBuilder.class.getName());
+	private final ArrayList<Componente> componentes;
+	private int tierras;
+	private boolean construido;
+
+	/**
+	 * Constructor. Builder vacío.
+	 */
+	public CircuitoBuilder() {
+		this.componentes=new ArrayList<>();
+	}
+
+	/**
+	 * Constructor con el número de componentes esperado, para no redimensionar la lista.
+	 *
+	 * @param capacidad			Número aproximado de componentes
+	 */
+	public CircuitoBuilder(int capacidad) {
+		this.componentes=new ArrayList<>(Math.max(0, capacidad));
+	}
+
+	/**
+	 * Añade un componente.
+	 *
+	 * @param componente		Componente de cualquier tipo
+	 * @return este builder
+	 * @throws IllegalStateException si el circuito ya se ha construido
+	 */
+	public CircuitoBuilder con(Componente componente) {
+		Objects.requireNonNull(componente, "El componente no puede ser null");
+		comprobarAbierto();
+		componentes.add(componente);
+		if(componente instanceof Tierra) tierras++;
+		return this;
+	}
+
+	/**
+	 * Añade un componente recién creado al cargar un archivo, con el Id que tenía guardado. Es
+	 * el único modo de fijar el Id de un componente: se hace antes de que entre en el circuito,
+	 * así que su índice por Id no se desajusta.
+	 *
+	 * @param componente		Componente recién creado, que no está en ningún circuito
+	 * @param idGuardado		Id leído del archivo
+	 * @return este builder
+	 * @throws IllegalArgumentException si el Id está vacío
+	 * @throws IllegalStateException si el circuito ya se ha construido
+	 */
+	public CircuitoBuilder con(Componente componente, String idGuardado) {
+		Objects.requireNonNull(componente, "El componente no puede ser null");
+		comprobarAbierto();
+		componente.restaurarId(idGuardado);
+		return con(componente);
+	}
+
+	/**
+	 * Añade varios componentes en orden.
+	 *
+	 * @param lote				Componentes de cualquier tipo
+	 * @return este builder
+	 * @throws IllegalStateException si el circuito ya se ha construido
+	 */
+	public CircuitoBuilder conTodos(Iterable<? extends Componente> lote) {
+		Objects.requireNonNull(lote, "Los componentes no pueden ser null");
+		if(lote instanceof Collection<?> col) {
+			comprobarAbierto();
+			componentes.ensureCapacity(componentes.size()+col.size());
+		}
+		for(Componente c : lote) con(c);
+		return this;
+	}
+
+	/**
+	 * Número de componentes añadidos hasta ahora.
+	 *
+	 * @return número de componentes
+	 */
+	public int size() {
+		return componentes.size();
+	}
+
+	/**
+	 * Construye el circuito. El builder no se puede volver a usar.
+	 *
+	 * @return circuito con todos los componentes y su mapa de nodos
+	 * @throws IllegalArgumentException si hay más de una tierra
+	 * @throws IllegalStateException si el circuito ya se ha construido
+	 */
+	public Circuito construir() {
+		comprobarAbierto();
+		if(tierras>1) {
+			logger.log(Level.WARNING, "Sólo se permite un componente Tierra. Encontrados: {0}", tierras);
+			throw new IllegalArgumentException("Sólo se permite un componente Tierra en un circuito.");
+		}
+		construido=true;
+		Circuito circuito=new Circuito();
+		circuito.registrarLote(componentes);
+		logger.log(Level.INFO, "Circuito construido: {0} componentes, {1} nodos",
+				new Object[] {componentes.size(), circuito.getNodos().size()});
+		return circuito;
+	}
+
+	private void comprobarAbierto() {
+		if(construido) throw new IllegalStateException("El circuito ya se ha construido con este builder.");
+	}
+}
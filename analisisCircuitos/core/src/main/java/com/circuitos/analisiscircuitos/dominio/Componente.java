@@ -1,6 +1,9 @@
 package com.circuitos.analisiscircuitos.dominio;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import com.circuitos.analisiscircuitos.dominio.util.GestorIds;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -9,17 +12,17 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-
 /**
  * Clase abstracta que representa un componente genérico de un circuito eléctrico.
  * <p>
  * Preparada para serializar/deserializar con Jackson usando @type.
  * </p>
  * Las subclases deben implementar sus métodos.
+ * <p>
+ * El dominio no depende de JavaFX: los cambios de valor, carga o control se notifican a los
+ * observadores registrados con {@link #addObservador(Consumer)}, que la interfaz gráfica
+ * adapta a sus propiedades observables.
+ * </p>
  * 
  * @author Marco Antonio Garzón Palos
  * @version 1.0
@@ -31,6 +34,9 @@ import javafx.beans.property.SimpleDoubleProperty;
 )
 @JsonSubTypes({
 	@JsonSubTypes.Type(value=Resistencia.class, name="Resistencia"),
+	@JsonSubTypes.Type(value=Condensador.class, name="Condensador"),
+	@JsonSubTypes.Type(value=Bobina.class, name="Bobina"),
+	@JsonSubTypes.Type(value=Diodo.class, name="Diodo"),
 	@JsonSubTypes.Type(value=FuenteTensionInd.class, name="FuenteTensionIndependiente"),
 	@JsonSubTypes.Type(value=FuenteCorrienteInd.class, name="FuenteCorrienteIndependiente"),
 	@JsonSubTypes.Type(value=FuenteTensionDependiente.class, name="FuenteTensionDependiente"),
@@ -42,9 +48,10 @@ import javafx.beans.property.SimpleDoubleProperty;
 public abstract class Componente {
 	private int nodo1;
 	private int nodo2;
-	private final String id;
-	private final BooleanProperty carga=new SimpleBooleanProperty();
-	private final DoubleProperty valor=new SimpleDoubleProperty();
+	private String id;
+	private boolean carga;
+	private double valor;
+	private List<Consumer<Componente>> observadores;
 
 	/**
 	 * Constructor. Crea un componente con dos nodos y le pone la etiqueta "de carga"
@@ -57,7 +64,7 @@ public abstract class Componente {
 	protected Componente(int nodo1, int nodo2, boolean ch) {
 		this.nodo1=nodo1;
 		this.nodo2=nodo2;
-		carga.set(ch);
+		this.carga=ch;
 		this.id=GestorIds.getInstance().generarId(this);
 	}
 	
@@ -76,10 +83,9 @@ public abstract class Componente {
 	 * @param nodo1	Nodo de tierra.
 	 */
 	protected Componente(int nodo1) {
-		carga.set(false);
 		this.nodo1=nodo1;
 		this.nodo2=nodo1;
-		this.carga.set(false);
+		this.carga=false;
 		this.id="GND";
 	}
 	
@@ -128,7 +134,7 @@ public abstract class Componente {
 	 */
 	@JsonProperty("carga")
 	public final boolean isCarga() {
-		return carga.get();
+		return carga;
 	}
 	
 	/**
@@ -137,18 +143,8 @@ public abstract class Componente {
 	 * @param carga
 	 */
 	public void setCarga(boolean ch) {
-		this.carga.set(ch);
-	}
-	
-	/**
-	 * Obtiene la propiedad observable sobre si es un componente de carga.
-	 * Permite enlazar el estado de carga en la interfaz JavaFX.
-	 * 
-	 * @return propiedad observable de carga (valor booleano)
-	 */
-	@JsonIgnore
-	public BooleanProperty cargaProperty() {
-		return carga;
+		this.carga=ch;
+		notificarCambio();
 	}
 	
 	/**
@@ -191,6 +187,38 @@ public abstract class Componente {
 	 */
 	public abstract Componente clonar();
 	
+	/**
+	 * Copia independiente del componente con el mismo Id, sin observadores. Sirve para tomar
+	 * instantáneas del circuito que se guardan en segundo plano mientras se sigue editando. El
+	 * Id que reserva la copia al crearse se devuelve al {@link GestorIds}.
+	 * 
+	 * @return copia con el mismo Id
+	 */
+	public final Componente copiaExacta() {
+		Componente copia=clonar();
+		if(!Objects.equals(copia.id, id)) {
+			copia.liberarId();
+			copia.id=id;
+		}
+		return copia;
+	}
+	
+	/**
+	 * Restaura el Id guardado en un archivo al cargar el componente, igual que hace la
+	 * deserialización JSON con el campo {@code id}. El Id que reservó el constructor no se
+	 * devuelve al {@link GestorIds}: así los Ids nuevos del editor siguen después de los cargados.
+	 * Solo se llama desde {@link CircuitoBuilder#con(Componente, String)}, antes de que el
+	 * componente entre en un circuito: el índice por Id del circuito supone que el Id no cambia.
+	 * 
+	 * @param idGuardado			Id leído del archivo
+	 * @throws IllegalArgumentException si el Id está vacío
+	 */
+	final void restaurarId(String idGuardado) {
+		Objects.requireNonNull(idGuardado, "El Id no puede ser null");
+		if(idGuardado.isBlank()) throw new IllegalArgumentException("El Id guardado está vacío");
+		this.id=idGuardado;
+	}
+	
 	/**
 	 * Clona componentes de un circuito a otro pero con otros nodos.
 	 * @param nuevoNodo1
@@ -210,7 +238,7 @@ public abstract class Componente {
 	 */
 	@JsonProperty("valor")
 	public double getValor() {
-		return valor.get();
+		return valor;
 	}
 
 	/**
@@ -220,18 +248,44 @@ public abstract class Componente {
 	 * @param nuevoValor			Valor nuevo que se modifica
 	 */
 	public void setValor(double nuevoValor) {
-		valor.set(nuevoValor);
+		this.valor=nuevoValor;
+		notificarCambio();
 	}
 	
 	/**
-	 * Obtiene la propiedad observable sobre el valor del componente.
-	 * Permite enlazar el valor del componente en la interfaz JavaFX.
+	 * Registra un observador al que se avisa cada vez que cambia el valor, la carga o los
+	 * nodos de control del componente. Los observadores no se copian al clonar.
 	 * 
-	 * @return propiedad observable de valor del componente (tipo double)
+	 * @param observador			Acción que recibe el componente modificado
 	 */
-	@JsonIgnore
-	public DoubleProperty valorProperty() {
-		return valor;
+	public final void addObservador(Consumer<Componente> observador) {
+		Objects.requireNonNull(observador, "Observador no puede ser null");
+		if(observadores==null) {
+			observadores=new ArrayList<>(2);
+		}
+		observadores.add(observador);
+	}
+	
+	/**
+	 * Elimina un observador registrado con {@link #addObservador(Consumer)}.
+	 * 
+	 * @param observador			Observador a eliminar
+	 */
+	public final void removeObservador(Consumer<Componente> observador) {
+		if(observadores!=null) {
+			observadores.remove(observador);
+		}
+	}
+	
+	/**
+	 * Avisa a los observadores de que el componente ha cambiado. Las subclases lo llaman
+	 * desde sus setters.
+	 */
+	protected final void notificarCambio() {
+		if(observadores==null) return;
+		for(Consumer<Componente> o : List.copyOf(observadores)) {
+			o.accept(this);
+		}
 	}
 	
 	/**
@@ -252,7 +306,8 @@ public abstract class Componente {
 	
 	/**
 	 * Determina si dos instancias de "Componente" son iguales comparando sus valores.
-	 * Se consideran iguales si son la misma instancia o tienen todos los parámetros iguales.
+	 * Se consideran iguales si son la misma instancia o tienen el mismo Id y todos los parámetros
+	 * iguales (dos componentes distintos del editor nunca comparten Id).
 	 * 
 	 * @return true o false (si son iguales o no)
 	 */
@@ -260,7 +315,8 @@ public abstract class Componente {
 	public boolean equals(Object obj) {
 		if(this==obj) return true;
 		if(!(obj instanceof Componente otro)) return false;
-		return nodo1==otro.nodo1
+		return Objects.equals(id, otro.id)
+				&& nodo1==otro.nodo1
 				&& nodo2==otro.nodo2
 				&& carga==otro.carga
 				&& Objects.equals(getTipo(),  otro.getTipo())
@@ -274,6 +330,6 @@ public abstract class Componente {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(nodo1, nodo2, carga, getTipo(), getValor());
+		return Objects.hash(id, nodo1, nodo2, carga, getTipo(), getValor());
 	}
 }
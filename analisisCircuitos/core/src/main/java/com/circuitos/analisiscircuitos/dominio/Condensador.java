@@ -0,0 +1,193 @@
+package com.circuitos.analisiscircuitos.dominio;
+
+import java.util.Objects;
+
+import com.circuitos.analisiscircuitos.dominio.util.FormatUtil;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Clase que extiende la clase abstracta Componente para definir
+ * un condensador ideal. En continua se comporta como un circuito abierto y
+ * en alterna como una admitancia jωC.
+ * 
+ * @author 	Marco Antonio Garzon Palos
+ * @version 1.0 (2025)
+ */
+public class Condensador extends Componente {
+	private double faradios;
+	
+	/**
+	 * Constructor sin argumentos para deserialización (pedido por libreria Jackson)
+	 */
+	public Condensador() {
+		super(0, 0, false);
+		this.faradios=0.0;
+	}
+	
+	/**
+	 * Constructor con solo valor de capacidad.
+	 * Inicializa con nodos (0, 0) y carga=false.
+	 * 
+	 * @param c			capacidad (Faradios, F)
+	 * @throws IllegalArgumentException si {@code c<=0}
+	 */
+	public Condensador(double c) {
+		super(0, 0, false);
+		if(c<=0) throw new IllegalArgumentException("El valor del condensador debe ser positivo.");
+		this.faradios=c;
+	}
+	
+	/**
+	 * Constructor completo (con manejo de excepciones).
+	 * 
+	 * @param c 	capacidad (Faradios, F)
+	 * @param n1	nodo 1
+	 * @param n2	nodo 2
+	 * @param carga flag de carga (true si es componente de carga)
+	 * @throws IllegalArgumentException Si los dos nodos son iguales
+	 * @throws IllegalArgumentException Si el valor de capacidad es menor o igual que cero
+	 */
+	public Condensador(double c, int n1, int n2, boolean carga) {
+		super(n1, n2, carga);
+		if(n1==n2) throw new IllegalArgumentException("Los dos nodos de un condensador no pueden ser el mismo.");
+		if(c<=0) throw new IllegalArgumentException("El valor del condensador debe ser positivo.");
+		this.faradios=c;
+	}
+	
+	/**
+	 * Constructor normal (sin flag de carga).
+	 * 
+	 * @param c 	capacidad (Faradios, F)
+	 * @param n1	nodo 1
+	 * @param n2 	nodo 2
+	 */
+	public Condensador(double c, int n1, int n2) {
+		this(c, n1, n2, false);
+	}
+	
+	/**
+	 * Constructor que acepta string con sufijo multiplicador completo (con flag de carga).
+	 * 
+	 * @param c		capacidad (Faradios, F con sufijo)
+	 * @param n1 	nodo 1
+	 * @param n2 	nodo 2
+	 * @param carga flag de carga
+	 */
+	public Condensador(String c, int n1, int n2, boolean carga) {
+		this(Unidades.parsear(c), n1, n2, carga);
+	}
+	
+	/**
+	 * Constructor que acepta string con sufijo multiplicador (sin flag de carga).
+	 * 
+	 * @param c 	capacidad (Faradios, F con sufijo)
+	 * @param n1 	nodo 1
+	 * @param n2 	nodo 2
+	 */
+	public Condensador(String c, int n1, int n2) {
+		this(Unidades.parsear(c), n1, n2, false);
+	}
+	
+	/**
+	 * Obtiene la capacidad del condensador.
+	 * 
+	 * @return capacidad en Faradios
+	 */
+	@Override
+	@JsonProperty("valor")
+	public double getValor() {
+		return faradios;
+	}
+	
+	/**
+	 * Asigna la capacidad del condensador.
+	 * 
+	 * @param c nuevo valor en Faradios
+	 * @throws IllegalArgumentException si {@code c<=0}
+	 */
+	@Override
+	public void setValor(double c) {
+		if(c<=0) {
+			throw new IllegalArgumentException("El valor del condensador debe ser >0: "+c);
+		}
+		this.faradios=c;
+		notificarCambio();
+	}
+	
+	/**
+	 * Devuelve el tipo de componente como String.
+	 * 
+	 * @return "Condensador"
+	 */
+	@Override
+	public String getTipo() {
+		return "Condensador";
+	}
+	
+	/**
+	 * Clona un condensador de un circuito en otro.
+	 * 
+	 * @return nuevo condensador clonado
+	 */
+	@Override
+	public Componente clonar() {
+		return new Condensador(this.getValor(), getNodo1(), getNodo2(), isCarga());
+	}
+	
+	/**
+	 * Clona un condensador de un circuito en otro con nodos nuevos.
+	 * 
+	 * @return nuevo condensador clonado con nuevos nodos
+	 */
+	@Override
+	public Componente clonarConNuevosNodos(int nuevoNodo1, int nuevoNodo2) {
+		return new Condensador(this.getValor(), nuevoNodo1, nuevoNodo2, isCarga());
+	}
+	
+	/**
+	 * Devuelve el prefijo "C" (Condensador) para añadirlo al identificador único del componente.
+	 */
+	@Override
+	public String getPrefijo() {
+		return "C";
+	}
+	
+	/**
+	 * Describe un condensador
+	 * Complementa el método describir de la clase {@link Componente}
+	 */
+	@Override
+	@JsonIgnore
+	public String describir() {
+		return String.format(
+				"%s (%s)\nNodos: %d->%d\nCapacidad: %s",
+				getTipo(), getId(), getNodo1(), getNodo2(),
+				FormatUtil.format(getValor(), Unidades.Type.CAPACIDAD));
+	}
+	
+	/**
+	 * Compara este condensador con otro objeto.
+	 * 
+	 * @param obj objeto a comparar
+	 * @return {@code true} si son equivalentes, {@code false} en caso contrario
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if(!super.equals(obj)) return false;
+		if(!(obj instanceof Condensador)) return false;
+		Condensador otro=(Condensador) obj;
+		return Double.compare(getValor(), otro.getValor())==0;
+	}
+	
+	/**
+	 * Calcula el código hash.
+	 * 
+	 * @return código hash
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(super.hashCode(), getValor());
+	}
+}
@@ -0,0 +1,226 @@
+package com.circuitos.analisiscircuitos.dominio;
+
+import java.util.Objects;
+
+import com.circuitos.analisiscircuitos.dominio.util.FormatUtil;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Clase que extiende la clase abstracta Componente para definir
+ * un diodo de unión según la ecuación de Shockley: Id=Is·(exp(Vd/(n·Vt))-1).
+ * El ánodo es el nodo 1 y el cátodo el nodo 2, de modo que Vd=V1-V2 y la corriente
+ * directa circula del nodo 1 al nodo 2. Su valor es la corriente de saturación Is.
+ *
+ * @author 	Marco Antonio Garzon Palos
+ * @version 1.0 (2025)
+ */
+public class Diodo extends Componente {
+	/** Tensión térmica a 300 K (V) */
+	public static final double TENSION_TERMICA=0.025852;
+	private static final double EXPONENTE_MAXIMO=80.0;
+	private double saturacion;
+	private double emision=1.0;
+
+	/**
+	 * Constructor sin argumentos para deserialización (pedido por libreria Jackson)
+	 */
+	public Diodo() {
+		super(0, 0, false);
+		this.saturacion=1e-14;
+	}
+
+	/**
+	 * Constructor completo (con manejo de excepciones).
+	 *
+	 * @param is 		corriente de saturación (Amperios, A)
+	 * @param anodo		nodo 1 (ánodo)
+	 * @param catodo	nodo 2 (cátodo)
+	 * @param carga 	flag de carga (true si es componente de carga)
+	 * @throws IllegalArgumentException Si los dos nodos son iguales
+	 * @throws IllegalArgumentException Si la corriente de saturación es menor o igual que cero
+	 */
+	public Diodo(double is, int anodo, int catodo, boolean carga) {
+		super(anodo, catodo, carga);
+		if(anodo==catodo) throw new IllegalArgumentException("Los dos nodos de un diodo no pueden ser el mismo.");
+		if(is<=0) throw new IllegalArgumentException("La corriente de saturación del diodo debe ser positiva.");
+		this.saturacion=is;
+	}
+
+	/**
+	 * Constructor normal (sin flag de carga).
+	 *
+	 * @param is 		corriente de saturación (Amperios, A)
+	 * @param anodo		nodo 1 (ánodo)
+	 * @param catodo	nodo 2 (cátodo)
+	 */
+	public Diodo(double is, int anodo, int catodo) {
+		this(is, anodo, catodo, false);
+	}
+
+	/**
+	 * Constructor que acepta string con sufijo multiplicador (sin flag de carga).
+	 *
+	 * @param is 		corriente de saturación (Amperios, A con sufijo)
+	 * @param anodo		nodo 1 (ánodo)
+	 * @param catodo	nodo 2 (cátodo)
+	 */
+	public Diodo(String is, int anodo, int catodo) {
+		this(Unidades.parsear(is), anodo, catodo, false);
+	}
+
+	/**
+	 * Obtiene la corriente de saturación del diodo.
+	 *
+	 * @return corriente de saturación en Amperios
+	 */
+	@Override
+	@JsonProperty("valor")
+	public double getValor() {
+		return saturacion;
+	}
+
+	/**
+	 * Asigna la corriente de saturación del diodo.
+	 *
+	 * @param is nuevo valor en Amperios
+	 * @throws IllegalArgumentException si {@code is<=0}
+	 */
+	@Override
+	public void setValor(double is) {
+		if(is<=0) {
+			throw new IllegalArgumentException("La corriente de saturación del diodo debe ser >0: "+is);
+		}
+		this.saturacion=is;
+		notificarCambio();
+	}
+
+	/**
+	 * Obtiene el coeficiente de emisión (idealidad) n.
+	 *
+	 * @return coeficiente de emisión
+	 */
+	public double getEmision() {
+		return emision;
+	}
+
+	/**
+	 * Asigna el coeficiente de emisión (idealidad) n.
+	 *
+	 * @param n		coeficiente de emisión
+	 * @throws IllegalArgumentException si {@code n<=0}
+	 */
+	public void setEmision(double n) {
+		if(!(n>0)) {
+			throw new IllegalArgumentException("El coeficiente de emisión debe ser >0: "+n);
+		}
+		this.emision=n;
+	}
+
+	/**
+	 * Corriente del diodo para una tensión ánodo-cátodo. Por encima de un exponente de
+	 * {@value #EXPONENTE_MAXIMO} se prolonga linealmente para evitar desbordamientos
+	 * durante las iteraciones.
+	 *
+	 * @param vd		tensión ánodo-cátodo (V)
+	 * @return corriente del ánodo al cátodo (A)
+	 */
+	public double corriente(double vd) {
+		double nvt=emision*TENSION_TERMICA;
+		double x=vd/nvt;
+		if(x>EXPONENTE_MAXIMO) {
+			double e=Math.exp(EXPONENTE_MAXIMO);
+			return getValor()*(e*(1.0+x-EXPONENTE_MAXIMO)-1.0);
+		}
+		return getValor()*Math.expm1(x);
+	}
+
+	/**
+	 * Conductancia dinámica dId/dVd para una tensión ánodo-cátodo.
+	 *
+	 * @param vd		tensión ánodo-cátodo (V)
+	 * @return conductancia (S)
+	 */
+	public double conductancia(double vd) {
+		double nvt=emision*TENSION_TERMICA;
+		return getValor()*Math.exp(Math.min(vd/nvt, EXPONENTE_MAXIMO))/nvt;
+	}
+
+	/**
+	 * Devuelve el tipo de componente como String.
+	 *
+	 * @return "Diodo"
+	 */
+	@Override
+	public String getTipo() {
+		return "Diodo";
+	}
+
+	/**
+	 * Clona un diodo de un circuito en otro.
+	 *
+	 * @return nuevo diodo clonado
+	 */
+	@Override
+	public Componente clonar() {
+		return clonarConNuevosNodos(getNodo1(), getNodo2());
+	}
+
+	/**
+	 * Clona un diodo de un circuito en otro con nodos nuevos.
+	 *
+	 * @return nuevo diodo clonado con nuevos nodos
+	 */
+	@Override
+	public Componente clonarConNuevosNodos(int nuevoNodo1, int nuevoNodo2) {
+		Diodo d=new Diodo(this.getValor(), nuevoNodo1, nuevoNodo2, isCarga());
+		d.setEmision(emision);
+		return d;
+	}
+
+	/**
+	 * Devuelve el prefijo "D" (Diodo) para añadirlo al identificador único del componente.
+	 */
+	@Override
+	public String getPrefijo() {
+		return "D";
+	}
+
+	/**
+	 * Describe un diodo
+	 * Complementa el método describir de la clase {@link Componente}
+	 */
+	@Override
+	@JsonIgnore
+	public String describir() {
+		return String.format(
+				"%s (%s)\nNodos: %d->%d\nCorriente de saturación: %s\nEmisión: %s",
+				getTipo(), getId(), getNodo1(), getNodo2(),
+				FormatUtil.format(getValor(), Unidades.Type.CORRIENTE), emision);
+	}
+
+	/**
+	 * Compara este diodo con otro objeto.
+	 *
+	 * @param obj objeto a comparar
+	 * @return {@code true} si son equivalentes, {@code false} en caso contrario
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if(!super.equals(obj)) return false;
+		if(!(obj instanceof Diodo)) return false;
+		Diodo otro=(Diodo) obj;
+		return Double.compare(getValor(), otro.getValor())==0 && Double.compare(emision, otro.emision)==0;
+	}
+
+	/**
+	 * Calcula el código hash.
+	 *
+	 * @return código hash
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(super.hashCode(), getValor(), emision);
+	}
+}
@@ -7,11 +7,6 @@ import com.circuitos.analisiscircuitos.dominio.util.Unidades;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleObjectProperty;
-
 /**
  * Clase que extiende la clase abstracta Componente para definir
  * una fuente de corriente dependiente (ya sea controlada por tensión o corriente).
@@ -20,9 +15,9 @@ import javafx.beans.property.SimpleObjectProperty;
  * @version 1.0 (2025)
  */
 public class FuenteCorrienteDependiente extends Componente implements FuenteDependiente {
-	private final IntegerProperty ctrlNeg=new SimpleIntegerProperty();
-	private final IntegerProperty ctrlPos=new SimpleIntegerProperty();
-	private final ObjectProperty<ControlType> controlType=new SimpleObjectProperty<>();
+	private int ctrlNeg;
+	private int ctrlPos;
+	private ControlType controlType;
 	
 	/**
 	 * Constructor sin argumentos para deserialización (pedido por libreria Jackson)
@@ -50,9 +45,9 @@ public class FuenteCorrienteDependiente extends Componente implements FuenteDepe
 			throw new IllegalArgumentException("El factor ß debe ser mayor que 0.");
 		}
 		setValor(ganancia);
-		this.controlType.set(Objects.requireNonNull(controlType, "ControlType no puede ser null"));
-		this.ctrlNeg.set(ctrlNeg);
-		this.ctrlPos.set(ctrlPos);
+		this.controlType=Objects.requireNonNull(controlType, "ControlType no puede ser null");
+		this.ctrlNeg=ctrlNeg;
+		this.ctrlPos=ctrlPos;
 	}
 	
 	/**
@@ -89,7 +84,7 @@ public class FuenteCorrienteDependiente extends Componente implements FuenteDepe
 	@Override
 	@JsonProperty("ctrlNeg")
 	public int getCtrlNeg() {
-		return ctrlNeg.get();
+		return ctrlNeg;
 	}
 	
 	/**
@@ -103,7 +98,8 @@ public class FuenteCorrienteDependiente extends Componente implements FuenteDepe
 		if(cn<0) {
 			throw new IllegalArgumentException("ctrlNeg inválido: "+cn);
 		}
-		this.ctrlNeg.set(cn);
+		this.ctrlNeg=cn;
+		notificarCambio();
 	}
 	
 	/**
@@ -114,7 +110,7 @@ public class FuenteCorrienteDependiente extends Componente implements FuenteDepe
 	@Override
 	@JsonProperty("ctrlPos")
 	public int getCtrlPos() {
-		return ctrlPos.get();
+		return ctrlPos;
 	}
 	
 	/**
@@ -128,32 +124,10 @@ public class FuenteCorrienteDependiente extends Componente implements FuenteDepe
 		if(cp<0) {
 			throw new IllegalArgumentException("ctrlPos inválido: "+cp);
 		}
-		ctrlPos.set(cp);
+		this.ctrlPos=cp;
+		notificarCambio();
 	}
 	
-	/**
-	 * Obtiene la propiedad observable sobre el nodo de control negativo de la fuente de corriente dependiente.
-	 * Permite enlazar el nodo de control negativo en la interfaz JavaFX.
-	 * 
-	 * @return propiedad observable de nodo de control negativo (valor Integer)
-	 */
-	@Override
-	@JsonIgnore
-	public IntegerProperty ctrlNegProperty() {
-		return ctrlNeg;
-	}
-	
-	/**
-	 * Obtiene la propiedad observable sobre el nodo de control positivo de la fuente de corriente dependiente.
-	 * Permite enlazar el nodo de control positivo en la interfaz JavaFX.
-	 * 
-	 * @return propiedad observable de nodo de control positivo (valor Integer)
-	 */
-	@Override
-	@JsonIgnore
-	public IntegerProperty ctrlPosProperty() {
-		return ctrlPos;
-	}
 	
 	/**
 	 * Obtiene el tipo de control de la fuente (tensión o corriente).
@@ -163,7 +137,7 @@ public class FuenteCorrienteDependiente extends Componente implements FuenteDepe
 	@Override
 	@JsonProperty("controlType")
 	public ControlType getControlType() {
-		return controlType.get();
+		return controlType;
 	}
 	
 	/**
@@ -173,18 +147,8 @@ public class FuenteCorrienteDependiente extends Componente implements FuenteDepe
 	 */
 	@Override
 	public void setControlType(ControlType ct) {
-		this.controlType.set(Objects.requireNonNull(ct, "ControlType no puede ser null"));
-	}
-	
-	/**
-	 * Obtiene la propiedad observable sobre el tipo de control de la fuente de corriente dependiente.
-	 * Permite enlazar el tipo de control en la interfaz JavaFX.
-	 * 
-	 * @return propiedad observable del tipo de control (Tension / Corriente)
-	 */
-	@JsonIgnore
-	public ObjectProperty<ControlType> controlTypeProperty() {
-		return controlType;
+		this.controlType=Objects.requireNonNull(ct, "ControlType no puede ser null");
+		notificarCambio();
 	}
 	
 	/**
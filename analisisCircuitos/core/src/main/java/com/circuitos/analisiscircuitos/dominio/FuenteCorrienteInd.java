@@ -7,9 +7,6 @@ import com.circuitos.analisiscircuitos.dominio.util.Unidades;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-
 /**
  * Clase que extiende la clase abstracta componente para definir
  * una fuente de corriente independiente (controlada por tensión o corriente).
@@ -18,14 +15,14 @@ import javafx.beans.property.SimpleDoubleProperty;
  * @version 1.0 (2025)
  */
 public class FuenteCorrienteInd extends Componente {
-	private final DoubleProperty corriente=new SimpleDoubleProperty();
+	private double corriente;
 	
 	/**
 	 * Constructor sin argumentos para deserialización (pedido por libreria Jackson)
 	 */
 	public FuenteCorrienteInd() {
 		super(0, 0, false);
-		this.corriente.set(0.0);
+		this.corriente=0.0;
 	}
 	
 	/**
@@ -38,7 +35,7 @@ public class FuenteCorrienteInd extends Componente {
 	 */
 	public FuenteCorrienteInd(double corriente, int nodoNeg, int nodoPos, boolean carga) {
 		super(nodoNeg, nodoPos, carga);
-		this.corriente.set(corriente);
+		this.corriente=corriente;
 	}
 	
 	/**
@@ -83,7 +80,7 @@ public class FuenteCorrienteInd extends Componente {
 	@Override
 	@JsonProperty("valor")
 	public double getValor() {
-		return corriente.get();
+		return corriente;
 	}
 	
 	/**
@@ -91,16 +88,8 @@ public class FuenteCorrienteInd extends Componente {
 	 */
 	@Override
 	public void setValor(double corriente) {
-		this.corriente.set(corriente);
-	}
-	
-	/**
-	 * Propiedad observable de la corriente.
-	 * 
-	 * @return DoubleProperty de la corriente
-	 */
-	public DoubleProperty valorProperty() {
-		return corriente;
+		this.corriente=corriente;
+		notificarCambio();
 	}
 	
 	/**
@@ -1,12 +1,7 @@
 package com.circuitos.analisiscircuitos.dominio;
 
-
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ObjectProperty;
-
 /**
  * Interfaz que define el comportamiento de fuentes dependientes (tensión o corriente).
  * 
@@ -14,13 +9,6 @@ import javafx.beans.property.ObjectProperty;
  * @version 1.0
  */
 public interface FuenteDependiente {
-	@JsonIgnore
-	IntegerProperty ctrlNegProperty();
-	@JsonIgnore
-	IntegerProperty ctrlPosProperty();
-	@JsonIgnore
-	ObjectProperty<ControlType> controlTypeProperty();
-	
 	/**
 	 * Enumerado para el tipo de control de la fuente dependiente.
 	 */
@@ -44,16 +32,9 @@ public interface FuenteDependiente {
 	 * Devuelve el nodo de control negativo.
 	 * 
 	 * @return Nodo de control negativo
-	 * @throws IllegalStateException si el valor de la propiedad es negativo
 	 */
 	@JsonProperty("ctrlNeg")
-	default int getCtrlNeg() {
-		int val=ctrlNegProperty().get();
-		if(val<0) {
-			throw new IllegalStateException("ctrlNeg no puede ser negativo: "+val);
-		}
-		return val;
-	}
+	int getCtrlNeg();
 	
 	/**
 	 * Modifica el nodo de control negativo.
@@ -61,27 +42,15 @@ public interface FuenteDependiente {
 	 * @param ctrlNeg 	Nuevo nodo de control negativo
 	 * @throws IllegalArgumentException si {@code ctrlNeg<0}  
 	 */
-	default void setCtrlNeg(int ctrlNeg) {
-		if(ctrlNeg<0) {
-			throw new IllegalArgumentException("ctrlNeg debe ser >= 0: "+ctrlNeg);
-		}
-		ctrlNegProperty().set(ctrlNeg);
-	}
+	void setCtrlNeg(int ctrlNeg);
 	
 	/**
 	 * Devuelve el nodo de control positivo.
 	 * 
 	 * @return Nodo de control positivo
-	 * @throws IllegalStateException si el valor de la propiedad es negativo
 	 */
 	@JsonProperty("ctrlPos")
-	default int getCtrlPos() {
-		int val=ctrlPosProperty().get();
-		if(val<0) {
-			throw new IllegalStateException("ctrlPos no puede ser negativo: "+val);
-		}
-		return val;
-	}
+	int getCtrlPos();
 
 	/**
 	 * Modifica el nodo de control positivo.
@@ -89,12 +58,7 @@ public interface FuenteDependiente {
 	 * @param ctrlPos	Nuevo nodo de control positivo
 	 * @throws IllegalArgumentException si {@code ctrlPos<0}
 	 */
-	default void setCtrlPos(int ctrlPos) {
-		if(ctrlPos<0) {
-			throw new IllegalArgumentException("ctrlPos debe ser >= 0: "+ctrlPos);
-		}
-		ctrlPosProperty().set(ctrlPos);
-	}
+	void setCtrlPos(int ctrlPos);
 	
 	/**
 	 * Obtiene el tipo de control de la fuente (tensión o corriente).
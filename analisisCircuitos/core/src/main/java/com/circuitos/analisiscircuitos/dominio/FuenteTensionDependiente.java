@@ -7,11 +7,6 @@ import com.circuitos.analisiscircuitos.dominio.util.Unidades;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleObjectProperty;
-
 /**
  * Clase que extiende la clase abstracta Componente para definir 
  * una fuente de tensión dependiente.
@@ -20,9 +15,9 @@ import javafx.beans.property.SimpleObjectProperty;
  * @version 1.0 (2025)
  */
 public class FuenteTensionDependiente extends Componente implements FuenteDependiente {
-	private final IntegerProperty ctrlNeg=new SimpleIntegerProperty();
-	private final IntegerProperty ctrlPos=new SimpleIntegerProperty();
-	private final ObjectProperty<ControlType> controlType=new SimpleObjectProperty<>();
+	private int ctrlNeg;
+	private int ctrlPos;
+	private ControlType controlType;
 	
 	/**
 	 * Constructor sin argumentos para deserialización (pedido por libreria Jackson)
@@ -100,7 +95,7 @@ public class FuenteTensionDependiente extends Componente implements FuenteDepend
 	@Override
 	@JsonProperty("ctrlPos")
 	public int getCtrlPos() {
-		return ctrlPos.get();
+		return ctrlPos;
 	}
 	
 	/**
@@ -110,18 +105,8 @@ public class FuenteTensionDependiente extends Componente implements FuenteDepend
 	 */
 	@Override
 	public void setCtrlPos(int cp) {
-		ctrlPos.set(cp);
-	}
-	
-	/**
-	 * Obtiene la propiedad observable sobre el nodo de control positvo de la fuente de tensión dependiente.
-	 * Permite enlazar el nodo de control positivo en la interfaz JavaFX.
-	 * 
-	 * @return propiedad observable de nodo de control positivo (valor Integer)
-	 */
-	@Override
-	public IntegerProperty ctrlPosProperty() {
-		return ctrlPos;
+		this.ctrlPos=cp;
+		notificarCambio();
 	}
 	
 	/**
@@ -132,7 +117,7 @@ public class FuenteTensionDependiente extends Componente implements FuenteDepend
 	@Override
 	@JsonProperty("ctrlNeg")
 	public int getCtrlNeg() {
-		return ctrlNeg.get();
+		return ctrlNeg;
 	}
 	
 	/**
@@ -142,18 +127,8 @@ public class FuenteTensionDependiente extends Componente implements FuenteDepend
 	 */
 	@Override
 	public void setCtrlNeg(int cn) {
-		ctrlNeg.set(cn);
-	}
-	
-	/**
-	 * Obtiene la propiedad observable sobre el nodo de control negativo de la fuente de tensión dependiente.
-	 * Permite enlazar el nodo de control negativo en la interfaz JavaFX.
-	 * 
-	 * @return propiedad observable de nodo de control negativo (valor Integer)
-	 */
-	@Override
-	public IntegerProperty ctrlNegProperty() {
-		return ctrlNeg;
+		this.ctrlNeg=cn;
+		notificarCambio();
 	}
 	
 	/**
@@ -164,7 +139,7 @@ public class FuenteTensionDependiente extends Componente implements FuenteDepend
 	@Override
 	@JsonProperty("controlType")
 	public ControlType getControlType() {
-		return controlType.get();
+		return controlType;
 	}
 	
 	/**
@@ -174,18 +149,8 @@ public class FuenteTensionDependiente extends Componente implements FuenteDepend
 	 */
 	@Override
 	public void setControlType(ControlType ct) {
-		this.controlType.set(Objects.requireNonNull(ct, "ControlType no puede ser null"));
-	}
-	
-	/**
-	 * Obtiene la propiedad observable sobre el tipo de control de la fuente de tensión dependiente.
-	 * Permite enlazar el tipo de control en la interfaz JavaFX.
-	 * 
-	 * @return propiedad observable del tipo de control (Tensión / Corriente)
-	 */
-	@JsonIgnore
-	public ObjectProperty<ControlType> controlTypeProperty() {
-		return controlType;
+		this.controlType=Objects.requireNonNull(ct, "ControlType no puede ser null");
+		notificarCambio();
 	}
 	
 	/**
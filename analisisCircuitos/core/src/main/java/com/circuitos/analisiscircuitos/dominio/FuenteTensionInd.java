@@ -7,9 +7,6 @@ import com.circuitos.analisiscircuitos.dominio.util.Unidades;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-
 /**
  * Clase que extiende la clase abstracta Componente para definir una 
  * fuente de tensión independiente.
@@ -18,14 +15,14 @@ import javafx.beans.property.SimpleDoubleProperty;
  * @version 1.0 (2025)
  */
 public class FuenteTensionInd extends Componente {
-	private final DoubleProperty tension=new SimpleDoubleProperty();
+	private double tension;
 	
 	/**
 	 * Constructor sin argumentos para deserialización (pedido por libreria Jackson)
 	 */
 	public FuenteTensionInd() {
 		super(0, 0, false);
-		this.tension.set(0.0);
+		this.tension=0.0;
 	}
 	
 	/**
@@ -40,7 +37,7 @@ public class FuenteTensionInd extends Componente {
 		super(nodoNeg, nodoPos, carga);
 		if(nodoNeg==nodoPos)
 			throw new IllegalArgumentException("El nodo positivo y negativo de la fuente de tensión no puede ser el mismo.");
-		this.tension.set(tension);
+		this.tension=tension;
 	}
 	
 	/**
@@ -85,7 +82,7 @@ public class FuenteTensionInd extends Componente {
 	@Override
 	@JsonProperty("valor")
 	public double getValor() {
-		return tension.get();
+		return tension;
 	}
 	
 	/**
@@ -95,17 +92,8 @@ public class FuenteTensionInd extends Componente {
 	 */
 	@Override
 	public void setValor(double tension) {
-		this.tension.set(tension);
-	}
-	
-	/**
-	 * Propiedad observable de la tensión.
-	 * 
-	 * @return DoubleProperty de tensión
-	 */
-	@JsonIgnore
-	public DoubleProperty valorProperty() {
-		return tension;
+		this.tension=tension;
+		notificarCambio();
 	}
 	
 	/**
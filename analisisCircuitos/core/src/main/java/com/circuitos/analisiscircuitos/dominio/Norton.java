@@ -7,8 +7,6 @@ import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.dominio.util.*;
 
-import javafx.util.Pair;
-
 /**
  * Clase que calcula el circuito equivalente de Norton de un circuito dado
  * visto entre dos nodos (nodoA, nodoB) (Reutiliza la clase Thevenin para cálculos).
@@ -52,9 +50,9 @@ public class Norton {
 	 */
 	public Circuito getNorton() {
 		logger.log(Level.INFO, "Obteniendo Norton entre nodos {0}-{1}", new Object[] {nodoA, nodoB});
-		Pair<Double, Double> params=calcularParametros();
-		double vth=params.getKey();
-		double rth=params.getValue();
+		ParametrosThevenin params=calcularParametros();
+		double vth=params.vth();
+		double rth=params.rth();
 		
 		double iN=calcularINorton(vth, rth);
 		double rN=rth;
@@ -93,7 +91,7 @@ public class Norton {
 	/**
 	 * Obtiene los parámetros de Thevenin (Vth, Rth)
 	 */
-	private Pair<Double, Double> calcularParametros() {
+	private ParametrosThevenin calcularParametros() {
 		return th.calcularParametros();
 	}
 	
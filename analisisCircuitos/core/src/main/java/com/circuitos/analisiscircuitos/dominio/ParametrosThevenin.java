@@ -0,0 +1,12 @@
+package com.circuitos.analisiscircuitos.dominio;
+
+/**
+ * Parámetros del equivalente de Thevenin entre dos nodos, en tipos primitivos.
+ * 
+ * @param vth			Tensión de Thevenin V(A)-V(B) (V)
+ * @param rth			Resistencia de Thevenin (Ω)
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public record ParametrosThevenin(double vth, double rth) { }
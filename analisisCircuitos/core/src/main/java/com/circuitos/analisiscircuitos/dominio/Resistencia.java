@@ -7,9 +7,6 @@ import com.circuitos.analisiscircuitos.dominio.util.Unidades;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-
 /**
  * Clase que extiende la clase abstracta Componente para definir
  * una resistencia.
@@ -18,14 +15,14 @@ import javafx.beans.property.SimpleDoubleProperty;
  * @version 1.0 (2025)
  */
 public class Resistencia extends Componente {
-	private final DoubleProperty ohmios=new SimpleDoubleProperty();
+	private double ohmios;
 	
 	/**
 	 * Constructor sin argumentos para deserialización (pedido por libreria Jackson)
 	 */
 	public Resistencia() {
 		super(0, 0, false);
-		this.ohmios.set(0.0);
+		this.ohmios=0.0;
 	}
 	
 	/**
@@ -38,7 +35,7 @@ public class Resistencia extends Componente {
 	public Resistencia(double r) {
 		super(0, 0, false);
 		if(r<=0) throw new IllegalArgumentException("El valor de la resistencia debe ser positivo.");
-		this.ohmios.set(r);
+		this.ohmios=r;
 	}
 	
 	/**
@@ -55,7 +52,7 @@ public class Resistencia extends Componente {
 		super(n1, n2, carga);
 		if(n1==n2) throw new IllegalArgumentException("Los dos nodos de una resistencia no pueden ser el mismo.");
 		if(r<=0) throw new IllegalArgumentException("El valor de la resistencia debe ser positivo.");
-		this.ohmios.set(r);
+		this.ohmios=r;
 	}
 	
 	/**
@@ -100,7 +97,7 @@ public class Resistencia extends Componente {
 	@Override
 	@JsonProperty("valor")
 	public double getValor() {
-		return ohmios.get();
+		return ohmios;
 	}
 	
 	/**
@@ -114,17 +111,8 @@ public class Resistencia extends Componente {
 		if(r<=0) {
 			throw new IllegalArgumentException("El valor de la resistencia debe ser >0: "+r);
 		}
-		this.ohmios.set(r);
-	}
-	
-	/**
-	 * Propiedad observable de la resistencia.
-	 * 
-	 * @return DoubleProperty de resistencia (Ohmios).
-	 */
-	@JsonIgnore
-	public DoubleProperty valorProperty() {
-		return ohmios;
+		this.ohmios=r;
+		notificarCambio();
 	}
 	
 	/**
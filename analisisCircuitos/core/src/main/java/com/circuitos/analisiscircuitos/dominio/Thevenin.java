@@ -1,7 +1,5 @@
 package com.circuitos.analisiscircuitos.dominio;
 
-import javafx.util.Pair;
-
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,8 +44,8 @@ public class Thevenin {
 	 */
 	public Circuito getThevenin() {
 		logger.log(Level.INFO, "Obteniendo circuito equivalente de Thevenin entre {0} y {1}", new Object[] {nodoA, nodoB});
-		Pair<Double, Double> params=calcularParametros();
-		return construirCircuitoThevenin(params.getKey(), params.getValue(), 0, 1, 0, 1);
+		ParametrosThevenin params=calcularParametros();
+		return construirCircuitoThevenin(params.vth(), params.rth(), 0, 1, 0, 1);
 	}
 	
 	/**
@@ -58,9 +56,9 @@ public class Thevenin {
 	 */
 	public Circuito getEquivalenteTheveninGrafico() {
 		logger.log(Level.INFO, "Obteniendo circuito equivalente de Thevenin gráfico entre {0} y {1}", new Object[] {nodoA, nodoB});
-		Pair<Double, Double> params=calcularParametros();
-		double vth=params.getKey();
-		double rth=params.getValue();
+		ParametrosThevenin params=calcularParametros();
+		double vth=params.vth();
+		double rth=params.rth();
 		if(rth<=0.0) {
 			logger.log(Level.WARNING, "Rth no positivo: "+rth);
 		}
@@ -70,13 +68,13 @@ public class Thevenin {
 	/**
 	 * Calcula Vth y Rth
 	 * 
-	 * @return par (Vth, Rth)
+	 * @return parámetros (Vth, Rth)
 	 */
-	public Pair<Double, Double> calcularParametros() {
+	public ParametrosThevenin calcularParametros() {
 		double vth=calcularVth();
 		double rth=calcularRth();
 		logger.log(Level.FINE, "Vth={0}, Rth={1}", new Object[] {vth, rth});
-		return new Pair<>(vth, rth);
+		return new ParametrosThevenin(vth, rth);
 	}
 	
 	/**
@@ -0,0 +1,415 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Bobina;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente.ControlType;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+
+/**
+ * Netlist compacta fuera del heap para circuitos de millones de componentes. Cada componente es
+ * un registro de ancho fijo ({@value #REGISTRO} bytes) en un {@link ByteBuffer} directo, sin
+ * objetos {@link Componente}, propiedades JavaFX, Ids ni mapas de nodos: en el heap solo queda
+ * el propio buffer, así que el consumo no crece con el tamaño del circuito.
+ * <p>
+ * Registro (little-endian): {@code valor} (double), {@code extra} (double, emisión del diodo),
+ * {@code nodo1}, {@code nodo2}, {@code ctrlNeg}, {@code ctrlPos} (int), {@code tipo} y
+ * {@code flags} (byte) y relleno hasta 8 bytes. La capacidad se reserva entera al crear la arena
+ * y no crece. El solver ({@link MatrixUtil#resolverCircuitoNodal(ArenaNetlist)}) y el grafo
+ * ({@link GraphUtil#nodosConexos(ArenaNetlist, int)}) leen los registros directamente.
+ * </p>
+ * <p>
+ * {@link #close()} suelta el buffer y cualquier acceso posterior falla. La memoria la libera el
+ * recolector al soltar el buffer directo; la liberación inmediata necesitaría la API de memoria
+ * externa, que en Java 21 aún es preliminar.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class ArenaNetlist implements AutoCloseable {
+	private static final Logger logger=Logger.getLogger(ArenaNetlist.class.getName());
+	/** Bytes de cada registro */
+	public static final int REGISTRO=40;
+	/** Bit de flags: componente de carga */
+	public static final byte CARGA=1;
+	/** Bit de flags: fuente dependiente controlada por corriente */
+	public static final byte CONTROL_CORRIENTE=2;
+	private static final int VALOR=0, EXTRA=8, NODO1=16, NODO2=20, CTRL_NEG=24, CTRL_POS=28, TIPO=32, FLAGS=33;
+
+	/**
+	 * Tipos de componente. El formato {@code .thvb} guarda el ordinal, así que solo se añaden al
+	 * final.
+	 */
+	public enum Tipo { RESISTENCIA, CONDENSADOR, BOBINA, DIODO, FUENTE_TENSION, FUENTE_CORRIENTE,
+		FUENTE_TENSION_DEPENDIENTE, FUENTE_CORRIENTE_DEPENDIENTE, TIERRA;
+
+		private static final Tipo[] VALORES=values();
+
+		/**
+		 * Tipo de un componente del modelo.
+		 *
+		 * @param c					Componente
+		 * @return tipo del registro
+		 * @throws IllegalArgumentException si el tipo no tiene registro
+		 */
+		public static Tipo de(Componente c) {
+			if(c instanceof Resistencia) return RESISTENCIA;
+			if(c instanceof Condensador) return CONDENSADOR;
+			if(c instanceof Bobina) return BOBINA;
+			if(c instanceof Diodo) return DIODO;
+			if(c instanceof FuenteTensionInd) return FUENTE_TENSION;
+			if(c instanceof FuenteCorrienteInd) return FUENTE_CORRIENTE;
+			if(c instanceof FuenteTensionDependiente) return FUENTE_TENSION_DEPENDIENTE;
+			if(c instanceof FuenteCorrienteDependiente) return FUENTE_CORRIENTE_DEPENDIENTE;
+			if(c instanceof Tierra) return TIERRA;
+			throw new IllegalArgumentException("Tipo de componente no soportado: "+c.getClass().getSimpleName());
+		}
+
+		/**
+		 * Obtiene el tipo a partir del ordinal guardado.
+		 *
+		 * @param ordinal			Ordinal guardado
+		 * @return tipo con ese ordinal
+		 * @throws IllegalArgumentException si ningún tipo tiene ese ordinal
+		 */
+		public static Tipo deOrdinal(int ordinal) {
+			if(ordinal<0 || ordinal>=VALORES.length) {
+				throw new IllegalArgumentException("Tipo de componente desconocido: "+ordinal);
+			}
+			return VALORES[ordinal];
+		}
+	}
+
+	private final int capacidad;
+	private ByteBuffer datos;
+	private int size;
+	private int mayorNodo=-1;
+
+	/**
+	 * Reserva una arena vacía.
+	 *
+	 * @param capacidad			Número máximo de componentes
+	 * @throws IllegalArgumentException si la capacidad es negativa o no cabe en un buffer
+	 */
+	public ArenaNetlist(int capacidad) {
+		if(capacidad<0 || (long) capacidad*REGISTRO>Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Capacidad de la arena no válida: "+capacidad);
+		}
+		this.capacidad=capacidad;
+		this.datos=ByteBuffer.allocateDirect(capacidad*REGISTRO).order(ByteOrder.LITTLE_ENDIAN);
+		logger.log(Level.FINE, "Arena reservada: {0} registros ({1} bytes)",
+				new Object[] {capacidad, capacidad*REGISTRO});
+	}
+
+	/**
+	 * Copia los componentes de un circuito en una arena del tamaño justo.
+	 *
+	 * @param circuito			Circuito de origen
+	 * @return arena con un registro por componente, en el mismo orden
+	 */
+	public static ArenaNetlist desde(Circuito circuito) {
+		Objects.requireNonNull(circuito, "El circuito no puede ser null");
+		ArenaNetlist arena=new ArenaNetlist(circuito.getComponentes().size());
+		for(Componente c : circuito.getComponentes()) {
+			arena.add(c);
+		}
+		return arena;
+	}
+
+	/**
+	 * Añade un componente sencillo (sin control ni emisión).
+	 *
+	 * @param tipo				Tipo del componente
+	 * @param nodo1				Nodo negativo
+	 * @param nodo2				Nodo positivo
+	 * @param valor				Valor del componente
+	 * @return índice del registro
+	 */
+	public int add(Tipo tipo, int nodo1, int nodo2, double valor) {
+		return add(tipo, nodo1, nodo2, valor, 0.0, -1, -1, (byte) 0);
+	}
+
+	/**
+	 * Añade un componente del modelo.
+	 *
+	 * @param c					Componente
+	 * @return índice del registro
+	 */
+	public int add(Componente c) {
+		Objects.requireNonNull(c, "El componente no puede ser null");
+		Tipo tipo=Tipo.de(c);
+		byte flags=c.isCarga() ? CARGA : 0;
+		int ctrlNeg=-1, ctrlPos=-1;
+		if(c instanceof FuenteDependiente f) {
+			ctrlNeg=f.getCtrlNeg();
+			ctrlPos=f.getCtrlPos();
+			if(f.getControlType()==ControlType.CORRIENTE) flags|=CONTROL_CORRIENTE;
+		}
+		double extra=c instanceof Diodo d ? d.getEmision() : 0.0;
+		if(tipo==Tipo.TIERRA) return add(tipo, c.getNodo1(), c.getNodo1(), 0.0, 0.0, -1, -1, flags);
+		return add(tipo, c.getNodo1(), c.getNodo2(), c.getValor(), extra, ctrlNeg, ctrlPos, flags);
+	}
+
+	/**
+	 * Añade un registro completo.
+	 *
+	 * @param tipo				Tipo del componente
+	 * @param nodo1				Nodo negativo
+	 * @param nodo2				Nodo positivo
+	 * @param valor				Valor del componente
+	 * @param extra				Emisión del diodo (0 en el resto)
+	 * @param ctrlNeg			Nodo de control negativo (-1 si no es dependiente)
+	 * @param ctrlPos			Nodo de control positivo (-1 si no es dependiente)
+	 * @param flags				{@link #CARGA} y {@link #CONTROL_CORRIENTE}
+	 * @return índice del registro
+	 * @throws IllegalStateException si la arena está llena o cerrada
+	 */
+	public int add(Tipo tipo, int nodo1, int nodo2, double valor, double extra, int ctrlNeg, int ctrlPos, byte flags) {
+		Objects.requireNonNull(tipo, "El tipo no puede ser null");
+		ByteBuffer b=abierta();
+		if(size==capacidad) throw new IllegalStateException("La arena está llena ("+capacidad+" registros)");
+		if(nodo1<0 || nodo2<0) throw new IllegalArgumentException("Nodos negativos: "+nodo1+", "+nodo2);
+		int o=size*REGISTRO;
+		b.putDouble(o+VALOR, valor);
+		b.putDouble(o+EXTRA, extra);
+		b.putInt(o+NODO1, nodo1);
+		b.putInt(o+NODO2, nodo2);
+		b.putInt(o+CTRL_NEG, ctrlNeg);
+		b.putInt(o+CTRL_POS, ctrlPos);
+		b.put(o+TIPO, (byte) tipo.ordinal());
+		b.put(o+FLAGS, flags);
+		mayorNodo=Math.max(mayorNodo, Math.max(nodo1, nodo2));
+		return size++;
+	}
+
+	/**
+	 * Obtiene el número de registros añadidos.
+	 *
+	 * @return número de registros
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Obtiene la capacidad reservada de la arena.
+	 *
+	 * @return número máximo de registros
+	 */
+	public int getCapacidad() {
+		return capacidad;
+	}
+
+	/**
+	 * Obtiene el número de nodos de la netlist.
+	 *
+	 * @return número de nodos (mayor nodo usado más uno)
+	 */
+	public int getNumNodos() {
+		return mayorNodo+1;
+	}
+
+	/**
+	 * Obtiene la memoria reservada por el buffer.
+	 *
+	 * @return bytes reservados fuera del heap
+	 */
+	public long getBytesReservados() {
+		return (long) capacidad*REGISTRO;
+	}
+
+	/**
+	 * Obtiene el tipo del componente de un registro.
+	 *
+	 * @param i					Índice del registro
+	 * @return tipo del componente
+	 */
+	public Tipo getTipo(int i) {
+		return Tipo.deOrdinal(abierta().get(offset(i)+TIPO));
+	}
+
+	/**
+	 * Obtiene el nodo 1 de un registro.
+	 *
+	 * @param i					Índice del registro
+	 * @return nodo 1 (negativo)
+	 */
+	public int getNodo1(int i) {
+		return abierta().getInt(offset(i)+NODO1);
+	}
+
+	/**
+	 * Obtiene el nodo 2 de un registro.
+	 *
+	 * @param i					Índice del registro
+	 * @return nodo 2 (positivo)
+	 */
+	public int getNodo2(int i) {
+		return abierta().getInt(offset(i)+NODO2);
+	}
+
+	/**
+	 * Obtiene el valor del componente de un registro.
+	 *
+	 * @param i					Índice del registro
+	 * @return valor del componente
+	 */
+	public double getValor(int i) {
+		return abierta().getDouble(offset(i)+VALOR);
+	}
+
+	/**
+	 * Obtiene el coeficiente de emisión de un registro de diodo.
+	 *
+	 * @param i					Índice del registro
+	 * @return emisión del diodo (0 en el resto)
+	 */
+	public double getExtra(int i) {
+		return abierta().getDouble(offset(i)+EXTRA);
+	}
+
+	/**
+	 * Obtiene el nodo de control negativo de un registro.
+	 *
+	 * @param i					Índice del registro
+	 * @return nodo de control negativo (-1 si no es dependiente)
+	 */
+	public int getCtrlNeg(int i) {
+		return abierta().getInt(offset(i)+CTRL_NEG);
+	}
+
+	/**
+	 * Obtiene el nodo de control positivo de un registro.
+	 *
+	 * @param i					Índice del registro
+	 * @return nodo de control positivo (-1 si no es dependiente)
+	 */
+	public int getCtrlPos(int i) {
+		return abierta().getInt(offset(i)+CTRL_POS);
+	}
+
+	/**
+	 * Obtiene los flags ({@link #CARGA}, {@link #CONTROL_CORRIENTE}) de un registro.
+	 *
+	 * @param i					Índice del registro
+	 * @return flags del registro
+	 */
+	public byte getFlags(int i) {
+		return abierta().get(offset(i)+FLAGS);
+	}
+
+	/**
+	 * Construye el componente del modelo de un registro (con un Id nuevo).
+	 *
+	 * @param i					Índice del registro
+	 * @return componente
+	 */
+	public Componente componente(int i) {
+		return crearComponente(getTipo(i), getNodo1(i), getNodo2(i), getValor(i), getExtra(i),
+				getCtrlNeg(i), getCtrlPos(i), getFlags(i));
+	}
+
+	/**
+	 * Construye un componente del modelo (con un Id nuevo) a partir de los campos de un registro,
+	 * con los mismos setters que usa la deserialización JSON. Los archivos {@code .thvb} guardan
+	 * los mismos campos y flags y crean sus componentes con este método.
+	 *
+	 * @param tipo				Tipo del componente
+	 * @param nodo1				Nodo negativo
+	 * @param nodo2				Nodo positivo (se ignora en la tierra)
+	 * @param valor				Valor del componente
+	 * @param extra				Emisión del diodo (se ignora en el resto)
+	 * @param ctrlNeg			Nodo de control negativo (solo fuentes dependientes)
+	 * @param ctrlPos			Nodo de control positivo (solo fuentes dependientes)
+	 * @param flags				{@link #CARGA} y {@link #CONTROL_CORRIENTE}
+	 * @return componente
+	 */
+	public static Componente crearComponente(Tipo tipo, int nodo1, int nodo2, double valor, double extra,
+			int ctrlNeg, int ctrlPos, byte flags) {
+		Objects.requireNonNull(tipo, "El tipo no puede ser null");
+		if(tipo==Tipo.TIERRA) return new Tierra(nodo1);
+		Componente c=switch(tipo) {
+			case RESISTENCIA -> new Resistencia();
+			case CONDENSADOR -> new Condensador();
+			case BOBINA -> new Bobina();
+			case DIODO -> new Diodo();
+			case FUENTE_TENSION -> new FuenteTensionInd();
+			case FUENTE_CORRIENTE -> new FuenteCorrienteInd();
+			case FUENTE_TENSION_DEPENDIENTE -> new FuenteTensionDependiente();
+			case FUENTE_CORRIENTE_DEPENDIENTE -> new FuenteCorrienteDependiente();
+			case TIERRA -> throw new IllegalStateException();
+		};
+		c.setNodo1(nodo1);
+		c.setNodo2(nodo2);
+		c.setValor(valor);
+		if(c instanceof Diodo d) {
+			d.setEmision(extra);
+		} else if(c instanceof FuenteDependiente f) {
+			f.setCtrlNeg(ctrlNeg);
+			f.setCtrlPos(ctrlPos);
+			f.setControlType((flags&CONTROL_CORRIENTE)!=0 ? ControlType.CORRIENTE : ControlType.TENSION);
+		}
+		if((flags&CARGA)!=0) c.setCarga(true);
+		return c;
+	}
+
+	/**
+	 * Construye el circuito del modelo. Solo tiene sentido para circuitos pequeños.
+	 *
+	 * @return circuito con un componente por registro
+	 */
+	public Circuito aCircuito() {
+		CircuitoBuilder builder=new CircuitoBuilder(size);
+		for(int i=0; i<size; i++) {
+			builder.con(componente(i));
+		}
+		return builder.construir();
+	}
+
+	/**
+	 * Indica si la arena ya se ha cerrado.
+	 *
+	 * @return {@code true} si ya se ha cerrado
+	 */
+	public boolean isCerrada() {
+		return datos==null;
+	}
+
+	/**
+	 * Suelta el buffer. Se puede llamar varias veces.
+	 */
+	@Override
+	public void close() {
+		if(datos!=null) {
+			datos=null;
+			logger.log(Level.FINE, "Arena cerrada ({0} registros)", size);
+		}
+	}
+
+	private ByteBuffer abierta() {
+		ByteBuffer b=datos;
+		if(b==null) throw new IllegalStateException("La arena está cerrada");
+		return b;
+	}
+
+	private int offset(int i) {
+		if(i<0 || i>=size) throw new IndexOutOfBoundsException("Registro "+i+" fuera de [0, "+size+")");
+		return i*REGISTRO;
+	}
+}
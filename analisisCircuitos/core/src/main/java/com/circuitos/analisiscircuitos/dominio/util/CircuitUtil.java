@@ -12,7 +12,9 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.circuitos.analisiscircuitos.dominio.Bobina;
 import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
 import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
 import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
@@ -114,20 +116,21 @@ public class CircuitUtil {
 	 */
 	public static Circuito desactivarFuentes(Circuito original) {
 		Objects.requireNonNull(original, "El circuito original no puede ser null");
-		Circuito copia=new Circuito();
+		CircuitoBuilder builder=new CircuitoBuilder(original.getComponentes().size());
 		for(Componente c : original.getComponentes()) {
 			if(c instanceof FuenteTensionInd) {
 				FuenteTensionInd v=(FuenteTensionInd) c;
 				//Cortocircuitar: 0V entre mismos nodos
-				copia.addComponente(new FuenteTensionInd(0.0, v.getNodo1(), v.getNodo2()));
+				builder.con(new FuenteTensionInd(0.0, v.getNodo1(), v.getNodo2()));
 				continue;
 			}
 			if(c instanceof FuenteCorrienteInd) {
 				//Abrir circuito... No se copia
 				continue;
 			}
-			copia.addComponente(c.clonar());
+			builder.con(c.clonar());
 		}
+		Circuito copia=builder.construir();
 		NodeMapUtil.actualizarMapaNodos(copia.getNodos(), copia.getComponentes());
 		return copia;
 	}
@@ -168,7 +171,8 @@ public class CircuitUtil {
 	}
 	
 	/**
-	 * Devuelve la lista de todas las fuentes de tensión en el circuito.
+	 * Devuelve la lista de todas las fuentes de tensión en el circuito. Incluye las bobinas,
+	 * que en continua son una rama de 0 V y en alterna añaden -jωL en su fila.
 	 * 
 	 * @param c							circuito original
 	 * @return lista					lista de fuentes de tensión
@@ -177,7 +181,8 @@ public class CircuitUtil {
 		Objects.requireNonNull(c, "Circuito no puede ser null");
 		return c.getComponentes().stream()
 				.filter(comp -> comp instanceof FuenteTensionInd
-							||	comp instanceof FuenteTensionDependiente)
+							||	comp instanceof FuenteTensionDependiente
+							||	comp instanceof Bobina)
 				.toList();
 	}
 }
@@ -19,6 +19,9 @@ public class ComponenteUtil {
 	public static String nombreNice(Componente comp) {
 		if(comp==null) return "Componente";
 		if (comp instanceof com.circuitos.analisiscircuitos.dominio.Resistencia) return "Resistencia";
+		if (comp instanceof com.circuitos.analisiscircuitos.dominio.Condensador) return "Condensador";
+		if (comp instanceof com.circuitos.analisiscircuitos.dominio.Bobina) return "Bobina";
+		if (comp instanceof com.circuitos.analisiscircuitos.dominio.Diodo) return "Diodo";
 		if (comp instanceof com.circuitos.analisiscircuitos.dominio.FuenteTensionInd) return "Fuente de Tensión Independiente";
 		if (comp instanceof com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd) return "Fuente de Corriente Independiente";
 		if (comp instanceof com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente) return "Fuente de Tensión Dependiente";
@@ -0,0 +1,209 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.DecompositionSolver;
+import org.apache.commons.math3.linear.LUDecomposition;
+
+/**
+ * Factorización de un {@link SistemaResistivo} en un punto base que se reutiliza cuando solo
+ * cambian algunas resistencias (ver {@link SistemaResistivo#factorizarActualizable}).
+ * <p>
+ * Cambiar las resistencias elegidas modifica la matriz solo en las filas F y columnas C de
+ * sus huellas: A=A<sub>0</sub>+E<sub>F</sub>·M·E<sub>C</sub>ᵀ, con M pequeña (|F|·|C|).
+ * Por la fórmula de Woodbury,
+ * A⁻¹b=x<sub>0</sub>-Z·(I+M·Z<sub>C</sub>)⁻¹·M·x<sub>0,C</sub>, con x<sub>0</sub>=A<sub>0</sub>⁻¹b y
+ * Z=A<sub>0</sub>⁻¹E<sub>F</sub> calculada una sola vez. Cada resolución cuesta una sustitución con
+ * la factorización base y un sistema denso de tamaño |F|, en lugar de una factorización
+ * completa. El sistema traspuesto (adjunto) se trata igual con W=A<sub>0</sub>⁻ᵀE<sub>C</sub>.
+ * </p>
+ * Las resistencias que no se eligen deben conservar su valor base.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class FactorizacionActualizable {
+	private final SistemaResistivo sistema;
+	private final double[] base;
+	private final int[] parametros;
+	private final DecompositionSolver directa;
+	private final DecompositionSolver traspuesta;
+	private final int[] filas;
+	private final int[] columnas;
+	private final int[] posFila;
+	private final int[] posColumna;
+	private final double[][] z;
+	private final double[][] w;
+
+	/**
+	 * Constructor. Factoriza A<sub>0</sub> y A<sub>0</sub>ᵀ y resuelve las columnas de Z y W.
+	 *
+	 * @param sistema					sistema parametrizado
+	 * @param base						valor de cada resistencia en el punto base (Ω)
+	 * @param parametros				índices de las resistencias que pueden cambiar
+	 * @throws IllegalStateException	si la matriz base es singular
+	 */
+	FactorizacionActualizable(SistemaResistivo sistema, double[] base, int[] parametros) {
+		this.sistema=sistema;
+		this.base=base.clone();
+		this.parametros=parametros.clone();
+		this.directa=sistema.factorizar(this.base, false);
+		this.traspuesta=sistema.factorizar(this.base, true);
+		int n=sistema.getDimension();
+		TreeSet<Integer> f=new TreeSet<>();
+		TreeSet<Integer> c=new TreeSet<>();
+		for(int k : parametros) {
+			for(int p : sistema.getPosiciones(k)) {
+				f.add(p/n);
+				c.add(p%n);
+			}
+		}
+		this.filas=f.stream().mapToInt(Integer::intValue).toArray();
+		this.columnas=c.stream().mapToInt(Integer::intValue).toArray();
+		this.posFila=new int[n];
+		this.posColumna=new int[n];
+		Arrays.fill(posFila, -1);
+		Arrays.fill(posColumna, -1);
+		for(int i=0; i<filas.length; i++) posFila[filas[i]]=i;
+		for(int j=0; j<columnas.length; j++) posColumna[columnas[j]]=j;
+		this.z=new double[filas.length][];
+		for(int i=0; i<filas.length; i++) {
+			z[i]=directa.solve(unitario(n, filas[i])).toArray();
+		}
+		this.w=new double[columnas.length][];
+		for(int j=0; j<columnas.length; j++) {
+			w[j]=traspuesta.solve(unitario(n, columnas[j])).toArray();
+		}
+	}
+
+	/**
+	 * Resuelve A·x=b con las resistencias indicadas.
+	 *
+	 * @param resistencias				valor de cada resistencia (solo cambian las elegidas)
+	 * @param b							término independiente
+	 * @throws IllegalStateException	si la matriz actualizada es singular
+	 * @return x
+	 */
+	public double[] resolver(double[] resistencias, double[] b) {
+		double[] x=directa.solve(new ArrayRealVector(b, false)).toArray();
+		double[][] m=diferencia(resistencias);
+		int nf=filas.length;
+		double[][] k=new double[nf][nf];
+		double[] t=new double[nf];
+		for(int i=0; i<nf; i++) {
+			k[i][i]=1.0;
+			for(int j=0; j<columnas.length; j++) {
+				double mij=m[i][j];
+				if(mij==0.0) continue;
+				t[i]+=mij*x[columnas[j]];
+				for(int l=0; l<nf; l++) k[i][l]+=mij*z[l][columnas[j]];
+			}
+		}
+		corregir(x, k, t, z);
+		return x;
+	}
+
+	/**
+	 * Resuelve Aᵀ·λ=c (sistema adjunto) con las resistencias indicadas.
+	 *
+	 * @param resistencias				valor de cada resistencia (solo cambian las elegidas)
+	 * @param c							término independiente
+	 * @throws IllegalStateException	si la matriz actualizada es singular
+	 * @return λ
+	 */
+	public double[] resolverTraspuesta(double[] resistencias, double[] c) {
+		double[] y=traspuesta.solve(new ArrayRealVector(c, false)).toArray();
+		double[][] m=diferencia(resistencias);
+		int nc=columnas.length;
+		double[][] k=new double[nc][nc];
+		double[] t=new double[nc];
+		for(int j=0; j<nc; j++) {
+			k[j][j]=1.0;
+			for(int i=0; i<filas.length; i++) {
+				double mij=m[i][j];
+				if(mij==0.0) continue;
+				t[j]+=mij*y[filas[i]];
+				for(int l=0; l<nc; l++) k[j][l]+=mij*w[l][filas[i]];
+			}
+		}
+		corregir(y, k, t, w);
+		return y;
+	}
+
+	/**
+	 * Bloque M de la variación de la matriz respecto al punto base.
+	 *
+	 * @param resistencias				valores actuales
+	 * @return M (|F|·|C|)
+	 */
+	private double[][] diferencia(double[] resistencias) {
+		int n=sistema.getDimension();
+		double[][] m=new double[filas.length][columnas.length];
+		for(int k : parametros) {
+			double dg=1.0/resistencias[k]-1.0/base[k];
+			if(dg==0.0) continue;
+			int[] pos=sistema.getPosiciones(k);
+			double[] coef=sistema.getCoeficientes(k);
+			for(int e=0; e<pos.length; e++) {
+				m[posFila[pos[e]/n]][posColumna[pos[e]%n]]+=dg*coef[e];
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Aplica la corrección de Woodbury: x-=Σ<sub>l</sub> base<sub>l</sub>·(K⁻¹t)<sub>l</sub>.
+	 *
+	 * @param x							solución con la factorización base (se modifica)
+	 * @param k							matriz de capacitancia
+	 * @param t							proyección de la variación sobre x
+	 * @param columnasBase				columnas de Z o W
+	 * @throws IllegalStateException	si la matriz de capacitancia es singular
+	 */
+	private static void corregir(double[] x, double[][] k, double[] t, double[][] columnasBase) {
+		if(t.length==0) return;
+		DecompositionSolver solver=new LUDecomposition(new Array2DRowRealMatrix(k, false)).getSolver();
+		if(!solver.isNonSingular()) {
+			throw new IllegalStateException("Matriz singular con los valores de resistencia indicados");
+		}
+		double[] s=solver.solve(new ArrayRealVector(t, false)).toArray();
+		for(int l=0; l<s.length; l++) {
+			double[] col=columnasBase[l];
+			for(int i=0; i<x.length; i++) x[i]-=col[i]*s[l];
+		}
+	}
+
+	/**
+	 * Vector unitario e<sub>i</sub>.
+	 *
+	 * @param n							dimensión
+	 * @param i							posición del 1
+	 * @return e<sub>i</sub>
+	 */
+	private static ArrayRealVector unitario(int n, int i) {
+		ArrayRealVector e=new ArrayRealVector(n);
+		e.setEntry(i, 1.0);
+		return e;
+	}
+
+	/**
+	 * Obtiene el valor de las resistencias en el punto base.
+	 *
+	 * @return resistencias (Ω)
+	 */
+	public double[] getBase() {
+		return base.clone();
+	}
+
+	/**
+	 * Obtiene el rango de la actualización (filas afectadas por las resistencias elegidas).
+	 *
+	 * @return |F|
+	 */
+	public int getRango() {
+		return filas.length;
+	}
+}
@@ -12,7 +12,8 @@ import com.circuitos.analisiscircuitos.dominio.Componente;
 
 /**
  * Gestor para crear y reciclar Ids únicos de los componentes.
- * Implementa el patrón Singleton para asegurar una única instancia.
+ * Implementa el patrón Singleton para asegurar una única instancia. Es seguro entre hilos:
+ * los componentes se crean también al deserializar archivos en paralelo.
  * 
  * @author Marco Antonio Garzón Palos
  * @version 1.0
@@ -42,7 +43,7 @@ public class GestorIds {
 	 * 
 	 * @param componente del que liberamos el ID
 	 */
-	public void liberarId(Componente componente) {
+	public synchronized void liberarId(Componente componente) {
 		Objects.requireNonNull(componente, "Componente no puede ser null");
 		String Id=componente.getId();
 		String prefijo=componente.getPrefijo();
@@ -67,7 +68,7 @@ public class GestorIds {
 	 * @param id			Id único de cable
 	 * @param prefijo		Prefijo usado para identificación
 	 */
-	public void liberarId(String id, String prefijo) {
+	public synchronized void liberarId(String id, String prefijo) {
 		Objects.requireNonNull(prefijo, "Prefijo no puede ser null");
 		if(id==null || prefijo==null || !id.startsWith(prefijo)) return;
 		
@@ -87,7 +88,7 @@ public class GestorIds {
 	 * @param prefijo 		Prefijo del componente ("R", "V", etc.)
 	 * @return Nuevo Id
 	 */
-	public String generarId(Componente componente) {
+	public synchronized String generarId(Componente componente) {
 		Objects.requireNonNull(componente, "Componente no puede ser null");
 		String prefijo=componente.getPrefijo();
 		if(prefijo==null || prefijo.isBlank()) {
@@ -117,7 +118,7 @@ public class GestorIds {
 	 * @param prefijo		Prefijo del cable ("Cable-")
 	 * @return nuevo ID
 	 */
-	public String generarId(String prefijo) {
+	public synchronized String generarId(String prefijo) {
 		Objects.requireNonNull(prefijo, "Prefijo no puede ser null");
 		if (prefijo==null || prefijo.isBlank()) return "";
 		Queue<Integer> liberados=idsLiberados.get(prefijo);
@@ -136,8 +137,10 @@ public class GestorIds {
 	 * Se usa cuando se crea un circuito nuevo. 
 	 */
 	public static void reset() {
-		contadores.clear();
-		idsLiberados.clear();
+		synchronized(INSTANCE) {
+			contadores.clear();
+			idsLiberados.clear();
+		}
 		logger.log(Level.FINE, "GestorIds reiniciado");
 	}
 }
@@ -0,0 +1,257 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Grafo dirigido acíclico de expresiones aritméticas con consing (hash-consing): cada
+ * subexpresión se guarda una única vez y pedir de nuevo la misma operación sobre los mismos
+ * operandos devuelve el nodo ya existente. Así, las subexpresiones comunes de varias
+ * fórmulas (numeradores y denominador de Vth y Rth, por ejemplo) se calculan una sola vez
+ * al compilarlas con {@link #compilar}.
+ * <p>
+ * Los nodos se identifican por un entero y siempre se crean después de sus operandos, de
+ * modo que el orden de los identificadores ya es un orden topológico. Al crear cada nodo se
+ * aplican simplificaciones locales: plegado de constantes, elementos neutro y absorbente,
+ * x-x=0, -(-x)=x y orden canónico de los operandos de la suma y el producto.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class GrafoExpresiones {
+	static final int CONSTANTE=0;
+	static final int VARIABLE=1;
+	static final int SUMA=2;
+	static final int RESTA=3;
+	static final int PRODUCTO=4;
+	static final int DIVISION=5;
+	static final int NEGACION=6;
+
+	private int[] operaciones=new int[64];
+	private int[] operandosA=new int[64];
+	private int[] operandosB=new int[64];
+	private double[] constantes=new double[64];
+	private int tamano=0;
+	private final Map<Clave, Integer> existentes=new HashMap<>();
+	private final Map<Polinomio, Integer> polinomios=new HashMap<>();
+
+	/**
+	 * Clave de consing de un nodo.
+	 *
+	 * @param operacion				código de operación
+	 * @param a						primer operando (o índice de variable)
+	 * @param b						segundo operando
+	 * @param bits					bits de la constante
+	 */
+	private record Clave(int operacion, int a, int b, long bits) { }
+
+	/**
+	 * Obtiene el nodo de una constante.
+	 *
+	 * @param valor					valor
+	 * @return identificador del nodo
+	 */
+	public int constante(double valor) {
+		return nodo(CONSTANTE, 0, 0, valor==0.0 ? 0.0 : valor);
+	}
+
+	/**
+	 * Obtiene el nodo de una variable (parámetro de entrada del evaluador).
+	 *
+	 * @param indice				índice del parámetro
+	 * @return identificador del nodo
+	 */
+	public int variable(int indice) {
+		return nodo(VARIABLE, indice, 0, 0.0);
+	}
+
+	/**
+	 * Obtiene el nodo a+b.
+	 *
+	 * @param a						operando
+	 * @param b						operando
+	 * @return identificador del nodo
+	 */
+	public int suma(int a, int b) {
+		if(esConstante(a) && esConstante(b)) return constante(constantes[a]+constantes[b]);
+		if(esConstante(a, 0.0)) return b;
+		if(esConstante(b, 0.0)) return a;
+		if(operaciones[b]==NEGACION) return resta(a, operandosA[b]);
+		if(operaciones[a]==NEGACION) return resta(b, operandosA[a]);
+		return nodo(SUMA, Math.min(a, b), Math.max(a, b), 0.0);
+	}
+
+	/**
+	 * Obtiene el nodo a-b.
+	 *
+	 * @param a						minuendo
+	 * @param b						sustraendo
+	 * @return identificador del nodo
+	 */
+	public int resta(int a, int b) {
+		if(a==b) return constante(0.0);
+		if(esConstante(a) && esConstante(b)) return constante(constantes[a]-constantes[b]);
+		if(esConstante(b, 0.0)) return a;
+		if(esConstante(a, 0.0)) return negacion(b);
+		if(operaciones[b]==NEGACION) return suma(a, operandosA[b]);
+		return nodo(RESTA, a, b, 0.0);
+	}
+
+	/**
+	 * Obtiene el nodo a·b.
+	 *
+	 * @param a						factor
+	 * @param b						factor
+	 * @return identificador del nodo
+	 */
+	public int producto(int a, int b) {
+		if(esConstante(a) && esConstante(b)) return constante(constantes[a]*constantes[b]);
+		if(esConstante(a, 0.0) || esConstante(b, 0.0)) return constante(0.0);
+		if(esConstante(a, 1.0)) return b;
+		if(esConstante(b, 1.0)) return a;
+		if(esConstante(a, -1.0)) return negacion(b);
+		if(esConstante(b, -1.0)) return negacion(a);
+		return nodo(PRODUCTO, Math.min(a, b), Math.max(a, b), 0.0);
+	}
+
+	/**
+	 * Obtiene el nodo a/b.
+	 *
+	 * @param a						dividendo
+	 * @param b						divisor
+	 * @return identificador del nodo
+	 */
+	public int division(int a, int b) {
+		if(esConstante(a) && esConstante(b)) return constante(constantes[a]/constantes[b]);
+		if(esConstante(b, 1.0)) return a;
+		if(esConstante(b, -1.0)) return negacion(a);
+		return nodo(DIVISION, a, b, 0.0);
+	}
+
+	/**
+	 * Obtiene el nodo -a.
+	 *
+	 * @param a						operando
+	 * @return identificador del nodo
+	 */
+	public int negacion(int a) {
+		if(esConstante(a)) return constante(-constantes[a]);
+		if(operaciones[a]==NEGACION) return operandosA[a];
+		if(operaciones[a]==RESTA) return resta(operandosB[a], operandosA[a]);
+		return nodo(NEGACION, a, 0, 0.0);
+	}
+
+	/**
+	 * Convierte un polinomio en expresión factorizándolo por Horner de forma recursiva: se
+	 * saca factor común la variable que aparece en más términos, p=x·q+r, y se repite con q
+	 * y r. Los polinomios ya convertidos se recuerdan, así que los subpolinomios repetidos
+	 * (dentro de uno o entre varios) se comparten.
+	 *
+	 * @param p						polinomio (variables = parámetros del evaluador)
+	 * @return identificador del nodo
+	 */
+	public int desdePolinomio(Polinomio p) {
+		Integer previo=polinomios.get(p);
+		if(previo!=null) return previo;
+		int id;
+		int x=p.variableMasFrecuente();
+		if(x<0) {
+			id=constante(p.coeficientePrincipal());
+		} else {
+			Polinomio[] qr=p.separar(x);
+			id=suma(producto(variable(x), desdePolinomio(qr[0])), desdePolinomio(qr[1]));
+		}
+		polinomios.put(p, id);
+		return id;
+	}
+
+	/**
+	 * Compila las expresiones indicadas a un programa lineal de registros. Solo se incluyen
+	 * los nodos alcanzables desde las salidas, en orden topológico, y cada uno se calcula una
+	 * sola vez.
+	 *
+	 * @param salidas				nodos cuyo valor devuelve el evaluador
+	 * @return evaluador compilado
+	 */
+	public EvaluadorCompilado compilar(int... salidas) {
+		boolean[] vivo=new boolean[tamano];
+		for(int s : salidas) vivo[s]=true;
+		for(int id=tamano-1; id>=0; id--) {
+			if(!vivo[id]) continue;
+			int op=operaciones[id];
+			if(op>=SUMA) vivo[operandosA[id]]=true;
+			if(op>=SUMA && op!=NEGACION) vivo[operandosB[id]]=true;
+		}
+		//Registros: primero las constantes (fijas), después el resto por orden topológico
+		int[] registro=new int[tamano];
+		int registros=0;
+		for(int id=0; id<tamano; id++) {
+			if(vivo[id] && operaciones[id]==CONSTANTE) registro[id]=registros++;
+		}
+		double[] plantilla=new double[tamano];
+		for(int id=0; id<tamano; id++) {
+			if(vivo[id] && operaciones[id]==CONSTANTE) plantilla[registro[id]]=constantes[id];
+		}
+		int[] codigo=new int[4*tamano];
+		int k=0;
+		for(int id=0; id<tamano; id++) {
+			if(!vivo[id] || operaciones[id]==CONSTANTE) continue;
+			registro[id]=registros++;
+			int op=operaciones[id];
+			codigo[k++]=op;
+			codigo[k++]=registro[id];
+			codigo[k++]=op==VARIABLE ? operandosA[id] : registro[operandosA[id]];
+			codigo[k++]=op==VARIABLE || op==NEGACION ? 0 : registro[operandosB[id]];
+		}
+		int[] regSalidas=new int[salidas.length];
+		for(int s=0; s<salidas.length; s++) regSalidas[s]=registro[salidas[s]];
+		return new EvaluadorCompilado(Arrays.copyOf(codigo, k), Arrays.copyOf(plantilla, registros), regSalidas);
+	}
+
+	/**
+	 * Obtiene el número de nodos distintos creados.
+	 *
+	 * @return tamaño del grafo
+	 */
+	public int size() {
+		return tamano;
+	}
+
+	/**
+	 * Busca o crea un nodo.
+	 *
+	 * @param op					código de operación
+	 * @param a						primer operando
+	 * @param b						segundo operando
+	 * @param valor					constante
+	 * @return identificador del nodo
+	 */
+	private int nodo(int op, int a, int b, double valor) {
+		Clave clave=new Clave(op, a, b, Double.doubleToLongBits(valor));
+		Integer id=existentes.get(clave);
+		if(id!=null) return id;
+		if(tamano==operaciones.length) {
+			int capacidad=2*tamano;
+			operaciones=Arrays.copyOf(operaciones, capacidad);
+			operandosA=Arrays.copyOf(operandosA, capacidad);
+			operandosB=Arrays.copyOf(operandosB, capacidad);
+			constantes=Arrays.copyOf(constantes, capacidad);
+		}
+		operaciones[tamano]=op;
+		operandosA[tamano]=a;
+		operandosB[tamano]=b;
+		constantes[tamano]=valor;
+		existentes.put(clave, tamano);
+		return tamano++;
+	}
+
+	private boolean esConstante(int id) {
+		return operaciones[id]==CONSTANTE;
+	}
+
+	private boolean esConstante(int id, double valor) {
+		return operaciones[id]==CONSTANTE && constantes[id]==valor;
+	}
+}
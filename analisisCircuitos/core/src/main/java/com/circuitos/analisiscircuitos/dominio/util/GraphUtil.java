@@ -5,6 +5,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
 
 /**
  * Clase con herramientas para el control de recorridos BFS y poda de subcircuitos.
@@ -47,6 +49,55 @@ public class GraphUtil {
 		return bfs(comps, nodoInicial);
 	}
 	
+	/**
+	 * Nodos conectados a uno inicial en una {@link ArenaNetlist}. Recorre una adyacencia compacta
+	 * (CSR) construida leyendo los registros, sin objetos por nodo ni por componente.
+	 * 
+	 * @param arena			netlist compacta
+	 * @param nodoInicial	nodo de partida
+	 * @return nodos alcanzables (incluido el inicial)
+	 */
+	public static BitSet nodosConexos(ArenaNetlist arena, int nodoInicial) {
+		Objects.requireNonNull(arena, "La arena no puede ser null");
+		int n=arena.getNumNodos();
+		if(nodoInicial<0 || nodoInicial>=n) throw new IllegalArgumentException("Nodo fuera de la arena: "+nodoInicial);
+		int m=arena.size();
+		int[] inicio=new int[n+1];
+		for(int e=0; e<m; e++) {
+			int a=arena.getNodo1(e), b=arena.getNodo2(e);
+			if(a==b) continue;
+			inicio[a+1]++;
+			inicio[b+1]++;
+		}
+		for(int v=0; v<n; v++) inicio[v+1]+=inicio[v];
+		int[] vecinos=new int[inicio[n]];
+		int[] llenos=Arrays.copyOf(inicio, n);
+		for(int e=0; e<m; e++) {
+			int a=arena.getNodo1(e), b=arena.getNodo2(e);
+			if(a==b) continue;
+			vecinos[llenos[a]++]=b;
+			vecinos[llenos[b]++]=a;
+		}
+		int[] d=distancias(inicio, vecinos, nodoInicial);
+		BitSet conexos=new BitSet(n);
+		for(int v=0; v<n; v++) {
+			if(d[v]>=0) conexos.set(v);
+		}
+		return conexos;
+	}
+	
+	/**
+	 * Comprueba si hay camino entre dos nodos de una {@link ArenaNetlist}.
+	 * 
+	 * @param arena			netlist compacta
+	 * @param origen		nodo de partida
+	 * @param destino		nodo de llegada
+	 * @return {@code true} si están conectados
+	 */
+	public static boolean caminoNodos(ArenaNetlist arena, int origen, int destino) {
+		return destino>=0 && nodosConexos(arena, origen).get(destino);
+	}
+	
 	/**
 	 * Devuelve el conjunto de nodos alcanzables desde un nodo origen. Recorrido BFS (por niveles).
 	 * 
@@ -105,14 +156,14 @@ public class GraphUtil {
 			cambios=false;
 			Map<Integer, Integer> grado=new HashMap<>();
 			for(Componente c : comps) {
-				if(c instanceof com.circuitos.analisiscircuitos.dominio.Resistencia) {
+				if(c instanceof Resistencia) {
 					grado.merge(c.getNodo1(), 1, Integer::sum);
 					grado.merge(c.getNodo2(), 1, Integer::sum);
 				}
 			}
 			for(Integer node : new ArrayList<>(grado.keySet())) {
 				if(node!=A && node!=B && grado.get(node)==1) {
-					comps.removeIf(c->c instanceof com.circuitos.analisiscircuitos.dominio.Resistencia &&
+					comps.removeIf(c->c instanceof Resistencia &&
 							(c.getNodo1()==node || c.getNodo2()==node));
 					cambios=true;
 					break;
@@ -173,6 +224,148 @@ public class GraphUtil {
 		return new int[] {listaBornes.get(0), listaBornes.get(1)};
 	}
 	
+	/**
+	 * Detecta si los componentes forman una rejilla rectangular de resistencias iguales
+	 * (filas·columnas nodos, al menos 2·2, cada nodo unido a sus vecinos horizontales y
+	 * verticales). Las tierras se ignoran; cualquier otro componente descarta la rejilla.
+	 * <p>
+	 * En una rejilla la distancia en el grafo es la de Manhattan, así que basta con dos BFS
+	 * desde dos esquinas contiguas (los únicos nodos de grado 2 son las cuatro esquinas):
+	 * d<sub>0</sub>=i+j y d<sub>1</sub>=i+(columnas-1-j) dan la fila y la columna de cada nodo.
+	 * Después se comprueba que cada resistencia une dos posiciones vecinas y que el número
+	 * de nodos y de lados es el de la rejilla completa. Coste O(nodos+lados) con arrays
+	 * indexados por número de nodo, por lo que solo se reconocen rejillas con los nodos
+	 * numerados de forma consecutiva (como los asigna el editor).
+	 * </p>
+	 * 
+	 * @param comps				componentes de comprobación
+	 * @return rejilla detectada o vacío si los componentes no forman una rejilla
+	 */
+	public static Optional<RejillaResistiva> detectarRejilla(Collection<Componente> comps) {
+		Objects.requireNonNull(comps, "Lista de componentes no puede ser null");
+		int m=0;
+		int menor=Integer.MAX_VALUE, mayor=Integer.MIN_VALUE;
+		double valor=Double.NaN;
+		for(Componente c : comps) {
+			if(c instanceof Tierra) continue;
+			if(!(c instanceof Resistencia r) || c.getNodo1()==c.getNodo2()) {
+				return Optional.empty();
+			}
+			if(m==0) valor=r.getValor();
+			if(Math.abs(r.getValor()-valor)>1e-12*Math.abs(valor)) return Optional.empty();
+			menor=Math.min(menor, Math.min(c.getNodo1(), c.getNodo2()));
+			mayor=Math.max(mayor, Math.max(c.getNodo1(), c.getNodo2()));
+			m++;
+		}
+		// Los nodos se numeran de forma consecutiva: se indexan por nodo-menor sin mapas
+		if(m<4 || (long)mayor-menor+1>m+2L) return Optional.empty();
+		int rango=mayor-menor+1;
+		int[] a=new int[m];
+		int[] b=new int[m];
+		int[] grado=new int[rango];
+		int e=0;
+		for(Componente c : comps) {
+			if(c instanceof Tierra) continue;
+			a[e]=c.getNodo1()-menor;
+			b[e]=c.getNodo2()-menor;
+			grado[a[e]]++;
+			grado[b[e]]++;
+			e++;
+		}
+		// Adyacencia compacta (CSR)
+		int[] inicio=new int[rango+1];
+		int n=0;
+		for(int v=0; v<rango; v++) {
+			inicio[v+1]=inicio[v]+grado[v];
+			if(grado[v]>0) n++;
+		}
+		int[] vecinos=new int[2*m];
+		int[] llenos=inicio.clone();
+		for(e=0; e<m; e++) {
+			vecinos[llenos[a[e]]++]=b[e];
+			vecinos[llenos[b[e]]++]=a[e];
+		}
+		List<Integer> esquinas=new ArrayList<>();
+		for(int v=0; v<rango; v++) {
+			if(grado[v]==2) esquinas.add(v);
+			if(grado[v]==1 || grado[v]>4) return Optional.empty();
+		}
+		if(esquinas.size()!=4) return Optional.empty();
+
+		int[] d0=distancias(inicio, vecinos, esquinas.get(0));
+		int lejana=0;
+		for(int v : esquinas) lejana=Math.max(lejana, d0[v]);
+		int contigua=-1;
+		for(int v : esquinas) {
+			if(d0[v]>0 && d0[v]<lejana) {
+				contigua=v;
+				break;
+			}
+		}
+		if(contigua<0) return Optional.empty();
+		int columnas=d0[contigua]+1;
+		int filas=lejana-columnas+2;
+		if((long)filas*columnas!=n || m!=2*filas*columnas-filas-columnas) return Optional.empty();
+		int[] d1=distancias(inicio, vecinos, contigua);
+
+		int[] pos=new int[rango];
+		Arrays.fill(pos, -1);
+		boolean[] ocupada=new boolean[n];
+		for(int v=0; v<rango; v++) {
+			if(grado[v]==0) continue;
+			int suma=d0[v]+d1[v]-(columnas-1);
+			if(d0[v]<0 || d1[v]<0 || suma<0 || suma%2!=0) return Optional.empty();
+			int i=suma/2;
+			int j=d0[v]-i;
+			if(i>=filas || j<0 || j>=columnas || ocupada[i*columnas+j]) return Optional.empty();
+			ocupada[i*columnas+j]=true;
+			pos[v]=i*columnas+j;
+		}
+		for(e=0; e<m; e++) {
+			int di=Math.abs(pos[a[e]]/columnas-pos[b[e]]/columnas);
+			int dj=Math.abs(pos[a[e]]%columnas-pos[b[e]]%columnas);
+			if(di+dj!=1) return Optional.empty();
+		}
+		// Descarta lados repetidos que ocupen el hueco de uno que falta
+		for(int v=0; v<rango; v++) {
+			if(grado[v]==0) continue;
+			int i=pos[v]/columnas, j=pos[v]%columnas;
+			int esperado=(i>0 ? 1 : 0)+(i<filas-1 ? 1 : 0)+(j>0 ? 1 : 0)+(j<columnas-1 ? 1 : 0);
+			if(grado[v]!=esperado) return Optional.empty();
+		}
+		logger.log(Level.FINE, "Rejilla detectada: {0}x{1} de {2} Ω", new Object[] {filas, columnas, valor});
+		return Optional.of(new RejillaResistiva(filas, columnas, valor, menor, pos));
+	}
+	
+	/**
+	 * Distancias BFS (en número de lados) desde un nodo, sobre una adyacencia compacta.
+	 * 
+	 * @param inicio			posición en vecinos de la lista de cada nodo
+	 * @param vecinos			listas de adyacencia concatenadas
+	 * @param origen			nodo de partida
+	 * @return distancia a cada nodo (-1 si no es alcanzable)
+	 */
+	private static int[] distancias(int[] inicio, int[] vecinos, int origen) {
+		int n=inicio.length-1;
+		int[] d=new int[n];
+		Arrays.fill(d, -1);
+		int[] cola=new int[n];
+		int cabeza=0, fin=0;
+		cola[fin++]=origen;
+		d[origen]=0;
+		while(cabeza<fin) {
+			int u=cola[cabeza++];
+			for(int k=inicio[u]; k<inicio[u+1]; k++) {
+				int v=vecinos[k];
+				if(d[v]<0) {
+					d[v]=d[u]+1;
+					cola[fin++]=v;
+				}
+			}
+		}
+		return d;
+	}
+	
 	/**
 	 * Devuelve true si el componente es una fuente (tensión o corriente). Se usa para impedir que se marquen como carga.
 	 * 
@@ -0,0 +1,164 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+/**
+ * Factorización LU densa con pivotaje parcial de una matriz compleja. La parte real y la
+ * imaginaria se guardan en dos arrays planos (por filas) y se factorizan en el sitio, de
+ * modo que una misma factorización sirve para resolver varios términos independientes.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class LUCompleja {
+	private static final double UMBRAL_SINGULAR=1e-11;
+	private final double[] re;
+	private final double[] im;
+	private final int[] pivotes;
+	private final int n;
+
+	/**
+	 * Factoriza la matriz. Los arrays recibidos se sobrescriben con los factores L y U.
+	 *
+	 * @param re						parte real de la matriz (n·n, por filas)
+	 * @param im						parte imaginaria de la matriz (n·n, por filas)
+	 * @param n							dimensión de la matriz
+	 * @throws IllegalArgumentException	si los arrays no tienen dimensión n·n
+	 * @throws IllegalStateException	si la matriz es singular
+	 */
+	public LUCompleja(double[] re, double[] im, int n) {
+		if(re.length!=n*n || im.length!=n*n) {
+			throw new IllegalArgumentException("Dimensión de la matriz no válida: "+n);
+		}
+		this.re=re;
+		this.im=im;
+		this.n=n;
+		this.pivotes=new int[n];
+		factorizar();
+	}
+
+	/**
+	 * Eliminación de Gauss con pivotaje parcial por módulo. Un pivote se considera nulo
+	 * con el mismo umbral absoluto que {@code LUDecomposition} usa en el análisis en continua.
+	 *
+	 * @throws IllegalStateException	si algún pivote es nulo
+	 */
+	private void factorizar() {
+		double umbral=UMBRAL_SINGULAR*UMBRAL_SINGULAR;
+		for(int k=0; k<n; k++) {
+			int p=k;
+			double max=modulo2(k*n+k);
+			for(int i=k+1; i<n; i++) {
+				double m=modulo2(i*n+k);
+				if(m>max) {
+					max=m;
+					p=i;
+				}
+			}
+			if(!(max>umbral)) {
+				throw new IllegalStateException("Matriz compleja singular (columna "+k+")");
+			}
+			pivotes[k]=p;
+			if(p!=k) intercambiarFilas(p, k);
+
+			//1/pivote
+			double pr=re[k*n+k];
+			double pi=im[k*n+k];
+			double d=pr*pr+pi*pi;
+			double ir=pr/d;
+			double ii=-pi/d;
+			for(int i=k+1; i<n; i++) {
+				int ik=i*n+k;
+				double lr=re[ik]*ir-im[ik]*ii;
+				double li=re[ik]*ii+im[ik]*ir;
+				re[ik]=lr;
+				im[ik]=li;
+				if(lr==0.0 && li==0.0) continue;
+				for(int j=k+1; j<n; j++) {
+					int kj=k*n+j;
+					int ij=i*n+j;
+					re[ij]-=lr*re[kj]-li*im[kj];
+					im[ij]-=lr*im[kj]+li*re[kj];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Resuelve A·x=b en el sitio: al terminar, bRe y bIm contienen la solución.
+	 *
+	 * @param bRe						parte real del término independiente
+	 * @param bIm						parte imaginaria del término independiente
+	 */
+	public void resolver(double[] bRe, double[] bIm) {
+		if(bRe.length!=n || bIm.length!=n) {
+			throw new IllegalArgumentException("Dimensión del término independiente no válida");
+		}
+		//Permutación (las filas de L se intercambiaron completas durante la factorización)
+		for(int k=0; k<n; k++) {
+			int p=pivotes[k];
+			if(p!=k) {
+				double t=bRe[p]; bRe[p]=bRe[k]; bRe[k]=t;
+				t=bIm[p]; bIm[p]=bIm[k]; bIm[k]=t;
+			}
+		}
+		//Sustitución hacia delante (L con diagonal unidad)
+		for(int k=0; k<n; k++) {
+			double xr=bRe[k];
+			double xi=bIm[k];
+			if(xr==0.0 && xi==0.0) continue;
+			for(int i=k+1; i<n; i++) {
+				int ik=i*n+k;
+				bRe[i]-=re[ik]*xr-im[ik]*xi;
+				bIm[i]-=re[ik]*xi+im[ik]*xr;
+			}
+		}
+		//Sustitución hacia atrás
+		for(int i=n-1; i>=0; i--) {
+			double sr=bRe[i];
+			double si=bIm[i];
+			for(int j=i+1; j<n; j++) {
+				int ij=i*n+j;
+				sr-=re[ij]*bRe[j]-im[ij]*bIm[j];
+				si-=re[ij]*bIm[j]+im[ij]*bRe[j];
+			}
+			double ur=re[i*n+i];
+			double ui=im[i*n+i];
+			double d=ur*ur+ui*ui;
+			bRe[i]=(sr*ur+si*ui)/d;
+			bIm[i]=(si*ur-sr*ui)/d;
+		}
+	}
+
+	/**
+	 * Obtiene la dimensión de la matriz factorizada.
+	 *
+	 * @return n		Dimensión
+	 */
+	public int getDimension() {
+		return n;
+	}
+
+	/**
+	 * Módulo al cuadrado de una entrada.
+	 *
+	 * @param idx			índice plano
+	 * @return módulo al cuadrado
+	 */
+	private double modulo2(int idx) {
+		return re[idx]*re[idx]+im[idx]*im[idx];
+	}
+
+	/**
+	 * Intercambia dos filas completas.
+	 *
+	 * @param a				fila
+	 * @param b				fila
+	 */
+	private void intercambiarFilas(int a, int b) {
+		for(int j=0; j<n; j++) {
+			int x=a*n+j;
+			int y=b*n+j;
+			double t=re[x]; re[x]=re[y]; re[y]=t;
+			t=im[x]; im[x]=im[y]; im[y]=t;
+		}
+	}
+}
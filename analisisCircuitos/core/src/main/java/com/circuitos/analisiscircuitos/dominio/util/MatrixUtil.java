@@ -0,0 +1,700 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.linear.RealVector;
+import org.apache.commons.math3.linear.SingularMatrixException;
+
+import com.circuitos.analisiscircuitos.dominio.Bobina;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+
+/**
+ * Utilidad para resolver circuitos por análisis nodal:
+ * construye las matrices necesarias y sus ampliadas para manejo de supernodos.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class MatrixUtil {
+	private static final Logger logger=Logger.getLogger(MatrixUtil.class.getName());
+	
+	private MatrixUtil() { /* No instanciable */ }
+	
+	/**
+	 * Resuelve un circuito por nodos. Calcula la tensión en cada uno de los nodos.
+	 * 
+	 * @param c		circuito para resolver
+	 * @return V	lista de tensiones en cada nodo.
+	 */
+	public static double[] resolverCircuitoNodal(Circuito c) {
+		return resolverCircuitoNodalCompleto(c).getVoltajes();
+	}
+	
+	/**
+	 * Resuelve un circuito por nodos conservando toda la solución del sistema:
+	 * tensiones de nodo y corrientes de las fuentes de tensión (variables extra de la MNA).
+	 * 
+	 * @param c		circuito para resolver
+	 * @return solución nodal completa
+	 */
+	public static SolucionNodal resolverCircuitoNodalCompleto(Circuito c) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		logger.log(Level.INFO, "Iniciando análisis nodal");
+		int ref=prepararNodosConexiones(c);
+		Map<Integer, Integer> nodos=c.getNodos();
+		int N=nodos.size();						
+		List<Componente> fV=CircuitUtil.obtenerFuentesTension(c);
+		RealMatrix G=construirMatrizG(c, nodos, ref);
+		RealVector I=construirVectorI(c, nodos, ref);
+		if(fV.isEmpty()) {
+			return new SolucionNodal(resolverSinFuentes(G, I, ref, N), new double[0], fV, nodos);
+		}
+		RealVector X=resolverConSupernodos(c, G, I, fV, nodos, ref);
+		return new SolucionNodal(extraerVoltajes(X, ref, N), extraerCorrientesFuentes(X, N-1, fV.size()), fV, nodos);
+	}
+	
+	/**
+	 * Actualiza el mapeo de nodos y obtiene el nodo de referencia.
+	 * 
+	 * @param c							circuito original
+	 * @throws IllegalStateException	si el circuito no es conexo
+	 * @return ref						referencia (nodo)
+	 */
+	private static int prepararNodosConexiones(Circuito c) {
+		NodeMapUtil.actualizarMapaNodos(c.getNodos(), c.getComponentes());
+		int ref=CircuitUtil.obtenerNodoReferencia(c);
+		if(!CircuitUtil.esConexo(c)) {
+			throw new IllegalStateException("El circuito no es conexo.");
+		}
+		logger.log(Level.FINE, "Nodo de referencia: {0}", ref);
+		return ref;
+	}
+	
+	/**
+	 * Construye la matriz G (matriz de conductancias).
+	 * 
+	 * @param c							circuito original
+	 * @param nodos						mapa de nodos
+	 * @param ref						referencia
+	 * @return matriz G					matriz G de conductancias
+	 */
+	private static RealMatrix construirMatrizG(Circuito c, Map<Integer, Integer> nodos, int ref) {
+		int M=nodos.size() - 1;
+		RealMatrix G=new Array2DRowRealMatrix(M, M);
+		for(Componente comp : c.getComponentes()) {
+			int n1=nodos.get(comp.getNodo1());
+			int n2=nodos.get(comp.getNodo2());
+			if(comp instanceof Resistencia r) {
+				double g=1.0/r.getValor();
+				StampUtil.stampG(G,  n1, n1, g, ref);
+				StampUtil.stampG(G, n2, n2, g, ref);
+				StampUtil.stampG(G, n1, n2, -g, ref);
+				StampUtil.stampG(G, n2, n1, -g, ref);
+			} else if(comp instanceof FuenteCorrienteDependiente fcd) {
+				StampUtil.stampSelectFuenteCorriente(G, fcd, nodos, ref, c);
+			}
+		}
+		logger.log(Level.FINE, "Matriz G construida (dim={0}x{0}", M);
+		return G;
+	}
+	
+	/**
+	 * Construye el vector I (vector de corrientes).
+	 * 
+	 * @param c						circuito original
+	 * @param nodos					mapa de nodos
+	 * @param ref					referencia
+	 * @return vector I				vector I de corrientes				
+	 */
+	private static RealVector construirVectorI(Circuito c, Map<Integer, Integer> nodos, int ref) {
+		int M=nodos.size() - 1;
+		RealVector I=new ArrayRealVector(M);
+		for(Componente comp : c.getComponentes()) {
+			int n1=nodos.get(comp.getNodo1());
+			int n2=nodos.get(comp.getNodo2());
+			if(comp instanceof FuenteCorrienteInd fci) {
+				double i0=fci.getValor();
+				StampUtil.stampI(I, n1, -i0, ref);
+				StampUtil.stampI(I, n2, +i0, ref);
+			}
+		}
+		logger.log(Level.FINE,"Vector I construido (dim={0})", M);
+		return I;
+	}
+	
+	/**
+	 * Resuelve G·V=I cuando no hay fuentes de tensión y reconstruye el array V con V[ref]=0.
+	 * 
+	 * @param G						matriz de conductancias G
+	 * @param I						vector de corrientes I
+	 * @param ref					nodo de referencia
+	 * @param N						número de nodos
+	 * @return V					array de voltajes
+	 */
+	private static double[] resolverSinFuentes(RealMatrix G, RealVector I, int ref, int N) {
+		RealVector sol=new LUDecomposition(G).getSolver().solve(I);
+		double[] V=new double[N];
+		V[ref]=0;
+		for(int i=0; i<N; i++) {
+			if(i==ref) continue;
+			int idx=StampUtil.comprimir(i, ref);
+			V[i]=sol.getEntry(idx);
+		}
+		logger.log(Level.FINE, "Solución sin fuentes calculada");
+		return V;
+	}
+	
+	/**
+	 * Resuelve el sistema ampliado con supernodos para F fuentes de tensión.
+	 * 
+	 * @param c							circuito original
+	 * @param G							matriz de conductancias G
+	 * @param I							vector de corrientes I
+	 * @param fV						lista de fuentes de tensión
+	 * @param nodos						mapa de nodos
+	 * @param ref						nodo de referencia
+	 * @throws IllegalStateException	matriz A ampliada singular	
+	 * @return X						vector solución del sistema ampliado
+	 */
+	private static RealVector resolverConSupernodos(Circuito c, RealMatrix G, RealVector I, 
+			List<Componente> fV, Map<Integer, Integer> nodos, int ref) {
+		int M=G.getRowDimension();
+		int F=fV.size();
+		
+		//Construir A y Z (matriz y vector ampliados)
+		RealMatrix A=construirMatrizSupernodos(c, G, fV, nodos, ref);
+		RealVector Z=construirVectorZ(I, construirVectorE(fV));
+		
+		//Resolver y extraer tensiones
+		RealVector X;
+		try {
+			X=new LUDecomposition(A).getSolver().solve(Z);
+		} catch (SingularMatrixException e) {
+			throw new IllegalStateException("Matriz ampliada singular", e);
+		}
+		logger.log(Level.FINE, "Sistema ampliado resuelto (dim={0})", M+F);
+		return X;
+	}
+	
+	/**
+	 * Construye los bloques B, C y D de las F fuentes de tensión y los une con G en la
+	 * matriz ampliada A. La matriz no depende del valor de las fuentes independientes.
+	 * 
+	 * @param c							circuito original
+	 * @param G							matriz de conductancias G
+	 * @param fV						lista de fuentes de tensión
+	 * @param nodos						mapa de nodos
+	 * @param ref						nodo de referencia
+	 * @return A						matriz ampliada (M+F)x(M+F)
+	 */
+	private static RealMatrix construirMatrizSupernodos(Circuito c, RealMatrix G,
+			List<Componente> fV, Map<Integer, Integer> nodos, int ref) {
+		int M=G.getRowDimension();
+		int F=fV.size();
+		RealMatrix B=new Array2DRowRealMatrix(M, F);
+		RealMatrix C=new Array2DRowRealMatrix(F, M);
+		RealMatrix D=new Array2DRowRealMatrix(F, F);
+		for(int j=0; j<F; j++) {
+			Componente comp=fV.get(j);
+			int p=nodos.get(comp.getNodo2());
+			int n=nodos.get(comp.getNodo1());
+			StampUtil.stampB(B, p, j, +1.0, ref);
+			StampUtil.stampB(B, n, j, -1.0, ref);
+			StampUtil.stampC(C, j, p, +1.0, ref);
+			StampUtil.stampC(C, j, n, -1.0, ref);
+			if(comp instanceof FuenteTensionDependiente ftd) {
+				StampUtil.stampSelectFuenteTension(C, D, j, ftd, nodos, ref, fV, c);
+			}
+		}
+		return construirMatrizAmpliada(G, B, C, D);
+	}
+	
+	/**
+	 * Construye el vector E con el valor de las fuentes de tensión independientes
+	 * (las dependientes quedan a 0, su relación está en C y D).
+	 * 
+	 * @param fV					lista de fuentes de tensión
+	 * @return E					vector de valores de las fuentes de tensión
+	 */
+	private static RealVector construirVectorE(List<Componente> fV) {
+		RealVector E=new ArrayRealVector(fV.size());
+		for(int j=0; j<fV.size(); j++) {
+			if(fV.get(j) instanceof FuenteTensionInd fti) {
+				E.setEntry(j, fti.getValor());
+			}
+		}
+		return E;
+	}
+	
+	/**
+	 * Calcula la aportación de cada fuente independiente a las tensiones de nodo
+	 * (principio de superposición). La matriz del sistema con todas las fuentes independientes
+	 * desactivadas es la misma para todas ellas, así que se factoriza una única vez y se
+	 * resuelve un sistema con una columna de términos independientes por fuente.
+	 * 
+	 * @param c							circuito a resolver
+	 * @param fuentes					fuentes independientes (de tensión o corriente) del circuito
+	 * @throws IllegalStateException	si el sistema es singular
+	 * @return matriz [fuente][índice de nodo] con la tensión debida a cada fuente
+	 */
+	public static double[][] resolverContribucionesFuentes(Circuito c, List<Componente> fuentes) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		Objects.requireNonNull(fuentes, "Lista de fuentes no puede ser null");
+		int ref=prepararNodosConexiones(c);
+		Map<Integer, Integer> nodos=c.getNodos();
+		int N=nodos.size();
+		int M=N-1;
+		int S=fuentes.size();
+		if(S==0) {
+			return new double[0][];
+		}
+		List<Componente> fV=CircuitUtil.obtenerFuentesTension(c);
+		RealMatrix G=construirMatrizG(c, nodos, ref);
+		RealMatrix A=fV.isEmpty() ? G : construirMatrizSupernodos(c, G, fV, nodos, ref);
+		
+		//Una columna de términos independientes por fuente: solo esa fuente activa
+		RealMatrix Z=new Array2DRowRealMatrix(A.getRowDimension(), S);
+		for(int s=0; s<S; s++) {
+			Componente fuente=fuentes.get(s);
+			if(fuente instanceof FuenteCorrienteInd fci) {
+				int n1=StampUtil.comprimir(nodos.get(fci.getNodo1()), ref);
+				int n2=StampUtil.comprimir(nodos.get(fci.getNodo2()), ref);
+				if(n1>=0) Z.addToEntry(n1, s, -fci.getValor());
+				if(n2>=0) Z.addToEntry(n2, s, +fci.getValor());
+			} else if(fuente instanceof FuenteTensionInd fti) {
+				int j=indiceFuente(fV, fti);
+				if(j<0) {
+					throw new IllegalArgumentException("La fuente no pertenece al circuito: "+fti.getId());
+				}
+				Z.setEntry(M+j, s, fti.getValor());
+			} else {
+				throw new IllegalArgumentException("Solo se admiten fuentes independientes: "+fuente.getId());
+			}
+		}
+		
+		RealMatrix X;
+		try {
+			X=new LUDecomposition(A).getSolver().solve(Z);
+		} catch (SingularMatrixException e) {
+			throw new IllegalStateException("Matriz del sistema singular", e);
+		}
+		double[][] V=new double[S][];
+		for(int s=0; s<S; s++) {
+			V[s]=extraerVoltajes(new ArrayRealVector(X.getColumn(s), false), ref, N);
+		}
+		logger.log(Level.FINE, "Superposición resuelta: {0} fuentes, una factorización (dim={1})",
+				new Object[] {S, A.getRowDimension()});
+		return V;
+	}
+	
+	/**
+	 * Prepara el sistema MNA del circuito en régimen sinusoidal permanente. Reutiliza el
+	 * ensamblado en continua como parte real (las bobinas ya están en él como ramas de 0 V y
+	 * los condensadores como circuito abierto) y añade la lista de entradas imaginarias
+	 * proporcionales a ω: jωC en el bloque de nodos para cada condensador y -jωL en la
+	 * diagonal de la rama de cada bobina. Las fuentes independientes se toman como fasores
+	 * de fase 0 y amplitud igual a su valor.
+	 * 
+	 * @param c							circuito a resolver
+	 * @throws IllegalStateException	si el circuito no es conexo
+	 * @return sistema evaluable a cualquier frecuencia
+	 */
+	public static SistemaAC construirSistemaAC(Circuito c) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		int ref=prepararNodosConexiones(c);
+		Map<Integer, Integer> nodos=c.getNodos();
+		int M=nodos.size()-1;
+		List<Componente> fV=CircuitUtil.obtenerFuentesTension(c);
+		SistemaLineal lineal=ensamblarLineal(c, fV, nodos, ref);
+		int n=lineal.Z().getDimension();
+		
+		double[] real=new double[n*n];
+		double[][] datos=lineal.A().getData();
+		for(int i=0; i<n; i++) {
+			System.arraycopy(datos[i], 0, real, i*n, n);
+		}
+		List<Condensador> condensadores=new ArrayList<>();
+		for(Componente comp : c.getComponentes()) {
+			if(comp instanceof Condensador cap) condensadores.add(cap);
+		}
+		int[] condN1=new int[condensadores.size()];
+		int[] condN2=new int[condensadores.size()];
+		double[] capacidades=new double[condensadores.size()];
+		for(int k=0; k<condensadores.size(); k++) {
+			Condensador cap=condensadores.get(k);
+			condN1[k]=StampUtil.comprimir(nodos.get(cap.getNodo1()), ref);
+			condN2[k]=StampUtil.comprimir(nodos.get(cap.getNodo2()), ref);
+			capacidades[k]=cap.getValor();
+		}
+		List<Integer> filas=new ArrayList<>();
+		List<Double> inductancias=new ArrayList<>();
+		for(int j=0; j<fV.size(); j++) {
+			if(fV.get(j) instanceof Bobina l) {
+				filas.add(M+j);
+				inductancias.add(l.getValor());
+			}
+		}
+		SistemaAC sistema=new SistemaAC(real, lineal.Z().toArray(), condN1, condN2, capacidades,
+				filas.stream().mapToInt(Integer::intValue).toArray(),
+				inductancias.stream().mapToDouble(Double::doubleValue).toArray(), nodos, ref);
+		logger.log(Level.FINE, "Sistema AC preparado (dim={0}, entradas reactivas={1})",
+				new Object[] {n, sistema.getEntradasReactivas()});
+		return sistema;
+	}
+	
+	/**
+	 * Prepara el sistema MNA de un circuito con diodos para resolverlo por Newton-Raphson.
+	 * La parte lineal es el mismo ensamblado que en continua (los diodos no estampan nada
+	 * en él) y de cada diodo solo se guardan las filas de ánodo y cátodo.
+	 * 
+	 * @param c							circuito a resolver
+	 * @throws IllegalStateException	si el circuito no es conexo
+	 * @return sistema no lineal
+	 */
+	public static SistemaNoLineal construirSistemaNoLineal(Circuito c) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		int ref=prepararNodosConexiones(c);
+		Map<Integer, Integer> nodos=c.getNodos();
+		List<Componente> fV=CircuitUtil.obtenerFuentesTension(c);
+		SistemaLineal lineal=ensamblarLineal(c, fV, nodos, ref);
+		List<Diodo> diodos=new ArrayList<>();
+		for(Componente comp : c.getComponentes()) {
+			if(comp instanceof Diodo d) diodos.add(d);
+		}
+		int[] anodos=new int[diodos.size()];
+		int[] catodos=new int[diodos.size()];
+		for(int k=0; k<diodos.size(); k++) {
+			anodos[k]=StampUtil.comprimir(nodos.get(diodos.get(k).getNodo1()), ref);
+			catodos[k]=StampUtil.comprimir(nodos.get(diodos.get(k).getNodo2()), ref);
+		}
+		return new SistemaNoLineal(lineal.A().getData(), lineal.Z().toArray(),
+				diodos.toArray(new Diodo[0]), anodos, catodos);
+	}
+	
+	/**
+	 * Resuelve un circuito con diodos por Newton-Raphson y devuelve la solución completa
+	 * (tensiones de nodo y corrientes de las ramas de tensión), igual que
+	 * {@link #resolverCircuitoNodalCompleto} para circuitos lineales.
+	 * 
+	 * @param c							circuito para resolver
+	 * @throws IllegalStateException	si el circuito no es conexo o Newton no converge
+	 * @return solución nodal completa
+	 */
+	public static SolucionNodal resolverCircuitoNoLineal(Circuito c) {
+		SistemaNoLineal sistema=construirSistemaNoLineal(c);
+		double[] x=sistema.resolver();
+		Map<Integer, Integer> nodos=c.getNodos();
+		int N=nodos.size();
+		List<Componente> fV=CircuitUtil.obtenerFuentesTension(c);
+		RealVector X=new ArrayRealVector(x, false);
+		return new SolucionNodal(extraerVoltajes(X, CircuitUtil.obtenerNodoReferencia(c), N),
+				extraerCorrientesFuentes(X, N-1, fV.size()), fV, nodos);
+	}
+	
+	/**
+	 * Prepara el sistema MNA de un circuito con el valor de cada componente como símbolo, para
+	 * obtener expresiones cerradas. Se estampa igual que en continua, pero cada resistencia
+	 * aporta su conductancia G=1/R como variable, cada fuente independiente su valor y cada
+	 * fuente dependiente su ganancia (multiplicada por la G de la resistencia de control
+	 * cuando el control es la corriente de una resistencia). Los condensadores quedan abiertos
+	 * y las bobinas son ramas de 0 V, como en el punto de operación.
+	 * 
+	 * @param c							circuito a resolver
+	 * @throws IllegalStateException	si el circuito no es conexo o falta la rama de control de una CCVS
+	 * @throws IllegalArgumentException	si el circuito tiene diodos (no lineales)
+	 * @return sistema simbólico
+	 */
+	public static SistemaSimbolico construirSistemaSimbolico(Circuito c) {
+		Objects.requireNonNull(c, "Circuito no puede ser null");
+		int ref=prepararNodosConexiones(c);
+		Map<Integer, Integer> nodos=c.getNodos();
+		int M=nodos.size()-1;
+		List<Componente> fV=CircuitUtil.obtenerFuentesTension(c);
+		int n=M+fV.size();
+		
+		//Una variable por componente con valor propio
+		Map<Componente, Integer> variable=new IdentityHashMap<>();
+		List<String> simbolos=new ArrayList<>();
+		List<Double> valores=new ArrayList<>();
+		List<Boolean> conductancias=new ArrayList<>();
+		for(Componente comp : c.getComponentes()) {
+			if(comp instanceof Diodo) {
+				throw new IllegalArgumentException("El análisis simbólico no admite diodos: "+comp.getId());
+			}
+			if(comp instanceof Resistencia || comp instanceof FuenteCorrienteInd || comp instanceof FuenteTensionInd
+					|| comp instanceof FuenteDependiente) {
+				variable.put(comp, simbolos.size());
+				simbolos.add(comp.getId());
+				valores.add(comp.getValor());
+				conductancias.add(comp instanceof Resistencia);
+			}
+		}
+		int V=simbolos.size();
+		Polinomio[][] A=new Polinomio[n][n];
+		Polinomio[] Z=new Polinomio[n];
+		for(int i=0; i<n; i++) {
+			Z[i]=Polinomio.cero(V);
+			for(int j=0; j<n; j++) A[i][j]=Polinomio.cero(V);
+		}
+		Polinomio uno=Polinomio.constante(V, 1);
+		
+		for(Componente comp : c.getComponentes()) {
+			int n1=StampUtil.comprimir(nodos.get(comp.getNodo1()), ref);
+			int n2=StampUtil.comprimir(nodos.get(comp.getNodo2()), ref);
+			if(comp instanceof Resistencia r) {
+				Polinomio g=Polinomio.variable(V, variable.get(r));
+				sumar(A, n1, n1, g);
+				sumar(A, n2, n2, g);
+				sumar(A, n1, n2, g.negar());
+				sumar(A, n2, n1, g.negar());
+			} else if(comp instanceof FuenteCorrienteInd fci) {
+				Polinomio i0=Polinomio.variable(V, variable.get(fci));
+				if(n1>=0) Z[n1]=Z[n1].resta(i0);
+				if(n2>=0) Z[n2]=Z[n2].suma(i0);
+			} else if(comp instanceof FuenteCorrienteDependiente fcd) {
+				Polinomio gm=Polinomio.variable(V, variable.get(fcd));
+				if(fcd.getControlType()==FuenteCorrienteDependiente.ControlType.CORRIENTE) {
+					Optional<Resistencia> rCtrl=StampUtil.resistenciaControl(c, fcd);
+					if(rCtrl.isEmpty()) continue;
+					gm=gm.producto(Polinomio.variable(V, variable.get(rCtrl.get())));
+				}
+				int cpos=StampUtil.comprimir(nodos.get(fcd.getCtrlPos()), ref);
+				int cneg=StampUtil.comprimir(nodos.get(fcd.getCtrlNeg()), ref);
+				sumar(A, n1, cpos, gm);
+				sumar(A, n1, cneg, gm.negar());
+				sumar(A, n2, cpos, gm.negar());
+				sumar(A, n2, cneg, gm);
+			}
+		}
+		for(int j=0; j<fV.size(); j++) {
+			Componente comp=fV.get(j);
+			int fila=M+j;
+			int p=StampUtil.comprimir(nodos.get(comp.getNodo2()), ref);
+			int q=StampUtil.comprimir(nodos.get(comp.getNodo1()), ref);
+			sumar(A, p, fila, uno);
+			sumar(A, q, fila, uno.negar());
+			sumar(A, fila, p, uno);
+			sumar(A, fila, q, uno.negar());
+			if(comp instanceof FuenteTensionInd fti) {
+				Z[fila]=Polinomio.variable(V, variable.get(fti));
+			} else if(comp instanceof FuenteTensionDependiente ftd) {
+				Polinomio mu=Polinomio.variable(V, variable.get(ftd));
+				int ctrlP=StampUtil.comprimir(nodos.get(ftd.getCtrlPos()), ref);
+				int ctrlN=StampUtil.comprimir(nodos.get(ftd.getCtrlNeg()), ref);
+				if(ftd.getControlType()==FuenteTensionDependiente.ControlType.TENSION) {
+					sumar(A, fila, ctrlP, mu.negar());
+					sumar(A, fila, ctrlN, mu);
+					continue;
+				}
+				int kCtrl=StampUtil.indiceFuenteControl(fV, ftd);
+				if(kCtrl>=0) {
+					sumar(A, fila, M+kCtrl, mu.negar());
+					continue;
+				}
+				Resistencia rCtrl=StampUtil.resistenciaControl(c, ftd).orElseThrow(() -> new IllegalStateException(
+						"No se encontró fuente de tensión control CCVS ni resistencia en nodos "+ftd.getCtrlNeg()+"/"+ftd.getCtrlPos()));
+				Polinomio muEff=mu.producto(Polinomio.variable(V, variable.get(rCtrl)));
+				sumar(A, fila, ctrlN, muEff.negar());
+				sumar(A, fila, ctrlP, muEff);
+			}
+		}
+		boolean[] esConductancia=new boolean[V];
+		for(int k=0; k<V; k++) esConductancia[k]=conductancias.get(k);
+		logger.log(Level.FINE, "Sistema simbólico preparado (dim={0}, símbolos={1})", new Object[] {n, V});
+		return new SistemaSimbolico(A, Z, simbolos, valores.stream().mapToDouble(Double::doubleValue).toArray(),
+				esConductancia, nodos, ref);
+	}
+	
+	/**
+	 * Prepara el sistema MNA en continua parametrizado por el valor de las resistencias, para
+	 * reevaluarlo con otros valores y calcular sensibilidades. Se obtiene del sistema
+	 * simbólico, así que la dependencia de las fuentes controladas por la corriente de una
+	 * resistencia se respeta exactamente.
+	 * 
+	 * @param c							circuito a resolver
+	 * @throws IllegalStateException	si el circuito no es conexo
+	 * @throws IllegalArgumentException	si el circuito tiene diodos
+	 * @return sistema parametrizado
+	 */
+	public static SistemaResistivo construirSistemaResistivo(Circuito c) {
+		SistemaResistivo sistema=new SistemaResistivo(construirSistemaSimbolico(c));
+		logger.log(Level.FINE, "Sistema resistivo preparado (dim={0}, resistencias={1})",
+				new Object[] {sistema.getDimension(), sistema.getNumResistencias()});
+		return sistema;
+	}
+
+	/**
+	 * Prepara el sistema nodal disperso de una netlist compacta, para circuitos resistivos
+	 * demasiado grandes para la MNA densa.
+	 *
+	 * @param arena						netlist compacta
+	 * @throws IllegalArgumentException	si hay componentes no soportados (diodos, bobinas o fuentes
+	 * 									dependientes)
+	 * @throws IllegalStateException	si hay fuentes de tensión flotantes o el circuito no es conexo
+	 * @return sistema disperso
+	 */
+	public static SistemaDisperso construirSistemaDisperso(ArenaNetlist arena) {
+		Objects.requireNonNull(arena, "La arena no puede ser null");
+		return new SistemaDisperso(arena);
+	}
+
+	/**
+	 * Resuelve en continua una netlist compacta con el sistema disperso y gradiente conjugado.
+	 *
+	 * @param arena						netlist compacta
+	 * @throws IllegalArgumentException	si hay componentes no soportados
+	 * @throws IllegalStateException	si el circuito no es conexo o el método no converge
+	 * @return tensión de cada nodo, indexada por número de nodo
+	 */
+	public static double[] resolverCircuitoNodal(ArenaNetlist arena) {
+		SistemaDisperso sistema=construirSistemaDisperso(arena);
+		return sistema.resolver(1e-10, Math.max(100, 10*sistema.getDimension()));
+	}
+
+	/**
+	 * Suma un polinomio a una entrada de la matriz simbólica (ignora la referencia, -1).
+	 * 
+	 * @param A						matriz simbólica
+	 * @param fila					fila comprimida
+	 * @param col					columna comprimida
+	 * @param p						polinomio a sumar
+	 */
+	private static void sumar(Polinomio[][] A, int fila, int col, Polinomio p) {
+		if(fila<0 || col<0) return;
+		A[fila][col]=A[fila][col].suma(p);
+	}
+	
+	/**
+	 * Matriz y término independiente del sistema lineal (ampliado si hay ramas de tensión).
+	 * 
+	 * @param A						matriz del sistema
+	 * @param Z						término independiente
+	 */
+	private record SistemaLineal(RealMatrix A, RealVector Z) { }
+	
+	/**
+	 * Ensambla la parte lineal del sistema MNA: G si no hay ramas de tensión o la matriz
+	 * ampliada con supernodos si las hay, junto con su término independiente.
+	 * 
+	 * @param c							circuito original
+	 * @param fV						lista de fuentes de tensión
+	 * @param nodos						mapa de nodos
+	 * @param ref						nodo de referencia
+	 * @return sistema lineal
+	 */
+	private static SistemaLineal ensamblarLineal(Circuito c, List<Componente> fV, Map<Integer, Integer> nodos, int ref) {
+		RealMatrix G=construirMatrizG(c, nodos, ref);
+		RealVector I=construirVectorI(c, nodos, ref);
+		if(fV.isEmpty()) {
+			return new SistemaLineal(G, I);
+		}
+		return new SistemaLineal(construirMatrizSupernodos(c, G, fV, nodos, ref), construirVectorZ(I, construirVectorE(fV)));
+	}
+	
+	/**
+	 * Busca la posición de una fuente (por identidad) en la lista de fuentes de tensión.
+	 * 
+	 * @param fV					lista de fuentes de tensión
+	 * @param fuente				fuente buscada
+	 * @return índice de la fuente o -1 si no está
+	 */
+	private static int indiceFuente(List<Componente> fV, Componente fuente) {
+		for(int j=0; j<fV.size(); j++) {
+			if(fV.get(j)==fuente) return j;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Construye la matriz ampliada A de tamaño (M+F)*(M+F)
+	 * 
+	 * @param G						matriz G de conductancias
+	 * @param B						matriz B de incidencias de fuentes de tensión
+	 * @param C						matriz traspuesta de B
+	 * @param D						matriz de ceros (FxF)
+	 * @return A					matriz A para resolver sistema ampliado
+	 */
+	private static RealMatrix construirMatrizAmpliada(RealMatrix G, RealMatrix B, RealMatrix C, RealMatrix D) {
+		int M=G.getRowDimension();
+		int F=B.getColumnDimension();
+		RealMatrix A=new Array2DRowRealMatrix(M+F, M+F);
+		A.setSubMatrix(G.getData(), 0, 0);
+		A.setSubMatrix(B.getData(), 0, M);
+		A.setSubMatrix(C.getData(), M, 0);
+		A.setSubMatrix(D.getData(), M, M);
+		return A;
+	}
+	
+	/**
+	 * Construye el vector ampliado Z de longitud M+F.
+	 * 
+	 * @param I					vector I de corrientes
+	 * @param E					vector E de valores de las fuentes de tensión
+	 * @return Z				vector Z para resolver sistema ampliado
+	 */
+	private static RealVector construirVectorZ(RealVector I, RealVector E) {
+		int M=I.getDimension();
+		int F=E.getDimension();
+		RealVector Z=new ArrayRealVector(M+F);
+		Z.setSubVector(0, I);
+		Z.setSubVector(M, E);
+		return Z;
+	}
+	
+	/**
+	 * Construye el array de tensiones V de longitud N a partir del vector solución X del 
+	 * sistema nodal (simple o ampliado). Coloca V[ref]=0 y ajusta los índices comprimidos.
+	 * 
+	 * @param X					vector X solución de dimensión N-1 (N-1+F en supernodos)
+	 * @param ref				nodo de referencia
+	 * @param N					número de nodos
+	 * @return V				array V de voltajes
+	 */
+	private static double[] extraerVoltajes(RealVector X, int ref, int N) {
+		double[] V=new double[N];
+		V[ref]=0.0;
+		for(int i=0; i<N; i++) {
+			if(i==ref) continue;
+			int idxComprimido=(i>ref)?(i-1):i;
+			V[i]=X.getEntry(idxComprimido);
+		}
+		return V;
+	}
+	
+	/**
+	 * Extrae del vector solución X del sistema ampliado las corrientes de las F fuentes de tensión.
+	 * Cada corriente es la que sale del nodo positivo y atraviesa la fuente hacia el negativo.
+	 * 
+	 * @param X					vector X solución de dimensión M+F
+	 * @param M					número de nodos sin referencia
+	 * @param F					número de fuentes de tensión
+	 * @return array de corrientes de las fuentes de tensión
+	 */
+	private static double[] extraerCorrientesFuentes(RealVector X, int M, int F) {
+		double[] J=new double[F];
+		for(int j=0; j<F; j++) {
+			J[j]=X.getEntry(M+j);
+		}
+		return J;
+	}
+}
@@ -0,0 +1,542 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Polinomio en varias variables con coeficientes enteros, inmutable. Es la representación
+ * canónica que usa la eliminación simbólica: dos polinomios iguales tienen los mismos
+ * términos, así que comparar, simplificar y dividir de forma exacta es directo. Los términos
+ * se guardan en orden lexicográfico decreciente (el primero es el término principal).
+ * <p>
+ * Las operaciones aritméticas lanzan {@link ArithmeticException} si algún coeficiente se
+ * sale del rango de {@code long} o si una división que debería ser exacta no lo es.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class Polinomio {
+	private final int variables;
+	private final TreeMap<Monomio, Long> terminos;
+	private int hash;
+
+	/**
+	 * Constructor privado. El mapa pasa a ser propiedad del polinomio.
+	 *
+	 * @param variables				número de variables
+	 * @param terminos				términos con coeficiente no nulo
+	 */
+	private Polinomio(int variables, TreeMap<Monomio, Long> terminos) {
+		this.variables=variables;
+		this.terminos=terminos;
+	}
+
+	/**
+	 * Crea el polinomio nulo.
+	 *
+	 * @param variables				número de variables
+	 * @return 0
+	 */
+	public static Polinomio cero(int variables) {
+		return new Polinomio(variables, new TreeMap<>());
+	}
+
+	/**
+	 * Crea un polinomio constante.
+	 *
+	 * @param variables				número de variables
+	 * @param valor					constante
+	 * @return polinomio constante
+	 */
+	public static Polinomio constante(int variables, long valor) {
+		TreeMap<Monomio, Long> t=new TreeMap<>();
+		if(valor!=0) t.put(new Monomio(new int[variables]), valor);
+		return new Polinomio(variables, t);
+	}
+
+	/**
+	 * Crea el polinomio formado por una sola variable.
+	 *
+	 * @param variables				número de variables
+	 * @param indice				índice de la variable
+	 * @throws IllegalArgumentException si el índice está fuera de rango
+	 * @return x<sub>indice</sub>
+	 */
+	public static Polinomio variable(int variables, int indice) {
+		if(indice<0 || indice>=variables) {
+			throw new IllegalArgumentException("Variable fuera de rango: "+indice);
+		}
+		int[] e=new int[variables];
+		e[indice]=1;
+		TreeMap<Monomio, Long> t=new TreeMap<>();
+		t.put(new Monomio(e), 1L);
+		return new Polinomio(variables, t);
+	}
+
+	/**
+	 * Suma dos polinomios.
+	 *
+	 * @param otro					sumando
+	 * @return this+otro
+	 */
+	public Polinomio suma(Polinomio otro) {
+		if(otro.esCero()) return this;
+		if(esCero()) return otro;
+		TreeMap<Monomio, Long> t=new TreeMap<>(terminos);
+		for(Map.Entry<Monomio, Long> e : otro.terminos.entrySet()) {
+			acumular(t, e.getKey(), e.getValue());
+		}
+		return new Polinomio(variables, t);
+	}
+
+	/**
+	 * Resta dos polinomios.
+	 *
+	 * @param otro					sustraendo
+	 * @return this-otro
+	 */
+	public Polinomio resta(Polinomio otro) {
+		if(otro.esCero()) return this;
+		TreeMap<Monomio, Long> t=new TreeMap<>(terminos);
+		for(Map.Entry<Monomio, Long> e : otro.terminos.entrySet()) {
+			acumular(t, e.getKey(), Math.negateExact(e.getValue()));
+		}
+		return new Polinomio(variables, t);
+	}
+
+	/**
+	 * Multiplica dos polinomios.
+	 *
+	 * @param otro					factor
+	 * @return this·otro
+	 */
+	public Polinomio producto(Polinomio otro) {
+		if(esCero() || otro.esCero()) return cero(variables);
+		TreeMap<Monomio, Long> t=new TreeMap<>();
+		for(Map.Entry<Monomio, Long> a : terminos.entrySet()) {
+			for(Map.Entry<Monomio, Long> b : otro.terminos.entrySet()) {
+				acumular(t, a.getKey().por(b.getKey()), Math.multiplyExact(a.getValue(), b.getValue()));
+			}
+		}
+		return new Polinomio(variables, t);
+	}
+
+	/**
+	 * Cambia el signo del polinomio.
+	 *
+	 * @return -this
+	 */
+	public Polinomio negar() {
+		TreeMap<Monomio, Long> t=new TreeMap<>();
+		for(Map.Entry<Monomio, Long> e : terminos.entrySet()) {
+			t.put(e.getKey(), Math.negateExact(e.getValue()));
+		}
+		return new Polinomio(variables, t);
+	}
+
+	/**
+	 * División exacta (sin resto). Se usa en la eliminación de Bareiss, donde el algoritmo
+	 * garantiza que el divisor divide al dividendo.
+	 *
+	 * @param divisor				divisor no nulo
+	 * @throws ArithmeticException	si el divisor es nulo o la división no es exacta
+	 * @return this/divisor
+	 */
+	public Polinomio divisionExacta(Polinomio divisor) {
+		if(divisor.esCero()) throw new ArithmeticException("División por el polinomio nulo");
+		Monomio ltDivisor=divisor.terminos.firstKey();
+		long lcDivisor=divisor.terminos.firstEntry().getValue();
+		if(divisor.terminos.size()==1) {
+			return dividirMonomio(ltDivisor.e, lcDivisor);
+		}
+		TreeMap<Monomio, Long> cociente=new TreeMap<>();
+		TreeMap<Monomio, Long> resto=new TreeMap<>(terminos);
+		while(!resto.isEmpty()) {
+			Map.Entry<Monomio, Long> lt=resto.firstEntry();
+			Monomio m=lt.getKey().entre(ltDivisor);
+			if(m==null || lt.getValue()%lcDivisor!=0) {
+				throw new ArithmeticException("División de polinomios no exacta");
+			}
+			long c=lt.getValue()/lcDivisor;
+			cociente.put(m, c);
+			for(Map.Entry<Monomio, Long> d : divisor.terminos.entrySet()) {
+				acumular(resto, m.por(d.getKey()), Math.negateExact(Math.multiplyExact(c, d.getValue())));
+			}
+		}
+		return new Polinomio(variables, cociente);
+	}
+
+	/**
+	 * Divide todos los términos entre un monomio que los divide a todos.
+	 *
+	 * @param exponentes			exponentes del monomio
+	 * @param coeficiente			coeficiente del monomio (no nulo)
+	 * @throws ArithmeticException	si algún término no es divisible
+	 * @return polinomio cociente
+	 */
+	public Polinomio dividirMonomio(int[] exponentes, long coeficiente) {
+		Monomio divisor=new Monomio(exponentes.clone());
+		TreeMap<Monomio, Long> t=new TreeMap<>();
+		for(Map.Entry<Monomio, Long> e : terminos.entrySet()) {
+			Monomio m=e.getKey().entre(divisor);
+			if(m==null || e.getValue()%coeficiente!=0) {
+				throw new ArithmeticException("El monomio no divide al polinomio");
+			}
+			t.put(m, e.getValue()/coeficiente);
+		}
+		return new Polinomio(variables, t);
+	}
+
+	/**
+	 * Sustituye las variables indicadas por su inversa y multiplica por el producto de sus
+	 * potencias máximas, de modo que el resultado sigue siendo un polinomio: cada exponente
+	 * e<sub>k</sub> pasa a ser grados[k]-e<sub>k</sub>. Aplicado a numerador y denominador de
+	 * una fracción con los mismos grados, la fracción no cambia.
+	 *
+	 * @param grados				grado al que se eleva cada variable (0 para no tocarla)
+	 * @throws IllegalArgumentException si algún término supera el grado indicado
+	 * @return polinomio en las variables inversas
+	 */
+	public Polinomio invertir(int[] grados) {
+		TreeMap<Monomio, Long> t=new TreeMap<>();
+		for(Map.Entry<Monomio, Long> e : terminos.entrySet()) {
+			int[] x=e.getKey().e.clone();
+			for(int k=0; k<variables; k++) {
+				if(grados[k]==0) continue;
+				if(x[k]>grados[k]) {
+					throw new IllegalArgumentException("Grado de la variable "+k+" mayor que "+grados[k]);
+				}
+				x[k]=grados[k]-x[k];
+			}
+			t.put(new Monomio(x), e.getValue());
+		}
+		return new Polinomio(variables, t);
+	}
+
+	/**
+	 * Simplifica la fracción num/den dividiendo ambos entre su monomio común y el máximo
+	 * común divisor de sus coeficientes, y deja positivo el coeficiente principal del
+	 * denominador. No busca factores comunes de más de un término.
+	 *
+	 * @param num					numerador
+	 * @param den					denominador no nulo
+	 * @throws ArithmeticException	si el denominador es nulo
+	 * @return {numerador, denominador} simplificados
+	 */
+	public static Polinomio[] simplificarFraccion(Polinomio num, Polinomio den) {
+		if(den.esCero()) throw new ArithmeticException("Denominador nulo");
+		if(num.esCero()) return new Polinomio[] {num, constante(den.variables, 1)};
+		int[] comun=num.monomioComun();
+		int[] comunDen=den.monomioComun();
+		for(int k=0; k<comun.length; k++) comun[k]=Math.min(comun[k], comunDen[k]);
+		long g=mcd(num.contenido(), den.contenido());
+		if(den.coeficientePrincipal()<0) g=-g;
+		return new Polinomio[] {num.dividirMonomio(comun, g), den.dividirMonomio(comun, g)};
+	}
+
+	/**
+	 * Obtiene el grado máximo de una variable en el polinomio.
+	 *
+	 * @param indice				índice de la variable
+	 * @return grado (0 si no aparece)
+	 */
+	public int grado(int indice) {
+		int g=0;
+		for(Monomio m : terminos.keySet()) {
+			g=Math.max(g, m.e[indice]);
+		}
+		return g;
+	}
+
+	/**
+	 * Obtiene el exponente mínimo de cada variable entre todos los términos (el mayor
+	 * monomio que divide al polinomio).
+	 *
+	 * @return exponentes (todos 0 si el polinomio es nulo)
+	 */
+	public int[] monomioComun() {
+		int[] min=new int[variables];
+		if(esCero()) return min;
+		Arrays.fill(min, Integer.MAX_VALUE);
+		for(Monomio m : terminos.keySet()) {
+			for(int k=0; k<variables; k++) {
+				min[k]=Math.min(min[k], m.e[k]);
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Obtiene el máximo común divisor de los coeficientes.
+	 *
+	 * @return contenido (0 si el polinomio es nulo)
+	 */
+	public long contenido() {
+		long g=0;
+		for(long c : terminos.values()) {
+			g=mcd(g, Math.abs(c));
+		}
+		return g;
+	}
+
+	/**
+	 * Obtiene el coeficiente del término principal.
+	 *
+	 * @return coeficiente principal (0 si el polinomio es nulo)
+	 */
+	public long coeficientePrincipal() {
+		return esCero() ? 0 : terminos.firstEntry().getValue();
+	}
+
+	/**
+	 * Busca la variable que aparece en más términos (para factorizar por Horner).
+	 *
+	 * @return índice de la variable o -1 si el polinomio es constante
+	 */
+	public int variableMasFrecuente() {
+		int[] apariciones=new int[variables];
+		for(Monomio m : terminos.keySet()) {
+			for(int k=0; k<variables; k++) {
+				if(m.e[k]>0) apariciones[k]++;
+			}
+		}
+		int mejor=-1;
+		for(int k=0; k<variables; k++) {
+			if(apariciones[k]>0 && (mejor<0 || apariciones[k]>apariciones[mejor])) mejor=k;
+		}
+		return mejor;
+	}
+
+	/**
+	 * Separa el polinomio respecto de una variable: this=x·cociente+resto, donde el resto
+	 * no contiene x.
+	 *
+	 * @param indice				índice de la variable x
+	 * @return {cociente, resto}
+	 */
+	public Polinomio[] separar(int indice) {
+		TreeMap<Monomio, Long> q=new TreeMap<>();
+		TreeMap<Monomio, Long> r=new TreeMap<>();
+		for(Map.Entry<Monomio, Long> e : terminos.entrySet()) {
+			int[] x=e.getKey().e;
+			if(x[indice]>0) {
+				int[] y=x.clone();
+				y[indice]--;
+				q.put(new Monomio(y), e.getValue());
+			} else {
+				r.put(e.getKey(), e.getValue());
+			}
+		}
+		return new Polinomio[] {new Polinomio(variables, q), new Polinomio(variables, r)};
+	}
+
+	/**
+	 * Evalúa el polinomio.
+	 *
+	 * @param valores				valor de cada variable
+	 * @return valor del polinomio
+	 */
+	public double evaluar(double[] valores) {
+		double s=0.0;
+		for(Map.Entry<Monomio, Long> e : terminos.entrySet()) {
+			double t=e.getValue();
+			int[] x=e.getKey().e;
+			for(int k=0; k<variables; k++) {
+				for(int p=0; p<x[k]; p++) t*=valores[k];
+			}
+			s+=t;
+		}
+		return s;
+	}
+
+	/**
+	 * Comprueba si es el polinomio nulo.
+	 *
+	 * @return {@code true} si no tiene términos
+	 */
+	public boolean esCero() {
+		return terminos.isEmpty();
+	}
+
+	/**
+	 * Comprueba si es constante (incluido el nulo).
+	 *
+	 * @return {@code true} si no contiene variables
+	 */
+	public boolean esConstante() {
+		return terminos.isEmpty() || (terminos.size()==1 && terminos.firstKey().esUno());
+	}
+
+	/**
+	 * Obtiene el número de términos.
+	 *
+	 * @return términos con coeficiente no nulo
+	 */
+	public int getNumTerminos() {
+		return terminos.size();
+	}
+
+	/**
+	 * Obtiene el número de variables.
+	 *
+	 * @return variables
+	 */
+	public int getVariables() {
+		return variables;
+	}
+
+	/**
+	 * Escribe el polinomio con los nombres de las variables, p. ej. "R1·R2 + R2·V1".
+	 *
+	 * @param nombres				nombre de cada variable
+	 * @return fórmula legible
+	 */
+	public String formatear(List<String> nombres) {
+		if(esCero()) return "0";
+		StringBuilder sb=new StringBuilder();
+		for(Map.Entry<Monomio, Long> e : terminos.entrySet()) {
+			long c=e.getValue();
+			if(sb.length()==0) {
+				if(c<0) sb.append('-');
+			} else {
+				sb.append(c<0 ? " - " : " + ");
+			}
+			long abs=Math.abs(c);
+			StringBuilder m=new StringBuilder();
+			int[] x=e.getKey().e;
+			for(int k=0; k<variables; k++) {
+				if(x[k]==0) continue;
+				if(m.length()>0) m.append('·');
+				m.append(nombres.get(k));
+				if(x[k]>1) m.append('^').append(x[k]);
+			}
+			if(m.length()==0) {
+				sb.append(abs);
+			} else {
+				if(abs!=1) sb.append(abs).append('·');
+				sb.append(m);
+			}
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(this==obj) return true;
+		if(!(obj instanceof Polinomio)) return false;
+		Polinomio otro=(Polinomio) obj;
+		return variables==otro.variables && terminos.equals(otro.terminos);
+	}
+
+	@Override
+	public int hashCode() {
+		int h=hash;
+		if(h==0) {
+			h=Objects.hash(variables, terminos);
+			hash=h;
+		}
+		return h;
+	}
+
+	/**
+	 * Devuelve un String con el tamaño del polinomio.
+	 *
+	 * @return String		Info del polinomio.
+	 */
+	@Override
+	public String toString() {
+		return "Polinomio{variables="+variables+", terminos="+terminos.size()+"}";
+	}
+
+	/**
+	 * Suma un término a un mapa de términos eliminando los que se anulan.
+	 *
+	 * @param t						mapa de términos
+	 * @param m						monomio
+	 * @param c						coeficiente
+	 */
+	private static void acumular(TreeMap<Monomio, Long> t, Monomio m, long c) {
+		Long previo=t.get(m);
+		long nuevo=previo==null ? c : Math.addExact(previo, c);
+		if(nuevo==0) {
+			t.remove(m);
+		} else {
+			t.put(m, nuevo);
+		}
+	}
+
+	/**
+	 * Máximo común divisor.
+	 *
+	 * @param a						entero no negativo
+	 * @param b						entero no negativo
+	 * @return mcd(a, b)
+	 */
+	private static long mcd(long a, long b) {
+		while(b!=0) {
+			long r=a%b;
+			a=b;
+			b=r;
+		}
+		return a;
+	}
+
+	/**
+	 * Producto de potencias de las variables. El orden natural es el lexicográfico
+	 * decreciente, de modo que el primer término de un mapa ordenado es el principal.
+	 */
+	private static final class Monomio implements Comparable<Monomio> {
+		private final int[] e;
+		private final int hash;
+
+		Monomio(int[] e) {
+			this.e=e;
+			this.hash=Arrays.hashCode(e);
+		}
+
+		Monomio por(Monomio otro) {
+			int[] x=new int[e.length];
+			for(int k=0; k<e.length; k++) x[k]=e[k]+otro.e[k];
+			return new Monomio(x);
+		}
+
+		/** Cociente this/otro o {@code null} si otro no divide a this. */
+		Monomio entre(Monomio otro) {
+			int[] x=new int[e.length];
+			for(int k=0; k<e.length; k++) {
+				x[k]=e[k]-otro.e[k];
+				if(x[k]<0) return null;
+			}
+			return new Monomio(x);
+		}
+
+		boolean esUno() {
+			for(int v : e) {
+				if(v!=0) return false;
+			}
+			return true;
+		}
+
+		@Override
+		public int compareTo(Monomio otro) {
+			for(int k=0; k<e.length; k++) {
+				if(e[k]!=otro.e[k]) return Integer.compare(otro.e[k], e[k]);
+			}
+			return 0;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Monomio m && Arrays.equals(e, m.e);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.stream.IntStream;
+
+/**
+ * Rejilla rectangular de filas·columnas nodos con la misma resistencia entre cada par de
+ * vecinos horizontales y verticales (ver {@link GraphUtil#detectarRejilla}).
+ * <p>
+ * La matriz de conductancias de la rejilla es el laplaciano con contorno libre (Neumann),
+ * L=L<sub>f</sub>⊗I+I⊗L<sub>c</sub>, que diagonaliza la transformada de coseno discreta
+ * (DCT-II) en cada dirección: sus autovectores son cos(πj(x+½)/N)·cos(πk(y+½)/M) con
+ * autovalores (2-2cos(πj/N))+(2-2cos(πk/M)). La resistencia entre dos nodos es
+ * R·(e<sub>a</sub>-e<sub>b</sub>)ᵀL⁺(e<sub>a</sub>-e<sub>b</sub>), que en esa base es una suma
+ * directa de N·M términos separables: no hay que ensamblar ni factorizar ninguna matriz.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class RejillaResistiva {
+	private final int filas;
+	private final int columnas;
+	private final double resistencia;
+	private final int primerNodo;
+	private final int[] posiciones;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param filas						número de filas (al menos 2)
+	 * @param columnas					número de columnas (al menos 2)
+	 * @param resistencia				resistencia de cada lado (Ω)
+	 * @param primerNodo				número del primer nodo de la rejilla
+	 * @param posiciones				fila·columnas+columna de cada nodo desde primerNodo (-1 si no está)
+	 */
+	RejillaResistiva(int filas, int columnas, double resistencia, int primerNodo, int[] posiciones) {
+		this.filas=filas;
+		this.columnas=columnas;
+		this.resistencia=resistencia;
+		this.primerNodo=primerNodo;
+		this.posiciones=posiciones;
+	}
+
+	/**
+	 * Calcula la resistencia equivalente entre dos nodos de la rejilla.
+	 *
+	 * @param nodoA						nodo terminal
+	 * @param nodoB						nodo terminal
+	 * @throws IllegalArgumentException	si algún nodo no pertenece a la rejilla
+	 * @return resistencia entre A y B (Ω)
+	 */
+	public double resistenciaEntre(int nodoA, int nodoB) {
+		int a=posicion(nodoA);
+		int b=posicion(nodoB);
+		if(a==b) return 0.0;
+		double[] fa=modos(filas, a/columnas);
+		double[] fb=modos(filas, b/columnas);
+		double[] ca=modos(columnas, a%columnas);
+		double[] cb=modos(columnas, b%columnas);
+		double[] autoFilas=autovalores(filas);
+		double[] autoColumnas=autovalores(columnas);
+		double suma=IntStream.range(0, filas).parallel().mapToDouble(j -> {
+			double s=0.0;
+			for(int k=(j==0 ? 1 : 0); k<columnas; k++) {
+				double d=fa[j]*ca[k]-fb[j]*cb[k];
+				s+=d*d/(autoFilas[j]+autoColumnas[k]);
+			}
+			return s;
+		}).sum();
+		return resistencia*suma;
+	}
+
+	/**
+	 * Valor de cada autovector normalizado del camino de n nodos en la posición x.
+	 *
+	 * @param n							nodos del camino
+	 * @param x							posición
+	 * @return cos(πj(x+½)/n)/‖u<sub>j</sub>‖ para j=0..n-1
+	 */
+	private static double[] modos(int n, int x) {
+		double[] u=new double[n];
+		u[0]=1.0/Math.sqrt(n);
+		double norma=Math.sqrt(2.0/n);
+		for(int j=1; j<n; j++) {
+			u[j]=norma*Math.cos(Math.PI*j*(x+0.5)/n);
+		}
+		return u;
+	}
+
+	/**
+	 * Autovalores del laplaciano del camino de n nodos.
+	 *
+	 * @param n							nodos del camino
+	 * @return 2-2cos(πj/n) para j=0..n-1
+	 */
+	private static double[] autovalores(int n) {
+		double[] mu=new double[n];
+		for(int j=0; j<n; j++) {
+			mu[j]=2.0-2.0*Math.cos(Math.PI*j/n);
+		}
+		return mu;
+	}
+
+	/**
+	 * Posición de un nodo en la rejilla.
+	 *
+	 * @param nodo						nodo del circuito
+	 * @throws IllegalArgumentException	si no pertenece a la rejilla
+	 * @return fila·columnas+columna
+	 */
+	private int posicion(int nodo) {
+		int p=contiene(nodo) ? posiciones[nodo-primerNodo] : -1;
+		if(p<0) {
+			throw new IllegalArgumentException("El nodo no pertenece a la rejilla: "+nodo);
+		}
+		return p;
+	}
+
+	/**
+	 * Indica si un nodo pertenece a la rejilla.
+	 *
+	 * @param nodo						nodo del circuito
+	 * @return {@code true} si es un nodo de la rejilla
+	 */
+	public boolean contiene(int nodo) {
+		long k=(long)nodo-primerNodo;
+		return k>=0 && k<posiciones.length && posiciones[(int)k]>=0;
+	}
+
+	/**
+	 * Obtiene la fila de un nodo.
+	 *
+	 * @param nodo						nodo del circuito
+	 * @throws IllegalArgumentException	si no pertenece a la rejilla
+	 * @return fila
+	 */
+	public int getFila(int nodo) {
+		return posicion(nodo)/columnas;
+	}
+
+	/**
+	 * Obtiene la columna de un nodo.
+	 *
+	 * @param nodo						nodo del circuito
+	 * @throws IllegalArgumentException	si no pertenece a la rejilla
+	 * @return columna
+	 */
+	public int getColumna(int nodo) {
+		return posicion(nodo)%columnas;
+	}
+
+	/**
+	 * Obtiene el número de filas.
+	 *
+	 * @return filas
+	 */
+	public int getFilas() {
+		return filas;
+	}
+
+	/**
+	 * Obtiene el número de columnas.
+	 *
+	 * @return columnas
+	 */
+	public int getColumnas() {
+		return columnas;
+	}
+
+	/**
+	 * Obtiene la resistencia de cada lado.
+	 *
+	 * @return resistencia (Ω)
+	 */
+	public double getResistencia() {
+		return resistencia;
+	}
+}
@@ -0,0 +1,70 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Series de valores normalizados de resistencias (IEC 60063). Cada serie da las mantisas de
+ * una década; los valores reales son mantisa·10<sup>d</sup>.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public enum SerieE {
+	E12(1, new int[] {10, 12, 15, 18, 22, 27, 33, 39, 47, 56, 68, 82}),
+	E24(1, new int[] {10, 11, 12, 13, 15, 16, 18, 20, 22, 24, 27, 30, 33, 36, 39, 43, 47, 51, 56, 62, 68, 75,
+			82, 91}),
+	E96(2, new int[] {100, 102, 105, 107, 110, 113, 115, 118, 121, 124, 127, 130, 133, 137, 140, 143, 147, 150,
+			154, 158, 162, 165, 169, 174, 178, 182, 187, 191, 196, 200, 205, 210, 215, 221, 226, 232, 237, 243, 249,
+			255, 261, 267, 274, 280, 287, 294, 301, 309, 316, 324, 332, 340, 348, 357, 365, 374, 383, 392, 402, 412,
+			422, 432, 442, 453, 464, 475, 487, 499, 511, 523, 536, 549, 562, 576, 590, 604, 619, 634, 649, 665, 681,
+			698, 715, 732, 750, 768, 787, 806, 825, 845, 866, 887, 909, 931, 953, 976});
+
+	private final int decimales;
+	private final int[] mantisas;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param decimales		Cifras decimales de las mantisas (10 → 1.0 con un decimal)
+	 * @param mantisas		Mantisas de una década como enteros
+	 */
+	SerieE(int decimales, int[] mantisas) {
+		this.decimales=decimales;
+		this.mantisas=mantisas;
+	}
+
+	/**
+	 * Obtiene los valores normalizados de la serie dentro de un rango, en orden creciente.
+	 * Se construyen desde su representación decimal para que 4.7k sea exactamente 4700.
+	 *
+	 * @param min						Valor mínimo (Ω, positivo)
+	 * @param max						Valor máximo (Ω)
+	 * @throws IllegalArgumentException	si el rango no es válido
+	 * @return valores en [min, max]
+	 */
+	public double[] valores(double min, double max) {
+		if(!(min>0.0 && max>=min && Double.isFinite(max))) {
+			throw new IllegalArgumentException("Rango de valores no válido: ["+min+", "+max+"]");
+		}
+		List<Double> lista=new ArrayList<>();
+		int primera=(int)Math.floor(Math.log10(min))-1;
+		int ultima=(int)Math.ceil(Math.log10(max));
+		for(int d=primera; d<=ultima; d++) {
+			for(int m : mantisas) {
+				double v=Double.parseDouble(m+"E"+(d-decimales));
+				if(v>=min && v<=max) lista.add(v);
+			}
+		}
+		return lista.stream().mapToDouble(Double::doubleValue).toArray();
+	}
+
+	/**
+	 * Obtiene el número de valores por década.
+	 *
+	 * @return valores		12, 24 o 96
+	 */
+	public int getValoresPorDecada() {
+		return mantisas.length;
+	}
+}
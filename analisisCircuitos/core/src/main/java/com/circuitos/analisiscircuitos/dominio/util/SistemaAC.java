@@ -0,0 +1,208 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.DecompositionSolver;
+import org.apache.commons.math3.linear.LUDecomposition;
+
+/**
+ * Sistema MNA de un circuito con elementos reactivos preparado para evaluarse a cualquier
+ * frecuencia o paso de integración. Se construye una sola vez por circuito (ver
+ * {@link MatrixUtil#construirSistemaAC}): la parte real de la matriz (resistencias, fuentes
+ * y bobinas como ramas de 0 V) y el término independiente no dependen de la frecuencia, y
+ * la parte reactiva es una lista dispersa de entradas proporcionales a s (C de los
+ * condensadores en el bloque de nodos y -L en la diagonal de la rama de cada bobina).
+ * En alterna s=jω; en un transitorio con paso h, s=1/h (Euler implícito) o s=2/h (trapecios).
+ * Es inmutable, por lo que puede compartirse entre hilos.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class SistemaAC {
+	private final double[] real;
+	private final double[] terminoIndependiente;
+	private final int[] condensadorNodo1;
+	private final int[] condensadorNodo2;
+	private final double[] capacidades;
+	private final int[] filasBobina;
+	private final double[] inductancias;
+	private final int[] posicionesS;
+	private final double[] coeficientesS;
+	private final Map<Integer, Integer> nodos;
+	private final int ref;
+	private final int n;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param real						parte real de la matriz ampliada (n·n, por filas)
+	 * @param terminoIndependiente		término independiente real (fasores de fase 0)
+	 * @param condensadorNodo1			fila del nodo 1 de cada condensador (-1 si es la referencia)
+	 * @param condensadorNodo2			fila del nodo 2 de cada condensador (-1 si es la referencia)
+	 * @param capacidades				capacidad de cada condensador (F)
+	 * @param filasBobina				fila de la rama de cada bobina
+	 * @param inductancias				inductancia de cada bobina (H)
+	 * @param nodos						mapa de nodos del circuito
+	 * @param ref						índice del nodo de referencia
+	 */
+	SistemaAC(double[] real, double[] terminoIndependiente, int[] condensadorNodo1, int[] condensadorNodo2,
+			double[] capacidades, int[] filasBobina, double[] inductancias, Map<Integer, Integer> nodos, int ref) {
+		this.real=real;
+		this.terminoIndependiente=terminoIndependiente;
+		this.condensadorNodo1=condensadorNodo1;
+		this.condensadorNodo2=condensadorNodo2;
+		this.capacidades=capacidades;
+		this.filasBobina=filasBobina;
+		this.inductancias=inductancias;
+		this.nodos=Map.copyOf(nodos);
+		this.ref=ref;
+		this.n=terminoIndependiente.length;
+
+		//Patrón disperso de las entradas proporcionales a s
+		int[] pos=new int[4*capacidades.length+inductancias.length];
+		double[] coef=new double[pos.length];
+		int k=0;
+		for(int c=0; c<capacidades.length; c++) {
+			int a=condensadorNodo1[c];
+			int b=condensadorNodo2[c];
+			for(int[] e : new int[][] {{a, a, 1}, {b, b, 1}, {a, b, -1}, {b, a, -1}}) {
+				if(e[0]<0 || e[1]<0) continue;
+				pos[k]=e[0]*n+e[1];
+				coef[k++]=e[2]*capacidades[c];
+			}
+		}
+		for(int l=0; l<inductancias.length; l++) {
+			pos[k]=filasBobina[l]*n+filasBobina[l];
+			coef[k++]=-inductancias[l];
+		}
+		this.posicionesS=Arrays.copyOf(pos, k);
+		this.coeficientesS=Arrays.copyOf(coef, k);
+	}
+
+	/**
+	 * Ensambla y factoriza la matriz a una pulsación dada (s=jω).
+	 *
+	 * @param omega						pulsación (rad/s)
+	 * @throws IllegalStateException	si la matriz es singular a esa pulsación
+	 * @return factorización lista para resolver
+	 */
+	public LUCompleja factorizar(double omega) {
+		double[] re=real.clone();
+		double[] im=new double[re.length];
+		for(int k=0; k<posicionesS.length; k++) {
+			im[posicionesS[k]]+=omega*coeficientesS[k];
+		}
+		return new LUCompleja(re, im, n);
+	}
+
+	/**
+	 * Ensambla y factoriza la matriz con s real (modelo de compañía de un paso de integración).
+	 *
+	 * @param s							factor de los elementos reactivos (1/h o 2/h)
+	 * @throws IllegalStateException	si la matriz es singular
+	 * @return solver de la factorización
+	 */
+	public DecompositionSolver factorizarReal(double s) {
+		double[][] A=new double[n][n];
+		for(int i=0; i<n; i++) {
+			System.arraycopy(real, i*n, A[i], 0, n);
+		}
+		for(int k=0; k<posicionesS.length; k++) {
+			A[posicionesS[k]/n][posicionesS[k]%n]+=s*coeficientesS[k];
+		}
+		DecompositionSolver solver=new LUDecomposition(new Array2DRowRealMatrix(A, false)).getSolver();
+		if(!solver.isNonSingular()) {
+			throw new IllegalStateException("Matriz del modelo de compañía singular (s="+s+")");
+		}
+		return solver;
+	}
+
+	/**
+	 * Obtiene una copia del término independiente (fuentes independientes activas).
+	 *
+	 * @return término independiente real
+	 */
+	public double[] getTerminoIndependiente() {
+		return terminoIndependiente.clone();
+	}
+
+	/**
+	 * Obtiene la fila del sistema que corresponde a la tensión de un nodo del circuito.
+	 *
+	 * @param nodo						nodo del circuito
+	 * @throws IllegalArgumentException	si el nodo no pertenece al circuito
+	 * @return índice en el vector solución o -1 si es el nodo de referencia
+	 */
+	public int indiceNodo(int nodo) {
+		Integer idx=nodos.get(nodo);
+		if(idx==null) {
+			throw new IllegalArgumentException("El nodo no pertenece al circuito: "+nodo);
+		}
+		return StampUtil.comprimir(idx, ref);
+	}
+
+	/**
+	 * Obtiene la dimensión del sistema.
+	 *
+	 * @return n		Dimensión (nodos sin referencia más ramas de tensión)
+	 */
+	public int getDimension() {
+		return n;
+	}
+
+	/**
+	 * Obtiene el número de entradas que dependen de s.
+	 *
+	 * @return entradas reactivas
+	 */
+	public int getEntradasReactivas() {
+		return posicionesS.length;
+	}
+
+	/**
+	 * Obtiene las filas del nodo 1 de los condensadores.
+	 *
+	 * @return filas (-1 si el nodo es la referencia)
+	 */
+	public int[] getCondensadorNodo1() {
+		return condensadorNodo1.clone();
+	}
+
+	/**
+	 * Obtiene las filas del nodo 2 de los condensadores.
+	 *
+	 * @return filas (-1 si el nodo es la referencia)
+	 */
+	public int[] getCondensadorNodo2() {
+		return condensadorNodo2.clone();
+	}
+
+	/**
+	 * Obtiene las capacidades de los condensadores.
+	 *
+	 * @return capacidades (F)
+	 */
+	public double[] getCapacidades() {
+		return capacidades.clone();
+	}
+
+	/**
+	 * Obtiene las filas de rama de las bobinas (su incógnita es la corriente de la bobina).
+	 *
+	 * @return filas de las bobinas
+	 */
+	public int[] getFilasBobina() {
+		return filasBobina.clone();
+	}
+
+	/**
+	 * Obtiene las inductancias de las bobinas.
+	 *
+	 * @return inductancias (H)
+	 */
+	public double[] getInductancias() {
+		return inductancias.clone();
+	}
+}
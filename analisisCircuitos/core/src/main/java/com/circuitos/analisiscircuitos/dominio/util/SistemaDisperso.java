@@ -0,0 +1,268 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.util.ArenaNetlist.Tipo;
+
+/**
+ * Sistema nodal en continua de una {@link ArenaNetlist}, en formato disperso (CSR), para
+ * circuitos demasiado grandes para la MNA densa de {@link MatrixUtil}. Admite resistencias,
+ * fuentes de corriente independientes, condensadores (abiertos en continua) y fuentes de tensión
+ * independientes con algún borne de tensión conocida (la referencia u otra fuente). Las fuentes
+ * de tensión fijan la tensión de sus nodos y las incógnitas son el resto, así que la matriz es
+ * simétrica y definida positiva y se resuelve con gradiente conjugado precondicionado con la
+ * diagonal (Jacobi).
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class SistemaDisperso {
+	private static final Logger logger=Logger.getLogger(SistemaDisperso.class.getName());
+	private final int numNodos;
+	private final int[] fila;			//fila de cada nodo (-1 si su tensión es conocida o no se usa)
+	private final double[] fijas;		//tensión de los nodos conocidos
+	private final int[] inicio;
+	private final int[] columnas;
+	private final double[] valores;
+	private final double[] diagonal;
+	private final double[] terminoIndependiente;
+
+	/**
+	 * Constructor. Fija las tensiones de las fuentes de tensión y ensambla la matriz de
+	 * conductancias de los nodos restantes en dos pasadas sobre la arena.
+	 *
+	 * @param arena						netlist compacta
+	 * @throws IllegalArgumentException	si hay componentes no soportados
+	 * @throws IllegalStateException	si hay fuentes de tensión flotantes o incompatibles, o el
+	 * 									circuito no es conexo
+	 */
+	SistemaDisperso(ArenaNetlist arena) {
+		int m=arena.size();
+		this.numNodos=arena.getNumNodos();
+		int ref=referencia(arena);
+		boolean[] conocida=new boolean[numNodos];
+		this.fijas=new double[numNodos];
+		conocida[ref]=true;
+		fijarFuentesTension(arena, conocida);
+
+		boolean[] usado=new boolean[numNodos];
+		for(int e=0; e<m; e++) {
+			Tipo tipo=arena.getTipo(e);
+			switch(tipo) {
+				case RESISTENCIA, FUENTE_CORRIENTE, CONDENSADOR, FUENTE_TENSION, TIERRA -> { }
+				default -> throw new IllegalArgumentException("Componente no soportado por el solver disperso: "+tipo);
+			}
+			usado[arena.getNodo1(e)]=true;
+			usado[arena.getNodo2(e)]=true;
+		}
+		this.fila=new int[numNodos];
+		int n=0;
+		for(int v=0; v<numNodos; v++) {
+			fila[v]=usado[v] && !conocida[v] ? n++ : -1;
+		}
+
+		// Primera pasada: elementos fuera de la diagonal de cada fila
+		int[] cuenta=new int[n+1];
+		for(int e=0; e<m; e++) {
+			if(arena.getTipo(e)!=Tipo.RESISTENCIA) continue;
+			int a=fila[arena.getNodo1(e)], b=fila[arena.getNodo2(e)];
+			if(a>=0 && b>=0 && a!=b) {
+				cuenta[a+1]++;
+				cuenta[b+1]++;
+			}
+		}
+		for(int i=0; i<n; i++) cuenta[i+1]+=cuenta[i];
+		this.inicio=cuenta;
+		this.columnas=new int[inicio[n]];
+		this.valores=new double[inicio[n]];
+		this.diagonal=new double[n];
+		this.terminoIndependiente=new double[n];
+
+		// Segunda pasada: estampas
+		int[] llenos=Arrays.copyOf(inicio, n);
+		boolean[] anclada=new boolean[n];
+		for(int e=0; e<m; e++) {
+			Tipo tipo=arena.getTipo(e);
+			int n1=arena.getNodo1(e), n2=arena.getNodo2(e);
+			int a=fila[n1], b=fila[n2];
+			if(tipo==Tipo.RESISTENCIA) {
+				if(n1==n2) continue;
+				double g=1.0/arena.getValor(e);
+				if(a>=0) diagonal[a]+=g;
+				if(b>=0) diagonal[b]+=g;
+				if(a>=0 && b>=0) {
+					columnas[llenos[a]]=b;
+					valores[llenos[a]++]=-g;
+					columnas[llenos[b]]=a;
+					valores[llenos[b]++]=-g;
+				} else if(a>=0) {
+					terminoIndependiente[a]+=g*fijas[n2];
+					anclada[a]=true;
+				} else if(b>=0) {
+					terminoIndependiente[b]+=g*fijas[n1];
+					anclada[b]=true;
+				}
+			} else if(tipo==Tipo.FUENTE_CORRIENTE) {
+				double i0=arena.getValor(e);
+				if(a>=0) terminoIndependiente[a]-=i0;
+				if(b>=0) terminoIndependiente[b]+=i0;
+			}
+		}
+		comprobarConexo(anclada);
+		logger.log(Level.FINE, "Sistema disperso: {0} incógnitas, {1} elementos fuera de la diagonal",
+				new Object[] {n, inicio[n]});
+	}
+
+	/**
+	 * Nodo de referencia: el de la tierra si la hay, el 0 si se usa y si no el de más conexiones.
+	 */
+	private static int referencia(ArenaNetlist arena) {
+		int m=arena.size();
+		if(m==0) throw new IllegalArgumentException("El circuito no tiene nodos para elegir referencia");
+		int[] grado=new int[arena.getNumNodos()];
+		for(int e=0; e<m; e++) {
+			if(arena.getTipo(e)==Tipo.TIERRA) return arena.getNodo1(e);
+			grado[arena.getNodo1(e)]++;
+			grado[arena.getNodo2(e)]++;
+		}
+		if(grado[0]>0) return 0;
+		int ref=0;
+		for(int v=1; v<grado.length; v++) {
+			if(grado[v]>grado[ref]) ref=v;
+		}
+		return ref;
+	}
+
+	/**
+	 * Propaga las tensiones conocidas a través de las fuentes de tensión hasta que no cambia nada.
+	 */
+	private void fijarFuentesTension(ArenaNetlist arena, boolean[] conocida) {
+		int m=arena.size();
+		boolean cambios=true;
+		boolean pendientes=true;
+		while(cambios && pendientes) {
+			cambios=false;
+			pendientes=false;
+			for(int e=0; e<m; e++) {
+				if(arena.getTipo(e)!=Tipo.FUENTE_TENSION) continue;
+				int n1=arena.getNodo1(e), n2=arena.getNodo2(e);
+				double v=arena.getValor(e);
+				if(conocida[n1] && conocida[n2]) {
+					if(Math.abs(fijas[n2]-fijas[n1]-v)>1e-9*Math.max(1.0, Math.abs(v))) {
+						throw new IllegalStateException("Fuentes de tensión incompatibles en los nodos "+n1+"-"+n2);
+					}
+				} else if(conocida[n1]) {
+					fijas[n2]=fijas[n1]+v;
+					conocida[n2]=cambios=true;
+				} else if(conocida[n2]) {
+					fijas[n1]=fijas[n2]-v;
+					conocida[n1]=cambios=true;
+				} else {
+					pendientes=true;
+				}
+			}
+		}
+		if(pendientes) {
+			throw new IllegalStateException("Fuente de tensión flotante: el solver disperso necesita un borne de tensión conocida");
+		}
+	}
+
+	/**
+	 * Todas las incógnitas deben llegar por resistencias a algún nodo de tensión conocida; si no,
+	 * la matriz es singular.
+	 */
+	private void comprobarConexo(boolean[] anclada) {
+		int n=anclada.length;
+		boolean[] visto=new boolean[n];
+		int[] cola=new int[n];
+		int fin=0;
+		for(int i=0; i<n; i++) {
+			if(anclada[i]) {
+				visto[i]=true;
+				cola[fin++]=i;
+			}
+		}
+		for(int cabeza=0; cabeza<fin; cabeza++) {
+			int u=cola[cabeza];
+			for(int k=inicio[u]; k<inicio[u+1]; k++) {
+				int v=columnas[k];
+				if(!visto[v]) {
+					visto[v]=true;
+					cola[fin++]=v;
+				}
+			}
+		}
+		if(fin<n) throw new IllegalStateException("El circuito no es conexo.");
+	}
+
+	/**
+	 * Resuelve el sistema por gradiente conjugado con precondicionador de Jacobi.
+	 *
+	 * @param tolerancia				residuo relativo (‖r‖/‖b‖) para terminar
+	 * @param maxIteraciones			máximo de iteraciones
+	 * @return tensión de cada nodo, indexada por número de nodo (0 en los no usados)
+	 * @throws IllegalStateException	si no converge
+	 */
+	public double[] resolver(double tolerancia, int maxIteraciones) {
+		int n=diagonal.length;
+		double[] x=new double[n];
+		double[] r=terminoIndependiente.clone();
+		double[] z=new double[n];
+		double[] p=new double[n];
+		double[] q=new double[n];
+		double normaB=Math.sqrt(producto(r, r));
+		int iter=0;
+		if(normaB>0.0) {
+			for(int i=0; i<n; i++) z[i]=r[i]/diagonal[i];
+			System.arraycopy(z, 0, p, 0, n);
+			double rz=producto(r, z);
+			while(Math.sqrt(producto(r, r))>tolerancia*normaB) {
+				if(++iter>maxIteraciones) {
+					throw new IllegalStateException("El gradiente conjugado no converge en "+maxIteraciones+" iteraciones");
+				}
+				multiplicar(p, q);
+				double alfa=rz/producto(p, q);
+				for(int i=0; i<n; i++) {
+					x[i]+=alfa*p[i];
+					r[i]-=alfa*q[i];
+				}
+				for(int i=0; i<n; i++) z[i]=r[i]/diagonal[i];
+				double rzNuevo=producto(r, z);
+				double beta=rzNuevo/rz;
+				rz=rzNuevo;
+				for(int i=0; i<n; i++) p[i]=z[i]+beta*p[i];
+			}
+		}
+		logger.log(Level.FINE, "Gradiente conjugado: {0} iteraciones para {1} incógnitas", new Object[] {iter, n});
+		double[] tensiones=fijas.clone();
+		for(int v=0; v<numNodos; v++) {
+			if(fila[v]>=0) tensiones[v]=x[fila[v]];
+		}
+		return tensiones;
+	}
+
+	private void multiplicar(double[] v, double[] destino) {
+		for(int i=0; i<diagonal.length; i++) {
+			double s=diagonal[i]*v[i];
+			for(int k=inicio[i]; k<inicio[i+1]; k++) s+=valores[k]*v[columnas[k]];
+			destino[i]=s;
+		}
+	}
+
+	private static double producto(double[] a, double[] b) {
+		double s=0.0;
+		for(int i=0; i<a.length; i++) s+=a[i]*b[i];
+		return s;
+	}
+
+	/**
+	 * Devuelve el número de incógnitas (nodos de tensión desconocida).
+	 *
+	 * @return dimensión del sistema
+	 */
+	public int getDimension() {
+		return diagonal.length;
+	}
+}
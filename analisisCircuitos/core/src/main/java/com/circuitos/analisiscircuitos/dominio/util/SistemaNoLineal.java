@@ -0,0 +1,260 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.DecompositionSolver;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealVector;
+
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+
+/**
+ * Sistema MNA de un circuito con diodos resuelto por Newton-Raphson. La parte lineal de la
+ * matriz y el término independiente se ensamblan una sola vez (ver
+ * {@link MatrixUtil#construirSistemaNoLineal}); en cada iteración solo se suman las
+ * conductancias dinámicas de los diodos en sus posiciones, que también se calculan una vez.
+ * <p>
+ * Usa Newton modificado: la factorización del jacobiano se reutiliza mientras el residuo
+ * siga bajando deprisa y solo se refactoriza cuando la convergencia se frena. El paso se
+ * amortigua limitando la variación de la tensión de cada diodo (como {@code pnjlim} de SPICE)
+ * y, si aun así no converge, se recurre a escalonar las fuentes desde cero.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class SistemaNoLineal {
+	private static final Logger logger=Logger.getLogger(SistemaNoLineal.class.getName());
+	/** Conductancia mínima en paralelo con cada diodo (evita nodos flotantes en inversa) */
+	public static final double GMIN=1e-12;
+	private static final int MAX_ITERACIONES=100;
+	private static final int PASOS_FUENTES=10;
+	private static final double TOLERANCIA_TENSION=1e-9;
+	private static final double TOLERANCIA_RESIDUO=1e-9;
+	private static final double RATIO_REFACTORIZAR=0.25;
+	private final double[][] lineal;
+	private final double[] terminoIndependiente;
+	private final Diodo[] diodos;
+	private final int[] anodos;
+	private final int[] catodos;
+	private final int n;
+	private int iteraciones;
+	private int factorizaciones;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param lineal					parte lineal de la matriz MNA
+	 * @param terminoIndependiente		término independiente con las fuentes activas
+	 * @param diodos					diodos del circuito
+	 * @param anodos					fila del ánodo de cada diodo (-1 si es la referencia)
+	 * @param catodos					fila del cátodo de cada diodo (-1 si es la referencia)
+	 */
+	SistemaNoLineal(double[][] lineal, double[] terminoIndependiente, Diodo[] diodos, int[] anodos, int[] catodos) {
+		this.lineal=lineal;
+		this.terminoIndependiente=terminoIndependiente;
+		this.diodos=diodos;
+		this.anodos=anodos;
+		this.catodos=catodos;
+		this.n=terminoIndependiente.length;
+	}
+
+	/**
+	 * Resuelve el punto de operación partiendo de todas las incógnitas a cero.
+	 *
+	 * @throws IllegalStateException	si no converge ni escalonando las fuentes
+	 * @return vector solución del sistema MNA (tensiones comprimidas y corrientes de rama)
+	 */
+	public double[] resolver() {
+		iteraciones=0;
+		factorizaciones=0;
+		double[] x=new double[n];
+		if(newton(x, 1.0)) {
+			registrar("Newton directo");
+			return x;
+		}
+		//Escalonado de fuentes: cada punto parte de la solución anterior
+		x=new double[n];
+		for(int k=1; k<=PASOS_FUENTES; k++) {
+			double escala=(double) k/PASOS_FUENTES;
+			if(!newton(x, escala)) {
+				throw new IllegalStateException("Newton-Raphson no converge con las fuentes al "+Math.round(100*escala)+"%");
+			}
+		}
+		registrar("escalonado de fuentes");
+		return x;
+	}
+
+	/**
+	 * Iteraciones de Newton modificado sobre x (se actualiza en el sitio).
+	 *
+	 * @param x				estimación inicial y, al terminar, solución
+	 * @param escala		factor de las fuentes independientes (0-1]
+	 * @return {@code true} si converge
+	 */
+	private boolean newton(double[] x, double escala) {
+		DecompositionSolver solver=null;
+		double residuoAnterior=Double.POSITIVE_INFINITY;
+		double[] f=new double[n];
+		for(int it=0; it<MAX_ITERACIONES; it++) {
+			double residuo=residuo(x, escala, f);
+			if(!Double.isFinite(residuo)) return false;
+			if(solver==null || residuo>RATIO_REFACTORIZAR*residuoAnterior) {
+				solver=factorizarJacobiano(x);
+				if(solver==null) return false;
+			}
+			RealVector paso=solver.solve(new ArrayRealVector(f, false));
+			double[] dx=paso.toArray();
+			double amortiguamiento=limitarPaso(x, dx);
+			double maxPaso=0.0;
+			double maxX=0.0;
+			for(int i=0; i<n; i++) {
+				x[i]-=amortiguamiento*dx[i];
+				maxPaso=Math.max(maxPaso, Math.abs(amortiguamiento*dx[i]));
+				maxX=Math.max(maxX, Math.abs(x[i]));
+			}
+			iteraciones++;
+			if(amortiguamiento==1.0 && residuo<TOLERANCIA_RESIDUO
+					&& maxPaso<TOLERANCIA_TENSION*(1.0+maxX)) {
+				return true;
+			}
+			residuoAnterior=residuo;
+		}
+		return false;
+	}
+
+	/**
+	 * Residuo F(x)=A·x+Id(x)-escala·z (KCL en los nodos y ecuación de cada rama).
+	 *
+	 * @param x				estimación actual
+	 * @param escala		factor de las fuentes independientes
+	 * @param f				array de salida con el residuo
+	 * @return norma infinito del residuo
+	 */
+	private double residuo(double[] x, double escala, double[] f) {
+		for(int i=0; i<n; i++) {
+			double s=-escala*terminoIndependiente[i];
+			double[] fila=lineal[i];
+			for(int j=0; j<n; j++) {
+				s+=fila[j]*x[j];
+			}
+			f[i]=s;
+		}
+		for(int d=0; d<diodos.length; d++) {
+			double vd=tensionDiodo(x, d);
+			double id=diodos[d].corriente(vd)+GMIN*vd;
+			if(anodos[d]>=0) f[anodos[d]]+=id;
+			if(catodos[d]>=0) f[catodos[d]]-=id;
+		}
+		double max=0.0;
+		for(double v : f) max=Math.max(max, Math.abs(v));
+		return max;
+	}
+
+	/**
+	 * Jacobiano en x: parte lineal más la conductancia dinámica de cada diodo.
+	 *
+	 * @param x				estimación actual
+	 * @return solver de la factorización o {@code null} si es singular
+	 */
+	private DecompositionSolver factorizarJacobiano(double[] x) {
+		double[][] J=new double[n][];
+		for(int i=0; i<n; i++) {
+			J[i]=lineal[i].clone();
+		}
+		for(int d=0; d<diodos.length; d++) {
+			double g=diodos[d].conductancia(tensionDiodo(x, d))+GMIN;
+			int a=anodos[d];
+			int c=catodos[d];
+			if(a>=0) J[a][a]+=g;
+			if(c>=0) J[c][c]+=g;
+			if(a>=0 && c>=0) {
+				J[a][c]-=g;
+				J[c][a]-=g;
+			}
+		}
+		factorizaciones++;
+		DecompositionSolver solver=new LUDecomposition(new Array2DRowRealMatrix(J, false)).getSolver();
+		return solver.isNonSingular() ? solver : null;
+	}
+
+	/**
+	 * Amortigua el paso de Newton: si la tensión de algún diodo en directa va a subir más
+	 * de 2·n·Vt, se limita de forma logarítmica y todo el paso se escala en proporción.
+	 *
+	 * @param x				estimación actual
+	 * @param dx			paso de Newton (se resta a x)
+	 * @return factor de amortiguamiento (1 si no hace falta)
+	 */
+	private double limitarPaso(double[] x, double[] dx) {
+		double factor=1.0;
+		for(int d=0; d<diodos.length; d++) {
+			double nvt=diodos[d].getEmision()*Diodo.TENSION_TERMICA;
+			double vCritica=nvt*Math.log(nvt/(Math.sqrt(2.0)*diodos[d].getValor()));
+			double vAnterior=tensionDiodo(x, d);
+			double delta=-((anodos[d]>=0 ? dx[anodos[d]] : 0.0)-(catodos[d]>=0 ? dx[catodos[d]] : 0.0));
+			double vNueva=vAnterior+delta;
+			if(vNueva<=vCritica || Math.abs(delta)<=2.0*nvt) continue;
+			double vLimitada;
+			if(vAnterior>0.0) {
+				double arg=1.0+delta/nvt;
+				vLimitada=arg>0.0 ? vAnterior+nvt*Math.log(arg) : vCritica;
+			} else {
+				vLimitada=nvt*Math.log(vNueva/nvt);
+			}
+			factor=Math.min(factor, Math.max((vLimitada-vAnterior)/delta, 1e-3));
+		}
+		return factor;
+	}
+
+	/**
+	 * Tensión ánodo-cátodo de un diodo en la estimación actual.
+	 *
+	 * @param x				estimación actual
+	 * @param d				índice del diodo
+	 * @return tensión del diodo (V)
+	 */
+	private double tensionDiodo(double[] x, int d) {
+		return (anodos[d]>=0 ? x[anodos[d]] : 0.0)-(catodos[d]>=0 ? x[catodos[d]] : 0.0);
+	}
+
+	/**
+	 * Deja constancia del coste de la última resolución.
+	 *
+	 * @param modo			estrategia con la que se ha convergido
+	 */
+	private void registrar(String modo) {
+		logger.log(Level.FINE, "Newton-Raphson ({0}): {1} iteraciones, {2} factorizaciones, {3} diodos",
+				new Object[] {modo, iteraciones, factorizaciones, diodos.length});
+	}
+
+	/**
+	 * Obtiene el número de iteraciones de la última resolución.
+	 *
+	 * @return iteraciones de Newton
+	 */
+	public int getIteraciones() {
+		return iteraciones;
+	}
+
+	/**
+	 * Obtiene el número de factorizaciones del jacobiano de la última resolución.
+	 *
+	 * @return factorizaciones
+	 */
+	public int getFactorizaciones() {
+		return factorizaciones;
+	}
+
+	/**
+	 * Obtiene la dimensión del sistema.
+	 *
+	 * @return n		Dimensión
+	 */
+	public int getDimension() {
+		return n;
+	}
+}
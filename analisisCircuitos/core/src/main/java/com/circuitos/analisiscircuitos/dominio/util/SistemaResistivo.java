@@ -0,0 +1,242 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.DecompositionSolver;
+import org.apache.commons.math3.linear.LUDecomposition;
+
+/**
+ * Sistema MNA en continua parametrizado por el valor de las resistencias (ver
+ * {@link MatrixUtil#construirSistemaResistivo}). La matriz es afín en la conductancia de
+ * cada resistencia: A(G)=A<sub>fija</sub>+Σ G<sub>k</sub>·P<sub>k</sub>, donde P<sub>k</sub>
+ * es una lista dispersa con la huella de la resistencia k (su estampa y, si controla una
+ * fuente dependiente, la ganancia de esa fuente). Así, cambiar los valores solo requiere
+ * reensamblar y factorizar, y la derivada dA/dG<sub>k</sub> es exactamente P<sub>k</sub>,
+ * lo que permite calcular sensibilidades por el método adjunto.
+ * Es inmutable, por lo que puede compartirse entre hilos.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class SistemaResistivo {
+	private final double[] fija;
+	private final int[][] posiciones;
+	private final double[][] coeficientes;
+	private final double[] nominales;
+	private final List<String> ids;
+	private final double[] terminoIndependiente;
+	private final Map<Integer, Integer> nodos;
+	private final int ref;
+	private final int n;
+
+	/**
+	 * Constructor. Separa la parte fija y la huella de cada resistencia evaluando las
+	 * entradas del sistema simbólico con todas las conductancias a 0 y con cada una a 1.
+	 *
+	 * @param simbolico					sistema simbólico del circuito
+	 */
+	SistemaResistivo(SistemaSimbolico simbolico) {
+		this.n=simbolico.getDimension();
+		this.nodos=simbolico.getNodos();
+		this.ref=simbolico.getReferencia();
+		boolean[] esG=simbolico.getConductancias();
+		double[] valores=simbolico.getValores();
+		List<String> simbolos=simbolico.getSimbolos();
+		Polinomio[][] matriz=simbolico.getMatriz();
+
+		double[] punto=valores.clone();
+		List<Integer> variablesG=new ArrayList<>();
+		for(int v=0; v<esG.length; v++) {
+			if(esG[v]) {
+				punto[v]=0.0;
+				variablesG.add(v);
+			}
+		}
+		int R=variablesG.size();
+		this.fija=new double[n*n];
+		this.posiciones=new int[R][];
+		this.coeficientes=new double[R][];
+		this.nominales=new double[R];
+		List<String> nombres=new ArrayList<>();
+		for(int i=0; i<n; i++) {
+			for(int j=0; j<n; j++) {
+				fija[i*n+j]=matriz[i][j].evaluar(punto);
+			}
+		}
+		for(int k=0; k<R; k++) {
+			int v=variablesG.get(k);
+			nominales[k]=valores[v];
+			nombres.add(simbolos.get(v));
+			punto[v]=1.0;
+			List<Integer> pos=new ArrayList<>();
+			List<Double> coef=new ArrayList<>();
+			for(int i=0; i<n; i++) {
+				for(int j=0; j<n; j++) {
+					if(matriz[i][j].grado(v)==0) continue;
+					double c=matriz[i][j].evaluar(punto)-fija[i*n+j];
+					if(c!=0.0) {
+						pos.add(i*n+j);
+						coef.add(c);
+					}
+				}
+			}
+			punto[v]=0.0;
+			posiciones[k]=pos.stream().mapToInt(Integer::intValue).toArray();
+			coeficientes[k]=coef.stream().mapToDouble(Double::doubleValue).toArray();
+		}
+		this.ids=List.copyOf(nombres);
+		Polinomio[] z=simbolico.getTerminoIndependiente();
+		this.terminoIndependiente=new double[n];
+		for(int i=0; i<n; i++) {
+			terminoIndependiente[i]=z[i].evaluar(valores);
+		}
+	}
+
+	/**
+	 * Ensambla y factoriza la matriz (o su traspuesta) para unos valores de resistencia.
+	 *
+	 * @param resistencias				valor de cada resistencia (Ω), en el orden de {@link #getIds()}
+	 * @param traspuesta				{@code true} para factorizar Aᵀ (sistema adjunto)
+	 * @throws IllegalStateException	si la matriz es singular
+	 * @return solver de la factorización
+	 */
+	public DecompositionSolver factorizar(double[] resistencias, boolean traspuesta) {
+		double[][] a=new double[n][n];
+		for(int i=0; i<n; i++) {
+			System.arraycopy(fija, i*n, a[i], 0, n);
+		}
+		for(int k=0; k<nominales.length; k++) {
+			double g=1.0/resistencias[k];
+			int[] pos=posiciones[k];
+			double[] coef=coeficientes[k];
+			for(int e=0; e<pos.length; e++) {
+				int i=pos[e]/n;
+				int j=pos[e]%n;
+				if(traspuesta) {
+					a[j][i]+=g*coef[e];
+				} else {
+					a[i][j]+=g*coef[e];
+				}
+			}
+		}
+		DecompositionSolver solver=new LUDecomposition(new Array2DRowRealMatrix(a, false)).getSolver();
+		if(!solver.isNonSingular()) {
+			throw new IllegalStateException("Matriz singular con los valores de resistencia indicados");
+		}
+		return solver;
+	}
+
+	/**
+	 * Factoriza el sistema en un punto base preparado para cambiar solo algunas resistencias
+	 * mediante actualizaciones de bajo rango, sin volver a factorizar.
+	 *
+	 * @param base						valor de cada resistencia en el punto base (Ω)
+	 * @param parametros				índices de las resistencias que pueden cambiar
+	 * @throws IllegalStateException	si la matriz base es singular
+	 * @return factorización actualizable
+	 */
+	public FactorizacionActualizable factorizarActualizable(double[] base, int[] parametros) {
+		return new FactorizacionActualizable(this, base, parametros);
+	}
+
+	/**
+	 * Forma bilineal λᵀ·P<sub>k</sub>·x, es decir, λᵀ·(dA/dG<sub>k</sub>)·x.
+	 *
+	 * @param k							índice de la resistencia
+	 * @param lambda					solución del sistema adjunto
+	 * @param x							solución del sistema directo
+	 * @return derivada de la forma bilineal respecto a la conductancia
+	 */
+	public double derivada(int k, double[] lambda, double[] x) {
+		int[] pos=posiciones[k];
+		double[] coef=coeficientes[k];
+		double s=0.0;
+		for(int e=0; e<pos.length; e++) {
+			s+=lambda[pos[e]/n]*coef[e]*x[pos[e]%n];
+		}
+		return s;
+	}
+
+	/**
+	 * Obtiene las posiciones (i·n+j) de la huella de una resistencia (sin copiar).
+	 *
+	 * @param k							índice de la resistencia
+	 * @return posiciones de P<sub>k</sub>
+	 */
+	int[] getPosiciones(int k) {
+		return posiciones[k];
+	}
+
+	/**
+	 * Obtiene los coeficientes de la huella de una resistencia (sin copiar).
+	 *
+	 * @param k							índice de la resistencia
+	 * @return coeficientes de P<sub>k</sub>
+	 */
+	double[] getCoeficientes(int k) {
+		return coeficientes[k];
+	}
+
+	/**
+	 * Obtiene la fila del sistema que corresponde a la tensión de un nodo del circuito.
+	 *
+	 * @param nodo						nodo del circuito
+	 * @throws IllegalArgumentException	si el nodo no pertenece al circuito
+	 * @return índice en el vector solución o -1 si es el nodo de referencia
+	 */
+	public int indiceNodo(int nodo) {
+		Integer idx=nodos.get(nodo);
+		if(idx==null) {
+			throw new IllegalArgumentException("El nodo no pertenece al circuito: "+nodo);
+		}
+		return StampUtil.comprimir(idx, ref);
+	}
+
+	/**
+	 * Obtiene una copia del término independiente (fuentes independientes activas).
+	 *
+	 * @return término independiente
+	 */
+	public double[] getTerminoIndependiente() {
+		return terminoIndependiente.clone();
+	}
+
+	/**
+	 * Obtiene el valor nominal de cada resistencia.
+	 *
+	 * @return resistencias (Ω)
+	 */
+	public double[] getNominales() {
+		return nominales.clone();
+	}
+
+	/**
+	 * Obtiene el identificador de cada resistencia.
+	 *
+	 * @return identificadores, en el orden de los parámetros
+	 */
+	public List<String> getIds() {
+		return ids;
+	}
+
+	/**
+	 * Obtiene el número de resistencias.
+	 *
+	 * @return resistencias parametrizadas
+	 */
+	public int getNumResistencias() {
+		return nominales.length;
+	}
+
+	/**
+	 * Obtiene la dimensión del sistema.
+	 *
+	 * @return n		Dimensión (nodos sin referencia más ramas de tensión)
+	 */
+	public int getDimension() {
+		return n;
+	}
+}
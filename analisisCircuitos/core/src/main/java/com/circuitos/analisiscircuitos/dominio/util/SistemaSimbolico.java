@@ -0,0 +1,246 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Sistema MNA de un circuito con los valores de los componentes como símbolos (ver
+ * {@link MatrixUtil#construirSistemaSimbolico}). Cada entrada de la matriz y del término
+ * independiente es un {@link Polinomio} en las variables del circuito: conductancia de cada
+ * resistencia (G=1/R), valor de cada fuente independiente y ganancia de cada fuente
+ * dependiente.
+ * <p>
+ * Se resuelve por eliminación de Bareiss (libre de fracciones): todas las entradas
+ * intermedias siguen siendo polinomios porque cada paso divide de forma exacta por el pivote
+ * anterior, y el último pivote es el determinante. La sustitución regresiva también es libre
+ * de fracciones y da directamente los numeradores de la regla de Cramer, de modo que
+ * x<sub>i</sub>=numerador<sub>i</sub>/determinante sin ninguna división intermedia.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class SistemaSimbolico {
+	private static final Logger logger=Logger.getLogger(SistemaSimbolico.class.getName());
+	private static final int MAX_TERMINOS=50000;
+	private final Polinomio[][] matriz;
+	private final Polinomio[] terminoIndependiente;
+	private final List<String> simbolos;
+	private final double[] valores;
+	private final boolean[] conductancias;
+	private final Map<Integer, Integer> nodos;
+	private final int ref;
+	private final int n;
+
+	/**
+	 * Solución del sistema en forma de Cramer.
+	 *
+	 * @param determinante			determinante de la matriz (denominador común)
+	 * @param numeradores			[columna de términos independientes][incógnita]
+	 */
+	public record Solucion(Polinomio determinante, Polinomio[][] numeradores) { }
+
+	/**
+	 * Constructor.
+	 *
+	 * @param matriz					matriz MNA simbólica (n·n)
+	 * @param terminoIndependiente		término independiente con las fuentes independientes
+	 * @param simbolos					nombre de cada variable (identificador del componente)
+	 * @param valores					valor numérico de cada componente (R en ohmios para resistencias)
+	 * @param conductancias				{@code true} si la variable es la conductancia 1/valor
+	 * @param nodos						mapa de nodos del circuito
+	 * @param ref						índice del nodo de referencia
+	 */
+	SistemaSimbolico(Polinomio[][] matriz, Polinomio[] terminoIndependiente, List<String> simbolos,
+			double[] valores, boolean[] conductancias, Map<Integer, Integer> nodos, int ref) {
+		this.matriz=matriz;
+		this.terminoIndependiente=terminoIndependiente;
+		this.simbolos=List.copyOf(simbolos);
+		this.valores=valores;
+		this.conductancias=conductancias;
+		this.nodos=Map.copyOf(nodos);
+		this.ref=ref;
+		this.n=terminoIndependiente.length;
+	}
+
+	/**
+	 * Resuelve el sistema para una o varias columnas de términos independientes con una sola
+	 * eliminación. Los pivotes se eligen por estructura (el polinomio no nulo con menos
+	 * términos de la columna), así que el resultado es válido para cualquier valor de los
+	 * símbolos que no anule el determinante.
+	 *
+	 * @param columnas					términos independientes (longitud n cada uno)
+	 * @throws IllegalStateException	si la matriz es estructuralmente singular o las
+	 * 									expresiones crecen demasiado
+	 * @return determinante y numeradores de cada incógnita para cada columna
+	 */
+	public Solucion resolver(Polinomio[]... columnas) {
+		int m=columnas.length;
+		int variables=simbolos.size();
+		Polinomio[][] a=new Polinomio[n][n+m];
+		for(int i=0; i<n; i++) {
+			System.arraycopy(matriz[i], 0, a[i], 0, n);
+			for(int c=0; c<m; c++) a[i][n+c]=columnas[c][i];
+		}
+		try {
+			Polinomio previo=Polinomio.constante(variables, 1);
+			for(int k=0; k<n; k++) {
+				int pivote=-1;
+				for(int i=k; i<n; i++) {
+					if(!a[i][k].esCero() && (pivote<0 || a[i][k].getNumTerminos()<a[pivote][k].getNumTerminos())) {
+						pivote=i;
+					}
+				}
+				if(pivote<0) {
+					throw new IllegalStateException("Sistema simbólico singular (columna "+k+")");
+				}
+				Polinomio[] tmp=a[k];
+				a[k]=a[pivote];
+				a[pivote]=tmp;
+				Polinomio akk=a[k][k];
+				for(int i=k+1; i<n; i++) {
+					Polinomio aik=a[i][k];
+					for(int j=k+1; j<n+m; j++) {
+						Polinomio v=akk.producto(a[i][j]);
+						if(!aik.esCero()) v=v.resta(aik.producto(a[k][j]));
+						a[i][j]=v.divisionExacta(previo);
+						comprobarTamano(a[i][j]);
+					}
+					a[i][k]=Polinomio.cero(variables);
+				}
+				previo=akk;
+			}
+			Polinomio det=a[n-1][n-1];
+			Polinomio[][] numeradores=new Polinomio[m][n];
+			for(int c=0; c<m; c++) {
+				Polinomio[] y=numeradores[c];
+				for(int i=n-1; i>=0; i--) {
+					Polinomio s=det.producto(a[i][n+c]);
+					for(int j=i+1; j<n; j++) {
+						if(!a[i][j].esCero()) s=s.resta(a[i][j].producto(y[j]));
+					}
+					y[i]=s.divisionExacta(a[i][i]);
+					comprobarTamano(y[i]);
+				}
+			}
+			logger.log(Level.FINE, "Sistema simbólico resuelto (dim={0}, términos del determinante={1})",
+					new Object[] {n, det.getNumTerminos()});
+			return new Solucion(det, numeradores);
+		} catch (ArithmeticException e) {
+			throw new IllegalStateException("Coeficientes fuera de rango en la eliminación simbólica", e);
+		}
+	}
+
+	/**
+	 * Limita el tamaño de las expresiones intermedias.
+	 *
+	 * @param p							polinomio recién calculado
+	 * @throws IllegalStateException	si supera {@value #MAX_TERMINOS} términos
+	 */
+	private static void comprobarTamano(Polinomio p) {
+		if(p.getNumTerminos()>MAX_TERMINOS) {
+			throw new IllegalStateException("Circuito demasiado grande para el análisis simbólico ("
+					+p.getNumTerminos()+" términos)");
+		}
+	}
+
+	/**
+	 * Crea un vector de términos independientes nulo para construir columnas propias.
+	 *
+	 * @return vector de n polinomios nulos
+	 */
+	public Polinomio[] columnaNula() {
+		Polinomio[] z=new Polinomio[n];
+		for(int i=0; i<n; i++) z[i]=Polinomio.cero(simbolos.size());
+		return z;
+	}
+
+	/**
+	 * Obtiene una copia del término independiente (fuentes independientes).
+	 *
+	 * @return término independiente simbólico
+	 */
+	public Polinomio[] getTerminoIndependiente() {
+		return terminoIndependiente.clone();
+	}
+
+	/**
+	 * Obtiene la fila del sistema que corresponde a la tensión de un nodo del circuito.
+	 *
+	 * @param nodo						nodo del circuito
+	 * @throws IllegalArgumentException	si el nodo no pertenece al circuito
+	 * @return índice en el vector solución o -1 si es el nodo de referencia
+	 */
+	public int indiceNodo(int nodo) {
+		Integer idx=nodos.get(nodo);
+		if(idx==null) {
+			throw new IllegalArgumentException("El nodo no pertenece al circuito: "+nodo);
+		}
+		return StampUtil.comprimir(idx, ref);
+	}
+
+	/**
+	 * Obtiene el nombre de cada variable.
+	 *
+	 * @return identificadores de los componentes, en el orden de las variables
+	 */
+	public List<String> getSimbolos() {
+		return simbolos;
+	}
+
+	/**
+	 * Obtiene el valor numérico de cada componente (resistencias en ohmios, no su conductancia).
+	 *
+	 * @return valores en el orden de las variables
+	 */
+	public double[] getValores() {
+		return valores.clone();
+	}
+
+	/**
+	 * Indica qué variables representan la conductancia de una resistencia.
+	 *
+	 * @return {@code true} en las variables G=1/R
+	 */
+	public boolean[] getConductancias() {
+		return conductancias.clone();
+	}
+
+	/**
+	 * Obtiene la matriz simbólica (sin copiar, solo para este paquete).
+	 *
+	 * @return matriz MNA simbólica
+	 */
+	Polinomio[][] getMatriz() {
+		return matriz;
+	}
+
+	/**
+	 * Obtiene el mapa de nodos del circuito.
+	 *
+	 * @return mapa nodo→índice
+	 */
+	Map<Integer, Integer> getNodos() {
+		return nodos;
+	}
+
+	/**
+	 * Obtiene el índice del nodo de referencia.
+	 *
+	 * @return referencia
+	 */
+	int getReferencia() {
+		return ref;
+	}
+
+	/**
+	 * Obtiene la dimensión del sistema.
+	 *
+	 * @return n		Dimensión (nodos sin referencia más ramas de tensión)
+	 */
+	public int getDimension() {
+		return n;
+	}
+}
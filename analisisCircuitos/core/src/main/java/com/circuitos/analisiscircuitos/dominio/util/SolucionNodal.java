@@ -0,0 +1,88 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.circuitos.analisiscircuitos.dominio.Componente;
+
+/**
+ * Solución completa de un sistema nodal (MNA): tensiones en cada nodo y corrientes
+ * de las fuentes de tensión, que son las variables extra del sistema ampliado.
+ * Criterio de signos de las corrientes: salen del nodo positivo (nodo 2) y atraviesan
+ * la fuente hacia el nodo negativo (nodo 1).
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class SolucionNodal {
+	private final double[] voltajes;
+	private final double[] corrientesFuentes;
+	private final List<Componente> fuentesTension;
+	private final Map<Integer, Integer> nodos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param voltajes				tensiones por índice de nodo (V[ref]=0)
+	 * @param corrientesFuentes		corrientes de las fuentes de tensión (mismo orden que fuentesTension)
+	 * @param fuentesTension		fuentes de tensión del sistema ampliado
+	 * @param nodos					mapa nodo -> índice usado en la resolución
+	 */
+	public SolucionNodal(double[] voltajes, double[] corrientesFuentes,
+			List<Componente> fuentesTension, Map<Integer, Integer> nodos) {
+		this.voltajes=Objects.requireNonNull(voltajes, "Voltajes no puede ser null");
+		this.corrientesFuentes=Objects.requireNonNull(corrientesFuentes, "Corrientes no puede ser null");
+		this.fuentesTension=List.copyOf(fuentesTension);
+		this.nodos=Map.copyOf(nodos);
+	}
+
+	/**
+	 * Obtiene las tensiones de cada nodo, indexadas según el mapa de nodos.
+	 *
+	 * @return array de tensiones
+	 */
+	public double[] getVoltajes() {
+		return voltajes;
+	}
+
+	/**
+	 * Obtiene la tensión de un nodo del circuito (identificador original).
+	 *
+	 * @param nodo						nodo del circuito
+	 * @throws IllegalArgumentException	si el nodo no forma parte de la solución
+	 * @return tensión del nodo respecto a la referencia
+	 */
+	public double getTensionNodo(int nodo) {
+		Integer idx=nodos.get(nodo);
+		if(idx==null) {
+			throw new IllegalArgumentException("Nodo no presente en la solución: "+nodo);
+		}
+		return voltajes[idx];
+	}
+
+	/**
+	 * Obtiene la corriente que atraviesa una fuente de tensión (de nodo positivo a negativo).
+	 *
+	 * @param fuente					fuente de tensión (independiente o dependiente)
+	 * @throws IllegalArgumentException	si la fuente no pertenece al sistema resuelto
+	 * @return corriente de la fuente
+	 */
+	public double getCorrienteFuente(Componente fuente) {
+		for(int j=0; j<fuentesTension.size(); j++) {
+			if(fuentesTension.get(j)==fuente) {
+				return corrientesFuentes[j];
+			}
+		}
+		throw new IllegalArgumentException("La fuente no pertenece al sistema resuelto: "+fuente.getId());
+	}
+
+	/**
+	 * Obtiene el mapa de nodos (nodo -> índice) usado en la resolución.
+	 *
+	 * @return mapa de nodos inmutable
+	 */
+	public Map<Integer, Integer> getNodos() {
+		return nodos;
+	}
+}
@@ -12,6 +12,7 @@ import org.apache.commons.math3.linear.RealVector;
 import com.circuitos.analisiscircuitos.dominio.Circuito;
 import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
 import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
 import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
 import com.circuitos.analisiscircuitos.dominio.Resistencia;
@@ -221,26 +222,13 @@ public class StampUtil {
 			stampVCVS(C, fila, ctrlP, ctrlN, src.getValor(), ref);	
 		} else {
 			//CCVS: localizamos en fV la fuente de tensión que controla
-			int kCtrl=-1;
-			for(int i=0; i<fV.size(); i++) {
-				Componente comp=fV.get(i);
-				if(comp instanceof FuenteTensionInd) {
-					if(comp.getNodo1()==src.getCtrlNeg() && comp.getNodo2()==src.getCtrlPos()) {
-						kCtrl=i;
-						break;
-					}
-				}
-			}
+			int kCtrl=indiceFuenteControl(fV, src);
 			if(kCtrl>=0) {
 				//CCVS clásico: Vout=alpha*Ictrl
 				stampCCVS(D, fila, kCtrl, src.getValor());
 			} else {
 				//si no hay fuente, asumimos que la rama de control es una resistencia
-				Optional<Resistencia> rCtrl=c.getResistencias().stream()
-						.filter(r->
-							(r.getNodo1()==src.getCtrlNeg() && r.getNodo2()==src.getCtrlPos()) || 
-							(r.getNodo1()==src.getCtrlPos() && r.getNodo2()==src.getCtrlNeg()))
-						.findFirst();
+				Optional<Resistencia> rCtrl=resistenciaControl(c, src);
 				if(rCtrl.isPresent()) {
 					double R=rCtrl.get().getValor();
 					double muEff=src.getValor()/R;
@@ -269,11 +257,7 @@ public class StampUtil {
 		int nout=nodos.get(src.getNodo1());
 		int pout=nodos.get(src.getNodo2());
 		if(src.getControlType()==FuenteCorrienteDependiente.ControlType.CORRIENTE) {
-			Optional<Resistencia> rCtrl=c.getResistencias().stream()
-					.filter(r->
-							(r.getNodo1()==src.getCtrlNeg() && r.getNodo2()==src.getCtrlPos()) ||
-							(r.getNodo1()==src.getCtrlPos() && r.getNodo2()==src.getCtrlNeg()))
-					.findFirst();
+			Optional<Resistencia> rCtrl=resistenciaControl(c, src);
 			if(rCtrl.isPresent()) {
 				double R=rCtrl.get().getValor();
 				double gm=src.getValor()/R;
@@ -289,4 +273,40 @@ public class StampUtil {
 			stampVCCS(G, pout, nout, cpos, cneg, src.getValor(), ref);
 		}
 	}
+	
+	/**
+	 * Busca la fuente de tensión independiente cuya corriente controla una fuente de tensión
+	 * dependiente controlada por corriente (la que va de ctrlNeg a ctrlPos).
+	 * 
+	 * @param fV		lista de todas las fuentes de tensión
+	 * @param src		fuente de tensión dependiente
+	 * @return índice de la fuente de control en fV o -1 si no la hay
+	 */
+	public static int indiceFuenteControl(java.util.List<Componente> fV, FuenteTensionDependiente src) {
+		for(int i=0; i<fV.size(); i++) {
+			Componente comp=fV.get(i);
+			if(comp instanceof FuenteTensionInd) {
+				if(comp.getNodo1()==src.getCtrlNeg() && comp.getNodo2()==src.getCtrlPos()) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Busca la resistencia que hace de rama de control de una fuente dependiente controlada
+	 * por corriente (la que une ctrlNeg y ctrlPos, en cualquier sentido).
+	 * 
+	 * @param c			circuito actual
+	 * @param src		fuente dependiente
+	 * @return resistencia de control, si existe
+	 */
+	public static Optional<Resistencia> resistenciaControl(Circuito c, FuenteDependiente src) {
+		return c.getResistencias().stream()
+				.filter(r->
+						(r.getNodo1()==src.getCtrlNeg() && r.getNodo2()==src.getCtrlPos()) ||
+						(r.getNodo1()==src.getCtrlPos() && r.getNodo2()==src.getCtrlNeg()))
+				.findFirst();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.circuitos.analisiscircuitos.dominio.util;
+
+import java.text.DecimalFormat;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Clase para formatear unidades y hacer lectura de unidades formateadas con multiplicadores o divisores.
+ * 
+ * @author 	Marco Antonio Garzon Palos
+ * @version 1.0 (2025)
+ */
+public class Unidades {
+	
+	private record Prefix(String simbolo, double factor) {}
+	
+	/**
+	 * Enumerado con tipos de magnitudes eléctricas.
+	 */
+	public enum Type { RESISTENCIA, CORRIENTE, TENSION, POTENCIA, CAPACIDAD, INDUCTANCIA, FRECUENCIA }
+	
+	/**
+	 * Constructor no instanciable.
+	 */
+	private Unidades() { /* No instanciable */ }
+	
+	
+	private static final List<Prefix> PREFIX_LIST=List.of(
+		new Prefix("G", 1e9),
+		new Prefix("M", 1e6),
+		new Prefix("k", 1e3),
+		new Prefix("", 1.0),
+		new Prefix("m", 1e-3),
+		new Prefix("µ", 1e-6),
+		new Prefix("n",  1e-9),
+		new Prefix("p", 1e-12)
+	);
+	//Mapa de prefijos y factores de conversión
+	private static final NavigableMap<String, Double> SUFFIX_MAP = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	static {
+		for(Prefix p : PREFIX_LIST) {
+			SUFFIX_MAP.put(p.simbolo(), p.factor());
+		}
+		SUFFIX_MAP.put("u", 1e-6);	//Alias ASCII de µ
+	}
+	private static final ThreadLocal<DecimalFormat> DEC_FMT=
+			ThreadLocal.withInitial(()->new DecimalFormat("0.###"));
+	private static final ThreadLocal<DecimalFormat> SCI_FMT=
+			ThreadLocal.withInitial(()->new DecimalFormat("0.###E0"));
+	private static final Pattern PARSE_REGEX=
+			Pattern.compile("^([-+]?\\d*\\.?\\d+)([GMkmunµp]?)$");
+	private static final int MAX_CIFRAS=18;
+	private static final double[] POTENCIAS_10=new double[23];
+	static {
+		POTENCIAS_10[0]=1.0;
+		for(int i=1; i<POTENCIAS_10.length; i++) POTENCIAS_10[i]=POTENCIAS_10[i-1]*10.0;
+	}
+	
+	/**
+	 * Parsea un string con sufijo y devuelve su valor en double.
+	 * 
+	 * @param text							texto a parsear
+	 * @throws IllegalArgumentException		si el número es no válido
+	 * @throws IllegalArgumentException		si el prefijo es desconocido
+	 * @return valor 						valor parseado (double)
+	 */
+	public static double parsear(String text) {
+		Objects.requireNonNull(text, "Texto no puede ser null");
+		String trimmed=text.trim();
+		if(trimmed.isBlank()) throw new IllegalArgumentException("Texto no puede estar vacío");
+		Matcher m=PARSE_REGEX.matcher(trimmed);
+		if(!m.matches()) {
+			throw new IllegalArgumentException("Formato inválido: "+trimmed);
+		}
+		double valor;
+		try {
+			valor=Double.parseDouble(m.group(1));
+		} catch(NumberFormatException e) {
+			throw new IllegalArgumentException("Número no válido: "+m.group(1), e);
+		}
+		String suf=m.group(2);
+		Double factor=SUFFIX_MAP.get(suf);
+		if(factor==null) {
+			throw new IllegalArgumentException("Prefijo desconocido: "+suf);
+		}
+		return valor*factor;
+	}
+	
+	/**
+	 * Parsea un número SPICE sin crear objetos intermedios: mantisa con signo, decimales y
+	 * exponente opcionales, y sufijo de escala sin distinguir mayúsculas ({@code T G MEG K M U N
+	 * P F MIL}, con {@code M} mili como en SPICE). Las letras que siguen al sufijo son unidades
+	 * y se ignoran ({@code 10kOhm}, {@code 1uF}).
+	 * 
+	 * @param texto							texto que contiene el número
+	 * @param inicio						índice del primer carácter
+	 * @param fin							índice siguiente al último carácter
+	 * @throws IllegalArgumentException		si no empieza por un número
+	 * @return valor						valor parseado (double)
+	 */
+	public static double parsearSpice(CharSequence texto, int inicio, int fin) {
+		Objects.requireNonNull(texto, "Texto no puede ser null");
+		int i=inicio;
+		boolean negativo=false;
+		if(i<fin && (texto.charAt(i)=='+' || texto.charAt(i)=='-')) {
+			negativo=texto.charAt(i)=='-';
+			i++;
+		}
+		long mantisa=0;
+		int exponente=0;
+		int cifras=0;
+		boolean hayDigitos=false;
+		boolean decimales=false;
+		for(; i<fin; i++) {
+			char ch=texto.charAt(i);
+			if(ch=='.' && !decimales) {
+				decimales=true;
+				continue;
+			}
+			if(ch<'0' || ch>'9') break;
+			hayDigitos=true;
+			if(cifras<MAX_CIFRAS) {
+				mantisa=mantisa*10+(ch-'0');
+				if(mantisa>0) cifras++;
+				if(decimales) exponente--;
+			} else if(!decimales) {
+				exponente++;
+			}
+		}
+		if(!hayDigitos) {
+			throw new IllegalArgumentException("Número no válido: "+texto.subSequence(inicio, fin));
+		}
+		if(i+1<fin && (texto.charAt(i)=='e' || texto.charAt(i)=='E')) {
+			int j=i+1;
+			boolean expNegativo=false;
+			if(texto.charAt(j)=='+' || texto.charAt(j)=='-') {
+				expNegativo=texto.charAt(j)=='-';
+				j++;
+			}
+			if(j<fin && texto.charAt(j)>='0' && texto.charAt(j)<='9') {
+				int exp=0;
+				for(; j<fin && texto.charAt(j)>='0' && texto.charAt(j)<='9'; j++) {
+					if(exp<10000) exp=exp*10+(texto.charAt(j)-'0');
+				}
+				exponente+=expNegativo ? -exp : exp;
+				i=j;
+			}
+		}
+		double factor=1.0;
+		if(i<fin) {
+			switch(Character.toLowerCase(texto.charAt(i))) {
+				case 't' -> exponente+=12;
+				case 'g' -> exponente+=9;
+				case 'k' -> exponente+=3;
+				case 'u', 'µ' -> exponente-=6;
+				case 'n' -> exponente-=9;
+				case 'p' -> exponente-=12;
+				case 'f' -> exponente-=15;
+				case 'm' -> {
+					if(empiezaPor(texto, i, fin, "meg")) exponente+=6;
+					else if(empiezaPor(texto, i, fin, "mil")) factor=25.4e-6;
+					else exponente-=3;
+				}
+				default -> { /* Unidades sin prefijo */ }
+			}
+		}
+		double valor;
+		if(mantisa<(1L<<53) && exponente>=-22 && exponente<=22) {
+			// Caso exacto: la mantisa y la potencia de diez son representables sin error
+			valor=exponente>=0 ? mantisa*POTENCIAS_10[exponente] : mantisa/POTENCIAS_10[-exponente];
+		} else {
+			valor=Double.parseDouble(mantisa+"E"+exponente);
+		}
+		valor*=factor;
+		return negativo ? -valor : valor;
+	}
+	
+	/**
+	 * Parsea un número SPICE completo.
+	 * 
+	 * @param texto							texto a parsear
+	 * @throws IllegalArgumentException		si no empieza por un número
+	 * @return valor						valor parseado (double)
+	 * @see #parsearSpice(CharSequence, int, int)
+	 */
+	public static double parsearSpice(String texto) {
+		Objects.requireNonNull(texto, "Texto no puede ser null");
+		String trimmed=texto.trim();
+		return parsearSpice(trimmed, 0, trimmed.length());
+	}
+	
+	private static boolean empiezaPor(CharSequence texto, int i, int fin, String prefijo) {
+		if(fin-i<prefijo.length()) return false;
+		for(int k=0; k<prefijo.length(); k++) {
+			if(Character.toLowerCase(texto.charAt(i+k))!=prefijo.charAt(k)) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Formatea un valor base de resistencia, corriente o tensión a string con el prefijo 
+	 * del Sistema Internacional apropiado.
+	 * 
+	 * @param valorBase		valor que se va a formatear
+	 * @param tipo			tipo de valor (resistencia, tensión o corriente)
+	 * @return num			valor formateado
+	 */
+	public static String format(double valorBase, Type tipo) {
+		double abs=Math.abs(valorBase);
+		for(Prefix p : PREFIX_LIST) {
+			double scaled=abs/p.factor();
+			if(scaled>=1.0 && scaled<1000.0) {
+				//Redondear a 3 dígitos significativos
+				String num=DEC_FMT.get().format(valorBase/p.factor());
+				String unidad;
+				switch(tipo) {
+					case RESISTENCIA -> unidad="Ω";
+					case CORRIENTE -> unidad="A";
+					case TENSION -> unidad="V";
+					case POTENCIA -> unidad="W";
+					case CAPACIDAD -> unidad="F";
+					case INDUCTANCIA -> unidad="H";
+					case FRECUENCIA -> unidad="Hz";
+					default -> unidad="";
+				}
+				return num + " " + p.simbolo() + unidad;
+			}
+		}
+		return SCI_FMT.get().format(valorBase);
+	}
+}
@@ -3,8 +3,6 @@ package com.circuitos.analisiscircuitos.dto;
 import java.util.List;
 import java.util.Objects;
 
-import com.circuitos.analisiscircuitos.gui.model.PuntoConexion;
-
 /**
  * DTO (Data Transfer Object) que representa un cable entre dos puntos de conexión
  * en el circuito. Se utiliza para guardar y cargar circuitos en formato JSON.
@@ -15,11 +13,11 @@ import com.circuitos.analisiscircuitos.gui.model.PuntoConexion;
 public record CableDto (
 	String id,
 	String origenId,
-	PuntoConexion.Posicion origenPos,
+	PosicionConexion origenPos,
 	boolean origenPositivo,
 	Integer origenNodo,
 	String destinoId,
-	PuntoConexion.Posicion destinoPos,
+	PosicionConexion destinoPos,
 	boolean destinoPositivo,
 	Integer destinoNodo,
 	List<PuntoDto> puntos
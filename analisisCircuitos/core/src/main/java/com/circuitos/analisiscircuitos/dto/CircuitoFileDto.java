@@ -7,6 +7,7 @@ import com.circuitos.analisiscircuitos.dominio.Circuito;
 /**
  * DTO (Data Transfer Object) que representa un circuito en un archivo. 
  * Utiliza JSON para guardar/cargar circuitos: componentes, cables, posiciones y metadatos.
+ * Opcionalmente incluye los últimos resultados de análisis ({@link ResultadosDto}).
  * Serializable/Deserializable con Jackson.
  * 
  * @author Marco Antonio Garzón Palos
@@ -16,8 +17,22 @@ public record CircuitoFileDto (
 	Metadata metadata,
 	Circuito circuito,
 	List<PosicionComponenteDto> posiciones,
-	List<CableDto> cables
+	List<CableDto> cables,
+	ResultadosDto resultados
 ) {
+	/**
+	 * Constructor sin resultados de análisis.
+	 * 
+	 * @param metadata				Metadatos del archivo
+	 * @param circuito				Circuito para guardar/cargar
+	 * @param posiciones			Posiciones visuales de cada componente
+	 * @param cables				Cables de conexiones entre componentes
+	 */
+	public CircuitoFileDto(Metadata metadata, Circuito circuito, List<PosicionComponenteDto> posiciones,
+			List<CableDto> cables) {
+		this(metadata, circuito, posiciones, cables, null);
+	}
+	
 	/**
 	 * Constructor para crear un archivo de circuito con todos sus componentes.
 	 * Genera automáticamente los metadatos.
@@ -30,4 +45,14 @@ public record CircuitoFileDto (
 			List<CableDto> cables) {
 		return new CircuitoFileDto(new Metadata(), circuito, posiciones, cables);
 	}
+	
+	/**
+	 * Copia con otros cables (por ejemplo, tras repararlos), conservando el resto.
+	 * 
+	 * @param cables				Cables nuevos
+	 * @return DTO con los cables sustituidos
+	 */
+	public CircuitoFileDto conCables(List<CableDto> cables) {
+		return new CircuitoFileDto(metadata, circuito, posiciones, cables, resultados);
+	}
 }
\ No newline at end of file
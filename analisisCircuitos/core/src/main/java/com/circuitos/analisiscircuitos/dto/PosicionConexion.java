@@ -0,0 +1,10 @@
+package com.circuitos.analisiscircuitos.dto;
+
+/**
+ * Posición relativa de un punto de conexión respecto a su componente (o extremo de un cable).
+ * Forma parte del formato de archivo, por lo que no depende de la interfaz gráfica.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public enum PosicionConexion { ARRIBA, ABAJO, IZQUIERDA, DERECHA, INICIO, FIN }
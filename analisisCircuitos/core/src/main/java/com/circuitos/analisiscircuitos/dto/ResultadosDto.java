@@ -0,0 +1,297 @@
+package com.circuitos.analisiscircuitos.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.circuitos.analisiscircuitos.analisis.BarridoAC;
+import com.circuitos.analisiscircuitos.analisis.ResultadoComponente;
+import com.circuitos.analisiscircuitos.analisis.ResultadoEquivalenteAC;
+import com.circuitos.analisiscircuitos.analisis.ResultadoNorton;
+import com.circuitos.analisiscircuitos.analisis.ResultadoPuntoOperacion;
+import com.circuitos.analisiscircuitos.analisis.ResultadoThevenin;
+
+/**
+ * DTO (Data Transfer Object) con los últimos resultados de análisis de un circuito, para
+ * guardarlos en el archivo del proyecto y mostrarlos al abrirlo sin volver a resolver.
+ * <p>
+ * Los resultados van ligados a la huella del circuito ({@code CircuitoJson.huella}): si al
+ * leer o guardar el archivo el circuito ya no tiene esa huella, los resultados se descartan.
+ * Cada apartado es opcional ({@code null} si no se ha calculado).
+ * </p>
+ *
+ * @param huella				Huella del circuito analizado
+ * @param thevenin				Equivalente de Thévenin
+ * @param norton				Equivalente de Norton
+ * @param puntoOperacion		Punto de operación en continua
+ * @param barrido				Barrido en frecuencia del equivalente en alterna
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public record ResultadosDto (
+	String huella,
+	Equivalente thevenin,
+	Equivalente norton,
+	PuntoOperacion puntoOperacion,
+	Barrido barrido
+) {
+
+	/**
+	 * Constructor.
+	 *
+	 * @param huella				Huella del circuito analizado
+	 * @param thevenin				Equivalente de Thévenin ({@code null} si no se ha calculado)
+	 * @param norton				Equivalente de Norton ({@code null} si no se ha calculado)
+	 * @param puntoOperacion		Punto de operación ({@code null} si no se ha calculado)
+	 * @param barrido				Barrido en frecuencia ({@code null} si no se ha calculado)
+	 * @throws NullPointerException	si la huella es null
+	 */
+	public ResultadosDto {
+		Objects.requireNonNull(huella, "La huella no puede ser null");
+	}
+
+	/**
+	 * Resultados vacíos de un circuito.
+	 *
+	 * @param huella				Huella del circuito
+	 * @return resultados sin ningún apartado
+	 */
+	public static ResultadosDto vacio(String huella) {
+		return new ResultadosDto(huella, null, null, null, null);
+	}
+
+	/**
+	 * Indica si los resultados son de un circuito con la huella dada.
+	 *
+	 * @param huella				Huella del circuito actual
+	 * @return {@code true} si coincide
+	 */
+	public boolean esDe(String huella) {
+		return this.huella.equals(huella);
+	}
+
+	/**
+	 * Copia con un Thévenin nuevo. El Norton se conserva solo si es de los mismos nodos.
+	 *
+	 * @param thevenin				Equivalente de Thévenin
+	 * @return resultados actualizados
+	 */
+	public ResultadosDto conThevenin(Equivalente thevenin) {
+		Equivalente n=mismosNodos(norton, thevenin) ? norton : null;
+		return new ResultadosDto(huella, thevenin, n, puntoOperacion, barrido);
+	}
+
+	/**
+	 * Copia con un Norton nuevo. El Thévenin se conserva solo si es de los mismos nodos.
+	 *
+	 * @param norton				Equivalente de Norton
+	 * @return resultados actualizados
+	 */
+	public ResultadosDto conNorton(Equivalente norton) {
+		Equivalente th=mismosNodos(thevenin, norton) ? thevenin : null;
+		return new ResultadosDto(huella, th, norton, puntoOperacion, barrido);
+	}
+
+	/**
+	 * Copia con otro punto de operación.
+	 *
+	 * @param puntoOperacion		Punto de operación ({@code null} para quitarlo)
+	 * @return resultados actualizados
+	 */
+	public ResultadosDto conPuntoOperacion(PuntoOperacion puntoOperacion) {
+		return new ResultadosDto(huella, thevenin, norton, puntoOperacion, barrido);
+	}
+
+	/**
+	 * Copia con otro barrido en frecuencia.
+	 *
+	 * @param barrido				Barrido ({@code null} para quitarlo)
+	 * @return resultados actualizados
+	 */
+	public ResultadosDto conBarrido(Barrido barrido) {
+		return new ResultadosDto(huella, thevenin, norton, puntoOperacion, barrido);
+	}
+
+	private static boolean mismosNodos(Equivalente a, Equivalente b) {
+		return a!=null && b!=null && a.nodoNeg()==b.nodoNeg() && a.nodoPos()==b.nodoPos();
+	}
+
+	/**
+	 * Equivalente de Thévenin (fuente de tensión) o de Norton (fuente de corriente) entre dos
+	 * nodos.
+	 *
+	 * @param nodoNeg			Nodo negativo
+	 * @param nodoPos			Nodo positivo
+	 * @param fuente			Vth (V) o In (A)
+	 * @param resistencia		Rth o Rn (Ω)
+	 */
+	public record Equivalente(int nodoNeg, int nodoPos, double fuente, double resistencia) {
+
+		/**
+		 * Equivalente a partir de un resultado de Thévenin.
+		 *
+		 * @param r					Resultado de Thévenin
+		 * @param nodoNeg			Nodo negativo
+		 * @param nodoPos			Nodo positivo
+		 * @return equivalente con Vth y Rth
+		 */
+		public static Equivalente de(ResultadoThevenin r, int nodoNeg, int nodoPos) {
+			return new Equivalente(nodoNeg, nodoPos, r.getVth(), r.getRth());
+		}
+
+		/**
+		 * Equivalente a partir de un resultado de Norton.
+		 *
+		 * @param r					Resultado de Norton
+		 * @param nodoNeg			Nodo negativo
+		 * @param nodoPos			Nodo positivo
+		 * @return equivalente con In y Rn
+		 */
+		public static Equivalente de(ResultadoNorton r, int nodoNeg, int nodoPos) {
+			return new Equivalente(nodoNeg, nodoPos, r.getIn(), r.getRn());
+		}
+
+		/**
+		 * Resultado de Thévenin guardado.
+		 *
+		 * @return resultado con Vth y Rth
+		 */
+		public ResultadoThevenin aThevenin() {
+			return new ResultadoThevenin(fuente, resistencia);
+		}
+
+		/**
+		 * Resultado de Norton guardado.
+		 *
+		 * @return resultado con In y Rn
+		 */
+		public ResultadoNorton aNorton() {
+			return new ResultadoNorton(fuente, resistencia);
+		}
+	}
+
+	/**
+	 * Punto de operación en continua.
+	 *
+	 * @param tensionesNodo		Tensión de cada nodo
+	 * @param ramas				Tensión y corriente de cada componente
+	 * @param errorKcl			Residuo máximo de KCL (A)
+	 * @param balancePotencia	Suma de potencias absorbidas (W)
+	 */
+	public record PuntoOperacion(Map<Integer, Double> tensionesNodo, List<Rama> ramas,
+			double errorKcl, double balancePotencia) {
+
+		/**
+		 * Punto de operación a partir del resultado del análisis.
+		 *
+		 * @param r					Resultado del punto de operación
+		 * @return punto de operación para guardar
+		 */
+		public static PuntoOperacion de(ResultadoPuntoOperacion r) {
+			List<Rama> ramas=new ArrayList<>(r.getComponentes().size());
+			for(ResultadoComponente c:r.getComponentes()) {
+				ramas.add(new Rama(c.getId(), c.getTipo(), c.getNodo1(), c.getNodo2(), c.getTension(), c.getCorriente()));
+			}
+			return new PuntoOperacion(r.getTensionesNodo(), ramas, r.getErrorKcl(), r.getBalancePotencia());
+		}
+
+		/**
+		 * Resultado del punto de operación guardado.
+		 *
+		 * @return resultado con tensiones de nodo y ramas
+		 */
+		public ResultadoPuntoOperacion aResultado() {
+			List<ResultadoComponente> componentes=new ArrayList<>(ramas.size());
+			for(Rama r:ramas) {
+				componentes.add(new ResultadoComponente(r.id(), r.tipo(), r.nodo1(), r.nodo2(), r.tension(), r.corriente()));
+			}
+			return new ResultadoPuntoOperacion(tensionesNodo, componentes, errorKcl, balancePotencia);
+		}
+	}
+
+	/**
+	 * Tensión y corriente de un componente en el punto de operación.
+	 *
+	 * @param id				Id del componente
+	 * @param tipo				Tipo de componente
+	 * @param nodo1				Nodo 1
+	 * @param nodo2				Nodo 2
+	 * @param tension			Tensión V(nodo1)-V(nodo2)
+	 * @param corriente			Corriente de nodo 1 a nodo 2
+	 */
+	public record Rama(String id, String tipo, int nodo1, int nodo2, double tension, double corriente) { }
+
+	/**
+	 * Barrido en frecuencia del equivalente en alterna entre dos nodos, en columnas.
+	 *
+	 * @param nodoNeg			Nodo negativo
+	 * @param nodoPos			Nodo positivo
+	 * @param frecuencias		Frecuencias (Hz), en orden creciente
+	 * @param vthReal			Parte real de Vth en cada frecuencia
+	 * @param vthImag			Parte imaginaria de Vth
+	 * @param zthReal			Parte real de Zth
+	 * @param zthImag			Parte imaginaria de Zth
+	 */
+	public record Barrido(int nodoNeg, int nodoPos, double[] frecuencias,
+			double[] vthReal, double[] vthImag, double[] zthReal, double[] zthImag) {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param nodoNeg			Nodo negativo
+		 * @param nodoPos			Nodo positivo
+		 * @param frecuencias		Frecuencias (Hz), en orden creciente
+		 * @param vthReal			Parte real de Vth en cada frecuencia
+		 * @param vthImag			Parte imaginaria de Vth
+		 * @param zthReal			Parte real de Zth
+		 * @param zthImag			Parte imaginaria de Zth
+		 * @throws IllegalArgumentException	si las columnas no tienen la misma longitud
+		 */
+		public Barrido {
+			int n=frecuencias.length;
+			if(vthReal.length!=n || vthImag.length!=n || zthReal.length!=n || zthImag.length!=n) {
+				throw new IllegalArgumentException("Las columnas del barrido no tienen la misma longitud");
+			}
+		}
+
+		/**
+		 * Barrido en columnas a partir del barrido del análisis.
+		 *
+		 * @param barrido			Barrido en frecuencia
+		 * @param nodoNeg			Nodo negativo
+		 * @param nodoPos			Nodo positivo
+		 * @return barrido para guardar
+		 */
+		public static Barrido de(BarridoAC barrido, int nodoNeg, int nodoPos) {
+			int n=barrido.size();
+			double[] f=new double[n], vr=new double[n], vi=new double[n], zr=new double[n], zi=new double[n];
+			for(int k=0; k<n; k++) {
+				ResultadoEquivalenteAC p=barrido.getPuntos().get(k);
+				f[k]=p.getFrecuencia();
+				vr[k]=p.getVth().getReal();
+				vi[k]=p.getVth().getImaginary();
+				zr[k]=p.getZth().getReal();
+				zi[k]=p.getZth().getImaginary();
+			}
+			return new Barrido(nodoNeg, nodoPos, f, vr, vi, zr, zi);
+		}
+
+		/**
+		 * Barrido en frecuencia guardado.
+		 *
+		 * @return barrido con un punto por frecuencia
+		 */
+		public BarridoAC aBarrido() {
+			List<ResultadoEquivalenteAC> puntos=new ArrayList<>(frecuencias.length);
+			for(int k=0; k<frecuencias.length; k++) {
+				puntos.add(new ResultadoEquivalenteAC(frecuencias[k],
+						new Complex(vthReal[k], vthImag[k]), new Complex(zthReal[k], zthImag[k])));
+			}
+			return new BarridoAC(puntos);
+		}
+	}
+}
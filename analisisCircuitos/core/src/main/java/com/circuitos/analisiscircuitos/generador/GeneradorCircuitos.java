@@ -0,0 +1,491 @@
+package com.circuitos.analisiscircuitos.generador;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente.ControlType;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.dto.Metadata;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+import com.circuitos.analisiscircuitos.io.CircuitoJson;
+import com.circuitos.analisiscircuitos.io.DisposicionCuadricula;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Generador de circuitos sintéticos reproducibles para pruebas de escala, benchmarks y ejercicios.
+ * <p>
+ * Todas las topologías tienen la tierra en el nodo 0, nodos numerados de forma consecutiva
+ * y unos terminales A-B fijos ({@link #getTerminalA()}, {@link #getTerminalB()}). Con la misma
+ * topología, tamaño y semilla se obtiene siempre el mismo circuito (salvo los Ids, que asigna
+ * {@code GestorIds}).
+ * </p>
+ * <p>
+ * Los componentes se generan de uno en uno: {@link #generarCircuito()} y
+ * {@link #generarArchivo()} los acumulan en memoria, mientras que
+ * {@link #escribirArchivo(OutputStream)} los escribe en JSON según salen, con las posiciones y
+ * los cables en archivos temporales, de modo que un archivo de millones de componentes se escribe
+ * sin tener el modelo en memoria.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class GeneradorCircuitos {
+	private static final Logger logger=Logger.getLogger(GeneradorCircuitos.class.getName());
+	private static final double GANANCIA_PEQUENA=1e-5;
+	private static final int BUFFER=1<<16;
+
+	/**
+	 * Topologías disponibles.
+	 */
+	public enum Topologia {
+		/** Escalera R-2R alimentada por una fuente de tensión */
+		ESCALERA_R2R,
+		/** Rejilla cuadrada de resistencias iguales con una fuente de corriente entre esquinas */
+		REJILLA,
+		/** Árbol aleatorio más cuerdas, con resistencias log-uniformes */
+		ALEATORIO,
+		/** Puentes de Wheatstone desequilibrados en cascada */
+		PUENTES,
+		/** Etapas de amplificación alternando fuentes de corriente y tensión controladas */
+		ETAPAS_DEPENDIENTES
+	}
+
+	private final Topologia topologia;
+	private final int nodos;
+	private final boolean dependientes;
+	private final long semilla;
+
+	/**
+	 * Constructor completo.
+	 *
+	 * @param topologia			Forma del circuito
+	 * @param nodos				Número aproximado de nodos (al menos 4)
+	 * @param dependientes		Si se añaden fuentes de corriente dependientes de ganancia pequeña
+	 * 							(no cambia {@link Topologia#ETAPAS_DEPENDIENTES}, que ya las tiene)
+	 * @param semilla			Semilla de los valores y conexiones aleatorios
+	 * @throws IllegalArgumentException si {@code nodos<4}
+	 */
+	public GeneradorCircuitos(Topologia topologia, int nodos, boolean dependientes, long semilla) {
+		this.topologia=Objects.requireNonNull(topologia, "Topologia no puede ser null");
+		if(nodos<4) {
+			throw new IllegalArgumentException("Se necesitan al menos 4 nodos: "+nodos);
+		}
+		this.nodos=nodos;
+		this.dependientes=dependientes;
+		this.semilla=semilla;
+	}
+
+	/**
+	 * Constructor sin fuentes dependientes añadidas.
+	 *
+	 * @param topologia			Forma del circuito
+	 * @param nodos				Número aproximado de nodos (al menos 4)
+	 * @param semilla			Semilla de los valores y conexiones aleatorios
+	 */
+	public GeneradorCircuitos(Topologia topologia, int nodos, long semilla) {
+		this(topologia, nodos, false, semilla);
+	}
+
+	/**
+	 * Genera el circuito en memoria.
+	 *
+	 * @return circuito generado
+	 */
+	public Circuito generarCircuito() {
+		CircuitoBuilder builder=new CircuitoBuilder();
+		emitir(builder::con);
+		return builder.construir();
+	}
+
+	/**
+	 * Genera el archivo completo en memoria: circuito, posiciones y cables.
+	 *
+	 * @return archivo de circuito generado
+	 */
+	public CircuitoFileDto generarArchivo() {
+		CircuitoBuilder builder=new CircuitoBuilder();
+		List<PosicionComponenteDto> posiciones=new ArrayList<>();
+		List<CableDto> cables=new ArrayList<>();
+		DisposicionCuadricula disposicion=new DisposicionCuadricula(posiciones::add, cables::add);
+		emitir(comp -> {
+			builder.con(comp);
+			disposicion.colocar(comp);
+		});
+		Circuito c=builder.construir();
+		return CircuitoFileDto.metaDatosGenerados(c, posiciones, cables);
+	}
+
+	/**
+	 * Escribe el archivo JSON del circuito en un fichero.
+	 *
+	 * @param destino			Fichero de destino (se sobrescribe)
+	 * @return número de componentes escritos
+	 * @throws IOException si falla la escritura
+	 */
+	public long escribirArchivo(Path destino) throws IOException {
+		return escribirArchivo(destino, false);
+	}
+
+	/**
+	 * Escribe el archivo JSON del circuito en un fichero, con o sin sangría.
+	 *
+	 * @param destino			Fichero de destino (se sobrescribe)
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 * @return número de componentes escritos
+	 * @throws IOException si falla la escritura
+	 */
+	public long escribirArchivo(Path destino, boolean compacto) throws IOException {
+		Objects.requireNonNull(destino, "El archivo de destino no puede ser null");
+		try(OutputStream salida=new BufferedOutputStream(Files.newOutputStream(destino), BUFFER)) {
+			return escribirArchivo(salida, compacto);
+		}
+	}
+
+	/**
+	 * Escribe el archivo JSON del circuito en streaming con el mismo formato que
+	 * {@link CircuitoFileDto}. Los componentes van directamente a la salida; las posiciones y los
+	 * cables se escriben a la vez en dos archivos temporales que se copian al final. No cierra
+	 * la salida.
+	 *
+	 * @param salida			Flujo de destino
+	 * @return número de componentes escritos
+	 * @throws IOException si falla la escritura
+	 */
+	public long escribirArchivo(OutputStream salida) throws IOException {
+		return escribirArchivo(salida, false);
+	}
+
+	/**
+	 * Igual que {@link #escribirArchivo(OutputStream)}, con o sin sangría.
+	 *
+	 * @param salida			Flujo de destino
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 * @return número de componentes escritos
+	 * @throws IOException si falla la escritura
+	 */
+	public long escribirArchivo(OutputStream salida, boolean compacto) throws IOException {
+		Objects.requireNonNull(salida, "La salida no puede ser null");
+		Path tmpPosiciones=Files.createTempFile("thevenapp-posiciones", ".json");
+		Path tmpCables=Files.createTempFile("thevenapp-cables", ".json");
+		long[] escritos=new long[1];
+		ObjectWriter escritor=CircuitoJson.escritor(compacto);
+		ObjectWriter componente=CircuitoJson.escritorComponente(compacto);
+		try {
+			try(JsonGenerator gen=escritor.createGenerator(salida, JsonEncoding.UTF8)) {
+				gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+				gen.writeStartObject();
+				gen.writeFieldName("metadata");
+				escritor.writeValue(gen, new Metadata());
+				gen.writeObjectFieldStart("circuito");
+				gen.writeArrayFieldStart("componentes");
+				//Los temporales se cierran (y vuelcan) antes de copiarlos al final
+				try(JsonGenerator genPosiciones=escritor.createGenerator(
+								Files.newBufferedWriter(tmpPosiciones, StandardCharsets.UTF_8));
+						JsonGenerator genCables=escritor.createGenerator(
+								Files.newBufferedWriter(tmpCables, StandardCharsets.UTF_8))) {
+					genPosiciones.writeStartArray();
+					genCables.writeStartArray();
+					DisposicionCuadricula disposicion=new DisposicionCuadricula(
+							p -> escribir(escritor, genPosiciones, p), cable -> escribir(escritor, genCables, cable));
+					try {
+						emitir(comp -> {
+							try {
+								componente.writeValue(gen, comp);
+							} catch(IOException e) {
+								throw new UncheckedIOException(e);
+							}
+							disposicion.colocar(comp);
+							escritos[0]++;
+						});
+					} catch(UncheckedIOException e) {
+						throw e.getCause();
+					}
+					genPosiciones.writeEndArray();
+					genCables.writeEndArray();
+				}
+				gen.writeEndArray();
+				gen.writeEndObject();
+				gen.writeFieldName("posiciones");
+				copiar(tmpPosiciones, gen);
+				gen.writeFieldName("cables");
+				copiar(tmpCables, gen);
+				gen.writeEndObject();
+			}
+		} finally {
+			Files.deleteIfExists(tmpPosiciones);
+			Files.deleteIfExists(tmpCables);
+		}
+		logger.log(Level.INFO, "Circuito {0} de {1} componentes escrito en streaming",
+				new Object[] {topologia, escritos[0]});
+		return escritos[0];
+	}
+
+	/**
+	 * Terminal A del circuito generado.
+	 *
+	 * @return nodo A
+	 */
+	public int getTerminalA() {
+		return switch(topologia) {
+			case ESCALERA_R2R, ALEATORIO -> nodos-1;
+			case REJILLA -> lado()*lado()-1;
+			case PUENTES -> 1+3*puentes();
+			case ETAPAS_DEPENDIENTES -> nodoFinalEtapas();
+		};
+	}
+
+	/**
+	 * Terminal B del circuito generado (siempre la tierra).
+	 *
+	 * @return nodo B
+	 */
+	public int getTerminalB() {
+		return 0;
+	}
+
+	/**
+	 * Obtiene la topología.
+	 *
+	 * @return topología del generador
+	 */
+	public Topologia getTopologia() {
+		return topologia;
+	}
+
+	/**
+	 * Entrega los componentes del circuito, de uno en uno y en orden, al destino.
+	 *
+	 * @param destino			Receptor de cada componente
+	 */
+	private void emitir(Consumer<Componente> destino) {
+		destino.accept(new Tierra(0));
+		switch(topologia) {
+			case ESCALERA_R2R -> escalera(destino);
+			case REJILLA -> rejilla(destino);
+			case ALEATORIO -> aleatorio(destino, new Random(semilla));
+			case PUENTES -> puentes(destino, new Random(semilla));
+			case ETAPAS_DEPENDIENTES -> etapas(destino, new Random(semilla));
+		}
+	}
+
+	/**
+	 * Escalera R-2R: R en serie entre nodos consecutivos y 2R de cada nodo a tierra.
+	 *
+	 * @param destino			Receptor de cada componente
+	 */
+	private void escalera(Consumer<Componente> destino) {
+		destino.accept(new FuenteTensionInd(10.0, 0, 1));
+		for(int i=1; i<nodos-1; i++) {
+			destino.accept(new Resistencia(1000.0, i, i+1));
+			destino.accept(new Resistencia(2000.0, i+1, 0));
+			if(dependientes && i%4==0) {
+				destino.accept(new FuenteCorrienteDependiente(GANANCIA_PEQUENA, 0, i+1, ControlType.TENSION, 0, i));
+			}
+		}
+	}
+
+	/**
+	 * Rejilla de lado×lado nodos (el 0 en una esquina) con una fuente de corriente hasta la opuesta.
+	 *
+	 * @param destino			Receptor de cada componente
+	 */
+	private void rejilla(Consumer<Componente> destino) {
+		int lado=lado();
+		for(int i=0; i<lado; i++) {
+			for(int j=0; j<lado; j++) {
+				int n=i*lado+j;
+				if(j+1<lado) destino.accept(new Resistencia(1000.0, n, n+1));
+				if(i+1<lado) destino.accept(new Resistencia(1000.0, n, n+lado));
+				if(dependientes && j==0 && i>0) {
+					destino.accept(new FuenteCorrienteDependiente(GANANCIA_PEQUENA, 0, n+1, ControlType.TENSION, 0, n));
+				}
+			}
+		}
+		destino.accept(new FuenteCorrienteInd(1e-3, 0, lado*lado-1));
+	}
+
+	/**
+	 * Grafo aleatorio conexo: un árbol aleatorio (con hojas colgantes) más nodos/2 cuerdas.
+	 *
+	 * @param destino			Receptor de cada componente
+	 * @param rnd				Generador aleatorio con la semilla
+	 */
+	private void aleatorio(Consumer<Componente> destino, Random rnd) {
+		destino.accept(new FuenteTensionInd(5.0, 0, 1));
+		for(int n=2; n<nodos; n++) {
+			destino.accept(new Resistencia(valorAleatorio(rnd), rnd.nextInt(n), n));
+		}
+		for(int k=0; k<nodos/2; k++) {
+			int a=rnd.nextInt(nodos);
+			int b=rnd.nextInt(nodos);
+			if(a!=b) destino.accept(new Resistencia(valorAleatorio(rnd), a, b));
+		}
+		if(dependientes) {
+			for(int k=0; k<nodos/10; k++) {
+				int p=1+rnd.nextInt(nodos-1);
+				int ctrl=1+rnd.nextInt(nodos-1);
+				destino.accept(new FuenteCorrienteDependiente(GANANCIA_PEQUENA, 0, p, ControlType.TENSION, 0, ctrl));
+			}
+		}
+	}
+
+	/**
+	 * Puentes en cascada: cada puente va de p a q con dos ramas (p-m1-q, p-m2-q), el brazo
+	 * m1-m2 y una carga de q a tierra. Los valores aleatorios dejan los puentes desequilibrados.
+	 *
+	 * @param destino			Receptor de cada componente
+	 * @param rnd				Generador aleatorio con la semilla
+	 */
+	private void puentes(Consumer<Componente> destino, Random rnd) {
+		destino.accept(new FuenteTensionInd(10.0, 0, 1));
+		for(int s=0; s<puentes(); s++) {
+			int p=1+3*s;
+			int m1=p+1;
+			int m2=p+2;
+			int q=p+3;
+			destino.accept(new Resistencia(valorAleatorio(rnd), p, m1));
+			destino.accept(new Resistencia(valorAleatorio(rnd), p, m2));
+			destino.accept(new Resistencia(valorAleatorio(rnd), m1, q));
+			destino.accept(new Resistencia(valorAleatorio(rnd), m2, q));
+			destino.accept(new Resistencia(valorAleatorio(rnd), m1, m2));
+			destino.accept(new Resistencia(10.0*valorAleatorio(rnd), q, 0));
+			if(dependientes) {
+				destino.accept(new FuenteCorrienteDependiente(GANANCIA_PEQUENA, 0, q, ControlType.TENSION, m2, m1));
+			}
+		}
+	}
+
+	/**
+	 * Etapas en cascada de ganancia unidad: las pares son transconductancias (fuente de corriente
+	 * controlada con gm=1/R y su carga R a tierra) y las impares fuentes de tensión controladas de
+	 * ganancia 2 seguidas de un divisor 1/2. Las resistencias varían un ±10 % con la semilla, pero
+	 * cada etapa se compensa para que la señal no crezca ni se anule a lo largo de la cascada.
+	 *
+	 * @param destino			Receptor de cada componente
+	 * @param rnd				Generador aleatorio con la semilla
+	 */
+	private void etapas(Consumer<Componente> destino, Random rnd) {
+		destino.accept(new FuenteTensionInd(1.0, 0, 1));
+		int n=1;
+		for(int s=0; s<etapas(); s++) {
+			double r=1000.0*(0.9+0.2*rnd.nextDouble());
+			if(s%2==0) {
+				destino.accept(new FuenteCorrienteDependiente(1.0/r, 0, n+1, ControlType.TENSION, 0, n));
+				destino.accept(new Resistencia(r, n+1, 0));
+				n+=1;
+			} else {
+				destino.accept(new FuenteTensionDependiente(2.0, 0, n+1, ControlType.TENSION, 0, n));
+				destino.accept(new Resistencia(r, n+1, n+2));
+				destino.accept(new Resistencia(r, n+2, 0));
+				n+=2;
+			}
+		}
+	}
+
+	/**
+	 * Lado de la rejilla cuadrada.
+	 *
+	 * @return nodos por lado
+	 */
+	private int lado() {
+		return (int)Math.ceil(Math.sqrt(nodos));
+	}
+
+	/**
+	 * Número de puentes: cada puente añade tres nodos.
+	 *
+	 * @return puentes en cascada
+	 */
+	private int puentes() {
+		return Math.max(1, (nodos-2)/3);
+	}
+
+	/**
+	 * Número de etapas: cada pareja de etapas usa tres nodos.
+	 *
+	 * @return etapas en cascada
+	 */
+	private int etapas() {
+		return Math.max(1, 2*(nodos-2)/3);
+	}
+
+	/**
+	 * Nodo de salida de la última etapa.
+	 *
+	 * @return nodo final de la cascada
+	 */
+	private int nodoFinalEtapas() {
+		int e=etapas();
+		return 1+e+e/2;
+	}
+
+	/**
+	 * Valor de resistencia log-uniforme entre 100 Ω y 100 kΩ.
+	 *
+	 * @param rnd				Generador aleatorio con la semilla
+	 * @return valor de la resistencia (Ω)
+	 */
+	private static double valorAleatorio(Random rnd) {
+		return 100.0*Math.pow(10.0, 3.0*rnd.nextDouble());
+	}
+
+	/**
+	 * Escribe un valor en un generador desde una lambda, envolviendo el error de E/S.
+	 *
+	 * @param escritor			Escritor JSON configurado
+	 * @param gen				Generador de destino
+	 * @param valor				Valor a escribir
+	 * @throws UncheckedIOException si falla la escritura
+	 */
+	private static void escribir(ObjectWriter escritor, JsonGenerator gen, Object valor) {
+		try {
+			escritor.writeValue(gen, valor);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Copia un array JSON ya escrito como valor del campo actual.
+	 *
+	 * @param origen			Fichero temporal con el array
+	 * @param gen				Generador de destino
+	 * @throws IOException		si falla la lectura o la escritura
+	 */
+	private static void copiar(Path origen, JsonGenerator gen) throws IOException {
+		gen.writeRawValue("");
+		char[] buffer=new char[BUFFER];
+		try(Reader lector=Files.newBufferedReader(origen, StandardCharsets.UTF_8)) {
+			int leidos;
+			while((leidos=lector.read(buffer))>0) {
+				gen.writeRaw(buffer, 0, leidos);
+			}
+		}
+	}
+}
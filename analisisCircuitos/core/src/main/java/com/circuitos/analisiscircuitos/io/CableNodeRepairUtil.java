@@ -1,10 +1,11 @@
-package com.circuitos.analisiscircuitos.gui.service.cable;
+package com.circuitos.analisiscircuitos.io;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.dto.CableDto;
 import com.circuitos.analisiscircuitos.dto.PuntoDto;
@@ -16,6 +17,7 @@ import com.circuitos.analisiscircuitos.dto.PuntoDto;
  * @version 1.0
  */
 public final class CableNodeRepairUtil {
+	private static final Logger logger=Logger.getLogger(CableNodeRepairUtil.class.getName());
 	private static final double EPS=10.0;
 	private CableNodeRepairUtil() { /* NO INSTANCIABLE */ }
 	
@@ -27,7 +29,6 @@ public final class CableNodeRepairUtil {
 	 * @return	Lista de cables con los nodos reparados
 	 */
 	public static List<CableDto> repairCables(List<CableDto> originales) {
-		System.out.println(">>> repairCables llamada. size="+originales.size());
 		Objects.requireNonNull(originales, "La lista de cables originales no puede ser null");
 		Map<XY, Integer> pos2Nodo=new HashMap<>();
 		Map<Integer, XY> nodo2Pos=new HashMap<>();
@@ -55,12 +56,7 @@ public final class CableNodeRepairUtil {
 					dto.destinoId(), dto.destinoPos(), dto.destinoPositivo(), destNodo,
 					pts));
 		}
-		System.out.println(">>> reparados size="+reparados.size());
-		long neg=reparados.stream()
-				.filter(c -> c.origenNodo()<0 || c.destinoNodo()<0)
-				.peek(c -> System.out.println("NEG: "+c.id()+" ori="+c.origenNodo()+" dest="+c.destinoNodo()))
-				.count();
-		System.out.println(">>> quedan negativos? "+neg);
+		logger.fine(()->"Cables reparados: "+reparados.size());
 		return reparados;
 	}
 	
@@ -0,0 +1,578 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente.ControlType;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dominio.util.ArenaNetlist;
+import com.circuitos.analisiscircuitos.dominio.util.ArenaNetlist.Tipo;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
+import com.circuitos.analisiscircuitos.dto.PuntoDto;
+
+/**
+ * Formato binario compacto de los circuitos ({@code .thvb}), pensado para circuitos generados
+ * muy grandes y para la base de datos de ejercicios.
+ * <p>
+ * El archivo se abre con {@link FileChannel#map} y se lee directamente del buffer mapeado, sin
+ * analizar texto: los accesores ({@link #getNodo1(int)}, {@link #getValor(int)}...) leen el
+ * registro pedido y {@link #aCircuito()} construye el modelo para el analizador.
+ * </p>
+ * <p>
+ * Estructura (little-endian, secciones alineadas a 8 bytes):
+ * </p>
+ * <ul>
+ * <li>Cabecera de {@value #CABECERA} bytes: firma {@code THVB}, versión, número de cadenas,
+ * componentes, posiciones, cables y puntos, y desplazamiento de cada sección.</li>
+ * <li>Tabla de cadenas: {@code int[cadenas+1]} con el inicio de cada una y los bytes UTF-8.
+ * Los Ids de componentes y cables son índices en esta tabla.</li>
+ * <li>Componentes como estructura de arrays: {@code valor}, {@code extra} (emisión del diodo),
+ * {@code id}, {@code nodo1}, {@code nodo2}, {@code ctrlNeg}, {@code ctrlPos}, {@code tipo} y
+ * {@code flags} (carga, control por corriente).</li>
+ * <li>Posiciones: {@code x}, {@code y}, {@code componente}, {@code rotacion}.</li>
+ * <li>Cables: {@code id}, {@code origen}, {@code destino}, {@code origenNodo},
+ * {@code destinoNodo}, {@code primerPunto[cables+1]}, {@code origenPos}, {@code destinoPos} y
+ * {@code flags}; los puntos de todas las polilíneas van seguidos en otra sección
+ * ({@code x}, {@code y}).</li>
+ * </ul>
+ * <p>
+ * Al cargar, cada componente conserva el Id guardado (como al leer el JSON), así que un paso
+ * JSON → {@code .thvb} → JSON no cambia ningún Id y las posiciones y los cables siguen
+ * apuntando a sus componentes.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class CircuitoBinario {
+	private static final Logger logger=Logger.getLogger(CircuitoBinario.class.getName());
+	/** Extensión de los archivos binarios */
+	public static final String EXTENSION=".thvb";
+	private static final int FIRMA=0x42564854; // "THVB" en little-endian
+	private static final short VERSION=1;
+	private static final int CABECERA=64;
+	private static final int BUFFER=1<<16;
+	private static final int SIN_VALOR=-1;
+	private static final byte CARGA=ArenaNetlist.CARGA;
+	private static final byte CONTROL_CORRIENTE=ArenaNetlist.CONTROL_CORRIENTE;
+	private static final byte ORIGEN_POSITIVO=1;
+	private static final byte DESTINO_POSITIVO=2;
+	private static final byte CON_ORIGEN_NODO=4;
+	private static final byte CON_DESTINO_NODO=8;
+	private static final PosicionConexion[] POSICIONES=PosicionConexion.values();
+
+
+	private final ByteBuffer buffer;
+	private final int cadenas, componentes, posiciones, cables, puntos;
+	private final int offCadenas, offBytesCadenas;
+	private final int offValor, offExtra, offId, offNodo1, offNodo2, offCtrlNeg, offCtrlPos, offTipo, offFlags;
+	private final int offPosX, offPosY, offPosComponente, offPosRotacion;
+	private final int offCableId, offOrigen, offDestino, offOrigenNodo, offDestinoNodo, offPrimerPunto,
+		offOrigenPos, offDestinoPos, offCableFlags;
+	private final int offPuntoX, offPuntoY;
+
+	private CircuitoBinario(ByteBuffer buffer) throws IOException {
+		this.buffer=buffer.order(ByteOrder.LITTLE_ENDIAN);
+		if(buffer.limit()<CABECERA || buffer.getInt(0)!=FIRMA) {
+			throw new IOException("No es un archivo "+EXTENSION);
+		}
+		if(buffer.getShort(4)!=VERSION) {
+			throw new IOException("Versión de "+EXTENSION+" no soportada: "+buffer.getShort(4));
+		}
+		cadenas=buffer.getInt(8);
+		componentes=buffer.getInt(12);
+		posiciones=buffer.getInt(16);
+		cables=buffer.getInt(20);
+		puntos=buffer.getInt(24);
+		Disposicion d=new Disposicion(cadenas, buffer.getInt(28), componentes, posiciones, cables, puntos);
+		if(d.total!=buffer.limit() || d.componentes!=buffer.getInt(32) || d.posiciones!=buffer.getInt(36)
+				|| d.cables!=buffer.getInt(40) || d.puntos!=buffer.getInt(44)) {
+			throw new IOException("Archivo "+EXTENSION+" truncado o corrupto");
+		}
+		offCadenas=d.cadenas;
+		offBytesCadenas=d.cadenas+4*(cadenas+1);
+		offValor=d.componentes;
+		offExtra=offValor+8*componentes;
+		offId=offExtra+8*componentes;
+		offNodo1=offId+4*componentes;
+		offNodo2=offNodo1+4*componentes;
+		offCtrlNeg=offNodo2+4*componentes;
+		offCtrlPos=offCtrlNeg+4*componentes;
+		offTipo=offCtrlPos+4*componentes;
+		offFlags=offTipo+componentes;
+		offPosX=d.posiciones;
+		offPosY=offPosX+8*posiciones;
+		offPosComponente=offPosY+8*posiciones;
+		offPosRotacion=offPosComponente+4*posiciones;
+		offCableId=d.cables;
+		offOrigen=offCableId+4*cables;
+		offDestino=offOrigen+4*cables;
+		offOrigenNodo=offDestino+4*cables;
+		offDestinoNodo=offOrigenNodo+4*cables;
+		offPrimerPunto=offDestinoNodo+4*cables;
+		offOrigenPos=offPrimerPunto+4*(cables+1);
+		offDestinoPos=offOrigenPos+cables;
+		offCableFlags=offDestinoPos+cables;
+		offPuntoX=d.puntos;
+		offPuntoY=offPuntoX+8*puntos;
+		int tipos=Tipo.values().length;
+		for(int i=0; i<componentes; i++) {
+			int tipo=buffer.get(offTipo+i);
+			if(tipo<0 || tipo>=tipos) {
+				throw new IOException("Archivo "+EXTENSION+" corrupto: tipo de componente "+tipo+" en el byte "+(offTipo+i));
+			}
+		}
+	}
+
+	/**
+	 * Comprueba si un archivo tiene la extensión del formato binario.
+	 *
+	 * @param archivo			Archivo a comprobar
+	 * @return {@code true} si termina en {@value #EXTENSION}
+	 */
+	public static boolean esBinario(Path archivo) {
+		Objects.requireNonNull(archivo, "El archivo no puede ser null");
+		return archivo.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(EXTENSION);
+	}
+
+	/**
+	 * Comprueba si un archivo tiene la extensión del formato binario.
+	 *
+	 * @param archivo			Archivo a comprobar
+	 * @return {@code true} si termina en {@value #EXTENSION}
+	 */
+	public static boolean esBinario(File archivo) {
+		Objects.requireNonNull(archivo, "El archivo no puede ser null");
+		return esBinario(archivo.toPath());
+	}
+
+	/**
+	 * Abre un archivo mapeándolo en memoria. No se lee nada hasta que se consulta.
+	 *
+	 * @param archivo			Archivo {@value #EXTENSION}
+	 * @return vista del archivo
+	 * @throws IOException si no se puede abrir o no tiene el formato esperado
+	 */
+	public static CircuitoBinario abrir(Path archivo) throws IOException {
+		Objects.requireNonNull(archivo, "El archivo no puede ser null");
+		try(FileChannel canal=FileChannel.open(archivo, StandardOpenOption.READ)) {
+			if(canal.size()>Integer.MAX_VALUE) {
+				throw new IOException("Archivo "+EXTENSION+" demasiado grande: "+canal.size()+" bytes");
+			}
+			MappedByteBuffer mapa=canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+			return new CircuitoBinario(mapa);
+		}
+	}
+
+	/**
+	 * Crea una vista sobre un buffer ya cargado (por ejemplo, un campo binario de la base de datos).
+	 *
+	 * @param datos				Contenido completo del archivo
+	 * @return vista de los datos
+	 * @throws IOException si no tienen el formato esperado
+	 */
+	public static CircuitoBinario desde(byte[] datos) throws IOException {
+		Objects.requireNonNull(datos, "Los datos no pueden ser null");
+		return new CircuitoBinario(ByteBuffer.wrap(datos));
+	}
+
+	/**
+	 * Obtiene el número de componentes guardados.
+	 *
+	 * @return número de componentes
+	 */
+	public int getNumComponentes() {
+		return componentes;
+	}
+
+	/**
+	 * Obtiene el número de posiciones de la vista guardadas.
+	 *
+	 * @return número de posiciones
+	 */
+	public int getNumPosiciones() {
+		return posiciones;
+	}
+
+	/**
+	 * Obtiene el número de cables guardados.
+	 *
+	 * @return número de cables
+	 */
+	public int getNumCables() {
+		return cables;
+	}
+
+	/**
+	 * Id del componente tal y como se guardó.
+	 *
+	 * @param i					Índice del componente
+	 * @return Id guardado
+	 */
+	public String getId(int i) {
+		return cadena(buffer.getInt(offId+4*comprobar(i, componentes)));
+	}
+
+	/**
+	 * @param i					Índice del componente
+	 * @return nodo 1 (negativo) del componente
+	 */
+	public int getNodo1(int i) {
+		return buffer.getInt(offNodo1+4*comprobar(i, componentes));
+	}
+
+	/**
+	 * @param i					Índice del componente
+	 * @return nodo 2 (positivo) del componente
+	 */
+	public int getNodo2(int i) {
+		return buffer.getInt(offNodo2+4*comprobar(i, componentes));
+	}
+
+	/**
+	 * @param i					Índice del componente
+	 * @return valor del componente (0 en la tierra)
+	 */
+	public double getValor(int i) {
+		return buffer.getDouble(offValor+8*comprobar(i, componentes));
+	}
+
+	/**
+	 * @param i					Índice del componente
+	 * @return {@code true} si es componente de carga
+	 */
+	public boolean esCarga(int i) {
+		return (buffer.get(offFlags+comprobar(i, componentes))&CARGA)!=0;
+	}
+
+	/**
+	 * Construye el circuito para analizarlo, sin posiciones ni cables.
+	 *
+	 * @return circuito con los componentes y sus Ids guardados
+	 */
+	public Circuito aCircuito() {
+		CircuitoBuilder builder=new CircuitoBuilder(componentes);
+		for(int i=0; i<componentes; i++) {
+			builder.con(componente(i), cadena(buffer.getInt(offId+4*i)));
+		}
+		return builder.construir();
+	}
+
+	/**
+	 * Copia los componentes en una {@link ArenaNetlist} fuera del heap, sin crear objetos del
+	 * modelo. Los flags del archivo usan los mismos bits que la arena.
+	 *
+	 * @return arena con un registro por componente, en el orden del archivo
+	 */
+	public ArenaNetlist aArena() {
+		ArenaNetlist arena=new ArenaNetlist(componentes);
+		for(int i=0; i<componentes; i++) {
+			Tipo tipo=Tipo.deOrdinal(buffer.get(offTipo+i));
+			int n1=buffer.getInt(offNodo1+4*i);
+			boolean dependiente=tipo==Tipo.FUENTE_TENSION_DEPENDIENTE || tipo==Tipo.FUENTE_CORRIENTE_DEPENDIENTE;
+			arena.add(tipo, n1, tipo==Tipo.TIERRA ? n1 : buffer.getInt(offNodo2+4*i), buffer.getDouble(offValor+8*i),
+					buffer.getDouble(offExtra+8*i), dependiente ? buffer.getInt(offCtrlNeg+4*i) : SIN_VALOR,
+					dependiente ? buffer.getInt(offCtrlPos+4*i) : SIN_VALOR, buffer.get(offFlags+i));
+		}
+		return arena;
+	}
+
+	/**
+	 * Construye el archivo completo, con los Ids guardados de componentes y cables.
+	 *
+	 * @return DTO con metadatos nuevos, circuito, posiciones y cables
+	 */
+	public CircuitoFileDto aArchivo() {
+		Circuito c=aCircuito();
+		List<PosicionComponenteDto> listaPosiciones=new ArrayList<>(posiciones);
+		for(int i=0; i<posiciones; i++) {
+			listaPosiciones.add(new PosicionComponenteDto(
+					cadena(buffer.getInt(offPosComponente+4*i)),
+					buffer.getDouble(offPosX+8*i), buffer.getDouble(offPosY+8*i),
+					buffer.getInt(offPosRotacion+4*i)));
+		}
+		List<CableDto> listaCables=new ArrayList<>(cables);
+		for(int i=0; i<cables; i++) {
+			byte flags=buffer.get(offCableFlags+i);
+			int desde=buffer.getInt(offPrimerPunto+4*i);
+			int hasta=buffer.getInt(offPrimerPunto+4*(i+1));
+			List<PuntoDto> pts=new ArrayList<>(hasta-desde);
+			for(int p=desde; p<hasta; p++) {
+				pts.add(new PuntoDto(buffer.getDouble(offPuntoX+8*p), buffer.getDouble(offPuntoY+8*p)));
+			}
+			listaCables.add(new CableDto(cadena(buffer.getInt(offCableId+4*i)),
+					cadena(buffer.getInt(offOrigen+4*i)),
+					posicion(buffer.get(offOrigenPos+i)),
+					(flags&ORIGEN_POSITIVO)!=0,
+					(flags&CON_ORIGEN_NODO)!=0 ? buffer.getInt(offOrigenNodo+4*i) : null,
+					cadena(buffer.getInt(offDestino+4*i)),
+					posicion(buffer.get(offDestinoPos+i)),
+					(flags&DESTINO_POSITIVO)!=0,
+					(flags&CON_DESTINO_NODO)!=0 ? buffer.getInt(offDestinoNodo+4*i) : null,
+					pts));
+		}
+		return CircuitoFileDto.metaDatosGenerados(c, listaPosiciones, listaCables);
+	}
+
+	/**
+	 * Crea el componente i con {@link ArenaNetlist#crearComponente}. El Id guardado se le pone al
+	 * añadirlo al {@link CircuitoBuilder}.
+	 */
+	private Componente componente(int i) {
+		return ArenaNetlist.crearComponente(Tipo.deOrdinal(buffer.get(offTipo+i)), buffer.getInt(offNodo1+4*i),
+				buffer.getInt(offNodo2+4*i), buffer.getDouble(offValor+8*i), buffer.getDouble(offExtra+8*i),
+				buffer.getInt(offCtrlNeg+4*i), buffer.getInt(offCtrlPos+4*i), buffer.get(offFlags+i));
+	}
+
+	private String cadena(int indice) {
+		if(indice==SIN_VALOR) return null;
+		int inicio=buffer.getInt(offCadenas+4*comprobar(indice, cadenas));
+		int fin=buffer.getInt(offCadenas+4*(indice+1));
+		byte[] bytes=new byte[fin-inicio];
+		buffer.get(offBytesCadenas+inicio, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static PosicionConexion posicion(byte ordinal) {
+		return ordinal==SIN_VALOR ? null : POSICIONES[ordinal];
+	}
+
+	private static int comprobar(int i, int n) {
+		return Objects.checkIndex(i, n);
+	}
+
+	/**
+	 * Escribe un archivo {@value #EXTENSION} de forma atómica ({@link EscrituraAtomica}).
+	 *
+	 * @param destino			Fichero de destino (se sobrescribe)
+	 * @param circuito			Circuito a escribir
+	 * @param posiciones		Posiciones de los componentes
+	 * @param cables			Cables del circuito
+	 * @throws IOException si falla la escritura
+	 */
+	public static void escribir(Path destino, Circuito circuito, List<PosicionComponenteDto> posiciones,
+			List<CableDto> cables) throws IOException {
+		Objects.requireNonNull(destino, "El archivo de destino no puede ser null");
+		byte[] datos=aBytes(circuito, posiciones, cables);
+		EscrituraAtomica.escribir(destino, salida -> salida.write(datos));
+		logger.log(Level.INFO, "Circuito binario guardado en {0} ({1} bytes)", new Object[] {destino, datos.length});
+	}
+
+	/**
+	 * Codifica un circuito en el formato {@value #EXTENSION}.
+	 *
+	 * @param circuito			Circuito a codificar
+	 * @param posiciones		Posiciones de los componentes
+	 * @param cables			Cables del circuito
+	 * @return contenido completo del archivo
+	 */
+	public static byte[] aBytes(Circuito circuito, List<PosicionComponenteDto> posiciones, List<CableDto> cables) {
+		Objects.requireNonNull(circuito, "El circuito no puede ser null");
+		Objects.requireNonNull(posiciones, "Las posiciones no pueden ser null");
+		Objects.requireNonNull(cables, "Los cables no pueden ser null");
+		List<Componente> comps=circuito.getComponentes();
+		TablaCadenas tabla=new TablaCadenas();
+		int[] idComp=new int[comps.size()];
+		for(int i=0; i<idComp.length; i++) idComp[i]=tabla.indice(comps.get(i).getId());
+		int[] idPos=new int[posiciones.size()];
+		for(int i=0; i<idPos.length; i++) idPos[i]=tabla.indice(posiciones.get(i).componenteId());
+		int[][] idCable=new int[cables.size()][3];
+		int numPuntos=0;
+		for(int i=0; i<cables.size(); i++) {
+			CableDto cable=cables.get(i);
+			idCable[i][0]=tabla.indice(cable.id());
+			idCable[i][1]=tabla.indice(cable.origenId());
+			idCable[i][2]=tabla.indice(cable.destinoId());
+			numPuntos+=cable.puntos()==null ? 0 : cable.puntos().size();
+		}
+
+		Disposicion d=new Disposicion(tabla.lista.size(), tabla.bytes, comps.size(), posiciones.size(),
+				cables.size(), numPuntos);
+		ByteBuffer b=ByteBuffer.allocate(d.total).order(ByteOrder.LITTLE_ENDIAN);
+		b.putInt(0, FIRMA);
+		b.putShort(4, VERSION);
+		b.putInt(8, tabla.lista.size());
+		b.putInt(12, comps.size());
+		b.putInt(16, posiciones.size());
+		b.putInt(20, cables.size());
+		b.putInt(24, numPuntos);
+		b.putInt(28, tabla.bytes);
+		b.putInt(32, d.componentes);
+		b.putInt(36, d.posiciones);
+		b.putInt(40, d.cables);
+		b.putInt(44, d.puntos);
+
+		int base=d.cadenas+4*(tabla.lista.size()+1);
+		int desplazamiento=0;
+		for(int i=0; i<tabla.lista.size(); i++) {
+			byte[] utf8=tabla.lista.get(i);
+			b.putInt(d.cadenas+4*i, desplazamiento);
+			b.put(base+desplazamiento, utf8);
+			desplazamiento+=utf8.length;
+		}
+		b.putInt(d.cadenas+4*tabla.lista.size(), desplazamiento);
+
+		int n=comps.size();
+		for(int i=0; i<n; i++) {
+			Componente c=comps.get(i);
+			int o=d.componentes;
+			byte flags=c.isCarga() ? CARGA : 0;
+			b.putDouble(o+8*i, c instanceof Tierra ? 0.0 : c.getValor());
+			if(c instanceof Diodo diodo) b.putDouble(o+8*n+8*i, diodo.getEmision());
+			b.putInt(o+16*n+4*i, idComp[i]);
+			b.putInt(o+20*n+4*i, c.getNodo1());
+			b.putInt(o+24*n+4*i, c instanceof Tierra ? c.getNodo1() : c.getNodo2());
+			if(c instanceof FuenteDependiente f) {
+				b.putInt(o+28*n+4*i, f.getCtrlNeg());
+				b.putInt(o+32*n+4*i, f.getCtrlPos());
+				if(f.getControlType()==ControlType.CORRIENTE) flags|=CONTROL_CORRIENTE;
+			}
+			b.put(o+36*n+i, (byte) Tipo.de(c).ordinal());
+			b.put(o+37*n+i, flags);
+		}
+
+		int m=posiciones.size();
+		for(int i=0; i<m; i++) {
+			PosicionComponenteDto p=posiciones.get(i);
+			int o=d.posiciones;
+			b.putDouble(o+8*i, p.x());
+			b.putDouble(o+8*m+8*i, p.y());
+			b.putInt(o+16*m+4*i, idPos[i]);
+			b.putInt(o+20*m+4*i, p.rotacion());
+		}
+
+		int k=cables.size();
+		int punto=0;
+		for(int i=0; i<k; i++) {
+			CableDto cable=cables.get(i);
+			int o=d.cables;
+			byte flags=0;
+			if(cable.origenPositivo()) flags|=ORIGEN_POSITIVO;
+			if(cable.destinoPositivo()) flags|=DESTINO_POSITIVO;
+			if(cable.origenNodo()!=null) flags|=CON_ORIGEN_NODO;
+			if(cable.destinoNodo()!=null) flags|=CON_DESTINO_NODO;
+			b.putInt(o+4*i, idCable[i][0]);
+			b.putInt(o+4*k+4*i, idCable[i][1]);
+			b.putInt(o+8*k+4*i, idCable[i][2]);
+			b.putInt(o+12*k+4*i, cable.origenNodo()!=null ? cable.origenNodo() : 0);
+			b.putInt(o+16*k+4*i, cable.destinoNodo()!=null ? cable.destinoNodo() : 0);
+			b.putInt(o+20*k+4*i, punto);
+			b.put(o+24*k+4+i, ordinal(cable.origenPos()));
+			b.put(o+25*k+4+i, ordinal(cable.destinoPos()));
+			b.put(o+26*k+4+i, flags);
+			if(cable.puntos()!=null) {
+				for(PuntoDto p:cable.puntos()) {
+					b.putDouble(d.puntos+8*punto, p.x());
+					b.putDouble(d.puntos+8*numPuntos+8*punto, p.y());
+					punto++;
+				}
+			}
+		}
+		b.putInt(d.cables+20*k+4*k, punto);
+		return b.array();
+	}
+
+	/**
+	 * Convierte un archivo JSON en uno {@value #EXTENSION}.
+	 *
+	 * @param json				Archivo JSON de origen
+	 * @param binario			Archivo binario de destino
+	 * @throws IOException si falla la lectura o la escritura
+	 */
+	public static void convertirDesdeJson(Path json, Path binario) throws IOException {
+		Objects.requireNonNull(json, "El archivo de origen no puede ser null");
+		CircuitoFileDto dto;
+		try(InputStream entrada=new BufferedInputStream(Files.newInputStream(json), BUFFER)) {
+			dto=CircuitoJson.leer(entrada);
+		}
+		escribir(binario, dto.circuito(), dto.posiciones(), dto.cables());
+	}
+
+	/**
+	 * Convierte un archivo {@value #EXTENSION} en JSON.
+	 *
+	 * @param binario			Archivo binario de origen
+	 * @param json				Archivo JSON de destino
+	 * @param compacto			{@code true} para escribir el JSON sin sangría
+	 * @throws IOException si falla la lectura o la escritura
+	 */
+	public static void convertirAJson(Path binario, Path json, boolean compacto) throws IOException {
+		Objects.requireNonNull(json, "El archivo de destino no puede ser null");
+		CircuitoFileDto dto=abrir(binario).aArchivo();
+		EscrituraAtomica.escribir(json,
+				salida -> CircuitoJson.escribir(salida, dto.circuito(), dto.posiciones(), dto.cables(), compacto));
+	}
+
+	private static byte ordinal(PosicionConexion pos) {
+		return pos==null ? SIN_VALOR : (byte) pos.ordinal();
+	}
+
+	private static int alinear(long desplazamiento) {
+		long alineado=(desplazamiento+7)&~7L;
+		if(alineado>Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Circuito demasiado grande para "+EXTENSION);
+		}
+		return (int) alineado;
+	}
+
+	/**
+	 * Desplazamiento de cada sección a partir de los tamaños.
+	 */
+	private static final class Disposicion {
+		final int cadenas, componentes, posiciones, cables, puntos, total;
+
+		Disposicion(int numCadenas, int bytesCadenas, int numComponentes, int numPosiciones, int numCables, int numPuntos) {
+			cadenas=CABECERA;
+			componentes=alinear(cadenas+4L*(numCadenas+1)+bytesCadenas);
+			posiciones=alinear(componentes+38L*numComponentes);
+			cables=alinear(posiciones+24L*numPosiciones);
+			puntos=alinear(cables+27L*numCables+4L);
+			total=alinear(puntos+16L*numPuntos);
+		}
+	}
+
+	/**
+	 * Tabla de cadenas sin repetidos.
+	 */
+	private static final class TablaCadenas {
+		final Map<String, Integer> indices=new HashMap<>();
+		final List<byte[]> lista=new ArrayList<>();
+		int bytes;
+
+		int indice(String s) {
+			if(s==null) return SIN_VALOR;
+			return indices.computeIfAbsent(s, k -> {
+				byte[] utf8=k.getBytes(StandardCharsets.UTF_8);
+				lista.add(utf8);
+				bytes+=utf8.length;
+				return lista.size()-1;
+			});
+		}
+	}
+}
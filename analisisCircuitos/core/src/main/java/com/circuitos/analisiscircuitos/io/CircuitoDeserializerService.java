@@ -0,0 +1,170 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+
+/**
+ * Servicio para deserializar un circuito desde archivo JSON. No depende de JavaFX, así que lo
+ * usan tanto la interfaz gráfica como las herramientas sin interfaz. El archivo se lee en
+ * streaming con {@link CircuitoJson}, con {@link CircuitoBinario} si es binario o con
+ * {@link LectorSpice} si es una netlist SPICE.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class CircuitoDeserializerService {
+	
+	private static final Logger logger=Logger.getLogger(CircuitoDeserializerService.class.getName());
+	private static final int BUFFER=1<<16;
+	
+	/**
+	 * Constructor. La configuración de Jackson es la compartida de {@link CircuitoJson}, así que
+	 * crear instancias no cuesta nada.
+	 */
+	public CircuitoDeserializerService() { /* Vacío */ }
+	
+	/**
+	 * Carga un archivo JSON, {@value CircuitoBinario#EXTENSION} o netlist SPICE (según la
+	 * extensión) y devuelve objeto {@link CircuitoFileDto}. Las netlists no tienen posiciones, así
+	 * que sus componentes se colocan en cuadrícula.
+	 * 
+	 * @param archivo			Archivo con el circuito serializado
+	 * @return DTO con el circuito, posiciones, cables
+	 * @throws IOException si el archivo no existe o está mal formado
+	 */
+	public CircuitoFileDto cargarCircuitoArchivo(File archivo) throws IOException {
+		return cargarCircuitoArchivo(archivo, avance -> { /* Sin avance */ });
+	}
+	
+	/**
+	 * Carga un archivo informando del avance (fracción de bytes leídos, de 0 a 1). Pensado para
+	 * cargar en segundo plano: si el hilo se interrumpe, la lectura se corta con
+	 * {@link InterruptedIOException}.
+	 * 
+	 * @param archivo			Archivo con el circuito serializado
+	 * @param progreso			Receptor del avance
+	 * @return DTO con el circuito, posiciones, cables
+	 * @throws IOException si el archivo no existe, está mal formado o se cancela la carga
+	 */
+	public CircuitoFileDto cargarCircuitoArchivo(File archivo, DoubleConsumer progreso) throws IOException {
+		Objects.requireNonNull(archivo, "El archivo a cargar no puede ser null");
+		Objects.requireNonNull(progreso, "El receptor del avance no puede ser null");
+		logger.fine("Cargando circuito desde "+archivo);
+		Path ruta=archivo.toPath();
+		CircuitoFileDto dto;
+		if(CircuitoBinario.esBinario(archivo)) {
+			dto=CircuitoBinario.abrir(ruta).aArchivo();
+		} else if(LectorSpice.esSpice(ruta)) {
+			try(InputStream entrada=new EntradaConAvance(Files.newInputStream(ruta), Files.size(ruta), progreso)) {
+				dto=importarSpice(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+			}
+		} else {
+			try(InputStream entrada=new BufferedInputStream(
+					new EntradaConAvance(Files.newInputStream(ruta), Files.size(ruta), progreso), BUFFER)) {
+				dto=CircuitoJson.leer(entrada);
+			}
+		}
+		List<CableDto> reparados=CableNodeRepairUtil.repairCables(dto.cables());
+		CircuitoFileDto corregido=dto.conCables(reparados);
+		progreso.accept(1.0);
+		logger.info(()->String.format("Circuito cargado y reparado: %d cables", reparados.size()));
+		return corregido;
+	}
+	
+	/**
+	 * Lee una netlist SPICE y coloca sus componentes con {@link DisposicionCuadricula}.
+	 * 
+	 * @param entrada			Netlist SPICE
+	 * @return DTO con el circuito, posiciones y cables
+	 * @throws IOException si falla la lectura o una tarjeta no es válida
+	 */
+	private CircuitoFileDto importarSpice(Reader entrada) throws IOException {
+		Circuito circuito;
+		try {
+			circuito=new LectorSpice().leer(entrada);
+		} catch(IllegalArgumentException e) {
+			throw new IOException("Netlist SPICE no válida: "+e.getMessage(), e);
+		}
+		List<PosicionComponenteDto> posiciones=new ArrayList<>();
+		List<CableDto> cables=new ArrayList<>();
+		DisposicionCuadricula disposicion=new DisposicionCuadricula(posiciones::add, cables::add);
+		circuito.getComponentes().forEach(disposicion::colocar);
+		return CircuitoFileDto.metaDatosGenerados(circuito, posiciones, cables);
+	}
+	
+	/**
+	 * Carga un circuito desde una cadena de texto JSON (para resolver ejercicios).
+	 * 
+	 * @param json					Cadena de texto JSON
+	 * @return DTO con el circuito
+	 * @throws IOException si el JSON está mal formado
+	 */
+	public CircuitoFileDto cargarCircuitoTexto(String json) throws IOException {
+		Objects.requireNonNull(json, "El contenido JSON no puede ser null");
+		logger.fine("Deserializando circuito desde String");
+		CircuitoFileDto dto=CircuitoJson.leer(json);
+		List<CableDto> reparados=CableNodeRepairUtil.repairCables(dto.cables());
+		return dto.conCables(reparados);
+	}
+	
+	/**
+	 * Flujo que cuenta los bytes leídos, informa del avance cada 1 % y corta la lectura si el
+	 * hilo se ha interrumpido.
+	 */
+	private static final class EntradaConAvance extends FilterInputStream {
+		private final long total;
+		private final DoubleConsumer progreso;
+		private long leidos;
+		private long siguienteAviso;
+		
+		EntradaConAvance(InputStream entrada, long total, DoubleConsumer progreso) {
+			super(entrada);
+			this.total=Math.max(1, total);
+			this.progreso=progreso;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int b=super.read();
+			if(b>=0) contar(1);
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n=super.read(b, off, len);
+			if(n>0) contar(n);
+			return n;
+		}
+		
+		private void contar(long n) throws IOException {
+			if(Thread.currentThread().isInterrupted()) {
+				throw new InterruptedIOException("Carga cancelada");
+			}
+			leidos+=n;
+			if(leidos>=siguienteAviso) {
+				progreso.accept(Math.min(0.99, (double) leidos/total));
+				siguienteAviso=leidos+total/100;
+			}
+		}
+	}
+}
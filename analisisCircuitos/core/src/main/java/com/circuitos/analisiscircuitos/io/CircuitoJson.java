@@ -0,0 +1,417 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Bobina;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.dto.Metadata;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+import com.circuitos.analisiscircuitos.dto.ResultadosDto;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+
+/**
+ * Lectura y escritura en streaming del formato JSON de los circuitos ({@link CircuitoFileDto}).
+ * <p>
+ * La configuración de Jackson se hace una sola vez: los {@link ObjectReader} y
+ * {@link ObjectWriter} son inmutables y seguros entre hilos, así que se comparten entre todos los
+ * servicios en lugar de crear un {@code ObjectMapper} por instancia.
+ * </p>
+ * <p>
+ * {@link #leer(InputStream, Consumer, Consumer, Consumer)} recorre el archivo con un
+ * {@link JsonParser} y entrega cada componente, posición y cable según se lee, sin árbol JSON ni
+ * listas intermedias. {@link #escribir(OutputStream, Circuito, Iterable, Iterable, boolean)} hace
+ * lo contrario con un {@link JsonGenerator}. Ambos producen y aceptan exactamente el mismo
+ * formato que el databind de {@link CircuitoFileDto}, con o sin sangría.
+ * </p>
+ * <p>
+ * El apartado opcional {@code resultados} guarda los últimos análisis junto con la
+ * {@link #huella(Iterable) huella} del circuito. Al leer y al escribir solo se conserva si la
+ * huella coincide con la del circuito del archivo; si no, se descarta sin error.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class CircuitoJson {
+	private static final Logger logger=Logger.getLogger(CircuitoJson.class.getName());
+	private static final String DESCARTADOS="Resultados de análisis descartados: el circuito ha cambiado";
+	//Los lectores y escritores sin modificador los comparte DiarioCircuito
+	static final ObjectMapper MAPPER=crearMapper();
+	private static final ObjectReader LECTOR=MAPPER.readerFor(CircuitoFileDto.class);
+	private static final ObjectReader LECTOR_METADATA=MAPPER.readerFor(Metadata.class);
+	static final ObjectReader LECTOR_COMPONENTE=MAPPER.readerFor(Componente.class);
+	static final ObjectReader LECTOR_POSICION=MAPPER.readerFor(PosicionComponenteDto.class);
+	static final ObjectReader LECTOR_CABLE=MAPPER.readerFor(CableDto.class);
+	private static final ObjectReader LECTOR_RESULTADOS=MAPPER.readerFor(ResultadosDto.class);
+	private static final ObjectWriter ESCRITOR=MAPPER.writer()
+			.with(SerializationFeature.INDENT_OUTPUT);
+	static final ObjectWriter ESCRITOR_COMPACTO=MAPPER.writer()
+			.without(SerializationFeature.INDENT_OUTPUT);
+	private static final ObjectWriter COMPONENTE=ESCRITOR.forType(Componente.class);
+	static final ObjectWriter COMPONENTE_COMPACTO=ESCRITOR_COMPACTO.forType(Componente.class);
+
+	private CircuitoJson() { /* Utilidad estática */ }
+
+	private static ObjectMapper crearMapper() {
+		ObjectMapper mapper=new ObjectMapper()
+				.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+				.disable(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES);
+		mapper.registerSubtypes(new NamedType(Resistencia.class, "Resistencia"),
+				new NamedType(Condensador.class, "Condensador"),
+				new NamedType(Bobina.class, "Bobina"),
+				new NamedType(Diodo.class, "Diodo"),
+				new NamedType(FuenteTensionInd.class, "FuenteTensionIndependiente"),
+				new NamedType(FuenteCorrienteInd.class, "FuenteCorrienteIndependiente"),
+				new NamedType(FuenteTensionDependiente.class, "FuenteTensionDependiente"),
+				new NamedType(FuenteCorrienteDependiente.class, "FuenteCorrienteDependiente"),
+				new NamedType(Tierra.class, "Tierra"));
+		return mapper;
+	}
+
+	/**
+	 * Lector compartido para deserializar el archivo completo con databind.
+	 *
+	 * @return lector de {@link CircuitoFileDto}
+	 */
+	public static ObjectReader lector() {
+		return LECTOR;
+	}
+
+	/**
+	 * Escritor compartido sin tipo fijo.
+	 *
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 * @return escritor configurado
+	 */
+	public static ObjectWriter escritor(boolean compacto) {
+		return compacto ? ESCRITOR_COMPACTO : ESCRITOR;
+	}
+
+	/**
+	 * Escritor compartido de componentes sueltos (incluye el campo de tipo {@code @type}).
+	 *
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 * @return escritor de {@link Componente}
+	 */
+	public static ObjectWriter escritorComponente(boolean compacto) {
+		return compacto ? COMPONENTE_COMPACTO : COMPONENTE;
+	}
+
+	/**
+	 * Lee un archivo completo en streaming. Los componentes se añaden al circuito según se leen.
+	 * No cierra la entrada.
+	 *
+	 * @param entrada			Flujo con el JSON
+	 * @return DTO con el circuito, posiciones y cables
+	 * @throws IOException si el JSON está mal formado
+	 */
+	public static CircuitoFileDto leer(InputStream entrada) throws IOException {
+		Objects.requireNonNull(entrada, "La entrada no puede ser null");
+		try(JsonParser p=MAPPER.createParser(entrada)) {
+			p.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			return leer(p);
+		}
+	}
+
+	/**
+	 * Lee un archivo completo desde una cadena de texto JSON.
+	 *
+	 * @param json				Cadena de texto JSON
+	 * @return DTO con el circuito, posiciones y cables
+	 * @throws IOException si el JSON está mal formado
+	 */
+	public static CircuitoFileDto leer(String json) throws IOException {
+		Objects.requireNonNull(json, "El contenido JSON no puede ser null");
+		try(Reader lector=new StringReader(json); JsonParser p=MAPPER.createParser(lector)) {
+			return leer(p);
+		}
+	}
+
+	private static CircuitoFileDto leer(JsonParser p) throws IOException {
+		CircuitoBuilder builder=new CircuitoBuilder();
+		List<PosicionComponenteDto> posiciones=new ArrayList<>();
+		List<CableDto> cables=new ArrayList<>();
+		ResultadosDto[] resultados=new ResultadosDto[1];
+		Metadata metadata=leer(p, builder::con, posiciones::add, cables::add, r -> resultados[0]=r);
+		Circuito circuito=builder.construir();
+		return new CircuitoFileDto(metadata, circuito, posiciones, cables,
+				vigentes(resultados[0], circuito.getComponentes()));
+	}
+
+	/**
+	 * Recorre un archivo en streaming y entrega cada elemento a su destino según se lee, sin
+	 * guardar nada más. Los campos desconocidos se ignoran. No cierra la entrada.
+	 *
+	 * @param entrada			Flujo con el JSON
+	 * @param componentes		Destino de los componentes
+	 * @param posiciones		Destino de las posiciones
+	 * @param cables			Destino de los cables
+	 * @return metadatos del archivo o {@code null} si no los tiene
+	 * @throws IOException si el JSON está mal formado
+	 */
+	public static Metadata leer(InputStream entrada, Consumer<Componente> componentes,
+			Consumer<PosicionComponenteDto> posiciones, Consumer<CableDto> cables) throws IOException {
+		Objects.requireNonNull(entrada, "La entrada no puede ser null");
+		try(JsonParser p=MAPPER.createParser(entrada)) {
+			p.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			return leer(p, componentes, posiciones, cables, r -> { /* Se ignoran */ });
+		}
+	}
+
+	private static Metadata leer(JsonParser p, Consumer<Componente> componentes,
+			Consumer<PosicionComponenteDto> posiciones, Consumer<CableDto> cables,
+			Consumer<ResultadosDto> resultados) throws IOException {
+		Objects.requireNonNull(componentes, "El destino de componentes no puede ser null");
+		Objects.requireNonNull(posiciones, "El destino de posiciones no puede ser null");
+		Objects.requireNonNull(cables, "El destino de cables no puede ser null");
+		esperar(p, p.nextToken(), JsonToken.START_OBJECT);
+		Metadata metadata=null;
+		while(p.nextToken()==JsonToken.FIELD_NAME) {
+			String campo=p.currentName();
+			JsonToken valor=p.nextToken();
+			switch(campo) {
+				case "metadata" -> metadata=valor==JsonToken.VALUE_NULL ? null : LECTOR_METADATA.readValue(p);
+				case "circuito" -> leerCircuito(p, componentes);
+				case "posiciones" -> leerArray(p, LECTOR_POSICION, posiciones);
+				case "cables" -> leerArray(p, LECTOR_CABLE, cables);
+				case "resultados" -> {
+					if(valor!=JsonToken.VALUE_NULL) resultados.accept(LECTOR_RESULTADOS.readValue(p));
+				}
+				default -> p.skipChildren();
+			}
+		}
+		esperar(p, p.currentToken(), JsonToken.END_OBJECT);
+		return metadata;
+	}
+
+	private static void leerCircuito(JsonParser p, Consumer<Componente> componentes) throws IOException {
+		if(p.currentToken()==JsonToken.VALUE_NULL) return;
+		esperar(p, p.currentToken(), JsonToken.START_OBJECT);
+		while(p.nextToken()==JsonToken.FIELD_NAME) {
+			String campo=p.currentName();
+			p.nextToken();
+			if("componentes".equals(campo)) {
+				leerArray(p, LECTOR_COMPONENTE, componentes);
+			} else {
+				p.skipChildren();
+			}
+		}
+	}
+
+	private static <T> void leerArray(JsonParser p, ObjectReader lector, Consumer<T> destino) throws IOException {
+		if(p.currentToken()==JsonToken.VALUE_NULL) return;
+		esperar(p, p.currentToken(), JsonToken.START_ARRAY);
+		while(p.nextToken()!=JsonToken.END_ARRAY) {
+			destino.accept(lector.<T>readValue(p));
+		}
+	}
+
+	private static void esperar(JsonParser p, JsonToken actual, JsonToken esperado) throws JsonParseException {
+		if(actual!=esperado) {
+			throw new JsonParseException(p, "Se esperaba "+esperado+" y se encontró "+actual);
+		}
+	}
+
+	/**
+	 * Escribe un archivo completo en streaming con metadatos nuevos. Las posiciones y los cables
+	 * se recorren una sola vez y se escriben según llegan. No cierra la salida.
+	 *
+	 * @param salida			Flujo de destino
+	 * @param circuito			Circuito a escribir
+	 * @param posiciones		Posiciones de los componentes
+	 * @param cables			Cables del circuito
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 * @throws IOException si falla la escritura
+	 */
+	public static void escribir(OutputStream salida, Circuito circuito, Iterable<PosicionComponenteDto> posiciones,
+			Iterable<CableDto> cables, boolean compacto) throws IOException {
+		Objects.requireNonNull(circuito, "El circuito no puede ser null");
+		escribir(salida, circuito.getComponentes(), posiciones, cables, compacto);
+	}
+
+	/**
+	 * Escribe un archivo completo en streaming a partir de los componentes sueltos (por ejemplo,
+	 * envueltos para informar del avance). No cierra la salida.
+	 *
+	 * @param salida			Flujo de destino
+	 * @param componentes		Componentes del circuito
+	 * @param posiciones		Posiciones de los componentes
+	 * @param cables			Cables del circuito
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 * @throws IOException si falla la escritura
+	 */
+	public static void escribir(OutputStream salida, Iterable<? extends Componente> componentes,
+			Iterable<PosicionComponenteDto> posiciones, Iterable<CableDto> cables, boolean compacto) throws IOException {
+		escribir(salida, componentes, posiciones, cables, null, compacto);
+	}
+
+	/**
+	 * Escribe un archivo completo con los últimos resultados de análisis. Los resultados solo
+	 * se escriben si su huella es la de los componentes; la huella se calcula mientras se
+	 * escriben, así que los componentes se recorren una sola vez. No cierra la salida.
+	 *
+	 * @param salida			Flujo de destino
+	 * @param componentes		Componentes del circuito
+	 * @param posiciones		Posiciones de los componentes
+	 * @param cables			Cables del circuito
+	 * @param resultados		Resultados de análisis ({@code null} si no hay)
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 * @throws IOException si falla la escritura
+	 */
+	public static void escribir(OutputStream salida, Iterable<? extends Componente> componentes,
+			Iterable<PosicionComponenteDto> posiciones, Iterable<CableDto> cables, ResultadosDto resultados,
+			boolean compacto) throws IOException {
+		Objects.requireNonNull(salida, "La salida no puede ser null");
+		try(JsonGenerator g=escritor(compacto).createGenerator(salida, JsonEncoding.UTF8)) {
+			g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			escribir(g, componentes, posiciones, cables, resultados, compacto);
+		}
+	}
+
+	/**
+	 * Escribe un archivo completo en streaming sobre un {@link Writer}. No cierra la salida.
+	 *
+	 * @param salida			Destino de texto
+	 * @param circuito			Circuito a escribir
+	 * @param posiciones		Posiciones de los componentes
+	 * @param cables			Cables del circuito
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 * @throws IOException si falla la escritura
+	 */
+	public static void escribir(Writer salida, Circuito circuito, Iterable<PosicionComponenteDto> posiciones,
+			Iterable<CableDto> cables, boolean compacto) throws IOException {
+		Objects.requireNonNull(salida, "La salida no puede ser null");
+		try(JsonGenerator g=escritor(compacto).createGenerator(salida)) {
+			g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			Objects.requireNonNull(circuito, "El circuito no puede ser null");
+			escribir(g, circuito.getComponentes(), posiciones, cables, null, compacto);
+		}
+	}
+
+	private static void escribir(JsonGenerator g, Iterable<? extends Componente> componentes,
+			Iterable<PosicionComponenteDto> posiciones, Iterable<CableDto> cables, ResultadosDto resultados,
+			boolean compacto) throws IOException {
+		Objects.requireNonNull(componentes, "Los componentes no pueden ser null");
+		Objects.requireNonNull(posiciones, "Las posiciones no pueden ser null");
+		Objects.requireNonNull(cables, "Los cables no pueden ser null");
+		ObjectWriter w=escritor(compacto);
+		ObjectWriter wComponente=escritorComponente(compacto);
+		g.writeStartObject();
+		g.writeFieldName("metadata");
+		w.writeValue(g, new Metadata());
+		g.writeObjectFieldStart("circuito");
+		g.writeArrayFieldStart("componentes");
+		List<String> canonicos=resultados!=null ? new ArrayList<>() : null;
+		for(Componente c:componentes) {
+			wComponente.writeValue(g, c);
+			if(canonicos!=null) canonicos.add(COMPONENTE_COMPACTO.writeValueAsString(c));
+		}
+		g.writeEndArray();
+		g.writeEndObject();
+		g.writeArrayFieldStart("posiciones");
+		for(PosicionComponenteDto p:posiciones) {
+			w.writeValue(g, p);
+		}
+		g.writeEndArray();
+		g.writeArrayFieldStart("cables");
+		for(CableDto c:cables) {
+			w.writeValue(g, c);
+		}
+		g.writeEndArray();
+		if(resultados!=null && vigentes(resultados, canonicos)) {
+			g.writeFieldName("resultados");
+			w.writeValue(g, resultados);
+		}
+		g.writeEndObject();
+	}
+
+	/**
+	 * Huella canónica de un circuito: SHA-256 de los componentes en JSON compacto (tipo, Id,
+	 * nodos, valor, carga y parámetros propios), ordenados para que no dependa del orden en
+	 * que se añadieron. Las posiciones y los cables no cuentan: moverlos no cambia el análisis.
+	 *
+	 * @param componentes		Componentes del circuito
+	 * @return huella en hexadecimal
+	 * @throws IllegalStateException si un componente no se puede serializar
+	 */
+	public static String huella(Iterable<? extends Componente> componentes) {
+		Objects.requireNonNull(componentes, "Los componentes no pueden ser null");
+		List<String> canonicos=new ArrayList<>();
+		try {
+			for(Componente c:componentes) {
+				canonicos.add(COMPONENTE_COMPACTO.writeValueAsString(c));
+			}
+		} catch(IOException e) {
+			throw new IllegalStateException("No se pudo calcular la huella del circuito", e);
+		}
+		return huella(canonicos);
+	}
+
+	private static String huella(List<String> canonicos) {
+		canonicos.sort(null);
+		MessageDigest sha;
+		try {
+			sha=MessageDigest.getInstance("SHA-256");
+		} catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 no disponible", e);
+		}
+		for(String c:canonicos) {
+			sha.update(c.getBytes(StandardCharsets.UTF_8));
+			sha.update((byte) '\n');
+		}
+		return HexFormat.of().formatHex(sha.digest());
+	}
+
+	/**
+	 * Resultados si son de estos componentes, o {@code null} si el circuito ha cambiado.
+	 */
+	private static ResultadosDto vigentes(ResultadosDto resultados, Iterable<? extends Componente> componentes) {
+		if(resultados==null || resultados.esDe(huella(componentes))) return resultados;
+		logger.info(DESCARTADOS);
+		return null;
+	}
+
+	private static boolean vigentes(ResultadosDto resultados, List<String> canonicos) {
+		if(resultados.esDe(huella(canonicos))) return true;
+		logger.info(DESCARTADOS);
+		return false;
+	}
+}
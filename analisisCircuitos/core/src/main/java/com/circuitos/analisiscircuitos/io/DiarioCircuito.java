@@ -0,0 +1,619 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.dto.Metadata;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Diario de cambios de un circuito para el autoguardado. Cada edición se añade al final del
+ * diario como un registro pequeño con el estado nuevo de lo que ha cambiado (un componente con su
+ * posición, un cable o la baja de uno de ellos), así que el coste de autoguardar es proporcional
+ * a la edición y no al tamaño del circuito.
+ * <p>
+ * Los registros se escriben en un hilo propio. El hilo junta todos los registros pendientes,
+ * los escribe de una vez y hace un solo {@code force} por lote (group commit): con muchas
+ * ediciones seguidas hay pocas sincronizaciones y ninguna espera en el hilo que edita.
+ * </p>
+ * <p>
+ * De vez en cuando se hace un punto de control: {@link #rotar()} empieza una nueva generación del
+ * diario y {@link #escribirPunto(int, EscrituraAtomica.Contenido)} guarda el circuito entero en el
+ * formato JSON normal; una vez escrito se borran el punto y los diarios anteriores. Si el proceso
+ * cae entre medias, {@link #recuperar(Path, CircuitoFileDto)} parte del último punto completo y
+ * aplica los diarios posteriores en orden. Un proyecto que no es JSON empieza con un punto de
+ * control de generación 1 ({@link #iniciar(Path, EscrituraAtomica.Contenido)}), así que nunca se
+ * recupera volviendo a leer el archivo. Los registros son estados completos, no diferencias,
+ * así que aplicar de más no cambia el resultado. Un registro cortado al final (caída a mitad de
+ * escritura) se detecta por su longitud y su CRC y se descarta con todo lo que le sigue.
+ * </p>
+ * <p>
+ * Los archivos van junto al proyecto, ocultos: {@code .proyecto.json.diario-N} y
+ * {@code .proyecto.json.punto-N.json}.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class DiarioCircuito implements Closeable {
+	private static final Logger logger=Logger.getLogger(DiarioCircuito.class.getName());
+	private static final byte PONER_COMPONENTE=1;
+	private static final byte QUITAR_COMPONENTE=2;
+	private static final byte PONER_CABLE=3;
+	private static final byte QUITAR_CABLE=4;
+	private static final int CABECERA=8;
+	private static final int MAX_REGISTRO=1<<24;
+	private static final int MAX_LOTE=1024;
+	private static final String DIARIO=".diario-";
+	private static final String PUNTO=".punto-";
+	private static final String EXTENSION_PUNTO=".json";
+	private static final Object CERRAR=new Object();
+	/** Los puntos de control y los borrados no se cruzan con el arranque de otro diario */
+	private static final Object ARCHIVOS=new Object();
+
+	private final Path directorio;
+	private final String prefijo;
+	private final BlockingQueue<Object> cola=new LinkedBlockingQueue<>();
+	private final Thread escritor;
+	private volatile IOException error;
+	private volatile boolean cerrado;
+	private int generacion=1;
+	private long registros;
+	private FileChannel canal;
+
+	private DiarioCircuito(Path proyecto, EscrituraAtomica.Contenido punto) throws IOException {
+		Path absoluto=proyecto.toAbsolutePath();
+		this.directorio=absoluto.getParent();
+		this.prefijo="."+absoluto.getFileName();
+		this.canal=abrirGeneracion(generacion);
+		if(punto!=null) cola.add(new PuntoInicial(punto));
+		this.escritor=new Thread(this::escribirPendientes, "Diario-Autoguardado");
+		escritor.setDaemon(true);
+		escritor.start();
+	}
+
+	/**
+	 * Empieza un diario nuevo para un proyecto y borra los diarios y puntos que hubiera.
+	 *
+	 * @param proyecto			Archivo del proyecto (no tiene que existir)
+	 * @return diario vacío en la generación 1
+	 * @throws IOException		si no se pueden borrar los anteriores o crear el diario
+	 */
+	public static DiarioCircuito iniciar(Path proyecto) throws IOException {
+		Objects.requireNonNull(proyecto, "El proyecto no puede ser null");
+		synchronized(ARCHIVOS) {
+			descartar(proyecto);
+			return new DiarioCircuito(proyecto, null);
+		}
+	}
+
+	/**
+	 * Empieza un diario nuevo con un punto de control de generación 1 que guarda el circuito tal
+	 * como se acaba de cargar. Es para los proyectos que no son JSON: al cargar una netlist SPICE
+	 * los componentes reciben Ids nuevos, así que aplicar el diario sobre el archivo leído otra
+	 * vez duplicaría los componentes y no quitaría ninguno. El punto se escribe en el hilo del
+	 * diario antes que cualquier registro; si falla, los registros se descartan hasta el siguiente
+	 * punto de control, como con cualquier error de escritura.
+	 *
+	 * @param proyecto			Archivo del proyecto
+	 * @param punto				Escritor del circuito cargado en JSON
+	 * @return diario vacío en la generación 1
+	 * @throws IOException		si no se pueden borrar los anteriores o crear el diario
+	 */
+	public static DiarioCircuito iniciar(Path proyecto, EscrituraAtomica.Contenido punto) throws IOException {
+		Objects.requireNonNull(proyecto, "El proyecto no puede ser null");
+		Objects.requireNonNull(punto, "El punto de control no puede ser null");
+		synchronized(ARCHIVOS) {
+			descartar(proyecto);
+			return new DiarioCircuito(proyecto, punto);
+		}
+	}
+
+	/**
+	 * Registra el estado actual de un componente (alta o modificación).
+	 *
+	 * @param componente		Componente añadido o modificado
+	 * @param posicion			Su posición en el área de dibujo ({@code null} si no tiene)
+	 */
+	public void ponerComponente(Componente componente, PosicionComponenteDto posicion) {
+		Objects.requireNonNull(componente, "El componente no puede ser null");
+		registrar(PONER_COMPONENTE, g -> {
+			CircuitoJson.COMPONENTE_COMPACTO.writeValue(g, componente);
+			CircuitoJson.ESCRITOR_COMPACTO.writeValue(g, posicion);
+		});
+	}
+
+	/**
+	 * Registra la baja de un componente.
+	 *
+	 * @param id				Id del componente eliminado
+	 */
+	public void quitarComponente(String id) {
+		Objects.requireNonNull(id, "El Id no puede ser null");
+		registrar(QUITAR_COMPONENTE, g -> g.writeString(id));
+	}
+
+	/**
+	 * Registra el estado actual de un cable (alta o modificación).
+	 *
+	 * @param cable				Cable añadido o modificado
+	 */
+	public void ponerCable(CableDto cable) {
+		Objects.requireNonNull(cable, "El cable no puede ser null");
+		registrar(PONER_CABLE, g -> CircuitoJson.ESCRITOR_COMPACTO.writeValue(g, cable));
+	}
+
+	/**
+	 * Registra la baja de un cable.
+	 *
+	 * @param id				Id del cable eliminado
+	 */
+	public void quitarCable(String id) {
+		Objects.requireNonNull(id, "El Id no puede ser null");
+		registrar(QUITAR_CABLE, g -> g.writeString(id));
+	}
+
+	/**
+	 * Número de registros desde el último punto de control, para decidir cuándo hacer otro.
+	 *
+	 * @return registros de la generación actual
+	 */
+	public long getRegistros() {
+		return registros;
+	}
+
+	/**
+	 * Último error de escritura, si lo ha habido. Tras un error los registros se descartan hasta
+	 * la siguiente rotación, cuyo punto de control ya incluye lo perdido.
+	 *
+	 * @return error o {@code null}
+	 */
+	public IOException getError() {
+		return error;
+	}
+
+	/**
+	 * Empieza una nueva generación del diario. Debe llamarse en el mismo hilo que registra y en
+	 * el mismo instante en que se toma la copia del circuito para el punto de control: lo que se
+	 * registre después va a la generación nueva.
+	 *
+	 * @return generación del punto de control que hay que escribir
+	 */
+	public int rotar() {
+		comprobarAbierto();
+		generacion++;
+		registros=0;
+		cola.add(generacion);
+		return generacion;
+	}
+
+	/**
+	 * Escribe un punto de control de forma atómica y, cuando ya está en disco, borra el punto y
+	 * los diarios anteriores. Se puede llamar desde cualquier hilo. Si el diario ya está cerrado
+	 * no se escribe nada: un diario nuevo del mismo proyecto podría haber empezado ya.
+	 *
+	 * @param generacion		Generación devuelta por {@link #rotar()}
+	 * @param contenido			Escritor del circuito completo en JSON
+	 * @throws IOException		si falla la escritura; los archivos anteriores se conservan
+	 */
+	public void escribirPunto(int generacion, EscrituraAtomica.Contenido contenido) throws IOException {
+		Objects.requireNonNull(contenido, "El contenido no puede ser null");
+		esperarEscritor();
+		synchronized(ARCHIVOS) {
+			if(cerrado) return;
+			EscrituraAtomica.escribir(ruta(PUNTO, generacion, EXTENSION_PUNTO), contenido);
+			for(Map.Entry<Integer, Path> e:listar(directorio, prefijo+PUNTO).entrySet()) {
+				if(e.getKey()<generacion) Files.deleteIfExists(e.getValue());
+			}
+			for(Map.Entry<Integer, Path> e:listar(directorio, prefijo+DIARIO).entrySet()) {
+				if(e.getKey()<generacion) Files.deleteIfExists(e.getValue());
+			}
+		}
+		logger.fine(()->"Punto de control "+generacion+" escrito en "+directorio);
+	}
+
+	/**
+	 * Espera a que todo lo registrado hasta ahora esté escrito y sincronizado en disco.
+	 *
+	 * @throws IOException		si ha fallado la escritura o se interrumpe la espera
+	 */
+	public void sincronizar() throws IOException {
+		esperarEscritor();
+		IOException e=error;
+		if(e!=null) throw e;
+	}
+	
+	private void esperarEscritor() throws InterruptedIOException {
+		if(cerrado) return;
+		CountDownLatch hecho=new CountDownLatch(1);
+		cola.add(hecho);
+		try {
+			hecho.await();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Espera del diario interrumpida");
+		}
+	}
+
+	/**
+	 * Escribe lo pendiente y cierra el diario. Los archivos se conservan para poder recuperar.
+	 */
+	@Override
+	public void close() {
+		if(cerrado) return;
+		cerrado=true;
+		cola.add(CERRAR);
+		try {
+			escritor.join();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Indica si un proyecto tiene cambios autoguardados: un punto de control posterior al
+	 * inicial o un diario con registros.
+	 *
+	 * @param proyecto			Archivo del proyecto
+	 * @return {@code true} si hay algo que recuperar
+	 * @throws IOException		si no se puede listar el directorio
+	 */
+	public static boolean hayCambios(Path proyecto) throws IOException {
+		Path absoluto=proyecto.toAbsolutePath();
+		String prefijo="."+absoluto.getFileName();
+		TreeMap<Integer, Path> puntos=listar(absoluto.getParent(), prefijo+PUNTO);
+		if(!puntos.isEmpty() && puntos.lastKey()>1) return true;
+		for(Path diario:listar(absoluto.getParent(), prefijo+DIARIO).values()) {
+			if(Files.size(diario)>0) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Reconstruye el circuito autoguardado: parte del último punto de control (o de la base si no
+	 * hay ninguno) y aplica en orden los diarios posteriores.
+	 *
+	 * @param proyecto			Archivo del proyecto
+	 * @param base				Contenido del proyecto guardado ({@code null} si no existe)
+	 * @return circuito recuperado, con posiciones y cables
+	 * @throws IOException		si no se puede leer el punto de control o un diario
+	 */
+	public static CircuitoFileDto recuperar(Path proyecto, CircuitoFileDto base) throws IOException {
+		Objects.requireNonNull(proyecto, "El proyecto no puede ser null");
+		long t0=System.nanoTime();
+		Path absoluto=proyecto.toAbsolutePath();
+		Path directorio=absoluto.getParent();
+		String prefijo="."+absoluto.getFileName();
+		TreeMap<Integer, Path> puntos=listar(directorio, prefijo+PUNTO);
+		int desde=0;
+		CircuitoFileDto inicio=base;
+		if(!puntos.isEmpty()) {
+			desde=puntos.lastKey();
+			try(InputStream entrada=new BufferedInputStream(Files.newInputStream(puntos.lastEntry().getValue()))) {
+				inicio=CircuitoJson.leer(entrada);
+			}
+		}
+		Estado estado=new Estado(inicio);
+		int aplicados=0;
+		for(Map.Entry<Integer, Path> e:listar(directorio, prefijo+DIARIO).tailMap(desde, true).entrySet()) {
+			aplicados+=estado.aplicar(e.getValue());
+		}
+		int total=aplicados;
+		logger.info(()->String.format("Autoguardado recuperado de %s: %d registros en %.1f ms",
+				absoluto.getFileName(), total, (System.nanoTime()-t0)/1e6));
+		return estado.aArchivo(inicio);
+	}
+
+	/**
+	 * Borra los diarios y puntos de control de un proyecto.
+	 *
+	 * @param proyecto			Archivo del proyecto
+	 * @throws IOException		si no se puede borrar alguno
+	 */
+	public static void descartar(Path proyecto) throws IOException {
+		Path absoluto=proyecto.toAbsolutePath();
+		String prefijo="."+absoluto.getFileName();
+		synchronized(ARCHIVOS) {
+			for(String tipo:List.of(PUNTO, DIARIO)) {
+				for(Path p:listar(absoluto.getParent(), prefijo+tipo).values()) {
+					Files.deleteIfExists(p);
+				}
+			}
+		}
+	}
+
+	/* Escritura */
+
+	@FunctionalInterface
+	private interface Carga {
+		void escribir(JsonGenerator g) throws IOException;
+	}
+
+	/** Punto de control de generación 1 que el escritor guarda antes del primer registro */
+	private record PuntoInicial(EscrituraAtomica.Contenido contenido) { }
+
+	/**
+	 * Codifica el registro en el hilo que llama y lo deja en la cola del escritor.
+	 * Formato: longitud (int), CRC32C (int), tipo (byte) y carga JSON; la longitud y el CRC
+	 * cubren tipo y carga.
+	 */
+	private void registrar(byte tipo, Carga carga) {
+		comprobarAbierto();
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream(256);
+		try {
+			bytes.write(new byte[CABECERA]);
+			bytes.write(tipo);
+			try(JsonGenerator g=CircuitoJson.MAPPER.getFactory().createGenerator(bytes)) {
+				carga.escribir(g);
+			}
+		} catch(IOException e) {
+			throw new IllegalStateException("No se pudo codificar el registro del diario", e);
+		}
+		ByteBuffer registro=ByteBuffer.wrap(bytes.toByteArray());
+		int longitud=registro.capacity()-CABECERA;
+		CRC32C crc=new CRC32C();
+		crc.update(registro.array(), CABECERA, longitud);
+		registro.putInt(0, longitud).putInt(4, (int) crc.getValue());
+		registros++;
+		cola.add(registro);
+	}
+
+	private void comprobarAbierto() {
+		if(cerrado) throw new IllegalStateException("El diario está cerrado");
+	}
+
+	/**
+	 * Bucle del hilo escritor: toma todo lo pendiente, lo escribe y sincroniza una vez por lote.
+	 */
+	private void escribirPendientes() {
+		List<Object> lote=new ArrayList<>();
+		try {
+			boolean seguir=true;
+			while(seguir) {
+				lote.add(cola.take());
+				cola.drainTo(lote, MAX_LOTE-1);
+				seguir=procesar(lote);
+				lote.clear();
+			}
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			cerrarCanal();
+		}
+	}
+
+	private boolean procesar(List<Object> lote) {
+		List<ByteBuffer> pendientes=new ArrayList<>();
+		for(Object o:lote) {
+			if(o instanceof ByteBuffer registro) {
+				pendientes.add(registro);
+				continue;
+			}
+			volcar(pendientes);
+			if(o instanceof Integer nueva) {
+				cerrarCanal();
+				try {
+					canal=abrirGeneracion(nueva);
+					error=null;
+				} catch(IOException e) {
+					fallo(e);
+				}
+			} else if(o instanceof PuntoInicial inicial) {
+				escribirPuntoInicial(inicial.contenido());
+			} else if(o instanceof CountDownLatch hecho) {
+				hecho.countDown();
+			} else if(o==CERRAR) {
+				return false;
+			}
+		}
+		volcar(pendientes);
+		return true;
+	}
+
+	private void volcar(List<ByteBuffer> pendientes) {
+		if(pendientes.isEmpty()) return;
+		try {
+			if(canal==null) throw new IOException("Diario no disponible");
+			if(error==null) {
+				ByteBuffer[] datos=pendientes.toArray(ByteBuffer[]::new);
+				long restante=0;
+				for(ByteBuffer b:datos) restante+=b.remaining();
+				while(restante>0) restante-=canal.write(datos);
+				canal.force(false);
+			}
+		} catch(IOException e) {
+			fallo(e);
+		}
+		pendientes.clear();
+	}
+
+	private void escribirPuntoInicial(EscrituraAtomica.Contenido contenido) {
+		try {
+			synchronized(ARCHIVOS) {
+				EscrituraAtomica.escribir(ruta(PUNTO, 1, EXTENSION_PUNTO), contenido);
+			}
+			logger.fine(()->"Punto de control inicial escrito en "+directorio);
+		} catch(IOException e) {
+			fallo(e);
+		}
+	}
+
+	private void fallo(IOException e) {
+		if(error==null) logger.log(Level.SEVERE, "Error escribiendo el diario de autoguardado", e);
+		error=e;
+	}
+
+	private FileChannel abrirGeneracion(int n) throws IOException {
+		FileChannel nuevo=FileChannel.open(ruta(DIARIO, n, ""), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		EscrituraAtomica.sincronizarDirectorio(directorio);
+		return nuevo;
+	}
+
+	private void cerrarCanal() {
+		if(canal==null) return;
+		try {
+			canal.close();
+		} catch(IOException e) {
+			logger.log(Level.WARNING, "No se pudo cerrar el diario", e);
+		}
+		canal=null;
+	}
+
+	private Path ruta(String tipo, int n, String extension) {
+		return directorio.resolve(prefijo+tipo+n+extension);
+	}
+
+	/**
+	 * Archivos de un tipo (diario o punto) ordenados por generación.
+	 */
+	private static TreeMap<Integer, Path> listar(Path directorio, String prefijo) throws IOException {
+		TreeMap<Integer, Path> archivos=new TreeMap<>();
+		if(directorio==null || !Files.isDirectory(directorio)) return archivos;
+		try(Stream<Path> lista=Files.list(directorio)) {
+			lista.forEach(p -> {
+				String nombre=p.getFileName().toString();
+				if(!nombre.startsWith(prefijo)) return;
+				String resto=nombre.substring(prefijo.length());
+				if(resto.endsWith(EXTENSION_PUNTO)) resto=resto.substring(0, resto.length()-EXTENSION_PUNTO.length());
+				try {
+					archivos.put(Integer.parseInt(resto), p);
+				} catch(NumberFormatException e) {
+					logger.finest(()->"Ignorado en autoguardado: "+nombre);
+				}
+			});
+		}
+		return archivos;
+	}
+
+	/* Recuperación */
+
+	/**
+	 * Estado del circuito mientras se aplican los registros, por Id y en el orden original.
+	 */
+	private static final class Estado {
+		private final Map<String, Componente> componentes=new LinkedHashMap<>();
+		private final Map<String, PosicionComponenteDto> posiciones=new LinkedHashMap<>();
+		private final Map<String, CableDto> cables=new LinkedHashMap<>();
+
+		Estado(CircuitoFileDto base) {
+			if(base==null) return;
+			if(base.circuito()!=null) {
+				for(Componente c:base.circuito().getComponentes()) componentes.put(c.getId(), c);
+			}
+			if(base.posiciones()!=null) {
+				for(PosicionComponenteDto p:base.posiciones()) posiciones.put(p.componenteId(), p);
+			}
+			if(base.cables()!=null) {
+				for(CableDto c:base.cables()) cables.put(c.id(), c);
+			}
+		}
+
+		/**
+		 * Aplica los registros válidos de un diario y se detiene en el primero cortado o dañado.
+		 *
+		 * @return registros aplicados
+		 */
+		int aplicar(Path diario) throws IOException {
+			int aplicados=0;
+			try(DataInputStream entrada=new DataInputStream(new BufferedInputStream(Files.newInputStream(diario), 1<<16))) {
+				while(true) {
+					int longitud;
+					try {
+						longitud=entrada.readInt();
+					} catch(EOFException e) {
+						break;
+					}
+					int crc;
+					byte[] datos;
+					try {
+						crc=entrada.readInt();
+						if(longitud<1 || longitud>MAX_REGISTRO) throw new EOFException("Longitud no válida: "+longitud);
+						datos=new byte[longitud];
+						entrada.readFully(datos);
+					} catch(EOFException e) {
+						logger.warning("Registro cortado al final de "+diario.getFileName()+"; se descarta");
+						break;
+					}
+					CRC32C calculado=new CRC32C();
+					calculado.update(datos);
+					if((int) calculado.getValue()!=crc) {
+						logger.warning("Registro dañado en "+diario.getFileName()+"; se descarta el resto");
+						break;
+					}
+					aplicar(datos);
+					aplicados++;
+				}
+			}
+			return aplicados;
+		}
+
+		private void aplicar(byte[] datos) throws IOException {
+			try(JsonParser p=CircuitoJson.MAPPER.getFactory().createParser(datos, 1, datos.length-1)) {
+				switch(datos[0]) {
+					case PONER_COMPONENTE -> {
+						Componente c=CircuitoJson.LECTOR_COMPONENTE.readValue(p);
+						p.nextToken();
+						PosicionComponenteDto pos=CircuitoJson.LECTOR_POSICION.readValue(p);
+						componentes.put(c.getId(), c);
+						if(pos!=null) posiciones.put(c.getId(), pos);
+					}
+					case QUITAR_COMPONENTE -> {
+						p.nextToken();
+						String id=p.getText();
+						componentes.remove(id);
+						posiciones.remove(id);
+					}
+					case PONER_CABLE -> {
+						CableDto c=CircuitoJson.LECTOR_CABLE.readValue(p);
+						cables.put(c.id(), c);
+					}
+					case QUITAR_CABLE -> {
+						p.nextToken();
+						cables.remove(p.getText());
+					}
+					default -> throw new IOException("Tipo de registro desconocido: "+datos[0]);
+				}
+			}
+		}
+
+		CircuitoFileDto aArchivo(CircuitoFileDto base) {
+			Circuito circuito=new CircuitoBuilder(componentes.size()).conTodos(componentes.values()).construir();
+			List<CableDto> reparados=CableNodeRepairUtil.repairCables(new ArrayList<>(cables.values()));
+			Metadata metadata=base!=null && base.metadata()!=null ? base.metadata() : new Metadata();
+			return new CircuitoFileDto(metadata, circuito,
+					new ArrayList<>(posiciones.values()), reparados);
+		}
+	}
+}
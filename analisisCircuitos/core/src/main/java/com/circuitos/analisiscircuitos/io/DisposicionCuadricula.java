@@ -0,0 +1,123 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dominio.util.GestorIds;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
+import com.circuitos.analisiscircuitos.dto.PuntoDto;
+
+/**
+ * Coloca en una cuadrícula los componentes que llegan sin posiciones (una netlist SPICE
+ * importada o un circuito del generador sintético) y los cablea sobre la marcha.
+ * <p>
+ * Cada componente ocupa una celda con rotación 0 y sus terminales quedan donde los pone el
+ * editor (pasivos horizontales con el positivo a la derecha, fuentes verticales con el positivo
+ * arriba). Los terminales de un mismo nodo se encadenan: cada terminal nuevo se une con un cable
+ * en L al último terminal visto en ese nodo. Solo se guarda el último terminal de cada nodo,
+ * así que la memoria crece con los nodos y no con los componentes.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class DisposicionCuadricula {
+	private static final String ID_PREFIX="Cable-";
+	private static final int COLUMNAS=50;
+	private static final double ANCHO_CELDA=200.0;
+	private static final double ALTO_CELDA=160.0;
+
+	private final Consumer<PosicionComponenteDto> posiciones;
+	private final Consumer<CableDto> cables;
+	private String[] ultimoId=new String[64];
+	private PosicionConexion[] ultimaPos=new PosicionConexion[64];
+	private boolean[] ultimoPositivo=new boolean[64];
+	private double[] ultimoX=new double[64];
+	private double[] ultimoY=new double[64];
+	private long colocados;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param posiciones		Destino de las posiciones de los componentes
+	 * @param cables			Destino de los cables
+	 */
+	public DisposicionCuadricula(Consumer<PosicionComponenteDto> posiciones, Consumer<CableDto> cables) {
+		this.posiciones=posiciones;
+		this.cables=cables;
+	}
+
+	/**
+	 * Coloca un componente en la siguiente celda y cablea sus terminales.
+	 *
+	 * @param c					Componente generado
+	 */
+	public void colocar(Componente c) {
+		double x=ANCHO_CELDA*(colocados%COLUMNAS);
+		double y=ALTO_CELDA*(colocados/COLUMNAS);
+		colocados++;
+		posiciones.accept(new PosicionComponenteDto(c.getId(), x, y, 0));
+		if(c instanceof Tierra) {
+			// 60x90, un único terminal arriba
+			conectar(c, c.getNodo1(), PosicionConexion.ARRIBA, true, x+30.0, y+45.0-33.0);
+		} else if(c instanceof FuenteDependiente || c instanceof FuenteTensionInd || c instanceof FuenteCorrienteInd) {
+			// 90x110, vertical
+			conectar(c, c.getNodo1(), PosicionConexion.ABAJO, false, x+45.0, y+55.0+43.0);
+			conectar(c, c.getNodo2(), PosicionConexion.ARRIBA, true, x+45.0, y+55.0-45.0);
+		} else {
+			// 140x60, horizontal
+			conectar(c, c.getNodo1(), PosicionConexion.IZQUIERDA, false, x+70.0-56.0, y+30.0);
+			conectar(c, c.getNodo2(), PosicionConexion.DERECHA, true, x+70.0+56.0, y+30.0);
+		}
+	}
+
+	/**
+	 * Une un terminal con el último terminal del mismo nodo y pasa a ser el último.
+	 *
+	 * @param c					Componente del terminal
+	 * @param nodo				Nodo del terminal
+	 * @param pos				Lado del componente en el que está el terminal
+	 * @param positivo			Si es el terminal positivo
+	 * @param x					Coordenada X del terminal
+	 * @param y					Coordenada Y del terminal
+	 */
+	private void conectar(Componente c, int nodo, PosicionConexion pos, boolean positivo, double x, double y) {
+		asegurarCapacidad(nodo);
+		if(ultimoId[nodo]!=null) {
+			cables.accept(new CableDto(GestorIds.getInstance().generarId(ID_PREFIX),
+					ultimoId[nodo], ultimaPos[nodo], ultimoPositivo[nodo], nodo,
+					c.getId(), pos, positivo, nodo,
+					List.of(new PuntoDto(ultimoX[nodo], ultimoY[nodo]),
+							new PuntoDto(x, ultimoY[nodo]),
+							new PuntoDto(x, y))));
+		}
+		ultimoId[nodo]=c.getId();
+		ultimaPos[nodo]=pos;
+		ultimoPositivo[nodo]=positivo;
+		ultimoX[nodo]=x;
+		ultimoY[nodo]=y;
+	}
+
+	/**
+	 * Amplía las tablas del último terminal de cada nodo si el nodo no cabe.
+	 *
+	 * @param nodo				Nodo que se va a usar como índice
+	 */
+	private void asegurarCapacidad(int nodo) {
+		if(nodo<ultimoId.length) return;
+		int capacidad=Math.max(nodo+1, ultimoId.length*2);
+		ultimoId=Arrays.copyOf(ultimoId, capacidad);
+		ultimaPos=Arrays.copyOf(ultimaPos, capacidad);
+		ultimoPositivo=Arrays.copyOf(ultimoPositivo, capacidad);
+		ultimoX=Arrays.copyOf(ultimoX, capacidad);
+		ultimoY=Arrays.copyOf(ultimoY, capacidad);
+	}
+}
@@ -0,0 +1,200 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Bobina;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente.ControlType;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+
+/**
+ * Exporta un {@link Circuito} como netlist SPICE ({@code .cir}) que {@link LectorSpice} vuelve a
+ * leer con el mismo comportamiento.
+ * <p>
+ * Cada componente es una tarjeta cuyo nombre es su Id (con la letra SPICE delante si hace
+ * falta). El nodo de la tierra se escribe como {@code 0}. Las fuentes controladas por corriente
+ * usan el mismo control que el solver: una fuente de tensión independiente entre los nodos de
+ * control (tarjeta H) o, si no la hay, la resistencia entre ellos, que se convierte en una fuente
+ * controlada por tensión con la ganancia dividida entre la resistencia (tarjetas E y G).
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class EscritorSpice {
+	private static final Logger logger=Logger.getLogger(EscritorSpice.class.getName());
+	/** Extensión por defecto de las netlists exportadas */
+	public static final String EXTENSION=".cir";
+
+	private EscritorSpice() { /* Solo métodos estáticos */ }
+
+	/**
+	 * Exporta el circuito a un archivo en UTF-8 de forma atómica ({@link EscrituraAtomica}). El
+	 * título es el nombre del archivo.
+	 *
+	 * @param archivo					Archivo de destino
+	 * @param circuito					Circuito a exportar
+	 * @throws IOException				si falla la escritura
+	 * @throws IllegalStateException	si una fuente controlada por corriente no tiene control
+	 */
+	public static void escribir(Path archivo, Circuito circuito) throws IOException {
+		Objects.requireNonNull(archivo, "El archivo no puede ser null");
+		String titulo=archivo.getFileName().toString();
+		EscrituraAtomica.escribir(archivo, salida -> {
+			Writer texto=new OutputStreamWriter(salida, StandardCharsets.UTF_8);
+			escribir(texto, circuito, titulo);
+		});
+	}
+
+	/**
+	 * Exporta el circuito. No cierra el destino.
+	 *
+	 * @param salida					Destino de la netlist
+	 * @param circuito					Circuito a exportar
+	 * @param titulo					Primera línea de la netlist
+	 * @throws IOException				si falla la escritura
+	 * @throws IllegalStateException	si una fuente controlada por corriente no tiene control
+	 */
+	public static void escribir(Writer salida, Circuito circuito, String titulo) throws IOException {
+		Objects.requireNonNull(salida, "La salida no puede ser null");
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		long t0=System.nanoTime();
+		int tierra=circuito.getComponentes().stream()
+				.filter(Tierra.class::isInstance)
+				.mapToInt(Componente::getNodo1)
+				.findFirst().orElse(0);
+		Map<Long, Componente> tensionesControl=new LinkedHashMap<>();
+		Map<String, Double> resistenciasControl=new LinkedHashMap<>();
+		for(Componente c:circuito.getComponentes()) {
+			if(c instanceof FuenteTensionInd) {
+				tensionesControl.putIfAbsent(par(c.getNodo1(), c.getNodo2()), c);
+			} else if(c instanceof Resistencia) {
+				resistenciasControl.putIfAbsent(clave(c.getNodo1(), c.getNodo2()), c.getValor());
+			}
+		}
+		Map<String, Diodo> modelos=new LinkedHashMap<>();
+		salida.write(titulo==null || titulo.isBlank() ? "ThevenApp" : titulo.strip().replace('\n', ' '));
+		salida.write('\n');
+		int tarjetas=0;
+		for(Componente c:circuito.getComponentes()) {
+			if(c instanceof Tierra) continue;
+			String n1=nodo(c.getNodo1(), tierra);
+			String n2=nodo(c.getNodo2(), tierra);
+			String linea;
+			if(c instanceof Resistencia) {
+				linea=tarjeta('R', c, n1, n2, numero(c.getValor()));
+			} else if(c instanceof Condensador) {
+				linea=tarjeta('C', c, n1, n2, numero(c.getValor()));
+			} else if(c instanceof Bobina) {
+				linea=tarjeta('L', c, n1, n2, numero(c.getValor()));
+			} else if(c instanceof Diodo d) {
+				String modelo="DM"+(modelos.size()+1);
+				for(Map.Entry<String, Diodo> e:modelos.entrySet()) {
+					if(e.getValue().getValor()==d.getValor() && e.getValue().getEmision()==d.getEmision()) modelo=e.getKey();
+				}
+				modelos.putIfAbsent(modelo, d);
+				linea=tarjeta('D', c, n1, n2, modelo);
+			} else if(c instanceof FuenteTensionInd) {
+				linea=tarjeta('V', c, n2, n1, "DC "+numero(c.getValor()));
+			} else if(c instanceof FuenteCorrienteInd) {
+				linea=tarjeta('I', c, n1, n2, "DC "+numero(c.getValor()));
+			} else if(c instanceof FuenteTensionDependiente f) {
+				String cPos=nodo(f.getCtrlPos(), tierra);
+				String cNeg=nodo(f.getCtrlNeg(), tierra);
+				if(f.getControlType()==ControlType.TENSION) {
+					linea=tarjeta('E', c, n2, n1, cPos+" "+cNeg+" "+numero(c.getValor()));
+				} else {
+					Componente fuente=tensionesControl.get(par(f.getCtrlNeg(), f.getCtrlPos()));
+					if(fuente!=null) {
+						linea=tarjeta('H', c, n2, n1, nombre('V', fuente)+" "+numero(c.getValor()));
+					} else {
+						double r=resistenciaControl(resistenciasControl, f);
+						if(Double.isNaN(r)) {
+							throw new IllegalStateException("No existe componente de control para "+c.getId());
+						}
+						linea=tarjeta('E', c, n2, n1, cNeg+" "+cPos+" "+numero(c.getValor()/r));
+					}
+				}
+			} else if(c instanceof FuenteCorrienteDependiente f) {
+				String cPos=nodo(f.getCtrlPos(), tierra);
+				String cNeg=nodo(f.getCtrlNeg(), tierra);
+				if(f.getControlType()==ControlType.TENSION) {
+					linea=tarjeta('G', c, n1, n2, cPos+" "+cNeg+" "+numero(c.getValor()));
+				} else {
+					double r=resistenciaControl(resistenciasControl, f);
+					linea=Double.isNaN(r)
+							? "* "+c.getId()+" omitida: sin resistencia de control"
+							: tarjeta('G', c, n1, n2, cPos+" "+cNeg+" "+numero(c.getValor()/r));
+				}
+			} else {
+				linea="* "+c.getId()+" omitido: "+c.getTipo();
+			}
+			salida.write(linea);
+			salida.write('\n');
+			tarjetas++;
+		}
+		for(Map.Entry<String, Diodo> e:modelos.entrySet()) {
+			salida.write(".model "+e.getKey()+" D(IS="+numero(e.getValue().getValor())
+					+" N="+numero(e.getValue().getEmision())+")\n");
+		}
+		salida.write(".end\n");
+		salida.flush();
+		int total=tarjetas;
+		logger.info(()->String.format("Netlist SPICE exportada: %d tarjetas en %.1f ms",
+				total, (System.nanoTime()-t0)/1e6));
+	}
+
+	/**
+	 * Nombre SPICE del nodo: la tierra pasa a ser {@code 0} y, si estaba en otro nodo, el 0
+	 * original toma su número para no mezclarse.
+	 */
+	private static String nodo(int nodo, int tierra) {
+		if(nodo==tierra) return "0";
+		if(nodo==0) return Integer.toString(tierra);
+		return Integer.toString(nodo);
+	}
+
+	private static String tarjeta(char letra, Componente c, String a, String b, String resto) {
+		return nombre(letra, c)+" "+a+" "+b+" "+resto;
+	}
+
+	private static String nombre(char letra, Componente c) {
+		String id=c.getId().replace(' ', '_');
+		return Character.toUpperCase(id.charAt(0))==letra ? id : letra+id;
+	}
+
+	private static String numero(double valor) {
+		return Double.toString(valor).toLowerCase(Locale.ROOT);
+	}
+
+	private static long par(int negativo, int positivo) {
+		return ((long) negativo<<32) | (positivo & 0xffffffffL);
+	}
+
+	private static String clave(int a, int b) {
+		return Math.min(a, b)+":"+Math.max(a, b);
+	}
+
+	private static double resistenciaControl(Map<String, Double> resistencias, FuenteDependiente f) {
+		Double r=resistencias.get(clave(f.getCtrlNeg(), f.getCtrlPos()));
+		return r==null ? Double.NaN : r;
+	}
+}
@@ -0,0 +1,101 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Escritura atómica de archivos: el contenido se escribe en un temporal del mismo directorio,
+ * se fuerza a disco y se renombra sobre el destino. Si el proceso se interrumpe a mitad (fallo,
+ * cancelación o cierre de la aplicación) el archivo anterior queda intacto y el temporal se borra.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class EscrituraAtomica {
+	private static final Logger logger=Logger.getLogger(EscrituraAtomica.class.getName());
+	private static final int BUFFER=1<<16;
+
+	/**
+	 * Contenido que se escribe en el archivo.
+	 */
+	@FunctionalInterface
+	public interface Contenido {
+		/**
+		 * Escribe el contenido. No debe cerrar la salida.
+		 *
+		 * @param salida			Salida con búfer hacia el temporal
+		 * @throws IOException		si falla la escritura
+		 */
+		void escribir(OutputStream salida) throws IOException;
+	}
+
+	private EscrituraAtomica() { /* Solo métodos estáticos */ }
+
+	/**
+	 * Escribe un archivo de forma atómica.
+	 *
+	 * @param destino			Archivo de destino (se sustituye si existe)
+	 * @param contenido			Escritor del contenido
+	 * @throws IOException		si falla la escritura o el renombrado; el destino no cambia
+	 */
+	public static void escribir(Path destino, Contenido contenido) throws IOException {
+		Objects.requireNonNull(destino, "El archivo de destino no puede ser null");
+		Objects.requireNonNull(contenido, "El contenido no puede ser null");
+		Path absoluto=destino.toAbsolutePath();
+		Path directorio=absoluto.getParent();
+		Path temporal=directorio.resolve("."+absoluto.getFileName()+"."+UUID.randomUUID()+".tmp");
+		boolean terminado=false;
+		try {
+			try(FileChannel canal=FileChannel.open(temporal, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+					OutputStream salida=new BufferedOutputStream(Channels.newOutputStream(canal), BUFFER)) {
+				contenido.escribir(salida);
+				salida.flush();
+				canal.force(true);
+			}
+			mover(temporal, absoluto);
+			terminado=true;
+		} finally {
+			if(!terminado) {
+				try {
+					Files.deleteIfExists(temporal);
+				} catch(IOException e) {
+					logger.log(Level.WARNING, "No se pudo borrar el temporal "+temporal, e);
+				}
+			}
+		}
+		sincronizarDirectorio(directorio);
+	}
+
+	private static void mover(Path temporal, Path destino) throws IOException {
+		try {
+			Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch(AtomicMoveNotSupportedException e) {
+			logger.fine(()->"Renombrado atómico no soportado en "+destino.getParent());
+			Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Fuerza a disco la entrada del directorio para que el renombrado sobreviva a un corte. No
+	 * todos los sistemas permiten abrir un directorio; en ese caso se omite.
+	 */
+	static void sincronizarDirectorio(Path directorio) {
+		try(FileChannel canal=FileChannel.open(directorio, StandardOpenOption.READ)) {
+			canal.force(true);
+		} catch(IOException | UnsupportedOperationException e) {
+			logger.log(Level.FINEST, "Sin sincronización del directorio {0}", directorio);
+		}
+	}
+}
@@ -0,0 +1,318 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dominio.util.NodeMapUtil;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.PuntoDto;
+
+/**
+ * Reconstruye los nodos eléctricos de un circuito guardado a partir de la geometría de los cables,
+ * sin interfaz gráfica. Cada pin de componente y cada extremo de cable es un elemento de una
+ * estructura union-find: un cable une sus dos extremos, un extremo conectado a un componente se
+ * une a su pin, y los extremos que quedan a menos de {@link #TOLERANCIA} se unen con una tabla
+ * hash espacial de celdas (igual que la fusión de puntos cercanos del editor). Todo el proceso es
+ * lineal en el número de componentes y cables.
+ * <p>
+ * La numeración respeta la guardada siempre que sea coherente: la red de tierra es el nodo 0, cada
+ * red conserva el nodo que ya tenía su primer pin si nadie lo ha cogido antes, y al resto se le
+ * dan los números libres más bajos. En un archivo sano el resultado es la misma asignación que
+ * tenía; en uno con nodos huérfanos o desfasados, la que dibujan los cables.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class ExtractorRedes {
+	private static final Logger logger=Logger.getLogger(ExtractorRedes.class.getName());
+	/** Distancia máxima (px) entre dos extremos de cable para considerarlos el mismo punto */
+	public static final double TOLERANCIA=10.0;
+
+	private ExtractorRedes() { /* NO INSTANCIABLE */ }
+
+	/**
+	 * Extrae las redes con la tolerancia por defecto.
+	 *
+	 * @param componentes		Componentes del circuito
+	 * @param cables			Cables guardados
+	 * @return nodos de cada componente
+	 */
+	public static Redes extraer(Iterable<? extends Componente> componentes, List<CableDto> cables) {
+		return extraer(componentes, cables, TOLERANCIA);
+	}
+
+	/**
+	 * Extrae las redes de un circuito guardado.
+	 *
+	 * @param componentes		Componentes del circuito
+	 * @param cables			Cables guardados
+	 * @param tolerancia		Distancia máxima entre extremos que se unen
+	 * @return nodos de cada componente
+	 * @throws IllegalArgumentException si la tolerancia no es positiva
+	 */
+	public static Redes extraer(Iterable<? extends Componente> componentes, List<CableDto> cables, double tolerancia) {
+		Objects.requireNonNull(componentes, "Los componentes no pueden ser null");
+		Objects.requireNonNull(cables, "Los cables no pueden ser null");
+		if(!(tolerancia>0.0)) throw new IllegalArgumentException("La tolerancia debe ser positiva: "+tolerancia);
+
+		List<Componente> lista=new ArrayList<>();
+		componentes.forEach(lista::add);
+		int n=lista.size();
+		Map<String, Integer> indice=new HashMap<>(n*2);
+		for(int i=0; i<n; i++) {
+			indice.put(lista.get(i).getId(), i);
+		}
+
+		// Elementos: pin negativo (2i) y positivo (2i+1) de cada componente, y los dos extremos de cada cable
+		UnionFind uf=new UnionFind(2*n+2*cables.size());
+		for(int i=0; i<n; i++) {
+			if(lista.get(i) instanceof Tierra) uf.unir(2*i, 2*i+1);
+		}
+		RejillaEspacial rejilla=new RejillaEspacial(tolerancia, uf);
+		int base=2*n;
+		for(CableDto cable : cables) {
+			int origen=base++;
+			int destino=base++;
+			uf.unir(origen, destino);
+			boolean origenEnPin=conectarPin(uf, indice, origen, cable.origenId(), cable.origenPositivo());
+			boolean destinoEnPin=conectarPin(uf, indice, destino, cable.destinoId(), cable.destinoPositivo());
+			List<PuntoDto> pts=cable.puntos();
+			if(pts==null || pts.isEmpty()) continue;
+			rejilla.registrar(origen, pts.get(0), origenEnPin);
+			rejilla.registrar(destino, pts.get(pts.size()-1), destinoEnPin);
+		}
+
+		Redes redes=numerar(lista, indice, uf);
+		logger.fine(()->String.format("Redes extraídas: %d componentes, %d cables, %d nodos",
+				n, cables.size(), redes.getNumNodos()));
+		return redes;
+	}
+
+	/**
+	 * Une el extremo de un cable con el pin del componente al que está conectado.
+	 *
+	 * @return {@code true} si el extremo está en un pin de un componente conocido
+	 */
+	private static boolean conectarPin(UnionFind uf, Map<String, Integer> indice, int extremo,
+			String componenteId, boolean positivo) {
+		if(componenteId==null) return false;
+		Integer i=indice.get(componenteId);
+		if(i==null) {
+			logger.fine(()->"Cable conectado a un componente que no existe: "+componenteId);
+			return false;
+		}
+		uf.unir(extremo, positivo ? 2*i+1 : 2*i);
+		return true;
+	}
+
+	/**
+	 * Da un número a cada red: 0 a la de tierra, el guardado del primer pin si está libre y, al
+	 * resto, el número libre más bajo.
+	 */
+	private static Redes numerar(List<Componente> lista, Map<String, Integer> indice, UnionFind uf) {
+		int n=lista.size();
+		Map<Integer, Integer> nodoDeRed=new HashMap<>();
+		Map<Integer, Integer> redDeNodo=new HashMap<>();
+		for(int i=0; i<n; i++) {
+			if(lista.get(i) instanceof Tierra) {
+				int red=uf.raiz(2*i);
+				nodoDeRed.putIfAbsent(red, 0);
+				redDeNodo.putIfAbsent(0, red);
+			}
+		}
+		for(int p=0; p<2*n; p++) {
+			int red=uf.raiz(p);
+			if(nodoDeRed.containsKey(red)) continue;
+			Componente c=lista.get(p/2);
+			int guardado=p%2==0 ? c.getNodo1() : c.getNodo2();
+			if(guardado>=0 && !redDeNodo.containsKey(guardado)) {
+				nodoDeRed.put(red, guardado);
+				redDeNodo.put(guardado, red);
+			} else {
+				nodoDeRed.put(red, -1);
+			}
+		}
+		int libre=0;
+		int[] nodos=new int[2*n];
+		for(int p=0; p<2*n; p++) {
+			int red=uf.raiz(p);
+			int nodo=nodoDeRed.get(red);
+			if(nodo<0) {
+				while(redDeNodo.containsKey(libre)) libre++;
+				nodo=libre;
+				nodoDeRed.put(red, nodo);
+				redDeNodo.put(nodo, red);
+			}
+			nodos[p]=nodo;
+		}
+		return new Redes(indice, nodos, redDeNodo.size());
+	}
+
+	/**
+	 * Nodos de cada componente obtenidos de los cables.
+	 */
+	public static final class Redes {
+		private final Map<String, Integer> indice;
+		private final int[] nodos;
+		private final int numNodos;
+
+		private Redes(Map<String, Integer> indice, int[] nodos, int numNodos) {
+			this.indice=indice;
+			this.nodos=nodos;
+			this.numNodos=numNodos;
+		}
+
+		/**
+		 * Nodo del pin negativo de un componente.
+		 *
+		 * @param id				Id del componente
+		 * @return nodo 1 del componente
+		 * @throws IllegalArgumentException si el componente no estaba en el circuito
+		 */
+		public int nodo1(String id) {
+			return nodos[2*posicion(id)];
+		}
+
+		/**
+		 * Nodo del pin positivo de un componente.
+		 *
+		 * @param id				Id del componente
+		 * @return nodo 2 del componente
+		 * @throws IllegalArgumentException si el componente no estaba en el circuito
+		 */
+		public int nodo2(String id) {
+			return nodos[2*posicion(id)+1];
+		}
+
+		/**
+		 * Devuelve el número de nodos distintos, incluidos los de pines sin conectar.
+		 *
+		 * @return número de nodos
+		 */
+		public int getNumNodos() {
+			return numNodos;
+		}
+
+		/**
+		 * Asigna a los componentes del circuito los nodos extraídos y actualiza su mapa de nodos.
+		 * Los componentes que no estaban al extraer no se tocan.
+		 *
+		 * @param circuito			Circuito con los mismos componentes (por Id)
+		 * @return número de componentes cuyos nodos han cambiado
+		 */
+		public int aplicar(Circuito circuito) {
+			Objects.requireNonNull(circuito, "El circuito no puede ser null");
+			int cambiados=0;
+			for(Componente c : circuito.getComponentes()) {
+				Integer i=indice.get(c.getId());
+				if(i==null) continue;
+				int n1=nodos[2*i];
+				int n2=nodos[2*i+1];
+				if(c.getNodo1()==n1 && c.getNodo2()==n2) continue;
+				if(c instanceof Tierra t) {
+					t.setNodoTierra(n1);
+				} else {
+					c.setNodo1(n1);
+					c.setNodo2(n2);
+				}
+				cambiados++;
+			}
+			NodeMapUtil.actualizarMapaNodos(circuito.getNodos(), circuito.getComponentes());
+			return cambiados;
+		}
+
+		private int posicion(String id) {
+			Integer i=indice.get(id);
+			if(i==null) throw new IllegalArgumentException("Componente desconocido: "+id);
+			return i;
+		}
+	}
+
+	/**
+	 * Union-find con compresión de caminos y unión por tamaño.
+	 */
+	private static final class UnionFind {
+		private final int[] padre;
+		private final int[] tamano;
+
+		UnionFind(int n) {
+			padre=new int[n];
+			tamano=new int[n];
+			for(int i=0; i<n; i++) padre[i]=i;
+			Arrays.fill(tamano, 1);
+		}
+
+		int raiz(int x) {
+			while(padre[x]!=x) {
+				padre[x]=padre[padre[x]];
+				x=padre[x];
+			}
+			return x;
+		}
+
+		void unir(int a, int b) {
+			int ra=raiz(a);
+			int rb=raiz(b);
+			if(ra==rb) return;
+			if(tamano[ra]<tamano[rb]) {
+				int t=ra;
+				ra=rb;
+				rb=t;
+			}
+			padre[rb]=ra;
+			tamano[ra]+=tamano[rb];
+		}
+	}
+
+	/**
+	 * Tabla hash de celdas del tamaño de la tolerancia. Cada extremo se compara solo con los de su
+	 * celda y las ocho vecinas. Dos extremos que ya están en pines de componentes no se unen por
+	 * cercanía: son componentes superpuestos, como en el editor.
+	 */
+	private static final class RejillaEspacial {
+		private final double tolerancia;
+		private final double tolerancia2;
+		private final UnionFind uf;
+		private final Map<Long, List<Extremo>> celdas=new HashMap<>();
+
+		private record Extremo(int elemento, double x, double y, boolean enPin) { }
+
+		RejillaEspacial(double tolerancia, UnionFind uf) {
+			this.tolerancia=tolerancia;
+			this.tolerancia2=tolerancia*tolerancia;
+			this.uf=uf;
+		}
+
+		void registrar(int elemento, PuntoDto p, boolean enPin) {
+			Extremo e=new Extremo(elemento, p.x(), p.y(), enPin);
+			long cx=(long) Math.floor(p.x()/tolerancia);
+			long cy=(long) Math.floor(p.y()/tolerancia);
+			for(long dx=-1; dx<=1; dx++) {
+				for(long dy=-1; dy<=1; dy++) {
+					List<Extremo> vecinos=celdas.get(clave(cx+dx, cy+dy));
+					if(vecinos==null) continue;
+					for(Extremo v : vecinos) {
+						if(v.enPin() && enPin) continue;
+						double ddx=v.x()-e.x();
+						double ddy=v.y()-e.y();
+						if(ddx*ddx+ddy*ddy<=tolerancia2) uf.unir(v.elemento(), elemento);
+					}
+				}
+			}
+			celdas.computeIfAbsent(clave(cx, cy), k -> new ArrayList<>(2)).add(e);
+		}
+
+		private static long clave(long cx, long cy) {
+			return (cx<<32)^(cy&0xffffffffL);
+		}
+	}
+}
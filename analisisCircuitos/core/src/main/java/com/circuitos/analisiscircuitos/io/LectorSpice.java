@@ -0,0 +1,567 @@
+package com.circuitos.analisiscircuitos.io;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Bobina;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente.ControlType;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
+import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+
+/**
+ * Lector de netlists SPICE que construye el {@link Circuito} directamente, tarjeta a tarjeta.
+ * <p>
+ * Admite las tarjetas R, C, L, D, V, I, E, G, F y H, líneas de continuación ({@code +}),
+ * comentarios ({@code *} al principio de línea y {@code ;} o {@code $} en línea) y
+ * {@code .model} de diodos ({@code IS} y {@code N}). El resto de tarjetas de punto se ignoran y
+ * {@code .end} termina la lectura. La primera línea es el título, como en SPICE.
+ * </p>
+ * <p>
+ * Las líneas se leen sobre un búfer de caracteres reutilizable y los números se parsean con
+ * {@link Unidades#parsearSpice(CharSequence, int, int)} sin crear cadenas, así que la memoria
+ * de trabajo no depende del tamaño del archivo: solo crecen el circuito, los nombres de nodo no
+ * numéricos, las fuentes de tensión (posibles controles de F y H) y las tarjetas D, F y H, que se
+ * resuelven al final porque pueden referirse a fuentes o modelos declarados después.
+ * </p>
+ * <p>
+ * Los nodos {@code 0} y {@code gnd} son la tierra. Los nodos numéricos conservan su número y
+ * los nombres alfanuméricos reciben uno nuevo, que se puede consultar con {@link #getNodo(String)}.
+ * Las fuentes F no tienen equivalente directo (el solver solo admite control por corriente de
+ * una resistencia), así que se importan como una fuente de tensión unitaria controlada por la
+ * corriente de la fuente de control, sobre un nodo auxiliar, y una fuente de corriente
+ * controlada por esa tensión. Una instancia sirve para una sola lectura.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public final class LectorSpice {
+	private static final Logger logger=Logger.getLogger(LectorSpice.class.getName());
+	/** Extensiones de archivo que se leen como netlist SPICE */
+	public static final List<String> EXTENSIONES=List.of(".cir", ".sp", ".spi", ".net");
+	private static final int BUFFER=1<<16;
+	private static final int MAX_DIGITOS_NODO=9;
+
+	private final char[] entrada=new char[BUFFER];
+	private int posEntrada;
+	private int finEntrada;
+	private boolean finArchivo;
+	private char[] fisica=new char[256];
+	private int largoFisica;
+	private char[] carta=new char[256];
+	private int largoCarta;
+	private CharBuffer texto=CharBuffer.wrap(carta);
+	private int[] iniToken=new int[16];
+	private int[] finToken=new int[16];
+	private int numTokens;
+
+	private final Map<String, Integer> alias=new HashMap<>();
+	// Números dados a los nombres no numéricos, en orden creciente (se reparten en ese orden)
+	private int[] idsAlias=new int[64];
+	private int numAlias;
+	private final Map<String, int[]> fuentesTension=new HashMap<>();
+	private final Map<String, double[]> modelos=new HashMap<>();
+	private final List<Pendiente> pendientes=new ArrayList<>();
+	private int siguienteNodo=1;
+	private String titulo;
+	private long lineas;
+	private long lineaCarta;
+	private long ignoradas;
+	private boolean usada;
+
+	/**
+	 * Tarjeta que se resuelve al final de la lectura (D, F y H).
+	 *
+	 * @param tipo			Letra de la tarjeta
+	 * @param nodoA			Primer nodo de la tarjeta
+	 * @param nodoB			Segundo nodo de la tarjeta
+	 * @param referencia	Fuente de control o modelo
+	 * @param ganancia		Ganancia (no se usa en diodos)
+	 * @param linea			Línea donde empieza la tarjeta
+	 */
+	private record Pendiente(char tipo, int nodoA, int nodoB, String referencia, double ganancia, long linea) {}
+
+	/**
+	 * Constructor.
+	 */
+	public LectorSpice() { /* Vacío */ }
+
+	/**
+	 * Indica si un archivo es una netlist SPICE por su extensión ({@link #EXTENSIONES}).
+	 *
+	 * @param archivo			Ruta del archivo
+	 * @return true si la extensión es de SPICE
+	 */
+	public static boolean esSpice(Path archivo) {
+		Objects.requireNonNull(archivo, "El archivo no puede ser null");
+		String nombre=archivo.getFileName().toString().toLowerCase(Locale.ROOT);
+		return EXTENSIONES.stream().anyMatch(nombre::endsWith);
+	}
+
+	/**
+	 * Lee una netlist desde archivo (UTF-8; los bytes inválidos se sustituyen).
+	 *
+	 * @param archivo						Archivo a leer
+	 * @return circuito con la tierra en el nodo 0
+	 * @throws IOException					si falla la lectura
+	 * @throws IllegalArgumentException		si una tarjeta no es válida o no está soportada
+	 */
+	public Circuito leer(Path archivo) throws IOException {
+		Objects.requireNonNull(archivo, "El archivo no puede ser null");
+		try(Reader lector=new InputStreamReader(Files.newInputStream(archivo), StandardCharsets.UTF_8)) {
+			return leer(lector);
+		}
+	}
+
+	/**
+	 * Lee una netlist y construye el circuito.
+	 *
+	 * @param lector						Origen de la netlist (no se cierra)
+	 * @return circuito con la tierra en el nodo 0
+	 * @throws IOException					si falla la lectura
+	 * @throws IllegalArgumentException		si una tarjeta no es válida o no está soportada
+	 */
+	public Circuito leer(Reader lector) throws IOException {
+		CircuitoBuilder builder=new CircuitoBuilder();
+		leer(lector, builder::con);
+		return builder.construir();
+	}
+
+	/**
+	 * Lee una netlist entregando cada componente según se crea, sin construir el circuito. El
+	 * primero es siempre la {@link Tierra} del nodo 0.
+	 *
+	 * @param lector						Origen de la netlist (no se cierra)
+	 * @param destino						Receptor de los componentes
+	 * @throws IOException					si falla la lectura
+	 * @throws IllegalArgumentException		si una tarjeta no es válida o no está soportada
+	 * @throws IllegalStateException		si la instancia ya se ha usado
+	 */
+	public void leer(Reader lector, Consumer<Componente> destino) throws IOException {
+		Objects.requireNonNull(lector, "El lector no puede ser null");
+		Objects.requireNonNull(destino, "El destino no puede ser null");
+		if(usada) throw new IllegalStateException("El lector SPICE solo puede usarse una vez");
+		usada=true;
+		long t0=System.nanoTime();
+		long componentes=1;
+		destino.accept(new Tierra(0));
+		boolean fin=false;
+		while(!fin && leerLinea(lector)) {
+			if(titulo==null) {
+				titulo=new String(fisica, 0, largoFisica).strip();
+				continue;
+			}
+			int ini=quitarComentario();
+			if(ini<0) continue;
+			if(fisica[ini]=='+') {
+				if(largoCarta==0) throw error(lineas, "continuación sin tarjeta previa");
+				anadirACarta(ini+1);
+				continue;
+			}
+			if(largoCarta>0) {
+				int resultado=procesarCarta(destino);
+				if(resultado<0) fin=true;
+				else componentes+=resultado;
+			}
+			largoCarta=0;
+			lineaCarta=lineas;
+			anadirACarta(ini);
+		}
+		if(!fin && largoCarta>0) {
+			int resultado=procesarCarta(destino);
+			if(resultado>0) componentes+=resultado;
+		}
+		largoCarta=0;
+		componentes+=resolverPendientes(destino);
+		long total=componentes;
+		logger.info(()->String.format("Netlist SPICE '%s' leída: %d líneas, %d componentes en %.1f ms",
+				titulo, lineas, total, (System.nanoTime()-t0)/1e6));
+	}
+
+	/**
+	 * Devuelve el título de la netlist (su primera línea).
+	 *
+	 * @return título o null si no se ha leído nada
+	 */
+	public String getTitulo() {
+		return titulo;
+	}
+
+	/**
+	 * Devuelve el número de líneas físicas leídas.
+	 *
+	 * @return número de líneas
+	 */
+	public long getLineas() {
+		return lineas;
+	}
+
+	/**
+	 * Devuelve el número de tarjetas de punto ignoradas ({@code .tran}, {@code .op}, etc.).
+	 *
+	 * @return número de tarjetas ignoradas
+	 */
+	public long getIgnoradas() {
+		return ignoradas;
+	}
+
+	/**
+	 * Devuelve el nodo del circuito que corresponde a un nombre de nodo de la netlist.
+	 *
+	 * @param nombre						Nombre del nodo en la netlist
+	 * @return número de nodo en el circuito
+	 * @throws IllegalArgumentException		si el nombre no aparece en la netlist
+	 */
+	public int getNodo(String nombre) {
+		Objects.requireNonNull(nombre, "El nombre del nodo no puede ser null");
+		String clave=nombre.strip().toLowerCase(Locale.ROOT);
+		if(clave.equals("0") || clave.equals("gnd")) return 0;
+		Integer id=alias.get(clave);
+		if(id!=null) return id;
+		if(esNumeroCanonico(clave.toCharArray(), 0, clave.length())) return Integer.parseInt(clave);
+		throw new IllegalArgumentException("Nodo desconocido en la netlist: "+nombre);
+	}
+
+	/**
+	 * Lee la siguiente línea física en {@link #fisica}, sin el salto de línea.
+	 */
+	private boolean leerLinea(Reader lector) throws IOException {
+		largoFisica=0;
+		boolean leido=false;
+		while(true) {
+			if(posEntrada>=finEntrada) {
+				if(finArchivo) break;
+				finEntrada=lector.read(entrada, 0, entrada.length);
+				posEntrada=0;
+				if(finEntrada<=0) {
+					finEntrada=0;
+					finArchivo=true;
+					break;
+				}
+			}
+			leido=true;
+			int i=posEntrada;
+			while(i<finEntrada && entrada[i]!='\n') i++;
+			int n=i-posEntrada;
+			if(largoFisica+n>fisica.length) fisica=Arrays.copyOf(fisica, Math.max(fisica.length*2, largoFisica+n));
+			System.arraycopy(entrada, posEntrada, fisica, largoFisica, n);
+			largoFisica+=n;
+			posEntrada=i;
+			if(i<finEntrada) {
+				posEntrada++;
+				break;
+			}
+		}
+		if(!leido) return false;
+		if(largoFisica>0 && fisica[largoFisica-1]=='\r') largoFisica--;
+		lineas++;
+		return true;
+	}
+
+	/**
+	 * Recorta los comentarios de la línea física.
+	 *
+	 * @return índice del primer carácter útil o -1 si la línea no tiene contenido
+	 */
+	private int quitarComentario() {
+		int ini=0;
+		while(ini<largoFisica && Character.isWhitespace(fisica[ini])) ini++;
+		if(ini==largoFisica || fisica[ini]=='*') return -1;
+		for(int i=ini; i<largoFisica; i++) {
+			char ch=fisica[i];
+			if(ch==';' || (ch=='$' && i>0 && Character.isWhitespace(fisica[i-1]))) {
+				largoFisica=i;
+				break;
+			}
+		}
+		return ini;
+	}
+
+	private void anadirACarta(int desde) {
+		int n=largoFisica-desde;
+		if(largoCarta+n+1>carta.length) {
+			carta=Arrays.copyOf(carta, Math.max(carta.length*2, largoCarta+n+1));
+		}
+		carta[largoCarta++]=' ';
+		System.arraycopy(fisica, desde, carta, largoCarta, n);
+		largoCarta+=n;
+	}
+
+	/**
+	 * Separa la tarjeta en tokens (espacios, comas, paréntesis e igual son separadores).
+	 */
+	private void tokenizar() {
+		numTokens=0;
+		int i=0;
+		while(i<largoCarta) {
+			while(i<largoCarta && esSeparador(carta[i])) i++;
+			if(i==largoCarta) break;
+			int ini=i;
+			while(i<largoCarta && !esSeparador(carta[i])) i++;
+			if(numTokens==iniToken.length) {
+				iniToken=Arrays.copyOf(iniToken, numTokens*2);
+				finToken=Arrays.copyOf(finToken, numTokens*2);
+			}
+			iniToken[numTokens]=ini;
+			finToken[numTokens]=i;
+			numTokens++;
+		}
+		if(texto.array()!=carta) texto=CharBuffer.wrap(carta);
+	}
+
+	private static boolean esSeparador(char ch) {
+		return ch==' ' || ch=='\t' || ch==',' || ch=='(' || ch==')' || ch=='=' || Character.isWhitespace(ch);
+	}
+
+	/**
+	 * Procesa la tarjeta acumulada.
+	 *
+	 * @return componentes creados o -1 si es {@code .end}
+	 */
+	private int procesarCarta(Consumer<Componente> destino) {
+		tokenizar();
+		if(numTokens==0) return 0;
+		char tipo=Character.toUpperCase(carta[iniToken[0]]);
+		try {
+			switch(tipo) {
+				case '.': return procesarPunto();
+				case 'R': return emitir(destino, new Resistencia(valor(3), nodo(1), nodo(2)));
+				case 'C': return emitir(destino, new Condensador(valor(3), nodo(1), nodo(2)));
+				case 'L': return emitir(destino, new Bobina(valor(3), nodo(1), nodo(2)));
+				case 'V': {
+					int pos=nodo(1);
+					int neg=nodo(2);
+					fuentesTension.put(nombre(0), new int[] {neg, pos});
+					return emitir(destino, new FuenteTensionInd(valorFuente(), neg, pos));
+				}
+				case 'I': return emitir(destino, new FuenteCorrienteInd(valorFuente(), nodo(1), nodo(2)));
+				case 'E': return procesarE(destino);
+				case 'G': return procesarG(destino);
+				case 'D': {
+					exigir(4);
+					pendientes.add(new Pendiente(tipo, nodo(1), nodo(2), nombre(3), 0, lineaCarta));
+					return 0;
+				}
+				case 'F', 'H': {
+					exigir(5);
+					pendientes.add(new Pendiente(tipo, nodo(1), nodo(2), nombre(3), valor(4), lineaCarta));
+					return 0;
+				}
+				default: throw error(lineaCarta, "elemento no soportado: "+token(0));
+			}
+		} catch(IllegalArgumentException e) {
+			if(e.getMessage()!=null && e.getMessage().startsWith("Línea ")) throw e;
+			throw error(lineaCarta, token(0)+": "+e.getMessage());
+		}
+	}
+
+	private int procesarPunto() {
+		String orden=nombre(0);
+		switch(orden) {
+			case ".END": return -1;
+			case ".MODEL": {
+				exigir(3);
+				if(nombre(2).equals("D")) {
+					double[] parametros= {1e-14, 1.0};
+					for(int t=3; t+1<numTokens; t+=2) {
+						String clave=nombre(t);
+						if(clave.equals("IS")) parametros[0]=valor(t+1);
+						else if(clave.equals("N")) parametros[1]=valor(t+1);
+					}
+					modelos.put(nombre(1), parametros);
+				}
+				return 0;
+			}
+			case ".SUBCKT", ".ENDS", ".INCLUDE", ".INC", ".LIB":
+				throw error(lineaCarta, "tarjeta no soportada: "+orden.toLowerCase(Locale.ROOT));
+			default:
+				ignoradas++;
+				return 0;
+		}
+	}
+
+	private int procesarE(Consumer<Componente> destino) {
+		exigir(6);
+		comprobarLineal();
+		int pos=nodo(1);
+		int neg=nodo(2);
+		int ctrlPos=nodo(3);
+		int ctrlNeg=nodo(4);
+		double ganancia=valor(5);
+		if(ganancia==0) return emitir(destino, new FuenteTensionInd(0.0, neg, pos));
+		if(ganancia<0) {
+			return emitir(destino, new FuenteTensionDependiente(-ganancia, pos, neg, ControlType.TENSION, ctrlNeg, ctrlPos));
+		}
+		return emitir(destino, new FuenteTensionDependiente(ganancia, neg, pos, ControlType.TENSION, ctrlNeg, ctrlPos));
+	}
+
+	private int procesarG(Consumer<Componente> destino) {
+		exigir(6);
+		comprobarLineal();
+		int pos=nodo(1);
+		int neg=nodo(2);
+		int ctrlPos=nodo(3);
+		int ctrlNeg=nodo(4);
+		double ganancia=valor(5);
+		// La corriente entra por n+ y sale por n- a través de la fuente
+		if(ganancia==0) return 0;
+		if(ganancia<0) {
+			return emitir(destino, new FuenteCorrienteDependiente(-ganancia, neg, pos, ControlType.TENSION, ctrlNeg, ctrlPos));
+		}
+		return emitir(destino, new FuenteCorrienteDependiente(ganancia, pos, neg, ControlType.TENSION, ctrlNeg, ctrlPos));
+	}
+
+	private void comprobarLineal() {
+		String t=nombre(3);
+		if(t.equals("POLY") || t.equals("VALUE") || t.equals("TABLE")) {
+			throw error(lineaCarta, "fuente no lineal no soportada: "+token(0));
+		}
+	}
+
+	/**
+	 * Resuelve las tarjetas D, F y H, que pueden usar fuentes y modelos declarados después.
+	 */
+	private int resolverPendientes(Consumer<Componente> destino) {
+		int creados=0;
+		for(Pendiente p:pendientes) {
+			try {
+				creados+=resolver(p, destino);
+			} catch(IllegalArgumentException e) {
+				if(e.getMessage()!=null && e.getMessage().startsWith("Línea ")) throw e;
+				throw error(p.linea(), e.getMessage());
+			}
+		}
+		pendientes.clear();
+		return creados;
+	}
+
+	private int resolver(Pendiente p, Consumer<Componente> destino) {
+		if(p.tipo()=='D') {
+			double[] modelo=modelos.get(p.referencia());
+			if(modelo==null) throw error(p.linea(), "modelo de diodo desconocido: "+p.referencia());
+			Diodo d=new Diodo(modelo[0], p.nodoA(), p.nodoB());
+			d.setEmision(modelo[1]);
+			return emitir(destino, d);
+		}
+		int[] control=fuentesTension.get(p.referencia());
+		if(control==null) throw error(p.linea(), "fuente de control desconocida: "+p.referencia());
+		double ganancia=p.ganancia();
+		if(p.tipo()=='H') {
+			if(ganancia==0) return emitir(destino, new FuenteTensionInd(0.0, p.nodoB(), p.nodoA()));
+			int neg=ganancia>0 ? p.nodoB() : p.nodoA();
+			int pos=ganancia>0 ? p.nodoA() : p.nodoB();
+			return emitir(destino, new FuenteTensionDependiente(Math.abs(ganancia), neg, pos,
+					ControlType.CORRIENTE, control[0], control[1]));
+		}
+		if(ganancia==0) return 0;
+		// F: V(aux)=i(control) y la corriente de salida es β·V(aux)
+		int aux=nuevoAlias();
+		emitir(destino, new FuenteTensionDependiente(1.0, 0, aux, ControlType.CORRIENTE, control[0], control[1]));
+		int entrada=ganancia>0 ? p.nodoA() : p.nodoB();
+		int salida=ganancia>0 ? p.nodoB() : p.nodoA();
+		return 1+emitir(destino, new FuenteCorrienteDependiente(Math.abs(ganancia), entrada, salida,
+				ControlType.TENSION, 0, aux));
+	}
+
+	private static int emitir(Consumer<Componente> destino, Componente c) {
+		destino.accept(c);
+		return 1;
+	}
+
+	/**
+	 * Valor de una fuente independiente: tras {@code DC} o el primer token numérico. Las
+	 * especificaciones AC y transitorias se ignoran.
+	 */
+	private double valorFuente() {
+		exigir(3);
+		for(int t=3; t<numTokens; t++) {
+			char ch=carta[iniToken[t]];
+			if(nombre(t).equals("DC")) return valor(t+1);
+			if((ch>='0' && ch<='9') || ch=='.' || ch=='-' || ch=='+') return valor(t);
+			if(Character.isLetter(ch)) break;
+		}
+		return 0.0;
+	}
+
+	private double valor(int t) {
+		exigir(t+1);
+		return Unidades.parsearSpice(texto, iniToken[t], finToken[t]);
+	}
+
+	private int nodo(int t) {
+		exigir(t+1);
+		int ini=iniToken[t];
+		int fin=finToken[t];
+		if(fin-ini==1 && carta[ini]=='0') return 0;
+		if(esNumeroCanonico(carta, ini, fin)) {
+			int n=0;
+			for(int i=ini; i<fin; i++) n=n*10+(carta[i]-'0');
+			if(Arrays.binarySearch(idsAlias, 0, numAlias, n)<0) {
+				if(n>=siguienteNodo) siguienteNodo=n+1;
+				return n;
+			}
+		}
+		String clave=new String(carta, ini, fin-ini).toLowerCase(Locale.ROOT);
+		if(clave.equals("gnd")) return 0;
+		Integer id=alias.get(clave);
+		if(id==null) {
+			id=nuevoAlias();
+			alias.put(clave, id);
+		}
+		return id;
+	}
+
+	private int nuevoAlias() {
+		if(numAlias==idsAlias.length) idsAlias=Arrays.copyOf(idsAlias, numAlias*2);
+		idsAlias[numAlias++]=siguienteNodo;
+		return siguienteNodo++;
+	}
+
+	private static boolean esNumeroCanonico(char[] s, int ini, int fin) {
+		if(fin-ini<1 || fin-ini>MAX_DIGITOS_NODO || s[ini]=='0') return false;
+		for(int i=ini; i<fin; i++) {
+			if(s[i]<'0' || s[i]>'9') return false;
+		}
+		return true;
+	}
+
+	private String token(int t) {
+		return new String(carta, iniToken[t], finToken[t]-iniToken[t]);
+	}
+
+	private String nombre(int t) {
+		return token(t).toUpperCase(Locale.ROOT);
+	}
+
+	private void exigir(int tokens) {
+		if(numTokens<tokens) throw error(lineaCarta, "faltan campos en "+token(0));
+	}
+
+	private static IllegalArgumentException error(long linea, String mensaje) {
+		return new IllegalArgumentException("Línea "+linea+": "+mensaje);
+	}
+}
@@ -0,0 +1,17 @@
+module com.circuitos.AnalisisCircuitos.core {
+	requires java.logging;
+	requires transitive commons.math3;
+	requires transitive com.fasterxml.jackson.databind;
+	requires transitive com.fasterxml.jackson.annotation;
+	requires com.fasterxml.jackson.core;
+	
+	opens com.circuitos.analisiscircuitos.dominio to com.fasterxml.jackson.databind;
+	opens com.circuitos.analisiscircuitos.dto to com.fasterxml.jackson.databind;
+	
+	exports com.circuitos.analisiscircuitos.dominio;
+	exports com.circuitos.analisiscircuitos.dominio.util;
+	exports com.circuitos.analisiscircuitos.analisis;
+	exports com.circuitos.analisiscircuitos.dto;
+	exports com.circuitos.analisiscircuitos.generador;
+	exports com.circuitos.analisiscircuitos.io;
+}
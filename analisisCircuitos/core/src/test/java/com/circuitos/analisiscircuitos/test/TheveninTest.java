@@ -0,0 +1,1379 @@
+package com.circuitos.analisiscircuitos.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.circuitos.analisiscircuitos.analisis.Analizador;
+import com.circuitos.analisiscircuitos.analisis.BarridoAC;
+import com.circuitos.analisiscircuitos.analisis.BufferOndas;
+import com.circuitos.analisiscircuitos.analisis.CargaEquivalente;
+import com.circuitos.analisiscircuitos.analisis.CombinacionResistencias;
+import com.circuitos.analisiscircuitos.analisis.ContribucionFuente;
+import com.circuitos.analisiscircuitos.analisis.DivisorNormalizado;
+import com.circuitos.analisiscircuitos.analisis.Linealizacion;
+import com.circuitos.analisiscircuitos.analisis.PeorCaso;
+import com.circuitos.analisiscircuitos.analisis.ResultadoComponente;
+import com.circuitos.analisiscircuitos.analisis.ResultadoDisenoInverso;
+import com.circuitos.analisiscircuitos.analisis.ResultadoEquivalenteAC;
+import com.circuitos.analisiscircuitos.analisis.ResultadoNorton;
+import com.circuitos.analisiscircuitos.analisis.ResultadoPeorCaso;
+import com.circuitos.analisiscircuitos.analisis.ResultadoPuntoOperacion;
+import com.circuitos.analisiscircuitos.analisis.ResultadoSuperposicion;
+import com.circuitos.analisiscircuitos.analisis.ResultadoThevenin;
+import com.circuitos.analisiscircuitos.analisis.ResultadoTheveninSimbolico;
+import com.circuitos.analisiscircuitos.analisis.TransferenciaPotencia;
+import com.circuitos.analisiscircuitos.analisis.Transitorio;
+import com.circuitos.analisiscircuitos.analisis.ValoresNormalizados;
+import com.circuitos.analisiscircuitos.dominio.*;
+import com.circuitos.analisiscircuitos.dominio.FuenteDependiente.ControlType;
+import com.circuitos.analisiscircuitos.dominio.util.ArenaNetlist;
+import com.circuitos.analisiscircuitos.dominio.util.GraphUtil;
+import com.circuitos.analisiscircuitos.dominio.util.MatrixUtil;
+import com.circuitos.analisiscircuitos.dominio.util.RejillaResistiva;
+import com.circuitos.analisiscircuitos.dominio.util.SerieE;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
+import com.circuitos.analisiscircuitos.dto.PuntoDto;
+import com.circuitos.analisiscircuitos.dto.ResultadosDto;
+import com.circuitos.analisiscircuitos.generador.GeneradorCircuitos;
+import com.circuitos.analisiscircuitos.generador.GeneradorCircuitos.Topologia;
+import com.circuitos.analisiscircuitos.io.CircuitoBinario;
+import com.circuitos.analisiscircuitos.io.CircuitoDeserializerService;
+import com.circuitos.analisiscircuitos.io.CircuitoJson;
+import com.circuitos.analisiscircuitos.io.DiarioCircuito;
+import com.circuitos.analisiscircuitos.io.EscritorSpice;
+import com.circuitos.analisiscircuitos.io.EscrituraAtomica;
+import com.circuitos.analisiscircuitos.io.ExtractorRedes;
+import com.circuitos.analisiscircuitos.io.LectorSpice;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Clase de pruebas unitarias para verificar el motor de cálculo de Thevenin (JUnit 5).
+ */
+class TheveninTest {
+
+    // Margen de error aceptable para comparaciones de punto flotante
+    private static final double DELTA = 0.01;
+
+    @Test
+    @DisplayName("Test 0: Divisor de Tensión")
+    void testDivisorTension() {
+        Circuito circuito=new Circuito();
+        circuito.addComponente(new FuenteTensionInd(10.0, 0, 2));
+        circuito.addComponente(new Resistencia(1000.0, 2, 1));
+        circuito.addComponente(new Resistencia(1000.0, 1, 0));
+        circuito.addComponente(new Tierra(0));
+        
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resultado=analizador.calculaThevenin(circuito, 1, 0);
+        assertEquals(5.0, resultado.getVth(), DELTA, "La tensión de Thevenin debe ser 5V");
+        assertEquals(500.0, resultado.getRth(), DELTA, "La resistencia de Thevenin debe ser 500Ω");
+    }
+
+    @Test
+    @DisplayName("Test 1: Circuito Mixto Simple")
+    void testLanzador1() {
+        Circuito circuito=new Circuito();
+        // Vth=4V, Rth=4333.333Ω
+        circuito.addComponente(new FuenteTensionInd(12, 0, 1));
+        circuito.addComponente(new FuenteCorrienteInd("4m", 1, 2));
+        circuito.addComponente(new Resistencia("3k", 0, 2));
+        circuito.addComponente(new Resistencia("6k", 2, 3, true)); // Carga
+        circuito.addComponente(new Resistencia("4k", 0, 3));
+        circuito.addComponente(new Resistencia("2k", 1, 3));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 2, 3);
+        assertEquals(4.0, resTh.getVth(), DELTA, "Vth incorrecto para Test 1");
+        assertEquals(4333.33, resTh.getRth(), 1.0, "Rth incorrecto para Test 1"); // Delta mayor por decimales
+    }
+
+    @Test
+    @DisplayName("Test 2: Fuentes Mixtas")
+    void testLanzador2() {
+        Circuito circuito=new Circuito();
+        // Vth=1.2V, Rth=7200Ω
+        circuito.addComponente(new Resistencia(12000, 0, 1));
+        circuito.addComponente(new FuenteCorrienteInd(0.002, 1, 2));
+        circuito.addComponente(new Resistencia(12000, 0, 2));
+        circuito.addComponente(new Resistencia(6000, 2, 3));
+        circuito.addComponente(new Resistencia(4000, 0, 3, true)); // Carga
+        circuito.addComponente(new FuenteTensionInd(6, 1, 3));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 0, 3);
+        assertEquals(1.2, resTh.getVth(), DELTA, "Vth incorrecto para Test 2");
+        assertEquals(7200.0, resTh.getRth(), DELTA, "Rth incorrecto para Test 2");
+    }
+
+    @Test
+    @DisplayName("Test 3: Fuentes Mixtas")
+    void testLanzador3() {
+        Circuito circuito=new Circuito();
+        // Vth=-10V, Rth=2000Ω
+        circuito.addComponente(new Resistencia(4000, 0, 1));
+        circuito.addComponente(new FuenteTensionInd(12, 1, 2));
+        circuito.addComponente(new Resistencia(6000, 0, 2, true)); // Carga
+        circuito.addComponente(new FuenteCorrienteInd(0.002, 2, 3));
+        circuito.addComponente(new Resistencia(2000, 0, 3));
+        circuito.addComponente(new Resistencia(2000, 1, 3));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 0, 2);
+        assertEquals(-10.0, resTh.getVth(), DELTA, "Vth incorrecto para Test 3");
+        assertEquals(2000.0, resTh.getRth(), DELTA, "Rth incorrecto para Test 3");
+    }
+
+    @Test
+    @DisplayName("Test 4: Múltiples Fuentes de Corriente")
+    void testLanzador4() {
+        Circuito circuito=new Circuito();
+        // Vth=10V, Rth=3000Ω
+        circuito.addComponente(new Resistencia(2000, 0, 1));
+        circuito.addComponente(new FuenteCorrienteInd(0.002, 2, 1));
+        circuito.addComponente(new Resistencia(1000, 1, 3, true)); // Carga
+        circuito.addComponente(new FuenteCorrienteInd(0.004, 0, 3));
+        circuito.addComponente(new Resistencia(1000, 3, 4));
+        circuito.addComponente(new Resistencia(2000, 2, 3));
+        circuito.addComponente(new FuenteCorrienteInd(0.004, 4, 2));
+        circuito.addComponente(new FuenteTensionInd(12, 4, 0));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 1, 3);
+        assertEquals(10.0, resTh.getVth(), DELTA, "Vth incorrecto para Test 4");
+        assertEquals(3000.0, resTh.getRth(), DELTA, "Rth incorrecto para Test 4");
+    }
+
+    @Test
+    @DisplayName("Test 5: Norton")
+    void testLanzador5() {
+        Circuito circuito=new Circuito();
+        // Datos Norton: In=2mA, Rn=3000Ω
+        circuito.addComponente(new FuenteTensionInd(6, 0, 1));
+        circuito.addComponente(new Resistencia(6000, 1, 2));
+        circuito.addComponente(new Resistencia(2000, 0, 2, true)); // Carga
+        circuito.addComponente(new Resistencia(3000, 2, 3));
+        circuito.addComponente(new FuenteCorrienteInd(0.002, 0, 3));
+        circuito.addComponente(new Resistencia(3000, 0, 3));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoNorton resNo=analizador.calculaNorton(circuito, 0, 2);
+        assertEquals(-0.002, resNo.getIn(), DELTA, "In incorrecto para Test 5");
+        assertEquals(3000.0, resNo.getRn(), DELTA, "Rn incorrecto para Test 5");
+    }
+
+    @Test
+    @DisplayName("Test 6: Circuito complejo Norton")
+    void testLanzador6() {
+        Circuito circuito = new Circuito();
+        //Datos Norton: In=-1.333mA, Rn=3000Ω
+        circuito.addComponente(new Resistencia(1000, 0, 1));
+        circuito.addComponente(new FuenteCorrienteInd(0.004, 1, 2));
+        circuito.addComponente(new Resistencia(1000, 1, 3));
+        circuito.addComponente(new Resistencia(2000, 3, 2));
+        circuito.addComponente(new Resistencia(1000, 3, 4));
+        circuito.addComponente(new FuenteCorrienteInd(0.002, 4, 2));
+        circuito.addComponente(new Resistencia(2000, 0, 4, true)); // Carga
+        circuito.addComponente(new FuenteCorrienteInd(0.001, 0, 3));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoNorton resNo=analizador.calculaNorton(circuito, 0, 4);
+        assertEquals(-0.00133, resNo.getIn(), 0.05, "Vth incorrecto para Test 6");
+        assertEquals(3000.0, resNo.getRn(), DELTA, "Rth incorrecto para Test 6");
+    }
+
+    @Test
+    @DisplayName("Test 7: Valores con String")
+    void testLanzador7() {
+        Circuito circuito=new Circuito();
+        // In=5mA, Rn=2117.6Ω
+        circuito.addComponente(new FuenteTensionInd(12, 0, 1));
+        circuito.addComponente(new Resistencia("6k", 1, 2));
+        circuito.addComponente(new Resistencia("2k", 0, 2));
+        circuito.addComponente(new Resistencia("3k", 2, 3));
+        circuito.addComponente(new Resistencia("4k", 0, 3));
+        circuito.addComponente(new Resistencia("2k", 1, 3, true)); // Carga
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoNorton resNo=analizador.calculaNorton(circuito, 1, 3);
+        assertEquals(0.005, resNo.getIn(), 0.1, "Vth incorrecto para Test 7");
+        assertEquals(2117.64, resNo.getRn(), 1.0, "Rth incorrecto para Test 7");
+    }
+
+    @Test
+    @DisplayName("Test 8: Fuente Dependiente CCVS")
+    void testLanzador8() {
+        Circuito circuito=new Circuito();
+        // Vth=-24V, Rth=6000Ω
+        circuito.addComponente(new FuenteTensionDependiente(4000, 1, 0, ControlType.CORRIENTE, 2, 1));
+        circuito.addComponente(new Resistencia("10k", 0, 1));
+        circuito.addComponente(new Resistencia("10k", 1, 2));
+        circuito.addComponente(new FuenteCorrienteInd("4m", 0, 2));
+        circuito.addComponente(new Resistencia("10k", 0, 2, true)); // Carga
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 0, 2);
+        assertEquals(-24.0, resTh.getVth(), DELTA, "Vth incorrecto para Test 8");
+        assertEquals(6000.0, resTh.getRth(), DELTA, "Rth incorrecto para Test 8");
+    }
+
+    @Test
+    @DisplayName("Test 9: Fuente Dependiente VCCS")
+    void testLanzador9() {
+        Circuito circuito=new Circuito();
+        // Vth=-24V, Rth=14000Ω
+        circuito.addComponente(new FuenteCorrienteInd("2m", 0, 1));
+        circuito.addComponente(new FuenteCorrienteDependiente(1.0/2000, 1, 2, ControlType.TENSION, 0, 3));
+        circuito.addComponente(new Resistencia("4k", 1, 3));
+        circuito.addComponente(new Resistencia("2k", 3, 2));
+        circuito.addComponente(new Resistencia("6k", 0, 3));
+        circuito.addComponente(new Resistencia("6k", 0, 2, true)); // Carga
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 0, 2);
+        assertEquals(-24.0, resTh.getVth(), DELTA, "Vth incorrecto para Test 9");
+        assertEquals(14000.0, resTh.getRth(), DELTA, "Rth incorrecto para Test 9");
+    }
+
+    @Test
+    @DisplayName("Test 10: Fuente Dependiente VCVS")
+    void testLanzador10() {
+        Circuito circuito=new Circuito();
+        // Vth=-20V, Rth=6Ω
+        circuito.addComponente(new FuenteCorrienteInd(5, 0, 1));
+        circuito.addComponente(new Resistencia(4, 0, 1));
+        circuito.addComponente(new Resistencia(2, 1, 2));
+        circuito.addComponente(new FuenteTensionDependiente(2, 1, 2, ControlType.TENSION, 0, 1));
+        circuito.addComponente(new Resistencia(6, 0, 2));
+        circuito.addComponente(new Resistencia(2, 2, 3));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 0, 3);
+        assertEquals(-20.0, resTh.getVth(), DELTA, "Vth incorrecto para Test 10");
+        assertEquals(6.0, resTh.getRth(), DELTA, "Rth incorrecto para Test 10");
+    }
+
+    @Test
+    @DisplayName("Test 11: Circuito Complejo Thevenin")
+    void testLanzador11() {
+        Circuito circuito=new Circuito();
+        // Vth=-40.64V, Rth=83.93Ω
+        circuito.addComponente(new Resistencia("2.2k", 0, 1));
+        circuito.addComponente(new Resistencia(750, 1, 2));
+        circuito.addComponente(new FuenteTensionInd(5, 0, 2));
+        circuito.addComponente(new Resistencia(330, 2, 3));
+        circuito.addComponente(new FuenteCorrienteInd("500m", 3, 4));
+        circuito.addComponente(new Resistencia(500, 2, 4));
+        circuito.addComponente(new Resistencia(82, 4, 5));
+        circuito.addComponente(new Resistencia(47, 5, 6));
+        circuito.addComponente(new FuenteTensionInd(12, 7, 6));
+        circuito.addComponente(new Resistencia(27, 7, 4));
+        circuito.addComponente(new Resistencia(100, 0, 7));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 0, 7);
+        assertEquals(-40.64, resTh.getVth(), 0.1, "Vth incorrecto para Test 11");
+        assertEquals(83.93, resTh.getRth(), 0.1, "Rth incorrecto para Test 11");
+    }
+
+    @Test
+    @DisplayName("Test 12: Fuente Dependiente CCCS")
+    void testLanzador12() {
+        Circuito circuito=new Circuito();
+        // Vth=-5.053, Rth=9.211Ω
+        circuito.addComponente(new FuenteCorrienteDependiente(4.5, 0, 1, ControlType.CORRIENTE, 2, 0));
+        circuito.addComponente(new Resistencia(10, 0, 1));
+        circuito.addComponente(new FuenteTensionInd(12, 1, 2));
+        circuito.addComponente(new Resistencia(40, 0, 2));
+        circuito.addComponente(new Resistencia(5, 2, 3));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoThevenin resTh=analizador.calculaThevenin(circuito, 0, 3);
+        assertEquals(-5.053, resTh.getVth(), DELTA, "Vth incorrecto para Test 12");
+        assertEquals(9.211, resTh.getRth(), DELTA, "Rth incorrecto para Test 12");
+    }
+
+    @Test
+    @DisplayName("Test 13: Punto de operación del divisor de tensión")
+    void testPuntoOperacion() {
+        Circuito circuito=new Circuito();
+        FuenteTensionInd fuente=new FuenteTensionInd(10.0, 0, 2);
+        Resistencia r1=new Resistencia(1000.0, 2, 1);
+        circuito.addComponente(fuente);
+        circuito.addComponente(r1);
+        circuito.addComponente(new Resistencia(1000.0, 1, 0));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoPuntoOperacion punto=analizador.calculaPuntoOperacion(circuito);
+        assertEquals(5.0, punto.getTensionesNodo().get(1), DELTA, "V(1) incorrecta");
+        ResultadoComponente resR1=punto.getComponentes().stream()
+                .filter(r -> r.getId().equals(r1.getId())).findFirst().orElseThrow();
+        ResultadoComponente resV=punto.getComponentes().stream()
+                .filter(r -> r.getId().equals(fuente.getId())).findFirst().orElseThrow();
+        assertEquals(0.005, resR1.getCorriente(), 1e-9, "Corriente de R1 incorrecta");
+        assertEquals(0.025, resR1.getPotencia(), 1e-9, "Potencia de R1 incorrecta");
+        assertEquals(-0.05, resV.getPotencia(), 1e-9, "La fuente debe entregar 50mW");
+        assertEquals(0.0, punto.getErrorKcl(), 1e-9, "KCL no se cumple");
+        assertEquals(0.0, punto.getBalancePotencia(), 1e-9, "Balance de potencias no nulo");
+    }
+
+    @Test
+    @DisplayName("Test 14: Superposición con fuentes mixtas")
+    void testSuperposicion() {
+        Circuito circuito=new Circuito();
+        // Mismo circuito que Test 1: Vth=4V
+        FuenteTensionInd v=new FuenteTensionInd(12, 0, 1);
+        FuenteCorrienteInd i=new FuenteCorrienteInd("4m", 1, 2);
+        circuito.addComponente(v);
+        circuito.addComponente(i);
+        circuito.addComponente(new Resistencia("3k", 0, 2));
+        circuito.addComponente(new Resistencia("6k", 2, 3, true)); // Carga
+        circuito.addComponente(new Resistencia("4k", 0, 3));
+        circuito.addComponente(new Resistencia("2k", 1, 3));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoSuperposicion res=analizador.calculaSuperposicion(circuito, 2, 3);
+        assertEquals(2, res.getContribuciones().size(), "Debe haber una aportación por fuente");
+        assertEquals(4.0, res.getVth(), DELTA, "La suma de aportaciones debe ser Vth");
+        ContribucionFuente aporteV=res.getContribuciones().stream()
+                .filter(c -> c.getId().equals(v.getId())).findFirst().orElseThrow();
+        // Solo V: nodo 3 es divisor 12V·4k/6k=8V y nodo 2 queda a 0V
+        assertEquals(-8.0, aporteV.getVth(), DELTA, "Aportación de la fuente de tensión incorrecta");
+    }
+
+    @Test
+    @DisplayName("Test 15: Máxima transferencia de potencia con carga compuesta")
+    void testTransferenciaPotencia() {
+        TransferenciaPotencia tp=new TransferenciaPotencia(new ResultadoThevenin(10.0, 500.0));
+        assertEquals(500.0, tp.getRlMaximaPotencia(), DELTA, "RL de máxima potencia debe ser Rth");
+        assertEquals(0.05, tp.getPotenciaMaxima(), 1e-9, "Pmax debe ser Vth²/4Rth");
+        assertEquals(tp.getPotenciaMaxima(), tp.potencia(500.0), 1e-12, "P(Rth) debe ser Pmax");
+        assertTrue(tp.potencia(400.0) < tp.getPotenciaMaxima() && tp.potencia(600.0) < tp.getPotenciaMaxima(),
+                "Pmax debe ser un máximo");
+
+        // Carga: R1 (1k) entre 1-3 en serie con R2 || R3 (2k || 2k) entre 3-0
+        Resistencia r1=new Resistencia("1k", 1, 3, true);
+        Resistencia r2=new Resistencia("2k", 3, 0, true);
+        Resistencia r3=new Resistencia("2k", 3, 0, true);
+        CargaEquivalente carga=new CargaEquivalente(List.of(r1, r2, r3), 1, 0);
+        assertEquals(2000.0, carga.resistenciaEquivalente(), DELTA, "Req de la carga incorrecta");
+        double[] req=carga.barrer(r1, new double[] {0.0001, 500.0, 3000.0});
+        assertEquals(1000.0, req[0], DELTA, "Req con R1≈0 incorrecta");
+        assertEquals(1500.0, req[1], DELTA, "Req con R1=500 incorrecta");
+        assertEquals(4000.0, req[2], DELTA, "Req con R1=3k incorrecta");
+        assertEquals(1000.0, r1.getValor(), DELTA, "El barrido no debe modificar la carga");
+    }
+
+    @Test
+    @DisplayName("Test 16: Equivalente en alterna de un filtro RC y bobina en continua")
+    void testEquivalenteAC() {
+        Circuito rc=new Circuito();
+        rc.addComponente(new FuenteTensionInd(10.0, 0, 2));
+        rc.addComponente(new Resistencia("1k", 2, 1));
+        rc.addComponente(new Condensador("1µ", 1, 0));
+        rc.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        double fc=1.0/(2*Math.PI*1000.0*1e-6);
+        ResultadoEquivalenteAC ac=analizador.calculaEquivalenteAC(rc, 1, 0, fc);
+        // A la frecuencia de corte: |Vth|=V/√2 con -45º y Zth=R/(1+j)=500-j500
+        assertEquals(10.0/Math.sqrt(2), ac.getVthModulo(), DELTA, "|Vth| en la frecuencia de corte incorrecto");
+        assertEquals(-45.0, ac.getVthFase(), DELTA, "Fase de Vth incorrecta");
+        assertEquals(500.0, ac.getZth().getReal(), DELTA, "Parte real de Zth incorrecta");
+        assertEquals(-500.0, ac.getZth().getImaginary(), DELTA, "Parte imaginaria de Zth incorrecta");
+
+        BarridoAC bode=analizador.calculaBarridoAC(rc, 1, 0, 1.0, 1e5, 51);
+        double[] db=bode.getVthDecibelios();
+        assertEquals(51, bode.size(), "Número de puntos del barrido incorrecto");
+        assertEquals(20.0, db[0], DELTA, "En baja frecuencia el condensador debe estar abierto");
+        for(int k=1; k<db.length; k++) {
+            assertTrue(db[k]<db[k-1], "Un paso bajo debe atenuar más al subir la frecuencia");
+        }
+
+        // En continua la bobina es un cortocircuito: divisor 1k/1k
+        Circuito rl=new Circuito();
+        rl.addComponente(new FuenteTensionInd(10.0, 0, 3));
+        rl.addComponente(new Bobina("10m", 3, 2));
+        rl.addComponente(new Resistencia("1k", 2, 1));
+        rl.addComponente(new Resistencia("1k", 1, 0));
+        rl.addComponente(new Tierra(0));
+        ResultadoThevenin dc=analizador.calculaThevenin(rl, 1, 0);
+        assertEquals(5.0, dc.getVth(), DELTA, "Vth en continua con bobina incorrecta");
+        assertEquals(500.0, dc.getRth(), DELTA, "Rth en continua con bobina incorrecta");
+    }
+
+    @Test
+    @DisplayName("Test 17: Transitorio de carga RC y RL")
+    void testTransitorio() {
+        Circuito rc=new Circuito();
+        rc.addComponente(new FuenteTensionInd(10.0, 0, 2));
+        rc.addComponente(new Resistencia("1k", 2, 1));
+        rc.addComponente(new Condensador("1µ", 1, 0));
+        rc.addComponente(new Tierra(0));
+
+        // τ=RC=1ms: a t=τ, Vc=10·(1-1/e); 10⁵ pasos en un buffer de 4096 muestras
+        Analizador analizador=new Analizador();
+        double tau=1e-3;
+        long pasos=100_000;
+        BufferOndas ondas=analizador.calculaTransitorio(rc, Transitorio.Metodo.TRAPECIOS, tau/1000, pasos, 1);
+        assertTrue(ondas.size()<=ondas.getCapacidad(), "El buffer no debe crecer con el número de pasos");
+        assertEquals(100.0*tau, ondas.getTiempos()[ondas.size()-1], 1e-9, "La última muestra debe ser el final");
+        assertEquals(10.0, ondas.getUltimo(0), DELTA, "Tras 100τ el condensador debe estar cargado");
+        BufferOndas tramo=new Transitorio(rc, Transitorio.Metodo.TRAPECIOS).simular(tau/1000, 1000, new int[] {1}, 16, 1);
+        assertEquals(16, tramo.size(), "El buffer debe conservar solo las últimas muestras");
+        assertEquals(10.0*(1-Math.exp(-1)), tramo.getUltimo(0), DELTA, "Vc(τ) incorrecta con trapecios");
+
+        // RL: τ=L/R=10µs, a t=τ la tensión en la resistencia es 10·(1-1/e)
+        Circuito rl=new Circuito();
+        rl.addComponente(new FuenteTensionInd(10.0, 0, 2));
+        rl.addComponente(new Bobina("10m", 2, 1));
+        rl.addComponente(new Resistencia("1k", 1, 0));
+        rl.addComponente(new Tierra(0));
+        BufferOndas corriente=new Transitorio(rl, Transitorio.Metodo.EULER_IMPLICITO).simular(1e-8, 1000, new int[] {1}, 8, 1);
+        assertEquals(10.0*(1-Math.exp(-1)), corriente.getUltimo(0), 0.02, "VR(τ) incorrecta con Euler implícito");
+    }
+
+    @Test
+    @DisplayName("Test 18: Punto de operación con diodo y equivalente linealizado")
+    void testDiodo() {
+        Circuito circuito=new Circuito();
+        Diodo d=new Diodo(1e-14, 1, 0);
+        circuito.addComponente(new FuenteTensionInd(5.0, 0, 2));
+        circuito.addComponente(new Resistencia("1k", 2, 1));
+        circuito.addComponente(d);
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoPuntoOperacion op=analizador.calculaPuntoOperacion(circuito);
+        double vd=op.getTensionesNodo().get(1);
+        double id=(5.0-vd)/1000.0;
+        assertTrue(vd>0.6 && vd<0.75, "Tensión del diodo en directa fuera de rango: "+vd);
+        assertEquals(id, d.corriente(vd), 1e-9, "La corriente de la resistencia debe ser la del diodo");
+        assertTrue(op.getErrorKcl()<1e-9, "KCL no se cumple en el punto de operación");
+
+        // Pequeña señal: Rth=R||rd con rd=n·Vt/Id; Vth es la tensión del punto de operación
+        Linealizacion lin=new Linealizacion(circuito);
+        double rd=lin.getResistenciaDinamica(d);
+        assertEquals(Diodo.TENSION_TERMICA/id, rd, 0.01, "Resistencia dinámica incorrecta");
+        ResultadoThevenin th=analizador.calculaThevenin(circuito, 1, 0);
+        assertEquals(vd, th.getVth(), 1e-6, "Vth debe ser la tensión del punto de operación");
+        assertEquals(1000.0*rd/(1000.0+rd), th.getRth(), DELTA, "Rth debe ser R||rd");
+
+        // En inversa el diodo apenas conduce
+        Circuito inversa=new Circuito();
+        inversa.addComponente(new FuenteTensionInd(5.0, 0, 2));
+        inversa.addComponente(new Resistencia("1k", 2, 1));
+        inversa.addComponente(new Diodo(1e-14, 0, 1));
+        inversa.addComponente(new Tierra(0));
+        assertEquals(5.0, analizador.calculaPuntoOperacion(inversa).getTensionesNodo().get(1), 1e-6,
+                "Un diodo en inversa debe comportarse como un circuito abierto");
+    }
+
+    @Test
+    @DisplayName("Test 19: Thevenin simbólico y evaluador compilado")
+    void testTheveninSimbolico() {
+        Circuito circuito=new Circuito();
+        FuenteTensionInd v=new FuenteTensionInd(10.0, 0, 2);
+        Resistencia r1=new Resistencia("1k", 2, 1);
+        Resistencia r2=new Resistencia("3k", 1, 0);
+        circuito.addComponente(v);
+        circuito.addComponente(r1);
+        circuito.addComponente(r2);
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoTheveninSimbolico sim=analizador.calculaTheveninSimbolico(circuito, 1, 0);
+        String suma="("+r1.getId()+" + "+r2.getId()+")";
+        assertEquals(v.getId()+"·"+r2.getId()+"/"+suma, sim.getFormulaVth(), "Fórmula de Vth del divisor");
+        assertEquals(r1.getId()+"·"+r2.getId()+"/"+suma, sim.getFormulaRth(), "Fórmula de Rth del divisor");
+        assertEquals(7.5, sim.getVth(), 1e-9, "Vth nominal incorrecta");
+        assertEquals(750.0, sim.getRth(), 1e-9, "Rth nominal incorrecta");
+
+        // Reevaluar sin resolver: R2=1k
+        double[] p=sim.getValores();
+        p[sim.indiceSimbolo(r2.getId())]=1000.0;
+        ResultadoThevenin otro=sim.evaluar(p);
+        assertEquals(5.0, otro.getVth(), 1e-9, "Vth reevaluada incorrecta");
+        assertEquals(500.0, otro.getRth(), 1e-9, "Rth reevaluada incorrecta");
+
+        // Con fuentes dependientes debe coincidir con el cálculo numérico (circuito del Test 12)
+        Circuito cccs=new Circuito();
+        cccs.addComponente(new FuenteCorrienteDependiente(4.5, 0, 1, ControlType.CORRIENTE, 2, 0));
+        cccs.addComponente(new Resistencia(10, 0, 1));
+        cccs.addComponente(new FuenteTensionInd(12, 1, 2));
+        cccs.addComponente(new Resistencia(40, 0, 2));
+        cccs.addComponente(new Resistencia(5, 2, 3));
+        cccs.addComponente(new Tierra(0));
+        ResultadoTheveninSimbolico simDep=analizador.calculaTheveninSimbolico(cccs, 0, 3);
+        ResultadoThevenin num=analizador.calculaThevenin(cccs, 0, 3);
+        assertEquals(num.getVth(), simDep.getVth(), 1e-9, "Vth simbólica distinta de la numérica");
+        assertEquals(num.getRth(), simDep.getRth(), 1e-9, "Rth simbólica distinta de la numérica");
+    }
+
+    @Test
+    @DisplayName("Test 20: Peor caso por tolerancia de resistencias")
+    void testPeorCaso() {
+        Circuito circuito=new Circuito();
+        circuito.addComponente(new FuenteTensionInd(10.0, 0, 2));
+        circuito.addComponente(new Resistencia("1k", 2, 1));
+        circuito.addComponente(new Resistencia("1k", 1, 0));
+        circuito.addComponente(new Tierra(0));
+
+        Analizador analizador=new Analizador();
+        ResultadoPeorCaso pc=analizador.calculaPeorCaso(circuito, 1, 0, 0.05);
+        assertTrue(pc.isExhaustivo(), "Con dos resistencias se deben recorrer todas las esquinas");
+        assertEquals(5.0, pc.getNominal(PeorCaso.Magnitud.VTH), 1e-9, "Vth nominal incorrecta");
+        assertEquals(10.0*1050/2000, pc.getMaximo(PeorCaso.Magnitud.VTH).getValor(), 1e-9, "Vth máxima incorrecta");
+        assertEquals(10.0*950/2000, pc.getMinimo(PeorCaso.Magnitud.VTH).getValor(), 1e-9, "Vth mínima incorrecta");
+        assertEquals(525.0, pc.getMaximo(PeorCaso.Magnitud.RTH).getValor(), 1e-9, "Rth máxima incorrecta");
+        assertEquals(475.0, pc.getMinimo(PeorCaso.Magnitud.RTH).getValor(), 1e-9, "Rth mínima incorrecta");
+        assertEquals(10.0/950, pc.getMaximo(PeorCaso.Magnitud.IN).getValor(), 1e-12, "In máxima incorrecta");
+        assertEquals(-0.0025, pc.getSensibilidades(PeorCaso.Magnitud.VTH)[0], 1e-9, "dVth/dR1 incorrecta");
+
+        // Escalera de 14 resistencias: búsqueda guiada por sensibilidades
+        Circuito escalera=new Circuito();
+        escalera.addComponente(new FuenteTensionInd(12.0, 0, 1));
+        List<Resistencia> rs=new java.util.ArrayList<>();
+        for(int i=1; i<=7; i++) {
+            rs.add(new Resistencia(1000.0*i, i, i+1));
+            rs.add(new Resistencia(2200.0+100*i, i+1, 0));
+        }
+        rs.forEach(escalera::addComponente);
+        escalera.addComponente(new Tierra(0));
+        ResultadoPeorCaso pe=analizador.calculaPeorCaso(escalera, 8, 0, 0.1);
+        assertFalse(pe.isExhaustivo(), "Con 14 resistencias no se deben recorrer las 2^14 esquinas");
+        assertTrue(pe.getEvaluaciones()<(1 << 14), "La poda debe evitar la enumeración completa");
+        for(PeorCaso.Magnitud m : PeorCaso.Magnitud.values()) {
+            assertTrue(pe.getMaximo(m).getValor()>=pe.getNominal(m), "El máximo debe superar al nominal: "+m);
+            assertTrue(pe.getMinimo(m).getValor()<=pe.getNominal(m), "El mínimo debe quedar bajo el nominal: "+m);
+        }
+
+        // La esquina de máxima Vth, aplicada al circuito, reproduce el valor con el cálculo numérico
+        double[] esquina=pe.getMaximo(PeorCaso.Magnitud.VTH).getResistencias();
+        for(Resistencia r : rs) {
+            r.setValor(esquina[pe.getIds().indexOf(r.getId())]);
+        }
+        assertEquals(pe.getMaximo(PeorCaso.Magnitud.VTH).getValor(), analizador.calculaThevenin(escalera, 8, 0).getVth(),
+                1e-9, "La esquina de máximo no coincide con el análisis numérico");
+    }
+
+    @Test
+    @DisplayName("Test 21: Diseño inverso hacia Vth y Rth objetivo")
+    void testDisenoInverso() {
+        Circuito circuito=new Circuito();
+        Resistencia r1=new Resistencia("1k", 2, 1);
+        Resistencia r2=new Resistencia("3k", 1, 0);
+        circuito.addComponente(new FuenteTensionInd(10.0, 0, 2));
+        circuito.addComponente(r1);
+        circuito.addComponente(r2);
+        circuito.addComponente(new Tierra(0));
+
+        // Vth=5 V y Rth=1 kΩ obligan a R1=R2=2 kΩ
+        Analizador analizador=new Analizador();
+        ResultadoDisenoInverso d=analizador.calculaDisenoInverso(circuito, 1, 0, List.of(r1, r2), 5.0, 1000.0);
+        assertTrue(d.isConvergido(), "El diseño inverso debe converger");
+        assertEquals(2000.0, d.getValores()[0], 1e-3, "R1 ajustada incorrecta");
+        assertEquals(2000.0, d.getValores()[1], 1e-3, "R2 ajustada incorrecta");
+        assertEquals(3000.0, r2.getValor(), 0.0, "El diseño inverso no debe modificar el circuito");
+
+        // Una Vth mayor que la fuente no es alcanzable
+        ResultadoDisenoInverso imposible=analizador.calculaDisenoInverso(circuito, 1, 0, List.of(r1), 20.0, Double.NaN);
+        assertFalse(imposible.isConvergido(), "Un objetivo inalcanzable no debe marcarse como convergido");
+        assertTrue(imposible.getVth()<=10.0, "Vth no puede superar la tensión de la fuente");
+
+        // Escalera con fuente dependiente: los valores ajustados reproducen el objetivo
+        Circuito escalera=new Circuito();
+        escalera.addComponente(new FuenteTensionInd(12.0, 0, 1));
+        List<Resistencia> rs=new java.util.ArrayList<>();
+        for(int i=1; i<=6; i++) {
+            rs.add(new Resistencia(1000.0*i, i, i+1));
+            rs.add(new Resistencia(2000.0+300*i, i+1, 0));
+        }
+        rs.forEach(escalera::addComponente);
+        escalera.addComponente(new FuenteCorrienteDependiente(0.5, 0, 3, ControlType.CORRIENTE, 2, 0));
+        escalera.addComponente(new Tierra(0));
+        ResultadoDisenoInverso de=analizador.calculaDisenoInverso(escalera, 7, 0, rs, 1.5, 3000.0);
+        assertTrue(de.isConvergido(), "El diseño inverso de la escalera debe converger");
+        for(int k=0; k<rs.size(); k++) {
+            rs.get(k).setValor(de.getValores()[k]);
+        }
+        ResultadoThevenin th=analizador.calculaThevenin(escalera, 7, 0);
+        assertEquals(1.5, th.getVth(), 1e-6, "Vth con los valores ajustados incorrecta");
+        assertEquals(3000.0, th.getRth(), 1e-3, "Rth con los valores ajustados incorrecta");
+    }
+
+    @Test
+    @DisplayName("Test 22: Combinaciones de valores normalizados")
+    void testValoresNormalizados() {
+        Analizador analizador=new Analizador();
+        List<CombinacionResistencias> e12=analizador.calculaCombinaciones(5000.0, SerieE.E12, 3);
+        assertEquals(3, e12.size(), "Debe haber una combinación por número de piezas");
+        assertEquals(4700.0, e12.get(0).getValor(), 0.0, "Con una pieza E12 lo más cercano a 5 kΩ es 4.7 kΩ");
+        assertEquals(0.0, e12.get(1).getErrorRelativo(), 1e-12, "5 kΩ se obtiene exacto con dos piezas E12");
+        assertEquals(2, e12.get(1).getNumPartes(), "La segunda combinación debe tener dos piezas");
+
+        // La E96 con tres piezas afina mucho más que una sola pieza
+        List<CombinacionResistencias> e96=analizador.calculaCombinaciones(3141.59, SerieE.E96, 4);
+        assertEquals(4, e96.size(), "Debe haber una combinación por número de piezas");
+        assertTrue(e96.get(2).getErrorRelativo()<e96.get(0).getErrorRelativo(), "Tres piezas deben mejorar a una");
+        assertTrue(e96.get(2).getErrorRelativo()<1e-5, "Tres piezas E96 deben aproximar π kΩ a menos de 10 ppm");
+        assertTrue(e96.get(3).getExpresion().contains("Ω"), "La expresión debe incluir las unidades");
+
+        DivisorNormalizado mitad=analizador.calculaDivisor(0.5, SerieE.E12, 2);
+        assertEquals(0.5, mitad.getRazon(), 1e-12, "Un divisor 1/2 es exacto");
+        assertEquals(1, mitad.getSuperior().getNumPartes(), "A igual error se prefieren menos piezas");
+        DivisorNormalizado tercio=analizador.calculaDivisor(1.0/3.0, SerieE.E24, 2);
+        assertEquals(1.0/3.0, tercio.getRazon(), 1e-12, "Un divisor 1/3 es exacto con E24 (1k/2k)");
+
+        // Un rango distinto del estándar usa sus propias tablas
+        ValoresNormalizados acotado=new ValoresNormalizados(SerieE.E12, 100.0, 1000.0);
+        assertEquals(1000.0, acotado.buscarResistencia(5000.0, 1).get(0).getValor(), 0.0,
+                "Con una pieza no se puede pasar del máximo del rango");
+        assertEquals(4700.0, new ValoresNormalizados(SerieE.E12).buscarResistencia(5000.0, 1).get(0).getValor(), 0.0,
+                "El rango estándar llega a 4.7 kΩ");
+    }
+
+    @Test
+    @DisplayName("Test 23: Rejilla resistiva")
+    void testRejillaResistiva() {
+        Analizador analizador=new Analizador();
+        int n=101;
+        Circuito grande=rejilla(n, n, 1000.0);
+        GraphUtil.detectarRejilla(grande.getComponentes()).orElseThrow();
+        int centro=(n/2)*n+n/2+1;
+        // Valores de la rejilla infinita: R/2 entre vecinos y 2R/π en diagonal
+        assertEquals(500.0, analizador.calculaThevenin(grande, centro, centro+1).getRth(), 0.5,
+                "Rth entre vecinos del centro incorrecta");
+        assertEquals(2000.0/Math.PI, analizador.calculaThevenin(grande, centro, centro+n+1).getRth(), 0.5,
+                "Rth en diagonal del centro incorrecta");
+
+        // Rejilla pequeña: la fórmula cerrada coincide con MNA (una fuente nula impide la detección)
+        Circuito pequena=rejilla(4, 5, 220.0);
+        RejillaResistiva r=GraphUtil.detectarRejilla(pequena.getComponentes()).orElseThrow();
+        assertEquals(20, r.getFilas()*r.getColumnas(), "Dimensiones de la rejilla incorrectas");
+        Circuito conFuente=rejilla(4, 5, 220.0);
+        conFuente.addComponente(new FuenteCorrienteInd(0.0, 1, 2));
+        assertTrue(GraphUtil.detectarRejilla(conFuente.getComponentes()).isEmpty(), "Con fuentes no es una rejilla");
+        for(int b : new int[] {2, 7, 13, 20}) {
+            ResultadoThevenin rapido=analizador.calculaThevenin(pequena, 1, b);
+            ResultadoThevenin mna=analizador.calculaThevenin(conFuente, 1, b);
+            assertEquals(mna.getRth(), rapido.getRth(), 1e-9, "Rth de la rejilla distinta de MNA (nodo "+b+")");
+            assertEquals(0.0, rapido.getVth(), 0.0, "Una rejilla sin fuentes tiene Vth nula");
+        }
+
+        // Un lado diagonal deshace la rejilla
+        Circuito distinta=rejilla(3, 3, 100.0);
+        distinta.addComponente(new Resistencia(100.0, 1, 5));
+        assertTrue(GraphUtil.detectarRejilla(distinta.getComponentes()).isEmpty(), "Un lado diagonal no es una rejilla");
+    }
+
+    @Test
+    @DisplayName("Test 24: Generador de circuitos sintéticos")
+    void testGeneradorCircuitos() throws IOException {
+        Analizador analizador=new Analizador();
+        ObjectMapper mapper=new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        for(Topologia t : Topologia.values()) {
+            GeneradorCircuitos gen=new GeneradorCircuitos(t, 40, true, 7L);
+            CircuitoFileDto archivo=gen.generarArchivo();
+            List<Componente> comps=archivo.circuito().getComponentes();
+            assertEquals(comps.size(), archivo.posiciones().size(), t+": una posición por componente");
+            Set<String> ids=comps.stream().map(Componente::getId).collect(Collectors.toSet());
+            for(CableDto cable : archivo.cables()) {
+                assertTrue(ids.contains(cable.origenId()) && ids.contains(cable.destinoId()), t+": cable a un componente inexistente");
+                assertEquals(cable.origenNodo(), cable.destinoNodo(), t+": un cable une terminales del mismo nodo");
+            }
+
+            // Misma semilla, mismo circuito; el archivo en streaming se lee igual que el generado en memoria
+            ResultadoThevenin memoria=analizador.calculaThevenin(archivo.circuito(), gen.getTerminalA(), gen.getTerminalB());
+            ResultadoThevenin otra=analizador.calculaThevenin(gen.generarCircuito(), gen.getTerminalA(), gen.getTerminalB());
+            assertEquals(memoria.getRth(), otra.getRth(), 0.0, t+": la generación no es reproducible");
+            ByteArrayOutputStream salida=new ByteArrayOutputStream();
+            assertEquals((long) comps.size(), gen.escribirArchivo(salida), t+": componentes escritos en streaming");
+            CircuitoFileDto leido=mapper.readValue(salida.toByteArray(), CircuitoFileDto.class);
+            assertEquals(archivo.cables().size(), leido.cables().size(), t+": cables escritos en streaming");
+            ResultadoThevenin streaming=analizador.calculaThevenin(leido.circuito(), gen.getTerminalA(), gen.getTerminalB());
+            assertEquals(memoria.getVth(), streaming.getVth(), 1e-9, t+": Vth del archivo en streaming");
+            assertEquals(memoria.getRth(), streaming.getRth(), 1e-9, t+": Rth del archivo en streaming");
+        }
+        // Las etapas dependientes mantienen ganancia unidad a lo largo de la cascada
+        GeneradorCircuitos etapas=new GeneradorCircuitos(Topologia.ETAPAS_DEPENDIENTES, 40, 3L);
+        assertEquals(1.0, analizador.calculaThevenin(etapas.generarCircuito(), etapas.getTerminalA(), 0).getVth(), 1e-9,
+                "La cascada de etapas debe tener ganancia unidad");
+    }
+
+    @Test
+    @DisplayName("Test 25: Lectura y escritura JSON en streaming")
+    void testJsonStreaming() throws IOException {
+        Analizador analizador=new Analizador();
+        GeneradorCircuitos gen=new GeneradorCircuitos(Topologia.ALEATORIO, 60, true, 11L);
+        CircuitoFileDto archivo=gen.generarArchivo();
+        ResultadoThevenin original=analizador.calculaThevenin(archivo.circuito(), gen.getTerminalA(), gen.getTerminalB());
+        for(boolean compacto : new boolean[] {false, true}) {
+            ByteArrayOutputStream salida=new ByteArrayOutputStream();
+            CircuitoJson.escribir(salida, archivo.circuito(), archivo.posiciones(), archivo.cables(), compacto);
+            String json=salida.toString(StandardCharsets.UTF_8);
+            assertEquals(compacto, json.indexOf('\n')<0, "Modo compacto sin saltos de línea: "+compacto);
+
+            // Mismo contenido que el databind del DTO completo, salvo la fecha de los metadatos
+            CircuitoFileDto databind=CircuitoJson.lector().readValue(json);
+            CircuitoFileDto leido=CircuitoJson.leer(new ByteArrayInputStream(salida.toByteArray()));
+            assertEquals(databind.posiciones(), leido.posiciones(), "Posiciones leídas en streaming");
+            assertEquals(databind.cables(), leido.cables(), "Cables leídos en streaming");
+            assertEquals(archivo.posiciones(), leido.posiciones(), "Posiciones tras ida y vuelta");
+            assertEquals(archivo.cables(), leido.cables(), "Cables tras ida y vuelta");
+            assertEquals(archivo.circuito().getComponentes().size(), leido.circuito().getComponentes().size());
+            assertEquals(archivo.circuito().getNodos(), leido.circuito().getNodos(), "Los nodos se registran al leer");
+            assertEquals("ThevenApp", leido.metadata().getApp());
+            ResultadoThevenin th=analizador.calculaThevenin(leido.circuito(), gen.getTerminalA(), gen.getTerminalB());
+            assertEquals(original.getVth(), th.getVth(), 1e-9, "Vth tras ida y vuelta");
+            assertEquals(original.getRth(), th.getRth(), 1e-9, "Rth tras ida y vuelta");
+
+            // El archivo escrito por el generador se lee igual en los dos modos
+            ByteArrayOutputStream generado=new ByteArrayOutputStream();
+            gen.escribirArchivo(generado, compacto);
+            assertEquals(archivo.cables().size(), CircuitoJson.leer(new ByteArrayInputStream(generado.toByteArray())).cables().size());
+        }
+        // Los campos desconocidos se saltan y el JSON mal formado se rechaza
+        CircuitoFileDto extra=CircuitoJson.leer("{\"otro\":{\"a\":[1,2]},\"circuito\":{\"componentes\":[]},\"cables\":null}");
+        assertTrue(extra.circuito().getComponentes().isEmpty());
+        assertNull(extra.metadata());
+        assertThrows(IOException.class, () -> CircuitoJson.leer("[]"));
+    }
+
+    @Test
+    @DisplayName("Test 26: Formato binario .thvb")
+    void testFormatoBinario() throws IOException {
+        Analizador analizador=new Analizador();
+        GeneradorCircuitos gen=new GeneradorCircuitos(Topologia.ETAPAS_DEPENDIENTES, 40, true, 5L);
+        CircuitoFileDto archivo=gen.generarArchivo();
+        Path json=Files.createTempFile("circuito", ".json");
+        Path thvb=Files.createTempFile("circuito", CircuitoBinario.EXTENSION);
+        Path vuelta=Files.createTempFile("vuelta", ".json");
+        try {
+            try(OutputStream salida=Files.newOutputStream(json)) {
+                CircuitoJson.escribir(salida, archivo.circuito(), archivo.posiciones(), archivo.cables(), true);
+            }
+            CircuitoBinario.convertirDesdeJson(json, thvb);
+            assertTrue(Files.size(thvb)<Files.size(json), "El binario debe ocupar menos que el JSON compacto");
+
+            // Se analiza directamente desde el archivo mapeado
+            CircuitoBinario binario=CircuitoBinario.abrir(thvb);
+            assertEquals(archivo.circuito().getComponentes().size(), binario.getNumComponentes());
+            Componente primero=archivo.circuito().getComponentes().get(1);
+            assertEquals(primero.getId(), binario.getId(1));
+            assertEquals(primero.getNodo2(), binario.getNodo2(1));
+            assertEquals(primero.getValor(), binario.getValor(1), 0.0);
+            ResultadoThevenin original=analizador.calculaThevenin(archivo.circuito(), gen.getTerminalA(), gen.getTerminalB());
+            ResultadoThevenin mapeado=analizador.calculaThevenin(binario.aCircuito(), gen.getTerminalA(), gen.getTerminalB());
+            assertEquals(original.getVth(), mapeado.getVth(), 1e-12);
+            assertEquals(original.getRth(), mapeado.getRth(), 1e-12);
+
+            // Ida y vuelta a JSON: mismos componentes, con sus Ids, y mismos cables
+            CircuitoBinario.convertirAJson(thvb, vuelta, false);
+            CircuitoFileDto leido=new CircuitoDeserializerService().cargarCircuitoArchivo(thvb.toFile());
+            CircuitoFileDto leidoJson;
+            try(InputStream entrada=Files.newInputStream(vuelta)) {
+                leidoJson=CircuitoJson.leer(entrada);
+            }
+            for(CircuitoFileDto dto : List.of(leido, leidoJson)) {
+                List<Componente> comps=dto.circuito().getComponentes();
+                assertEquals(sinIds(archivo.circuito()), sinIds(dto.circuito()), "Mismos componentes");
+                for(int i=0; i<comps.size(); i++) {
+                    assertEquals(archivo.circuito().getComponentes().get(i).getId(), comps.get(i).getId(), "Mismo Id");
+                }
+                assertEquals(archivo.posiciones().size(), dto.posiciones().size());
+                assertEquals(archivo.cables().size(), dto.cables().size());
+                for(int i=0; i<dto.cables().size(); i++) {
+                    CableDto a=archivo.cables().get(i), b=dto.cables().get(i);
+                    assertEquals(a.origenId(), b.origenId());
+                    assertEquals(a.destinoId(), b.destinoId());
+                    assertEquals(a.destinoPos(), b.destinoPos());
+                    // El servicio repara los cables al cargar; la conversión directa no los toca
+                    if(dto==leidoJson) assertEquals(a.puntos(), b.puntos());
+                }
+                assertEquals(archivo.posiciones().get(3).x(), dto.posiciones().get(3).x(), 0.0);
+            }
+        } finally {
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(thvb);
+            Files.deleteIfExists(vuelta);
+        }
+
+        // Diodos, fuentes controladas por corriente, cargas y extremos de cable sin componente
+        Circuito c=new Circuito();
+        c.addComponente(new Tierra(0));
+        c.addComponente(new FuenteTensionInd(5.0, 0, 1));
+        Diodo d=new Diodo(1e-12, 1, 2);
+        d.setEmision(1.8);
+        c.addComponente(d);
+        c.addComponente(new FuenteCorrienteDependiente(20.0, 0, 2, ControlType.CORRIENTE, 1, 2));
+        c.addComponente(new Resistencia(1000.0, 2, 0, true));
+        CableDto suelto=new CableDto("Cable-x", d.getId(), PosicionConexion.DERECHA, true, null,
+                null, null, false, 2, List.of(new PuntoDto(1.5, 2.5)));
+        CircuitoFileDto dto=CircuitoBinario.desde(CircuitoBinario.aBytes(c, List.of(), List.of(suelto))).aArchivo();
+        assertEquals(sinIds(c), sinIds(dto.circuito()));
+        Diodo d2=(Diodo) dto.circuito().getComponentes().get(2);
+        assertEquals(1.8, d2.getEmision(), 0.0);
+        assertTrue(dto.circuito().getComponentes().get(4).isCarga());
+        CableDto cable=dto.cables().get(0);
+        assertEquals(d.getId(), d2.getId());
+        assertEquals(d2.getId(), cable.origenId());
+        assertNull(cable.destinoId());
+        assertNull(cable.origenNodo());
+        assertEquals(Integer.valueOf(2), cable.destinoNodo());
+        assertThrows(IOException.class, () -> CircuitoBinario.desde(new byte[] {1, 2, 3}));
+
+        // Un tipo de componente desconocido es un error de formato, no un índice fuera de rango
+        byte[] datos=CircuitoBinario.aBytes(c, List.of(), List.of());
+        byte[] tipos={8, 4, 3, 7, 0};
+        int offTipo=-1;
+        for(int i=0; i+tipos.length<=datos.length && offTipo<0; i++) {
+            if(Arrays.equals(datos, i, i+tipos.length, tipos, 0, tipos.length)) offTipo=i;
+        }
+        assertTrue(offTipo>0);
+        datos[offTipo+2]=42;
+        IOException corrupto=assertThrows(IOException.class, () -> CircuitoBinario.desde(datos));
+        assertTrue(corrupto.getMessage().contains("byte "+(offTipo+2)), corrupto.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> ArenaNetlist.Tipo.deOrdinal(42));
+    }
+
+    @Test
+    @DisplayName("Test 27: Importación y exportación SPICE")
+    void testSpice() throws IOException {
+        // Sufijos de ingeniería SPICE (M es mili, MEG es mega)
+        assertEquals(4700.0, Unidades.parsearSpice("4.7k"), 0.0);
+        assertEquals(1e7, Unidades.parsearSpice("10MEG"), 0.0);
+        assertEquals(1e-3, Unidades.parsearSpice("1M"), 0.0);
+        assertEquals(2.2e-6, Unidades.parsearSpice("2.2u"), 0.0);
+        assertEquals(1e-10, Unidades.parsearSpice("100pF"), 0.0);
+        assertEquals(-1500.0, Unidades.parsearSpice("-1.5e3"), 0.0);
+        assertEquals(1e4, Unidades.parsearSpice("10kOhm"), 0.0);
+        assertEquals(0.1, Unidades.parsearSpice(".1"), 0.0);
+        assertEquals(76.2e-6, Unidades.parsearSpice("3mil"), 1e-18);
+        assertEquals(1.25e-300, Unidades.parsearSpice("1.25e-300"), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> Unidades.parsearSpice("k"));
+
+        // Convenios de signo de E, G, H y F: i(Vam)=2 mA entra por el terminal + de Vam
+        String netlist="""
+                Prueba de fuentes controladas
+                * V(2)=6, V(3)=2, V(6)=1, V(7)=4
+                V1 1 0 DC 2
+                R1 1 a 1k ; rama medida por Vam
+                Vam a 0 0
+                E1 2 0 1 0 3
+                R2 2 0 1k
+                G1 0 3 1 0 1m
+                R3 3 0 1kOhm
+                H1 6 0 Vam 500
+                R6 6 0 1k
+                F1 0 7
+                + Vam 2
+                R7 7 gnd 1k
+                .op
+                .end
+                R99 1 0 1
+                """;
+        LectorSpice lector=new LectorSpice();
+        Circuito c=lector.leer(new StringReader(netlist));
+        assertEquals("Prueba de fuentes controladas", lector.getTitulo());
+        assertEquals(1L, lector.getIgnoradas());
+        assertEquals(13, c.getComponentes().size(), "Tierra, 11 tarjetas y la fuente auxiliar de F");
+        Analizador analizador=new Analizador();
+        double[] esperado= {6.0, 2.0, 1.0, 4.0};
+        String[] nodos= {"2", "3", "6", "7"};
+        for(int i=0; i<nodos.length; i++) {
+            assertEquals(esperado[i], analizador.calculaThevenin(c, lector.getNodo(nodos[i]), 0).getVth(), 1e-9, "V("+nodos[i]+")");
+        }
+
+        // Exportar y volver a leer da las mismas tensiones
+        StringWriter cir=new StringWriter();
+        EscritorSpice.escribir(cir, c, "ida y vuelta");
+        assertTrue(cir.toString().endsWith(".end\n"));
+        Circuito vuelta=new LectorSpice().leer(new StringReader(cir.toString()));
+        for(int i=0; i<nodos.length; i++) {
+            int n=lector.getNodo(nodos[i]);
+            assertEquals(esperado[i], analizador.calculaThevenin(vuelta, n, 0).getVth(), 1e-9, "V("+nodos[i]+") exportado");
+        }
+
+        // Circuito generado con fuentes controladas por la corriente de una resistencia
+        GeneradorCircuitos gen=new GeneradorCircuitos(Topologia.ETAPAS_DEPENDIENTES, 200, true, 9L);
+        Circuito generado=gen.generarCircuito();
+        StringWriter grande=new StringWriter();
+        EscritorSpice.escribir(grande, generado, null);
+        Circuito importado=new LectorSpice().leer(new StringReader(grande.toString()));
+        assertEquals(generado.getComponentes().size(), importado.getComponentes().size());
+        ResultadoThevenin a=analizador.calculaThevenin(generado, gen.getTerminalA(), gen.getTerminalB());
+        ResultadoThevenin b=analizador.calculaThevenin(importado, gen.getTerminalA(), gen.getTerminalB());
+        assertEquals(a.getVth(), b.getVth(), 1e-9);
+        assertEquals(a.getRth(), b.getRth(), 1e-6*Math.abs(a.getRth()));
+
+        // Errores con el número de línea
+        IllegalArgumentException e=assertThrows(IllegalArgumentException.class,
+                () -> new LectorSpice().leer(new StringReader("titulo\nR1 1 0 1k\nX1 1 2 sub\n")));
+        assertTrue(e.getMessage().startsWith("Línea 3"), e.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> new LectorSpice().leer(new StringReader("titulo\nH1 1 0 Vnada 2\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LectorSpice().leer(new StringReader("titulo\nR1 1 0 -5\n")));
+    }
+
+    @Test
+    @DisplayName("Test 28: Instantánea del circuito y guardado atómico")
+    void testGuardadoAtomico() throws IOException {
+        Analizador analizador=new Analizador();
+        GeneradorCircuitos gen=new GeneradorCircuitos(Topologia.ESCALERA_R2R, 30, false, 11L);
+        CircuitoFileDto archivo=gen.generarArchivo();
+        Circuito circuito=archivo.circuito();
+
+        // La instantánea conserva los Ids y no cambia al editar el original
+        Circuito copia=circuito.instantanea();
+        assertEquals(circuito.getComponentes().stream().map(Componente::getId).toList(),
+                copia.getComponentes().stream().map(Componente::getId).toList());
+        Componente r=circuito.getComponentes().stream().filter(Resistencia.class::isInstance).findFirst().orElseThrow();
+        Componente rCopia=copia.getComponentes().get(circuito.getComponentes().indexOf(r));
+        assertNotSame(r, rCopia);
+        double valor=r.getValor();
+        ResultadoThevenin antes=analizador.calculaThevenin(copia, gen.getTerminalA(), gen.getTerminalB());
+        r.setValor(valor*10);
+        assertEquals(valor, rCopia.getValor(), 0.0);
+        ResultadoThevenin despues=analizador.calculaThevenin(copia, gen.getTerminalA(), gen.getTerminalB());
+        assertEquals(antes.getVth(), despues.getVth(), 0.0);
+        r.setValor(valor);
+
+        Path dir=Files.createTempDirectory("guardado");
+        Path destino=dir.resolve("proyecto.json");
+        try {
+            EscrituraAtomica.escribir(destino, salida ->
+                    CircuitoJson.escribir(salida, copia, archivo.posiciones(), archivo.cables(), true));
+            byte[] original=Files.readAllBytes(destino);
+
+            // Un fallo a mitad deja el archivo anterior intacto y sin temporales
+            IOException fallo=assertThrows(IOException.class, () -> EscrituraAtomica.escribir(destino, salida -> {
+                salida.write(new byte[1<<17]);
+                throw new IOException("disco lleno");
+            }));
+            assertEquals("disco lleno", fallo.getMessage());
+            assertArrayEquals(original, Files.readAllBytes(destino));
+            try(var archivos=Files.list(dir)) {
+                assertEquals(List.of(destino), archivos.toList());
+            }
+
+            // Carga con avance creciente hasta 1 y mismo resultado
+            List<Double> avances=new ArrayList<>();
+            CircuitoFileDto leido=new CircuitoDeserializerService().cargarCircuitoArchivo(destino.toFile(), avances::add);
+            assertFalse(avances.isEmpty());
+            for(int k=1; k<avances.size(); k++) {
+                assertTrue(avances.get(k)>=avances.get(k-1), "El avance no puede retroceder");
+            }
+            assertEquals(1.0, avances.get(avances.size()-1), 0.0);
+            assertEquals(sinIds(circuito), sinIds(leido.circuito()));
+
+            // Con el hilo interrumpido la carga se corta
+            Thread.currentThread().interrupt();
+            try {
+                assertThrows(IOException.class,
+                        () -> new CircuitoDeserializerService().cargarCircuitoArchivo(destino.toFile(), avance -> {}));
+            } finally {
+                Thread.interrupted();
+            }
+        } finally {
+            Files.deleteIfExists(destino);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("Test 29: Diario de autoguardado y recuperación")
+    void testDiarioAutoguardado() throws IOException {
+        GeneradorCircuitos gen=new GeneradorCircuitos(Topologia.ESCALERA_R2R, 20, true, 3L);
+        CircuitoFileDto base=gen.generarArchivo();
+        List<Componente> comps=base.circuito().getComponentes();
+        Path dir=Files.createTempDirectory("diario");
+        Path proyecto=dir.resolve("proyecto.json");
+        try {
+            DiarioCircuito diario=DiarioCircuito.iniciar(proyecto);
+            assertFalse(DiarioCircuito.hayCambios(proyecto));
+
+            // Ediciones: cambiar un valor, quitar un componente y un cable
+            Componente r=comps.stream().filter(Resistencia.class::isInstance).findFirst().orElseThrow();
+            Componente quitado=comps.get(comps.size()-1);
+            CableDto cable=base.cables().get(0);
+            r.setValor(123);
+            diario.ponerComponente(r, base.posiciones().stream()
+                    .filter(p -> p.componenteId().equals(r.getId())).findFirst().orElse(null));
+            diario.quitarComponente(quitado.getId());
+            diario.quitarCable(cable.id());
+            assertEquals(3L, diario.getRegistros());
+            diario.sincronizar();
+            assertTrue(DiarioCircuito.hayCambios(proyecto));
+
+            CircuitoFileDto recuperado=DiarioCircuito.recuperar(proyecto, base);
+            List<Componente> leidos=recuperado.circuito().getComponentes();
+            assertEquals(comps.size()-1, leidos.size());
+            assertEquals(123, leidos.stream().filter(c -> c.getId().equals(r.getId())).findFirst().orElseThrow().getValor(), 0.0);
+            assertTrue(leidos.stream().noneMatch(c -> c.getId().equals(quitado.getId())));
+            assertEquals(base.cables().size()-1, recuperado.cables().size());
+
+            // Punto de control: lo registrado después va al diario nuevo
+            int generacion=diario.rotar();
+            assertEquals(0L, diario.getRegistros());
+            Resistencia nueva=new Resistencia(47, 1, 0);
+            diario.ponerComponente(nueva, new PosicionComponenteDto(nueva.getId(), 10, 20, 90));
+            diario.escribirPunto(generacion, salida -> CircuitoJson.escribir(salida, recuperado.circuito(),
+                    recuperado.posiciones(), recuperado.cables(), true));
+            diario.close();
+
+            // Un registro cortado al final (caída a mitad de escritura) se descarta
+            Path ultimo;
+            try(var archivos=Files.list(dir)) {
+                List<String> nombres=archivos.map(p -> p.getFileName().toString()).sorted().toList();
+                assertEquals(List.of(".proyecto.json.diario-"+generacion, ".proyecto.json.punto-"+generacion+".json"), nombres);
+                ultimo=dir.resolve(nombres.get(0));
+            }
+            Files.write(ultimo, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+            CircuitoFileDto tras=DiarioCircuito.recuperar(proyecto, null);
+            assertEquals(comps.size(), tras.circuito().getComponentes().size());
+            Componente ultimaLeida=tras.circuito().getComponentes().get(comps.size()-1);
+            assertEquals(nueva.getId(), ultimaLeida.getId());
+            assertEquals(47, ultimaLeida.getValor(), 0.0);
+            assertEquals(90, tras.posiciones().get(tras.posiciones().size()-1).rotacion());
+
+            DiarioCircuito.descartar(proyecto);
+            assertFalse(DiarioCircuito.hayCambios(proyecto));
+        } finally {
+            try(var archivos=Files.list(dir)) {
+                for(Path p : archivos.toList()) Files.deleteIfExists(p);
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("Test 30: Resultados guardados con el proyecto y ligados a la huella")
+    void testResultadosGuardados() throws IOException {
+        Circuito rc=new Circuito();
+        rc.addComponente(new FuenteTensionInd(10.0, 0, 2));
+        rc.addComponente(new Resistencia(1000.0, 2, 1));
+        rc.addComponente(new Condensador("1µ", 1, 0));
+        rc.addComponente(new Tierra(0));
+        Analizador analizador=new Analizador();
+        String huella=CircuitoJson.huella(rc.getComponentes());
+
+        // La huella no depende del orden de los componentes
+        List<Componente> invertidos=new ArrayList<>(rc.getComponentes());
+        Collections.reverse(invertidos);
+        assertEquals(huella, CircuitoJson.huella(invertidos));
+
+        ResultadoThevenin th=analizador.calculaThevenin(rc, 1, 0);
+        BarridoAC bode=analizador.calculaBarridoAC(rc, 1, 0, 1.0, 1e5, 11);
+        ResultadosDto resultados=ResultadosDto.vacio(huella)
+                .conThevenin(ResultadosDto.Equivalente.de(th, 1, 0))
+                .conNorton(ResultadosDto.Equivalente.de(new ResultadoNorton(Double.POSITIVE_INFINITY, 0.0), 1, 0))
+                .conPuntoOperacion(ResultadosDto.PuntoOperacion.de(analizador.calculaPuntoOperacion(rc)))
+                .conBarrido(ResultadosDto.Barrido.de(bode, 1, 0));
+        assertNotNull(resultados.thevenin(), "Norton de los mismos nodos conserva el Thévenin");
+
+        ByteArrayOutputStream salida=new ByteArrayOutputStream();
+        CircuitoJson.escribir(salida, rc.getComponentes(), List.of(), List.of(), resultados, true);
+        CircuitoFileDto leido=CircuitoJson.leer(new ByteArrayInputStream(salida.toByteArray()));
+        ResultadosDto r=leido.resultados();
+        assertNotNull(r, "Los resultados del mismo circuito se conservan");
+        assertEquals(th.getVth(), r.thevenin().aThevenin().getVth(), 0.0);
+        assertEquals(th.getRth(), r.thevenin().aThevenin().getRth(), 0.0);
+        assertTrue(Double.isInfinite(r.norton().aNorton().getIn()));
+        assertEquals(10.0, r.puntoOperacion().aResultado().getTensionesNodo().get(2), DELTA);
+        BarridoAC bodeLeido=r.barrido().aBarrido();
+        assertArrayEquals(bode.getFrecuencias(), bodeLeido.getFrecuencias(), 0.0);
+        assertArrayEquals(bode.getZthFase(), bodeLeido.getZthFase(), 0.0);
+
+        // Un cambio en el circuito invalida los resultados, al escribir y al leer
+        Circuito cambiado=leido.circuito();
+        cambiado.getResistencias().get(0).setValor(2000.0);
+        ByteArrayOutputStream otra=new ByteArrayOutputStream();
+        CircuitoJson.escribir(otra, cambiado.getComponentes(), List.of(), List.of(), r, false);
+        assertFalse(otra.toString(StandardCharsets.UTF_8).contains("resultados"));
+        String editado=salida.toString(StandardCharsets.UTF_8).replace("1000.0", "2000.0");
+        assertNull(CircuitoJson.leer(editado).resultados());
+        assertNotNull(CircuitoJson.leer(salida.toString(StandardCharsets.UTF_8)).resultados());
+        // Un Thévenin de otros nodos descarta el Norton anterior
+        assertNull(r.conThevenin(new ResultadosDto.Equivalente(2, 0, 10.0, 0.0)).norton());
+    }
+
+    @Test
+    @DisplayName("Test 31: Extracción de nodos a partir de los cables")
+    void testExtractorRedes() {
+        // Divisor con los nodos guardados desfasados: solo los cables dicen cómo está conectado
+        FuenteTensionInd v=new FuenteTensionInd(10.0, 0, 5);
+        Resistencia r1=new Resistencia(1000.0, 5, 9);
+        Resistencia r2=new Resistencia(1000.0, 7, 3);
+        Resistencia r3=new Resistencia(1000.0, 8, 5);
+        Tierra tierra=new Tierra(0);
+        Circuito c=new Circuito();
+        for(Componente k : List.of(v, r1, r2, r3, tierra)) c.addComponente(k);
+        List<CableDto> cables=List.of(
+                cable("c1", v.getId(), true, r1.getId(), false, 0, 0, 100, 0),
+                cable("c2", r1.getId(), true, null, false, 200, 0, 300, 0),
+                // Extremo libre a 5 px del anterior: mismo punto dentro de la tolerancia
+                cable("c3", null, false, r2.getId(), true, 303, 4, 300, 100),
+                cable("c4", r2.getId(), false, tierra.getId(), false, 300, 200, 0, 200),
+                cable("c5", v.getId(), false, tierra.getId(), false, 0, 100, 0, 200),
+                // Pin de otro componente encima de un pin de R1: no se fusionan
+                cable("c6", r3.getId(), false, null, false, 100, 0, 100, -50));
+
+        ExtractorRedes.Redes redes=ExtractorRedes.extraer(c.getComponentes(), cables);
+        assertEquals(0, redes.nodo1(v.getId()));
+        assertEquals(5, redes.nodo2(v.getId()), "La red conserva el nodo guardado de su primer pin");
+        assertEquals(5, redes.nodo1(r1.getId()));
+        assertEquals(9, redes.nodo2(r1.getId()));
+        assertEquals(9, redes.nodo2(r2.getId()));
+        assertEquals(0, redes.nodo1(r2.getId()));
+        assertNotEquals(5, redes.nodo1(r3.getId()));
+        assertNotEquals(redes.nodo1(r3.getId()), redes.nodo2(r3.getId()));
+        assertEquals(5, redes.getNumNodos());
+        assertThrows(IllegalArgumentException.class, () -> redes.nodo1("desconocido"));
+
+        assertEquals(2, redes.aplicar(c));
+        assertEquals(0, ExtractorRedes.extraer(c.getComponentes(), cables).aplicar(c), "La numeración es estable");
+        c.eliminarComponente(r3);
+        ResultadoThevenin th=new Analizador().calculaThevenin(c, 9, 0);
+        assertEquals(5.0, th.getVth(), DELTA);
+        assertEquals(500.0, th.getRth(), DELTA);
+    }
+
+    @Test
+    @DisplayName("Test 32: Netlist compacta fuera del heap y solver disperso")
+    void testArenaNetlist() throws IOException {
+        // Divisor con carga de corriente, construido directamente en la arena
+        try(ArenaNetlist arena=new ArenaNetlist(8)) {
+            arena.add(ArenaNetlist.Tipo.FUENTE_TENSION, 0, 1, 10.0);
+            arena.add(ArenaNetlist.Tipo.RESISTENCIA, 1, 2, 1000.0);
+            arena.add(ArenaNetlist.Tipo.RESISTENCIA, 2, 0, 1000.0);
+            arena.add(ArenaNetlist.Tipo.FUENTE_CORRIENTE, 2, 0, 0.001);
+            arena.add(ArenaNetlist.Tipo.TIERRA, 0, 0, 0.0);
+            assertEquals(5, arena.size());
+            assertEquals(3, arena.getNumNodos());
+            assertEquals(8L*ArenaNetlist.REGISTRO, arena.getBytesReservados());
+            double[] v=MatrixUtil.resolverCircuitoNodal(arena);
+            assertEquals(10.0, v[1], DELTA);
+            assertEquals(4.5, v[2], DELTA);
+            assertTrue(GraphUtil.caminoNodos(arena, 1, 0));
+            assertEquals(3, GraphUtil.nodosConexos(arena, 2).cardinality());
+        }
+
+        // Rejilla grande: mismas tensiones que la MNA densa
+        Circuito c=rejilla(12, 12, 470.0);
+        c.addComponente(new FuenteTensionInd(5.0, 0, 1));
+        c.addComponente(new Resistencia(100.0, 144, 0));
+        c.addComponente(new Tierra(0));
+        ResultadoPuntoOperacion po=new Analizador().calculaPuntoOperacion(c);
+        try(ArenaNetlist arena=ArenaNetlist.desde(c)) {
+            assertEquals(c.getComponentes().size(), arena.size());
+            double[] v=MatrixUtil.resolverCircuitoNodal(arena);
+            for(int nodo=1; nodo<=144; nodo++) {
+                assertEquals(po.getTensionesNodo().get(nodo), v[nodo], 1e-7, "Nodo "+nodo);
+            }
+        }
+
+        // Desde un .thvb sin crear componentes, y vuelta al modelo de objetos
+        byte[] datos=CircuitoBinario.aBytes(c, List.of(), List.of());
+        ArenaNetlist cargada=CircuitoBinario.desde(datos).aArena();
+        assertEquals(sinIds(c), sinIds(cargada.aCircuito()));
+        cargada.close();
+        assertTrue(cargada.isCerrada());
+        assertThrows(IllegalStateException.class, () -> cargada.getNodo1(0));
+
+        // Componentes fuera del alcance del solver disperso y errores de construcción
+        try(ArenaNetlist conDiodo=new ArenaNetlist(2)) {
+            conDiodo.add(ArenaNetlist.Tipo.DIODO, 0, 1, 0.7);
+            conDiodo.add(ArenaNetlist.Tipo.RESISTENCIA, 1, 0, 100.0);
+            assertThrows(IllegalArgumentException.class, () -> MatrixUtil.resolverCircuitoNodal(conDiodo));
+            assertThrows(IllegalStateException.class, () -> conDiodo.add(ArenaNetlist.Tipo.RESISTENCIA, 1, 2, 1.0));
+        }
+        try(ArenaNetlist flotante=new ArenaNetlist(4)) {
+            flotante.add(ArenaNetlist.Tipo.RESISTENCIA, 0, 1, 100.0);
+            flotante.add(ArenaNetlist.Tipo.RESISTENCIA, 2, 3, 100.0);
+            flotante.add(ArenaNetlist.Tipo.FUENTE_CORRIENTE, 3, 2, 0.01);
+            assertThrows(IllegalStateException.class, () -> MatrixUtil.resolverCircuitoNodal(flotante));
+        }
+    }
+
+    @Test
+    @DisplayName("Test 33: Construcción de circuitos por lotes")
+    void testCircuitoBuilder() {
+        // Mismo circuito y mismo mapa de nodos que añadiendo uno a uno
+        List<Componente> lote=List.of(new FuenteTensionInd(12.0, 0, 3), new Resistencia(100.0, 3, 7),
+                new Resistencia(200.0, 7, 0), new Tierra(0));
+        Circuito unoAUno=new Circuito();
+        lote.forEach(unoAUno::addComponente);
+        Circuito porLotes=new CircuitoBuilder().conTodos(lote).construir();
+        assertEquals(unoAUno.getComponentes(), porLotes.getComponentes());
+        assertEquals(unoAUno.getNodos(), porLotes.getNodos());
+        assertEquals(8.0, new Analizador().calculaThevenin(porLotes, 7, 0).getVth(), DELTA);
+
+        CircuitoBuilder dosTierras=new CircuitoBuilder().con(new Tierra(0)).con(new Tierra(1));
+        assertThrows(IllegalArgumentException.class, dosTierras::construir);
+        CircuitoBuilder usado=new CircuitoBuilder(1).con(new Resistencia(1.0, 0, 1));
+        usado.construir();
+        assertThrows(IllegalStateException.class, () -> usado.con(new Resistencia(1.0, 1, 2)));
+
+        // Escalera grande: el mapa de nodos se construye en una sola pasada
+        int n=100_000;
+        CircuitoBuilder escalera=new CircuitoBuilder(n);
+        for(int i=0; i<n; i++) escalera.con(new Resistencia(1.0, i, i+1));
+        Circuito grande=escalera.construir();
+        assertEquals(n, grande.getComponentes().size());
+        assertEquals(n+1, grande.getNodos().size());
+        assertEquals(Integer.valueOf(n), grande.getNodos().get(n));
+    }
+
+    @Test
+    @DisplayName("Test 34: Índices por tipo y por Id del circuito")
+    void testIndicesCircuito() {
+        Resistencia r1=new Resistencia(100.0, 1, 2);
+        Resistencia r2=new Resistencia(200.0, 2, 0);
+        FuenteTensionInd v=new FuenteTensionInd(5.0, 0, 1);
+        Circuito c=new CircuitoBuilder().con(v).con(r1).con(r2).con(new Tierra(0)).construir();
+
+        // Vistas por tipo: no son copias, siguen el orden del circuito y no se pueden modificar
+        List<Resistencia> resistencias=c.getResistencias();
+        assertSame(resistencias, c.getResistencias());
+        assertEquals(List.of(r1, r2), resistencias);
+        assertThrows(UnsupportedOperationException.class, () -> resistencias.remove(0));
+        Resistencia r0=new Resistencia(50.0, 1, 3);
+        c.getComponentes().add(1, r0);
+        assertEquals(List.of(r0, r1, r2), resistencias);
+        assertEquals(List.of(v), c.getFuentesTensionInd());
+        assertTrue(c.getFuentesCorrienteInd().isEmpty());
+
+        // Búsqueda y borrado por Id, aunque cambien los nodos del componente
+        assertSame(r1, c.getComponente(r1.getId()).orElseThrow());
+        r1.setNodo2(4);
+        assertTrue(c.getComponentes().contains(r1));
+        assertTrue(c.eliminarComponente(r1.getId()));
+        assertFalse(c.contieneComponente(r1.getId()));
+        assertFalse(c.eliminarComponente(r1.getId()));
+        assertEquals(List.of(r0, r2), resistencias);
+
+        // Los removeIf de las utilidades también mantienen los índices
+        c.eliminarNodosColgantes(2, 0);
+        assertFalse(c.contieneComponente(r0.getId()));
+        assertEquals(List.of(r2), resistencias);
+
+        // Ids repetidos (una copia exacta): cada uno se sigue encontrando
+        Componente copia=r2.copiaExacta();
+        copia.setValor(300.0);
+        c.getComponentes().add(copia);
+        assertTrue(c.getComponentes().contains(copia));
+        c.eliminarComponente(r2);
+        assertSame(copia, c.getComponente(r2.getId()).orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> c.addComponente(new Tierra(0)));
+    }
+
+    @Test
+    @DisplayName("Test 35: Autoguardado de un proyecto .thvb")
+    void testAutoguardadoBinario() throws IOException {
+        GeneradorCircuitos gen=new GeneradorCircuitos(Topologia.ESCALERA_R2R, 20, true, 3L);
+        CircuitoFileDto archivo=gen.generarArchivo();
+        Path dir=Files.createTempDirectory("diario");
+        Path proyecto=dir.resolve("proyecto"+CircuitoBinario.EXTENSION);
+        try {
+            Files.write(proyecto, CircuitoBinario.aBytes(archivo.circuito(), archivo.posiciones(), archivo.cables()));
+            CircuitoFileDto cargado=new CircuitoDeserializerService().cargarCircuitoArchivo(proyecto.toFile());
+            List<Componente> comps=cargado.circuito().getComponentes();
+
+            // El diario empieza con un punto de control del circuito cargado, que no cuenta como cambio
+            DiarioCircuito diario=DiarioCircuito.iniciar(proyecto, salida -> CircuitoJson.escribir(salida,
+                    cargado.circuito(), cargado.posiciones(), cargado.cables(), true));
+            diario.sincronizar();
+            assertTrue(Files.exists(dir.resolve(".proyecto"+CircuitoBinario.EXTENSION+".punto-1.json")));
+            assertFalse(DiarioCircuito.hayCambios(proyecto));
+
+            Componente quitado=comps.get(comps.size()-1);
+            Resistencia nueva=new Resistencia(47, 1, 0);
+            diario.quitarComponente(quitado.getId());
+            diario.ponerComponente(nueva, new PosicionComponenteDto(nueva.getId(), 10, 20, 0));
+            diario.close();
+            assertTrue(DiarioCircuito.hayCambios(proyecto));
+
+            // Se recupera sin volver a leer el archivo: ni duplicados ni bajas perdidas
+            CircuitoFileDto recuperado=DiarioCircuito.recuperar(proyecto, null);
+            List<Componente> leidos=recuperado.circuito().getComponentes();
+            assertEquals(comps.size(), leidos.size());
+            assertEquals((long) leidos.size(), leidos.stream().map(Componente::getId).distinct().count());
+            assertTrue(leidos.stream().noneMatch(c -> c.getId().equals(quitado.getId())));
+            assertEquals(nueva.getId(), leidos.get(leidos.size()-1).getId());
+            assertEquals(cargado.cables().size(), recuperado.cables().size());
+        } finally {
+            DiarioCircuito.descartar(proyecto);
+            Files.deleteIfExists(proyecto);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    private static CableDto cable(String id,String origenId, boolean origenPositivo, String destinoId,
+            boolean destinoPositivo, double x0, double y0, double x1, double y1) {
+        return new CableDto(id,
+                origenId, origenId!=null ? PosicionConexion.IZQUIERDA : null, origenPositivo, null,
+                destinoId, destinoId!=null ? PosicionConexion.DERECHA : null, destinoPositivo, null,
+                List.of(new PuntoDto(x0, y0), new PuntoDto(x1, y1)));
+    }
+
+    /** Tipo, nodos, valor y carga de cada componente, sin el Id (que cambia al reconstruir desde una arena o un SPICE). */
+    private static List<String> sinIds(Circuito c) {
+        return c.getComponentes().stream()
+                .map(comp -> comp.getClass().getSimpleName()+" "+comp.getNodo1()+" "+comp.getNodo2()
+                        +" "+(comp instanceof Tierra ? 0.0 : comp.getValor())+" "+comp.isCarga()
+                        +(comp instanceof FuenteDependiente f ? " "+f.getControlType()+" "+f.getCtrlNeg()+" "+f.getCtrlPos() : ""))
+                .collect(Collectors.toList());
+    }
+
+    /** Rejilla de filas×columnas nodos (numerados desde 1 por filas) con la misma resistencia en cada lado. */
+    private static Circuito rejilla(int filas, int columnas, double valor) {
+        Circuito c=new Circuito();
+        for(int i=0; i<filas; i++) {
+            for(int j=0; j<columnas; j++) {
+                int nodo=i*columnas+j+1;
+                if(j+1<columnas) c.addComponente(new Resistencia(valor, nodo, nodo+1));
+                if(i+1<filas) c.addComponente(new Resistencia(valor, nodo, nodo+columnas));
+            }
+        }
+        return c;
+    }
+}
@@ -12,6 +12,7 @@ import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
 import com.circuitos.analisiscircuitos.gui.controller.ThevenAppController;
+import com.circuitos.analisiscircuitos.gui.service.io.GestionArchivoService;
 import com.circuitos.analisiscircuitos.gui.util.LogViewer;
 import com.circuitos.analisiscircuitos.gui.util.StylesLoader;
 
@@ -42,6 +43,8 @@ public class ThevenApp extends Application {
 	private static final String LOG_DIR_PATH=System.getProperty("user.home")+"/ThevenApp/logs";
 	private static final String LOG_FILE_NAME="ThevenAppLogs-";
 	
+	private ThevenAppController controlador;
+	
 	public void init() throws Exception {
 		super.init();
 		Path logDir=Path.of(LOG_DIR_PATH);
@@ -97,6 +100,7 @@ public class ThevenApp extends Application {
 		
 			ThevenAppController ctrl=loader.getController();
 			ctrl.initStage(stage);
+			controlador=ctrl;
 			
 			stage.setOnCloseRequest(k -> {
 				logger.log(Level.INFO, "Cerrando aplicación.");
@@ -112,6 +116,20 @@ public class ThevenApp extends Application {
 		}
 	}
 	
+	/**
+	 * Al salir de forma normal se espera a que acaben los guardados en marcha y después se cierra
+	 * el autoguardado; solo queda si la aplicación se cae o si un guardado no llega a terminar.
+	 */
+	@Override
+	public void stop() throws Exception {
+		boolean terminado=GestionArchivoService.terminar();
+		if(controlador!=null) {
+			if(terminado) controlador.detenerAutoguardado();
+			else logger.warning("Guardado sin terminar al salir; se conserva el autoguardado");
+		}
+		super.stop();
+	}
+	
 	/**
 	 * Método principal (entrada de la JVM), delega en {@link #start(Stage)}.
 	 */
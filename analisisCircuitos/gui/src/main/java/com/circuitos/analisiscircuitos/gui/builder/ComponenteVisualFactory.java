@@ -37,6 +37,9 @@ public class ComponenteVisualFactory {
 	private static final double PAD_TOP=4;
 	private static final Map<TipoComponenteVisual, Double> PAD_SIDE=Map.of(
 			TipoComponenteVisual.RESISTOR, -35.0,
+			TipoComponenteVisual.CONDENSADOR, -35.0,
+			TipoComponenteVisual.BOBINA, -35.0,
+			TipoComponenteVisual.DIODO, -35.0,
 			TipoComponenteVisual.FTD, 18.0,
 			TipoComponenteVisual.FCD, 18.0,
 			TipoComponenteVisual.TIERRA, 15.0);
@@ -336,7 +339,7 @@ public class ComponenteVisualFactory {
      */
     private static void posicionarPuntos(TipoComponenteVisual tipo, PuntoConexion puntoPositivo, PuntoConexion puntoNegativo) {
         switch(tipo) {
-        	case RESISTOR -> {
+        	case RESISTOR, CONDENSADOR, BOBINA, DIODO -> {
         		puntoNegativo.setTranslateX(-56);
         		puntoPositivo.setTranslateX(56);
         	} 	
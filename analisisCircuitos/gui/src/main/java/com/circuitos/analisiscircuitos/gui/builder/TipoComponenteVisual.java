@@ -2,7 +2,10 @@ package com.circuitos.analisiscircuitos.gui.builder;
 
 import java.util.function.Supplier;
 
+import com.circuitos.analisiscircuitos.dominio.Bobina;
 import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
 import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
@@ -22,6 +25,9 @@ import com.circuitos.analisiscircuitos.dominio.Tierra;
 public enum TipoComponenteVisual {
 
 	RESISTOR("resistor.png", 140, 60, 0, 135, () -> new Resistencia(1.0, -1, -2)),
+	CONDENSADOR("condensador.png", 140, 60, 0, 135, () -> new Condensador(1e-6, -1, -2)),
+	BOBINA("bobina.png", 140, 60, 0, 135, () -> new Bobina(1e-3, -1, -2)),
+	DIODO("diodo.png", 140, 60, 0, 135, () -> new Diodo(1e-14, -1, -2)),
 	TIERRA("tierra.png", 60, 90, 90, 48, () -> new Tierra(-1)),
 	FTI("fti.png", 90, 110, 90, 90, () -> new FuenteTensionInd(0.0, -1, -2)),
 	FCI("fci.png", 90, 110, 90, 90, () -> new FuenteCorrienteInd(0.0, -1, -2)),
@@ -136,6 +142,9 @@ public enum TipoComponenteVisual {
 	 */
 	public static TipoComponenteVisual fromComponente(Componente c) {
 		if(c instanceof Resistencia) return RESISTOR;
+		if(c instanceof Condensador) return CONDENSADOR;
+		if(c instanceof Bobina) return BOBINA;
+		if(c instanceof Diodo) return DIODO;
 		if(c instanceof FuenteTensionInd) return FTI;
 		if(c instanceof FuenteCorrienteInd) return FCI;
 		if(c instanceof FuenteTensionDependiente) return FTD;
@@ -115,4 +115,9 @@ public class AddCableCommand implements Command {
 		//El comando es válido si el cable y la zona de dibujo existen
 		return cable!=null && zonaDibujo!=null;
 	}
+	
+	@Override
+	public List<Object> afectados() {
+		return List.of(cable);
+	}
 }
@@ -1,5 +1,6 @@
 package com.circuitos.analisiscircuitos.gui.commands;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -159,4 +160,9 @@ public class AddComponentCommand implements Command {
 		}
 		return true; //Si no ha sido ejecutado aún, es válido
 	}
+	
+	@Override
+	public List<Object> afectados() {
+		return componente!=null ? List.of(componente) : List.of();
+	}
 }
@@ -1,5 +1,6 @@
 package com.circuitos.analisiscircuitos.gui.commands;
 
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -15,12 +16,28 @@ public class ChangeParamCommand<T> implements Command {
 	private final Consumer<T> setter;
 	private final T oldVal;
 	private final T newVal;
+	private final Object objetivo;
 	
 	public ChangeParamCommand(String desc, Supplier<T> getter, Consumer<T> setter, T newVal) {
+		this(desc, getter, setter, newVal, null);
+	}
+	
+	/**
+	 * Constructor indicando el componente o cable que cambia, para que el autoguardado registre
+	 * solo ese elemento.
+	 * 
+	 * @param desc				Descripción de la acción
+	 * @param getter			Lectura del valor actual
+	 * @param setter			Escritura del valor
+	 * @param newVal			Valor nuevo
+	 * @param objetivo			Componente o cable modificado ({@code null} si no se sabe)
+	 */
+	public ChangeParamCommand(String desc, Supplier<T> getter, Consumer<T> setter, T newVal, Object objetivo) {
 		this.desc=desc;
 		this.setter=setter;
 		this.oldVal=getter.get();
 		this.newVal=newVal;
+		this.objetivo=objetivo;
 	}
 	
 	/* Implementación métodos de la interfaz */ 
@@ -39,4 +56,9 @@ public class ChangeParamCommand<T> implements Command {
 	public String getDescripcion() {
 		return desc;
 	}
+	
+	@Override
+	public List<Object> afectados() {
+		return objetivo!=null ? List.of(objetivo) : null;
+	}
 }
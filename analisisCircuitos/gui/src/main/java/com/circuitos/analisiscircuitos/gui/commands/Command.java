@@ -1,5 +1,7 @@
 package com.circuitos.analisiscircuitos.gui.commands;
 
+import java.util.List;
+
 /**
  * Interfaz base para aplicar el patrón "Command" en la operación deshacer/rehacer.
  * 
@@ -60,4 +62,15 @@ public interface Command {
 	default boolean esValido() {
 		return true;
 	}
+	
+	/**
+	 * Elementos que este comando modifica: componentes ({@code Componente}) y cables
+	 * ({@code Cable}). El autoguardado registra solo su estado después de ejecutar, deshacer o
+	 * rehacer, así que basta con lo que cambia y no hace falta recorrer el circuito.
+	 * 
+	 * @return elementos afectados, o {@code null} si no se conocen (se guarda el circuito entero)
+	 */
+	default List<Object> afectados() {
+		return null;
+	}
 }
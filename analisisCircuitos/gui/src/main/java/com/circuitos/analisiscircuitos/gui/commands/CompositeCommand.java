@@ -75,6 +75,18 @@ public class CompositeCommand implements Command {
 		return false;
 	}
 	
+	@Override
+	public List<Object> afectados() {
+		List<Object> afectados=new ArrayList<>();
+		for(Command c : commands) {
+			if(c==null) continue;
+			List<Object> parte=c.afectados();
+			if(parte==null) return null;
+			afectados.addAll(parte);
+		}
+		return afectados;
+	}
+	
 	@Override
 	public boolean puedeFusionarCon(Command otro) {
 		return false; 		//No fusionar macros por defecto
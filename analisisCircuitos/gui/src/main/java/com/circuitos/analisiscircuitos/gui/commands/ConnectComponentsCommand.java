@@ -1,8 +1,13 @@
 package com.circuitos.analisiscircuitos.gui.commands;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Tierra;
 import com.circuitos.analisiscircuitos.gui.model.Cable;
 import com.circuitos.analisiscircuitos.gui.model.ConectorPuntos;
 import com.circuitos.analisiscircuitos.gui.model.Net;
@@ -78,4 +83,24 @@ public class ConnectComponentsCommand implements Command {
     	if(!ejecutado) return true;
     	return puntoA.getScene()!=null && puntoB.getScene()!=null;
     }
+    
+    /**
+     * El cable y los componentes de las dos nets, que cambian de nodo al unirlas. Conectar a
+     * tierra renumera todos los nodos, así que en ese caso no se acota.
+     */
+    @Override
+    public List<Object> afectados() {
+    	if(puntoA==null || puntoB==null) return List.of();
+    	if(puntoA.getComponente() instanceof Tierra || puntoB.getComponente() instanceof Tierra) return null;
+    	Set<Object> afectados=new LinkedHashSet<>();
+    	if(cableCreado!=null) afectados.add(cableCreado);
+    	for(Net net : new Net[] {puntoA.getNet(), puntoB.getNet(), netAnteriorA, netAnteriorB}) {
+    		if(net==null) continue;
+    		for(PuntoConexion pin : net.getPins()) afectados.add(pin.getComponente());
+    	}
+    	afectados.add(puntoA.getComponente());
+    	afectados.add(puntoB.getComponente());
+    	afectados.remove(null);
+    	return new ArrayList<>(afectados);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.circuitos.analisiscircuitos.gui.commands;
 
+import java.util.List;
+
 import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.gui.service.undo.DescripcionesAccion;
 
@@ -115,4 +117,9 @@ public class MoveComponentCommand implements Command {
     public boolean esValido() {
     	return vista!=null;
     }
+    
+    @Override
+    public List<Object> afectados() {
+    	return componente!=null ? List.of(componente) : List.of();
+    }
 }
\ No newline at end of file
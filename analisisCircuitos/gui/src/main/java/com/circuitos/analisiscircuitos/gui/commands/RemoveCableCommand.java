@@ -77,4 +77,9 @@ public class RemoveCableCommand implements Command {
     public boolean esValido() {
     	return cable!=null && zonaDibujo!=null && cablesCircuito!=null;
     }
+    
+    @Override
+    public List<Object> afectados() {
+    	return cable!=null ? List.of(cable) : List.of();
+    }
 }
\ No newline at end of file
@@ -193,4 +193,12 @@ public class RemoveComponentCommand implements Command {
     public boolean esValido() {
     	return componente!=null && controlador!=null;
     }
+    
+    @Override
+    public List<Object> afectados() {
+    	List<Object> afectados=new ArrayList<>(cablesQuitados.size()+1);
+    	afectados.add(componente);
+    	for(CableInfo ci : cablesQuitados) afectados.add(ci.cable);
+    	return afectados;
+    }
 }
\ No newline at end of file
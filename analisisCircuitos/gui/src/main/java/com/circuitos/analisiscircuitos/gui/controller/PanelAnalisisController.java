@@ -2,14 +2,19 @@ package com.circuitos.analisiscircuitos.gui.controller;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.circuitos.analisiscircuitos.analisis.Analizador;
+import com.circuitos.analisiscircuitos.analisis.CargaEquivalente;
 import com.circuitos.analisiscircuitos.analisis.ResultadoNorton;
+import com.circuitos.analisiscircuitos.analisis.ResultadoPuntoOperacion;
+import com.circuitos.analisiscircuitos.analisis.ResultadoSuperposicion;
 import com.circuitos.analisiscircuitos.analisis.ResultadoThevenin;
 import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.CircuitoBuilder;
 import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
 import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
@@ -17,6 +22,9 @@ import com.circuitos.analisiscircuitos.dominio.Resistencia;
 import com.circuitos.analisiscircuitos.dominio.util.GraphUtil;
 import com.circuitos.analisiscircuitos.dominio.util.Unidades;
 import com.circuitos.analisiscircuitos.dominio.util.Unidades.Type;
+import com.circuitos.analisiscircuitos.dto.ResultadosDto;
+import com.circuitos.analisiscircuitos.dto.ResultadosDto.Equivalente;
+import com.circuitos.analisiscircuitos.dto.ResultadosDto.PuntoOperacion;
 import com.circuitos.analisiscircuitos.gui.model.ConectorPuntos;
 import com.circuitos.analisiscircuitos.gui.renderer.CircuitoEquivalenteRenderer;
 import com.circuitos.analisiscircuitos.gui.renderer.NortonRenderer;
@@ -26,6 +34,7 @@ import com.circuitos.analisiscircuitos.gui.service.cable.CableManager;
 import com.circuitos.analisiscircuitos.gui.service.nodes.NodoManager;
 import com.circuitos.analisiscircuitos.gui.util.InteraccionComponenteUtil;
 import com.circuitos.analisiscircuitos.gui.util.UIHelper;
+import com.circuitos.analisiscircuitos.io.CircuitoJson;
 
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
@@ -75,6 +84,7 @@ public class PanelAnalisisController {
 	private PanelDisenoController panelDisenoController;
 	private boolean propiedadesVisibles=false;
 	private final Analizador analizador=new Analizador();
+	private ResultadosDto resultados; //Últimos resultados, para guardarlos con el proyecto
 	
 	/**
 	 * Inicializa el área de diseño. Recibe arrastre, selección y eliminación.
@@ -115,21 +125,12 @@ public class PanelAnalisisController {
 			if(circuitoAnalisis==null) return;
 			
 			ResultadoThevenin resultado=analizador.calculaThevenin(circuitoAnalisis, nodoNeg, nodoPos);
-			double vth=resultado.getVth();
-			double rth=resultado.getRth();
-			if(rth==0.0) {
-				actualizarPanelPropiedadesThevenin(original, resultado, nodoNeg, nodoPos);
+			registrarResultados(original, r -> r.conThevenin(Equivalente.de(resultado, nodoNeg, nodoPos)));
+			if(!mostrarThevenin(original, circuitoAnalisis, resultado, nodoNeg, nodoPos)) {
 				mostrarAlertaRthCero();
 				return;
 			}
-			logger.info("Resultado Thévenin: Vth="+vth+" V, Rth="+rth+" Ω");
-			
-			CircuitoEquivalenteRenderer rendererBase=crearRendererEquivalente();
-			TheveninRenderer thevRenderer=new TheveninRenderer(rendererBase);
-			thevRenderer.renderizarTh(original, nodoNeg, nodoPos, resultado);
-			Platform.runLater(this::desactivarInteraccionZonaAnalisis);
-			actualizarPanelPropiedadesThevenin(original, resultado, nodoNeg, nodoPos);
-			asegurarMiniaturaVisible();
+			actualizarSuperposicion(circuitoAnalisis, nodoNeg, nodoPos);
 			logger.info("Análisis Thevenin completado con éxito");
 		} catch(Exception e) {
 			logger.log(Level.SEVERE, "Error en análisis Thevenin", e);
@@ -154,21 +155,11 @@ public class PanelAnalisisController {
 			if(circuitoAnalisis==null) return;
 			
 			ResultadoNorton resultado=analizador.calculaNorton(circuitoAnalisis, nodoNeg, nodoPos);
-			double iN=resultado.getIn();
-			double rN=resultado.getRn();
-			if(rN==0.0) {
-				actualizarPanelPropiedadesNorton(original, resultado, nodoNeg, nodoPos);
+			registrarResultados(original, r -> r.conNorton(Equivalente.de(resultado, nodoNeg, nodoPos)));
+			if(!mostrarNorton(original, resultado, nodoNeg, nodoPos)) {
 				mostrarAlertaRthCero();
 				return;
 			}
-			logger.info("Resultado Norton: In="+iN+" A, Rn="+rN+" Ω");
-			
-			CircuitoEquivalenteRenderer rendererBase=crearRendererEquivalente();
-			NortonRenderer nortonRenderer=new NortonRenderer(rendererBase);
-			nortonRenderer.renderizarNo(original, nodoNeg, nodoPos, resultado);
-			Platform.runLater(this::desactivarInteraccionZonaAnalisis);
-			actualizarPanelPropiedadesNorton(original, resultado, nodoNeg, nodoPos);
-			asegurarMiniaturaVisible();
 			logger.info("Análisis Norton completado con éxito");
 		} catch(Exception e) {
 			logger.log(Level.SEVERE, "Error en análisis Norton", e);
@@ -176,6 +167,116 @@ public class PanelAnalisisController {
 		}
 	}
 	
+	/**
+	 * Dibuja el equivalente de Thévenin y rellena el panel de propiedades. Si Rth es cero solo se
+	 * rellena el panel.
+	 * 
+	 * @param original			Circuito original
+	 * @param circuitoAnalisis	Circuito sin carga enviado al analizador
+	 * @param resultado			Equivalente calculado o guardado
+	 * @param nodoNeg			Nodo negativo de referencia
+	 * @param nodoPos			Nodo positivo de referencia
+	 * @return {@code false} si Rth es cero y no se ha dibujado el equivalente
+	 */
+	private boolean mostrarThevenin(Circuito original, Circuito circuitoAnalisis, ResultadoThevenin resultado,
+			int nodoNeg, int nodoPos) {
+		if(resultado.getRth()==0.0) {
+			actualizarPanelPropiedadesThevenin(original, resultado, nodoNeg, nodoPos);
+			return false;
+		}
+		logger.info("Resultado Thévenin: Vth="+resultado.getVth()+" V, Rth="+resultado.getRth()+" Ω");
+		
+		CircuitoEquivalenteRenderer rendererBase=crearRendererEquivalente();
+		TheveninRenderer thevRenderer=new TheveninRenderer(rendererBase);
+		thevRenderer.renderizarTh(original, nodoNeg, nodoPos, resultado);
+		Platform.runLater(this::desactivarInteraccionZonaAnalisis);
+		actualizarPanelPropiedadesThevenin(original, resultado, nodoNeg, nodoPos);
+		panelPropiedadesAnalisisController.setDisenoInverso(circuitoAnalisis, nodoNeg, nodoPos);
+		asegurarMiniaturaVisible();
+		return true;
+	}
+	
+	/**
+	 * Dibuja el equivalente de Norton y rellena el panel de propiedades. Si Rn es cero solo se
+	 * rellena el panel.
+	 * 
+	 * @param original			Circuito original
+	 * @param resultado			Equivalente calculado o guardado
+	 * @param nodoNeg			Nodo negativo de referencia
+	 * @param nodoPos			Nodo positivo de referencia
+	 * @return {@code false} si Rn es cero y no se ha dibujado el equivalente
+	 */
+	private boolean mostrarNorton(Circuito original, ResultadoNorton resultado, int nodoNeg, int nodoPos) {
+		if(resultado.getRn()==0.0) {
+			actualizarPanelPropiedadesNorton(original, resultado, nodoNeg, nodoPos);
+			return false;
+		}
+		logger.info("Resultado Norton: In="+resultado.getIn()+" A, Rn="+resultado.getRn()+" Ω");
+		
+		CircuitoEquivalenteRenderer rendererBase=crearRendererEquivalente();
+		NortonRenderer nortonRenderer=new NortonRenderer(rendererBase);
+		nortonRenderer.renderizarNo(original, nodoNeg, nodoPos, resultado);
+		Platform.runLater(this::desactivarInteraccionZonaAnalisis);
+		actualizarPanelPropiedadesNorton(original, resultado, nodoNeg, nodoPos);
+		asegurarMiniaturaVisible();
+		return true;
+	}
+	
+	/**
+	 * Muestra los resultados guardados con el proyecto sin volver a resolver el circuito. Se
+	 * dibuja el equivalente de Thévenin (o el de Norton si solo hay ese) con su punto de
+	 * operación; la superposición no se guarda y queda vacía hasta el siguiente cálculo.
+	 * 
+	 * @param guardados			Resultados leídos del archivo ({@code null} si no hay)
+	 */
+	public void mostrarResultadosGuardados(ResultadosDto guardados) {
+		resultados=guardados;
+		if(guardados==null || (guardados.thevenin()==null && guardados.norton()==null)) return;
+		Equivalente thevenin=guardados.thevenin();
+		Equivalente norton=guardados.norton();
+		try {
+			Circuito original=prepararZonaAnalisis(thevenin!=null ? "Thévenin" : "Norton");
+			if(original==null) return;
+			
+			Circuito circuitoAnalisis=prepararCircuitoAnalisisCarga(original);
+			if(circuitoAnalisis==null) return;
+			
+			if(thevenin!=null) {
+				mostrarThevenin(original, circuitoAnalisis, thevenin.aThevenin(), thevenin.nodoNeg(), thevenin.nodoPos());
+			} else {
+				mostrarNorton(original, norton.aNorton(), norton.nodoNeg(), norton.nodoPos());
+			}
+			panelPropiedadesAnalisisController.mostrarSuperposicion(null);
+			logger.info("Resultados guardados mostrados sin recalcular");
+		} catch(Exception e) {
+			logger.log(Level.WARNING, "No se pudieron mostrar los resultados guardados", e);
+			resetAnalisis();
+		}
+	}
+	
+	/**
+	 * Devuelve los últimos resultados de análisis para guardarlos con el proyecto. Pueden ser
+	 * de una versión anterior del circuito; al guardar se descartan si la huella no coincide.
+	 * 
+	 * @return resultados o {@code null} si no se ha analizado nada
+	 */
+	public ResultadosDto getResultados() {
+		return resultados;
+	}
+	
+	/**
+	 * Anota un resultado nuevo. Si el circuito ha cambiado desde el último análisis, los
+	 * resultados anteriores se descartan.
+	 * 
+	 * @param original			Circuito analizado
+	 * @param cambio			Modificación de los resultados actuales
+	 */
+	private void registrarResultados(Circuito original, UnaryOperator<ResultadosDto> cambio) {
+		String huella=CircuitoJson.huella(original.getComponentes());
+		ResultadosDto actuales=resultados!=null && resultados.esDe(huella) ? resultados : ResultadosDto.vacio(huella);
+		resultados=cambio.apply(actuales);
+	}
+	
 	/**
 	 * Prepara la zona de dibujo del panel de análisis antes de realizar los cálculos.
 	 * 
@@ -263,6 +364,8 @@ public class PanelAnalisisController {
 		List<String> cargas=construirListaCargas(original);
 		String resumen=ResumenAnalisisService.resumirTh(original, resultado.getRth());
 		panelPropiedadesAnalisisController.mostrarResultadoAnalisis(titulo, txFuente, txRes, cargas, resumen);
+		actualizarPuntoOperacion(original);
+		panelPropiedadesAnalisisController.setTransferencia(resultado, crearCargaEquivalente(original));
 	}
 	
 	/**
@@ -297,6 +400,71 @@ public class PanelAnalisisController {
 		List<String> cargas=construirListaCargas(original);
 		String resumen=ResumenAnalisisService.resumirNo(original, resultado.getRn());
 		panelPropiedadesAnalisisController.mostrarResultadoAnalisis(titulo, txFuente, txRes, cargas, resumen);
+		actualizarPuntoOperacion(original);
+		ResultadoThevenin equivalente=resultado.getRn()>0.0 && !Double.isInfinite(resultado.getIn())
+				? new ResultadoThevenin(resultado.getIn()*resultado.getRn(), resultado.getRn()) : null;
+		panelPropiedadesAnalisisController.setTransferencia(equivalente, crearCargaEquivalente(original));
+	}
+	
+	/**
+	 * Calcula el punto de operación del circuito completo (incluidas las cargas) con una
+	 * única resolución nodal y lo muestra en el panel de propiedades. Si el circuito no se
+	 * puede resolver entero (p. ej. carga abierta) se limpia la tabla sin interrumpir el análisis.
+	 * Si ya hay un punto de operación anotado para este circuito se muestra sin resolver.
+	 * 
+	 * @param original			Circuito original
+	 */
+	private void actualizarPuntoOperacion(Circuito original) {
+		if(resultados!=null && resultados.puntoOperacion()!=null) {
+			panelPropiedadesAnalisisController.mostrarPuntoOperacion(resultados.puntoOperacion().aResultado());
+			return;
+		}
+		try {
+			ResultadoPuntoOperacion punto=analizador.calculaPuntoOperacion(original);
+			if(resultados!=null) resultados=resultados.conPuntoOperacion(PuntoOperacion.de(punto));
+			panelPropiedadesAnalisisController.mostrarPuntoOperacion(punto);
+		} catch(Exception e) {
+			logger.log(Level.WARNING, "No se pudo calcular el punto de operación", e);
+			panelPropiedadesAnalisisController.limpiarPuntoOperacion();
+		}
+	}
+	
+	/**
+	 * Construye la carga equivalente (resistencias marcadas como carga y sus bornes) para el
+	 * explorador de transferencia de potencia.
+	 * 
+	 * @param original			Circuito original
+	 * @return Carga equivalente o {@code null} si no hay carga o no es válida
+	 */
+	private CargaEquivalente crearCargaEquivalente(Circuito original) {
+		List<Componente> compCarga=obtenerComponentesCarga(original);
+		if(compCarga.isEmpty()) return null;
+		try {
+			int[] bornes=GraphUtil.detectarBornesCarga(compCarga, original.getComponentes());
+			return new CargaEquivalente(compCarga, bornes[0], bornes[1]);
+		} catch(IllegalArgumentException e) {
+			logger.log(Level.FINE, "Carga no válida para el explorador de transferencia", e);
+			return null;
+		}
+	}
+	
+	/**
+	 * Calcula la aportación de cada fuente independiente a Vth y la muestra en el panel
+	 * de propiedades. Un fallo aquí no invalida el análisis de Thevenin ya mostrado.
+	 * 
+	 * @param circuitoAnalisis		Circuito sin carga enviado al analizador
+	 * @param nodoNeg				Nodo negativo sobre el que se hace el análisis
+	 * @param nodoPos				Nodo positivo sobre el que se hace el análisis
+	 */
+	private void actualizarSuperposicion(Circuito circuitoAnalisis, int nodoNeg, int nodoPos) {
+		if(panelPropiedadesAnalisisController==null) return;
+		try {
+			ResultadoSuperposicion sup=analizador.calculaSuperposicion(circuitoAnalisis, nodoNeg, nodoPos);
+			panelPropiedadesAnalisisController.mostrarSuperposicion(sup);
+		} catch(Exception e) {
+			logger.log(Level.WARNING, "No se pudo calcular la superposición", e);
+			panelPropiedadesAnalisisController.mostrarSuperposicion(null);
+		}
 	}
 	
 	/**
@@ -384,13 +552,14 @@ public class PanelAnalisisController {
 			UIHelper.mostrarAlerta(Alert.AlertType.WARNING, "Selección de carga no válida", ex.getMessage());
 			return null;
 		}
-		Circuito circuitoAnalisis=new Circuito();
+		//compCarga son justo los marcados como carga: basta con mirar la marca de cada uno
+		CircuitoBuilder builder=new CircuitoBuilder(original.getComponentes().size());
 		for(Componente c : original.getComponentes()) {
-			if(!compCarga.contains(c)) {
-				circuitoAnalisis.addComponente(c);
+			if(!c.isCarga()) {
+				builder.con(c);
 			}
 		}
-		return circuitoAnalisis;
+		return builder.construir();
 	}
 	
 	/**
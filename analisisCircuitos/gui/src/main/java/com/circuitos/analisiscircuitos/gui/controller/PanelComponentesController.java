@@ -29,8 +29,8 @@ public class PanelComponentesController {
 	private static final String CSS_SELECTED="comp-seleccionado";
 	
 	@FXML private ScrollPane scrollPane;
-	@FXML private StackPane stackResist, stackFti, stackFci, stackFtd, stackFcd, stackTierra;
-	@FXML private ImageView iconResist, iconFti, iconFci, iconFtd, iconFcd, iconTierra;
+	@FXML private StackPane stackResist, stackCond, stackBobina, stackDiodo, stackFti, stackFci, stackFtd, stackFcd, stackTierra;
+	@FXML private ImageView iconResist, iconCond, iconBobina, iconDiodo, iconFti, iconFci, iconFtd, iconFcd, iconTierra;
 	
 	private StackPane componenteSeleccionado=null;
 	
@@ -42,6 +42,9 @@ public class PanelComponentesController {
 	@FXML
 	public void initialize() {
 		configurarComponente(stackResist, iconResist, "resistor.png");
+		configurarComponente(stackCond, iconCond, "condensador.png");
+		configurarComponente(stackBobina, iconBobina, "bobina.png");
+		configurarComponente(stackDiodo, iconDiodo, "diodo.png");
 		configurarComponente(stackFti, iconFti, "fti.png");
 		configurarComponente(stackFci, iconFci, "fci.png");
 		configurarComponente(stackFtd, iconFtd, "ftd.png");
@@ -62,14 +65,14 @@ public class PanelComponentesController {
 	
 	/**
 	 * Comprueba si un nodo forma parte de alguno de los contenedores de
-	 * componentes disponibles en el panel (resistencia, fuentes, tierra).
+	 * componentes disponibles en el panel (resistencia, condensador, bobina, diodo, fuentes, tierra).
 	 * 
 	 * @param n			Nodo a verificar
 	 * @return {@code true} si pertenece a algún contenedor, {@code false} si no 
 	 */
 	private boolean estaDentroComponente(Node n) {
 		while(n!=null) {
-			if(n==stackResist || n==stackFti || n==stackFci ||
+			if(n==stackResist || n==stackCond || n==stackBobina || n==stackDiodo || n==stackFti || n==stackFci ||
 					n==stackFtd || n==stackFcd || n==stackTierra) {
 				return true;
 			}
@@ -22,7 +22,6 @@ import com.circuitos.analisiscircuitos.gui.model.PuntoConexion;
 import com.circuitos.analisiscircuitos.gui.service.cable.CableManager;
 import com.circuitos.analisiscircuitos.gui.service.design.DisenoCircuitoService;
 import com.circuitos.analisiscircuitos.gui.service.design.NodoProximidadValidator;
-import com.circuitos.analisiscircuitos.gui.service.io.CircuitoDeserializerService;
 import com.circuitos.analisiscircuitos.gui.service.nodes.NodoManager;
 import com.circuitos.analisiscircuitos.gui.service.state.VisualOptionsService;
 import com.circuitos.analisiscircuitos.gui.service.undo.UndoRedoManager;
@@ -32,6 +31,7 @@ import com.circuitos.analisiscircuitos.gui.util.InteraccionComponenteUtil;
 import com.circuitos.analisiscircuitos.gui.util.MensajesUI;
 import com.circuitos.analisiscircuitos.gui.util.SeleccionManager;
 import com.circuitos.analisiscircuitos.gui.util.InteraccionComponenteUtil.Contexto;
+import com.circuitos.analisiscircuitos.io.CircuitoDeserializerService;
 
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -69,6 +69,7 @@ public class PanelDisenoController {
 	private Circuito circuitoActual;
 	private ConectorPuntos conector;
 	private final NodoManager nodoManager=new NodoManager(); //Gestor de nodos eléctricos
+	private final CircuitoDeserializerService deserializer=new CircuitoDeserializerService();
 	
 	private final javafx.beans.property.BooleanProperty hayContenido=new javafx.beans.property.SimpleBooleanProperty(false);
 	private final javafx.beans.property.BooleanProperty haySeleccion=new javafx.beans.property.SimpleBooleanProperty(false);
@@ -568,7 +569,6 @@ public class PanelDisenoController {
 	 */
 	public void cargarCircuitoDesdeJson(String json) {
 		try {
-			var deserializer=new CircuitoDeserializerService();
 			var renderer=new CircuitoRender(this);
 			var dto=deserializer.cargarCircuitoTexto(json);
 			renderer.renderizarDesdeDTO(dto);
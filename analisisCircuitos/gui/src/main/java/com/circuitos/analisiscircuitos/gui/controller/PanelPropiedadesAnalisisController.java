@@ -0,0 +1,289 @@
+package com.circuitos.analisiscircuitos.gui.controller;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.analisis.CargaEquivalente;
+import com.circuitos.analisiscircuitos.analisis.ContribucionFuente;
+import com.circuitos.analisiscircuitos.analisis.ResultadoComponente;
+import com.circuitos.analisiscircuitos.analisis.ResultadoPuntoOperacion;
+import com.circuitos.analisiscircuitos.analisis.ResultadoSuperposicion;
+import com.circuitos.analisiscircuitos.analisis.ResultadoThevenin;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades.Type;
+import com.circuitos.analisiscircuitos.gui.dialog.DialogoDisenoInverso;
+import com.circuitos.analisiscircuitos.gui.dialog.DialogoTransferenciaPotencia;
+import com.circuitos.analisiscircuitos.gui.util.UIHelper;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.AnchorPane;
+
+/**
+ * Controlador del panel de propiedades del panel de análisis.
+ * Es un panel informativo: muestra el resultado del análisis del circuito
+ * equivalente (Thévenin o Norton), sin permitir edición.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class PanelPropiedadesAnalisisController {
+	private static final Logger logger=Logger.getLogger(PanelPropiedadesAnalisisController.class.getName());
+	
+	@FXML private AnchorPane root;
+	@FXML private Label titulo, labelFuenteEquivalente, labelResistenciaEquivalente;
+	@FXML private TextArea areaCargas;
+	@FXML private Label areaExplicacion;
+	@FXML private TableView<ResultadoComponente> tablaPuntoOperacion;
+	@FXML private TableColumn<ResultadoComponente, String> colId, colNodos;
+	@FXML private TableColumn<ResultadoComponente, Double> colTension, colCorriente, colPotencia;
+	@FXML private Label labelComprobacion;
+	@FXML private TextArea areaSuperposicion;
+	@FXML private Button btnTransferencia;
+	@FXML private Button btnDisenoInverso;
+	
+	private ResultadoThevenin equivalente;
+	private CargaEquivalente carga;
+	private Circuito circuitoDiseno;
+	private int nodoA;
+	private int nodoB;
+	
+	/**
+	 * Inicialización del Panel de Propiedades de los componentes.
+	 */
+	@FXML
+	public void initialize() {
+		configurarTablaPuntoOperacion();
+		limpiarPanel();
+	}
+	
+	/**
+	 * Configura las columnas de la tabla del punto de operación. La tabla es virtualizada
+	 * (solo crea celdas para las filas visibles) y ordenable por cualquier columna.
+	 */
+	private void configurarTablaPuntoOperacion() {
+		if(tablaPuntoOperacion==null) return;
+		colId.setCellValueFactory(cd -> new ReadOnlyStringWrapper(cd.getValue().getId()));
+		colNodos.setCellValueFactory(cd -> new ReadOnlyStringWrapper(
+				cd.getValue().getNodo1()+"-"+cd.getValue().getNodo2()));
+		configurarColumnaNumerica(colTension, ResultadoComponente::getTension, Type.TENSION);
+		configurarColumnaNumerica(colCorriente, ResultadoComponente::getCorriente, Type.CORRIENTE);
+		configurarColumnaNumerica(colPotencia, ResultadoComponente::getPotencia, Type.POTENCIA);
+	}
+	
+	/**
+	 * Configura una columna numérica: ordena por el valor double y lo muestra con prefijo SI.
+	 * 
+	 * @param col			Columna a configurar
+	 * @param extractor		Función que obtiene el valor de la fila
+	 * @param tipo			Tipo de magnitud para el formato
+	 */
+	private void configurarColumnaNumerica(TableColumn<ResultadoComponente, Double> col,
+			ToDoubleFunction<ResultadoComponente> extractor, Type tipo) {
+		col.setCellValueFactory(cd -> new ReadOnlyObjectWrapper<>(extractor.applyAsDouble(cd.getValue())));
+		col.setCellFactory(c -> new TableCell<>() {
+			@Override
+			protected void updateItem(Double valor, boolean empty) {
+				super.updateItem(valor, empty);
+				setText(empty || valor==null ? null : Unidades.format(valor, tipo));
+			}
+		});
+	}
+	
+	/**
+	 * Limpia el panel de propiedades.
+	 */
+	public void limpiarPanel() {
+		if(titulo!=null) titulo.setText("Resumen de análisis");
+		if(labelFuenteEquivalente!=null) labelFuenteEquivalente.setText("-");
+		if(labelResistenciaEquivalente!=null) labelResistenciaEquivalente.setText("-");
+		if(areaCargas!=null) {
+			areaCargas.clear();
+			areaCargas.setText("Ningún componente de carga conectado.");
+		}
+		if(areaExplicacion!=null) {
+			areaExplicacion.setText("");
+		}
+		limpiarPuntoOperacion();
+		mostrarSuperposicion(null);
+		setTransferencia(null, null);
+		setDisenoInverso(null, 0, 0);
+	}
+	
+	/**
+	 * Guarda el equivalente calculado y la carga conectada para el explorador de
+	 * transferencia de potencia. El botón solo se habilita si Rth es positiva.
+	 * 
+	 * @param equivalente		Equivalente de Thevenin ({@code null} lo desactiva)
+	 * @param carga				Carga conectada ({@code null} si no hay carga válida)
+	 */
+	public void setTransferencia(ResultadoThevenin equivalente, CargaEquivalente carga) {
+		this.equivalente=equivalente;
+		this.carga=carga;
+		if(btnTransferencia!=null) {
+			btnTransferencia.setDisable(equivalente==null || !(equivalente.getRth()>0.0));
+		}
+	}
+	
+	/**
+	 * Abre el explorador de transferencia de potencia con el último equivalente calculado.
+	 */
+	@FXML
+	private void onExplorarTransferencia() {
+		if(equivalente==null) return;
+		try {
+			DialogoTransferenciaPotencia.mostrar(equivalente, carga);
+		} catch(IllegalArgumentException e) {
+			logger.warning("No se pudo abrir el explorador de transferencia: "+e.getMessage());
+			UIHelper.mostrarError("No se puede explorar la transferencia de potencia: "+e.getMessage());
+		}
+	}
+	
+	/**
+	 * Guarda el circuito analizado y sus bornes para el diseño inverso.
+	 * 
+	 * @param circuito			Circuito analizado sin la carga ({@code null} lo desactiva)
+	 * @param nodoA				Nodo terminal
+	 * @param nodoB				Nodo terminal
+	 */
+	public void setDisenoInverso(Circuito circuito, int nodoA, int nodoB) {
+		this.circuitoDiseno=circuito;
+		this.nodoA=nodoA;
+		this.nodoB=nodoB;
+		if(btnDisenoInverso!=null) {
+			btnDisenoInverso.setDisable(circuito==null);
+		}
+	}
+	
+	/**
+	 * Abre el diálogo de diseño inverso con el último circuito analizado.
+	 */
+	@FXML
+	private void onDisenoInverso() {
+		if(circuitoDiseno==null) return;
+		DialogoDisenoInverso.mostrar(circuitoDiseno, nodoA, nodoB);
+	}
+	
+	/**
+	 * Muestra la aportación de cada fuente independiente a la tensión de Thevenin.
+	 * 
+	 * @param resultado			Resultado del análisis por superposición ({@code null} limpia el bloque)
+	 */
+	public void mostrarSuperposicion(ResultadoSuperposicion resultado) {
+		if(areaSuperposicion==null) return;
+		if(resultado==null || resultado.getContribuciones().isEmpty()) {
+			areaSuperposicion.setText("Sin fuentes independientes.");
+			return;
+		}
+		StringBuilder sb=new StringBuilder();
+		for(ContribucionFuente c : resultado.getContribuciones()) {
+			sb.append(" - ").append(c.getId()).append(": ")
+				.append(Unidades.format(c.getVth(), Type.TENSION)).append("\n");
+		}
+		sb.append("Total: ").append(Unidades.format(resultado.getVth(), Type.TENSION));
+		areaSuperposicion.setText(sb.toString());
+	}
+	
+	/**
+	 * Limpia la tabla del punto de operación.
+	 */
+	public void limpiarPuntoOperacion() {
+		if(tablaPuntoOperacion!=null) tablaPuntoOperacion.getItems().clear();
+		if(labelComprobacion!=null) labelComprobacion.setText("");
+	}
+	
+	/**
+	 * Muestra el punto de operación del circuito completo en la tabla del panel,
+	 * junto con la comprobación de KCL y del balance de potencias.
+	 * 
+	 * @param punto			Punto de operación calculado
+	 */
+	public void mostrarPuntoOperacion(ResultadoPuntoOperacion punto) {
+		if(punto==null) {
+			limpiarPuntoOperacion();
+			return;
+		}
+		if(tablaPuntoOperacion!=null) {
+			tablaPuntoOperacion.setItems(FXCollections.observableArrayList(punto.getComponentes()));
+		}
+		if(labelComprobacion!=null) {
+			labelComprobacion.setText(String.format("KCL: error máx. %.3g A · Balance de potencias: %.3g W",
+					punto.getErrorKcl(), punto.getBalancePotencia()));
+		}
+	}
+	
+	/**
+	 * Muestra el resultado del análisis de circuito equivalente (Thevenin o Norton) en 
+	 * el panel de propiedades de la pestaña de Análisis. 
+	 * 
+	 * @param tituloAnalisis		Texto del título
+	 * @param txFuente				Descripción de la fuente equivalente
+	 * @param txRes					Descripción de la resistencia equivalente
+	 * @param cargas				Lista de componentes de carga conectados
+	 * @param resumen				Resumen del análisis realizado
+	 */
+	public void mostrarResultadoAnalisis(String tituloAnalisis, String txFuente, String txRes,
+			List<String> cargas, String resumen) {
+		logger.fine("Mostrando resultado de análisis en panel de propiedades");
+		if(titulo!=null && tituloAnalisis!=null) titulo.setText(tituloAnalisis);
+		if(labelFuenteEquivalente!=null) {
+			labelFuenteEquivalente.setText(
+					(txFuente!=null && !txFuente.isBlank()) ? txFuente : "-");
+		}
+		if(labelResistenciaEquivalente!=null) {
+			labelResistenciaEquivalente.setText(
+					(txRes!=null && !txRes.isBlank()) ? txRes : "-");
+		}
+		if(areaCargas!=null) {
+			if(cargas==null || cargas.isEmpty()) {
+				areaCargas.setText("Ningún componente de carga conectado.");
+			} else {
+				StringBuilder sb=new StringBuilder();
+				for(String c : cargas) {
+					sb.append(" - ").append(c).append("\n");
+				}
+				areaCargas.setText(sb.toString());
+			}
+		}
+		if(areaExplicacion!=null) areaExplicacion.setText(resumen!=null ? resumen : "");
+		mostrarPanel();
+	}
+	
+	/**
+	 * Muestra el panel de propiedades de la pestaña de Análisis.
+	 */
+	public void mostrarPanel() {
+		toggle(root, true);
+	}
+	
+	/**
+	 * Oculta el panel de propiedades de la pestaña de Análisis.
+	 */
+	public void ocultarPanel() {
+		toggle(root, false);
+	}
+	
+	/**
+	 * Muestra u oculta un nodo concreto.
+	 * 
+	 * @param node			Nodo a mostrar u ocultar
+	 * @param visible		Valor que controla la visibilidad
+	 */
+	private void toggle(Node node, boolean visible) {
+		if(node!=null) {
+			node.setVisible(visible);
+			node.setManaged(visible);
+		}
+	}
+}
\ No newline at end of file
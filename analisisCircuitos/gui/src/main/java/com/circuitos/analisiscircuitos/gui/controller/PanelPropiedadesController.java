@@ -7,7 +7,10 @@ import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.circuitos.analisiscircuitos.dominio.Bobina;
 import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
 import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
@@ -112,7 +115,7 @@ public class PanelPropiedadesController {
 		}
 		String desc=(descSup!=null) ? descSup.get() : "";
 		UndoRedoManager.getInstance().ejecutarComando(
-				new ChangeParamCommand<>(desc, () -> oldVal, setter, newVal));
+				new ChangeParamCommand<>(desc, () -> oldVal, setter, newVal, componenteActual));
 		if(refrescar!=null) refrescar.run();
 	}
 	
@@ -216,6 +219,9 @@ public class PanelPropiedadesController {
 		logger.log(Level.FINE, "Mostrando {0} id={1}", new Object[] {comp.getClass().getSimpleName(), comp.getId()});
 		limpiarPanel();
 		if (comp instanceof Resistencia r) mostrarResistencia(r);
+		else if (comp instanceof Condensador c) mostrarCondensador(c);
+		else if (comp instanceof Bobina b) mostrarBobina(b);
+		else if (comp instanceof Diodo d) mostrarDiodo(d);
 		else if (comp instanceof FuenteTensionInd fti) mostrarFuenteTensionInd(fti);
 		else if (comp instanceof FuenteCorrienteInd fci) mostrarFuenteCorrienteInd(fci);
 		else if (comp instanceof FuenteTensionDependiente ftd) mostrarFuenteTensionDep(ftd);
@@ -244,6 +250,51 @@ public class PanelPropiedadesController {
 		configurarNodos(r);
 	}
 
+	/**
+	 * Muestra las propiedades de un condensador.
+	 * 
+	 * @param c			Condensador a mostrar
+	 */
+	private void mostrarCondensador(Condensador c) {
+		titulo.setText("CONDENSADOR "+c.getId());
+		labelValor.setText("Capacidad:");
+		mostrarBloqueValorCarga(true);
+		mostrarValor(Unidades.format(c.getValor(), Type.CAPACIDAD));
+		configurarCarga(c);
+		mostrarBloqueConexiones(true);
+		configurarNodos(c);
+	}
+
+	/**
+	 * Muestra las propiedades de una bobina.
+	 * 
+	 * @param b			Bobina a mostrar
+	 */
+	private void mostrarBobina(Bobina b) {
+		titulo.setText("BOBINA "+b.getId());
+		labelValor.setText("Inductancia:");
+		mostrarBloqueValorCarga(true);
+		mostrarValor(Unidades.format(b.getValor(), Type.INDUCTANCIA));
+		configurarCarga(b);
+		mostrarBloqueConexiones(true);
+		configurarNodos(b);
+	}
+
+	/**
+	 * Muestra las propiedades de un diodo (nodo negativo: ánodo, nodo positivo: cátodo).
+	 * 
+	 * @param d			Diodo a mostrar
+	 */
+	private void mostrarDiodo(Diodo d) {
+		titulo.setText("DIODO "+d.getId());
+		labelValor.setText("Saturación:");
+		mostrarBloqueValorCarga(true);
+		mostrarValor(Unidades.format(d.getValor(), Type.CORRIENTE));
+		configurarCarga(d);
+		mostrarBloqueConexiones(true);
+		configurarNodos(d);
+	}
+
 	/**
 	 * Muestra las propiedades de una fuente de tensión independiente.
 	 * 
@@ -15,7 +15,11 @@ import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.dominio.Circuito;
 import com.circuitos.analisiscircuitos.dominio.Tierra;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
 import com.circuitos.analisiscircuitos.gui.controller.PanelAprendizajeController.SeccionID;
+import com.circuitos.analisiscircuitos.gui.dialog.DialogoProgreso;
+import com.circuitos.analisiscircuitos.gui.service.io.AutoguardadoService;
+import com.circuitos.analisiscircuitos.gui.service.io.AutoguardadoService.Pendiente;
 import com.circuitos.analisiscircuitos.gui.service.io.CircuitoSerializerService;
 import com.circuitos.analisiscircuitos.gui.service.io.GestionArchivoService;
 import com.circuitos.analisiscircuitos.gui.service.state.VisualOptionsService;
@@ -34,6 +38,7 @@ import com.circuitos.analisiscircuitos.gui.util.MensajesUI.TipoMensaje;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -92,6 +97,7 @@ public class ThevenAppController {
 	private final StringProperty windowTitle = new SimpleStringProperty("ThevenApp 1.0 - Circuito Nuevo");
 	private Stage primaryStage;
 	private GestionArchivoService fileService;
+	private AutoguardadoService autoguardado;
 	private UndoRedoManager undoRedoManager;
 	
 	private static final String FXML_DISENO = "/com/circuitos/analisiscircuitos/gui/fxml/PanelDiseno.fxml";
@@ -359,6 +365,7 @@ public class ThevenAppController {
 		}
 		panelDisenoController.crearNuevoCircuito();
 		archivoActual=null;
+		autoguardado.iniciar(null);
 		windowTitle.set("ThevenApp 1.0 - Circuito Nuevo");
 		if(panelAnalisisController!=null) {
 			panelAnalisisController.resetAnalisis();
@@ -372,53 +379,61 @@ public class ThevenAppController {
 	 */
 	@FXML
 	private void onAbrir(ActionEvent e) {
-		fileService.open().ifPresent(f -> {
-			try {
-				cargarProyectoCompleto(f);
-			} catch (IOException ex) {
-				logger.log(Level.SEVERE, "Error cargando archivo: "+ f.getName(), ex);
-				mostrarError("Error al cargar el archivo");
-			}
-		});
+		fileService.open().ifPresent(this::cargarProyectoCompleto);
 	}
 
 	/**
 	 * Acción del menú para guardar proyecto en un archivo. Modifica el título del stage.
 	 * Si el archivo existe simplemente sobreescribe, si no se había guardado nunca salta al
-	 * método onGuardarComo.
+	 * método onGuardarComo. La escritura se hace en segundo plano.
+	 * 
+	 * @return {@code true} si se ha lanzado el guardado, {@code false} si se ha cancelado
 	 */
 	@FXML
 	private boolean onGuardar(ActionEvent e) {
 		if (archivoActual == null) {
 			return onGuardarComo(e);
 		}
-		boolean ok = fileService.save(archivoActual, 
-				panelDisenoController.getCircuitoActual(), 
-				panelDisenoController.getZonaDibujo());
-		if (ok) {
-			mostrarExito("Proyecto guardado");
-		}
-		return ok;
+		guardarProyecto(archivoActual, "Proyecto guardado");
+		return true;
 	}
 
 	/**
 	 * Acción del menú para guardar el circuito actual en un nuevo archivo (*.json).
 	 * Abre un cuadro de selección de ruta de destino para el archivo.
+	 * 
+	 * @return {@code true} si se ha lanzado el guardado, {@code false} si se ha cancelado
 	 */
 	@FXML
 	private boolean onGuardarComo(ActionEvent e) {
 		Optional<File> opt=fileService.saveAs(archivoActual);
 		if(opt.isEmpty()) return false;
 		File f=opt.get();
-		archivoActual=f;
-		boolean ok=fileService.save(f, 
+		guardarProyecto(f, "Proyecto guardado como "+f.getName());
+		return true;
+	}
+	
+	/**
+	 * Guarda el proyecto en segundo plano con ventana de avance. El archivo pasa a ser el
+	 * actual cuando el guardado termina bien, y el autoguardado empieza de cero a su lado.
+	 * 
+	 * @param f					Archivo de destino
+	 * @param mensajeExito		Mensaje que se muestra al terminar
+	 */
+	private void guardarProyecto(File f, String mensajeExito) {
+		long marca=autoguardado.getEdiciones();
+		Task<File> tarea=fileService.saveAsync(f, 
 				panelDisenoController.getCircuitoActual(), 
-				panelDisenoController.getZonaDibujo());
-		if(ok) {
-			windowTitle.set("ThevenApp 1.0 - "+f.getName());
-			mostrarExito("Proyecto guardado como "+f.getName());
-		}
-		return ok;
+				panelDisenoController.getZonaDibujo(),
+				panelAnalisisController!=null ? panelAnalisisController.getResultados() : null);
+		tarea.setOnSucceeded(ev -> {
+			archivoActual=f;
+			autoguardado.guardado(f, marca);
+			mostrarExito(mensajeExito);
+		});
+		tarea.setOnFailed(ev -> mostrarError("Error al guardar el archivo"));
+		tarea.setOnCancelled(ev -> mostrarError("Guardado cancelado; el archivo no ha cambiado"));
+		DialogoProgreso.mostrar(primaryStage, "Guardando proyecto", tarea);
 	}
 
 	/**
@@ -537,13 +552,7 @@ public class ThevenAppController {
 			actualizarMenuRecientesSafe();
 			return;
 		}
-		try {
-			cargarProyectoCompleto(archivo);
-		} catch(IOException ex) {
-			logger.log(Level.SEVERE, "Error cargando archivo reciente", ex);
-			mostrarError("No se pudo cargar el archivo: "+archivo.getName());
-		}
-		actualizarMenuRecientesSafe();
+		cargarProyectoCompleto(archivo);
 	}
 	
 	/**
@@ -554,27 +563,29 @@ public class ThevenAppController {
 		fileService=new GestionArchivoService(
 				new CircuitoSerializerService(),
 				windowTitle, menuRecientes, primaryStage);
+		autoguardado=AutoguardadoService.crear(panelDisenoController::getCircuitoActual,
+				panelDisenoController.getZonaDibujo());
 		
 		Platform.runLater(()-> {
+			Optional<Pendiente> pendiente=AutoguardadoService.buscarPendiente();
+			if(pendiente.isPresent() && recuperarAutoguardado(pendiente.get())) {
+				actualizarMenuRecientesSafe();
+				return;
+			}
+			autoguardado.iniciar(null);
 			Runnable irAElearning=() -> {
 				tabPanePrincipal.getSelectionModel().select(tabAprendizaje);
 			};
 			Supplier<Boolean> accionAbrir=() -> {
 				Optional<File> archivo=fileService.open();
-				if(archivo.isPresent()) {
-					try {
-						cargarProyectoCompleto(archivo.get());
-						return true;
-					} catch(Exception ex) {
-						logger.log(Level.SEVERE, "Error cargando archivo", ex);
-						mostrarError("Error al cargar el archivo");
-						return true;
-					}
-				}
-				return false;
+				archivo.ifPresent(this::cargarProyectoCompleto);
+				return archivo.isPresent();
 			};
 			DialogoBienvenida.show(primaryStage, 
-					()->panelDisenoController.crearNuevoCircuito(), 
+					()->{
+						panelDisenoController.crearNuevoCircuito();
+						autoguardado.iniciar(null);
+					}, 
 					accionAbrir, 
 					this::cargarArchivoDesdeRuta,
 					irAElearning);
@@ -582,6 +593,52 @@ public class ThevenAppController {
 		});
 	}
 	
+	/**
+	 * Ofrece recuperar los cambios autoguardados que dejó una sesión que no se cerró bien. Si se
+	 * aceptan, el circuito se reconstruye en segundo plano y se muestra sin guardar en el
+	 * proyecto; si no, se borran.
+	 * 
+	 * @param pendiente			Autoguardado encontrado
+	 * @return {@code true} si se está recuperando (no hace falta la bienvenida)
+	 */
+	private boolean recuperarAutoguardado(Pendiente pendiente) {
+		File archivo=pendiente.archivo();
+		boolean recuperar=UIHelper.mostrarConfirmacion("Recuperar cambios",
+				"ThevenApp no se cerró correctamente. ¿Quieres recuperar los cambios autoguardados de "
+				+pendiente.nombre()+"?");
+		if(!recuperar) {
+			logger.info("Autoguardado descartado: "+pendiente.nombre());
+			AutoguardadoService.descartar(archivo);
+			return false;
+		}
+		Task<CircuitoFileDto> tarea=AutoguardadoService.tareaRecuperar(archivo);
+		tarea.setOnSucceeded(ev -> {
+			circuitoRenderer.renderizarDesdeDTO(tarea.getValue());
+			archivoActual=archivo;
+			windowTitle.set("ThevenApp 1.0 - "+pendiente.nombre()+" (recuperado)");
+			//Lo recuperado no está en el proyecto: el nuevo diario empieza con un punto de control
+			autoguardado.iniciar(archivo);
+			autoguardado.puntoDeControl();
+			mostrarExito("Cambios recuperados; guarda el proyecto para conservarlos");
+		});
+		tarea.setOnFailed(ev -> {
+			logger.log(Level.SEVERE, "Error recuperando el autoguardado", tarea.getException());
+			panelDisenoController.crearNuevoCircuito();
+			autoguardado.iniciar(null);
+			mostrarError("No se pudieron recuperar los cambios");
+		});
+		GestionArchivoService.ejecutar(tarea);
+		DialogoProgreso.mostrar(primaryStage, "Recuperando cambios", tarea);
+		return true;
+	}
+	
+	/**
+	 * Termina el autoguardado al salir de la aplicación de forma normal y borra su diario.
+	 */
+	public void detenerAutoguardado() {
+		if(autoguardado!=null) autoguardado.detener();
+	}
+	
 	/**
 	 * Muestra un mensaje de error cuando surge algún problema de lectura o escritura de archivo.
 	 * 
@@ -603,20 +660,37 @@ public class ThevenAppController {
 	}
 	
 	/**
-	 * Carga un proyecto en la aplicación.
+	 * Carga un proyecto en la aplicación. El archivo se lee en segundo plano con ventana de
+	 * avance; el circuito actual solo se sustituye si la carga termina bien.
 	 * 
 	 * @param f					Archivo del proyecto
-	 * @throws IOException		Excepción si hay error al abrir archivo
-	 */
-	private void cargarProyectoCompleto(File f) throws IOException {
-		circuitoRenderer.cargarArchivo(f);
-		archivoActual=f;
-		windowTitle.set("ThevenApp 1.0 - "+f.getName());
-		actualizarMenuRecientesSafe();
-		logger.log(Level.INFO, "Archivo cargado: "+f.getName());
-		if(panelAnalisisController!=null) {
-			panelAnalisisController.resetAnalisis();
-		}
+	 */
+	private void cargarProyectoCompleto(File f) {
+		Task<CircuitoFileDto> tarea=circuitoRenderer.tareaCarga(f);
+		tarea.setOnSucceeded(ev -> {
+			archivoActual=f;
+			autoguardado.iniciar(f);
+			windowTitle.set("ThevenApp 1.0 - "+f.getName());
+			actualizarMenuRecientesSafe();
+			logger.log(Level.INFO, "Archivo cargado: "+f.getName());
+			if(panelAnalisisController!=null) {
+				panelAnalisisController.resetAnalisis();
+				panelAnalisisController.mostrarResultadosGuardados(tarea.getValue().resultados());
+			}
+		});
+		//El diálogo de abrir ya cambió el título; si no se carga, vuelve el del archivo actual
+		String titulo="ThevenApp 1.0 - "+(archivoActual!=null ? archivoActual.getName() : "Circuito Nuevo");
+		tarea.setOnFailed(ev -> {
+			windowTitle.set(titulo);
+			mostrarError("No se pudo cargar el archivo: "+f.getName());
+			actualizarMenuRecientesSafe();
+		});
+		tarea.setOnCancelled(ev -> {
+			windowTitle.set(titulo);
+			mostrarError("Carga cancelada");
+		});
+		GestionArchivoService.ejecutar(tarea);
+		DialogoProgreso.mostrar(primaryStage, "Abriendo proyecto", tarea);
 	}
 	
 	/**
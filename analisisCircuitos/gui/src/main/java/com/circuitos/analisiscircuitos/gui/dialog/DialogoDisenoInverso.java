@@ -0,0 +1,191 @@
+package com.circuitos.analisiscircuitos.gui.dialog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.analisis.Analizador;
+import com.circuitos.analisiscircuitos.analisis.ResultadoDisenoInverso;
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades.Type;
+import com.circuitos.analisiscircuitos.gui.commands.ChangeParamCommand;
+import com.circuitos.analisiscircuitos.gui.commands.CompositeCommand;
+import com.circuitos.analisiscircuitos.gui.service.undo.DescripcionesAccion;
+import com.circuitos.analisiscircuitos.gui.service.undo.UndoRedoManager;
+import com.circuitos.analisiscircuitos.gui.util.UIHelper;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonBar.ButtonData;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+
+/**
+ * Diálogo de diseño inverso. El usuario indica la Vth y/o la Rth deseadas y elige qué
+ * resistencias se pueden cambiar; el optimizador ({@link Analizador#calculaDisenoInverso})
+ * propone valores y, al aceptarlos, se aplican como un solo comando compuesto de
+ * {@link ChangeParamCommand}, de modo que un "deshacer" recupera el diseño anterior.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class DialogoDisenoInverso {
+	private static final Logger logger=Logger.getLogger(DialogoDisenoInverso.class.getName());
+
+	private final Circuito circuito;
+	private final int nodoA;
+	private final int nodoB;
+	private final Analizador analizador=new Analizador();
+	private final TextField campoVth=new TextField();
+	private final TextField campoRth=new TextField();
+	private final List<CheckBox> casillas=new ArrayList<>();
+	private final List<Resistencia> resistencias=new ArrayList<>();
+	private final Label estado=new Label();
+	private ResultadoDisenoInverso resultado;
+	private List<Resistencia> ajustadas;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param circuito			Circuito analizado (sin la carga)
+	 * @param nodoA				Nodo terminal
+	 * @param nodoB				Nodo terminal
+	 */
+	private DialogoDisenoInverso(Circuito circuito, int nodoA, int nodoB) {
+		this.circuito=circuito;
+		this.nodoA=nodoA;
+		this.nodoB=nodoB;
+	}
+
+	/**
+	 * Muestra el diálogo de diseño inverso.
+	 *
+	 * @param circuito			Circuito analizado (sin la carga)
+	 * @param nodoA				Nodo terminal
+	 * @param nodoB				Nodo terminal
+	 */
+	public static void mostrar(Circuito circuito, int nodoA, int nodoB) {
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		new DialogoDisenoInverso(circuito, nodoA, nodoB).abrir();
+	}
+
+	/**
+	 * Construye y abre el diálogo. Los valores propuestos solo se aplican con "Aplicar".
+	 */
+	private void abrir() {
+		Dialog<ButtonType> dialog=new Dialog<>();
+		dialog.setTitle("Diseño inverso");
+		dialog.initModality(Modality.APPLICATION_MODAL);
+		ButtonType aplicar=new ButtonType("Aplicar", ButtonData.OK_DONE);
+		dialog.getDialogPane().getButtonTypes().addAll(aplicar, ButtonType.CANCEL);
+		dialog.getDialogPane().lookupButton(aplicar).setDisable(true);
+
+		campoVth.setPromptText("p. ej. 5 (vacío: libre)");
+		campoRth.setPromptText("p. ej. 1k (vacío: libre)");
+		GridPane objetivos=new GridPane();
+		objetivos.setHgap(8);
+		objetivos.setVgap(6);
+		objetivos.addRow(0, new Label("Vth objetivo (V):"), campoVth);
+		objetivos.addRow(1, new Label("Rth objetivo (Ω):"), campoRth);
+
+		VBox lista=new VBox(4);
+		for(Componente c : circuito.getComponentes()) {
+			if(c instanceof Resistencia r && !r.isCarga()) {
+				CheckBox cb=new CheckBox(r.getId()+" ("+Unidades.format(r.getValor(), Type.RESISTENCIA)+")");
+				cb.setSelected(true);
+				casillas.add(cb);
+				resistencias.add(r);
+				lista.getChildren().add(cb);
+			}
+		}
+		ScrollPane scroll=new ScrollPane(lista);
+		scroll.setPrefViewportHeight(160);
+		scroll.setFitToWidth(true);
+
+		Button calcular=new Button("Calcular");
+		calcular.setOnAction(e -> dialog.getDialogPane().lookupButton(aplicar).setDisable(!calcular()));
+		estado.setWrapText(true);
+
+		VBox content=new VBox(8, objetivos, new Label("Resistencias que se pueden cambiar:"), scroll, calcular, estado);
+		content.setPadding(new Insets(12));
+		content.setPrefWidth(420);
+		dialog.getDialogPane().setContent(content);
+		if(dialog.showAndWait().orElse(ButtonType.CANCEL)==aplicar && resultado!=null) {
+			aplicar();
+		}
+	}
+
+	/**
+	 * Lee los objetivos, ejecuta el optimizador y muestra los valores propuestos.
+	 *
+	 * @return {@code true} si hay valores que aplicar
+	 */
+	private boolean calcular() {
+		resultado=null;
+		List<Resistencia> elegidas=new ArrayList<>();
+		for(int i=0; i<casillas.size(); i++) {
+			if(casillas.get(i).isSelected()) elegidas.add(resistencias.get(i));
+		}
+		try {
+			double vth=leer(campoVth);
+			double rth=leer(campoRth);
+			resultado=analizador.calculaDisenoInverso(circuito, nodoA, nodoB, elegidas, vth, rth);
+			ajustadas=elegidas;
+		} catch(IllegalArgumentException | IllegalStateException e) {
+			logger.fine("Diseño inverso no válido: "+e.getMessage());
+			estado.setText(e.getMessage());
+			return false;
+		}
+		StringBuilder sb=new StringBuilder(resultado.isConvergido()
+				? "Objetivo alcanzado:\n" : "Objetivo no alcanzable; mejor aproximación:\n");
+		double[] antes=resultado.getValoresIniciales();
+		double[] despues=resultado.getValores();
+		for(int k=0; k<despues.length; k++) {
+			sb.append(" - ").append(resultado.getIds().get(k)).append(": ")
+				.append(Unidades.format(antes[k], Type.RESISTENCIA)).append(" → ")
+				.append(Unidades.format(despues[k], Type.RESISTENCIA)).append("\n");
+		}
+		sb.append("Vth = ").append(Unidades.format(resultado.getVth(), Type.TENSION))
+			.append(" · Rth = ").append(Unidades.format(resultado.getRth(), Type.RESISTENCIA));
+		estado.setText(sb.toString());
+		return true;
+	}
+
+	/**
+	 * Aplica los valores propuestos como un único comando deshacible.
+	 */
+	private void aplicar() {
+		CompositeCommand cmd=new CompositeCommand(DescripcionesAccion.disenoInverso(ajustadas.size()));
+		double[] valores=resultado.getValores();
+		for(int k=0; k<valores.length; k++) {
+			Resistencia r=ajustadas.get(k);
+			cmd.add(new ChangeParamCommand<>(DescripcionesAccion.cambiarValor(r), r::getValor, r::setValor, valores[k], r));
+		}
+		UndoRedoManager.getInstance().ejecutarComando(cmd);
+		logger.info("Diseño inverso aplicado: "+resultado);
+		UIHelper.mostrarInfo("Valores aplicados. Vuelva a calcular el equivalente para actualizar el análisis.");
+	}
+
+	/**
+	 * Lee un objetivo con prefijo SI; vacío significa libre.
+	 *
+	 * @param campo					Campo de texto
+	 * @throws IllegalArgumentException	si el formato no es válido
+	 * @return valor o NaN si el campo está vacío
+	 */
+	private static double leer(TextField campo) {
+		String texto=campo.getText();
+		return texto==null || texto.isBlank() ? Double.NaN : Unidades.parsear(texto);
+	}
+}
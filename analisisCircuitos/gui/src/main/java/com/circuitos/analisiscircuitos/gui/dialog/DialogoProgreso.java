@@ -0,0 +1,89 @@
+package com.circuitos.analisiscircuitos.gui.dialog;
+
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.Scene;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+/**
+ * Ventana de avance para cargas y guardados en segundo plano. Muestra el mensaje y el avance de
+ * la tarea y permite cancelarla; se cierra sola cuando la tarea termina. Solo aparece si la tarea
+ * dura más de {@value #RETARDO_MS} ms, para no parpadear en archivos pequeños.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class DialogoProgreso {
+	private static final Logger logger=Logger.getLogger(DialogoProgreso.class.getName());
+	private static final double ANCHO=360;
+	private static final int RETARDO_MS=300;
+
+	private DialogoProgreso() { /* No instanciable */ }
+
+	/**
+	 * Muestra la ventana de avance de una tarea ya enviada.
+	 *
+	 * @param owner			Ventana principal
+	 * @param titulo		Título de la ventana
+	 * @param tarea			Tarea de carga o guardado
+	 */
+	public static void mostrar(Window owner, String titulo, Task<?> tarea) {
+		Objects.requireNonNull(tarea, "La tarea no puede ser null");
+		if(tarea.isDone()) return;
+		Stage ventana=new Stage(StageStyle.UTILITY);
+		if(owner!=null) {
+			ventana.initOwner(owner);
+			ventana.initModality(Modality.WINDOW_MODAL);
+		}
+		ventana.setTitle(titulo);
+		ventana.setResizable(false);
+
+		Label mensaje=new Label();
+		mensaje.textProperty().bind(tarea.messageProperty());
+		ProgressBar barra=new ProgressBar();
+		barra.setMaxWidth(Double.MAX_VALUE);
+		barra.progressProperty().bind(tarea.progressProperty());
+		Button cancelar=new Button("Cancelar");
+		cancelar.setCancelButton(true);
+		cancelar.setOnAction(e -> {
+			logger.info("Operación de archivo cancelada por el usuario");
+			cancelar.setDisable(true);
+			tarea.cancel();
+		});
+		HBox botones=new HBox(cancelar);
+		botones.setStyle("-fx-alignment: center-right;");
+		VBox content=new VBox(10, mensaje, barra, botones);
+		content.setPadding(new Insets(14));
+		content.setPrefWidth(ANCHO);
+		ventana.setScene(new Scene(content));
+		//Cerrar la ventana con la X equivale a cancelar
+		ventana.setOnCloseRequest(e -> tarea.cancel());
+
+		PauseTransition retardo=new PauseTransition(Duration.millis(RETARDO_MS));
+		retardo.setOnFinished(e -> {
+			if(!tarea.isDone()) ventana.show();
+		});
+		Runnable cerrar=() -> {
+			retardo.stop();
+			ventana.close();
+		};
+		tarea.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> cerrar.run());
+		tarea.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, e -> cerrar.run());
+		tarea.addEventHandler(WorkerStateEvent.WORKER_STATE_CANCELLED, e -> cerrar.run());
+		retardo.play();
+	}
+}
@@ -0,0 +1,371 @@
+package com.circuitos.analisiscircuitos.gui.dialog;
+
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.analisis.CargaEquivalente;
+import com.circuitos.analisiscircuitos.analisis.CurvaCarga;
+import com.circuitos.analisiscircuitos.analisis.ResultadoThevenin;
+import com.circuitos.analisiscircuitos.analisis.TransferenciaPotencia;
+import com.circuitos.analisiscircuitos.dominio.Resistencia;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades;
+import com.circuitos.analisiscircuitos.dominio.util.Unidades.Type;
+import com.circuitos.analisiscircuitos.gui.util.PolilineaUtil;
+import com.circuitos.analisiscircuitos.gui.util.PolilineaUtil.Polilinea;
+
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.stage.Modality;
+
+/**
+ * Diálogo interactivo de transferencia de potencia y recta de carga. Dibuja P, V e I en la
+ * carga frente a RL (escala logarítmica) a partir del equivalente de Thevenin ya calculado,
+ * marca el punto de máxima potencia y sigue con un deslizador el punto de trabajo.
+ * <p>
+ * Las curvas son analíticas y se dibujan una sola vez en un lienzo de fondo (con la polilínea
+ * reducida a la resolución en píxeles); al mover el deslizador solo se redibuja el lienzo de
+ * marcadores. Si la carga es una subred, el deslizador controla una de sus resistencias y la
+ * RL equivalente se obtiene de un barrido calculado en segundo plano e interpolado.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class DialogoTransferenciaPotencia {
+	private static final Logger logger=Logger.getLogger(DialogoTransferenciaPotencia.class.getName());
+	private static final double ANCHO=600;
+	private static final double ALTO=320;
+	private static final double MARGEN=40;
+	private static final double DECADAS=2;
+	private static final int PUNTOS_CURVA=4096;
+	private static final int PUNTOS_BARRIDO=257;
+	private static final Color COLOR_P=Color.web("#c0392b");
+	private static final Color COLOR_V=Color.web("#0078d7");
+	private static final Color COLOR_I=Color.web("#27ae60");
+
+	private final TransferenciaPotencia transferencia;
+	private final CargaEquivalente carga;
+	private final double logRMin;
+	private final double logRMax;
+	private final Canvas fondo=new Canvas(ANCHO, ALTO);
+	private final Canvas marcadores=new Canvas(ANCHO, ALTO);
+	private final Slider slider=new Slider();
+	private final Label lectura=new Label();
+	private final Label estado=new Label();
+	private Resistencia variable;
+	private double[] reqBarrido;
+	private Task<double[]> barrido;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param thevenin			Equivalente de Thevenin visto desde la carga
+	 * @param carga				Carga conectada ({@code null} si no hay carga marcada)
+	 */
+	private DialogoTransferenciaPotencia(ResultadoThevenin thevenin, CargaEquivalente carga) {
+		this.transferencia=new TransferenciaPotencia(thevenin);
+		this.carga=carga;
+		double logRth=Math.log10(transferencia.getRth());
+		this.logRMin=logRth-DECADAS;
+		this.logRMax=logRth+DECADAS;
+	}
+
+	/**
+	 * Muestra el explorador de transferencia de potencia.
+	 *
+	 * @param thevenin			Equivalente de Thevenin visto desde la carga
+	 * @param carga				Carga conectada ({@code null} si no hay carga marcada)
+	 */
+	public static void mostrar(ResultadoThevenin thevenin, CargaEquivalente carga) {
+		Objects.requireNonNull(thevenin, "Resultado de Thevenin no puede ser null");
+		new DialogoTransferenciaPotencia(thevenin, carga).abrir();
+	}
+
+	/**
+	 * Construye y abre el diálogo. Al cerrarlo se cancela el barrido pendiente.
+	 */
+	private void abrir() {
+		Dialog<Void> dialog=new Dialog<>();
+		dialog.setTitle("Transferencia de potencia");
+		dialog.initModality(Modality.APPLICATION_MODAL);
+		dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+		Label resumen=new Label("Vth = "+Unidades.format(transferencia.getVth(), Type.TENSION)
+				+" · Rth = "+Unidades.format(transferencia.getRth(), Type.RESISTENCIA)
+				+" · Pmáx = "+Unidades.format(transferencia.getPotenciaMaxima(), Type.POTENCIA)
+				+" (RL = Rth)");
+		resumen.setStyle("-fx-font-weight: bold;");
+		Label leyenda=new Label("Rojo: P/Pmáx · Azul: V/Vth · Verde: I/Icc");
+		leyenda.setStyle("-fx-font-size: 11px; -fx-text-fill: #7f8c8d;");
+
+		VBox content=new VBox(8, resumen, new StackPane(fondo, marcadores), leyenda);
+		content.setPadding(new Insets(12));
+		if(carga!=null && !carga.isResistenciaUnica()) {
+			content.getChildren().add(crearSelectorVariable());
+		}
+		content.getChildren().addAll(slider, lectura, estado);
+
+		dibujarCurvas();
+		configurarSlider();
+		dialog.getDialogPane().setContent(content);
+		dialog.setOnHidden(e -> cancelarBarrido());
+		dialog.showAndWait();
+	}
+
+	/**
+	 * Crea el selector de la resistencia de la carga que controla el deslizador
+	 * cuando la carga es una subred.
+	 *
+	 * @return ComboBox con las resistencias de la carga
+	 */
+	private ComboBox<Resistencia> crearSelectorVariable() {
+		ComboBox<Resistencia> selector=new ComboBox<>();
+		selector.getItems().addAll(carga.getResistencias());
+		selector.setCellFactory(k -> new CeldaResistencia());
+		selector.setButtonCell(new CeldaResistencia());
+		selector.valueProperty().addListener((obs, ant, nueva) -> {
+			if(nueva!=null) seleccionarVariable(nueva);
+		});
+		selector.getSelectionModel().selectFirst();
+		return selector;
+	}
+
+	/**
+	 * Configura el deslizador. Sin carga o con una sola resistencia controla log10(RL)
+	 * directamente; con una subred controla log10 del valor de la resistencia variable.
+	 */
+	private void configurarSlider() {
+		slider.setShowTickMarks(true);
+		slider.valueProperty().addListener((obs, ant, nuevo) -> actualizarMarcadores());
+		if(variable!=null) return;	//Configurado al seleccionar la variable
+		fijarRango(logRMin, logRMax);
+		double rl=(carga!=null) ? carga.resistenciaEquivalente() : transferencia.getRth();
+		slider.setValue(Math.max(logRMin, Math.min(logRMax, Math.log10(rl))));
+		actualizarMarcadores();
+	}
+
+	/**
+	 * Fija el rango del deslizador sin que el mínimo llegue a superar al máximo anterior.
+	 *
+	 * @param min			Nuevo mínimo
+	 * @param max			Nuevo máximo
+	 */
+	private void fijarRango(double min, double max) {
+		slider.setMin(Math.min(min, slider.getMin()));
+		slider.setMax(max);
+		slider.setMin(min);
+	}
+
+	/**
+	 * Cambia la resistencia que controla el deslizador y lanza en segundo plano el barrido
+	 * de la resistencia equivalente de la carga sobre todo su rango.
+	 *
+	 * @param r			Resistencia de la carga que pasa a ser variable
+	 */
+	private void seleccionarVariable(Resistencia r) {
+		cancelarBarrido();
+		variable=r;
+		reqBarrido=null;
+		double logValor=Math.log10(r.getValor());
+		fijarRango(logValor-DECADAS, logValor+DECADAS);
+		slider.setValue(logValor);
+		slider.setDisable(true);
+		estado.setText("Calculando barrido de la carga...");
+
+		double[] valores=new double[PUNTOS_BARRIDO];
+		for(int k=0; k<PUNTOS_BARRIDO; k++) {
+			valores[k]=Math.pow(10, slider.getMin()+k*(slider.getMax()-slider.getMin())/(PUNTOS_BARRIDO-1));
+		}
+		Task<double[]> tarea=new Task<>() {
+			@Override
+			protected double[] call() {
+				return carga.barrer(r, valores);
+			}
+		};
+		tarea.setOnSucceeded(e -> {
+			if(barrido!=tarea) return;	//Resultado de una variable ya descartada
+			reqBarrido=tarea.getValue();
+			slider.setDisable(false);
+			estado.setText("");
+			actualizarMarcadores();
+		});
+		tarea.setOnFailed(e -> {
+			logger.log(Level.WARNING, "Error en el barrido de la carga", tarea.getException());
+			if(barrido!=tarea) return;
+			slider.setDisable(false);
+			estado.setText("No se pudo calcular el barrido de la carga.");
+		});
+		barrido=tarea;
+		Thread hilo=new Thread(tarea, "Barrido-Carga");
+		hilo.setDaemon(true);
+		hilo.start();
+	}
+
+	/**
+	 * Cancela el barrido en curso, si lo hay.
+	 */
+	private void cancelarBarrido() {
+		if(barrido!=null && barrido.isRunning()) barrido.cancel();
+		barrido=null;
+	}
+
+	/**
+	 * Obtiene la RL equivalente para la posición actual del deslizador.
+	 *
+	 * @return resistencia de carga (Ω) o {@code NaN} si el barrido aún no está disponible
+	 */
+	private double rlActual() {
+		if(variable==null) return Math.pow(10, slider.getValue());
+		if(reqBarrido==null) return Double.NaN;
+		double t=(slider.getValue()-slider.getMin())/(slider.getMax()-slider.getMin())*(PUNTOS_BARRIDO-1);
+		int k=(int) Math.max(0, Math.min(PUNTOS_BARRIDO-2, Math.floor(t)));
+		double f=t-k;
+		//Interpolación en escala logarítmica, coherente con el espaciado del barrido
+		return Math.exp((1-f)*Math.log(reqBarrido[k])+f*Math.log(reqBarrido[k+1]));
+	}
+
+	/**
+	 * Dibuja los ejes, las curvas normalizadas y el punto de máxima potencia en el lienzo
+	 * de fondo. Solo se llama al abrir el diálogo.
+	 */
+	private void dibujarCurvas() {
+		GraphicsContext g=fondo.getGraphicsContext2D();
+		g.setFill(Color.WHITE);
+		g.fillRect(0, 0, ANCHO, ALTO);
+		g.setStroke(Color.web("#C8C8C8"));
+		g.setLineWidth(1);
+		g.strokeRect(MARGEN, MARGEN, ANCHO-2*MARGEN, ALTO-2*MARGEN);
+		g.setFill(Color.web("#7f8c8d"));
+		for(int d=(int) Math.ceil(logRMin); d<=(int) Math.floor(logRMax); d++) {
+			double x=xPixel(d);
+			g.strokeLine(x, MARGEN, x, ALTO-MARGEN);
+			g.fillText(Unidades.format(Math.pow(10, d), Type.RESISTENCIA), x-12, ALTO-MARGEN+14);
+		}
+
+		CurvaCarga curva=transferencia.muestrear(Math.pow(10, logRMin), Math.pow(10, logRMax), PUNTOS_CURVA);
+		double[] xs=new double[curva.size()];
+		for(int k=0; k<xs.length; k++) {
+			xs[k]=xPixel(Math.log10(curva.getRl()[k]));
+		}
+		g.setLineWidth(2);
+		trazar(g, xs, curva.getPotencia(), transferencia.getPotenciaMaxima(), COLOR_P);
+		trazar(g, xs, curva.getTension(), transferencia.getVth(), COLOR_V);
+		trazar(g, xs, curva.getCorriente(), transferencia.getCorrienteCortocircuito(), COLOR_I);
+
+		double xMax=xPixel(Math.log10(transferencia.getRlMaximaPotencia()));
+		g.setLineWidth(1);
+		g.setLineDashes(4, 4);
+		g.setStroke(COLOR_P);
+		g.strokeLine(xMax, MARGEN, xMax, ALTO-MARGEN);
+		g.setLineDashes();
+		g.setFill(COLOR_P);
+		g.fillOval(xMax-4, yPixel(1.0)-4, 8, 8);
+		g.fillText("Pmáx", xMax+6, MARGEN+12);
+	}
+
+	/**
+	 * Traza una curva normalizada reduciendo antes la polilínea a la resolución en píxeles.
+	 *
+	 * @param g				Contexto gráfico
+	 * @param xs			Coordenadas X en píxeles
+	 * @param valores		Valores de la magnitud
+	 * @param referencia	Valor que se representa como 1 (sin escala si es 0)
+	 * @param color			Color de la curva
+	 */
+	private void trazar(GraphicsContext g, double[] xs, double[] valores, double referencia, Color color) {
+		double[] ys=new double[valores.length];
+		for(int k=0; k<ys.length; k++) {
+			ys[k]=yPixel(referencia!=0.0 ? valores[k]/referencia : 0.0);
+		}
+		Polilinea p=PolilineaUtil.reducir(xs, ys);
+		g.setStroke(color);
+		g.strokePolyline(p.xs(), p.ys(), p.n());
+	}
+
+	/**
+	 * Redibuja el marcador del punto de trabajo y la lectura numérica. Es la única parte
+	 * que se actualiza mientras se arrastra el deslizador.
+	 */
+	private void actualizarMarcadores() {
+		GraphicsContext g=marcadores.getGraphicsContext2D();
+		g.clearRect(0, 0, ANCHO, ALTO);
+		double rl=rlActual();
+		if(Double.isNaN(rl)) {
+			lectura.setText("");
+			return;
+		}
+		double x=xPixel(Math.max(logRMin, Math.min(logRMax, Math.log10(rl))));
+		g.setStroke(Color.web("#2c3e50"));
+		g.setLineWidth(1);
+		g.strokeLine(x, MARGEN, x, ALTO-MARGEN);
+		marcar(g, x, transferencia.potencia(rl), transferencia.getPotenciaMaxima(), COLOR_P);
+		marcar(g, x, transferencia.tension(rl), transferencia.getVth(), COLOR_V);
+		marcar(g, x, transferencia.corriente(rl), transferencia.getCorrienteCortocircuito(), COLOR_I);
+
+		String prefijo=(variable!=null)
+				? variable.getId()+" = "+Unidades.format(Math.pow(10, slider.getValue()), Type.RESISTENCIA)+" → "
+				: "";
+		lectura.setText(prefijo+"RL = "+Unidades.format(rl, Type.RESISTENCIA)
+				+" · V = "+Unidades.format(transferencia.tension(rl), Type.TENSION)
+				+" · I = "+Unidades.format(transferencia.corriente(rl), Type.CORRIENTE)
+				+" · P = "+Unidades.format(transferencia.potencia(rl), Type.POTENCIA)
+				+String.format(" · η = %.1f %%", 100*transferencia.rendimiento(rl)));
+	}
+
+	/**
+	 * Dibuja el punto de una curva en la posición actual.
+	 *
+	 * @param g				Contexto gráfico
+	 * @param x				Coordenada X en píxeles
+	 * @param valor			Valor de la magnitud
+	 * @param referencia	Valor que se representa como 1
+	 * @param color			Color del punto
+	 */
+	private void marcar(GraphicsContext g, double x, double valor, double referencia, Color color) {
+		double y=yPixel(referencia!=0.0 ? valor/referencia : 0.0);
+		g.setFill(color);
+		g.fillOval(x-4, y-4, 8, 8);
+	}
+
+	/**
+	 * Convierte log10(RL) a coordenada X del lienzo.
+	 *
+	 * @param logRl			log10 de la resistencia de carga
+	 * @return coordenada X en píxeles
+	 */
+	private double xPixel(double logRl) {
+		return MARGEN+(logRl-logRMin)/(logRMax-logRMin)*(ANCHO-2*MARGEN);
+	}
+
+	/**
+	 * Convierte un valor normalizado (0 a 1) a coordenada Y del lienzo.
+	 *
+	 * @param normalizado	Valor normalizado
+	 * @return coordenada Y en píxeles
+	 */
+	private double yPixel(double normalizado) {
+		return ALTO-MARGEN-normalizado*(ALTO-2*MARGEN);
+	}
+
+	/**
+	 * Celda del selector de resistencia variable: muestra Id y valor.
+	 */
+	private static class CeldaResistencia extends ListCell<Resistencia> {
+		@Override
+		protected void updateItem(Resistencia r, boolean empty) {
+			super.updateItem(r, empty);
+			setText(empty || r==null ? null : r.getId()+" ("+Unidades.format(r.getValor(), Type.RESISTENCIA)+")");
+		}
+	}
+}
@@ -7,7 +7,10 @@ import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.circuitos.analisiscircuitos.dominio.Bobina;
 import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
 import com.circuitos.analisiscircuitos.dominio.FuenteTensionDependiente;
@@ -149,6 +152,12 @@ public final class PropiedadesActions {
 	private static String modificarLabelValor(Componente comp) {
 		if(comp instanceof Resistencia) {
 			return "Resistencia:";
+		} else if(comp instanceof Condensador) {
+			return "Capacidad:";
+		} else if(comp instanceof Bobina) {
+			return "Inductancia:";
+		} else if(comp instanceof Diodo) {
+			return "Saturación:";
 		} else if(comp instanceof FuenteTensionInd) {
 			return "Voltaje:";
 		} else if(comp instanceof FuenteCorrienteInd) {
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 import com.circuitos.analisiscircuitos.gui.service.cable.CableFusionService;
 import com.circuitos.analisiscircuitos.gui.service.cable.CableGeometriaUtil;
 import com.circuitos.analisiscircuitos.gui.service.cable.CableInteraccionHandler;
@@ -620,11 +621,11 @@ public class Cable extends Group {
 		}
 		if(otroExtremo.getComponente().equals(inicio.getComponente())) {
 			logger.info("Fusionando con el inicio del cable: "+id);
-			inicio.setPosicion(PuntoConexion.Posicion.INICIO);
+			inicio.setPosicion(PosicionConexion.INICIO);
 			conector.conectarPuntos(inicio, otroExtremo);
 		} else if(otroExtremo.getComponente().equals(fin.getComponente())) {
 			logger.info("Fusionando con el fin del cable: "+id);
-			fin.setPosicion(PuntoConexion.Posicion.FIN);
+			fin.setPosicion(PosicionConexion.FIN);
 			conector.conectarPuntos(fin, otroExtremo);
 		} else {
 			logger.warning("El punto de conexión no coincide con los extremos del cable.");
@@ -4,6 +4,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 import com.circuitos.analisiscircuitos.gui.service.state.VisualOptionsService;
 
 import javafx.beans.binding.Bindings;
@@ -32,15 +33,10 @@ public class PuntoConexion extends Circle {
 	private static final double RADIO=5.0;
 	private static final String PUNTO_CONEXION="conexion-punto-conexion-componente";
 	
-	/**
-	 * Enumeración que define la posición relativa del punto en el componente.
-	 */
-	public enum Posicion { ARRIBA, ABAJO, IZQUIERDA, DERECHA, INICIO, FIN }
-	
 	private final Componente componente;		
 	private final boolean esPositivo; 
 	private final int nodoPredeterminado;			
-	private Posicion posicion;	
+	private PosicionConexion posicion;	
 	private Label etiquetaNodo;
 	private Tooltip tooltip=new Tooltip();
 	
@@ -52,7 +48,7 @@ public class PuntoConexion extends Circle {
 	 * @param esPositivo			{@code true} si el punto está en el terminal positivo, {@code false}, si no
 	 * @param posicion				Posicion del punto de conexion respecto del componente
 	 */
-	public PuntoConexion(Componente componente, boolean esPositivo, Posicion posicion) {
+	public PuntoConexion(Componente componente, boolean esPositivo, PosicionConexion posicion) {
 		super(RADIO);		//radio del círculo
 		this.componente=componente;
 		this.esPositivo=esPositivo;
@@ -143,7 +139,7 @@ public class PuntoConexion extends Circle {
 	 * 
 	 * @return Posicion relativa del punto respecto al componente
 	 */
-	public Posicion getPosicion() {
+	public PosicionConexion getPosicion() {
 		return posicion;
 	}
 	
@@ -152,7 +148,7 @@ public class PuntoConexion extends Circle {
 	 * 
 	 * @param Posicion nueva
 	 */
-	public void setPosicion(Posicion posicion) {
+	public void setPosicion(PosicionConexion posicion) {
 		this.posicion=posicion;
 	}
 	
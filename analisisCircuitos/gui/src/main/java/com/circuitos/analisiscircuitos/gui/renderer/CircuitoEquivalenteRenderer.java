@@ -9,7 +9,7 @@ import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
 import com.circuitos.analisiscircuitos.dominio.Resistencia;
 import com.circuitos.analisiscircuitos.gui.builder.ComponenteVisualFactory;
 import com.circuitos.analisiscircuitos.gui.model.ConectorPuntos;
-import com.circuitos.analisiscircuitos.gui.model.PuntoConexion.Posicion;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 import com.circuitos.analisiscircuitos.gui.service.label.EtiquetaBindingService;
 
 import javafx.application.Platform;
@@ -316,5 +316,5 @@ public class CircuitoEquivalenteRenderer {
 	/**
 	 * Registro que representa la posición visual de los pines de un componente.
 	 */
-	public record PinesComponente(Posicion pin1, Posicion pin2) { }
+	public record PinesComponente(PosicionConexion pin1, PosicionConexion pin2) { }
 }
@@ -7,7 +7,7 @@ import java.util.logging.Logger;
 import com.circuitos.analisiscircuitos.gui.model.CableBuilder;
 import com.circuitos.analisiscircuitos.gui.model.ConectorPuntos;
 import com.circuitos.analisiscircuitos.gui.model.PuntoConexion;
-import com.circuitos.analisiscircuitos.gui.model.PuntoConexion.Posicion;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 import com.circuitos.analisiscircuitos.gui.renderer.CircuitoEquivalenteRenderer.PinesComponente;
 import com.circuitos.analisiscircuitos.gui.service.cable.CableTrayectoriaCalculator;
 
@@ -193,7 +193,7 @@ public class ConexionesRenderer {
 	 * @param pos			Posición del StackPane
 	 * @return Punto de conexión
 	 */
-	private PuntoConexion extraerPunto(StackPane panel, Posicion pos) {
+	private PuntoConexion extraerPunto(StackPane panel, PosicionConexion pos) {
 		for(Node n : panel.getChildren()) {
 			if(n instanceof PuntoConexion pc && pc.getPosicion()==pos)
 				return pc;
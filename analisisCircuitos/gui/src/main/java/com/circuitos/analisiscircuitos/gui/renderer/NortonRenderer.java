@@ -10,7 +10,7 @@ import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
 import com.circuitos.analisiscircuitos.dominio.Norton;
 import com.circuitos.analisiscircuitos.dominio.Resistencia;
-import com.circuitos.analisiscircuitos.gui.model.PuntoConexion.Posicion;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 
 /**
  * Clase específica que define cómo se representa visualmente el circuito equivalente de Norton. 
@@ -78,11 +78,11 @@ public class NortonRenderer {
 		int rCargaRot=90;
 		renderer.setOrientacionPines(
 				new CircuitoEquivalenteRenderer.PinesComponente(
-						Posicion.ARRIBA,	 Posicion.ABAJO),
+						PosicionConexion.ARRIBA,	 PosicionConexion.ABAJO),
 				new CircuitoEquivalenteRenderer.PinesComponente(
-						Posicion.ARRIBA, Posicion.ABAJO),
+						PosicionConexion.ARRIBA, PosicionConexion.ABAJO),
 				new CircuitoEquivalenteRenderer.PinesComponente(
-						Posicion.ARRIBA, Posicion.ABAJO));
+						PosicionConexion.ARRIBA, PosicionConexion.ABAJO));
 		try {
 			if(rCarga!=null) {
 				renderer.renderizarNorton(fuente, rNorton, rCarga, 
@@ -10,7 +10,7 @@ import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
 import com.circuitos.analisiscircuitos.dominio.Resistencia;
 import com.circuitos.analisiscircuitos.dominio.Thevenin;
-import com.circuitos.analisiscircuitos.gui.model.PuntoConexion.Posicion;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 
 /**
  * Clase específica que define cómo se construye visualmente el circuito equivalente de Thevenin.
@@ -86,11 +86,11 @@ public class TheveninRenderer {
 		int rcargaRot=(rCarga!=null && rCarga.getValor()<0) ? 90 : 270;
 		renderer.setOrientacionPines(
 				new CircuitoEquivalenteRenderer.PinesComponente(
-						Posicion.ARRIBA, Posicion.ABAJO), 
+						PosicionConexion.ARRIBA, PosicionConexion.ABAJO), 
 				new CircuitoEquivalenteRenderer.PinesComponente(
-						Posicion.IZQUIERDA, Posicion.DERECHA),
+						PosicionConexion.IZQUIERDA, PosicionConexion.DERECHA),
 				new CircuitoEquivalenteRenderer.PinesComponente(
-						Posicion.ARRIBA, Posicion.ABAJO));
+						PosicionConexion.ARRIBA, PosicionConexion.ABAJO));
 		try {
 			if(rCarga!=null) {
 				renderer.renderizarThevenin(fuente, rThev, rCarga, 
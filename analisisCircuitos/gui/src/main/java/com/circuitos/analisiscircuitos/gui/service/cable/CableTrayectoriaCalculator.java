@@ -5,7 +5,7 @@ import java.util.List;
 import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.gui.model.PuntoConexion;
-import com.circuitos.analisiscircuitos.gui.model.PuntoConexion.Posicion;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
@@ -96,8 +96,8 @@ public class CableTrayectoriaCalculator {
 			ruta=crearTrayectoriaVerticalVertical(inicio, fin, conectorA, conectorB, dx);
 		} else if(conectorA.getPosicion()==null || conectorB.getPosicion()==null ||
 				conectorA.getComponente()==conectorB.getComponente()
-				&& conectorA.getPosicion()==Posicion.IZQUIERDA
-				&& conectorB.getPosicion()==Posicion.DERECHA) {
+				&& conectorA.getPosicion()==PosicionConexion.IZQUIERDA
+				&& conectorB.getPosicion()==PosicionConexion.DERECHA) {
 			ruta=crearTrayectoriaDiagonal(inicio, fin);
 		} else if(Math.abs(dy)<=TOLERANCIA_ALINEACION_HORIZONTAL) {
 			ruta=crearTrayectoriaHorizontal(inicio,fin);
@@ -131,8 +131,8 @@ public class CableTrayectoriaCalculator {
 			pts.add(fin);
 			return pts;
 		}
-		boolean ambosArriba=conectorA.getPosicion()==Posicion.ARRIBA &&
-								conectorB.getPosicion()==Posicion.ARRIBA;
+		boolean ambosArriba=conectorA.getPosicion()==PosicionConexion.ARRIBA &&
+								conectorB.getPosicion()==PosicionConexion.ARRIBA;
 		double yPuente=ambosArriba ? 
 				Math.min(inicio.getY(), fin.getY())-ALTURA_PUENTE :
 				Math.max(inicio.getY(), fin.getY())+ALTURA_PUENTE;
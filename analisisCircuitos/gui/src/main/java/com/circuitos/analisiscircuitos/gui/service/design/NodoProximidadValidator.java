@@ -1,7 +1,10 @@
 package com.circuitos.analisiscircuitos.gui.service.design;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.gui.model.ConectorPuntos;
@@ -28,7 +31,11 @@ public class NodoProximidadValidator {
 	private NodoProximidadValidator() { /* NO INSTANCIABLE */ }
 	
 	/**
-	 * Realiza la fusión automática de nodos cercanos y los alinea visualmente.
+	 * Realiza la fusión automática de nodos cercanos y los alinea visualmente. Los puntos se
+	 * reparten en celdas del tamaño de la distancia de fusión y cada uno solo se compara con los
+	 * de su celda y las vecinas, así que el coste es lineal en el número de puntos. Cada punto se
+	 * archiva en su celda después de compararlo, y el esclavo de una fusión se vuelve a archivar
+	 * porque se ha movido.
 	 * 
 	 * @param zonaDibujo			Área de dibujo donde están los puntos
 	 * @param conector				Gestor de conexiones para unificar Nets
@@ -36,18 +43,17 @@ public class NodoProximidadValidator {
 	public static void fusionarNodosCercanos(Pane zonaDibujo, ConectorPuntos conector) {
 		Platform.runLater(() -> {
 			List<PuntoConexion> puntos=encontrarTodosPuntos(zonaDibujo);
+			Rejilla rejilla=new Rejilla();
 			boolean cambios=false;
-			for(int i=0; i<puntos.size(); i++) {
-				PuntoConexion p1=puntos.get(i);
+			for(PuntoConexion p1 : puntos) {
 				if(!p1.isVisible()) continue;
-				for(int j=i+1; j<puntos.size(); j++) {
-					PuntoConexion p2=puntos.get(j);
-					if(!p2.isVisible()) continue;
-					if(estanCerca(p1, p2, zonaDibujo)) {
-						boolean hayFusion=aplicarFusion(p1, p2, zonaDibujo, conector);
-						if(hayFusion) cambios=true;
+				for(PuntoConexion p2 : rejilla.vecinos(p1)) {
+					if(estanCerca(p2, p1, zonaDibujo) && aplicarFusion(p2, p1, zonaDibujo, conector)) {
+						cambios=true;
+						rejilla.archivar(p2);		//Si p2 era el esclavo se ha movido de celda
 					}
 				}
+				rejilla.archivar(p1);				//Con su posición final, por si p1 era el esclavo
 			}
 			if(cambios) {
 				logger.fine("Fusión de nodos aplicada correctamente.");
@@ -55,6 +61,58 @@ public class NodoProximidadValidator {
 		});
 	}
 	
+	/**
+	 * Rejilla de fusión: celdas del tamaño de la distancia de fusión con los puntos ya vistos, y
+	 * la celda en la que está archivado cada uno para poder moverlo cuando cambia de posición.
+	 */
+	private static final class Rejilla {
+		private final Map<Long, List<PuntoConexion>> celdas=new HashMap<>();
+		private final Map<PuntoConexion, Long> celdaDe=new IdentityHashMap<>();
+		
+		/**
+		 * Puntos archivados en la celda de un punto y en las ocho vecinas. Se devuelve una copia
+		 * porque las fusiones pueden mover puntos entre celdas mientras se recorre.
+		 */
+		List<PuntoConexion> vecinos(PuntoConexion p) {
+			Point2D pos=p.localToScene(0, 0);
+			long cx=celda(pos.getX());
+			long cy=celda(pos.getY());
+			List<PuntoConexion> vecinos=new ArrayList<>();
+			for(long dx=-1; dx<=1; dx++) {
+				for(long dy=-1; dy<=1; dy++) {
+					vecinos.addAll(celdas.getOrDefault(clave(cx+dx, cy+dy), List.of()));
+				}
+			}
+			return vecinos;
+		}
+		
+		/**
+		 * Archiva un punto en la celda de su posición actual, sacándolo de la anterior si ha
+		 * cambiado.
+		 */
+		void archivar(PuntoConexion p) {
+			Point2D pos=p.localToScene(0, 0);
+			long nueva=clave(celda(pos.getX()), celda(pos.getY()));
+			Long anterior=celdaDe.put(p, nueva);
+			if(anterior!=null) {
+				if(anterior==nueva) return;
+				celdas.get(anterior).remove(p);
+			}
+			celdas.computeIfAbsent(nueva, k -> new ArrayList<>(2)).add(p);
+		}
+		
+		private static long celda(double coordenada) {
+			return (long) Math.floor(coordenada/DISTANCIA_FUSION);
+		}
+		
+		/**
+		 * Clave de la celda (cx, cy) de la rejilla de fusión.
+		 */
+		private static long clave(long cx, long cy) {
+			return (cx<<32)^(cy&0xffffffffL);
+		}
+	}
+	
 	/**
 	 * Obtiene todos los puntos de conexión de un nodo.
 	 * 
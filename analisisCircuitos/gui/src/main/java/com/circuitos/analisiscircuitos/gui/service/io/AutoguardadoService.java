@@ -0,0 +1,359 @@
+package com.circuitos.analisiscircuitos.gui.service.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+import com.circuitos.analisiscircuitos.gui.commands.Command;
+import com.circuitos.analisiscircuitos.gui.model.Cable;
+import com.circuitos.analisiscircuitos.gui.service.io.CircuitoSerializerService.Instantanea;
+import com.circuitos.analisiscircuitos.gui.service.undo.UndoRedoManager;
+import com.circuitos.analisiscircuitos.io.CircuitoDeserializerService;
+import com.circuitos.analisiscircuitos.io.CircuitoJson;
+import com.circuitos.analisiscircuitos.io.DiarioCircuito;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+
+/**
+ * Autoguardado del circuito con {@link DiarioCircuito}. Escucha los comandos del
+ * {@link UndoRedoManager} y, tras cada uno, registra en el diario solo los componentes y cables
+ * que el comando ha tocado ({@link Command#afectados()}). Cada cierto número de registros, cada
+ * minuto si hay cambios o cuando un comando no sabe qué ha tocado, se escribe un punto de control
+ * con el circuito entero en el hilo de E/S de archivos.
+ * <p>
+ * El diario va junto al proyecto; si el circuito no se ha guardado nunca, va en la carpeta de
+ * configuración de la aplicación como {@value #SIN_TITULO}. Al salir de forma normal se borra; si
+ * la aplicación se cae, al arrancar se ofrece recuperar lo autoguardado.
+ * </p>
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class AutoguardadoService {
+
+	private static final Logger logger=Logger.getLogger(AutoguardadoService.class.getName());
+	private static final String SIN_TITULO="sin-titulo.json";
+	private static final int MAX_REGISTROS=500;
+	private static final Duration PERIODO=Duration.seconds(60);
+
+	private final CircuitoSerializerService serializer=new CircuitoSerializerService(true);
+	private final Supplier<Circuito> circuito;
+	private final Pane zonaDibujo;
+	private final Consumer<Command> oyente=this::registrar;
+	private final Timeline reloj;
+	private DiarioCircuito diario;
+	private Path proyecto;
+	private long ediciones;
+	private boolean escribiendoPunto;
+	private boolean puntoPendiente;
+
+	private AutoguardadoService(Supplier<Circuito> circuito, Pane zonaDibujo) {
+		this.circuito=Objects.requireNonNull(circuito, "El circuito no puede ser null");
+		this.zonaDibujo=Objects.requireNonNull(zonaDibujo, "La zona de dibujo no puede ser null");
+		this.reloj=new Timeline();
+		reloj.setCycleCount(Timeline.INDEFINITE);
+	}
+
+	/**
+	 * Crea el servicio y empieza a escuchar los comandos; el diario no se abre hasta
+	 * {@link #iniciar(File)}. El oyente y el reloj se enganchan aquí, con el servicio ya
+	 * construido, y no en el constructor.
+	 *
+	 * @param circuito			Proveedor del circuito actual
+	 * @param zonaDibujo		Área de dibujo
+	 * @return servicio escuchando los comandos
+	 */
+	public static AutoguardadoService crear(Supplier<Circuito> circuito, Pane zonaDibujo) {
+		AutoguardadoService servicio=new AutoguardadoService(circuito, zonaDibujo);
+		servicio.reloj.getKeyFrames().add(new KeyFrame(PERIODO, e -> servicio.revisar()));
+		UndoRedoManager.getInstance().addOyente(servicio.oyente);
+		return servicio;
+	}
+
+	/**
+	 * Empieza un diario nuevo para el circuito que está en pantalla, que coincide con lo
+	 * guardado en el archivo. Se llama al crear, cargar o guardar un circuito.
+	 * <p>
+	 * Si el proyecto no es JSON ({@code .thvb} o SPICE), el diario empieza con un punto de control
+	 * del circuito en pantalla: volver a leer esos archivos no garantiza los mismos Ids que usan
+	 * los registros del diario, así que la recuperación nunca parte del archivo.
+	 * </p>
+	 *
+	 * @param archivo			Archivo del proyecto ({@code null} si no se ha guardado)
+	 */
+	public void iniciar(File archivo) {
+		Path nuevo=ruta(archivo);
+		cerrarDiario();
+		try {
+			if(proyecto!=null && !proyecto.equals(nuevo)) DiarioCircuito.descartar(proyecto);
+			proyecto=nuevo;
+			if(archivo!=null && !esJson(archivo)) {
+				Instantanea copia=serializer.instantanea(circuito.get(), zonaDibujo);
+				diario=DiarioCircuito.iniciar(nuevo, out -> CircuitoJson.escribir(out, copia.circuito(),
+						copia.posiciones(), copia.cables(), true));
+			} else {
+				diario=DiarioCircuito.iniciar(nuevo);
+			}
+			reloj.play();
+			logger.fine(()->"Autoguardado iniciado para "+nuevo);
+		} catch(IOException e) {
+			logger.log(Level.WARNING, "No se pudo iniciar el autoguardado en "+nuevo, e);
+		}
+	}
+
+	/**
+	 * Se llama cuando un guardado termina bien. Empieza un diario nuevo para el archivo y, si
+	 * hubo ediciones mientras se escribía, hace un punto de control para no perderlas.
+	 *
+	 * @param archivo			Archivo guardado
+	 * @param marca				Valor de {@link #getEdiciones()} al tomar la copia del guardado
+	 */
+	public void guardado(File archivo, long marca) {
+		iniciar(archivo);
+		if(ediciones!=marca) puntoDeControl();
+	}
+
+	/**
+	 * Número de comandos registrados desde que se creó el servicio.
+	 *
+	 * @return ediciones registradas
+	 */
+	public long getEdiciones() {
+		return ediciones;
+	}
+
+	/**
+	 * Deja de autoguardar y borra el diario. Se llama al salir de la aplicación de forma normal.
+	 */
+	public void detener() {
+		UndoRedoManager.getInstance().removeOyente(oyente);
+		cerrarDiario();
+		if(proyecto==null) return;
+		try {
+			DiarioCircuito.descartar(proyecto);
+		} catch(IOException e) {
+			logger.log(Level.WARNING, "No se pudo borrar el autoguardado de "+proyecto, e);
+		}
+	}
+
+	/**
+	 * Guarda el circuito entero como punto de control: la copia se toma ahora y se escribe en el
+	 * hilo de E/S. Si ya se está escribiendo uno, se repite al terminar.
+	 */
+	public void puntoDeControl() {
+		if(diario==null) return;
+		if(escribiendoPunto) {
+			puntoPendiente=true;
+			return;
+		}
+		DiarioCircuito destino=diario;
+		Instantanea copia=serializer.instantanea(circuito.get(), zonaDibujo);
+		int generacion=destino.rotar();
+		Task<Void> tarea=new Task<>() {
+			@Override
+			protected Void call() throws IOException {
+				destino.escribirPunto(generacion, out -> CircuitoJson.escribir(out, copia.circuito(),
+						copia.posiciones(), copia.cables(), true));
+				return null;
+			}
+		};
+		escribiendoPunto=true;
+		tarea.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED,
+				e -> logger.log(Level.WARNING, "Error escribiendo el punto de control", tarea.getException()));
+		tarea.setOnSucceeded(e -> terminarPunto());
+		tarea.setOnFailed(e -> terminarPunto());
+		GestionArchivoService.ejecutar(tarea);
+	}
+
+	/**
+	 * Tick del reloj: punto de control si hay registros desde el último o tras un error.
+	 */
+	private void revisar() {
+		if(diario!=null && (diario.getRegistros()>0 || diario.getError()!=null)) puntoDeControl();
+	}
+
+	private void terminarPunto() {
+		escribiendoPunto=false;
+		if(puntoPendiente) {
+			puntoPendiente=false;
+			puntoDeControl();
+		}
+	}
+
+	/**
+	 * Registra el estado de lo que ha tocado un comando. Un solo recorrido del área de dibujo
+	 * encuentra las vistas de los componentes afectados y los cables que cuelgan de ellos (al
+	 * mover un componente se rehacen sus cables).
+	 */
+	private void registrar(Command comando) {
+		if(diario==null) return;
+		ediciones++;
+		List<Object> afectados=comando.afectados();
+		if(afectados==null) {
+			puntoDeControl();
+			return;
+		}
+		Map<Componente, StackPane> componentes=new IdentityHashMap<>();
+		Set<Cable> cables=Collections.newSetFromMap(new IdentityHashMap<>());
+		for(Object o : afectados) {
+			if(o instanceof Componente c) componentes.put(c, null);
+			else if(o instanceof Cable c) cables.add(c);
+		}
+		Set<Cable> presentes=Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Cable> colgantes=new ArrayList<>();
+		for(Node n : zonaDibujo.getChildren()) {
+			if(n instanceof StackPane sp && sp.getUserData() instanceof Componente c && componentes.containsKey(c)) {
+				componentes.put(c, sp);
+			} else if(n instanceof Cable cable) {
+				presentes.add(cable);
+				if(!cables.contains(cable) && (componentes.containsKey(cable.getInicio().getComponente())
+						|| componentes.containsKey(cable.getFin().getComponente()))) {
+					colgantes.add(cable);
+				}
+			}
+		}
+		for(Map.Entry<Componente, StackPane> e : componentes.entrySet()) {
+			Componente c=e.getKey();
+			StackPane vista=e.getValue();
+			if(vista!=null) {
+				diario.ponerComponente(c, new PosicionComponenteDto(c.getId(), vista.getLayoutX(),
+						vista.getLayoutY(), (int) vista.getRotate()));
+			} else if(c.getId()!=null) {
+				diario.quitarComponente(c.getId());
+			}
+		}
+		cables.addAll(colgantes);
+		for(Cable cable : cables) {
+			if(presentes.contains(cable)) {
+				diario.ponerCable(serializer.toDto(cable));
+			} else if(cable.getCableId()!=null) {
+				diario.quitarCable(cable.getCableId());
+			}
+		}
+		if(diario.getRegistros()>=MAX_REGISTROS) puntoDeControl();
+	}
+
+	private void cerrarDiario() {
+		reloj.stop();
+		if(diario!=null) {
+			diario.close();
+			diario=null;
+		}
+	}
+
+	/* Recuperación */
+
+	/**
+	 * Autoguardado que quedó sin cerrar.
+	 *
+	 * @param archivo			Archivo del proyecto ({@code null} si es el circuito sin título)
+	 */
+	public record Pendiente(File archivo) {
+		/**
+		 * Nombre para mostrar al usuario.
+		 *
+		 * @return nombre del archivo o "Circuito Nuevo"
+		 */
+		public String nombre() {
+			return archivo!=null ? archivo.getName() : "Circuito Nuevo";
+		}
+	}
+
+	/**
+	 * Busca un autoguardado pendiente: primero el del circuito sin título y después el de los
+	 * archivos recientes.
+	 *
+	 * @return autoguardado pendiente, o vacío si no hay nada que recuperar
+	 */
+	public static Optional<Pendiente> buscarPendiente() {
+		try {
+			if(DiarioCircuito.hayCambios(ruta(null))) return Optional.of(new Pendiente(null));
+			for(String reciente : ArchivosRecientesService.obtenerArchivosRecientes()) {
+				File f=new File(reciente);
+				if(DiarioCircuito.hayCambios(f.toPath())) return Optional.of(new Pendiente(f));
+			}
+		} catch(IOException e) {
+			logger.log(Level.WARNING, "No se pudo buscar autoguardados pendientes", e);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Tarea que reconstruye el circuito autoguardado: lee el proyecto (si existe) y le aplica
+	 * el punto de control y los diarios. Los proyectos que no son JSON siempre tienen punto de
+	 * control, así que para ellos el archivo no se lee. Se envía con {@link GestionArchivoService#ejecutar(Task)}.
+	 *
+	 * @param archivo			Archivo del proyecto ({@code null} para el circuito sin título)
+	 * @return tarea de recuperación
+	 */
+	public static Task<CircuitoFileDto> tareaRecuperar(File archivo) {
+		Path diario=ruta(archivo);
+		return new Task<>() {
+			@Override
+			protected CircuitoFileDto call() throws IOException {
+				updateMessage("Recuperando cambios autoguardados...");
+				CircuitoFileDto base=null;
+				if(archivo!=null && esJson(archivo) && Files.exists(archivo.toPath())) {
+					base=new CircuitoDeserializerService().cargarCircuitoArchivo(archivo,
+							avance -> updateProgress(avance, 1.0));
+				}
+				return DiarioCircuito.recuperar(diario, base);
+			}
+		};
+	}
+
+	/**
+	 * Borra un autoguardado que el usuario no quiere recuperar.
+	 *
+	 * @param archivo			Archivo del proyecto ({@code null} para el circuito sin título)
+	 */
+	public static void descartar(File archivo) {
+		try {
+			DiarioCircuito.descartar(ruta(archivo));
+		} catch(IOException e) {
+			logger.log(Level.WARNING, "No se pudo borrar el autoguardado", e);
+		}
+	}
+
+	private static boolean esJson(File archivo) {
+		return archivo.getName().toLowerCase(Locale.ROOT).endsWith(".json");
+	}
+
+	/**
+	 * Ruta a la que se asocia el diario: el propio proyecto o, si no se ha guardado, un archivo
+	 * fijo en la carpeta de configuración.
+	 */
+	private static Path ruta(File archivo) {
+		if(archivo!=null) return archivo.toPath().toAbsolutePath();
+		try {
+			return ArchivosRecientesService.getConfigFilePath().getParent().resolve(SIN_TITULO);
+		} catch(IOException e) {
+			return Path.of(System.getProperty("user.home"), ".thevenapp-"+SIN_TITULO);
+		}
+	}
+}
@@ -0,0 +1,335 @@
+package com.circuitos.analisiscircuitos.gui.service.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dominio.Componente;
+import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.PosicionComponenteDto;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
+import com.circuitos.analisiscircuitos.dto.PuntoDto;
+import com.circuitos.analisiscircuitos.dto.ResultadosDto;
+import com.circuitos.analisiscircuitos.gui.controller.ThevenAppController;
+import com.circuitos.analisiscircuitos.gui.model.Cable;
+import com.circuitos.analisiscircuitos.gui.model.PuntoConexion;
+import com.circuitos.analisiscircuitos.io.CableNodeRepairUtil;
+import com.circuitos.analisiscircuitos.io.CircuitoBinario;
+import com.circuitos.analisiscircuitos.io.CircuitoJson;
+import com.circuitos.analisiscircuitos.io.EscritorSpice;
+import com.circuitos.analisiscircuitos.io.EscrituraAtomica;
+import com.circuitos.analisiscircuitos.io.LectorSpice;
+
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Servicio encargado de serializar un circuito a archivo JSON, incluyendo
+ * posiciones de componentes y cables.
+ * Se usa desde controlador {@link ThevenAppController}. La escritura se hace en streaming con
+ * {@link CircuitoJson}, con sangría o en modo compacto.
+ * 
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class CircuitoSerializerService {
+	
+	private static final Logger logger=Logger.getLogger(CircuitoSerializerService.class.getName());
+	private static final String ID_PREFIX="Cable-";
+	private final boolean compacto;
+	
+	/**
+	 * Constructor. Escribe el JSON con sangría.
+	 */
+	public CircuitoSerializerService() {
+		this(false);
+	}
+	
+	/**
+	 * Constructor.
+	 * 
+	 * @param compacto			{@code true} para escribir sin sangría ni saltos de línea
+	 */
+	public CircuitoSerializerService(boolean compacto) {
+		this.compacto=compacto;
+	}
+	
+	/**
+	 * Copia inmutable de lo que se guarda: el circuito (con los mismos Ids), las posiciones y los
+	 * cables tal como estaban en el área de dibujo, y los últimos resultados de análisis. Se toma
+	 * en el hilo de JavaFX y se escribe después en segundo plano sin tocar la escena.
+	 * 
+	 * @param circuito			Copia del circuito
+	 * @param posiciones		Posiciones de los componentes
+	 * @param cables			Cables sin reparar
+	 * @param resultados		Resultados de análisis ({@code null} si no hay)
+	 */
+	public record Instantanea(Circuito circuito, List<PosicionComponenteDto> posiciones, List<CableDto> cables,
+			ResultadosDto resultados) {
+		public Instantanea {
+			Objects.requireNonNull(circuito, "Circuito no puede ser null");
+			posiciones=List.copyOf(posiciones);
+			cables=List.copyOf(cables);
+		}
+	}
+	
+	/**
+	 * Toma una instantánea del circuito y del área de dibujo. Debe llamarse en el hilo de JavaFX;
+	 * solo copia, la reparación de cables y la escritura se hacen en {@link #guardar}.
+	 * 
+	 * @param circuito			Circuito actual
+	 * @param zonaDibujo		Área de dibujo donde está todo colocado
+	 * @return copia independiente del circuito, posiciones y cables
+	 */
+	public Instantanea instantanea(Circuito circuito, Pane zonaDibujo) {
+		return instantanea(circuito, zonaDibujo, null);
+	}
+	
+	/**
+	 * Toma una instantánea del circuito y del área de dibujo junto con los últimos resultados de
+	 * análisis. Solo se guardan en JSON, y solo si siguen siendo del circuito.
+	 * 
+	 * @param circuito			Circuito actual
+	 * @param zonaDibujo		Área de dibujo donde está todo colocado
+	 * @param resultados		Resultados de análisis ({@code null} si no hay)
+	 * @return copia independiente del circuito, posiciones y cables
+	 */
+	public Instantanea instantanea(Circuito circuito, Pane zonaDibujo, ResultadosDto resultados) {
+		Objects.requireNonNull(circuito, "Circuito no puede ser null");
+		List<PosicionComponenteDto> posiciones=new ArrayList<>();
+		posiciones(zonaDibujo).forEach(posiciones::add);
+		return new Instantanea(circuito.instantanea(), posiciones, extraerCables(zonaDibujo), resultados);
+	}
+	
+	/**
+	 * Guarda una instantánea en un archivo. El formato se elige por la extensión:
+	 * {@value CircuitoBinario#EXTENSION} para el binario, netlist SPICE para {@code .cir},
+	 * {@code .sp}, {@code .spi} y {@code .net}, y JSON en otro caso. La escritura es atómica
+	 * ({@link EscrituraAtomica}): si falla o se cancela, el archivo anterior no cambia. Se puede
+	 * llamar desde cualquier hilo; si el hilo se interrumpe, el guardado JSON se corta con
+	 * {@link InterruptedIOException}.
+	 * 
+	 * @param archivo			Archivo de destino
+	 * @param instantanea		Copia tomada con {@link #instantanea}
+	 * @param progreso			Receptor del avance (de 0 a 1)
+	 * @throws IOException		si falla la escritura, el circuito no se puede expresar en SPICE o
+	 * 							se cancela
+	 */
+	public void guardar(File archivo, Instantanea instantanea, DoubleConsumer progreso) throws IOException {
+		Objects.requireNonNull(archivo, "El archivo de destino no puede ser null");
+		Objects.requireNonNull(instantanea, "La instantánea no puede ser null");
+		Objects.requireNonNull(progreso, "El receptor del avance no puede ser null");
+		Circuito circuito=instantanea.circuito();
+		if(LectorSpice.esSpice(archivo.toPath())) {
+			exportarSpice(archivo, circuito);
+			progreso.accept(1.0);
+			return;
+		}
+		List<CableDto> reparados=CableNodeRepairUtil.repairCables(instantanea.cables());
+		if(CircuitoBinario.esBinario(archivo)) {
+			CircuitoBinario.escribir(archivo.toPath(), circuito, instantanea.posiciones(), reparados);
+		} else {
+			AvanceEscritura avance=new AvanceEscritura(progreso, circuito.getComponentes().size()
+					+instantanea.posiciones().size()+reparados.size());
+			try {
+				EscrituraAtomica.escribir(archivo.toPath(), salida -> CircuitoJson.escribir(salida,
+						avance.contar(circuito.getComponentes()), avance.contar(instantanea.posiciones()),
+						avance.contar(reparados), instantanea.resultados(), compacto));
+			} catch(CancellationException e) {
+				throw new InterruptedIOException("Guardado cancelado");
+			}
+		}
+		progreso.accept(1.0);
+		logger.info(()->String.format("Circuito guardado en %s (%d componentes, %d cables)",
+				archivo.getName(), circuito.getComponentes().size(), reparados.size()));
+	}
+	
+	/**
+	 * Guarda un circuito en un archivo JSON.
+	 * 
+	 * @param archivo			Archivo de destino
+	 * @param circuito			Circuito a guardar
+	 * @param zonaDibujo		Área de dibujo donde está todo colocado
+	 * @throws IOException		si ocurre algún error al escribir el archivo
+	 */
+	public void guardarCircuitoArchivo(File archivo, 
+			Circuito circuito, Pane zonaDibujo) throws IOException {
+		Objects.requireNonNull(archivo, "El archivo de destino no puede ser null");
+		logger.fine(()->"Serializando circuito: "+circuito.hashCode());
+		List<CableDto> reparados=CableNodeRepairUtil.repairCables(extraerCables(zonaDibujo));
+		EscrituraAtomica.escribir(archivo.toPath(),
+				salida -> CircuitoJson.escribir(salida, circuito, posiciones(zonaDibujo), reparados, compacto));
+		logger.info(()->String.format(
+				"Circuito %s guardado en %s (%d componentes, %d cables)",
+				circuito.hashCode(), archivo.getName(),
+				circuito.getComponentes().size(), reparados.size()));
+	}
+	
+	/**
+	 * Guarda un circuito en un archivo binario {@value CircuitoBinario#EXTENSION}.
+	 * 
+	 * @param archivo			Archivo de destino
+	 * @param circuito			Circuito a guardar
+	 * @param zonaDibujo		Área de dibujo donde está todo colocado
+	 * @throws IOException		si ocurre algún error al escribir el archivo
+	 */
+	public void guardarCircuitoBinario(File archivo, 
+			Circuito circuito, Pane zonaDibujo) throws IOException {
+		Objects.requireNonNull(archivo, "El archivo de destino no puede ser null");
+		List<PosicionComponenteDto> posiciones=new ArrayList<>();
+		posiciones(zonaDibujo).forEach(posiciones::add);
+		List<CableDto> reparados=CableNodeRepairUtil.repairCables(extraerCables(zonaDibujo));
+		CircuitoBinario.escribir(archivo.toPath(), circuito, posiciones, reparados);
+	}
+	
+	/**
+	 * Exporta un circuito como netlist SPICE. La netlist no guarda posiciones ni cables.
+	 * 
+	 * @param archivo			Archivo de destino
+	 * @param circuito			Circuito a exportar
+	 * @throws IOException		si falla la escritura o el circuito no se puede expresar en SPICE
+	 */
+	public void exportarSpice(File archivo, Circuito circuito) throws IOException {
+		Objects.requireNonNull(archivo, "El archivo de destino no puede ser null");
+		try {
+			EscritorSpice.escribir(archivo.toPath(), circuito);
+		} catch(IllegalStateException e) {
+			throw new IOException("No se puede exportar a SPICE: "+e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Recorre las posiciones de cada componente del circuito dentro del Pane
+	 * correspondiente. Se generan según se escriben, sin lista intermedia.
+	 * 
+	 * @param pane		Pane del área donde están los componentes
+	 * @return posiciones de los componentes
+	 */
+	private Iterable<PosicionComponenteDto> posiciones(Pane pane) {
+		return () -> pane.getChildren().stream()
+				.filter(n -> n instanceof StackPane)
+				.map(StackPane.class::cast)
+				.filter(sp -> sp.getUserData() instanceof Componente)
+				.map(sp -> {
+					Componente comp = (Componente) sp.getUserData();
+					double x = sp.getLayoutX();
+					double y = sp.getLayoutY();
+					double rot=sp.getRotate();
+					return new PosicionComponenteDto(comp.getId(), x, y, (int) rot);
+				}).iterator();
+	}
+	
+	/**
+	 * Extrae la lista de cables que hay en un circuito dentro del pane 
+	 * correspondiente.
+	 * 
+	 * @param pane			Pane del área donde están los cables
+	 * @return lista de cables del pane
+	 */
+	private List<CableDto> extraerCables(Pane pane) {
+		return pane.getChildren().stream()
+				.filter(n -> n instanceof Cable)
+				.map(Cable.class::cast)
+				.map(c -> toDto(c))
+				.collect(Collectors.toList());
+	}
+	
+	/**
+	 * Establece los parámetros para un cable en concreto, su id, origen, destino, etc.
+	 * 
+	 * @param cable		Cable que se extrae de archivo
+	 * @return CableDto del cable
+	 */
+	CableDto toDto(Cable cable) {
+		if(cable.getCableId()==null) {
+			cable.setCableId(ID_PREFIX+UUID.randomUUID().toString());
+		}
+		PuntoConexion ini=cable.getInicio();
+		PuntoConexion fin=cable.getFin();
+		
+		String compOrigenId=ini.getComponente()!=null ? ini.getComponente().getId() : null;
+		PosicionConexion origenPos=ini.getComponente()!=null ? ini.getPosicion() : null;
+		boolean origenPositivo=ini.getComponente()!=null && ini.esPositivo();
+		Integer origenNodo=ini.getComponente()==null ? ini.getNodo() : null;
+		
+		String compDestinoId=fin.getComponente()!=null ? fin.getComponente().getId() : null;
+		PosicionConexion destinoPos=fin.getComponente()!=null ? fin.getPosicion() : null;
+		boolean destinoPositivo=fin.getComponente()!=null && fin.esPositivo();
+		Integer destinoNodo=fin.getComponente()==null ? fin.getNodo() : null;
+		
+		List<PuntoDto> pts=cable.getPuntos().stream()
+				.map(p->new PuntoDto(p.getX(), p.getY()))
+				.collect(Collectors.toList());
+		return new CableDto(cable.getCableId(),
+				compOrigenId, origenPos, origenPositivo, origenNodo,
+				compDestinoId, destinoPos, destinoPositivo, destinoNodo, pts);
+	}
+	
+	/**
+	 * Serializa el circuito actual a una cadena JSON (String) incluyendo posiciones y cables.
+	 * Se usa para guardar el circuito en la base de datos.
+	 * 
+	 * @param circuito							Circuito a guardar
+	 * @param zonaDibujo						Pane donde está dibujado el circuito
+	 * @return String JSON del circuito serializado
+	 * @throws IOException Si falla la conversión a JSON
+	 */
+	public String serializar(Circuito circuito, Pane zonaDibujo) throws IOException {
+		List<CableDto> reparados=CableNodeRepairUtil.repairCables(extraerCables(zonaDibujo));
+		StringWriter salida=new StringWriter();
+		CircuitoJson.escribir(salida, circuito, posiciones(zonaDibujo), reparados, compacto);
+		return salida.toString();
+	}
+	
+	/**
+	 * Cuenta los elementos escritos para informar del avance cada 1 % y cortar la escritura si el
+	 * hilo se ha interrumpido.
+	 */
+	private static final class AvanceEscritura {
+		private final DoubleConsumer progreso;
+		private final int total;
+		private final int paso;
+		private int escritos;
+		
+		AvanceEscritura(DoubleConsumer progreso, int total) {
+			this.progreso=progreso;
+			this.total=Math.max(1, total);
+			this.paso=Math.max(1, total/100);
+		}
+		
+		<T> Iterable<T> contar(Iterable<T> elementos) {
+			return () -> {
+				Iterator<T> it=elementos.iterator();
+				return new Iterator<T>() {
+					@Override
+					public boolean hasNext() {
+						return it.hasNext();
+					}
+					
+					@Override
+					public T next() {
+						T siguiente=it.next();
+						if(++escritos%paso==0) {
+							if(Thread.currentThread().isInterrupted()) {
+								throw new CancellationException("Guardado cancelado");
+							}
+							progreso.accept(Math.min(0.99, (double) escritos/total));
+						}
+						return siguiente;
+					}
+				};
+			};
+		}
+	}
+}
@@ -4,13 +4,22 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.dominio.Circuito;
+import com.circuitos.analisiscircuitos.dto.ResultadosDto;
+import com.circuitos.analisiscircuitos.gui.service.io.CircuitoSerializerService.Instantanea;
+import com.circuitos.analisiscircuitos.io.CircuitoBinario;
+import com.circuitos.analisiscircuitos.io.LectorSpice;
 
 import javafx.beans.property.StringProperty;
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
 import javafx.scene.control.Menu;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SeparatorMenuItem;
@@ -32,6 +41,21 @@ public class GestionArchivoService {
 	private static final String APP_TITLE_PREFIX="ThevenApp 1.0 - ";
 	private static final String RECENT_DESC="Circuito ThevenApp (*.json)";
 	private static final String RECENT_EXT="*.json";
+	private static final String BINARIO_DESC="Circuito ThevenApp binario (*"+CircuitoBinario.EXTENSION+")";
+	private static final String BINARIO_EXT="*"+CircuitoBinario.EXTENSION;
+	private static final String SPICE_DESC="Netlist SPICE (*.cir, *.sp, *.spi, *.net)";
+	private static final String[] SPICE_EXT=LectorSpice.EXTENSIONES.stream().map(e -> "*"+e).toArray(String[]::new);
+	/** Espera máxima al salir por los guardados que estén en marcha */
+	private static final long ESPERA_SALIDA_S=30;
+	/**
+	 * Un solo hilo: los guardados y cargas se ejecutan en orden y nunca escriben a la vez. Es
+	 * daemon para que una escritura colgada no impida cerrar; al salir se espera con {@link #terminar()}.
+	 */
+	private static final ExecutorService EJECUTOR=Executors.newSingleThreadExecutor(r -> {
+		Thread hilo=new Thread(r, "Archivo-E/S");
+		hilo.setDaemon(true);
+		return hilo;
+	});
 	
 	private final CircuitoSerializerService serializer;
 	private final StringProperty windowTitle;
@@ -92,28 +116,75 @@ public class GestionArchivoService {
 	}
 	
 	/**
-	 * Guarda el circuito actual en un archivo.
+	 * Guarda el circuito en segundo plano. La instantánea del circuito, las posiciones y los
+	 * cables se toma aquí, en el hilo de JavaFX; la serialización y la escritura se hacen en el
+	 * hilo de E/S. El formato se elige por la extensión: {@value CircuitoBinario#EXTENSION} para
+	 * el binario, netlist SPICE (sin posiciones ni cables) para {@code .cir}, {@code .sp},
+	 * {@code .spi} y {@code .net}, y JSON en otro caso. La escritura es atómica: cancelar la tarea
+	 * o un fallo a mitad dejan el archivo anterior intacto. Al terminar bien se actualizan el
+	 * título y los recientes. Los resultados de análisis solo se guardan en JSON.
 	 * 
 	 * @param target		Archivo donde se guarda
 	 * @param circuito		Circuito actual que se va a guardar
 	 * @param zonaDibujo	Área de dibujo del circuito
-	 * @return	{@code true} si lo ha guardado correctamente, {@code false} si no
+	 * @param resultados	Últimos resultados de análisis ({@code null} si no hay)
+	 * @return tarea ya enviada al hilo de E/S, con avance de 0 a 1
 	 */
-	public boolean save(File target, Circuito circuito, Pane zonaDibujo) {
-		try {
-			serializer.guardarCircuitoArchivo(target, circuito, zonaDibujo);
+	public Task<File> saveAsync(File target, Circuito circuito, Pane zonaDibujo, ResultadosDto resultados) {
+		Objects.requireNonNull(target, "El archivo de destino no puede ser null");
+		Instantanea instantanea=serializer.instantanea(circuito, zonaDibujo, resultados);
+		Task<File> tarea=new Task<>() {
+			@Override
+			protected File call() throws IOException {
+				updateMessage("Guardando "+target.getName()+"...");
+				serializer.guardar(target, instantanea, avance -> updateProgress(avance, 1.0));
+				return target;
+			}
+		};
+		tarea.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> {
 			actualizarTitulo(target);
 			registrarReciente(target);
 			logger.info("Circuito guardado en: "+target.getAbsolutePath());
-			return true;
-		} catch (IOException ex) {
-			logger.log(Level.SEVERE, "Error guardando archivo", ex);
-			return false;
+		});
+		tarea.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED,
+				e -> logger.log(Level.SEVERE, "Error guardando archivo", tarea.getException()));
+		return ejecutar(tarea);
+	}
+	
+	/**
+	 * Envía una tarea al hilo de E/S de archivos, detrás de las que ya estén en cola.
+	 * 
+	 * @param <T>			Tipo del resultado
+	 * @param tarea			Tarea a ejecutar
+	 * @return la misma tarea
+	 */
+	public static <T> Task<T> ejecutar(Task<T> tarea) {
+		Objects.requireNonNull(tarea, "La tarea no puede ser null");
+		EJECUTOR.execute(tarea);
+		return tarea;
+	}
+	
+	/**
+	 * Deja de aceptar tareas y espera a que terminen las que están en marcha o en cola (un
+	 * guardado, un punto de control del autoguardado), como mucho {@value #ESPERA_SALIDA_S} s.
+	 * Se llama al salir, antes de borrar el diario del autoguardado.
+	 * 
+	 * @return {@code true} si han terminado todas; {@code false} si se agotó la espera
+	 */
+	public static boolean terminar() {
+		EJECUTOR.shutdown();
+		try {
+			if(EJECUTOR.awaitTermination(ESPERA_SALIDA_S, TimeUnit.SECONDS)) return true;
+			logger.warning("Las tareas de archivo no han terminado en "+ESPERA_SALIDA_S+" s");
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warning("Espera de las tareas de archivo interrumpida");
 		}
+		return false;
 	}
 	
 	/**
-	 * Crea y configura un FileChooser para archivos JSON.
+	 * Crea y configura un FileChooser para archivos JSON, binarios y netlists SPICE.
 	 * 
 	 * @param title				Titulo del chooser
 	 * @param initialName		Nombre inicial del archivo JSON
@@ -122,7 +193,8 @@ public class GestionArchivoService {
 	private FileChooser crearChooser(String title, String initialName) {
 		FileChooser chooser=new FileChooser();
 		chooser.setTitle(title);
-		chooser.getExtensionFilters().add(new ExtensionFilter(RECENT_DESC, RECENT_EXT));
+		chooser.getExtensionFilters().addAll(new ExtensionFilter(RECENT_DESC, RECENT_EXT),
+				new ExtensionFilter(BINARIO_DESC, BINARIO_EXT), new ExtensionFilter(SPICE_DESC, SPICE_EXT));
 		if(initialName!=null) {
 			chooser.setInitialFileName(initialName);
 		}
@@ -130,14 +202,14 @@ public class GestionArchivoService {
 	}
 	
 	/**
-	 * Asegura que el archivo tenga extensión .json
+	 * Asegura que el archivo tenga extensión .json (o la del formato binario o SPICE)
 	 * 
 	 * @param f			Archivo seleccionado
 	 * @return File archivo con extensión json
 	 */
 	private File asegurarExtensionJson(File f) {
 		String name=f.getName().toLowerCase();
-		if(!name.endsWith(".json")) {
+		if(!name.endsWith(".json") && !CircuitoBinario.esBinario(f) && !LectorSpice.esSpice(f.toPath())) {
 			return new File(f.getParentFile(), f.getName()+".json");
 		}
 		return f;
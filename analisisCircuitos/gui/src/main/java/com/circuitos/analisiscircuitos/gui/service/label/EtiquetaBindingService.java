@@ -10,7 +10,10 @@ import com.circuitos.analisiscircuitos.dominio.FuenteDependiente;
 import com.circuitos.analisiscircuitos.dominio.Tierra;
 import com.circuitos.analisiscircuitos.gui.util.UnidadConverter;
 
+import javafx.beans.Observable;
 import javafx.beans.binding.Bindings;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.scene.control.Label;
 
 /**
@@ -42,9 +45,9 @@ public class EtiquetaBindingService {
         label.setId("etiqueta_"+comp.getId());
         
         updateStyle(label, comp.isCarga());
-        comp.cargaProperty().addListener((obs, oldVal, newVal) -> {
-        	updateStyle(label, newVal);
-        	logger.fine(()->"Etiqueta de "+comp.getId()+" cambió estilo de carga a "+newVal);
+        comp.addObservador(c -> {
+        	updateStyle(label, c.isCarga());
+        	logger.fine(()->"Etiqueta de "+c.getId()+" actualizada (carga="+c.isCarga()+")");
         });
         
         if (comp instanceof FuenteDependiente) {
@@ -84,10 +87,7 @@ public class EtiquetaBindingService {
     				return String.format("%s: %.3g * %s\n(%d, %d)", id, comp.getValor(),
     						suf, fd.getCtrlNeg(), fd.getCtrlPos());
     			}, 
-    			comp.valorProperty(),
-    			fd.ctrlNegProperty(),
-    			fd.ctrlPosProperty(),
-    			fd.controlTypeProperty()));
+    			observarCambios(comp)));
     }
     
     /**
@@ -104,7 +104,7 @@ public class EtiquetaBindingService {
     				double valor=comp.getValor();
     				String texto=formatUnidad(valor, unidades, factores);
     				return String.format("%s: %s", comp.getId(), texto);
-    			}, comp.valorProperty()));
+    			}, observarCambios(comp)));
     }
     
     /**
@@ -128,13 +128,26 @@ public class EtiquetaBindingService {
     				double valor=comp.getValor();
     				String texto=formatUnidad(valor, unidades, factores);
     				return String.format("%s: %s", prefijo, texto);
-    			}, comp.valorProperty()));
+    			}, observarCambios(comp)));
     	label.getStyleClass().remove(STYLE_BASE);
     	label.getStyleClass().remove(STYLE_CARGA);
     	label.getStyleClass().add(STYLE_BASE);		//mantener tipografía base de etiquetas
     	label.getStyleClass().add(STYLE_EQUIVALENTE);
     }
     
+    /**
+     * Adapta los avisos de cambio del componente (el dominio no usa JavaFX) a un
+     * {@link Observable} que sirve de dependencia para los bindings de la etiqueta.
+     * 
+     * @param comp		Componente a observar
+     * @return Observable que se invalida con cada cambio del componente
+     */
+    private static Observable observarCambios(Componente comp) {
+    	IntegerProperty revision=new SimpleIntegerProperty();
+    	comp.addObservador(c -> revision.set(revision.get()+1));
+    	return revision;
+    }
+    
     /**
      * Obtiene la unidad del componente en un valor adecuado y entendible para mostrarlo en la etiqueta.
      * Además añade la unidad correspondiente según el tipo de componente.
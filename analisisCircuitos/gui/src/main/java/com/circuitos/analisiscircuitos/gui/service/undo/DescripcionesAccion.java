@@ -1,5 +1,8 @@
 package com.circuitos.analisiscircuitos.gui.service.undo;
 
+import com.circuitos.analisiscircuitos.dominio.Bobina;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
 import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteDependiente;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
@@ -88,6 +91,16 @@ public class DescripcionesAccion {
 		return "Cambiar valor de "+etiqueta(c);
 	}
 	
+	/**
+	 * Descripción para la acción de aplicar los valores del diseño inverso.
+	 * 
+	 * @param n				Número de resistencias ajustadas
+	 * @return descripción de la acción de diseño inverso
+	 */
+	public static String disenoInverso(int n) {
+		return "Diseño inverso ("+n+(n==1 ? " resistencia)" : " resistencias)");
+	}
+	
 	/**
 	 * Descripción para la acción de marcar/desmarcar como carga un componente.
 	 * 
@@ -157,6 +170,9 @@ public class DescripcionesAccion {
 	 */
 	private static String tipoComponente(Componente c) {
 		if(c instanceof Resistencia) return "Resistencia";
+		if(c instanceof Condensador) return "Condensador";
+		if(c instanceof Bobina) return "Bobina";
+		if(c instanceof Diodo) return "Diodo";
 		if(c instanceof FuenteTensionInd) return "Fuente de tensión";
 		if(c instanceof FuenteCorrienteInd) return "Fuente de corriente";
 		if(c instanceof FuenteTensionDependiente) return "Fuente de tensión dep.";
@@ -178,6 +194,9 @@ public class DescripcionesAccion {
 		}
 		//Si algún componente llega sin Id (no debería)
 		if(c instanceof Resistencia) return "R?";
+		if(c instanceof Condensador) return "C?";
+		if(c instanceof Bobina) return "L?";
+		if(c instanceof Diodo) return "D?";
 		if(c instanceof FuenteTensionInd) return "V?";
 		if(c instanceof FuenteCorrienteInd) return "I?";
 		if(c instanceof FuenteTensionDependiente) return "Vx?";
@@ -1,6 +1,10 @@
 package com.circuitos.analisiscircuitos.gui.service.undo;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Stack;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,6 +32,7 @@ public class UndoRedoManager {
 	private final Stack<Command> desPila=new Stack<>();
 	private final Stack<Command> rePila=new Stack<>();
 	private boolean reproduciendo=false;
+	private final List<Consumer<Command>> oyentes=new CopyOnWriteArrayList<>();
 	
 	//Propiedades observables
 	private final BooleanProperty puedeDeshacer=new SimpleBooleanProperty(false);
@@ -78,6 +83,7 @@ public class UndoRedoManager {
 				rePila.clear();
 				recortarHistorial();
 				actualizarPropiedades();
+				notificar(ultimoComando);
 				return;
 			}
 			comando.ejecutar();								//Ejecutar el comando
@@ -85,6 +91,7 @@ public class UndoRedoManager {
 			rePila.clear();									//Limpiar la pila de rehacer
 			recortarHistorial();
 			actualizarPropiedades();
+			notificar(comando);
 		} catch(Exception e) {								//Si falla la ejecución, no añadir al historial
 			logger.log(Level.SEVERE, "Error ejecutando comando: "+(comando!=null ? comando.getDescripcion() : ""), e);
 		}
@@ -117,6 +124,7 @@ public class UndoRedoManager {
 			reproduciendo=false;
 			rePila.push(comando);
 			actualizarPropiedades();
+			notificar(comando);
 			return true;
 		} catch(Exception e) {
 			reproduciendo=false;
@@ -152,6 +160,7 @@ public class UndoRedoManager {
 			reproduciendo=false;
 			desPila.push(comando);
 			actualizarPropiedades();
+			notificar(comando);
 			return true;
 		} catch(Exception e) {
 			reproduciendo=false;
@@ -171,6 +180,38 @@ public class UndoRedoManager {
 		actualizarPropiedades();
 	}
 	
+	/**
+	 * Añade un oyente al que se avisa con el comando después de ejecutarlo, deshacerlo o
+	 * rehacerlo (por ejemplo, el autoguardado).
+	 * 
+	 * @param oyente			Receptor del comando aplicado
+	 */
+	public void addOyente(Consumer<Command> oyente) {
+		oyentes.add(Objects.requireNonNull(oyente, "El oyente no puede ser null"));
+	}
+	
+	/**
+	 * Quita un oyente añadido con {@link #addOyente(Consumer)}.
+	 * 
+	 * @param oyente			Oyente a quitar
+	 */
+	public void removeOyente(Consumer<Command> oyente) {
+		oyentes.remove(oyente);
+	}
+	
+	/**
+	 * Avisa a los oyentes. Un fallo en un oyente no deshace el comando.
+	 */
+	private void notificar(Command comando) {
+		for(Consumer<Command> oyente : oyentes) {
+			try {
+				oyente.accept(comando);
+			} catch(RuntimeException e) {
+				logger.log(Level.WARNING, "Error en oyente del comando: "+comando.getDescripcion(), e);
+			}
+		}
+	}
+	
 	/**
 	 * Actualiza las propiedades observables según el estado actual.
 	 */
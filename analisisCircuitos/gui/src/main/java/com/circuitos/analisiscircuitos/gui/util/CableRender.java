@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 
 import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.dto.CableDto;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 import com.circuitos.analisiscircuitos.gui.controller.PanelDisenoController;
 import com.circuitos.analisiscircuitos.gui.model.Cable;
 import com.circuitos.analisiscircuitos.gui.model.CableBuilder;
@@ -157,7 +158,7 @@ public class CableRender {
 	 */
 	private PuntoConexion resolverExtremo(CableDto dto, boolean origen, double x, double y) {
 		String compId=origen ? dto.origenId() : dto.destinoId();
-		PuntoConexion.Posicion pos=origen ? dto.origenPos() : dto.destinoPos();
+		PosicionConexion pos=origen ? dto.origenPos() : dto.destinoPos();
 		boolean positivo=origen ? dto.origenPositivo() : dto.destinoPositivo();
 		
 		if(compId!=null) {
@@ -186,7 +187,7 @@ public class CableRender {
 	 * @return Punto de conexión
 	 * @throws IllegalStateException si no se encuentra el componente o punto correspondiente
 	 */
-	private PuntoConexion findPuntoConexion(String componenteId, PuntoConexion.Posicion posicion,
+	private PuntoConexion findPuntoConexion(String componenteId, PosicionConexion posicion,
 											boolean esPositivo) {
 		StackPane pane=panel.getZonaDibujo().getChildren().stream()
 				.filter(n->n instanceof StackPane)
@@ -11,9 +11,11 @@ import com.circuitos.analisiscircuitos.dto.CircuitoFileDto;
 import com.circuitos.analisiscircuitos.gui.controller.PanelDisenoController;
 import com.circuitos.analisiscircuitos.gui.model.PuntoConexion;
 import com.circuitos.analisiscircuitos.gui.service.design.NodoProximidadValidator;
-import com.circuitos.analisiscircuitos.gui.service.io.CircuitoDeserializerService;
 import com.circuitos.analisiscircuitos.gui.service.label.EtiquetaNodoService;
+import com.circuitos.analisiscircuitos.io.CircuitoDeserializerService;
 
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
 import javafx.util.Duration;
 
 /**
@@ -60,6 +62,36 @@ public class CircuitoRender {
 		}
 	}
 	
+	/**
+	 * Crea la tarea que carga un circuito en segundo plano: la lectura y el análisis del archivo
+	 * se hacen fuera del hilo de JavaFX informando del avance, y al terminar bien el DTO se
+	 * renderiza en el hilo de JavaFX. Si se cancela, el circuito actual no cambia. La tarea no se
+	 * lanza; se envía con {@code GestionArchivoService.ejecutar}.
+	 * 
+	 * @param fichero			Archivo que contiene el circuito serializado
+	 * @return tarea de carga, con avance de 0 a 1
+	 */
+	public Task<CircuitoFileDto> tareaCarga(File fichero) {
+		Objects.requireNonNull(fichero, "El fichero no puede ser null");
+		Task<CircuitoFileDto> tarea=new Task<>() {
+			@Override
+			protected CircuitoFileDto call() throws IOException {
+				if(!fichero.exists()) {
+					throw new FileNotFoundException("No existe el fichero: "+fichero.getAbsolutePath());
+				}
+				updateMessage("Cargando "+fichero.getName()+"...");
+				return deserializerService.cargarCircuitoArchivo(fichero, avance -> updateProgress(avance, 1.0));
+			}
+		};
+		tarea.addEventHandler(WorkerStateEvent.WORKER_STATE_SUCCEEDED, e -> {
+			renderizarDesdeDTO(tarea.getValue());
+			logger.log(Level.INFO, "Circuito cargado con éxito desde {0}", fichero.getAbsolutePath());
+		});
+		tarea.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, e -> logger.log(Level.SEVERE,
+				"Error cargando circuito desde "+fichero.getAbsolutePath(), tarea.getException()));
+		return tarea;
+	}
+	
 	/**
 	 * Renderiza el circuito a partir de un DTO cargado en memoria.
 	 * 
@@ -0,0 +1,73 @@
+package com.circuitos.analisiscircuitos.gui.util;
+
+/**
+ * Clase de utilidad para reducir el número de vértices de una polilínea antes de dibujarla.
+ * Agrupa los puntos por columna de píxel y conserva, en orden, el primero, el mínimo, el
+ * máximo y el último de cada columna, de modo que la forma (incluidos los picos) es idéntica
+ * a la original pero nunca se dibujan más de unos 4 vértices por píxel de ancho.
+ *
+ * @author Marco Antonio Garzón Palos
+ * @version 1.0
+ */
+public class PolilineaUtil {
+
+	/**
+	 * Constructor no instanciable.
+	 */
+	private PolilineaUtil() { /* No instanciable */ }
+
+	/**
+	 * Polilínea reducida lista para {@code GraphicsContext.strokePolyline(xs, ys, n)}.
+	 *
+	 * @param xs		Coordenadas X en píxeles
+	 * @param ys		Coordenadas Y en píxeles
+	 * @param n			Número de vértices válidos
+	 */
+	public record Polilinea(double[] xs, double[] ys, int n) { }
+
+	/**
+	 * Reduce una polilínea cuyas coordenadas X ya están en píxeles y son crecientes.
+	 *
+	 * @param xs			Coordenadas X en píxeles (crecientes)
+	 * @param ys			Coordenadas Y en píxeles
+	 * @return Polilínea con como mucho 4 vértices por columna de píxel
+	 */
+	public static Polilinea reducir(double[] xs, double[] ys) {
+		int total=Math.min(xs.length, ys.length);
+		double[] rx=new double[Math.min(total, 4*(columnas(xs, total)+1))];
+		double[] ry=new double[rx.length];
+		int n=0;
+		int i=0;
+		while(i<total) {
+			long columna=(long) Math.floor(xs[i]);
+			int primero=i, min=i, max=i, ultimo=i;
+			while(i<total && (long) Math.floor(xs[i])==columna) {
+				if(ys[i]<ys[min]) min=i;
+				if(ys[i]>ys[max]) max=i;
+				ultimo=i;
+				i++;
+			}
+			int a=Math.min(min, max);
+			int b=Math.max(min, max);
+			for(int k : new int[] {primero, a, b, ultimo}) {
+				if(n>0 && rx[n-1]==xs[k] && ry[n-1]==ys[k]) continue;
+				rx[n]=xs[k];
+				ry[n]=ys[k];
+				n++;
+			}
+		}
+		return new Polilinea(rx, ry, n);
+	}
+
+	/**
+	 * Cuenta las columnas de píxel distintas que ocupa la polilínea.
+	 *
+	 * @param xs			Coordenadas X en píxeles (crecientes)
+	 * @param total			Número de puntos
+	 * @return número de columnas
+	 */
+	private static int columnas(double[] xs, int total) {
+		if(total==0) return 0;
+		return (int) Math.min(Integer.MAX_VALUE/4-1, (long) Math.floor(xs[total-1])-(long) Math.floor(xs[0])+1);
+	}
+}
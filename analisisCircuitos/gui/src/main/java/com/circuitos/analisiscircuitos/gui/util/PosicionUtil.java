@@ -6,7 +6,7 @@ import java.util.logging.Logger;
 
 import com.circuitos.analisiscircuitos.dominio.Componente;
 import com.circuitos.analisiscircuitos.gui.model.PuntoConexion;
-import com.circuitos.analisiscircuitos.gui.model.PuntoConexion.Posicion;
+import com.circuitos.analisiscircuitos.dto.PosicionConexion;
 
 /**
  * Clase que define dónde está el punto de conexión de un componente según su posición rotacional.
@@ -18,6 +18,9 @@ public class PosicionUtil {
 	private static final Logger logger=Logger.getLogger(PosicionUtil.class.getName());
 	
 	private static final String TIPO_RESISTENCIA="resistencia";
+	private static final String TIPO_CONDENSADOR="condensador";
+	private static final String TIPO_BOBINA="bobina";
+	private static final String TIPO_DIODO="diodo";
 	private static final String TIPO_FUENTE_TENSION_IND="fuentetensionind";
 	private static final String TIPO_FUENTE_TENSION_DEP="fuentetensiondependiente";
 	private static final String TIPO_FUENTE_CORRIENTE_IND="fuentecorrienteind";
@@ -32,21 +35,21 @@ public class PosicionUtil {
 	 * @param rotacion				Nivel de rotación del componente en grados
 	 * @return Posicion del punto (Arriba, abajo, izquierda, derecha)
 	 */
-	public static Posicion calcularPosicion(Componente componente, boolean positivo, int rotacion) {
+	public static PosicionConexion calcularPosicion(Componente componente, boolean positivo, int rotacion) {
 		Objects.requireNonNull(componente, "Componente no puede ser null");
 		String tipo=componente.getClass().getSimpleName().toLowerCase();
 		int angulo=((rotacion%360) + 360)%360;
 		logger.log(Level.FINE, "Calculando posición para tipo={0}, rotacion={1}, positivo={2}",
 				new Object[] {tipo, angulo, positivo});
 		switch(tipo) {
-			case TIPO_RESISTENCIA -> {
+			case TIPO_RESISTENCIA, TIPO_CONDENSADOR, TIPO_BOBINA, TIPO_DIODO -> {
 				boolean horizontal=(angulo==0 || angulo==180);
 				if(horizontal) {
-					return positivo ? Posicion.DERECHA : Posicion.IZQUIERDA;
+					return positivo ? PosicionConexion.DERECHA : PosicionConexion.IZQUIERDA;
 				} else {
 					return (angulo==90)
-							? (positivo ? Posicion.ARRIBA : Posicion.ABAJO)
-							: (positivo ? Posicion.ABAJO : Posicion.ARRIBA);
+							? (positivo ? PosicionConexion.ARRIBA : PosicionConexion.ABAJO)
+							: (positivo ? PosicionConexion.ABAJO : PosicionConexion.ARRIBA);
 				}
 			}
 			case TIPO_FUENTE_TENSION_IND,
@@ -55,19 +58,19 @@ public class PosicionUtil {
 				 TIPO_FUENTE_CORRIENTE_DEP -> {
 				boolean vertical=(angulo==0 || angulo==180);
 				if(vertical) {
-					return positivo ? Posicion.ARRIBA : Posicion.ABAJO;
+					return positivo ? PosicionConexion.ARRIBA : PosicionConexion.ABAJO;
 				} else {
 					return (angulo==90)
-							? (positivo ? Posicion.IZQUIERDA : Posicion.DERECHA)
-							: (positivo ? Posicion.DERECHA : Posicion.IZQUIERDA);
+							? (positivo ? PosicionConexion.IZQUIERDA : PosicionConexion.DERECHA)
+							: (positivo ? PosicionConexion.DERECHA : PosicionConexion.IZQUIERDA);
 				}
 			}
 			case TIPO_TIERRA -> {
-				return Posicion.ARRIBA;
+				return PosicionConexion.ARRIBA;
 			}
 			default -> {
 				logger.log(Level.WARNING, "Tipo desconocido ({0}), usando IZQUIERDA por defecto", tipo);
-				return Posicion.IZQUIERDA;
+				return PosicionConexion.IZQUIERDA;
 			}
 		}
 	}
@@ -79,13 +82,13 @@ public class PosicionUtil {
 	 * @param punto			Punto de conexión a analizar
 	 * @return Posicion estimada según layoutX/Y
 	 */
-	public static PuntoConexion.Posicion definirPorVisual(PuntoConexion punto) {
+	public static PosicionConexion definirPorVisual(PuntoConexion punto) {
 		Objects.requireNonNull(punto, "PuntoConexion no puede ser null");
 		double x=punto.getLayoutX();
 		double y=punto.getLayoutY();
-		Posicion resultado=Math.abs(x)>Math.abs(y)
-				? (x>0 ? Posicion.DERECHA : Posicion.IZQUIERDA)
-				: (y>0 ? Posicion.ABAJO : Posicion.ARRIBA);
+		PosicionConexion resultado=Math.abs(x)>Math.abs(y)
+				? (x>0 ? PosicionConexion.DERECHA : PosicionConexion.IZQUIERDA)
+				: (y>0 ? PosicionConexion.ABAJO : PosicionConexion.ARRIBA);
 		logger.log(Level.FINE, "Posición visual calculada: {0} (x={1}, y={2})",
 				new Object[] {resultado, x, y});
 		return resultado;
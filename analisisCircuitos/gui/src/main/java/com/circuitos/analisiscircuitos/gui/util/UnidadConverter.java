@@ -2,6 +2,9 @@ package com.circuitos.analisiscircuitos.gui.util;
 
 import java.util.*;
 
+import com.circuitos.analisiscircuitos.dominio.Bobina;
+import com.circuitos.analisiscircuitos.dominio.Condensador;
+import com.circuitos.analisiscircuitos.dominio.Diodo;
 import com.circuitos.analisiscircuitos.dominio.FuenteCorrienteInd;
 import com.circuitos.analisiscircuitos.dominio.FuenteTensionInd;
 import com.circuitos.analisiscircuitos.dominio.Resistencia;
@@ -32,6 +35,12 @@ public class UnidadConverter {
 			return Arrays.asList("V", "kV", "mV");
 		} else if (tipo.isAssignableFrom(FuenteCorrienteInd.class)) {
 			return Arrays.asList("A", "mA");
+		} else if (tipo.isAssignableFrom(Condensador.class)) {
+			return Arrays.asList("mF", "µF", "nF", "pF", "F");
+		} else if (tipo.isAssignableFrom(Bobina.class)) {
+			return Arrays.asList("mH", "µH", "H");
+		} else if (tipo.isAssignableFrom(Diodo.class)) {
+			return Arrays.asList("pA", "nA", "µA");
 		} else {
 			return Collections.emptyList();
 		}
@@ -56,6 +65,20 @@ public class UnidadConverter {
 		} else if (tipo.isAssignableFrom(FuenteCorrienteInd.class)) {
 			factores.put("A", 1.0);
 			factores.put("mA", 1e-3);
+		} else if (tipo.isAssignableFrom(Condensador.class)) {
+			factores.put("F", 1.0);
+			factores.put("mF", 1e-3);
+			factores.put("µF", 1e-6);
+			factores.put("nF", 1e-9);
+			factores.put("pF", 1e-12);
+		} else if (tipo.isAssignableFrom(Bobina.class)) {
+			factores.put("H", 1.0);
+			factores.put("mH", 1e-3);
+			factores.put("µH", 1e-6);
+		} else if (tipo.isAssignableFrom(Diodo.class)) {
+			factores.put("µA", 1e-6);
+			factores.put("nA", 1e-9);
+			factores.put("pA", 1e-12);
 		}
 		return factores;
 	}